@@ -9,13 +9,18 @@ import enums.Direction;
 import model.gameLogic.GameLogic;
 import model.characters.Player;
 import utilities.Position;
+import model.equipment.EquipmentCatalog;
 import model.scoreEntry.ScoreEntry;
+import utilities.ImageAssets;
 import view.ScoreEntryDialog;
 
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.SwingUtilities;
 
 /**
@@ -29,6 +34,8 @@ private GameModel gameLogic;
 private interfaces.GameView gameView;
 private Player player;
 private MainController mainController;
+// NEW: Records each run when minirogue.replay.dir is set
+private controller.replay.ReplayRecorder replayRecorder;
 
 // MANDATORY: Application state
 private boolean applicationRunning;
@@ -39,16 +46,76 @@ private List<ScoreEntry> highScores = new ArrayList<>();
 /**
     * MANDATORY: Main method to start the application
     * 
+    * Independent startup work (configuration, equipment catalog, font,
+    * image decoding, model) runs in parallel; the window is built on the
+    * EDT as soon as the menu's own dependencies are ready, while the game
+    * sprites keep decoding behind it.
+    * 
     * @param args Command line arguments (not used)
 */
 public static void main(String[] args) {
-    SwingUtilities.invokeLater(() -> {
+    StartupOrchestrator startup = new StartupOrchestrator();
+    boolean training = Boolean.getBoolean(StartupOrchestrator.TRAINING_PROPERTY);
+
+    CompletableFuture<utilities.ConfigurationManager> config =
+        startup.stage("config", utilities.ConfigurationManager::getInstance);
+    CompletableFuture<Font> font = startup.stage("fonts", view.GameView::load_pixel_font);
+    CompletableFuture<Void> menuImages = startup.stage_async("menu_images",
+        () -> ImageAssets.preload(ImageAssets.MENU_GROUP, view.panels.MenuPanel.PRELOAD_IMAGES, startup.get_workers()));
+    startup.stage_async("game_images", () -> {
+        List<String> paths = new ArrayList<>(view.panels.GamePanel.PRELOAD_IMAGES);
+        paths.addAll(view.renderers.ProjectileRenderer.PRELOAD_IMAGES);
+        return ImageAssets.preload(ImageAssets.GAME_GROUP, paths, startup.get_workers());
+    });
+    CompletableFuture<EquipmentCatalog> catalog = startup.stage("catalog", () -> {
+        EquipmentCatalog current = EquipmentCatalog.current();
+        utilities.WeaponDefinitionManager.getInstance();
+        utilities.WeaponImageManager.getInstance();
+        return current;
+    }, config);
+    startup.stage_async("item_images", () -> {
+        List<String> paths = new ArrayList<>();
+        for (int id = 0; id < utilities.SpriteIndex.sprite_count(); id++) {
+            paths.add(utilities.SpriteIndex.path_of(id));
+        }
+        return ImageAssets.preload(ImageAssets.ITEM_GROUP, paths, startup.get_workers());
+    }, catalog);
+    CompletableFuture<GameLogic> model = startup.stage("model",
+        () -> new GameLogic(new Player("Player", CharacterClass.WARRIOR, new Position(0, 0))), catalog);
+
+    if (training || GraphicsEnvironment.isHeadless()) {
+        // Run every stage without a window, e.g. to record the class-data sharing archive
         try {
-            new Main(); // Constructor handles initialization
+            startup.all().join();
+            model.join().dispose();
         } catch (Exception e) {
-            System.err.println("Application Error: " + e.getMessage());
-            e.printStackTrace();
+            System.err.println("Startup Error: " + e.getMessage());
+        }
+        startup.log_timeline();
+        startup.shutdown();
+        if (training) {
+            System.exit(0); // Lets the JVM write the archive even if a library left a thread running
         }
+        return;
+    }
+
+    startup.stage("view", SwingUtilities::invokeLater, () -> {
+        GameLogic logic = model.join();
+        Main main = new Main(logic.get_player(), logic, font.join());
+        String replay = System.getProperty(controller.replay.ReplayPlayer.PLAY_PROPERTY, "");
+        if (!replay.isEmpty()) {
+            main.play_replay(java.nio.file.Paths.get(replay));
+        }
+        return main;
+    }, config, catalog, font, menuImages, model).whenComplete((main, error) -> {
+        if (error != null) {
+            System.err.println("Application Error: " + error.getMessage());
+            error.printStackTrace();
+        }
+        startup.all().whenComplete((done, ignored) -> {
+            startup.log_timeline();
+            startup.shutdown();
+        });
     });
 }
 
@@ -56,23 +123,32 @@ public static void main(String[] args) {
     * MANDATORY: Constructor initializes and starts the application
 */
 public Main() {
+    this(new Player("Player", CharacterClass.WARRIOR, new Position(0, 0)), null, view.GameView.load_pixel_font());
+}
+
+/**
+    * NEW: Constructor for Main with components built ahead of time. Must be called on the EDT.
+    * 
+    * @param player Initial player (recreated on class selection)
+    * @param gameLogic Game logic for the player, or null to create one
+    * @param pixelFont Font for the view
+*/
+Main(Player player, GameModel gameLogic, Font pixelFont) {
     applicationRunning = true;
-    initialize_application();
+    this.player = player;
+    this.gameLogic = gameLogic != null ? gameLogic : new GameLogic(player);
+    initialize_application(pixelFont);
     start_game();
 }
 
 /**
     * MANDATORY: Initialize all application components
+    * 
+    * @param pixelFont Font for the view
 */
-private void initialize_application() {
-// Create initial player (will be recreated on class selection)
-player = new Player("Player", CharacterClass.WARRIOR, new Position(0, 0));
-
-// Create game logic components
-gameLogic = new model.gameLogic.GameLogic(player);
-
+private void initialize_application(Font pixelFont) {
 // Create view and wire MVC components
-gameView = new view.GameView();
+gameView = new view.GameView(pixelFont);
 
         // Create main controller for proper MVC architecture
         mainController = new MainController((model.gameLogic.GameLogic)gameLogic, (view.GameView)gameView);
@@ -194,6 +270,7 @@ private void start_new_game() {
 */
 private void select_character_class(CharacterClass characterClass) {
 // MEMORY LEAK PROTECTION: Clean up old GameLogic before creating new one
+    stop_recording();
     if (gameLogic != null) {
         ((model.gameLogic.GameLogic) gameLogic).dispose();
     }
@@ -211,8 +288,10 @@ private void select_character_class(CharacterClass characterClass) {
     gameLogic = new model.gameLogic.GameLogic(player);
     gameLogic.add_observer((interfaces.GameObserver)gameView);
 
-    // Set player reference in view
+    // Set player reference in view; the game sprites must be ready before the first frame
     gameView.get_game_panel().set_player(player);
+    gameView.get_game_panel().ensure_sprites_loaded();
+    start_recording();
 
     // Start the actual game
     ((model.gameLogic.GameLogic)gameLogic).handle_player_action("class_selected", characterClass);
@@ -233,6 +312,7 @@ private void handle_player_action(String action, Object data) {
 */
 private void exit_application() {
 // Clean up resources before application shutdown
+stop_recording();
 if (gameLogic != null) {
     ((model.gameLogic.GameLogic) gameLogic).dispose();
 }
@@ -241,6 +321,53 @@ applicationRunning = false;
 System.exit(0);
 }
 
+/**
+    * NEW: Start recording the current game if a replay directory is configured
+*/
+private void start_recording() {
+    String directory = System.getProperty(controller.replay.ReplayRecorder.RECORD_DIR_PROPERTY, "");
+    if (directory.isEmpty()) {
+        return;
+    }
+    try {
+        java.nio.file.Path dir = java.nio.file.Paths.get(directory);
+        java.nio.file.Files.createDirectories(dir);
+        java.nio.file.Path file = dir.resolve("run-" + System.currentTimeMillis() + ".mrr");
+        replayRecorder = new controller.replay.ReplayRecorder((model.gameLogic.GameLogic) gameLogic, file);
+    } catch (java.io.IOException e) {
+        System.err.println("Replay recording disabled: " + e.getMessage());
+    }
+}
+
+/**
+    * NEW: Finish the current recording, if any
+*/
+private void stop_recording() {
+    if (replayRecorder == null) {
+        return;
+    }
+    try {
+        replayRecorder.close();
+    } catch (java.io.IOException e) {
+        System.err.println("Replay recording failed: " + e.getMessage());
+    }
+    replayRecorder = null;
+}
+
+/**
+    * NEW: Open a recorded run and play it on the game panel
+    * 
+    * @param file Replay file
+*/
+void play_replay(java.nio.file.Path file) {
+    try {
+        controller.replay.ReplayReader reader = new controller.replay.ReplayReader(file);
+        ((view.GameView) gameView).show_replay(new controller.replay.ReplayPlayer(reader));
+    } catch (java.io.IOException | RuntimeException e) {
+        handle_application_error("Could not open replay " + file, e);
+    }
+}
+
 /**
     * MANDATORY: Handle application errors gracefully
     * 
@@ -0,0 +1,142 @@
+package controller;
+
+import enums.CharacterClass;
+import model.equipment.EquipmentCatalog;
+import model.gameLogic.GameSession;
+import utilities.ConfigSnapshot;
+import utilities.ConfigurationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NEW: Hosts many independent headless game sessions in one process.
+ *
+ * Sessions run on one shared worker pool instead of each game's own timer
+ * threads, so the thread count stays fixed however many sessions are open.
+ * The read-only data every session uses (configuration snapshot, equipment
+ * catalog) is loaded once when the host starts and shared; per-game state
+ * lives in each GameSession.
+ */
+public final class SessionHost {
+    private final ExecutorService workers;
+    private final ConfigSnapshot config;
+    private final EquipmentCatalog catalog;
+    private final Map<Integer, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * NEW: Constructor for SessionHost with one worker per core
+     */
+    public SessionHost() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * NEW: Constructor for SessionHost
+     *
+     * @param threads Worker threads shared by all sessions
+     */
+    public SessionHost(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, threads), task -> {
+            Thread thread = new Thread(task, "session-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Build the shared data once up front rather than racing to build it from many sessions
+        this.config = ConfigurationManager.getInstance().get_snapshot();
+        this.catalog = EquipmentCatalog.current();
+    }
+
+    /**
+     * NEW: Open a session and generate its first floor
+     *
+     * @param characterClass Class of the session's player
+     * @param seed Loot seed for the session
+     * @return The started session
+     */
+    public GameSession open(CharacterClass characterClass, long seed) {
+        GameSession session = new GameSession(nextId.incrementAndGet(), characterClass, seed);
+        session.start();
+        sessions.put(session.get_id(), session);
+        return session;
+    }
+
+    /**
+     * NEW: Open a session on the worker pool
+     *
+     * @param characterClass Class of the session's player
+     * @param seed Loot seed for the session
+     * @return Future for the started session
+     */
+    public CompletableFuture<GameSession> open_async(CharacterClass characterClass, long seed) {
+        return CompletableFuture.supplyAsync(() -> open(characterClass, seed), workers);
+    }
+
+    /**
+     * NEW: Run ticks for every open session, each session on one worker at a time
+     *
+     * @param ticks Ticks per session
+     * @param tickMillis Game time per tick
+     * @return Future completed when every session has run its ticks
+     */
+    public CompletableFuture<Void> step_all(int ticks, long tickMillis) {
+        List<CompletableFuture<Void>> runs = new ArrayList<>(sessions.size());
+        for (GameSession session : sessions.values()) {
+            runs.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < ticks; i++) {
+                    session.step(tickMillis);
+                }
+            }, workers));
+        }
+        return CompletableFuture.allOf(runs.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * NEW: Close and dispose a session
+     *
+     * @param id Session id
+     * @return True if the session was open
+     */
+    public boolean close(int id) {
+        GameSession session = sessions.remove(id);
+        if (session == null) return false;
+        session.dispose();
+        return true;
+    }
+
+    /**
+     * NEW: Close every session and stop the worker pool
+     */
+    public void shutdown() {
+        for (Integer id : new ArrayList<>(sessions.keySet())) {
+            close(id);
+        }
+        workers.shutdown();
+    }
+
+    /**
+     * NEW: Open session by id, or null
+     */
+    public GameSession get_session(int id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * NEW: Snapshot of the open sessions
+     */
+    public List<GameSession> get_sessions() {
+        return new ArrayList<>(sessions.values());
+    }
+
+    public int get_session_count() { return sessions.size(); }
+    public ConfigSnapshot get_config() { return config; }
+    public EquipmentCatalog get_catalog() { return catalog; }
+}
@@ -0,0 +1,216 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * NEW: Runs application startup as a graph of stages on a small worker pool.
+ *
+ * A stage starts as soon as the stages it depends on have finished, so
+ * independent work (configuration parsing, the equipment catalog, font
+ * loading, image decoding) overlaps instead of running one after another.
+ * Each stage records when it ran and on which thread; the timeline is
+ * logged once startup settles. A failed stage fails every stage that
+ * depends on it, without running them.
+ */
+public final class StartupOrchestrator {
+    public static final String TRAINING_PROPERTY = "minirogue.startup.training";
+
+    private static final Logger LOGGER = Logger.getLogger(StartupOrchestrator.class.getName());
+
+    private final long origin = System.nanoTime();
+    private final ExecutorService workers;
+    private final List<Span> timeline = new ArrayList<>();
+    private final List<CompletableFuture<?>> stages = new ArrayList<>();
+
+    /**
+     * NEW: Constructor for StartupOrchestrator with one worker per core, up to four
+     */
+    public StartupOrchestrator() {
+        this(Math.min(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * NEW: Constructor for StartupOrchestrator
+     *
+     * @param threads Number of worker threads
+     */
+    public StartupOrchestrator(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, threads), task -> {
+            Thread thread = new Thread(task, "startup-" + count.incrementAndGet());
+            thread.setDaemon(true); // Never keeps the JVM alive on its own
+            return thread;
+        });
+    }
+
+    /**
+     * NEW: Worker pool, for stages that fan out work of their own
+     */
+    public Executor get_workers() {
+        return workers;
+    }
+
+    /**
+     * NEW: Add a stage that runs on the worker pool
+     *
+     * @param name Stage name for the timeline
+     * @param task Work to do; its result completes the returned future
+     * @param after Stages that must finish first
+     * @return Future for the stage's result
+     */
+    public <T> CompletableFuture<T> stage(String name, Callable<T> task, CompletableFuture<?>... after) {
+        return stage(name, workers, task, after);
+    }
+
+    /**
+     * NEW: Add a stage that runs on a given executor, such as the EDT
+     *
+     * @param name Stage name for the timeline
+     * @param executor Where to run the task
+     * @param task Work to do; its result completes the returned future
+     * @param after Stages that must finish first
+     * @return Future for the stage's result
+     */
+    public <T> CompletableFuture<T> stage(String name, Executor executor, Callable<T> task, CompletableFuture<?>... after) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        when_ready(name, result, after, () -> executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                T value = task.call();
+                record(name, start, true);
+                result.complete(value);
+            } catch (Throwable e) {
+                record(name, start, false);
+                result.completeExceptionally(e);
+            }
+        }));
+        return result;
+    }
+
+    /**
+     * NEW: Add a stage that starts work elsewhere and finishes when that work does,
+     * such as decoding a group of images across the worker pool
+     *
+     * @param name Stage name for the timeline
+     * @param task Starts the work on the worker pool and returns its future
+     * @param after Stages that must finish first
+     * @return Future for the stage's result
+     */
+    public <T> CompletableFuture<T> stage_async(String name, Supplier<CompletableFuture<T>> task, CompletableFuture<?>... after) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        when_ready(name, result, after, () -> workers.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                task.get().whenComplete((value, error) -> {
+                    record(name, start, error == null);
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            } catch (Throwable e) {
+                record(name, start, false);
+                result.completeExceptionally(e);
+            }
+        }));
+        return result;
+    }
+
+    private void when_ready(String name, CompletableFuture<?> result, CompletableFuture<?>[] after, Runnable start) {
+        synchronized (this) {
+            stages.add(result);
+        }
+        CompletableFuture.allOf(after).whenComplete((done, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                result.completeExceptionally(new IllegalStateException("Startup stage " + name + " skipped: a dependency failed", cause));
+            } else {
+                start.run();
+            }
+        });
+    }
+
+    private synchronized void record(String name, long startNanos, boolean ok) {
+        timeline.add(new Span(name, Thread.currentThread().getName(),
+                              (startNanos - origin) / 1e6, (System.nanoTime() - origin) / 1e6, ok));
+    }
+
+    /**
+     * NEW: Future completed once every stage added so far has finished, failed or been skipped
+     */
+    public synchronized CompletableFuture<Void> all() {
+        CompletableFuture<?>[] pending = stages.stream()
+            .map(stage -> stage.handle((value, error) -> null))
+            .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(pending);
+    }
+
+    /**
+     * NEW: Stages that have run so far, in the order they finished
+     */
+    public synchronized List<Span> get_timeline() {
+        return new ArrayList<>(timeline);
+    }
+
+    /**
+     * NEW: Timeline as one line per stage: start and end in milliseconds since startup began, and thread
+     */
+    public String format_timeline() {
+        StringBuilder text = new StringBuilder("Startup timeline:");
+        for (Span span : get_timeline()) {
+            text.append(String.format("%n  %-12s %8.1f -> %8.1f ms  %s%s", span.get_name(), span.get_start_millis(),
+                                      span.get_end_millis(), span.get_thread(), span.is_ok() ? "" : "  FAILED"));
+        }
+        return text.toString();
+    }
+
+    /**
+     * NEW: Log the timeline
+     */
+    public void log_timeline() {
+        LOGGER.info(format_timeline());
+    }
+
+    /**
+     * NEW: Stop the worker pool once queued work is done
+     */
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * NEW: One stage's run in the startup timeline.
+     */
+    public static final class Span {
+        private final String name;
+        private final String thread;
+        private final double startMillis;
+        private final double endMillis;
+        private final boolean ok;
+
+        Span(String name, String thread, double startMillis, double endMillis, boolean ok) {
+            this.name = name;
+            this.thread = thread;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.ok = ok;
+        }
+
+        public String get_name() { return name; }
+        public String get_thread() { return thread; }
+        public double get_start_millis() { return startMillis; }
+        public double get_end_millis() { return endMillis; }
+        public boolean is_ok() { return ok; }
+    }
+}
@@ -0,0 +1,123 @@
+package controller.replay;
+
+import controller.server.Protocol;
+import enums.TileType;
+import model.map.Map;
+import utilities.Tile;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * NEW: The tiles of one floor as a replay stores them. Floors are generated
+ * with an unseeded random, so a replay cannot regenerate them and records
+ * each layout once, when the run reaches the floor.
+ *
+ * Tiles are TileType ordinals in row-major order (y * width + x) and are
+ * written run-length encoded; a dungeon floor is mostly long runs of wall.
+ */
+public final class FloorLayout {
+    private static final TileType[] TYPES = TileType.values();
+
+    private final int floor;
+    private final Map.FloorType floorType;
+    private final int width;
+    private final int height;
+    private final byte[] tiles;
+
+    /**
+     * NEW: Constructor for FloorLayout; takes ownership of the tile array
+     */
+    public FloorLayout(int floor, Map.FloorType floorType, int width, int height, byte[] tiles) {
+        this.floor = floor;
+        this.floorType = floorType;
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles;
+    }
+
+    /**
+     * NEW: Record the tiles of a generated map
+     *
+     * @param map Map to record
+     * @param floor Floor number the map belongs to
+     */
+    public static FloorLayout capture(Map map, int floor) {
+        int width = map.get_width();
+        int height = map.get_height();
+        byte[] tiles = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Tile tile = map.get_tile(x, y);
+                tiles[y * width + x] = (byte) (tile != null ? tile.get_tile_type() : TileType.WALL).ordinal();
+            }
+        }
+        return new FloorLayout(floor, map.get_floor_type(), width, height, tiles);
+    }
+
+    /**
+     * NEW: Build a map with these tiles for rendering; nothing is explored yet
+     */
+    public Map to_map() {
+        TileType[] layout = new TileType[tiles.length];
+        for (int i = 0; i < tiles.length; i++) {
+            layout[i] = TYPES[tiles[i]];
+        }
+        return new Map(floor, floorType, width, height, layout);
+    }
+
+    /**
+     * NEW: Upper bound on the encoded size, for sizing buffers
+     */
+    public int max_size() {
+        return 16 + 6 * tiles.length;
+    }
+
+    /**
+     * NEW: Write the layout: varint floor, floor type byte, varint width and
+     * height, then (varint run length, tile byte) pairs
+     */
+    public void write(ByteBuffer out) {
+        Protocol.put_varint(out, floor);
+        out.put((byte) floorType.ordinal());
+        Protocol.put_varint(out, width);
+        Protocol.put_varint(out, height);
+        int i = 0;
+        while (i < tiles.length) {
+            int run = 1;
+            while (i + run < tiles.length && tiles[i + run] == tiles[i]) run++;
+            Protocol.put_varint(out, run);
+            out.put(tiles[i]);
+            i += run;
+        }
+    }
+
+    /**
+     * NEW: Read a layout written by write
+     */
+    public static FloorLayout read(ByteBuffer in) {
+        int floor = Protocol.get_varint(in);
+        Map.FloorType floorType = Map.FloorType.values()[in.get()];
+        int width = Protocol.get_varint(in);
+        int height = Protocol.get_varint(in);
+        byte[] tiles = new byte[width * height];
+        int i = 0;
+        while (i < tiles.length) {
+            int run = Protocol.get_varint(in);
+            byte type = in.get();
+            if (run <= 0 || i + run > tiles.length || type < 0 || type >= TYPES.length) {
+                throw new IllegalArgumentException("Malformed floor layout at tile " + i);
+            }
+            Arrays.fill(tiles, i, i + run, type);
+            i += run;
+        }
+        return new FloorLayout(floor, floorType, width, height, tiles);
+    }
+
+    public int get_floor() { return floor; }
+    public Map.FloorType get_floor_type() { return floorType; }
+    public int get_width() { return width; }
+    public int get_height() { return height; }
+    public int get_words_per_row() { return (width + 63) >>> 6; }
+    public TileType get_tile_type(int x, int y) { return TYPES[tiles[y * width + x]]; }
+}
@@ -0,0 +1,278 @@
+package controller.replay;
+
+import controller.server.Protocol;
+import controller.server.SnapshotCodec;
+import controller.server.WorldSnapshot;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * NEW: Layout of a replay file.
+ *
+ * Header: int MAGIC, byte VERSION, int tick length in milliseconds. Then
+ * records, each a kind byte, an int body length and the body:
+ *
+ *  LAYOUT  a FloorLayout, written when the run reaches a floor
+ *  KEY     varint tick, long offset of the floor's LAYOUT record, full
+ *          characters and projectiles (SnapshotCodec against EMPTY), the
+ *          nonzero explored words, the last few log messages and this
+ *          tick's messages
+ *  DELTA   varint tick, characters and projectiles encoded against the
+ *          previous frame, newly explored bits, and this tick's messages
+ *  INDEX   varint keyframe count, varint last tick, then per keyframe a
+ *          varint tick gap and a varint file offset gap
+ *
+ * A finished file ends with a trailer: long offset of the INDEX record and
+ * int INDEX_MAGIC. Explored words are written as a varint count, then per
+ * word a varint index gap and the long. Messages are a varint count, then
+ * Protocol strings.
+ */
+final class ReplayFormat {
+    static final int MAGIC = 0x4D525250;       // "MRRP"
+    static final int INDEX_MAGIC = 0x4D524958; // "MRIX"
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 9;
+    static final int RECORD_HEADER_BYTES = 5;
+    static final int TRAILER_BYTES = 12;
+
+    static final byte LAYOUT = 1;
+    static final byte KEY = 2;
+    static final byte DELTA = 3;
+    static final byte INDEX = 4;
+
+    // Matches the lines the log box shows
+    static final int RECENT_MESSAGES = 5;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Upper bound on a KEY or DELTA body
+     *
+     * @param previous Frame a delta is taken against, or null for a keyframe
+     * @param recent Recent messages a keyframe carries; empty for a delta
+     */
+    static int max_size(ReplayFrame previous, ReplayFrame next, String[] recent) {
+        WorldSnapshot baseCharacters = previous != null ? previous.get_characters() : WorldSnapshot.EMPTY;
+        WorldSnapshot baseProjectiles = previous != null ? previous.get_projectiles() : WorldSnapshot.EMPTY;
+        int size = 32 + SnapshotCodec.max_size(baseCharacters, next.get_characters())
+            + SnapshotCodec.max_size(baseProjectiles, next.get_projectiles()) + 14 * next.get_explored().length;
+        for (String message : recent) {
+            size += 5 + 3 * message.length();
+        }
+        for (String message : next.get_messages()) {
+            size += 5 + 3 * message.length();
+        }
+        return size;
+    }
+
+    static void write_key(ReplayFrame frame, long layoutOffset, String[] recent, ByteBuffer out) {
+        Protocol.put_varint(out, frame.get_tick());
+        out.putLong(layoutOffset);
+        SnapshotCodec.encode(WorldSnapshot.EMPTY, frame.get_characters(), out);
+        SnapshotCodec.encode(WorldSnapshot.EMPTY, frame.get_projectiles(), out);
+        write_words(frame.get_explored(), null, out);
+        write_messages(recent, out);
+        write_messages(frame.get_messages(), out);
+    }
+
+    static void write_delta(ReplayFrame previous, ReplayFrame frame, ByteBuffer out) {
+        Protocol.put_varint(out, frame.get_tick());
+        SnapshotCodec.encode(previous.get_characters(), frame.get_characters(), out);
+        SnapshotCodec.encode(previous.get_projectiles(), frame.get_projectiles(), out);
+        write_words(frame.get_explored(), previous.get_explored(), out);
+        write_messages(frame.get_messages(), out);
+    }
+
+    static ReplayFrame read_key(ByteBuffer in, FloorLayout layout) {
+        int tick = Protocol.get_varint(in);
+        in.getLong(); // Layout offset; the caller has already resolved it
+        WorldSnapshot characters = SnapshotCodec.decode(WorldSnapshot.EMPTY, in);
+        WorldSnapshot projectiles = SnapshotCodec.decode(WorldSnapshot.EMPTY, in);
+        long[] explored = new long[layout.get_words_per_row() * layout.get_height()];
+        read_words(in, explored, Protocol.get_varint(in));
+        String[] recent = read_messages(in);
+        String[] messages = read_messages(in);
+        return new ReplayFrame(tick, layout, characters, projectiles, explored, messages, recent);
+    }
+
+    static ReplayFrame read_delta(ByteBuffer in, ReplayFrame previous) {
+        int tick = Protocol.get_varint(in);
+        WorldSnapshot characters = SnapshotCodec.decode(previous.get_characters(), in);
+        WorldSnapshot projectiles = SnapshotCodec.decode(previous.get_projectiles(), in);
+        long[] explored = previous.get_explored();
+        int count = Protocol.get_varint(in);
+        if (count > 0) {
+            explored = explored.clone(); // Frames share the bitset until something new is explored
+            read_words(in, explored, count);
+        }
+        String[] messages = read_messages(in);
+        String[] recent = previous.get_recent();
+        if (messages.length > 0) {
+            recent = append_recent(recent, messages);
+        }
+        return new ReplayFrame(tick, previous.get_layout(), characters, projectiles, explored, messages, recent);
+    }
+
+    /**
+     * Tick of a KEY or DELTA body without decoding the rest
+     */
+    static int peek_tick(ByteBuffer body) {
+        return Protocol.get_varint(body.duplicate());
+    }
+
+    /**
+     * Layout offset named by a KEY body
+     */
+    static long key_layout_offset(ByteBuffer body) {
+        ByteBuffer in = body.duplicate();
+        Protocol.get_varint(in);
+        return in.getLong();
+    }
+
+    /**
+     * Last RECENT_MESSAGES of recent followed by added, oldest first
+     */
+    static String[] append_recent(String[] recent, String[] added) {
+        int total = recent.length + added.length;
+        int keep = Math.min(RECENT_MESSAGES, total);
+        String[] joined = new String[keep];
+        for (int i = 0; i < keep; i++) {
+            int source = total - keep + i;
+            joined[i] = source < recent.length ? recent[source] : added[source - recent.length];
+        }
+        return joined;
+    }
+
+    // Words of next with bits that are not in previous (every nonzero word when previous is null)
+    private static void write_words(long[] next, long[] previous, ByteBuffer out) {
+        int count = 0;
+        for (int i = 0; i < next.length; i++) {
+            if ((previous == null ? next[i] : next[i] & ~previous[i]) != 0) count++;
+        }
+        Protocol.put_varint(out, count);
+        int last = -1;
+        for (int i = 0; i < next.length; i++) {
+            long bits = previous == null ? next[i] : next[i] & ~previous[i];
+            if (bits == 0) continue;
+            Protocol.put_varint(out, i - last - 1);
+            out.putLong(bits);
+            last = i;
+        }
+    }
+
+    // OR count written words into target
+    private static void read_words(ByteBuffer in, long[] target, int count) {
+        int index = -1;
+        for (int c = 0; c < count; c++) {
+            index += 1 + Protocol.get_varint(in);
+            if (index >= target.length) {
+                throw new IllegalArgumentException("Explored word " + index + " is outside the floor");
+            }
+            target[index] |= in.getLong();
+        }
+    }
+
+    private static void write_messages(String[] messages, ByteBuffer out) {
+        Protocol.put_varint(out, messages.length);
+        for (String message : messages) {
+            Protocol.put_string(out, message);
+        }
+    }
+
+    private static String[] read_messages(ByteBuffer in) {
+        int count = Protocol.get_varint(in);
+        if (count == 0) {
+            return ReplayFrame.NO_MESSAGES;
+        }
+        String[] messages = new String[count];
+        for (int i = 0; i < count; i++) {
+            messages[i] = Protocol.get_string(in);
+        }
+        return messages;
+    }
+
+    /**
+     * Growable list of keyframe ticks and file offsets
+     */
+    static final class KeyIndex {
+        private int[] ticks = new int[64];
+        private long[] offsets = new long[64];
+        private int size;
+
+        void add(int tick, long offset) {
+            if (size == ticks.length) {
+                ticks = Arrays.copyOf(ticks, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            ticks[size] = tick;
+            offsets[size] = offset;
+            size++;
+        }
+
+        /**
+         * Position of the last keyframe at or before a tick, or 0 if the tick is before them all
+         */
+        int floor_index(int tick) {
+            int found = Arrays.binarySearch(ticks, 0, size, tick);
+            if (found >= 0) return found;
+            return Math.max(0, -found - 2);
+        }
+
+        void write(ByteBuffer out, int lastTick) {
+            Protocol.put_varint(out, size);
+            Protocol.put_varint(out, lastTick);
+            int previousTick = 0;
+            long previousOffset = 0;
+            for (int i = 0; i < size; i++) {
+                Protocol.put_varint(out, ticks[i] - previousTick);
+                put_long_varint(out, offsets[i] - previousOffset);
+                previousTick = ticks[i];
+                previousOffset = offsets[i];
+            }
+        }
+
+        /**
+         * @return The last tick stored with the index
+         */
+        int read(ByteBuffer in) {
+            int count = Protocol.get_varint(in);
+            int lastTick = Protocol.get_varint(in);
+            int tick = 0;
+            long offset = 0;
+            for (int i = 0; i < count; i++) {
+                tick += Protocol.get_varint(in);
+                offset += get_long_varint(in);
+                add(tick, offset);
+            }
+            return lastTick;
+        }
+
+        int max_size() {
+            return 16 + 15 * size;
+        }
+
+        int size() { return size; }
+        int get_tick(int index) { return ticks[index]; }
+        long get_offset(int index) { return offsets[index]; }
+
+        private static void put_long_varint(ByteBuffer out, long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.put((byte) value);
+        }
+
+        private static long get_long_varint(ByteBuffer in) {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package controller.replay;
+
+import controller.server.WorldSnapshot;
+
+/**
+ * NEW: Everything a replay shows at one tick: the floor, its characters,
+ * the projectiles in flight, the explored tiles and the log.
+ *
+ * Characters use the game server's snapshot layout. Projectiles use the
+ * same layout with ids handed out by the recorder, the PLAYER bit set for
+ * the player's shots, the radius in the bits from FACING_SHIFT up and the
+ * RGB colour in place of hit points. Explored tiles are the floor's fog
+ * bitset (FogOfWar.get_row_word order). Frames are immutable once built.
+ */
+public final class ReplayFrame {
+    static final String[] NO_MESSAGES = new String[0];
+
+    private final int tick;
+    private final FloorLayout layout;
+    private final WorldSnapshot characters;
+    private final WorldSnapshot projectiles;
+    private final long[] explored;
+    private final String[] messages;
+    private final String[] recent;
+
+    /**
+     * NEW: Constructor for ReplayFrame; takes ownership of the arrays
+     *
+     * @param tick Recorder tick
+     * @param layout Floor the frame is on
+     * @param characters Player and enemies
+     * @param projectiles Projectiles in flight
+     * @param explored Explored bits, words per row times height
+     * @param messages Log messages added on this tick
+     * @param recent Last few log messages, oldest first, including this tick's
+     */
+    public ReplayFrame(int tick, FloorLayout layout, WorldSnapshot characters, WorldSnapshot projectiles,
+                       long[] explored, String[] messages, String[] recent) {
+        this.tick = tick;
+        this.layout = layout;
+        this.characters = characters;
+        this.projectiles = projectiles;
+        this.explored = explored;
+        this.messages = messages;
+        this.recent = recent;
+    }
+
+    /**
+     * NEW: Check whether a tile had been explored by this frame
+     */
+    public boolean is_explored(int x, int y) {
+        if (x < 0 || x >= layout.get_width() || y < 0 || y >= layout.get_height()) {
+            return false;
+        }
+        return (explored[y * layout.get_words_per_row() + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    public int get_tick() { return tick; }
+    public int get_floor() { return layout.get_floor(); }
+    public FloorLayout get_layout() { return layout; }
+    public WorldSnapshot get_characters() { return characters; }
+    public WorldSnapshot get_projectiles() { return projectiles; }
+    public long[] get_explored() { return explored; }
+    public String[] get_messages() { return messages; }
+    public String[] get_recent() { return recent; }
+}
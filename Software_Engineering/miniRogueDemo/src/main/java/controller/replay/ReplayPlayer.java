@@ -0,0 +1,159 @@
+package controller.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * NEW: Plays a replay back in time with a caller's clock.
+ *
+ * A read-ahead thread decodes frames from the reader into a bounded queue,
+ * so the caller (GamePanel's repaint timer) never waits on the file; it
+ * calls update with the time and gets the frame to show. Speed is a
+ * multiple of real time, or UNLIMITED to show frames as fast as they can
+ * be read. Seeking stops the read-ahead thread, repositions the reader and
+ * starts it again.
+ */
+public final class ReplayPlayer implements Closeable {
+    public static final String PLAY_PROPERTY = "minirogue.replay.play";
+    public static final double UNLIMITED = Double.POSITIVE_INFINITY;
+
+    private static final int READ_AHEAD = 512;
+
+    private final ReplayReader reader;
+    private final ArrayBlockingQueue<ReplayFrame> ahead = new ArrayBlockingQueue<>(READ_AHEAD);
+    private Thread readAhead;
+    private volatile boolean ended;
+    private volatile RuntimeException failure;
+
+    private ReplayFrame current;
+    private double speed = 1;
+    private boolean paused;
+    private boolean reanchor = true;
+    private long anchorMillis;
+    private int anchorTick;
+
+    /**
+     * NEW: Constructor for ReplayPlayer; starts at the first frame
+     *
+     * @param reader Open replay; closed with the player
+     */
+    public ReplayPlayer(ReplayReader reader) {
+        this.reader = reader;
+        this.current = reader.seek(reader.get_first_tick());
+        start_read_ahead();
+    }
+
+    private void start_read_ahead() {
+        ended = false;
+        readAhead = new Thread(() -> {
+            try {
+                ReplayFrame frame;
+                while ((frame = reader.next()) != null) {
+                    ahead.put(frame);
+                }
+            } catch (InterruptedException e) {
+                return; // Seek or close
+            } catch (RuntimeException e) {
+                failure = e; // Corrupt record; play up to it
+            }
+            ended = true;
+        }, "replay-reader");
+        readAhead.setDaemon(true);
+        readAhead.start();
+    }
+
+    private void stop_read_ahead() {
+        readAhead.interrupt();
+        boolean interrupted = false;
+        while (readAhead.isAlive()) {
+            try {
+                readAhead.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        ahead.clear();
+    }
+
+    /**
+     * NEW: Advance to the frame due at a time
+     *
+     * @param nowMillis Caller's clock, e.g. System.currentTimeMillis()
+     * @return The frame to show
+     */
+    public synchronized ReplayFrame update(long nowMillis) {
+        if (reanchor || paused) {
+            anchorMillis = nowMillis;
+            anchorTick = current.get_tick();
+            reanchor = false;
+        }
+        if (paused) {
+            return current;
+        }
+        ReplayFrame next;
+        if (speed == UNLIMITED) {
+            while ((next = ahead.poll()) != null) {
+                current = next;
+            }
+            reanchor = true;
+        } else {
+            double due = anchorTick + (nowMillis - anchorMillis) * speed / reader.get_tick_millis();
+            while ((next = ahead.peek()) != null && next.get_tick() <= due) {
+                current = ahead.poll();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * NEW: Jump to a tick; playback continues from there
+     *
+     * @param tick Tick to show, clamped to the recording
+     * @return The frame now shown
+     */
+    public synchronized ReplayFrame seek(int tick) {
+        stop_read_ahead();
+        current = reader.seek(Math.max(get_first_tick(), Math.min(get_last_tick(), tick)));
+        start_read_ahead();
+        reanchor = true;
+        return current;
+    }
+
+    public synchronized void set_speed(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Playback speed must be positive: " + speed);
+        }
+        this.speed = speed;
+        reanchor = true;
+    }
+
+    public synchronized void set_paused(boolean paused) {
+        this.paused = paused;
+        reanchor = true;
+    }
+
+    /**
+     * NEW: Check whether the last frame has been shown
+     */
+    public synchronized boolean is_finished() {
+        return ended && ahead.isEmpty();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        stop_read_ahead();
+        reader.close();
+    }
+
+    public synchronized ReplayFrame get_current() { return current; }
+    public synchronized double get_speed() { return speed; }
+    public synchronized boolean is_paused() { return paused; }
+    public RuntimeException get_failure() { return failure; }
+    public int get_first_tick() { return reader.get_first_tick(); }
+    public int get_last_tick() { return reader.get_last_tick(); }
+    public int get_tick_millis() { return reader.get_tick_millis(); }
+}
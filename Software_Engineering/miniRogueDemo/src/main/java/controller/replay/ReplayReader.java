@@ -0,0 +1,212 @@
+package controller.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+
+/**
+ * NEW: Random access to a replay file.
+ *
+ * The file is memory-mapped, so reading ahead is left to the operating
+ * system and a seek is only a change of position: find the last keyframe
+ * at or before the tick in the keyframe index, decode it, and apply at
+ * most one keyframe interval of deltas. A file without its index (the
+ * game was closed without stopping the recorder) is scanned once on open
+ * to rebuild the index; a record cut off at the end is ignored.
+ *
+ * Not thread-safe; ReplayPlayer drives one reader from its read-ahead thread.
+ */
+public final class ReplayReader implements Closeable {
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer data;
+    private final int tickMillis;
+    private final ReplayFormat.KeyIndex index = new ReplayFormat.KeyIndex();
+    private final HashMap<Long, FloorLayout> layouts = new HashMap<>();
+    private final int lastTick;
+    private final boolean indexed;
+    private int end;
+
+    private int position;
+    private ReplayFrame current;
+
+    /**
+     * NEW: Open a replay file
+     *
+     * @param file File written by ReplayRecorder
+     * @throws IOException If the file cannot be read or is not a replay
+     */
+    public ReplayReader(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Replay is too large to map: " + size + " bytes");
+            }
+            if (size < ReplayFormat.HEADER_BYTES) {
+                throw new IOException("Not a replay file: " + file);
+            }
+            this.data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (data.getInt(0) != ReplayFormat.MAGIC) {
+                throw new IOException("Not a replay file: " + file);
+            }
+            if (data.get(4) != ReplayFormat.VERSION) {
+                throw new IOException("Unsupported replay version " + data.get(4) + ": " + file);
+            }
+            this.tickMillis = data.getInt(5);
+            int indexOffset = find_index();
+            this.indexed = indexOffset >= 0;
+            this.lastTick = indexed ? read_index(indexOffset) : scan();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        if (index.size() == 0) {
+            channel.close();
+            throw new IOException("Replay has no frames: " + file);
+        }
+    }
+
+    // Offset of the INDEX record named by the trailer, or -1 if the trailer is missing or wrong
+    private int find_index() {
+        int trailer = data.limit() - ReplayFormat.TRAILER_BYTES;
+        if (trailer < ReplayFormat.HEADER_BYTES || data.getInt(trailer + 8) != ReplayFormat.INDEX_MAGIC) {
+            return -1;
+        }
+        long offset = data.getLong(trailer);
+        if (offset < ReplayFormat.HEADER_BYTES || offset > trailer - ReplayFormat.RECORD_HEADER_BYTES
+            || data.get((int) offset) != ReplayFormat.INDEX) {
+            return -1;
+        }
+        return (int) offset;
+    }
+
+    private int read_index(int indexOffset) {
+        end = indexOffset;
+        return index.read(body_at(indexOffset));
+    }
+
+    // Walk every record to rebuild the keyframe index; returns the last tick
+    private int scan() {
+        int at = ReplayFormat.HEADER_BYTES;
+        int last = -1;
+        end = at;
+        while (at + ReplayFormat.RECORD_HEADER_BYTES <= data.limit()) {
+            byte kind = data.get(at);
+            int length = data.getInt(at + 1);
+            int next = at + ReplayFormat.RECORD_HEADER_BYTES + length;
+            if (length < 0 || next > data.limit() || kind < ReplayFormat.LAYOUT || kind > ReplayFormat.INDEX) {
+                break; // Cut off mid-record
+            }
+            if (kind == ReplayFormat.INDEX) {
+                break;
+            }
+            if (kind != ReplayFormat.LAYOUT) {
+                last = ReplayFormat.peek_tick(body_at(at));
+                if (kind == ReplayFormat.KEY) {
+                    index.add(last, at);
+                }
+            }
+            at = next;
+            end = at;
+        }
+        return last;
+    }
+
+    private ByteBuffer body_at(int offset) {
+        int length = data.getInt(offset + 1);
+        ByteBuffer body = data.duplicate();
+        body.position(offset + ReplayFormat.RECORD_HEADER_BYTES);
+        body.limit(offset + ReplayFormat.RECORD_HEADER_BYTES + length);
+        return body.slice();
+    }
+
+    private FloorLayout layout_at(long offset) {
+        FloorLayout layout = layouts.get(offset);
+        if (layout == null) {
+            if (data.get((int) offset) != ReplayFormat.LAYOUT) {
+                throw new IllegalStateException("Keyframe names a floor layout that is not there: " + offset);
+            }
+            layout = FloorLayout.read(body_at((int) offset));
+            layouts.put(offset, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * NEW: Move to a tick and return the frame shown at it: the last frame
+     * recorded at or before the tick, or the first frame if the tick is
+     * earlier than all of them
+     *
+     * @param tick Tick to show
+     * @return The frame; next() continues after it
+     */
+    public ReplayFrame seek(int tick) {
+        position = (int) index.get_offset(index.floor_index(tick));
+        current = null;
+        ReplayFrame frame = next();
+        while (position < end) {
+            int kind = data.get(position);
+            if (kind == ReplayFormat.LAYOUT) {
+                position += ReplayFormat.RECORD_HEADER_BYTES + data.getInt(position + 1);
+                continue;
+            }
+            if (ReplayFormat.peek_tick(body_at(position)) > tick) {
+                break;
+            }
+            frame = next();
+        }
+        return frame;
+    }
+
+    /**
+     * NEW: Decode the frame after the current one
+     *
+     * @return The next frame, or null at the end of the replay
+     */
+    public ReplayFrame next() {
+        while (position < end) {
+            int at = position;
+            byte kind = data.get(at);
+            position = at + ReplayFormat.RECORD_HEADER_BYTES + data.getInt(at + 1);
+            switch (kind) {
+                case ReplayFormat.LAYOUT:
+                    continue; // Loaded when a keyframe names it
+                case ReplayFormat.KEY: {
+                    ByteBuffer body = body_at(at);
+                    current = ReplayFormat.read_key(body, layout_at(ReplayFormat.key_layout_offset(body)));
+                    return current;
+                }
+                case ReplayFormat.DELTA:
+                    if (current == null) {
+                        throw new IllegalStateException("Delta at " + at + " has no keyframe before it");
+                    }
+                    current = ReplayFormat.read_delta(body_at(at), current);
+                    return current;
+                default:
+                    position = end;
+                    return null;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public Path get_file() { return file; }
+    public int get_tick_millis() { return tickMillis; }
+    public int get_first_tick() { return index.get_tick(0); }
+    public int get_last_tick() { return lastTick; }
+    public int get_keyframe_count() { return index.size(); }
+    public boolean is_indexed() { return indexed; }
+    public long get_size() { return data.limit(); }
+}
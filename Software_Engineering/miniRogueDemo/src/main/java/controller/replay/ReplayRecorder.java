@@ -0,0 +1,212 @@
+package controller.replay;
+
+import controller.server.WorldSnapshot;
+import interfaces.GameObserver;
+import model.characters.Player;
+import model.gameLogic.GameLogic;
+import model.gameLogic.Projectile;
+import model.map.FogOfWar;
+import model.map.Map;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NEW: Records a game to a replay file as it is played.
+ *
+ * The recorder observes GameLogic: on every GAME_STATE_UPDATED it captures
+ * a frame on the game's own thread (arrays only, no encoding) and hands it
+ * to a ReplayWriter. If the writer falls behind and its queue is full the
+ * frame is dropped rather than stalling the game; deltas are taken against
+ * the last frame written, so the file stays consistent and the replay just
+ * skips those ticks. Log messages of a dropped frame move to the next one.
+ */
+public final class ReplayRecorder implements GameObserver, Closeable {
+    public static final String RECORD_DIR_PROPERTY = "minirogue.replay.dir";
+    public static final int DEFAULT_TICK_MILLIS = 16; // GameLogic's update timer period
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 300;
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private static final int MAX_PENDING_MESSAGES = 64;
+
+    private final GameLogic logic;
+    private final ReplayWriter writer;
+    private final ArrayDeque<String> pendingMessages = new ArrayDeque<>();
+    private final AtomicLong framesDropped = new AtomicLong();
+    private volatile boolean closed;
+
+    // Capture state; only touched on the game's update thread
+    private int tick;
+    private Map lastMap;
+    private FloorLayout layout;
+    private IdentityHashMap<Projectile, Integer> projectileIds = new IdentityHashMap<>();
+    private int nextProjectileId;
+
+    /**
+     * NEW: Start recording a game with the default keyframe interval and queue size
+     *
+     * @param logic Game to record
+     * @param file File to write; replaced if it exists
+     */
+    public ReplayRecorder(GameLogic logic, Path file) throws IOException {
+        this(logic, file, DEFAULT_KEYFRAME_INTERVAL, DEFAULT_QUEUE_CAPACITY, DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * NEW: Start recording a game
+     *
+     * @param logic Game to record
+     * @param file File to write; replaced if it exists
+     * @param keyframeInterval Frames between keyframes; seeking decodes at most this many deltas
+     * @param queueCapacity Frames that may wait for the writer before frames are dropped
+     * @param tickMillis Length of one game tick, stored for playback speed
+     */
+    public ReplayRecorder(GameLogic logic, Path file, int keyframeInterval, int queueCapacity, int tickMillis)
+            throws IOException {
+        this.logic = logic;
+        this.writer = new ReplayWriter(file, keyframeInterval, queueCapacity, tickMillis);
+        logic.add_observer(this);
+    }
+
+    @Override
+    public void on_model_changed(String event, Object data) {
+        switch (event) {
+            case "GAME_STATE_UPDATED":
+                record_tick();
+                break;
+            case "LOG_MESSAGE":
+            case "UPGRADER_GREETING":
+            case "UPGRADER_WARNING":
+            case "UPGRADER_INTERACTION":
+            case "UPGRADER_MESSAGE":
+                if (data instanceof String) add_message((String) data);
+                break;
+            case "ITEM_COLLECTED":
+                if (data instanceof model.items.Item) add_message("You've picked up a " + ((model.items.Item) data).get_name());
+                break;
+            case "BOSS_DEFEATED":
+                add_message("Boss defeated! Floor cleared!");
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void add_message(String message) {
+        synchronized (pendingMessages) {
+            if (pendingMessages.size() == MAX_PENDING_MESSAGES) {
+                pendingMessages.removeFirst();
+            }
+            pendingMessages.addLast(message);
+        }
+    }
+
+    /**
+     * Capture the game as it is now and hand the frame to the writer
+     */
+    private void record_tick() {
+        if (closed) {
+            return;
+        }
+        Map map = logic.get_current_map();
+        if (map == null) {
+            return; // Between floors
+        }
+        if (map != lastMap) {
+            lastMap = map;
+            layout = FloorLayout.capture(map, logic.get_current_floor());
+        }
+        WorldSnapshot characters = WorldSnapshot.capture(tick, logic);
+        WorldSnapshot projectiles = capture_projectiles();
+
+        FogOfWar fog = map.get_fog_of_war();
+        int wordsPerRow = fog.get_words_per_row();
+        long[] explored = new long[wordsPerRow * fog.get_height()];
+        for (int y = 0; y < fog.get_height(); y++) {
+            for (int w = 0; w < wordsPerRow; w++) {
+                explored[y * wordsPerRow + w] = fog.get_row_word(y, w);
+            }
+        }
+
+        String[] messages;
+        synchronized (pendingMessages) {
+            messages = pendingMessages.isEmpty() ? ReplayFrame.NO_MESSAGES : pendingMessages.toArray(new String[0]);
+            pendingMessages.clear();
+        }
+        ReplayFrame frame = new ReplayFrame(tick, layout, characters, projectiles, explored, messages,
+                                            ReplayFrame.NO_MESSAGES);
+        if (!writer.offer(frame)) {
+            framesDropped.incrementAndGet();
+            synchronized (pendingMessages) {
+                for (int i = messages.length - 1; i >= 0; i--) {
+                    pendingMessages.addFirst(messages[i]);
+                }
+                while (pendingMessages.size() > MAX_PENDING_MESSAGES) {
+                    pendingMessages.removeFirst();
+                }
+            }
+        }
+        tick++;
+    }
+
+    private WorldSnapshot capture_projectiles() {
+        List<Projectile> live = logic.get_projectiles_snapshot();
+        IdentityHashMap<Projectile, Integer> ids = new IdentityHashMap<>(live.size() * 2);
+        long[] order = new long[live.size()];
+        for (int i = 0; i < live.size(); i++) {
+            Projectile projectile = live.get(i);
+            Integer id = projectileIds.get(projectile);
+            if (id == null) {
+                id = nextProjectileId++;
+            }
+            ids.put(projectile, id);
+            order[i] = ((long) id << 32) | i;
+        }
+        projectileIds = ids;
+        Arrays.sort(order);
+
+        int count = live.size();
+        int[] idArray = new int[count];
+        int[] x = new int[count];
+        int[] y = new int[count];
+        int[] state = new int[count];
+        int[] colour = new int[count];
+        for (int k = 0; k < count; k++) {
+            Projectile projectile = live.get((int) order[k]);
+            idArray[k] = (int) (order[k] >>> 32);
+            x[k] = Math.round(projectile.getX() * WorldSnapshot.QUANTUM);
+            y[k] = Math.round(projectile.getY() * WorldSnapshot.QUANTUM);
+            state[k] = (projectile.isActive() ? WorldSnapshot.ALIVE : 0)
+                | (projectile.getOwner() instanceof Player ? WorldSnapshot.PLAYER : 0)
+                | Math.round(projectile.getRadius()) << WorldSnapshot.FACING_SHIFT;
+            colour[k] = projectile.getColor() != null ? projectile.getColor().getRGB() & 0xFFFFFF : 0;
+        }
+        return new WorldSnapshot(tick, logic.get_current_floor(), idArray, x, y, state, colour);
+    }
+
+    /**
+     * NEW: Stop recording, write everything still queued and finish the file
+     * with its keyframe index
+     *
+     * @throws IOException If writing failed at any point
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            logic.remove_observer(this);
+        }
+        writer.close();
+    }
+
+    public Path get_file() { return writer.get_file(); }
+    public long get_frames_written() { return writer.get_frames_written(); }
+    public long get_frames_dropped() { return framesDropped.get(); }
+    public long get_bytes_written() { return writer.get_bytes_written(); }
+}
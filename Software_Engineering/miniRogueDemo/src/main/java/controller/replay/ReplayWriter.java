@@ -0,0 +1,223 @@
+package controller.replay;
+
+import controller.server.WorldSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NEW: Writes replay frames to a file on a background thread.
+ *
+ * Frames are offered to a bounded queue and never block the caller; a full
+ * queue rejects the frame. The writer thread encodes each frame as a delta
+ * against the previous frame it wrote, with a keyframe every
+ * keyframeInterval frames and whenever the floor layout changes, and keeps
+ * the keyframe index that close() writes at the end of the file. Records
+ * are gathered in a staging buffer that is written out when it fills or
+ * when the queue runs dry, so an unclosed file loses at most the frames
+ * still queued.
+ */
+public final class ReplayWriter implements Closeable {
+    private static final int STAGING_BYTES = 64 * 1024;
+    private static final ReplayFrame END = new ReplayFrame(-1, null, WorldSnapshot.EMPTY, WorldSnapshot.EMPTY,
+                                                           new long[0], ReplayFrame.NO_MESSAGES, ReplayFrame.NO_MESSAGES);
+
+    private final Path file;
+    private final int keyframeInterval;
+    private final ArrayBlockingQueue<ReplayFrame> queue;
+    private final FileChannel channel;
+    private final Thread writer;
+    private volatile long framesWritten;
+    private volatile long bytesWritten;
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    // Only touched on the writer thread
+    private final ByteBuffer staging = ByteBuffer.allocate(STAGING_BYTES);
+    private final ReplayFormat.KeyIndex index = new ReplayFormat.KeyIndex();
+    private ByteBuffer body = ByteBuffer.allocate(4096);
+    private long flushedBytes;
+    private FloorLayout writtenLayout;
+    private long writtenLayoutOffset;
+    private ReplayFrame previous;
+    private String[] recent = ReplayFrame.NO_MESSAGES;
+    private int sinceKeyframe;
+
+    /**
+     * NEW: Create the file and start the writer thread
+     *
+     * @param file File to write; replaced if it exists
+     * @param keyframeInterval Frames between keyframes; seeking decodes at most this many deltas
+     * @param queueCapacity Frames that may wait for the writer
+     * @param tickMillis Length of one tick, stored for playback speed
+     */
+    public ReplayWriter(Path file, int keyframeInterval, int queueCapacity, int tickMillis) throws IOException {
+        if (keyframeInterval < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Keyframe interval and queue capacity must be positive");
+        }
+        this.file = file;
+        this.keyframeInterval = keyframeInterval;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.TRUNCATE_EXISTING);
+        staging.putInt(ReplayFormat.MAGIC);
+        staging.put(ReplayFormat.VERSION);
+        staging.putInt(tickMillis);
+
+        this.writer = new Thread(this::write_loop, "replay-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * NEW: Queue a frame for writing without waiting
+     *
+     * @param frame Frame with a later tick than the last one offered
+     * @return false if the queue is full or the writer has stopped
+     */
+    public boolean offer(ReplayFrame frame) {
+        return !closed && failure == null && queue.offer(frame);
+    }
+
+    private void write_loop() {
+        try {
+            while (true) {
+                ReplayFrame frame = queue.take();
+                if (frame == END) {
+                    break;
+                }
+                write_frame(frame);
+                if (queue.isEmpty()) {
+                    flush(); // Caught up; put what we have on disk in case the game never closes us
+                }
+            }
+            write_index();
+        } catch (IOException e) {
+            failure = e;
+            queue.clear(); // Nothing more will be written; let the game's offers go through
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+            }
+        }
+    }
+
+    private void write_frame(ReplayFrame frame) throws IOException {
+        if (frame.get_layout() != writtenLayout) {
+            writtenLayout = frame.get_layout();
+            writtenLayoutOffset = position();
+            ensure_body(writtenLayout.max_size());
+            writtenLayout.write(body);
+            write_record(ReplayFormat.LAYOUT);
+            previous = null; // A new floor starts with a keyframe
+        }
+        if (frame.get_messages().length > 0) {
+            recent = ReplayFormat.append_recent(recent, frame.get_messages());
+        }
+        if (previous == null || sinceKeyframe >= keyframeInterval) {
+            index.add(frame.get_tick(), position());
+            ensure_body(ReplayFormat.max_size(null, frame, recent));
+            ReplayFormat.write_key(frame, writtenLayoutOffset, recent, body);
+            write_record(ReplayFormat.KEY);
+            sinceKeyframe = 0;
+        } else {
+            ensure_body(ReplayFormat.max_size(previous, frame, ReplayFrame.NO_MESSAGES));
+            ReplayFormat.write_delta(previous, frame, body);
+            write_record(ReplayFormat.DELTA);
+        }
+        sinceKeyframe++;
+        previous = frame;
+        framesWritten++;
+    }
+
+    private void write_index() throws IOException {
+        long indexOffset = position();
+        ensure_body(index.max_size());
+        index.write(body, previous != null ? previous.get_tick() : 0);
+        write_record(ReplayFormat.INDEX);
+        if (staging.remaining() < ReplayFormat.TRAILER_BYTES) {
+            flush();
+        }
+        staging.putLong(indexOffset);
+        staging.putInt(ReplayFormat.INDEX_MAGIC);
+        flush();
+    }
+
+    private void ensure_body(int size) {
+        if (body.capacity() < size) {
+            body = ByteBuffer.allocate(Math.max(size, body.capacity() * 2));
+        }
+        body.clear();
+    }
+
+    // Move the encoded body into the file as one record
+    private void write_record(byte kind) throws IOException {
+        body.flip();
+        if (staging.remaining() < ReplayFormat.RECORD_HEADER_BYTES + body.remaining()) {
+            flush();
+        }
+        staging.put(kind);
+        staging.putInt(body.remaining());
+        if (staging.remaining() >= body.remaining()) {
+            staging.put(body);
+        } else {
+            flush();
+            write_fully(body);
+        }
+    }
+
+    private void flush() throws IOException {
+        staging.flip();
+        write_fully(staging);
+        staging.clear();
+    }
+
+    private void write_fully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            flushedBytes += channel.write(buffer);
+        }
+        bytesWritten = flushedBytes;
+    }
+
+    private long position() {
+        return flushedBytes + staging.position();
+    }
+
+    /**
+     * NEW: Write everything still queued and finish the file with its keyframe index
+     *
+     * @throws IOException If writing failed at any point
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                // The writer may have stopped on an error; only wait for room while it runs
+                while (writer.isAlive() && !queue.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                }
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writer.interrupt();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public Path get_file() { return file; }
+    public long get_frames_written() { return framesWritten; }
+    public long get_bytes_written() { return bytesWritten; }
+}
@@ -0,0 +1,127 @@
+package controller.server;
+
+import enums.CharacterClass;
+
+import java.nio.ByteBuffer;
+
+/**
+ * NEW: Client side of the game server protocol, without the networking:
+ * builds request frames, and turns server frames into snapshots.
+ *
+ * Each snapshot received is kept for a while by tick, so the next delta
+ * (encoded against the last tick this client acknowledged) always finds
+ * its baseline. Handling a snapshot returns the acknowledgement to send.
+ */
+public class GameClient {
+    private static final int HISTORY = 128;
+
+    private final WorldSnapshot[] history = new WorldSnapshot[HISTORY];
+    private WorldSnapshot latest = WorldSnapshot.EMPTY;
+    private int sessionId = -1;
+    private int playerId = -1;
+    private String rejection;
+    private long snapshots;
+    private long fullSnapshots;
+    private long payloadBytes;
+
+    /**
+     * NEW: Frame asking to open a session, or join or watch one
+     *
+     * @param mode Protocol.PLAY, COOP or SPECTATE
+     * @param characterClass Class for a new session's player
+     * @param sessionId Session to join; ignored for PLAY
+     */
+    public static ByteBuffer join_frame(byte mode, CharacterClass characterClass, int sessionId) {
+        ByteBuffer out = ByteBuffer.allocate(16);
+        int start = Protocol.begin_frame(out, Protocol.JOIN);
+        out.put(mode);
+        out.put((byte) characterClass.ordinal());
+        Protocol.put_varint(out, Math.max(0, sessionId));
+        Protocol.end_frame(out, start);
+        return out.flip();
+    }
+
+    /**
+     * NEW: Frame setting the player's movement direction
+     */
+    public static ByteBuffer move_frame(int dx, int dy) {
+        ByteBuffer out = ByteBuffer.allocate(8);
+        int start = Protocol.begin_frame(out, Protocol.MOVE);
+        out.put((byte) Integer.signum(dx));
+        out.put((byte) Integer.signum(dy));
+        Protocol.end_frame(out, start);
+        return out.flip();
+    }
+
+    /**
+     * NEW: Frame asking for a player action, as GameLogic.handle_player_action names them;
+     * the server only accepts actions that take no data
+     */
+    public static ByteBuffer action_frame(String action) {
+        ByteBuffer out = ByteBuffer.allocate(8 + 3 * action.length());
+        int start = Protocol.begin_frame(out, Protocol.ACTION);
+        Protocol.put_string(out, action);
+        Protocol.end_frame(out, start);
+        return out.flip();
+    }
+
+    private static ByteBuffer ack_frame(int tick) {
+        ByteBuffer out = ByteBuffer.allocate(12);
+        int start = Protocol.begin_frame(out, Protocol.ACK);
+        Protocol.put_varint(out, tick);
+        Protocol.end_frame(out, start);
+        return out.flip();
+    }
+
+    /**
+     * NEW: Handle one frame from the server
+     *
+     * @param frame Frame from Protocol.FrameReader, positioned at its type byte
+     * @return Frame to send back, or null
+     */
+    public ByteBuffer handle(ByteBuffer frame) {
+        byte type = frame.get();
+        switch (type) {
+            case Protocol.WELCOME:
+                sessionId = Protocol.get_varint(frame);
+                playerId = Protocol.get_varint(frame);
+                return null;
+            case Protocol.REJECT:
+                rejection = Protocol.get_string(frame);
+                return null;
+            case Protocol.SNAPSHOT:
+                return receive_snapshot(frame);
+            default:
+                throw new IllegalArgumentException("Unknown frame type: " + type);
+        }
+    }
+
+    private ByteBuffer receive_snapshot(ByteBuffer payload) {
+        payloadBytes += payload.remaining();
+        int baseTick = SnapshotCodec.baseline_tick(payload);
+        WorldSnapshot base = WorldSnapshot.EMPTY;
+        if (baseTick >= 0) {
+            base = history[baseTick % HISTORY];
+            if (base == null || base.get_tick() != baseTick) {
+                return null; // Baseline is gone; keep acknowledging the last tick so the server sends a full snapshot
+            }
+        } else {
+            fullSnapshots++;
+        }
+        WorldSnapshot snapshot = SnapshotCodec.decode(base, payload);
+        history[snapshot.get_tick() % HISTORY] = snapshot;
+        if (snapshot.get_tick() > latest.get_tick()) {
+            latest = snapshot;
+        }
+        snapshots++;
+        return ack_frame(snapshot.get_tick());
+    }
+
+    public WorldSnapshot get_latest() { return latest; }
+    public int get_session_id() { return sessionId; }
+    public int get_player_id() { return playerId; }
+    public String get_rejection() { return rejection; }
+    public long get_snapshots() { return snapshots; }
+    public long get_full_snapshots() { return fullSnapshots; }
+    public long get_payload_bytes() { return payloadBytes; }
+}
@@ -0,0 +1,463 @@
+package controller.server;
+
+import controller.SessionHost;
+import enums.CharacterClass;
+import model.gameLogic.GameSession;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * NEW: Game server: runs headless sessions and streams them to clients.
+ *
+ * One selector thread does all socket work (accepting, reading input,
+ * writing snapshots) without blocking. A tick thread applies the input
+ * received since the last tick, steps every session on the session host's
+ * shared workers, snapshots each session and queues one delta per client,
+ * encoded against the last tick that client acknowledged. Clients that
+ * acknowledge the same tick share one encoded frame. A client whose socket
+ * has not drained the previous snapshot is skipped for that tick; its next
+ * delta simply covers more ticks.
+ */
+public class GameServer implements Closeable {
+    public static final int DEFAULT_PORT = 7777;
+    public static final long DEFAULT_TICK_MILLIS = 16;
+
+    private static final Logger LOGGER = Logger.getLogger(GameServer.class.getName());
+    private static final int HISTORY = 64; // Ticks of snapshots kept per session for delta baselines
+    // Actions a client may ask for: only those that take no data and cannot restart the game
+    private static final Set<String> REMOTE_ACTIONS = Set.of("pause", "resume_game", "open_inventory");
+
+    private final SessionHost host;
+    private final long tickMillis;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ScheduledExecutorService ticker;
+    private final Thread selectorThread;
+    private final Map<Integer, Stream> streams = new ConcurrentHashMap<>();
+    private final Queue<Connection> toFlush = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+    private final Random seeds = new Random();
+    private volatile boolean running;
+
+    private final AtomicLong snapshotsSent = new AtomicLong();
+    private final AtomicLong fullSnapshotsSent = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong tickNanos = new AtomicLong();
+    private volatile int connections;
+
+    /**
+     * NEW: Constructor for GameServer; binds the port but does not start serving
+     *
+     * @param port TCP port, or 0 for any free port
+     * @param workers Threads stepping sessions
+     * @param tickMillis Game time per tick, and the real time between ticks
+     */
+    public GameServer(int port, int workers, long tickMillis) throws IOException {
+        this.host = new SessionHost(workers);
+        this.tickMillis = tickMillis;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "server-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.selectorThread = new Thread(this::select_loop, "server-selector");
+    }
+
+    /**
+     * NEW: Start accepting clients and ticking sessions
+     */
+    public void start() {
+        running = true;
+        selectorThread.start();
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * NEW: Stop serving, close every connection and session
+     */
+    @Override
+    public void close() {
+        running = false;
+        ticker.shutdownNow();
+        selector.wakeup();
+        try {
+            selectorThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+        } catch (IOException e) {
+            LOGGER.fine("Error closing server sockets: " + e.getMessage());
+        }
+        host.shutdown();
+    }
+
+    /**
+     * NEW: Run a server until the process is stopped
+     *
+     * @param args Optional port, then optional worker count
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        GameServer server = new GameServer(port, workers, DEFAULT_TICK_MILLIS);
+        server.start();
+        LOGGER.info("Game server listening on port " + server.get_port());
+    }
+
+    // ---------------------------------------------------------------- selector thread
+
+    private void select_loop() {
+        while (running) {
+            try {
+                selector.select();
+                Runnable task;
+                while ((task = selectorTasks.poll()) != null) {
+                    task.run();
+                }
+                Connection flush;
+                while ((flush = toFlush.poll()) != null) {
+                    write(flush);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) read(connection);
+                        if (key.isValid() && key.isWritable()) write(connection);
+                    }
+                }
+            } catch (IOException e) {
+                if (running) LOGGER.log(Level.WARNING, "Selector error", e);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections++;
+        }
+    }
+
+    private void read(Connection connection) {
+        try {
+            int read = connection.channel.read(connection.reader.get_buffer());
+            if (read < 0) {
+                disconnect(connection);
+                return;
+            }
+            ByteBuffer frame;
+            while ((frame = connection.reader.next_frame()) != null) {
+                handle(connection, frame);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.fine("Dropping client: " + e.getMessage());
+            disconnect(connection);
+        }
+    }
+
+    private void handle(Connection connection, ByteBuffer frame) {
+        byte type = frame.get();
+        switch (type) {
+            case Protocol.JOIN:
+                join(connection, frame.get(), frame.get(), Protocol.get_varint(frame));
+                break;
+            case Protocol.MOVE:
+                if (connection.controls && connection.stream != null) {
+                    connection.stream.moveDx = frame.get();
+                    connection.stream.moveDy = frame.get();
+                }
+                break;
+            case Protocol.ACTION:
+                String action = Protocol.get_string(frame);
+                if (!REMOTE_ACTIONS.contains(action)) {
+                    reject(connection, "Unsupported action " + action);
+                } else if (connection.controls && connection.stream != null) {
+                    connection.stream.actions.add(action);
+                }
+                break;
+            case Protocol.ACK:
+                connection.ackTick = Math.max(connection.ackTick, Protocol.get_varint(frame));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown frame type: " + type);
+        }
+    }
+
+    private void join(Connection connection, byte mode, byte classOrdinal, int sessionId) {
+        if (connection.stream != null || connection.joining) {
+            reject(connection, "Already joined");
+            return;
+        }
+        if (mode == Protocol.PLAY) {
+            CharacterClass[] classes = CharacterClass.values();
+            if (classOrdinal < 0 || classOrdinal >= classes.length) {
+                reject(connection, "Unknown class " + classOrdinal);
+                return;
+            }
+            connection.controls = true;
+            connection.joining = true;
+            // Generating the first floor takes a while; do it on a worker, not the selector
+            host.open_async(classes[classOrdinal], seeds.nextLong()).whenComplete((session, error) ->
+                run_on_selector(() -> {
+                    connection.joining = false;
+                    if (error != null) {
+                        LOGGER.log(Level.WARNING, "Could not open session", error);
+                        reject(connection, "Could not open session");
+                        return;
+                    }
+                    if (!connection.channel.isOpen()) {
+                        // The client left while its floor was generated; disconnect() had nothing to clean up
+                        host.close(session.get_id());
+                        return;
+                    }
+                    Stream stream = new Stream(session);
+                    streams.put(session.get_id(), stream);
+                    attach(connection, stream);
+                }));
+            return;
+        }
+        Stream stream = streams.get(sessionId);
+        if (stream == null || (mode != Protocol.COOP && mode != Protocol.SPECTATE)) {
+            reject(connection, "No session " + sessionId);
+            return;
+        }
+        connection.controls = mode == Protocol.COOP;
+        attach(connection, stream);
+    }
+
+    private void attach(Connection connection, Stream stream) {
+        connection.stream = stream;
+        stream.clients.add(connection);
+        ByteBuffer out = ByteBuffer.allocate(16);
+        int start = Protocol.begin_frame(out, Protocol.WELCOME);
+        Protocol.put_varint(out, stream.session.get_id());
+        Protocol.put_varint(out, WorldSnapshot.PLAYER_ID);
+        Protocol.end_frame(out, start);
+        send(connection, out.flip());
+    }
+
+    private void reject(Connection connection, String reason) {
+        ByteBuffer out = ByteBuffer.allocate(8 + 3 * reason.length());
+        int start = Protocol.begin_frame(out, Protocol.REJECT);
+        Protocol.put_string(out, reason);
+        Protocol.end_frame(out, start);
+        send(connection, out.flip());
+    }
+
+    // Queue work from any thread for the selector thread, which owns connection state
+    private void run_on_selector(Runnable task) {
+        selectorTasks.add(task);
+        selector.wakeup();
+    }
+
+    // Queue a frame from any thread; the selector thread writes it
+    private void send(Connection connection, ByteBuffer frame) {
+        connection.outbound.add(frame);
+        toFlush.add(connection);
+        selector.wakeup();
+    }
+
+    private void write(Connection connection) {
+        if (!connection.channel.isOpen()) return;
+        try {
+            ByteBuffer frame;
+            while ((frame = connection.outbound.peek()) != null) {
+                bytesSent.addAndGet(connection.channel.write(frame));
+                if (frame.hasRemaining()) break;
+                connection.outbound.poll();
+            }
+            int ops = connection.outbound.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+            if (connection.key.interestOps() != ops) {
+                connection.key.interestOps(ops);
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void disconnect(Connection connection) {
+        if (!connection.channel.isOpen()) return;
+        if (connection.key != null) connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            LOGGER.fine("Error closing client: " + e.getMessage());
+        }
+        connections--;
+        Stream stream = connection.stream;
+        if (stream != null) {
+            stream.clients.remove(connection);
+            if (stream.clients.isEmpty()) {
+                streams.remove(stream.session.get_id());
+                host.close(stream.session.get_id());
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- tick thread
+
+    // Each stream's input and publish fail on their own, so one session cannot stall the others
+    private void tick() {
+        long start = System.nanoTime();
+        List<Stream> live = new ArrayList<>(streams.values());
+        for (Stream stream : live) {
+            try {
+                stream.session.set_move_direction(stream.moveDx, stream.moveDy);
+                String action;
+                while ((action = stream.actions.poll()) != null) {
+                    stream.session.perform(action, null);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Input failed for session " + stream.session.get_id(), e);
+            }
+        }
+        try {
+            // Every session steps even if one throws; join only reports the failure afterwards
+            host.step_all(1, tickMillis).join();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Server tick failed", e);
+        }
+        for (Stream stream : live) {
+            try {
+                publish(stream);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Publish failed for session " + stream.session.get_id(), e);
+            }
+        }
+        ticks.incrementAndGet();
+        tickNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    private void publish(Stream stream) {
+        int tick = ++stream.tick;
+        WorldSnapshot snapshot = WorldSnapshot.capture(tick, stream.session);
+        if (snapshot == null) return; // Closed after this tick started
+        stream.history[tick % HISTORY] = snapshot;
+
+        Map<Integer, ByteBuffer> byBaseline = new HashMap<>();
+        for (Connection connection : stream.clients) {
+            if (!connection.outbound.isEmpty()) continue; // Still sending an older snapshot
+            WorldSnapshot base = stream.baseline(connection.ackTick);
+            ByteBuffer frame = byBaseline.get(base.get_tick());
+            if (frame == null) {
+                frame = ByteBuffer.allocate(3 + SnapshotCodec.max_size(base, snapshot));
+                int at = Protocol.begin_frame(frame, Protocol.SNAPSHOT);
+                SnapshotCodec.encode(base, snapshot, frame);
+                Protocol.end_frame(frame, at);
+                frame.flip();
+                byBaseline.put(base.get_tick(), frame);
+            }
+            if (base == WorldSnapshot.EMPTY) fullSnapshotsSent.incrementAndGet();
+            snapshotsSent.incrementAndGet();
+            connection.outbound.add(frame.duplicate());
+            toFlush.add(connection);
+        }
+        selector.wakeup();
+    }
+
+    // ---------------------------------------------------------------- state
+
+    public int get_port() { return serverChannel.socket().getLocalPort(); }
+    public int get_connection_count() { return connections; }
+    public int get_session_count() { return streams.size(); }
+    public int get_hosted_session_count() { return host.get_session_count(); }
+    public long get_snapshots_sent() { return snapshotsSent.get(); }
+    public long get_full_snapshots_sent() { return fullSnapshotsSent.get(); }
+    public long get_bytes_sent() { return bytesSent.get(); }
+    public long get_ticks() { return ticks.get(); }
+
+    /**
+     * NEW: Average time a tick took (input, stepping every session, snapshots), in milliseconds
+     */
+    public double get_average_tick_millis() {
+        long count = ticks.get();
+        return count == 0 ? 0 : tickNanos.get() / 1e6 / count;
+    }
+
+    /**
+     * One session and the clients watching it.
+     */
+    private static final class Stream {
+        final GameSession session;
+        final List<Connection> clients = new CopyOnWriteArrayList<>();
+        final WorldSnapshot[] history = new WorldSnapshot[HISTORY];
+        final Queue<String> actions = new ConcurrentLinkedQueue<>();
+        volatile int moveDx;
+        volatile int moveDy;
+        int tick; // Tick thread only
+
+        Stream(GameSession session) {
+            this.session = session;
+        }
+
+        // Snapshot a client acknowledged, if still kept; otherwise the client gets a full snapshot
+        WorldSnapshot baseline(int ackTick) {
+            if (ackTick < 0) return WorldSnapshot.EMPTY;
+            WorldSnapshot base = history[ackTick % HISTORY];
+            return base != null && base.get_tick() == ackTick ? base : WorldSnapshot.EMPTY;
+        }
+    }
+
+    /**
+     * One client socket.
+     */
+    private static final class Connection {
+        final SocketChannel channel;
+        final Protocol.FrameReader reader = new Protocol.FrameReader();
+        final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+        SelectionKey key;
+        volatile Stream stream;
+        volatile boolean controls;
+        volatile int ackTick = -1;
+        boolean joining; // Selector thread only: a session is being opened for this client
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+}
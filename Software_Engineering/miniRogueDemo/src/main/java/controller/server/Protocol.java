@@ -0,0 +1,147 @@
+package controller.server;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NEW: Wire format shared by the game server and its clients.
+ *
+ * Every message is a frame: a two-byte big-endian length, then a type byte,
+ * then the payload; the length counts the type byte and payload. Integers
+ * in payloads are unsigned LEB128 varints, and signed values are zigzag
+ * encoded first, so small numbers and small changes take one byte.
+ */
+public final class Protocol {
+    public static final int MAX_FRAME = 0xFFFF;
+
+    // Client to server
+    public static final byte JOIN = 1;    // byte mode, byte class ordinal, varint session id
+    public static final byte MOVE = 2;    // byte dx, byte dy
+    public static final byte ACTION = 3;  // varint length, UTF-8 action name
+    public static final byte ACK = 4;     // varint tick
+
+    // Server to client
+    public static final byte WELCOME = 10;  // varint session id, varint player entity id
+    public static final byte SNAPSHOT = 11; // SnapshotCodec payload
+    public static final byte REJECT = 12;   // varint length, UTF-8 reason
+
+    // JOIN modes
+    public static final byte PLAY = 0;     // Open a new session and control its player
+    public static final byte COOP = 1;     // Join an existing session and share control of its player
+    public static final byte SPECTATE = 2; // Watch an existing session
+
+    private Protocol() {
+    }
+
+    /**
+     * NEW: Start a frame; finish it with end_frame once the payload is written
+     *
+     * @return Position of the length field, for end_frame
+     */
+    public static int begin_frame(ByteBuffer out, byte type) {
+        int start = out.position();
+        out.putShort((short) 0);
+        out.put(type);
+        return start;
+    }
+
+    /**
+     * NEW: Fill in the length of a frame started with begin_frame
+     */
+    public static void end_frame(ByteBuffer out, int start) {
+        int length = out.position() - start - 2;
+        if (length > MAX_FRAME) {
+            throw new IllegalStateException("Frame too large: " + length + " bytes");
+        }
+        out.putShort(start, (short) length);
+    }
+
+    public static void put_varint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    public static int get_varint(ByteBuffer in) {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public static void put_signed(ByteBuffer out, int value) {
+        put_varint(out, (value << 1) ^ (value >> 31));
+    }
+
+    public static int get_signed(ByteBuffer in) {
+        int raw = get_varint(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public static void put_string(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        put_varint(out, bytes.length);
+        out.put(bytes);
+    }
+
+    public static String get_string(ByteBuffer in) {
+        int length = get_varint(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Malformed string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * NEW: Collects bytes read from a channel and hands back whole frames.
+     */
+    public static final class FrameReader {
+        private ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        /**
+         * NEW: Buffer to read channel bytes into; grows when a frame does not fit
+         */
+        public ByteBuffer get_buffer() {
+            if (!buffer.hasRemaining() && buffer.capacity() < MAX_FRAME + 2) {
+                ByteBuffer bigger = ByteBuffer.allocate(Math.min(buffer.capacity() * 2, MAX_FRAME + 2));
+                buffer.flip();
+                bigger.put(buffer);
+                buffer = bigger;
+            }
+            return buffer;
+        }
+
+        /**
+         * NEW: Next complete frame read so far
+         *
+         * @return Buffer holding the frame from its type byte on, or null if none is complete
+         */
+        public ByteBuffer next_frame() {
+            buffer.flip();
+            if (buffer.remaining() >= 2) {
+                int length = buffer.getShort(buffer.position()) & 0xFFFF;
+                if (buffer.remaining() >= 2 + length) {
+                    int start = buffer.position() + 2;
+                    ByteBuffer frame = buffer.duplicate();
+                    frame.position(start).limit(start + length);
+                    buffer.position(start + length);
+                    ByteBuffer copy = ByteBuffer.allocate(length);
+                    copy.put(frame).flip();
+                    buffer.compact();
+                    return copy;
+                }
+            }
+            buffer.compact();
+            return null;
+        }
+    }
+}
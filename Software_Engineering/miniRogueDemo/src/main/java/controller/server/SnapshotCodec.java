@@ -0,0 +1,195 @@
+package controller.server;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * NEW: Delta encoding of world snapshots.
+ *
+ * A snapshot is sent relative to a baseline the client already has (the
+ * last tick it acknowledged): only entities that appeared, changed or went
+ * away are written, and changed fields are written as differences from
+ * the baseline. A full snapshot is a delta against the empty snapshot.
+ *
+ * Payload: varint tick, varint baseline tick + 1 (0 for none), varint
+ * floor, varint changed count, then per changed entity a varint id gap,
+ * a field mask byte and the masked fields (x and y as signed differences,
+ * state as a varint, hp as a signed difference), then varint removed
+ * count and the removed ids as gaps.
+ */
+public final class SnapshotCodec {
+    private static final int X = 1;
+    private static final int Y = 1 << 1;
+    private static final int STATE = 1 << 2;
+    private static final int HP = 1 << 3;
+
+    // Worst case per entity: gap, mask, two positions, state and hp at five bytes each but the mask
+    private static final int MAX_ENTITY_BYTES = 26;
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * NEW: Upper bound on the encoded size of a snapshot, for sizing buffers
+     */
+    public static int max_size(WorldSnapshot base, WorldSnapshot next) {
+        return 20 + MAX_ENTITY_BYTES * (base.size() + next.size());
+    }
+
+    /**
+     * NEW: Write a snapshot as a delta from a baseline
+     *
+     * @param base Snapshot the receiver has, or EMPTY for a full snapshot
+     * @param next Snapshot to send
+     * @param out Buffer with at least max_size(base, next) bytes left
+     */
+    public static void encode(WorldSnapshot base, WorldSnapshot next, ByteBuffer out) {
+        Protocol.put_varint(out, next.get_tick());
+        Protocol.put_varint(out, base == WorldSnapshot.EMPTY ? 0 : base.get_tick() + 1);
+        Protocol.put_varint(out, next.get_floor());
+
+        // Changed count is not known until the walk is done; reserve a fixed-width slot
+        int countAt = out.position();
+        out.position(countAt + 3);
+        int changed = 0;
+        int previous = -1;
+        int b = 0;
+        for (int n = 0; n < next.size(); n++) {
+            int id = next.get_id(n);
+            while (b < base.size() && base.get_id(b) < id) b++;
+            boolean known = b < base.size() && base.get_id(b) == id;
+            int baseX = known ? base.get_x(b) : 0;
+            int baseY = known ? base.get_y(b) : 0;
+            int baseState = known ? base.get_state(b) : 0;
+            int baseHp = known ? base.get_hp(b) : 0;
+            int mask = (next.get_x(n) != baseX ? X : 0) | (next.get_y(n) != baseY ? Y : 0)
+                | (next.get_state(n) != baseState ? STATE : 0) | (next.get_hp(n) != baseHp ? HP : 0);
+            if (known && mask == 0) continue;
+            if (!known) mask = X | Y | STATE | HP; // New entities always carry every field
+
+            Protocol.put_varint(out, id - previous - 1);
+            previous = id;
+            out.put((byte) mask);
+            if ((mask & X) != 0) Protocol.put_signed(out, next.get_x(n) - baseX);
+            if ((mask & Y) != 0) Protocol.put_signed(out, next.get_y(n) - baseY);
+            if ((mask & STATE) != 0) Protocol.put_varint(out, next.get_state(n));
+            if ((mask & HP) != 0) Protocol.put_signed(out, next.get_hp(n) - baseHp);
+            changed++;
+        }
+        put_fixed_varint(out, countAt, changed);
+
+        // Removed: in the baseline but not in the new snapshot
+        countAt = out.position();
+        out.position(countAt + 3);
+        int removed = 0;
+        previous = -1;
+        int n = 0;
+        for (b = 0; b < base.size(); b++) {
+            int id = base.get_id(b);
+            while (n < next.size() && next.get_id(n) < id) n++;
+            if (n < next.size() && next.get_id(n) == id) continue;
+            Protocol.put_varint(out, id - previous - 1);
+            previous = id;
+            removed++;
+        }
+        put_fixed_varint(out, countAt, removed);
+    }
+
+    // Three-byte varint (values below 2^21), so a count can be written after the entries it counts
+    private static void put_fixed_varint(ByteBuffer out, int at, int value) {
+        out.put(at, (byte) ((value & 0x7F) | 0x80));
+        out.put(at + 1, (byte) (((value >>> 7) & 0x7F) | 0x80));
+        out.put(at + 2, (byte) ((value >>> 14) & 0x7F));
+    }
+
+    /**
+     * NEW: Baseline tick a payload was encoded against
+     *
+     * @param payload Snapshot payload; its position is not moved
+     * @return Baseline tick, or -1 for a full snapshot
+     */
+    public static int baseline_tick(ByteBuffer payload) {
+        ByteBuffer in = payload.duplicate();
+        Protocol.get_varint(in);
+        return Protocol.get_varint(in) - 1;
+    }
+
+    /**
+     * NEW: Rebuild a snapshot from its baseline and a payload
+     *
+     * @param base The baseline named in the payload, or EMPTY for a full snapshot
+     * @param in Payload written by encode
+     * @return The new snapshot
+     */
+    public static WorldSnapshot decode(WorldSnapshot base, ByteBuffer in) {
+        int tick = Protocol.get_varint(in);
+        int baseTick = Protocol.get_varint(in) - 1;
+        if (baseTick != (base == WorldSnapshot.EMPTY ? -1 : base.get_tick())) {
+            throw new IllegalArgumentException("Snapshot " + tick + " is based on tick " + baseTick
+                                               + ", not " + base.get_tick());
+        }
+        int floor = Protocol.get_varint(in);
+
+        int changed = Protocol.get_varint(in);
+        int[] changedIds = new int[changed];
+        int[] masks = new int[changed];
+        int[][] fields = new int[4][changed];
+        int previous = -1;
+        for (int c = 0; c < changed; c++) {
+            changedIds[c] = previous + 1 + Protocol.get_varint(in);
+            previous = changedIds[c];
+            masks[c] = in.get();
+            fields[0][c] = (masks[c] & X) != 0 ? Protocol.get_signed(in) : 0;
+            fields[1][c] = (masks[c] & Y) != 0 ? Protocol.get_signed(in) : 0;
+            fields[2][c] = (masks[c] & STATE) != 0 ? Protocol.get_varint(in) : 0;
+            fields[3][c] = (masks[c] & HP) != 0 ? Protocol.get_signed(in) : 0;
+        }
+        int removed = Protocol.get_varint(in);
+        int[] removedIds = new int[removed];
+        previous = -1;
+        for (int r = 0; r < removed; r++) {
+            removedIds[r] = previous + 1 + Protocol.get_varint(in);
+            previous = removedIds[r];
+        }
+
+        // Merge baseline and changes in id order, dropping removed ids
+        int capacity = base.size() + changed;
+        int[] ids = new int[capacity];
+        int[] x = new int[capacity];
+        int[] y = new int[capacity];
+        int[] state = new int[capacity];
+        int[] hp = new int[capacity];
+        int size = 0;
+        int b = 0;
+        int c = 0;
+        int r = 0;
+        while (b < base.size() || c < changed) {
+            int baseId = b < base.size() ? base.get_id(b) : Integer.MAX_VALUE;
+            int changeId = c < changed ? changedIds[c] : Integer.MAX_VALUE;
+            int id = Math.min(baseId, changeId);
+            boolean known = baseId == id;
+            int ex = known ? base.get_x(b) : 0;
+            int ey = known ? base.get_y(b) : 0;
+            int es = known ? base.get_state(b) : 0;
+            int eh = known ? base.get_hp(b) : 0;
+            if (known) b++;
+            if (changeId == id) {
+                ex += fields[0][c];
+                ey += fields[1][c];
+                if ((masks[c] & STATE) != 0) es = fields[2][c];
+                eh += fields[3][c];
+                c++;
+            }
+            while (r < removed && removedIds[r] < id) r++;
+            if (r < removed && removedIds[r] == id) continue;
+            ids[size] = id;
+            x[size] = ex;
+            y[size] = ey;
+            state[size] = es;
+            hp[size] = eh;
+            size++;
+        }
+        return new WorldSnapshot(tick, floor, Arrays.copyOf(ids, size), Arrays.copyOf(x, size), Arrays.copyOf(y, size),
+                                 Arrays.copyOf(state, size), Arrays.copyOf(hp, size));
+    }
+}
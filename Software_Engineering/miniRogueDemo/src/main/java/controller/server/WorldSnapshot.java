@@ -0,0 +1,153 @@
+package controller.server;
+
+import model.characters.Boss;
+import model.characters.Enemy;
+import model.characters.Player;
+import model.gameLogic.GameLogic;
+import model.gameLogic.GameSession;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NEW: What clients see of one session at one tick: every character as an
+ * entity id, a quantised position, state bits and hit points.
+ *
+ * The player is entity 0 and enemies are their entity store id plus one.
+ * Entities are kept sorted by id so two snapshots can be compared in one
+ * pass. Positions are in quarter pixels. Snapshots are immutable once built.
+ */
+public final class WorldSnapshot {
+    public static final int QUANTUM = 4; // Position units per pixel
+    public static final int PLAYER_ID = 0;
+
+    // State bits
+    public static final int ALIVE = 1;
+    public static final int IMMUNE = 1 << 1;
+    public static final int HIT = 1 << 2;
+    public static final int WIND_UP = 1 << 3;
+    public static final int DYING = 1 << 4;
+    public static final int BOSS = 1 << 5;
+    public static final int PLAYER = 1 << 6;
+    public static final int FACING_SHIFT = 8; // Player facing: (dx + 1) * 3 + (dy + 1)
+
+    public static final WorldSnapshot EMPTY = new WorldSnapshot(-1, 0, new int[0], new int[0], new int[0], new int[0], new int[0]);
+
+    private final int tick;
+    private final int floor;
+    private final int[] ids;
+    private final int[] x;
+    private final int[] y;
+    private final int[] state;
+    private final int[] hp;
+
+    /**
+     * NEW: Constructor for WorldSnapshot; takes ownership of the arrays
+     *
+     * @param tick Session tick the snapshot was taken at
+     * @param floor Floor number
+     * @param ids Entity ids in ascending order
+     * @param x Quantised x per entity
+     * @param y Quantised y per entity
+     * @param state State bits per entity
+     * @param hp Hit points per entity
+     */
+    public WorldSnapshot(int tick, int floor, int[] ids, int[] x, int[] y, int[] state, int[] hp) {
+        this.tick = tick;
+        this.floor = floor;
+        this.ids = ids;
+        this.x = x;
+        this.y = y;
+        this.state = state;
+        this.hp = hp;
+    }
+
+    /**
+     * NEW: Snapshot a session's characters
+     *
+     * @param tick Tick number to stamp on the snapshot
+     * @param session Session to read; read under its lock
+     * @return The snapshot, or null if the session has been disposed
+     */
+    public static WorldSnapshot capture(int tick, GameSession session) {
+        return session.read(s -> s.is_disposed() ? null : capture(tick, s.get_logic()));
+    }
+
+    /**
+     * NEW: Snapshot a game's characters; call from the thread that updates it
+     *
+     * @param tick Tick number to stamp on the snapshot
+     * @param logic Game to read
+     * @return The snapshot
+     */
+    public static WorldSnapshot capture(int tick, GameLogic logic) {
+        Player player = logic.get_player();
+        List<Enemy> enemies = logic.get_current_enemies();
+        int count = 1 + enemies.size();
+        int[] ids = new int[count];
+        int[] x = new int[count];
+        int[] y = new int[count];
+        int[] state = new int[count];
+        int[] hp = new int[count];
+
+        ids[0] = PLAYER_ID;
+        x[0] = quantise(player.getPixelX());
+        y[0] = quantise(player.getPixelY());
+        int facing = (Integer.signum(player.getLastMoveDX()) + 1) * 3 + Integer.signum(player.getLastMoveDY()) + 1;
+        state[0] = PLAYER | (player.is_alive() ? ALIVE : 0) | (player.isImmune() ? IMMUNE : 0) | facing << FACING_SHIFT;
+        hp[0] = player.get_current_hp();
+
+        // Sort enemies by id, keeping their list index in the low bits
+        long[] order = new long[enemies.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = ((long) (enemies.get(i).get_entity_id() + 1) << 32) | i;
+        }
+        Arrays.sort(order);
+        for (int k = 0; k < order.length; k++) {
+            Enemy enemy = enemies.get((int) order[k]);
+            int i = k + 1;
+            ids[i] = (int) (order[k] >>> 32);
+            x[i] = quantise(enemy.getPixelX());
+            y[i] = quantise(enemy.getPixelY());
+            state[i] = (enemy.is_alive() ? ALIVE : 0) | (enemy.isImmune() ? IMMUNE : 0)
+                | (enemy.isInHitState() ? HIT : 0) | (enemy.isInWindUpState() ? WIND_UP : 0)
+                | (enemy.isDying() ? DYING : 0) | (enemy instanceof Boss ? BOSS : 0);
+            hp[i] = enemy.get_current_hp();
+        }
+        return new WorldSnapshot(tick, logic.get_current_floor(), ids, x, y, state, hp);
+    }
+
+    private static int quantise(float pixels) {
+        return Math.round(pixels * QUANTUM);
+    }
+
+    /**
+     * NEW: Index of an entity, or a negative value if it is not in the snapshot
+     */
+    public int index_of(int id) {
+        return Arrays.binarySearch(ids, id);
+    }
+
+    public int get_tick() { return tick; }
+    public int get_floor() { return floor; }
+    public int size() { return ids.length; }
+    public int get_id(int index) { return ids[index]; }
+    public int get_x(int index) { return x[index]; }
+    public int get_y(int index) { return y[index]; }
+    public int get_state(int index) { return state[index]; }
+    public int get_hp(int index) { return hp[index]; }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof WorldSnapshot)) return false;
+        WorldSnapshot that = (WorldSnapshot) other;
+        return tick == that.tick && floor == that.floor && Arrays.equals(ids, that.ids) && Arrays.equals(x, that.x)
+            && Arrays.equals(y, that.y) && Arrays.equals(state, that.state) && Arrays.equals(hp, that.hp);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * tick + floor) + Arrays.hashCode(ids);
+    }
+}
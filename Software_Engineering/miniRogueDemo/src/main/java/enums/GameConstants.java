@@ -12,18 +12,14 @@ public final class GameConstants {
     public static final int ROOM_MIN_SIZE = 4;
     public static final int ROOM_MAX_SIZE = 10;
     public static final int MAX_ROOMS = 15;
+    public static final int FOV_RANGE_DEFAULT = 2;
+    public static final int FOV_RANGE_CLARITY = 4;
 
     // MANDATORY: Game Balance
     public static final int STARTING_LEVEL = 1;
-    public static final int MAX_LEVEL = 20;
     public static final int BASE_EXPERIENCE = 100;
     public static final int EXPERIENCE_MULTIPLIER = 150;
 
-    // MANDATORY: Combat Constants
-    public static final int CRITICAL_HIT_CHANCE = 10; // 10%
-    public static final double CRITICAL_HIT_MULTIPLIER = 1.5;
-    public static final int MISS_CHANCE = 5; // 5%
-
     // MANDATORY: UI Constants
     public static final int SCALING_FACTOR = 2;
     public static final int WINDOW_WIDTH = 1150; // Reduced from 1200 to 1150 to bring border further in
@@ -35,6 +31,16 @@ public final class GameConstants {
     public static final int ENEMY_AI_DELAY = 500; // milliseconds
     public static final int GAME_UPDATE_DELAY = 16; // ~60 FPS
 
+    // NEW: Enemy AI level of detail (tile distances from the player)
+    public static final int AI_LOD_FULL_RADIUS = 6;
+    public static final int AI_LOD_WAKE_RADIUS = 10;
+    public static final int AI_LOD_REDUCED_RADIUS = 14; // roughly the edge of the visible play area
+    public static final int AI_LOD_REDUCED_INTERVAL = 4; // frames between full updates
+    public static final int AI_LOD_ATTACK_NOISE_RADIUS = 8;
+
+    // NEW: Region sleep (graph distance in rooms/corridor runs from the player's region)
+    public static final int REGION_WAKE_DISTANCE = 2;
+
     // MANDATORY: Inventory Configuration
     public static final int UNLIMITED_INVENTORY = -1;
     public static final int MAX_EQUIPMENT_LEVEL = 5;
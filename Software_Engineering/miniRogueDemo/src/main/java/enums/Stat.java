@@ -0,0 +1,39 @@
+package enums;
+
+/**
+ * Enumeration of the stats equipment can modify.
+ * The ordinal indexes the primitive modifier arrays kept by equipment and
+ * characters; the label is the name shown in the UI.
+ */
+public enum Stat {
+    ATTACK("Attack"),
+    DEFENSE("Defense"),
+    SPEED("Speed"),
+    RANGE("Range"),
+    MANA("Mana"),
+    HEALTH("Health");
+
+    public static final int COUNT = values().length;
+
+    private final String label;
+
+    Stat(String label) {
+        this.label = label;
+    }
+
+    public String get_label() {
+        return label;
+    }
+
+    /**
+     * Find a stat by its UI label
+     *
+     * @return The stat, or null for an unknown label
+     */
+    public static Stat from_label(String label) {
+        for (Stat stat : values()) {
+            if (stat.label.equals(label)) return stat;
+        }
+        return null;
+    }
+}
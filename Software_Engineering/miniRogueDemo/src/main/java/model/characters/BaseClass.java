@@ -3,6 +3,7 @@ package model.characters;
 import enums.CharacterClass;
 import model.equipment.Weapon;
 import model.equipment.Armor;
+import utilities.ConfigSnapshot;
 
 public abstract class BaseClass {
     protected int baseHp;
@@ -21,6 +22,11 @@ public abstract class BaseClass {
 
     public BaseClass(CharacterClass classType) {
         this.classType = classType;
+        // Health, mana and attack are balance values the designers tune in the configuration
+        ConfigSnapshot.ClassStats stats = ConfigSnapshot.GameSettings.current().get_class_stats(classType);
+        this.baseHp = stats.get_health();
+        this.baseMp = stats.get_mana();
+        this.baseAtk = stats.get_attack();
         setBaseStats();
     }
 
@@ -1,6 +1,7 @@
 package model.characters;
 
 import enums.CharacterClass;
+import utilities.ConfigSnapshot;
 import utilities.Position;
 import model.items.Item;
 import model.items.Consumable;
@@ -19,8 +20,6 @@ public class Boss extends Enemy {
 
     // Boss-specific attributes
     private static final float BOSS_SIZE_MULTIPLIER = 2.0f; // Twice as big visually
-    private static final float BOSS_HP_MODIFIER = 1.5f; // Additional 1.5x HP on top of enemy base
-    private static final float BOSS_ATK_MODIFIER = 1.5f; // Additional 1.5x ATK on top of enemy base
     private static final float BOSS_RANGE_MODIFIER = 0.8f; // 20% shorter range (0.8x)
     private static final float BOSS_SPEED_MODIFIER = 0.8f; // 20% slower (0.8x)
     private static final float BOSS_VISION_MODIFIER = 1.3f; // 30% increased vision range (1.3x)
@@ -43,9 +42,10 @@ public class Boss extends Enemy {
      */
     private void enhance_boss_stats() {
         // Apply additional boss modifiers on top of enemy base stats
-        this.maxHp = (int)(maxHp * BOSS_HP_MODIFIER);
+        ConfigSnapshot.GameSettings settings = ConfigSnapshot.GameSettings.current();
+        this.maxHp = (int)(maxHp * settings.get_boss_health_multiplier());
         this.currentHp = maxHp;
-        this.baseAtk = (int)(baseAtk * BOSS_ATK_MODIFIER);
+        this.baseAtk = (int)(baseAtk * settings.get_boss_damage_multiplier());
         // Apply speed modifier (20% slower) - use the setter method
         this.setMoveSpeed(this.getMoveSpeed() * BOSS_SPEED_MODIFIER);
         // Update experience value for enhanced stats
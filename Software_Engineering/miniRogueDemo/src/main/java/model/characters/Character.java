@@ -4,6 +4,10 @@ import interfaces.GameModel;
 import interfaces.GameObserver;
 import enums.CharacterClass;
 import utilities.Position;
+import utilities.GameClock;
+import enums.Stat;
+import model.effects.StatusEffect;
+import model.effects.StatusEffects;
 import model.equipment.Weapon;
 import model.equipment.Armor;
 import model.items.Item;
@@ -37,15 +41,28 @@ public abstract class Character implements GameModel {
     // MANDATORY: Observer pattern implementation
     protected List<GameObserver> observers;
 
-    // Pushback state
-    protected boolean isBeingPushed = false;
-    protected float pushDirectionX = 0f, pushDirectionY = 0f;
-    protected float pushDistanceRemaining = 0f;
-    protected float pushSpeed = 0f;
+    // Game time source for every timer on this character; the game injects its own
+    protected GameClock clock = GameClock.system();
 
-    // Immunity state
-    protected boolean isImmune = false;
-    protected long immunityEndTime = 0;
+    // NEW: Cached equipment-derived stats; see derived_stats()
+    private volatile DerivedStats derivedStats;
+    private volatile boolean statsDirty = true;
+
+    // NEW: Timed buffs, debuffs and temporary states, expired once per tick
+    protected final StatusEffects effects = new StatusEffects(new StatusEffects.Listener() {
+        @Override
+        public void on_effect_started(StatusEffect effect, int stacks, long durationMs) {
+            on_status_effect_started(effect, stacks, durationMs);
+        }
+
+        @Override
+        public void on_effect_ended(StatusEffect effect, long now) {
+            on_status_effect_ended(effect, now);
+        }
+    });
+
+    // NEW: Row holding pushback, immunity and other timed state; detached until a game adds this character
+    private volatile CharacterComponents.Row components = CharacterComponents.detached_row(this, effects);
 
     // Pixel-based movement fields
     protected float pixelX, pixelY;
@@ -156,8 +173,8 @@ public abstract class Character implements GameModel {
      * @return Total attack value
      */
     public int get_total_attack() {
-        float equipmentModifier = getEquipmentAttackModifier();
-        return (int)(baseAtk + equipmentModifier);
+        // Base attack is read live, so level-ups and scaling never need an invalidation
+        return (int)(baseAtk + derived_stats().modifiers[Stat.ATTACK.ordinal()]);
     }
 
     /**
@@ -166,106 +183,115 @@ public abstract class Character implements GameModel {
      * @return Total defense value
      */
     public int get_total_defense() {
-        int armorDefense = (equippedArmor != null) ? equippedArmor.get_defense_value() : 0;
-        return armorDefense;
+        return derived_stats().armorDefense;
+    }
+
+    /**
+     * NEW: Summed equipment modifier for one stat
+     */
+    public float get_equipment_modifier(Stat stat) {
+        return derived_stats().modifiers[stat.ordinal()];
+    }
+
+    /**
+     * NEW: Mark the derived stats stale; the next read recomputes them
+     */
+    public void invalidate_stats() {
+        statsDirty = true;
+    }
+
+    /**
+     * Cached equipment totals, rebuilt only when they were invalidated or the
+     * equipped items (or their modifier versions) differ from the snapshot
+     */
+    private DerivedStats derived_stats() {
+        DerivedStats current = derivedStats;
+        Weapon weapon = equippedWeapon;
+        Armor armor = equippedArmor;
+        if (!statsDirty && current != null && current.matches(weapon, armor)) {
+            return current;
+        }
+        statsDirty = false;
+        DerivedStats rebuilt = new DerivedStats(weapon, armor);
+        derivedStats = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * Immutable snapshot of equipment modifiers, published whole so readers
+     * on other threads never see a half-updated array
+     */
+    private static final class DerivedStats {
+        final Weapon weapon;
+        final Armor armor;
+        final int weaponVersion;
+        final int armorVersion;
+        final float[] modifiers = new float[Stat.COUNT];
+        final int armorDefense;
+
+        DerivedStats(Weapon weapon, Armor armor) {
+            this.weapon = weapon;
+            this.armor = armor;
+            this.weaponVersion = weapon != null ? weapon.get_modifier_version() : 0;
+            this.armorVersion = armor != null ? armor.get_modifier_version() : 0;
+            for (Stat stat : Stat.values()) {
+                float modifier = 0.0f;
+                if (weapon != null) modifier += weapon.get_stat_modifier(stat);
+                if (armor != null) modifier += armor.get_stat_modifier(stat);
+                modifiers[stat.ordinal()] = modifier;
+            }
+            this.armorDefense = armor != null ? armor.get_defense_value() : 0;
+        }
+
+        boolean matches(Weapon w, Armor a) {
+            return w == weapon && a == armor
+                && (w == null || w.get_modifier_version() == weaponVersion)
+                && (a == null || a.get_modifier_version() == armorVersion);
+        }
     }
     
     /**
      * Get equipment modifier for attack stat
      */
     public float getEquipmentAttackModifier() {
-        float modifier = 0.0f;
-        if (equippedWeapon != null) {
-            Float weaponModifier = equippedWeapon.get_stat_modifiers().get("Attack");
-            if (weaponModifier != null) modifier += weaponModifier;
-        }
-        if (equippedArmor != null) {
-            Float armorModifier = equippedArmor.get_stat_modifiers().get("Attack");
-            if (armorModifier != null) modifier += armorModifier;
-        }
-        return modifier;
+        return get_equipment_modifier(Stat.ATTACK);
     }
     
     /**
      * Get equipment modifier for defense stat
      */
     public float getEquipmentDefenseModifier() {
-        float modifier = 0.0f;
-        if (equippedWeapon != null) {
-            Float weaponModifier = equippedWeapon.get_stat_modifiers().get("Defense");
-            if (weaponModifier != null) modifier += weaponModifier;
-        }
-        if (equippedArmor != null) {
-            Float armorModifier = equippedArmor.get_stat_modifiers().get("Defense");
-            if (armorModifier != null) modifier += armorModifier;
-        }
-        return modifier;
+        return get_equipment_modifier(Stat.DEFENSE);
     }
     
     /**
      * Get equipment modifier for speed stat
      */
     public float getEquipmentSpeedModifier() {
-        float modifier = 0.0f;
-        if (equippedWeapon != null) {
-            Float weaponModifier = equippedWeapon.get_stat_modifiers().get("Speed");
-            if (weaponModifier != null) modifier += weaponModifier;
-        }
-        if (equippedArmor != null) {
-            Float armorModifier = equippedArmor.get_stat_modifiers().get("Speed");
-            if (armorModifier != null) modifier += armorModifier;
-        }
-        return modifier;
+        return get_equipment_modifier(Stat.SPEED);
     }
     
     /**
      * Get equipment modifier for range stat
      */
     public float getEquipmentRangeModifier() {
-        float modifier = 0.0f;
-        if (equippedWeapon != null) {
-            Float weaponModifier = equippedWeapon.get_stat_modifiers().get("Range");
-            if (weaponModifier != null) modifier += weaponModifier;
-        }
-        if (equippedArmor != null) {
-            Float armorModifier = equippedArmor.get_stat_modifiers().get("Range");
-            if (armorModifier != null) modifier += armorModifier;
-        }
-        return modifier;
+        return get_equipment_modifier(Stat.RANGE);
     }
     
     /**
      * Get equipment modifier for mana stat
      */
     public float getEquipmentManaModifier() {
-        float modifier = 0.0f;
-        if (equippedWeapon != null) {
-            Float weaponModifier = equippedWeapon.get_stat_modifiers().get("Mana");
-            if (weaponModifier != null) modifier += weaponModifier;
-        }
-        if (equippedArmor != null) {
-            Float armorModifier = equippedArmor.get_stat_modifiers().get("Mana");
-            if (armorModifier != null) modifier += armorModifier;
-        }
-        return modifier;
+        return get_equipment_modifier(Stat.MANA);
     }
     
     /**
      * Get equipment modifier for health stat
      */
     public float getEquipmentHealthModifier() {
-        float modifier = 0.0f;
-        if (equippedWeapon != null) {
-            Float weaponModifier = equippedWeapon.get_stat_modifiers().get("Health");
-            if (weaponModifier != null) modifier += weaponModifier;
-        }
-        if (equippedArmor != null) {
-            Float armorModifier = equippedArmor.get_stat_modifiers().get("Health");
-            if (armorModifier != null) modifier += armorModifier;
-        }
-        return modifier;
+        return get_equipment_modifier(Stat.HEALTH);
     }
-
+    
     /**
      * MANDATORY: Check if character is alive
      *
@@ -286,84 +312,161 @@ public abstract class Character implements GameModel {
 
 
     public void triggerPushback(float directionX, float directionY, float distance, float speed) {
-        this.isBeingPushed = true;
         float len = (float)Math.sqrt(directionX*directionX + directionY*directionY);
         if (len == 0) { directionX = 0; directionY = 1; len = 1; }
-        this.pushDirectionX = directionX / len;
-        this.pushDirectionY = directionY / len;
-        this.pushDistanceRemaining = distance;
-        this.pushSpeed = speed;
+        CharacterComponents.Row row = components;
+        row.components.start_pushback(row.entity, directionX / len, directionY / len, distance, speed);
     }
 
-    // Refactored: updatePushback with map collision check
+    // Pushback with map collision check; hitting a wall stops it and extends immunity by half
     public void updatePushback(model.map.Map map) {
-        if (isBeingPushed) {
-            float move = Math.min(pushSpeed, pushDistanceRemaining);
-            float nextPixelX = 0f, nextPixelY = 0f;
-            if (this instanceof model.characters.Player) {
-                model.characters.Player p = (model.characters.Player)this;
-                nextPixelX = p.getPixelX() + move * pushDirectionX;
-                nextPixelY = p.getPixelY() + move * pushDirectionY;
-            } else if (this instanceof model.characters.Enemy) {
-                model.characters.Enemy e = (model.characters.Enemy)this;
-                nextPixelX = e.getPixelX() + move * pushDirectionX;
-                nextPixelY = e.getPixelY() + move * pushDirectionY;
-            }
-            int nextTileX = (int)Math.floor(nextPixelX / enums.GameConstants.TILE_SIZE);
-            int nextTileY = (int)Math.floor(nextPixelY / enums.GameConstants.TILE_SIZE);
-            boolean canMove = (map != null) && utilities.Collision.isWalkable(map, nextTileX, nextTileY);
-            if (canMove) {
-                if (this instanceof model.characters.Player) {
-                    model.characters.Player p = (model.characters.Player)this;
-                    p.setPixelX(nextPixelX);
-                    p.setPixelY(nextPixelY);
-                } else if (this instanceof model.characters.Enemy) {
-                    model.characters.Enemy e = (model.characters.Enemy)this;
-                    e.setPixelX(nextPixelX);
-                    e.setPixelY(nextPixelY);
-                }
-                pushDistanceRemaining -= move;
-                if (pushDistanceRemaining <= 0) {
-                    isBeingPushed = false;
-                }
-            } else {
-                // Hit a wall: stop pushback and increase immunity by 50%
-                isBeingPushed = false;
-                if (this instanceof model.characters.Enemy) {
-                    model.characters.Enemy e = (model.characters.Enemy)this;
-                    if (e.isImmune) {
-                        long remaining = e.immunityEndTime - System.currentTimeMillis();
-                        if (remaining > 0) {
-                            e.immunityEndTime += remaining / 2;
-                        }
-                    }
-                } else if (this instanceof model.characters.Player) {
-                    model.characters.Player p = (model.characters.Player)this;
-                    if (p.isImmune) {
-                        long remaining = p.immunityEndTime - System.currentTimeMillis();
-                        if (remaining > 0) {
-                            p.immunityEndTime += remaining / 2;
-                        }
-                    }
-                }
-            }
+        CharacterComponents.Row row = components;
+        row.components.step_pushback(row.entity, map, clock.now());
+    }
+
+    public boolean isBeingPushed() { return has_component_flag(CharacterComponents.PUSHED); }
+
+    /**
+     * NEW: Move this character's timed state into a game's component store,
+     * whose systems then update it along with everything else on the floor
+     *
+     * @param target Component columns of the game's store
+     */
+    public void attach_components(CharacterComponents target) {
+        CharacterComponents.Row row = components;
+        if (row.components != target) {
+            components = target.move_here(row);
+        }
+    }
+
+    /**
+     * NEW: Move this character's timed state back into a row of its own, as
+     * when it leaves the floor
+     */
+    public void detach_components() {
+        CharacterComponents.Row row = components;
+        if (!row.is_detached()) {
+            components = row.components.move_out(row);
         }
     }
 
+    /**
+     * NEW: Entity id of this character's row in a game's store
+     *
+     * @return Entity id, or -1 while detached
+     */
+    public int get_component_entity() {
+        CharacterComponents.Row row = components;
+        return row.is_detached() ? -1 : row.entity;
+    }
 
+    /**
+     * NEW: Run the status-timer and pushback systems over this character's
+     * own row when it is not on a floor; on a floor the game runs them for
+     * every row at once before characters move
+     *
+     * @param map Floor to check pushback against
+     */
+    protected void update_detached_components(model.map.Map map) {
+        CharacterComponents.Row row = components;
+        if (row.is_detached()) {
+            long now = clock.now();
+            row.components.update_status_timers(now);
+            row.components.update_pushback(map, now);
+        }
+    }
 
-    public boolean isBeingPushed() { return isBeingPushed; }
+    // NEW: Row accessors for subclasses that keep their own timed state in the store
+    boolean has_component_flag(int flag) {
+        CharacterComponents.Row row = components;
+        return row.components.has(row.entity, flag);
+    }
+
+    void set_component_flag(int flag, boolean on) {
+        CharacterComponents.Row row = components;
+        row.components.set(row.entity, flag, on);
+    }
+
+    long get_component_time(int slot) {
+        CharacterComponents.Row row = components;
+        return row.components.get_time(row.entity, slot);
+    }
+
+    void set_component_time(int slot, long value) {
+        CharacterComponents.Row row = components;
+        row.components.set_time(row.entity, slot, value);
+    }
+
+    void start_component_timer(int flag, int slot, long time) {
+        CharacterComponents.Row row = components;
+        row.components.set_with_time(row.entity, flag, slot, time);
+    }
+
+    float get_component_float(int slot) {
+        CharacterComponents.Row row = components;
+        return row.components.get_float(row.entity, slot);
+    }
+
+    void set_component_float(int slot, float value) {
+        CharacterComponents.Row row = components;
+        row.components.set_float(row.entity, slot, value);
+    }
+
+    int get_component_int(int slot) {
+        CharacterComponents.Row row = components;
+        return row.components.get_int(row.entity, slot);
+    }
+
+    CharacterComponents.Row get_component_row() { return components; }
+
+    /**
+     * NEW: Use a game's clock for this character's timers
+     *
+     * @param clock Clock to read game time from
+     */
+    public void set_clock(GameClock clock) {
+        this.clock = clock != null ? clock : GameClock.system();
+    }
+
+    public GameClock get_clock() { return clock; }
+
+    public StatusEffects get_status_effects() { return effects; }
+
+    /**
+     * NEW: Called after an effect starts or stacks; sends the effect's start event
+     *
+     * @param effect Effect that was applied
+     * @param stacks Stack count after this application
+     * @param durationMs Duration of this application
+     */
+    protected void on_status_effect_started(StatusEffect effect, int stacks, long durationMs) {
+        invalidate_stats();
+        if (effect.get_start_event() != null) {
+            notify_observers(effect.get_start_event(), (int) (durationMs / 1000));
+        }
+    }
+
+    /**
+     * NEW: Called after an effect runs out or is ended; sends the effect's end event
+     *
+     * @param effect Effect that ended
+     * @param now Game time it was processed at
+     */
+    protected void on_status_effect_ended(StatusEffect effect, long now) {
+        invalidate_stats();
+        if (effect.get_end_event() != null) {
+            notify_observers(effect.get_end_event(), null);
+        }
+    }
 
     public void setImmune(long durationMs) {
-        isImmune = true;
-        immunityEndTime = System.currentTimeMillis() + durationMs;
+        start_component_timer(CharacterComponents.IMMUNE, CharacterComponents.IMMUNITY_END, clock.now() + durationMs);
     }
     public void updateImmunity() {
-        if (isImmune && System.currentTimeMillis() >= immunityEndTime) {
-            isImmune = false;
-        }
+        CharacterComponents.Row row = components;
+        row.components.expire_immunity(row.entity, clock.now());
     }
-    public boolean isImmune() { return isImmune; }
+    public boolean isImmune() { return has_component_flag(CharacterComponents.IMMUNE); }
 
     // MANDATORY: Observer pattern implementation
     @Override
@@ -401,11 +504,13 @@ public abstract class Character implements GameModel {
 
     public void set_equipped_weapon(Weapon weapon) {
         this.equippedWeapon = weapon;
+        invalidate_stats();
         notify_observers("WEAPON_EQUIPPED", weapon);
     }
 
     public void set_equipped_armor(Armor armor) {
         this.equippedArmor = armor;
+        invalidate_stats();
         notify_observers("ARMOR_EQUIPPED", armor);
     }
 } 
\ No newline at end of file
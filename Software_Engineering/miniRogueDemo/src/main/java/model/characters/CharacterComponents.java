@@ -0,0 +1,444 @@
+package model.characters;
+
+import model.effects.StatusEffects;
+import model.entity.EntityStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NEW: Timers and short-lived states of characters, stored as columns of an
+ * EntityStore.
+ *
+ * Pushback, immunity, hit, dying, wind-up and fade state live in one row per
+ * character, and the matching methods on Character, Enemy and Upgrader are
+ * thin accessors over that row. Characters on a floor share the game's
+ * store, so the status-timer and pushback systems update every one of them
+ * in a single pass over the columns. A character that is not on a floor (a
+ * new one, or one built by a test) keeps a detached row in a one-row store
+ * of its own and runs the same systems on it; the game moves the row into
+ * its store when it adds the character and back out when it removes it.
+ *
+ * Small flags share one bit-flag column; times, floats and ints are grouped
+ * into column arrays addressed by the slot constants below.
+ */
+public class CharacterComponents {
+
+    // Bits of the flags column
+    static final int PUSHED = 1;
+    static final int IMMUNE = 1 << 1;
+    static final int DYING = 1 << 2;
+    static final int WIND_UP = 1 << 3;
+    static final int VISIBLE = 1 << 4;
+    static final int DISAPPEARING = 1 << 5;
+
+    // Slots of the time columns
+    static final int IMMUNITY_END = 0;
+    static final int HIT_IMMUNITY_END = 1;
+    static final int DYING_START = 2;
+    static final int WIND_UP_START = 3;
+    static final int DISAPPEARING_START = 4;
+    private static final int TIME_SLOTS = 5;
+
+    // Slots of the float columns
+    static final int PUSH_DIR_X = 0;
+    static final int PUSH_DIR_Y = 1;
+    static final int PUSH_REMAINING = 2;
+    static final int PUSH_SPEED = 3;
+    static final int WIND_UP_PRECISE_X = 4;
+    static final int WIND_UP_PRECISE_Y = 5;
+    static final int TRANSPARENCY = 6;
+    private static final int FLOAT_SLOTS = 7;
+
+    // Slots of the int columns
+    static final int WIND_UP_AIM_X = 0;
+    static final int WIND_UP_AIM_Y = 1;
+    private static final int INT_SLOTS = 2;
+
+    /**
+     * NEW: Where one character's components live
+     */
+    static final class Row {
+        final CharacterComponents components;
+        final int entity;
+
+        Row(CharacterComponents components, int entity) {
+            this.components = components;
+            this.entity = entity;
+        }
+
+        boolean is_detached() {
+            return components.detached;
+        }
+    }
+
+    /**
+     * NEW: Reads one character's row inside read_rows, with its store locked
+     */
+    interface RowReader {
+        void read(int index, CharacterComponents components, int row);
+    }
+
+    private final EntityStore store;
+    private final boolean detached;
+    private final EntityStore.ObjectColumn<Character> owners;
+    private final EntityStore.ObjectColumn<StatusEffects> effects;
+    private final EntityStore.IntColumn flags;
+    private final EntityStore.LongColumn[] times = new EntityStore.LongColumn[TIME_SLOTS];
+    private final EntityStore.FloatColumn[] floats = new EntityStore.FloatColumn[FLOAT_SLOTS];
+    private final EntityStore.IntColumn[] ints = new EntityStore.IntColumn[INT_SLOTS];
+    // Same order in every instance, so a row can be copied column by column
+    private final List<EntityStore.Column> columns = new ArrayList<>();
+
+    /**
+     * NEW: Constructor for CharacterComponents
+     *
+     * @param store Store to add the character columns to
+     */
+    public CharacterComponents(EntityStore store) {
+        this(store, false);
+    }
+
+    private CharacterComponents(EntityStore store, boolean detached) {
+        this.store = store;
+        this.detached = detached;
+        this.owners = add(new EntityStore.ObjectColumn<>());
+        this.effects = add(new EntityStore.ObjectColumn<>());
+        this.flags = add(new EntityStore.IntColumn(VISIBLE));
+        for (int slot = 0; slot < TIME_SLOTS; slot++) {
+            times[slot] = add(new EntityStore.LongColumn(0L));
+        }
+        for (int slot = 0; slot < FLOAT_SLOTS; slot++) {
+            boolean one = slot == WIND_UP_PRECISE_Y || slot == TRANSPARENCY;
+            floats[slot] = add(new EntityStore.FloatColumn(one ? 1f : 0f));
+        }
+        for (int slot = 0; slot < INT_SLOTS; slot++) {
+            ints[slot] = add(new EntityStore.IntColumn(slot == WIND_UP_AIM_Y ? 1 : 0));
+        }
+    }
+
+    private <C extends EntityStore.Column> C add(C column) {
+        columns.add(column);
+        return store.add_column(column);
+    }
+
+    public EntityStore get_store() { return store; }
+
+    /**
+     * NEW: A fresh row in a one-row store of its own, for a character that
+     * is not on a floor
+     */
+    static Row detached_row(Character owner, StatusEffects ownerEffects) {
+        CharacterComponents components = new CharacterComponents(new EntityStore(1), true);
+        return new Row(components, components.create(owner, ownerEffects));
+    }
+
+    private int create(Character owner, StatusEffects ownerEffects) {
+        synchronized (store) {
+            int entity = store.create();
+            int row = store.index_of(entity);
+            owners.set(row, owner);
+            effects.set(row, ownerEffects);
+            return entity;
+        }
+    }
+
+    /**
+     * NEW: Copy a row from another component set into a new row here and
+     * drop the old one
+     *
+     * @param from Row to move
+     * @return The new row
+     */
+    Row move_here(Row from) {
+        int entity;
+        synchronized (store) {
+            entity = store.create();
+            synchronized (from.components.store) {
+                int source = from.components.store.index_of(from.entity);
+                int target = store.index_of(entity);
+                if (source >= 0) {
+                    for (int i = 0; i < columns.size(); i++) {
+                        from.components.columns.get(i).copy_to(source, columns.get(i), target);
+                    }
+                }
+            }
+        }
+        from.components.store.destroy(from.entity);
+        return new Row(this, entity);
+    }
+
+    /**
+     * NEW: Detached copy of a row that is leaving this store; the row here
+     * is dropped
+     */
+    Row move_out(Row from) {
+        Row copy;
+        synchronized (store) {
+            Character owner = owners.get(store.index_of(from.entity));
+            StatusEffects ownerEffects = effects.get(store.index_of(from.entity));
+            copy = detached_row(owner, ownerEffects);
+        }
+        return copy.components.move_here(from);
+    }
+
+    // Row accessors; a row that no longer exists reads as defaults and ignores writes
+
+    boolean has(int entity, int flag) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            return row >= 0 && (flags.get(row) & flag) != 0;
+        }
+    }
+
+    void set(int entity, int flag, boolean on) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                flags.set(row, on ? flags.get(row) | flag : flags.get(row) & ~flag);
+            }
+        }
+    }
+
+    long get_time(int entity, int slot) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            return row >= 0 ? times[slot].get(row) : 0L;
+        }
+    }
+
+    void set_time(int entity, int slot, long value) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                times[slot].set(row, value);
+            }
+        }
+    }
+
+    float get_float(int entity, int slot) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            return row >= 0 ? floats[slot].get(row) : 0f;
+        }
+    }
+
+    void set_float(int entity, int slot, float value) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                floats[slot].set(row, value);
+            }
+        }
+    }
+
+    int get_int(int entity, int slot) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            return row >= 0 ? ints[slot].get(row) : 0;
+        }
+    }
+
+    void set_int(int entity, int slot, int value) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                ints[slot].set(row, value);
+            }
+        }
+    }
+
+    // Unlocked row reads for RowReader, which runs with the store locked
+    int flags_at(int row) { return flags.get(row); }
+    long time_at(int row, int slot) { return times[slot].get(row); }
+
+    /**
+     * NEW: Read the rows of many characters, locking each store once for
+     * every run of consecutive characters that share it instead of once per
+     * read. Characters whose row is gone are skipped.
+     *
+     * @param characters Characters to read, in the order indices are passed to the reader
+     * @param reader Called once per character with its index in the list
+     */
+    static void read_rows(List<? extends Character> characters, RowReader reader) {
+        int i = 0;
+        int count = characters.size();
+        while (i < count) {
+            CharacterComponents components = characters.get(i).get_component_row().components;
+            synchronized (components.store) {
+                for (; i < count; i++) {
+                    Row row = characters.get(i).get_component_row();
+                    if (row.components != components) break;
+                    int index = components.store.index_of(row.entity);
+                    if (index >= 0) {
+                        reader.read(i, components, index);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * NEW: Set a flag and one of its times together, so readers never see one without the other
+     */
+    void set_with_time(int entity, int flag, int slot, long time) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                flags.set(row, flags.get(row) | flag);
+                times[slot].set(row, time);
+            }
+        }
+    }
+
+    /**
+     * NEW: Start pushing a character along a normalised direction
+     */
+    void start_pushback(int entity, float directionX, float directionY, float distance, float speed) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                flags.set(row, flags.get(row) | PUSHED);
+                floats[PUSH_DIR_X].set(row, directionX);
+                floats[PUSH_DIR_Y].set(row, directionY);
+                floats[PUSH_REMAINING].set(row, distance);
+                floats[PUSH_SPEED].set(row, speed);
+            }
+        }
+    }
+
+    /**
+     * NEW: Aim an enemy's wind-up
+     */
+    void set_wind_up_aim(int entity, int aimX, int aimY, float preciseX, float preciseY) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                ints[WIND_UP_AIM_X].set(row, aimX);
+                ints[WIND_UP_AIM_Y].set(row, aimY);
+                floats[WIND_UP_PRECISE_X].set(row, preciseX);
+                floats[WIND_UP_PRECISE_Y].set(row, preciseY);
+            }
+        }
+    }
+
+    /**
+     * NEW: End one character's immunity if it has run out
+     */
+    void expire_immunity(int entity, long now) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                expire_immunity_row(row, now);
+            }
+        }
+    }
+
+    /**
+     * NEW: Advance one character's pushback by one movement frame
+     */
+    void step_pushback(int entity, model.map.Map map, long now) {
+        synchronized (store) {
+            int row = store.index_of(entity);
+            if (row >= 0) {
+                step_pushback_row(row, map, now);
+            }
+        }
+    }
+
+    /**
+     * NEW: Status-timer system: expire due effects, then immunity, for every
+     * row. Effect end callbacks can extend immunity, so effects go first, and
+     * they run without the store lock held because they notify observers.
+     *
+     * @param now Current game time
+     * @return Number of effects that ended
+     */
+    public int update_status_timers(long now) {
+        List<StatusEffects> due = null;
+        synchronized (store) {
+            for (int row = 0, size = store.size(); row < size; row++) {
+                StatusEffects rowEffects = effects.get(row);
+                if (rowEffects != null && rowEffects.get_next_expiry() <= now) {
+                    if (due == null) due = new ArrayList<>();
+                    due.add(rowEffects);
+                }
+            }
+        }
+        int ended = 0;
+        if (due != null) {
+            for (StatusEffects rowEffects : due) {
+                ended += rowEffects.tick(now);
+            }
+        }
+        synchronized (store) {
+            for (int row = 0, size = store.size(); row < size; row++) {
+                expire_immunity_row(row, now);
+            }
+        }
+        return ended;
+    }
+
+    /**
+     * NEW: Pushback system: move every pushed character that is not dying by
+     * one movement frame
+     *
+     * @param map Floor to check walls against
+     * @param now Current game time
+     */
+    public void update_pushback(model.map.Map map, long now) {
+        synchronized (store) {
+            for (int row = 0, size = store.size(); row < size; row++) {
+                if ((flags.get(row) & (PUSHED | DYING)) == PUSHED) {
+                    step_pushback_row(row, map, now);
+                }
+            }
+        }
+    }
+
+    private void expire_immunity_row(int row, long now) {
+        int rowFlags = flags.get(row);
+        if ((rowFlags & IMMUNE) != 0 && now >= times[IMMUNITY_END].get(row)) {
+            flags.set(row, rowFlags & ~IMMUNE);
+        }
+    }
+
+    private void step_pushback_row(int row, model.map.Map map, long now) {
+        int rowFlags = flags.get(row);
+        if ((rowFlags & PUSHED) == 0) {
+            return;
+        }
+        Character owner = owners.get(row);
+        float remaining = floats[PUSH_REMAINING].get(row);
+        float move = Math.min(floats[PUSH_SPEED].get(row), remaining);
+        float nextPixelX = owner.getPixelX() + move * floats[PUSH_DIR_X].get(row);
+        float nextPixelY = owner.getPixelY() + move * floats[PUSH_DIR_Y].get(row);
+        int nextTileX = (int)Math.floor(nextPixelX / enums.GameConstants.TILE_SIZE);
+        int nextTileY = (int)Math.floor(nextPixelY / enums.GameConstants.TILE_SIZE);
+        boolean canMove = (owner instanceof Player || owner instanceof Enemy)
+            && map != null && utilities.Collision.isWalkable(map, nextTileX, nextTileY);
+        if (canMove) {
+            if (owner instanceof Player) {
+                ((Player) owner).setPixelX(nextPixelX);
+                ((Player) owner).setPixelY(nextPixelY);
+            } else {
+                ((Enemy) owner).setPixelX(nextPixelX);
+                ((Enemy) owner).setPixelY(nextPixelY);
+            }
+            remaining -= move;
+            floats[PUSH_REMAINING].set(row, remaining);
+            if (remaining <= 0) {
+                flags.set(row, rowFlags & ~PUSHED);
+            }
+        } else {
+            // Hit a wall: stop pushback and increase immunity by 50%
+            flags.set(row, rowFlags & ~PUSHED);
+            if ((rowFlags & IMMUNE) != 0) {
+                long left = times[IMMUNITY_END].get(row) - now;
+                if (left > 0) {
+                    times[IMMUNITY_END].set(row, times[IMMUNITY_END].get(row) + left / 2);
+                }
+            }
+        }
+    }
+}
@@ -1,18 +1,18 @@
 package model.characters;
 
 import enums.CharacterClass;
+import utilities.ConfigSnapshot;
 import utilities.Position;
 import model.items.Item;
-import model.items.Consumable;
+import model.items.LootTables;
 import model.equipment.Weapon;
 import model.equipment.Armor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import model.map.Map;
+import model.effects.StatusEffect;
 import model.characters.Player;
-import java.util.Queue;
-import java.util.LinkedList;
 import java.util.HashSet;
 import utilities.Collision;
 import model.characters.WarriorClass;
@@ -30,7 +30,6 @@ public class Enemy extends Character {
     // MANDATORY: Enemy-specific attributes
     private String aiPattern;
     private List<String> weaknesses;
-    protected List<Item> lootTable;
     protected int experienceValue;
     private Random random;
     private int aggroRange;
@@ -51,50 +50,55 @@ public class Enemy extends Character {
     private GameLogic gameLogic; // Add GameLogic reference
     private long lastAttackTime = 0; // Track last attack time for rate limiting
     
-    // Celebratory state variables
-    private boolean inCelebratoryState = false;
-    private long celebratoryStartTime = 0;
+    // Celebratory state variables (state itself lives in the status effects)
     private static final long CELEBRATORY_DURATION = 2000; // 2 seconds in milliseconds
     private static final long CELEBRATORY_IMMUNITY_DURATION = 500; // 0.5 seconds immunity at start
-    private boolean inCelebratoryImmunity = false;
     
     // Fallback behavior variables
-    private boolean inFallbackState = false;
-    private long fallbackStartTime = 0;
     private static final long FALLBACK_DURATION = 1200; // 1.2 seconds fallback
     private float fallbackTargetX, fallbackTargetY; // Target position for fallback
     
     // Hit state variables
-    private boolean inHitState = false;
-    private long hitStateStartTime = 0;
     public static final long BASE_HIT_STATE_DURATION = 2200; // ms, slightly longer than player immunity
     private static final long IMMUNITY_EXTENSION = 800; // ms, brief extension after hit state (doubled from 400)
-    private long hitImmunityEndTime = 0;
     
-    // Dying state variables
-    private boolean isDying = false;
-    private long dyingStartTime = 0;
+    // Dying state variables (flag and start time live in the character's component row)
     private static final long DYING_DURATION = 2000; // ms
     
 
     
-    // Wind-up state variables for attack warning
-    private boolean inWindUpState = false;
-    private long windUpStartTime = 0;
+    // Wind-up state for attack warning; flag, start time and aim live in the character's component row
     private static final long WIND_UP_DURATION = 500; // 0.5 seconds wind-up
-    private int windUpAimDX = 0, windUpAimDY = 1; // Store aim direction during wind-up
-    private float windUpPreciseAimDX = 0f, windUpPreciseAimDY = 1f; // Store precise aim during wind-up
     
     // State management - track previous state to return to after temporary states
     private boolean wasChasingBeforeTemporaryState = false;
     
     // Detection notification state - show exclamation mark when first detecting player
-    private boolean showingDetectionNotification = false;
-    private long detectionNotificationStartTime = 0;
     private static final long DETECTION_NOTIFICATION_DURATION = 500; // 0.5 seconds
+
+    // NEW: Effect bits that block detection, and the ones that keep the AI at full rate
+    private static final long TEMPORARY_STATES = StatusEffect.HIT.get_bit() | StatusEffect.FALLBACK.get_bit()
+        | StatusEffect.CELEBRATORY.get_bit();
+    private static final long ENGAGED_STATES = TEMPORARY_STATES | StatusEffect.DETECTION.get_bit();
     
     // Flag to track if enemy is in alerted state (set to true only when entering idle/random roaming)
     private boolean alerted = true;
+
+    // NEW: Tier assigned by the AI level of detail on the last frame
+    private model.gameLogic.AiLevelOfDetail.Tier aiTier = model.gameLogic.AiLevelOfDetail.Tier.FULL;
+    private long aiAwakeUntil = 0;
+
+    // NEW: Creation-order id; the AI apply phase commits decisions in this order
+    private static final java.util.concurrent.atomic.AtomicLong NEXT_ENEMY_ID = new java.util.concurrent.atomic.AtomicLong();
+    private final long enemyId = NEXT_ENEMY_ID.getAndIncrement();
+    // NEW: Region bucket the sleep manager has this enemy in, -1 when unplaced
+    private int simRegion = -1;
+    // NEW: Tile held in the map's occupancy grid; always the target tile once settled
+    private Map reservedMap;
+    private int reservedX = -1;
+    private int reservedY = -1;
+    // NEW: Neighbour offsets in clockwise order, so i +/- 1 is a 45 degree turn
+    private static final int[][] STEER_DIRS = {{1,0},{1,1},{0,1},{-1,1},{-1,0},{-1,-1},{0,-1},{1,-1}};
     
     /**
      * MANDATORY: Constructor for Enemy
@@ -108,9 +112,8 @@ public class Enemy extends Character {
         super(name, characterClass, position);
         this.aiPattern = aiPattern;
         this.weaknesses = new ArrayList<>();
-        this.lootTable = new ArrayList<>();
         this.random = new Random();
-        this.aggroRange = 3;
+        this.aggroRange = ConfigSnapshot.GameSettings.current().get_enemy_aggro_range();
         this.isAggressive = true;
         // Assign a random OOP class and copy stats
         switch (characterClass) {
@@ -137,9 +140,10 @@ public class Enemy extends Character {
         this.currentMp = maxMp;
         this.moveSpeed = enemyClassOOP.getMoveSpeed() * 0.5f; // 50% slower than class base
         // Apply scaling modifiers
-        this.maxHp = (int)(this.maxHp * 1.2);
+        ConfigSnapshot.GameSettings settings = ConfigSnapshot.GameSettings.current();
+        this.maxHp = (int)(this.maxHp * settings.get_enemy_health_multiplier());
         this.currentHp = maxHp;
-        this.baseAtk = (int)(this.baseAtk * 0.8);
+        this.baseAtk = (int)(this.baseAtk * settings.get_enemy_damage_multiplier());
         // Special case: Mage enemies have infinite mana
         if (characterClass == CharacterClass.MAGE) {
             this.maxMp = Integer.MAX_VALUE;
@@ -149,7 +153,6 @@ public class Enemy extends Character {
             this.currentMp = 0;
         }
         initialize_enemy_equipment();
-        initialize_loot_table();
         initialize_weaknesses();
         this.experienceValue = calculate_experience_value();
         this.pixelX = position.get_x() * enums.GameConstants.TILE_SIZE;
@@ -160,13 +163,12 @@ public class Enemy extends Character {
 
     // Make update_movement() public so it can be called from the main game loop
     public void update_movement() {
-        updateImmunity();
+        // Timers and pushback; on a floor the game's systems already ran them this frame
+        update_detached_components(map);
         
         // Dying: cannot move, aim, or attack
-        if (isDying) return;
+        if (isDying()) return;
         
-        // Process pushback first
-        updatePushback(map);
         if (isBeingPushed()) {
             // Skip normal movement while being pushed
             return;
@@ -194,12 +196,14 @@ public class Enemy extends Character {
             return;
         }
         
+        separate_if_stacked();
+        
         // Check if we should chase the player
         int playerX = player != null ? player.get_position().get_x() : -1;
         int playerY = player != null ? player.get_position().get_y() : -1;
         
         // Simple detection: if not chasing and player is in range, start chase directly
-        if (!chasingPlayer && !inHitState && !inFallbackState && !inCelebratoryState) {
+        if (!chasingPlayer && (effects.get_active_mask() & TEMPORARY_STATES) == 0) {
             // Check if player is in aggro range AND LOS AND player is not invisible
             if (player != null && position.manhattan_distance_to(player.get_position()) <= aggroRange && !player.is_invisibility_effect_active()) {
                 int enemyTileX = position.get_x();
@@ -209,7 +213,7 @@ public class Enemy extends Character {
                 if (utilities.Collision.hasLineOfSight(map, enemyTileX, enemyTileY, playerTileX, playerTileY)) {
                     // Start chase state directly
                     chasingPlayer = true;
-                    chaseEndTime = System.currentTimeMillis() + 3000; // chase for 3 seconds
+                    chaseEndTime = clock.now() + 3000; // chase for 3 seconds
                     
                     // Show detection notification, lockdown, and send chase message only if alerted is true
                     if (alerted) {
@@ -225,8 +229,7 @@ public class Enemy extends Character {
                             }
                         }
                         
-                        showingDetectionNotification = true;
-                        detectionNotificationStartTime = System.currentTimeMillis();
+                        effects.apply(StatusEffect.DETECTION, DETECTION_NOTIFICATION_DURATION, clock.now());
                         alerted = false; // Consume the flag, enemy is no longer alerted until idle resumes
                     }
                 }
@@ -246,21 +249,22 @@ public class Enemy extends Character {
             if (playerInvisible) {
                 chasingPlayer = false;
                 chasePath.clear();
-                showingDetectionNotification = false;
+                effects.cancel(StatusEffect.DETECTION);
                 return;
             }
             
             // If chase time expired, check if we should extend it
-            if (System.currentTimeMillis() > chaseEndTime) {
+            long now = clock.now();
+            if (now > chaseEndTime) {
                 if (playerInRange) {
                     // Player is still in range, extend chase timer
-                    chaseEndTime = System.currentTimeMillis() + 3000; // Extend by 3 more seconds
+                    chaseEndTime = now + 3000; // Extend by 3 more seconds
                 } else {
                     // Player is out of range, stop chasing
                     chasingPlayer = false;
                     chasePath.clear();
                     // Reset detection notification
-                    showingDetectionNotification = false;
+                    effects.cancel(StatusEffect.DETECTION);
                     // Do NOT set alerted to true here; only set it when idle/random roaming resumes
                 }
             } else {
@@ -320,9 +324,17 @@ public class Enemy extends Character {
                 // Follow the path step by step
                 if (!chasePath.isEmpty() && Math.abs(pixelX - targetTileX * enums.GameConstants.TILE_SIZE) < 0.01f && Math.abs(pixelY - targetTileY * enums.GameConstants.TILE_SIZE) < 0.01f) {
                     int[] next = chasePath.remove(0);
-                    if (utilities.Collision.isWalkable(map, next[0], next[1])) {
-                        targetTileX = next[0];
-                        targetTileY = next[1];
+                    if (Math.max(Math.abs(next[0] - targetTileX), Math.abs(next[1] - targetTileY)) != 1) {
+                        // Stale path (the enemy was moved since it was planned), re-plan next update
+                        chasePath.clear();
+                    } else if (utilities.Collision.isWalkable(map, next[0], next[1])) {
+                        if (claim_tile(next[0], next[1])) {
+                            targetTileX = next[0];
+                            targetTileY = next[1];
+                        } else if (!steer_around(next[0], next[1])) {
+                            // Another enemy holds the next tile and both side steps: wait for it to move
+                            chasePath.add(0, next);
+                        }
                     } else {
                         // Path blocked, recalculate next update
                         chasePath.clear();
@@ -345,7 +357,7 @@ public class Enemy extends Character {
                     int[] dir = dirs[random.nextInt(dirs.length)];
                     int nextX = targetTileX + dir[0];
                     int nextY = targetTileY + dir[1];
-                    if (utilities.Collision.isWalkable(map, nextX, nextY)) {
+                    if (utilities.Collision.isWalkable(map, nextX, nextY) && claim_tile(nextX, nextY)) {
                         targetTileX = nextX;
                         targetTileY = nextY;
                         // Set aim direction to match movement
@@ -356,27 +368,7 @@ public class Enemy extends Character {
                 }
             }
         }
-        // Move pixelX/pixelY toward target tile using class moveSpeed
-        float targetPixelX = targetTileX * enums.GameConstants.TILE_SIZE;
-        float targetPixelY = targetTileY * enums.GameConstants.TILE_SIZE;
-        float dx = targetPixelX - pixelX;
-        float dy = targetPixelY - pixelY;
-        float dist = (float)Math.sqrt(dx*dx + dy*dy);
-        float speed = moveSpeed > 0 ? moveSpeed : 2.5f;
-        // Apply 10% speed buff if chasing
-        if (chasingPlayer) {
-            speed *= 1.1f;
-        }
-        if (dist > speed) {
-            float ndx = dx / dist;
-            float ndy = dy / dist;
-            pixelX += speed * ndx;
-            pixelY += speed * ndy;
-        } else {
-            pixelX = targetPixelX;
-            pixelY = targetPixelY;
-            this.position = new utilities.Position(targetTileX, targetTileY);
-        }
+        step_toward_target();
         // If chasing, set aim direction toward player with precise calculation
         if (chasingPlayer && player != null) {
             float px = pixelX + enums.GameConstants.TILE_SIZE / 2f;
@@ -432,6 +424,279 @@ public class Enemy extends Character {
         }
     }
 
+    /**
+     * NEW: Token identifying this enemy in the map's occupancy grid
+     */
+    public int get_occupancy_token() {
+        return (int) (enemyId % Integer.MAX_VALUE) + 1;
+    }
+
+    /**
+     * NEW: Claim a tile in the map's occupancy grid and give up the one held before
+     *
+     * @return true if the enemy now holds the tile (always true without a map)
+     */
+    public synchronized boolean claim_tile(int x, int y) {
+        if (map == null) return true;
+        if (reservedMap == map && reservedX == x && reservedY == y) return true;
+        if (!map.get_occupancy().try_reserve(get_occupancy_token(), x, y)) return false;
+        release_tile();
+        reservedMap = map;
+        reservedX = x;
+        reservedY = y;
+        return true;
+    }
+
+    /**
+     * NEW: Give the held tile back to the occupancy grid
+     */
+    public synchronized void release_tile() {
+        if (reservedMap != null) {
+            reservedMap.get_occupancy().release(get_occupancy_token(), reservedX, reservedY);
+            reservedMap = null;
+            reservedX = -1;
+            reservedY = -1;
+        }
+    }
+
+    /**
+     * NEW: Whether the enemy holds its target tile
+     */
+    public synchronized boolean holds_target_tile() {
+        return reservedMap != null && reservedMap == map && reservedX == targetTileX && reservedY == targetTileY;
+    }
+
+    /**
+     * NEW: Step to an adjacent tile picked by the AI decision phase, if it can be claimed
+     *
+     * @return true if the enemy moved
+     */
+    public boolean commit_step(int x, int y) {
+        if (!claim_tile(x, y)) return false;
+        targetTileX = x;
+        targetTileY = y;
+        move_to(x * enums.GameConstants.TILE_SIZE, y * enums.GameConstants.TILE_SIZE);
+        return true;
+    }
+
+    /**
+     * Whether a one-tile step stays on walkable ground without cutting a wall corner
+     */
+    private boolean can_step(int fromX, int fromY, int dx, int dy) {
+        if (!utilities.Collision.isWalkable(map, fromX + dx, fromY + dy)) return false;
+        return dx == 0 || dy == 0
+            || (utilities.Collision.isWalkable(map, fromX + dx, fromY) && utilities.Collision.isWalkable(map, fromX, fromY + dy));
+    }
+
+    /**
+     * The next path tile is held: try the two steps 45 degrees either side of it.
+     * Each candidate is one grid lookup, so crowds steer without pairwise checks.
+     */
+    private boolean steer_around(int blockedX, int blockedY) {
+        int dx = Integer.signum(blockedX - targetTileX);
+        int dy = Integer.signum(blockedY - targetTileY);
+        int dir = 0;
+        while (STEER_DIRS[dir][0] != dx || STEER_DIRS[dir][1] != dy) dir++;
+        // Alternate which side is tried first so crowds fan out instead of all turning one way
+        int first = (enemyId & 1) == 0 ? 1 : 7;
+        for (int turn : new int[]{first, 8 - first}) {
+            int[] side = STEER_DIRS[(dir + turn) % 8];
+            int sx = targetTileX + side[0];
+            int sy = targetTileY + side[1];
+            if (can_step(targetTileX, targetTileY, side[0], side[1]) && claim_tile(sx, sy)) {
+                targetTileX = sx;
+                targetTileY = sy;
+                // Path was planned from the old tile
+                chasePath.clear();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Settled on a target tile another enemy holds (spawned or pushed onto it):
+     * take the tile if it is free, otherwise move to the first free neighbour
+     */
+    private void separate_if_stacked() {
+        if (map == null || holds_target_tile()) return;
+        if (Math.abs(pixelX - targetTileX * enums.GameConstants.TILE_SIZE) >= 0.01f
+                || Math.abs(pixelY - targetTileY * enums.GameConstants.TILE_SIZE) >= 0.01f) return;
+        if (claim_tile(targetTileX, targetTileY)) return;
+        for (int[] side : STEER_DIRS) {
+            int sx = targetTileX + side[0];
+            int sy = targetTileY + side[1];
+            if (can_step(targetTileX, targetTileY, side[0], side[1]) && claim_tile(sx, sy)) {
+                targetTileX = sx;
+                targetTileY = sy;
+                chasePath.clear();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Move pixelX/pixelY toward target tile using class moveSpeed
+     */
+    private void step_toward_target() {
+        float targetPixelX = targetTileX * enums.GameConstants.TILE_SIZE;
+        float targetPixelY = targetTileY * enums.GameConstants.TILE_SIZE;
+        float dx = targetPixelX - pixelX;
+        float dy = targetPixelY - pixelY;
+        float dist = (float)Math.sqrt(dx*dx + dy*dy);
+        float speed = moveSpeed > 0 ? moveSpeed : 2.5f;
+        // Apply 10% speed buff if chasing
+        if (chasingPlayer) {
+            speed *= 1.1f;
+        }
+        if (dist > speed) {
+            float ndx = dx / dist;
+            float ndy = dy / dist;
+            pixelX += speed * ndx;
+            pixelY += speed * ndy;
+        } else {
+            pixelX = targetPixelX;
+            pixelY = targetPixelY;
+            this.position = new utilities.Position(targetTileX, targetTileY);
+        }
+    }
+
+    /**
+     * NEW: Cheap update for frames the AI level of detail skips: keep gliding
+     * toward the current target tile without running the state machine
+     */
+    public void extrapolate_movement() {
+        if (isDying() || isBeingPushed()) return;
+        step_toward_target();
+    }
+
+    /**
+     * NEW: Whether the enemy is chasing or in a timed state that needs full updates
+     *
+     * @return true if the enemy must not be throttled
+     */
+    public boolean is_engaged() {
+        return chasingPlayer || (effects.get_active_mask() & ENGAGED_STATES) != 0
+            || has_component_flag(CharacterComponents.WIND_UP | CharacterComponents.DYING | CharacterComponents.PUSHED);
+    }
+
+    /**
+     * NEW: Side-effect free check of the timed states that block attacking.
+     * Unlike isInHitState and friends it never ends a state, so it is safe to
+     * call from the parallel AI decision phase.
+     *
+     * @param now Timestamp the decision is made for
+     * @return true if a hit, celebratory or detection state is still running
+     */
+    public boolean is_attack_suppressed(long now) {
+        return effects.is_active_at(StatusEffect.CELEBRATORY, now)
+            || effects.is_active_at(StatusEffect.DETECTION, now)
+            || effects.is_active_at(StatusEffect.HIT, now);
+    }
+
+    /**
+     * NEW: Side-effect free version of shouldBeDeleted for a given timestamp
+     *
+     * @param now Timestamp the decision is made for
+     * @return true once the dying animation has finished
+     */
+    public boolean is_expired(long now) {
+        return isDying() && now - get_component_time(CharacterComponents.DYING_START) >= DYING_DURATION;
+    }
+
+    // NEW: Bits of the states captured by capture_decision_states
+    public static final int DECISION_DYING = 1;
+    public static final int DECISION_EXPIRED = 1 << 1;
+    public static final int DECISION_WIND_UP = 1 << 2;
+
+    /**
+     * NEW: Capture the timed state the decision phase reads, for many enemies
+     * at once. Enemies on a floor share one component store, so this takes
+     * its lock once on the game thread rather than once per read on every
+     * decision worker.
+     *
+     * @param enemies Enemies to capture, in decision order
+     * @param now Timestamp decisions are made for
+     * @param states Filled with DECISION_* bits per enemy
+     * @param windUpStarts Filled with the wind-up start of enemies winding up
+     */
+    public static void capture_decision_states(List<Enemy> enemies, long now, int[] states, long[] windUpStarts) {
+        CharacterComponents.read_rows(enemies, (index, components, row) -> {
+            int flags = components.flags_at(row);
+            int state = 0;
+            if ((flags & CharacterComponents.DYING) != 0) {
+                state |= DECISION_DYING;
+                if (now - components.time_at(row, CharacterComponents.DYING_START) >= DYING_DURATION) {
+                    state |= DECISION_EXPIRED;
+                }
+            }
+            if ((flags & CharacterComponents.WIND_UP) != 0) {
+                state |= DECISION_WIND_UP;
+                windUpStarts[index] = components.time_at(row, CharacterComponents.WIND_UP_START);
+            }
+            states[index] = state;
+        });
+    }
+
+    public long get_enemy_id() { return enemyId; }
+    public int get_entity_id() { return get_component_entity(); }
+
+    public int get_sim_region() { return simRegion; }
+    public void set_sim_region(int region) { this.simRegion = region; }
+
+    /**
+     * NEW: Bring an enemy whose region was asleep up to date in one step.
+     * Timed states resolve against the current game time, a wind-up that was
+     * interrupted is dropped, and an idle enemy is moved to a random tile of
+     * its region within the distance it could have roamed while asleep.
+     *
+     * @param sleptMs Game time the region was asleep
+     * @param rng Seeded random source for the roaming position
+     * @param regions Region graph of the current floor
+     * @param region Region the enemy slept in
+     */
+    public void catch_up_after_sleep(long sleptMs, Random rng, model.map.RegionGraph regions, int region) {
+        long now = clock.now();
+        // Expires every timed state that ran out while asleep, with its usual end handling
+        updateImmunity();
+        setInWindUpState(false);
+        if (chasingPlayer && now > chaseEndTime) {
+            chasingPlayer = false;
+            effects.cancel(StatusEffect.DETECTION);
+        }
+        chasePath.clear();
+        if (chasingPlayer || isDying() || region < 0 || regions.get_tile_count(region) == 0) {
+            return;
+        }
+        // Roaming covers one tile per step at this enemy's speed, ~60 steps of moveSpeed px per second
+        float speed = moveSpeed > 0 ? moveSpeed : MOVE_SPEED;
+        long msPerTile = (long) Math.ceil(enums.GameConstants.TILE_SIZE * 1000.0 / (speed * 60.0));
+        long reach = sleptMs / Math.max(1, msPerTile);
+        if (reach < 1) {
+            return;
+        }
+        int width = regions.get_width();
+        for (int attempt = 0; attempt < 8; attempt++) {
+            int key = regions.get_tile(region, rng.nextInt(regions.get_tile_count(region)));
+            int x = key % width;
+            int y = key / width;
+            if (Math.max(Math.abs(x - position.get_x()), Math.abs(y - position.get_y())) <= reach && claim_tile(x, y)) {
+                position = new Position(x, y);
+                targetTileX = x;
+                targetTileY = y;
+                pixelX = x * enums.GameConstants.TILE_SIZE;
+                pixelY = y * enums.GameConstants.TILE_SIZE;
+                alerted = true;
+                return;
+            }
+        }
+    }
+
+    public model.gameLogic.AiLevelOfDetail.Tier get_ai_tier() { return aiTier; }
+    public void set_ai_tier(model.gameLogic.AiLevelOfDetail.Tier tier) { this.aiTier = tier; }
+    public long get_ai_awake_until() { return aiAwakeUntil; }
+    public void set_ai_awake_until(long frame) { this.aiAwakeUntil = frame; }
+
     /**
      * MANDATORY: Scale enemy statistics for challenge balance
      */
@@ -449,45 +714,14 @@ public class Enemy extends Character {
      */
     private void initialize_enemy_equipment() {
         // Determine tier based on floor level (1-3)
-        int tier = Math.min(3, Math.max(1, (int)(Math.random() * 3) + 1));
-        
-        // Get enemy equipment from JSON configuration
-        utilities.WeaponDefinitionManager weaponManager = utilities.WeaponDefinitionManager.getInstance();
-        model.equipment.Weapon randomWeapon = weaponManager.getEnemyWeapon(characterClass);
-        model.equipment.Armor randomArmor = weaponManager.getEnemyArmor(characterClass);
+        int tier = random.nextInt(3) + 1;
         
-        // Apply tier scaling if equipment was found
-        if (randomWeapon != null) {
-            // Create new weapon instance with the desired tier
-            randomWeapon = new model.equipment.Weapon(
-                randomWeapon.get_name(),
-                randomWeapon.get_attack_power(),
-                randomWeapon.get_mp_power(),
-                characterClass,
-                tier,
-                randomWeapon.get_weapon_type(),
-                randomWeapon.get_image_path(),
-                randomWeapon.get_equipment_type_designation()
-            );
-        }
-        
-        if (randomArmor != null) {
-            // Create new armor instance with the desired tier
-            randomArmor = new model.equipment.Armor(
-                randomArmor.get_name(),
-                randomArmor.get_defense_value(),
-                randomArmor.get_atk_defense(),
-                randomArmor.get_mp_defense(),
-                characterClass,
-                tier,
-                randomArmor.get_image_path(),
-                randomArmor.get_equipment_type_designation()
-            );
-        }
-        
-        // Set the equipment
-        this.equippedWeapon = randomWeapon;
-        this.equippedArmor = randomArmor;
+        // Pick from the class's enemy loadout and build it at the rolled tier
+        model.equipment.EquipmentCatalog catalog = model.equipment.EquipmentCatalog.current();
+        this.equippedWeapon = (Weapon) model.equipment.EquipmentCatalog.copy_of(
+            catalog.random_enemy_weapon(characterClass, random), tier);
+        this.equippedArmor = (Armor) model.equipment.EquipmentCatalog.copy_of(
+            catalog.random_enemy_armor(characterClass, random), tier);
     }
     
     /**
@@ -514,38 +748,6 @@ public class Enemy extends Character {
         }
     }
 
-    /**
-     * MANDATORY: Initialize loot drop table
-     */
-    private void initialize_loot_table() {
-        // Common drops
-        lootTable.add(new Consumable("Health Potion", 25, "health"));
-        lootTable.add(new Consumable("Mana Potion", 15, "mana"));
-        // Class-specific equipment drops (rare)
-        switch (characterClass) {
-            case WARRIOR:
-                if (random.nextInt(100) < 20) {
-                    lootTable.add(new Weapon("Battle Axe", 20, 0, characterClass, 1, Weapon.WeaponType.IMPACT, "images/weapons/Impact/executioner_axe_4.png", "Impact"));
-                }
-                break;
-            case MAGE:
-                if (random.nextInt(100) < 20) {
-                    lootTable.add(new Weapon("Crystal Staff", 10, 15, characterClass, 1, Weapon.WeaponType.MAGIC, "images/weapons/Magic/urand_brilliance.png", "Magic"));
-                }
-                break;
-            case ROGUE:
-                if (random.nextInt(100) < 20) {
-                    lootTable.add(new Weapon("Shadow Blade", 15, 8, characterClass, 1, Weapon.WeaponType.BLADE, "images/weapons/Blade/Void_Blade.png", "Blade"));
-                }
-                break;
-            case RANGER:
-                if (random.nextInt(100) < 20) {
-                    lootTable.add(new Weapon("Longbow", 10, 15, characterClass, 1, Weapon.WeaponType.DISTANCE, "images/weapons/Distance/Longbow.png", "Distance"));
-                }
-                break;
-        }
-    }
-
     /**
      * MANDATORY: Initialize character class weaknesses
      */
@@ -614,18 +816,18 @@ public class Enemy extends Character {
      * @return List of items dropped
      */
     public List<Item> drop_loot() {
-        List<Item> droppedItems = new ArrayList<>();
-        // Random chance for each item in loot table
-        for (Item item : lootTable) {
-            if (random.nextInt(100) < 30) { // 30% drop chance
-                droppedItems.add(item);
-            }
-        }
-        // Always drop at least one item
-        if (droppedItems.isEmpty() && !lootTable.isEmpty()) {
-            droppedItems.add(lootTable.get(random.nextInt(lootTable.size())));
-        }
-        return droppedItems;
+        return drop_loot(null, random);
+    }
+
+    /**
+     * NEW: Roll this enemy's loot table from loot_tables.json
+     *
+     * @param looter Class of the player getting the loot; null ignores class limits
+     * @param random Stream to roll with
+     * @return List of items dropped, possibly empty
+     */
+    public List<Item> drop_loot(CharacterClass looter, Random random) {
+        return LootTables.current().for_enemy(this).roll(looter, this, random);
     }
 
     /**
@@ -648,7 +850,7 @@ public class Enemy extends Character {
     public int attack(Character target) {
         int damage = get_total_attack();
         // Small chance to miss
-        if (random.nextInt(100) < enums.GameConstants.MISS_CHANCE) {
+        if (random.nextDouble() < ConfigSnapshot.GameSettings.current().get_miss_chance()) {
             damage = 0;
             notify_observers("ATTACK_MISSED", target);
         }
@@ -671,7 +873,11 @@ public class Enemy extends Character {
     public BaseClass getEnemyClassOOP() { return enemyClassOOP; }
 
     public void setMap(Map map) {
+        release_tile();
         this.map = map;
+        if (map != null) {
+            claim_tile(targetTileX, targetTileY);
+        }
     }
 
     public void setPlayer(Player player) {
@@ -703,75 +909,49 @@ public class Enemy extends Character {
         // Record previous state before entering celebratory state
         this.wasChasingBeforeTemporaryState = chasingPlayer;
         
-        this.inCelebratoryState = true;
-        this.celebratoryStartTime = System.currentTimeMillis();
-        this.inCelebratoryImmunity = true;
-        this.isImmune = true;
-        this.immunityEndTime = System.currentTimeMillis() + CELEBRATORY_IMMUNITY_DURATION;
+        long now = clock.now();
+        effects.apply(StatusEffect.CELEBRATORY, CELEBRATORY_DURATION, now);
+        effects.apply(StatusEffect.CELEBRATORY_IMMUNITY, CELEBRATORY_IMMUNITY_DURATION, now);
+        start_component_timer(CharacterComponents.IMMUNE, CharacterComponents.IMMUNITY_END,
+                              now + CELEBRATORY_IMMUNITY_DURATION);
         // Reset/pause chase timer so enemy resumes full chase after celebration
-        this.chaseEndTime = System.currentTimeMillis() + 3000;
+        this.chaseEndTime = now + 3000;
     }
     
     public boolean isInCelebratoryState() {
-        if (inCelebratoryState) {
-            // Check if celebratory state should end
-            if (System.currentTimeMillis() - celebratoryStartTime >= CELEBRATORY_DURATION) {
-                inCelebratoryState = false;
-                inCelebratoryImmunity = false;
-                // Return to previous state (usually chase)
-                if (wasChasingBeforeTemporaryState) {
-                    chasingPlayer = true;
-                    chaseEndTime = System.currentTimeMillis() + 3000; // Reset chase timer
-                }
-                return false;
-            }
-            // Check if immunity period should end
-            if (inCelebratoryImmunity && System.currentTimeMillis() - celebratoryStartTime >= CELEBRATORY_IMMUNITY_DURATION) {
-                inCelebratoryImmunity = false;
-                this.isImmune = false;
-            }
-            return true;
-        }
-        return false;
+        return effects.is_active(StatusEffect.CELEBRATORY, clock.now());
     }
     
     public void forceExitCelebratoryState() {
-        this.inCelebratoryState = false;
-        this.inCelebratoryImmunity = false;
-        this.isImmune = false;
+        effects.cancel(StatusEffect.CELEBRATORY);
+        effects.cancel(StatusEffect.CELEBRATORY_IMMUNITY);
+        set_component_flag(CharacterComponents.IMMUNE, false);
     }
 
     public boolean isInCelebratoryImmunity() {
-        return inCelebratoryImmunity;
+        return effects.is_active(StatusEffect.CELEBRATORY_IMMUNITY, clock.now());
     }
     
 
     
     public boolean isInWindUpState() {
-        return inWindUpState;
+        return has_component_flag(CharacterComponents.WIND_UP);
     }
     
     public boolean isShowingDetectionNotification() {
-        if (showingDetectionNotification) {
-            if (System.currentTimeMillis() - detectionNotificationStartTime >= DETECTION_NOTIFICATION_DURATION) {
-                showingDetectionNotification = false;
-                return false;
-            }
-            return true;
-        }
-        return false;
+        return effects.is_active(StatusEffect.DETECTION, clock.now());
     }
     
     public void setInWindUpState(boolean windUpState) {
-        this.inWindUpState = windUpState;
+        set_component_flag(CharacterComponents.WIND_UP, windUpState);
     }
     
     public long getWindUpStartTime() {
-        return windUpStartTime;
+        return get_component_time(CharacterComponents.WIND_UP_START);
     }
     
     public void setWindUpStartTime(long windUpStartTime) {
-        this.windUpStartTime = windUpStartTime;
+        set_component_time(CharacterComponents.WIND_UP_START, windUpStartTime);
     }
     
     public long getWindUpDuration() {
@@ -779,26 +959,24 @@ public class Enemy extends Character {
     }
     
     public int getWindUpAimDX() {
-        return windUpAimDX;
+        return get_component_int(CharacterComponents.WIND_UP_AIM_X);
     }
     
     public int getWindUpAimDY() {
-        return windUpAimDY;
+        return get_component_int(CharacterComponents.WIND_UP_AIM_Y);
     }
     
     public float getWindUpPreciseAimDX() {
-        return windUpPreciseAimDX;
+        return get_component_float(CharacterComponents.WIND_UP_PRECISE_X);
     }
     
     public float getWindUpPreciseAimDY() {
-        return windUpPreciseAimDY;
+        return get_component_float(CharacterComponents.WIND_UP_PRECISE_Y);
     }
     
     public void setWindUpAimDirection(int aimDX, int aimDY, float preciseAimDX, float preciseAimDY) {
-        this.windUpAimDX = aimDX;
-        this.windUpAimDY = aimDY;
-        this.windUpPreciseAimDX = preciseAimDX;
-        this.windUpPreciseAimDY = preciseAimDY;
+        CharacterComponents.Row row = get_component_row();
+        row.components.set_wind_up_aim(row.entity, aimDX, aimDY, preciseAimDX, preciseAimDY);
     }
     
     public float getPreciseAimDX() {
@@ -810,27 +988,14 @@ public class Enemy extends Character {
     }
 
     public boolean isInFallbackState() {
-        if (inFallbackState) {
-            if (System.currentTimeMillis() - fallbackStartTime >= FALLBACK_DURATION) {
-                inFallbackState = false;
-                // Return to previous state (usually chase)
-                if (wasChasingBeforeTemporaryState) {
-                    chasingPlayer = true;
-                    chaseEndTime = System.currentTimeMillis() + 3000; // Reset chase timer
-                }
-                return false;
-            }
-            return true;
-        }
-        return false;
+        return effects.is_active(StatusEffect.FALLBACK, clock.now());
     }
 
     public void startFallbackState() {
         // Record previous state before entering fallback state
         this.wasChasingBeforeTemporaryState = chasingPlayer;
         
-        this.inFallbackState = true;
-        this.fallbackStartTime = System.currentTimeMillis();
+        effects.apply(StatusEffect.FALLBACK, FALLBACK_DURATION, clock.now());
         
         // Calculate fallback position (move away from player)
         if (player != null) {
@@ -877,12 +1042,12 @@ public class Enemy extends Character {
             int nextTileX = (int)(nextX / enums.GameConstants.TILE_SIZE);
             int nextTileY = (int)(nextY / enums.GameConstants.TILE_SIZE);
             
-            if (map != null && utilities.Collision.isWalkable(map, nextTileX, nextTileY)) {
+            if (map != null && utilities.Collision.isWalkable(map, nextTileX, nextTileY) && claim_tile(nextTileX, nextTileY)) {
                 pixelX = nextX;
                 pixelY = nextY;
             } else {
                 // Hit a wall, stop fallback movement
-                inFallbackState = false;
+                effects.cancel(StatusEffect.FALLBACK);
                 return;
             }
         } else {
@@ -890,21 +1055,23 @@ public class Enemy extends Character {
             int finalTileX = (int)(fallbackTargetX / enums.GameConstants.TILE_SIZE);
             int finalTileY = (int)(fallbackTargetY / enums.GameConstants.TILE_SIZE);
             
-            if (map != null && utilities.Collision.isWalkable(map, finalTileX, finalTileY)) {
+            if (map != null && utilities.Collision.isWalkable(map, finalTileX, finalTileY) && claim_tile(finalTileX, finalTileY)) {
                 pixelX = fallbackTargetX;
                 pixelY = fallbackTargetY;
             } else {
                 // Final position is blocked, stop fallback
-                inFallbackState = false;
+                effects.cancel(StatusEffect.FALLBACK);
                 return;
             }
         }
         
-        // Update position
+        // Update position; the claimed tile becomes the target so the reservation follows the enemy
         this.position = new utilities.Position(
             (int)(pixelX / enums.GameConstants.TILE_SIZE),
             (int)(pixelY / enums.GameConstants.TILE_SIZE)
         );
+        targetTileX = position.get_x();
+        targetTileY = position.get_y();
     }
 
     public boolean isChasingPlayer() {
@@ -920,55 +1087,16 @@ public class Enemy extends Character {
     public void setPixelX(float x) { this.pixelX = x; }
     public void setPixelY(float y) { this.pixelY = y; }
 
-    // Returns the full path (list of [x, y]) from enemy to player using BFS, or null if no path
+    // Returns the path (list of [x, y]) from enemy toward player, or null if no path.
+    // The map's region graph plans the whole route but only returns tiles up to the
+    // next region, so long chases re-plan as the enemy arrives.
     public List<int[]> getPathToPlayer() {
         if (map == null || player == null) return null;
-        int width = map.get_width();
-        int height = map.get_height();
-        boolean[][] visited = new boolean[width][height];
-        Queue<int[]> queue = new LinkedList<>();
-        int[][] prev = new int[width * height][2];
-        for (int i = 0; i < prev.length; i++) prev[i][0] = prev[i][1] = -1;
-        int startX = targetTileX;
-        int startY = targetTileY;
+        model.map.PathFinder pathFinder = map.get_path_finder();
+        if (pathFinder == null) return null;
         int goalX = player.get_position().get_x();
         int goalY = player.get_position().get_y();
-        queue.add(new int[]{startX, startY});
-        visited[startX][startY] = true;
-        int[][] dirs = {{1,0},{-1,0},{0,1},{0,-1}};
-        boolean found = false;
-        while (!queue.isEmpty()) {
-            int[] curr = queue.poll();
-            int cx = curr[0], cy = curr[1];
-            if (cx == goalX && cy == goalY) {
-                found = true;
-                break;
-            }
-            for (int[] dir : dirs) {
-                int nx = cx + dir[0];
-                int ny = cy + dir[1];
-                if (nx >= 0 && ny >= 0 && nx < width && ny < height && !visited[nx][ny]) {
-                    if (utilities.Collision.isWalkable(map, nx, ny)) {
-                        queue.add(new int[]{nx, ny});
-                        visited[nx][ny] = true;
-                        prev[nx + ny * width][0] = cx;
-                        prev[nx + ny * width][1] = cy;
-                    }
-                }
-            }
-        }
-        if (!found) return null;
-        // Backtrack from goal to start to build the path
-        List<int[]> path = new ArrayList<>();
-        int cx = goalX, cy = goalY;
-        while (!(cx == startX && cy == startY)) {
-            path.add(0, new int[]{cx, cy});
-            int px = prev[cx + cy * width][0];
-            int py = prev[cx + cy * width][1];
-            cx = px; cy = py;
-            if (cx == -1 || cy == -1) return null;
-        }
-        return path;
+        return pathFinder.find_path(targetTileX, targetTileY, goalX, goalY);
     }
 
     // Call this when enemy is hit (instead of setImmune directly)
@@ -976,45 +1104,44 @@ public class Enemy extends Character {
         // Record previous state before entering hit state
         this.wasChasingBeforeTemporaryState = chasingPlayer;
         
-        this.inHitState = true;
-        this.hitStateStartTime = System.currentTimeMillis();
-        this.hitImmunityEndTime = hitStateStartTime + baseImmunityDuration + IMMUNITY_EXTENSION;
-        this.isImmune = true;
-        this.immunityEndTime = hitStateStartTime + baseImmunityDuration;
+        long now = clock.now();
+        effects.apply(StatusEffect.HIT, BASE_HIT_STATE_DURATION, now);
+        set_component_time(CharacterComponents.HIT_IMMUNITY_END, now + baseImmunityDuration + IMMUNITY_EXTENSION);
+        start_component_timer(CharacterComponents.IMMUNE, CharacterComponents.IMMUNITY_END, now + baseImmunityDuration);
     }
 
     public boolean isInHitState() {
-        if (inHitState) {
-            if (System.currentTimeMillis() - hitStateStartTime >= BASE_HIT_STATE_DURATION) {
-                inHitState = false;
-                // Always trigger chase state after hit state ends, regardless of previous state
-                // This allows enemies to respond to attacks from outside their aggro range
-                chasingPlayer = true;
-                chaseEndTime = System.currentTimeMillis() + 3000; // Reset chase timer
-                return false;
-            }
-            return true;
-        }
-        return false;
+        return effects.is_active(StatusEffect.HIT, clock.now());
     }
 
-    // Override updateImmunity to handle hit state and extended immunity
+    // Override updateImmunity to expire timed states (once per update) and extended immunity
     @Override
     public void updateImmunity() {
-        long now = System.currentTimeMillis();
-        if (inHitState) {
-            if (now - hitStateStartTime >= BASE_HIT_STATE_DURATION) {
-                inHitState = false;
-                // Always trigger chase state after hit state ends, regardless of previous state
-                // This allows enemies to respond to attacks from outside their aggro range
+        long now = clock.now();
+        effects.tick(now);
+        super.updateImmunity();
+    }
+
+    /**
+     * NEW: Leave a temporary state the way it always ended: a hit always
+     * turns into a chase (so enemies answer attacks from outside aggro range)
+     * with a short immunity extension, fallback and celebration go back to
+     * chasing if the enemy was chasing before.
+     */
+    @Override
+    protected void on_status_effect_ended(StatusEffect effect, long now) {
+        super.on_status_effect_ended(effect, now);
+        if (effect == StatusEffect.HIT) {
+            chasingPlayer = true;
+            chaseEndTime = now + 3000; // Reset chase timer
+            set_component_time(CharacterComponents.IMMUNITY_END, get_component_time(CharacterComponents.HIT_IMMUNITY_END));
+        } else if (effect == StatusEffect.FALLBACK || effect == StatusEffect.CELEBRATORY) {
+            if (wasChasingBeforeTemporaryState) {
                 chasingPlayer = true;
                 chaseEndTime = now + 3000; // Reset chase timer
-                // Extend immunity for a brief period after hit state
-                this.immunityEndTime = hitImmunityEndTime;
             }
-        }
-        if (isImmune && now >= immunityEndTime) {
-            isImmune = false;
+        } else if (effect == StatusEffect.CELEBRATORY_IMMUNITY) {
+            set_component_flag(CharacterComponents.IMMUNE, false);
         }
     }
 
@@ -1023,7 +1150,7 @@ public class Enemy extends Character {
         int actualDamage = Math.max(0, damage - get_total_defense());
         this.currentHp = Math.max(0, this.currentHp - actualDamage);
         notify_observers("HP_CHANGED", this.currentHp);
-        if (currentHp <= 0 && !isDying) {
+        if (currentHp <= 0 && !isDying()) {
             startDying();
             notify_observers("CHARACTER_DEFEATED", this);
             return false;
@@ -1032,16 +1159,16 @@ public class Enemy extends Character {
     }
 
     public void startDying() {
-        isDying = true;
-        dyingStartTime = System.currentTimeMillis();
+        release_tile();
+        start_component_timer(CharacterComponents.DYING, CharacterComponents.DYING_START, clock.now());
     }
 
     public boolean isDying() {
-        return isDying;
+        return has_component_flag(CharacterComponents.DYING);
     }
 
     public boolean shouldBeDeleted() {
-        return isDying && (System.currentTimeMillis() - dyingStartTime >= DYING_DURATION);
+        return is_expired(clock.now());
     }
     
     /**
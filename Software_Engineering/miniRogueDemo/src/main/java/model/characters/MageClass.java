@@ -16,9 +16,6 @@ public class MageClass extends BaseClass {
 
     @Override
     protected void setBaseStats() {
-        baseHp = 70;
-        baseMp = 100;
-        baseAtk = 10;
         attackSpeed = 1.4f;
         range = 1.6f; // Set to 1.6 for Mage
         hasProjectile = true;
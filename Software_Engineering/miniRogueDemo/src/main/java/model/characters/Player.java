@@ -2,6 +2,7 @@ package model.characters;
 
 import enums.CharacterClass;
 import enums.GameConstants;
+import utilities.ConfigSnapshot;
 import utilities.Position;
 import model.items.Item;
 import model.items.Consumable;
@@ -14,6 +15,7 @@ import java.util.Random;
 import utilities.Collision;
 import utilities.Tile;
 import model.items.KeyItem;
+import model.effects.StatusEffect;
 
 /**
  * Player character class extending Character.
@@ -34,28 +36,14 @@ public class Player extends Character {
     private int moveDX = 0, moveDY = 0;
     private model.gameLogic.GameLogic gameLogic; // Add reference to GameLogic
     private int lastTileX = -1, lastTileY = -1; // Track last tile position for item collection
+    private int lastRevealRange = -1; // FOV range last applied on the current tile
     private int lastMoveDX = 0, lastMoveDY = 1; // Default to down
     // --- NEW: Independent aim direction ---
     private int aimDX = 0, aimDY = 1; // Default aim down
     private int lastAimDX = 0, lastAimDY = 1; // Track last nonzero aim direction
-    private long lastManaRegenTime = System.currentTimeMillis();
+    private long lastManaRegenTime = clock.now();
     private int enemiesSlain = 0;
     
-    // Clarity effect (increased field of view)
-    private boolean clarityEffectActive = false;
-    private long clarityEffectEndTime = 0;
-    
-    // Invisibility effect (enemy detection immunity)
-    private boolean invisibilityEffectActive = false;
-    private long invisibilityEffectEndTime = 0;
-    
-    // Swiftness effect (movement speed multiplier)
-    private boolean swiftnessEffectActive = false;
-    private long swiftnessEffectEndTime = 0;
-    
-    private boolean immortalityEffectActive = false;
-    private long immortalityEffectEndTime = 0;
-    
     // Experience tracking
     private int currentExp = 0;
     private int totalExp = 500;
@@ -99,7 +87,10 @@ public class Player extends Character {
     /**
      * Set the GameLogic reference for notifications
      */
-    public void setGameLogic(model.gameLogic.GameLogic logic) { this.gameLogic = logic; }
+    public void setGameLogic(model.gameLogic.GameLogic logic) {
+        this.gameLogic = logic;
+        set_clock(logic != null ? logic.get_clock() : null);
+    }
     public model.gameLogic.GameLogic getGameLogic() { return this.gameLogic; }
     
     /**
@@ -117,10 +108,7 @@ public class Player extends Character {
         enemiesSlain = 0;
         
         // Reset effect timers
-        clarityEffectActive = false;
-        invisibilityEffectActive = false;
-        swiftnessEffectActive = false;
-        immortalityEffectActive = false;
+        effects.clear();
         
         // Reset stat usage limits
         healthUses = 0;
@@ -513,7 +501,7 @@ public class Player extends Character {
      */
     public void gain_experience(int expGained) {
         // Don't gain experience if already at max level
-        if (level >= GameConstants.MAX_LEVEL) {
+        if (level >= ConfigSnapshot.GameSettings.current().get_max_level()) {
             return;
         }
         
@@ -529,7 +517,8 @@ public class Player extends Character {
      * MANDATORY: Handle level up progression
      */
     private void level_up() {
-        if (level >= GameConstants.MAX_LEVEL) return;
+        int maxLevel = ConfigSnapshot.GameSettings.current().get_max_level();
+        if (level >= maxLevel) return;
         level++;
         // Reset experience for next level and increase total required
         currentExp = 0;
@@ -539,7 +528,7 @@ public class Player extends Character {
         notify_observers("LEVEL_UP", level);
         
         // Check if we just reached max level
-        if (level >= GameConstants.MAX_LEVEL) {
+        if (level >= maxLevel) {
             notify_observers("LOG_MESSAGE", "You have reached the Maximum Level! You are now a legendary hero!");
         } else {
             // Notify for level up message
@@ -557,14 +546,15 @@ public class Player extends Character {
     public int attack(Character target) {
         if (!is_alive()) return 0;
         int damage = get_total_attack();
+        ConfigSnapshot.GameSettings settings = ConfigSnapshot.GameSettings.current();
         // Check for critical hit
         int critChance = Stats.calculate_critical_chance(characterClass);
         if (new Random().nextInt(100) < critChance) {
-            damage = (int)(damage * GameConstants.CRITICAL_HIT_MULTIPLIER);
+            damage = (int)(damage * settings.get_critical_multiplier());
             notify_observers("CRITICAL_HIT", damage);
         }
         // Check for miss
-        if (new Random().nextInt(100) < GameConstants.MISS_CHANCE) {
+        if (new Random().nextDouble() < settings.get_miss_chance()) {
             damage = 0;
             notify_observers("ATTACK_MISSED", target);
         }
@@ -637,9 +627,8 @@ public class Player extends Character {
 
     public void update_movement(model.map.Map map) {
         if (!is_alive()) return;
-        updateImmunity();
-        // Process pushback first
-        updatePushback(map);
+        // Timers and pushback first; on a floor the game's systems already ran them this frame
+        update_detached_components(map);
         if (isBeingPushed()) {
             // Skip normal movement while being pushed
             return;
@@ -680,6 +669,11 @@ public class Player extends Character {
         // Mark current tile as explored and collect items
         int tileX = (int)Math.floor(pixelX / GameConstants.TILE_SIZE);
         int tileY = (int)Math.floor(pixelY / GameConstants.TILE_SIZE);
+        // Clarity starting or ending while standing still re-applies sight without re-entering the tile
+        if (map != null && tileX == lastTileX && tileY == lastTileY && get_field_of_view_range() != lastRevealRange) {
+            lastRevealRange = get_field_of_view_range();
+            map.reveal_visible(tileX, tileY, lastRevealRange);
+        }
         // Only check for items when we move to a new tile
         if (tileX != lastTileX || tileY != lastTileY) {
             lastTileX = tileX;
@@ -687,27 +681,16 @@ public class Player extends Character {
             if (map != null && tileX >= 0 && tileY >= 0 && tileX < map.get_width() && tileY < map.get_height()) {
                 // Get current field of view range (2 normally, 4 with clarity effect)
                 int fovRange = get_field_of_view_range();
-                // Reveal a rounded area (circle-like) with dynamic radius centered on the new tile
-                for (int ix = -fovRange; ix <= fovRange; ix++) {
-                    for (int iy = -fovRange; iy <= fovRange; iy++) {
-                        int nx = tileX + ix;
-                        int ny = tileY + iy;
-                        // Use Manhattan distance to approximate a circle
-                        if (Math.abs(ix) + Math.abs(iy) <= fovRange) {
-                            if (nx >= 0 && ny >= 0 && nx < map.get_width() && ny < map.get_height()) {
-                                utilities.Tile t = map.get_tile(nx, ny);
-                                if (t != null) t.set_explored();
-                            }
-                        }
-                    }
-                }
+                lastRevealRange = fovRange;
+                // Reveal tiles in line of sight; results are memoised per tile for both ranges
+                map.reveal_visible(tileX, tileY, fovRange);
                 // Collect items if present
                 Tile tile = map.get_tile(tileX, tileY);
                 if (tile.has_items()) {
-                    List<model.items.Item> items = tile.get_items();
-                    for (model.items.Item item : new ArrayList<>(items)) {
+                    // The snapshot does not change as collected items leave the tile
+                    for (model.items.Item item : tile.get_items_view()) {
                         if (collect_item(item)) {
-                            tile.remove_item(item);
+                            map.remove_item(item, tile.get_position());
                             if (gameLogic != null) {
                                 gameLogic.notify_item_collected(item);
                             }
@@ -784,9 +767,7 @@ public class Player extends Character {
      * @param durationSeconds Duration of the effect in seconds
      */
     public void activate_clarity_effect(int durationSeconds) {
-        clarityEffectActive = true;
-        clarityEffectEndTime = System.currentTimeMillis() + (durationSeconds * 1000L);
-        notify_observers("CLARITY_EFFECT_ACTIVATED", durationSeconds);
+        effects.apply(StatusEffect.CLARITY, durationSeconds * 1000L, clock.now());
     }
     
     /**
@@ -794,11 +775,7 @@ public class Player extends Character {
      * @return true if clarity effect is active
      */
     public boolean is_clarity_effect_active() {
-        if (clarityEffectActive && System.currentTimeMillis() >= clarityEffectEndTime) {
-            clarityEffectActive = false;
-            notify_observers("CLARITY_EFFECT_ENDED", null);
-        }
-        return clarityEffectActive;
+        return effects.is_active(StatusEffect.CLARITY, clock.now());
     }
     
     /**
@@ -806,7 +783,7 @@ public class Player extends Character {
      * @return field of view range in tiles
      */
     public int get_field_of_view_range() {
-        return is_clarity_effect_active() ? 4 : 2;
+        return is_clarity_effect_active() ? GameConstants.FOV_RANGE_CLARITY : GameConstants.FOV_RANGE_DEFAULT;
     }
     
     /**
@@ -814,12 +791,7 @@ public class Player extends Character {
      * @return progress as a float from 1.0 (just started) to 0.0 (about to end)
      */
     public float get_clarity_effect_progress() {
-        if (!clarityEffectActive) return 0.0f;
-        long currentTime = System.currentTimeMillis();
-        long totalDuration = 10000; // 10 seconds total
-        long elapsed = currentTime - (clarityEffectEndTime - totalDuration);
-        if (elapsed >= totalDuration) return 0.0f;
-        return 1.0f - ((float) elapsed / totalDuration);
+        return effects.get_progress(StatusEffect.CLARITY, clock.now());
     }
     
     /**
@@ -827,9 +799,7 @@ public class Player extends Character {
      * @param durationSeconds Duration of the effect in seconds
      */
     public void activate_invisibility_effect(int durationSeconds) {
-        invisibilityEffectActive = true;
-        invisibilityEffectEndTime = System.currentTimeMillis() + (durationSeconds * 1000L);
-        notify_observers("INVISIBILITY_EFFECT_ACTIVATED", durationSeconds);
+        effects.apply(StatusEffect.INVISIBILITY, durationSeconds * 1000L, clock.now());
     }
     
     /**
@@ -837,11 +807,7 @@ public class Player extends Character {
      * @return true if invisibility effect is active
      */
     public boolean is_invisibility_effect_active() {
-        if (invisibilityEffectActive && System.currentTimeMillis() >= invisibilityEffectEndTime) {
-            invisibilityEffectActive = false;
-            notify_observers("INVISIBILITY_EFFECT_ENDED", null);
-        }
-        return invisibilityEffectActive;
+        return effects.is_active(StatusEffect.INVISIBILITY, clock.now());
     }
     
     /**
@@ -849,12 +815,7 @@ public class Player extends Character {
      * @return progress as a float from 1.0 (just started) to 0.0 (about to end)
      */
     public float get_invisibility_effect_progress() {
-        if (!invisibilityEffectActive) return 0.0f;
-        long currentTime = System.currentTimeMillis();
-        long totalDuration = 8000; // 8 seconds total
-        long elapsed = currentTime - (invisibilityEffectEndTime - totalDuration);
-        if (elapsed >= totalDuration) return 0.0f;
-        return 1.0f - ((float) elapsed / totalDuration);
+        return effects.get_progress(StatusEffect.INVISIBILITY, clock.now());
     }
     
     /**
@@ -862,9 +823,7 @@ public class Player extends Character {
      * @param durationSeconds Duration of the effect in seconds
      */
     public void activate_swiftness_effect(int durationSeconds) {
-        swiftnessEffectActive = true;
-        swiftnessEffectEndTime = System.currentTimeMillis() + (durationSeconds * 1000L);
-        notify_observers("SWIFTNESS_EFFECT_ACTIVATED", durationSeconds);
+        effects.apply(StatusEffect.SWIFTNESS, durationSeconds * 1000L, clock.now());
     }
     
     /**
@@ -872,11 +831,7 @@ public class Player extends Character {
      * @return true if swiftness effect is active
      */
     public boolean is_swiftness_effect_active() {
-        if (swiftnessEffectActive && System.currentTimeMillis() >= swiftnessEffectEndTime) {
-            swiftnessEffectActive = false;
-            notify_observers("SWIFTNESS_EFFECT_ENDED", null);
-        }
-        return swiftnessEffectActive;
+        return effects.is_active(StatusEffect.SWIFTNESS, clock.now());
     }
     
     /**
@@ -884,12 +839,7 @@ public class Player extends Character {
      * @return progress as a float from 1.0 (just started) to 0.0 (about to end)
      */
     public float get_swiftness_effect_progress() {
-        if (!swiftnessEffectActive) return 0.0f;
-        long currentTime = System.currentTimeMillis();
-        long totalDuration = 5000; // 5 seconds total
-        long elapsed = currentTime - (swiftnessEffectEndTime - totalDuration);
-        if (elapsed >= totalDuration) return 0.0f;
-        return 1.0f - ((float) elapsed / totalDuration);
+        return effects.get_progress(StatusEffect.SWIFTNESS, clock.now());
     }
     
     /**
@@ -897,9 +847,7 @@ public class Player extends Character {
      * @param durationSeconds duration in seconds
      */
     public void activate_immortality_effect(int durationSeconds) {
-        immortalityEffectActive = true;
-        immortalityEffectEndTime = System.currentTimeMillis() + (durationSeconds * 1000);
-        notify_observers("IMMORTALITY_EFFECT_STARTED", null);
+        effects.apply(StatusEffect.IMMORTALITY, durationSeconds * 1000L, clock.now());
     }
     
     /**
@@ -907,11 +855,7 @@ public class Player extends Character {
      * @return true if the effect is active
      */
     public boolean is_immortality_effect_active() {
-        if (immortalityEffectActive && System.currentTimeMillis() >= immortalityEffectEndTime) {
-            immortalityEffectActive = false;
-            notify_observers("IMMORTALITY_EFFECT_ENDED", null);
-        }
-        return immortalityEffectActive;
+        return effects.is_active(StatusEffect.IMMORTALITY, clock.now());
     }
     
     /**
@@ -919,12 +863,7 @@ public class Player extends Character {
      * @return progress as a float from 1.0 (just started) to 0.0 (about to end)
      */
     public float get_immortality_effect_progress() {
-        if (!immortalityEffectActive) return 0.0f;
-        long currentTime = System.currentTimeMillis();
-        long totalDuration = 5000; // 5 seconds total
-        long elapsed = currentTime - (immortalityEffectEndTime - totalDuration);
-        if (elapsed >= totalDuration) return 0.0f;
-        return 1.0f - ((float) elapsed / totalDuration);
+        return effects.get_progress(StatusEffect.IMMORTALITY, clock.now());
     }
     
     /**
@@ -1107,6 +1046,7 @@ public class Player extends Character {
         }
         
         levelPoints--; // Consume one level point
+        invalidate_stats();
         
         switch (statType.toLowerCase()) {
             case "health":
@@ -1257,13 +1197,13 @@ public class Player extends Character {
      */
     public void passiveManaRegen() {
         if (maxMp > 0 && currentMp < maxMp) {
-            long now = System.currentTimeMillis();
+            long now = clock.now();
             if (now - lastManaRegenTime >= 1000) {
                 lastManaRegenTime = now;
                 add_mp(1);
             }
         } else {
-            lastManaRegenTime = System.currentTimeMillis(); // reset timer if full or no MP
+            lastManaRegenTime = clock.now(); // reset timer if full or no MP
         }
     }
 
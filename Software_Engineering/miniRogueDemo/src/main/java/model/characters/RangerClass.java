@@ -16,9 +16,6 @@ public class RangerClass extends BaseClass {
 
     @Override
     protected void setBaseStats() {
-        baseHp = 70;
-        baseMp = 0;
-        baseAtk = 8; // Slightly less than Mage
         attackSpeed = 2.5f; // Faster fire rate
         projectileTravelDistance = 8;
         range = projectileTravelDistance / 2f; // Red arc is half the projectile range
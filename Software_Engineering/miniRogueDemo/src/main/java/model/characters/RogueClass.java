@@ -11,9 +11,6 @@ public class RogueClass extends BaseClass {
 
     @Override
     protected void setBaseStats() {
-        baseHp = 80;
-        baseMp = 0;
-        baseAtk = 14;
         attackSpeed = 2.55f;
         range = 1.4f; // Set to 1.4 for Rogue
         hasProjectile = false;
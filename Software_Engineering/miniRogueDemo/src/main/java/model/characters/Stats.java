@@ -108,18 +108,9 @@ public final class Stats {
      * @return Critical hit chance as percentage
      */
     public static int calculate_critical_chance(enums.CharacterClass characterClass) {
-        switch (characterClass) {
-            case WARRIOR:
-                return 8; // 8%
-            case MAGE:
-                return 12; // 12% (spell crits)
-            case ROGUE:
-                return 20; // 20% (high crit)
-            case RANGER:
-                return 12; // 12% (same as Mage for now)
-            default:
-                return enums.GameConstants.CRITICAL_HIT_CHANCE;
-        }
+        double chance = utilities.ConfigSnapshot.GameSettings.current()
+                .get_class_stats(characterClass).get_critical_chance();
+        return (int) Math.round(chance * 100);
     }
 
     private Stats() {
@@ -33,12 +33,8 @@ public class Upgrader extends Character {
     private boolean hasMadeDeal = false;
     private int upgradeCost;
     
-    // Field of view and visibility fields
-    private boolean isVisible = true;
-    private float transparency = 1.0f;
+    // Field of view and visibility; the visible and fading state lives in the character's component row
     private static final int FIELD_OF_VIEW_RANGE = 5;
-    private boolean isDisappearingAfterUpgrade = false;
-    private long disappearingStartTime = 0;
     private static final long DISAPPEARING_DELAY = 400; // 400ms delay before starting to fade
     
     public Upgrader(Position position, UpgraderType type) {
@@ -65,31 +61,31 @@ public class Upgrader extends Character {
     }
     
     public boolean isVisible() {
-        // For normal enemy detection, use isVisible field
+        // For normal enemy detection, use the visible flag
         // For disappearing after upgrade, allow rendering and let transparency handle the fade
-        if (isDisappearingAfterUpgrade) {
+        if (is_disappearing()) {
             return !hasMadeDeal; // Allow rendering during disappearing process
         }
-        return !hasMadeDeal && isVisible; // Normal visibility check for enemy detection
+        return !hasMadeDeal && has_component_flag(CharacterComponents.VISIBLE); // Normal visibility check for enemy detection
     }
     
     public float getTransparency() {
         if (hasMadeDeal) {
             return 0.0f; // Completely invisible if deal made
         }
-        if (isDisappearingAfterUpgrade) {
-            return transparency; // Use current transparency during disappearing process
+        if (is_disappearing()) {
+            return transparency(); // Use current transparency during disappearing process
         }
-        return transparency; // Use calculated transparency based on enemy detection
+        return transparency(); // Use calculated transparency based on enemy detection
     }
     
     /**
      * Start the disappearing process after successful upgrade
      */
     public void startDisappearingAfterUpgrade() {
-        isDisappearingAfterUpgrade = true;
-        transparency = 1.0f; // Start fully visible
-        disappearingStartTime = System.currentTimeMillis(); // Record when disappearing started
+        set_component_flag(CharacterComponents.DISAPPEARING, true);
+        set_component_float(CharacterComponents.TRANSPARENCY, 1.0f); // Start fully visible
+        set_component_time(CharacterComponents.DISAPPEARING_START, clock.now()); // Record when disappearing started
     }
     
     public boolean hasMadeDeal() {
@@ -125,25 +121,25 @@ public class Upgrader extends Character {
      */
     public void updateVisibility(List<Character> nearbyEnemies) {
         if (hasMadeDeal) {
-            isVisible = false;
-            transparency = 0.0f;
+            set_component_flag(CharacterComponents.VISIBLE, false);
+            set_component_float(CharacterComponents.TRANSPARENCY, 0.0f);
             return;
         }
         
-        if (isDisappearingAfterUpgrade) {
+        if (is_disappearing()) {
             // Check if we should start fading yet (add delay before fading begins)
-            long currentTime = System.currentTimeMillis();
-            if (currentTime - disappearingStartTime < DISAPPEARING_DELAY) {
-                isVisible = true; // Still in delay period, stay fully visible
-                transparency = 1.0f;
+            long currentTime = clock.now();
+            if (currentTime - get_component_time(CharacterComponents.DISAPPEARING_START) < DISAPPEARING_DELAY) {
+                set_component_flag(CharacterComponents.VISIBLE, true); // Still in delay period, stay fully visible
+                set_component_float(CharacterComponents.TRANSPARENCY, 1.0f);
                 return;
             }
             
             // Gradually fade out after successful upgrade
-            transparency = Math.max(0.0f, transparency - 0.01f); // Much slower fade out for visible gradual effect
-            if (transparency <= 0.0f) {
+            set_component_float(CharacterComponents.TRANSPARENCY, Math.max(0.0f, transparency() - 0.01f)); // Much slower fade out for visible gradual effect
+            if (transparency() <= 0.0f) {
                 hasMadeDeal = true; // Mark as completely gone
-                isVisible = false;
+                set_component_flag(CharacterComponents.VISIBLE, false);
             }
             return;
         }
@@ -162,24 +158,32 @@ public class Upgrader extends Character {
         
         if (enemiesInFieldOfView) {
             // Gradually become more transparent when enemies are in field of view
-            transparency = Math.max(0.0f, transparency - 0.15f); // Faster fade out
-            if (transparency <= 0.1f) {
-                isVisible = false;
+            set_component_float(CharacterComponents.TRANSPARENCY, Math.max(0.0f, transparency() - 0.15f)); // Faster fade out
+            if (transparency() <= 0.1f) {
+                set_component_flag(CharacterComponents.VISIBLE, false);
             }
         } else {
             // Gradually become more visible when no enemies are in field of view
-            transparency = Math.min(1.0f, transparency + 0.15f); // Faster fade in
-            if (transparency >= 0.9f) {
-                isVisible = true;
+            set_component_float(CharacterComponents.TRANSPARENCY, Math.min(1.0f, transparency() + 0.15f)); // Faster fade in
+            if (transparency() >= 0.9f) {
+                set_component_flag(CharacterComponents.VISIBLE, true);
             }
         }
     }
     
+    private float transparency() {
+        return get_component_float(CharacterComponents.TRANSPARENCY);
+    }
+
+    private boolean is_disappearing() {
+        return has_component_flag(CharacterComponents.DISAPPEARING);
+    }
+    
     /**
      * Attempt to upgrade player equipment
      */
     public boolean attemptUpgrade(Player player) {
-        if (hasMadeDeal || isDisappearingAfterUpgrade) {
+        if (hasMadeDeal || is_disappearing()) {
             return false;
         }
         
@@ -11,9 +11,6 @@ public class WarriorClass extends BaseClass {
 
     @Override
     protected void setBaseStats() {
-        baseHp = 120;
-        baseMp = 0;
-        baseAtk = 18;
         attackSpeed = 1.12f;
         range = 2; // double range
         hasProjectile = false;
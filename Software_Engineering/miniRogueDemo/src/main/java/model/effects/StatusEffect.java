@@ -0,0 +1,113 @@
+package model.effects;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NEW: Definition of a timed buff, debuff or temporary state.
+ *
+ * Effects are data: each definition gets one bit of an entity's active mask
+ * and says how repeat applications stack and what observer events to send.
+ * Adding a new effect is one define() call, with no new fields on the
+ * characters that carry it. At most 64 effects can be defined.
+ */
+public final class StatusEffect {
+
+    /**
+     * NEW: What a repeat application does to the remaining time
+     */
+    public enum Stacking {
+        REFRESH, // Restart the timer from now (never shortens it)
+        EXTEND   // Add the new duration to the time left
+    }
+
+    private static final List<StatusEffect> DEFINED = new ArrayList<>();
+
+    // Player potions
+    public static final StatusEffect CLARITY = define("clarity", 1, Stacking.REFRESH,
+        "CLARITY_EFFECT_ACTIVATED", "CLARITY_EFFECT_ENDED");
+    public static final StatusEffect INVISIBILITY = define("invisibility", 1, Stacking.REFRESH,
+        "INVISIBILITY_EFFECT_ACTIVATED", "INVISIBILITY_EFFECT_ENDED");
+    public static final StatusEffect SWIFTNESS = define("swiftness", 1, Stacking.REFRESH,
+        "SWIFTNESS_EFFECT_ACTIVATED", "SWIFTNESS_EFFECT_ENDED");
+    public static final StatusEffect IMMORTALITY = define("immortality", 1, Stacking.REFRESH,
+        "IMMORTALITY_EFFECT_STARTED", "IMMORTALITY_EFFECT_ENDED");
+
+    // Enemy temporary states
+    public static final StatusEffect HIT = define("hit", 1, Stacking.REFRESH, null, null);
+    public static final StatusEffect FALLBACK = define("fallback", 1, Stacking.REFRESH, null, null);
+    public static final StatusEffect CELEBRATORY = define("celebratory", 1, Stacking.REFRESH, null, null);
+    public static final StatusEffect CELEBRATORY_IMMUNITY = define("celebratory_immunity", 1, Stacking.REFRESH, null, null);
+    public static final StatusEffect DETECTION = define("detection", 1, Stacking.REFRESH, null, null);
+
+    private final int id;
+    private final String name;
+    private final int maxStacks;
+    private final Stacking stacking;
+    private final String startEvent;
+    private final String endEvent;
+
+    private StatusEffect(int id, String name, int maxStacks, Stacking stacking, String startEvent, String endEvent) {
+        this.id = id;
+        this.name = name;
+        this.maxStacks = maxStacks;
+        this.stacking = stacking;
+        this.startEvent = startEvent;
+        this.endEvent = endEvent;
+    }
+
+    /**
+     * NEW: Define a new effect
+     *
+     * @param name Unique effect name
+     * @param maxStacks Highest stack count, 1 for effects that do not stack
+     * @param stacking How a repeat application changes the remaining time
+     * @param startEvent Observer event sent when the effect starts, or null
+     * @param endEvent Observer event sent when the effect ends, or null
+     * @return The new definition
+     */
+    public static synchronized StatusEffect define(String name, int maxStacks, Stacking stacking,
+                                                   String startEvent, String endEvent) {
+        if (name == null || stacking == null || maxStacks < 1) {
+            throw new IllegalArgumentException("Effect needs a name, a stacking rule and at least one stack");
+        }
+        if (by_name(name) != null) {
+            throw new IllegalArgumentException("Effect already defined: " + name);
+        }
+        if (DEFINED.size() >= Long.SIZE) {
+            throw new IllegalStateException("No more than " + Long.SIZE + " status effects can be defined");
+        }
+        StatusEffect effect = new StatusEffect(DEFINED.size(), name, maxStacks, stacking, startEvent, endEvent);
+        DEFINED.add(effect);
+        return effect;
+    }
+
+    /**
+     * NEW: Look up a definition by name
+     *
+     * @return The effect, or null if none has that name
+     */
+    public static synchronized StatusEffect by_name(String name) {
+        for (StatusEffect effect : DEFINED) {
+            if (effect.name.equals(name)) return effect;
+        }
+        return null;
+    }
+
+    static synchronized StatusEffect by_id(int id) {
+        return DEFINED.get(id);
+    }
+
+    public int get_id() { return id; }
+    public long get_bit() { return 1L << id; }
+    public String get_name() { return name; }
+    public int get_max_stacks() { return maxStacks; }
+    public Stacking get_stacking() { return stacking; }
+    public String get_start_event() { return startEvent; }
+    public String get_end_event() { return endEvent; }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
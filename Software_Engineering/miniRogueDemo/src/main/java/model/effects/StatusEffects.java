@@ -0,0 +1,281 @@
+package model.effects;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NEW: Timed effects carried by one character.
+ *
+ * Which effects are active is a single bitmask, so "is it active" is one
+ * volatile read and an AND. Expiry times sit in a small binary min-heap;
+ * tick() pops whatever is due once per game tick, and a query made after
+ * the earliest expiry but before the next tick catches up first, so callers
+ * never see an effect that has run out. Refreshing an effect pushes a new
+ * heap entry and bumps the effect's generation, which turns the old entry
+ * into a stale one that is skipped when it reaches the top.
+ *
+ * Start and end callbacks run after the lock is released, so a listener can
+ * safely call back into the character or notify observers.
+ */
+public class StatusEffects {
+
+    /**
+     * NEW: Receives effect start and end events
+     */
+    public interface Listener {
+        default void on_effect_started(StatusEffect effect, int stacks, long durationMs) {}
+        default void on_effect_ended(StatusEffect effect, long now) {}
+    }
+
+    private static final int SLOTS = Long.SIZE;
+
+    private final Listener listener;
+    private volatile long activeMask;
+    private volatile long nextExpiry = Long.MAX_VALUE;
+    private final long[] startTime = new long[SLOTS];
+    private final long[] endTime = new long[SLOTS];
+    private final int[] stacks = new int[SLOTS];
+    private final int[] generation = new int[SLOTS];
+
+    // Min-heap of (expiry time, effect id, generation)
+    private long[] heapTime = new long[8];
+    private int[] heapEffect = new int[8];
+    private int[] heapGeneration = new int[8];
+    private int heapSize;
+
+    /**
+     * NEW: Constructor for StatusEffects
+     *
+     * @param listener Start and end callbacks, or null
+     */
+    public StatusEffects(Listener listener) {
+        this.listener = listener != null ? listener : new Listener() {};
+    }
+
+    /**
+     * NEW: Start an effect, or stack and refresh it if already running
+     *
+     * @param effect Effect to apply
+     * @param durationMs Duration of this application in game milliseconds
+     * @param now Current game time
+     */
+    public void apply(StatusEffect effect, long durationMs, long now) {
+        if (durationMs < 0) {
+            throw new IllegalArgumentException("Effect duration must not be negative");
+        }
+        List<StatusEffect> ended = new ArrayList<>();
+        int stackCount;
+        synchronized (this) {
+            expire_due(now, ended);
+            int id = effect.get_id();
+            if ((activeMask & effect.get_bit()) == 0) {
+                stacks[id] = 1;
+                startTime[id] = now;
+                endTime[id] = now + durationMs;
+                activeMask |= effect.get_bit();
+            } else {
+                stacks[id] = Math.min(effect.get_max_stacks(), stacks[id] + 1);
+                if (effect.get_stacking() == StatusEffect.Stacking.EXTEND) {
+                    endTime[id] += durationMs;
+                } else if (now + durationMs > endTime[id]) {
+                    startTime[id] = now;
+                    endTime[id] = now + durationMs;
+                }
+            }
+            generation[id]++;
+            push(endTime[id], id, generation[id]);
+            nextExpiry = heapTime[0];
+            stackCount = stacks[id];
+        }
+        fire_ended(ended, now);
+        listener.on_effect_started(effect, stackCount, durationMs);
+    }
+
+    /**
+     * NEW: End every effect whose time is up; call once per game tick
+     *
+     * @param now Current game time
+     * @return Number of effects that ended
+     */
+    public int tick(long now) {
+        if (now < nextExpiry) {
+            return 0;
+        }
+        List<StatusEffect> ended = new ArrayList<>();
+        synchronized (this) {
+            expire_due(now, ended);
+        }
+        fire_ended(ended, now);
+        return ended.size();
+    }
+
+    /**
+     * NEW: End an effect now and send its end event
+     */
+    public void end(StatusEffect effect, long now) {
+        boolean wasActive;
+        synchronized (this) {
+            wasActive = deactivate(effect.get_id());
+        }
+        if (wasActive) {
+            listener.on_effect_ended(effect, now);
+        }
+    }
+
+    /**
+     * NEW: Drop an effect without sending its end event
+     */
+    public synchronized void cancel(StatusEffect effect) {
+        deactivate(effect.get_id());
+    }
+
+    /**
+     * NEW: Drop every effect without sending end events
+     */
+    public synchronized void clear() {
+        activeMask = 0;
+        Arrays.fill(stacks, 0);
+        heapSize = 0;
+        nextExpiry = Long.MAX_VALUE;
+    }
+
+    /**
+     * NEW: Whether an effect is active, catching up on expiries if one is due
+     */
+    public boolean is_active(StatusEffect effect, long now) {
+        if (now >= nextExpiry) {
+            tick(now);
+        }
+        return (activeMask & effect.get_bit()) != 0;
+    }
+
+    /**
+     * NEW: Side-effect free check for a given time; never ends an effect or
+     * fires an event, so it is safe to call from parallel readers
+     */
+    public synchronized boolean is_active_at(StatusEffect effect, long now) {
+        return (activeMask & effect.get_bit()) != 0 && now < endTime[effect.get_id()];
+    }
+
+    /**
+     * NEW: Game time the next effect runs out, so a caller can skip tick()
+     * while nothing is due
+     *
+     * @return Earliest expiry, or Long.MAX_VALUE when nothing is running
+     */
+    public long get_next_expiry() {
+        return nextExpiry;
+    }
+
+    /**
+     * NEW: Active effects as of the last tick, one bit per effect id
+     */
+    public long get_active_mask() {
+        return activeMask;
+    }
+
+    public synchronized int get_stacks(StatusEffect effect) {
+        return (activeMask & effect.get_bit()) != 0 ? stacks[effect.get_id()] : 0;
+    }
+
+    public synchronized long get_start_time(StatusEffect effect) {
+        return startTime[effect.get_id()];
+    }
+
+    /**
+     * NEW: Game time left on an effect
+     *
+     * @return Milliseconds left, 0 when inactive
+     */
+    public synchronized long get_remaining(StatusEffect effect, long now) {
+        if ((activeMask & effect.get_bit()) == 0) return 0;
+        return Math.max(0L, endTime[effect.get_id()] - now);
+    }
+
+    /**
+     * NEW: Fraction of the current run left on an effect
+     *
+     * @return 1.0 just after it started down to 0.0 when it ends or is inactive
+     */
+    public synchronized float get_progress(StatusEffect effect, long now) {
+        int id = effect.get_id();
+        if ((activeMask & effect.get_bit()) == 0 || now >= endTime[id]) return 0.0f;
+        long total = endTime[id] - startTime[id];
+        return total <= 0 ? 0.0f : (float) (endTime[id] - now) / total;
+    }
+
+    private boolean deactivate(int id) {
+        long bit = 1L << id;
+        if ((activeMask & bit) == 0) {
+            return false;
+        }
+        activeMask &= ~bit;
+        stacks[id] = 0;
+        // Leaves a stale heap entry behind; it is skipped when popped
+        generation[id]++;
+        return true;
+    }
+
+    private void expire_due(long now, List<StatusEffect> ended) {
+        while (heapSize > 0 && heapTime[0] <= now) {
+            int id = heapEffect[0];
+            int gen = heapGeneration[0];
+            pop();
+            if (gen == generation[id] && deactivate(id)) {
+                ended.add(StatusEffect.by_id(id));
+            }
+        }
+        nextExpiry = heapSize > 0 ? heapTime[0] : Long.MAX_VALUE;
+    }
+
+    private void fire_ended(List<StatusEffect> ended, long now) {
+        for (StatusEffect effect : ended) {
+            listener.on_effect_ended(effect, now);
+        }
+    }
+
+    private void push(long time, int effect, int gen) {
+        if (heapSize == heapTime.length) {
+            heapTime = Arrays.copyOf(heapTime, heapSize * 2);
+            heapEffect = Arrays.copyOf(heapEffect, heapSize * 2);
+            heapGeneration = Arrays.copyOf(heapGeneration, heapSize * 2);
+        }
+        int slot = heapSize++;
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (heapTime[parent] <= time) break;
+            move(parent, slot);
+            slot = parent;
+        }
+        heapTime[slot] = time;
+        heapEffect[slot] = effect;
+        heapGeneration[slot] = gen;
+    }
+
+    private void pop() {
+        heapSize--;
+        if (heapSize == 0) return;
+        long time = heapTime[heapSize];
+        int effect = heapEffect[heapSize];
+        int gen = heapGeneration[heapSize];
+        int slot = 0;
+        while (true) {
+            int child = slot * 2 + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapTime[child + 1] < heapTime[child]) child++;
+            if (heapTime[child] >= time) break;
+            move(child, slot);
+            slot = child;
+        }
+        heapTime[slot] = time;
+        heapEffect[slot] = effect;
+        heapGeneration[slot] = gen;
+    }
+
+    private void move(int from, int to) {
+        heapTime[to] = heapTime[from];
+        heapEffect[to] = heapEffect[from];
+        heapGeneration[to] = heapGeneration[from];
+    }
+}
@@ -0,0 +1,262 @@
+package model.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NEW: Dense entity-component storage.
+ *
+ * Entities are small int ids, recycled after destroy. Live entities are
+ * packed into a dense index range 0..size-1 and every component is a
+ * column: one primitive (or object) array indexed by that dense index.
+ * A system walks the columns it cares about from 0 to size with no
+ * pointer chasing, and destroying an entity swap-removes its row from
+ * every column at once, so component data cannot outlive its entity.
+ *
+ * All methods lock the store; systems that touch many rows should hold
+ * the lock themselves via synchronized (store) to iterate consistently.
+ */
+public class EntityStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] sparse;   // entity -> dense index, -1 when dead
+    private int[] dense;    // dense index -> entity
+    private int size;
+    private int nextEntity;
+    private int[] freeEntities;
+    private int freeCount;
+    private final List<Column> columns = new ArrayList<>();
+
+    /**
+     * NEW: Constructor for EntityStore
+     */
+    public EntityStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * NEW: Constructor for a store expected to hold few entities
+     *
+     * @param initialCapacity Rows to allocate up front; grows as needed
+     */
+    public EntityStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        sparse = new int[capacity];
+        dense = new int[capacity];
+        freeEntities = new int[capacity];
+        Arrays.fill(sparse, -1);
+    }
+
+    /**
+     * NEW: Create an entity with default values in every column
+     *
+     * @return Entity id
+     */
+    public synchronized int create() {
+        int entity;
+        if (freeCount > 0) {
+            entity = freeEntities[--freeCount];
+        } else {
+            entity = nextEntity++;
+            if (entity >= sparse.length) {
+                int old = sparse.length;
+                sparse = Arrays.copyOf(sparse, old * 2);
+                Arrays.fill(sparse, old, sparse.length, -1);
+            }
+        }
+        if (size == dense.length) {
+            dense = Arrays.copyOf(dense, size * 2);
+            for (Column column : columns) {
+                column.grow(dense.length);
+            }
+        }
+        sparse[entity] = size;
+        dense[size] = entity;
+        for (Column column : columns) {
+            column.clear(size);
+        }
+        size++;
+        return entity;
+    }
+
+    /**
+     * NEW: Destroy an entity and drop its row from every column
+     *
+     * @param entity Entity id
+     * @return true if the entity was alive
+     */
+    public synchronized boolean destroy(int entity) {
+        if (!is_alive(entity)) {
+            return false;
+        }
+        int index = sparse[entity];
+        int last = size - 1;
+        if (index != last) {
+            int moved = dense[last];
+            dense[index] = moved;
+            sparse[moved] = index;
+            for (Column column : columns) {
+                column.move(last, index);
+            }
+        }
+        for (Column column : columns) {
+            column.clear(last);
+        }
+        sparse[entity] = -1;
+        size--;
+        if (freeCount == freeEntities.length) {
+            freeEntities = Arrays.copyOf(freeEntities, freeCount * 2);
+        }
+        freeEntities[freeCount++] = entity;
+        return true;
+    }
+
+    /**
+     * NEW: Destroy every entity
+     */
+    public synchronized void clear() {
+        while (size > 0) {
+            destroy(dense[size - 1]);
+        }
+    }
+
+    public synchronized boolean is_alive(int entity) {
+        return entity >= 0 && entity < sparse.length && sparse[entity] >= 0;
+    }
+
+    /**
+     * NEW: Dense row of an entity
+     *
+     * @param entity Entity id
+     * @return Row index, or -1 if the entity is dead
+     */
+    public synchronized int index_of(int entity) {
+        return is_alive(entity) ? sparse[entity] : -1;
+    }
+
+    public synchronized int entity_at(int index) { return dense[index]; }
+    public synchronized int size() { return size; }
+
+    /**
+     * NEW: Register a component column; existing entities get default values
+     *
+     * @param column Column to add
+     * @return The column, for chaining into a field
+     */
+    public synchronized <C extends Column> C add_column(C column) {
+        column.grow(dense.length);
+        for (int i = 0; i < size; i++) {
+            column.clear(i);
+        }
+        columns.add(column);
+        return column;
+    }
+
+    /**
+     * NEW: One component stored as an array indexed by dense row
+     */
+    public abstract static class Column {
+        abstract void grow(int capacity);
+        abstract void move(int from, int to);
+        abstract void clear(int index);
+
+        /**
+         * NEW: Copy one value into a column of the same kind, usually in
+         * another store; the caller holds both stores' locks
+         *
+         * @param from Row in this column
+         * @param target Column to copy into
+         * @param to Row in the target column
+         */
+        public abstract void copy_to(int from, Column target, int to);
+    }
+
+    /**
+     * NEW: Column of longs, e.g. timestamps
+     */
+    public static final class LongColumn extends Column {
+        private final long defaultValue;
+        private long[] values = new long[0];
+
+        public LongColumn(long defaultValue) { this.defaultValue = defaultValue; }
+
+        @Override void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        @Override void move(int from, int to) { values[to] = values[from]; }
+        @Override void clear(int index) { values[index] = defaultValue; }
+        @Override public void copy_to(int from, Column target, int to) { ((LongColumn) target).values[to] = values[from]; }
+
+        public long get(int index) { return values[index]; }
+        public void set(int index, long value) { values[index] = value; }
+    }
+
+    /**
+     * NEW: Column of ints, e.g. directions or bit flags
+     */
+    public static final class IntColumn extends Column {
+        private final int defaultValue;
+        private int[] values = new int[0];
+
+        public IntColumn(int defaultValue) { this.defaultValue = defaultValue; }
+
+        @Override void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        @Override void move(int from, int to) { values[to] = values[from]; }
+        @Override void clear(int index) { values[index] = defaultValue; }
+        @Override public void copy_to(int from, Column target, int to) { ((IntColumn) target).values[to] = values[from]; }
+
+        public int get(int index) { return values[index]; }
+        public void set(int index, int value) { values[index] = value; }
+    }
+
+    /**
+     * NEW: Column of floats, e.g. pixel distances
+     */
+    public static final class FloatColumn extends Column {
+        private final float defaultValue;
+        private float[] values = new float[0];
+
+        public FloatColumn(float defaultValue) { this.defaultValue = defaultValue; }
+
+        @Override void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        @Override void move(int from, int to) { values[to] = values[from]; }
+        @Override void clear(int index) { values[index] = defaultValue; }
+        @Override public void copy_to(int from, Column target, int to) { ((FloatColumn) target).values[to] = values[from]; }
+
+        public float get(int index) { return values[index]; }
+        public void set(int index, float value) { values[index] = value; }
+    }
+
+    /**
+     * NEW: Column of doubles, e.g. angles
+     */
+    public static final class DoubleColumn extends Column {
+        private final double defaultValue;
+        private double[] values = new double[0];
+
+        public DoubleColumn(double defaultValue) { this.defaultValue = defaultValue; }
+
+        @Override void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        @Override void move(int from, int to) { values[to] = values[from]; }
+        @Override void clear(int index) { values[index] = defaultValue; }
+        @Override public void copy_to(int from, Column target, int to) { ((DoubleColumn) target).values[to] = values[from]; }
+
+        public double get(int index) { return values[index]; }
+        public void set(int index, double value) { values[index] = value; }
+    }
+
+    /**
+     * NEW: Column of object references; cleared rows hold null
+     */
+    public static final class ObjectColumn<T> extends Column {
+        private Object[] values = new Object[0];
+
+        @Override void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        @Override void move(int from, int to) { values[to] = values[from]; }
+        @Override void clear(int index) { values[index] = null; }
+        @Override public void copy_to(int from, Column target, int to) { ((ObjectColumn<?>) target).values[to] = values[from]; }
+
+        @SuppressWarnings("unchecked")
+        public T get(int index) { return (T) values[index]; }
+        public void set(int index, T value) { values[index] = value; }
+    }
+}
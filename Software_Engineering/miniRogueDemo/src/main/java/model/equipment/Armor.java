@@ -1,6 +1,7 @@
 package model.equipment;
 
 import enums.CharacterClass;
+import enums.Stat;
 import model.characters.Character;
 
 /**
@@ -46,20 +47,20 @@ public class Armor extends Equipment {
         
         switch (classType) {
             case ROGUE:
-                statModifiers.put("Defense", 2.0f * tierMultiplier); // Positive defense bonus
-                statModifiers.put("Speed", -1.5f * getTierPenaltyMultiplier()); // Negative speed penalty
+                set_stat_modifier(Stat.DEFENSE, 2.0f * tierMultiplier); // Positive defense bonus
+                set_stat_modifier(Stat.SPEED, -1.5f * getTierPenaltyMultiplier()); // Negative speed penalty
                 break;
             case RANGER:
-                statModifiers.put("Defense", 1.5f * tierMultiplier); // Positive defense bonus
-                statModifiers.put("Mana", -1.0f * getTierPenaltyMultiplier()); // Negative mana penalty
+                set_stat_modifier(Stat.DEFENSE, 1.5f * tierMultiplier); // Positive defense bonus
+                set_stat_modifier(Stat.MANA, -1.0f * getTierPenaltyMultiplier()); // Negative mana penalty
                 break;
             case WARRIOR:
-                statModifiers.put("Defense", 3.0f * tierMultiplier); // Positive defense bonus
-                statModifiers.put("Speed", -2.0f * getTierPenaltyMultiplier()); // Negative speed penalty
+                set_stat_modifier(Stat.DEFENSE, 3.0f * tierMultiplier); // Positive defense bonus
+                set_stat_modifier(Stat.SPEED, -2.0f * getTierPenaltyMultiplier()); // Negative speed penalty
                 break;
             case MAGE:
-                statModifiers.put("Mana", 2.0f * tierMultiplier); // Positive mana bonus
-                statModifiers.put("Defense", -1.0f * getTierPenaltyMultiplier()); // Negative defense penalty
+                set_stat_modifier(Stat.MANA, 2.0f * tierMultiplier); // Positive mana bonus
+                set_stat_modifier(Stat.DEFENSE, -1.0f * getTierPenaltyMultiplier()); // Negative defense penalty
                 break;
         }
     }
@@ -69,8 +70,7 @@ public class Armor extends Equipment {
      */
     @Override
     public void applyStatModifiers(Character character) {
-        // This will be implemented when we add stat modification system to Character
-        // For now, we'll just notify observers
+        character.invalidate_stats();
         character.notify_observers("ARMOR_MODIFIERS_APPLIED", this);
     }
 
@@ -79,7 +79,7 @@ public class Armor extends Equipment {
      */
     @Override
     public void removeStatModifiers(Character character) {
-        // This will be implemented when we add stat modification system to Character
+        character.invalidate_stats();
         character.notify_observers("ARMOR_MODIFIERS_REMOVED", this);
     }
 
@@ -90,11 +90,7 @@ public class Armor extends Equipment {
      */
     public int get_defense_value() {
         // Get the Defense modifier from stat modifiers
-        Float defenseModifier = statModifiers.get("Defense");
-        if (defenseModifier != null) {
-            return defenseModifier.intValue();
-        }
-        return 0; // No defense modifier
+        return (int) get_stat_modifier(Stat.DEFENSE); // 0 when there is no defense modifier
     }
 
     /**
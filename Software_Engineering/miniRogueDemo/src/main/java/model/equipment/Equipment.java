@@ -2,7 +2,9 @@ package model.equipment;
 
 import enums.CharacterClass;
 import enums.GameConstants;
+import enums.Stat;
 import model.items.Item;
+import utilities.SpriteIndex;
 import model.characters.Character;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,6 +23,10 @@ public abstract class Equipment extends Item {
     
     // NEW: Stat modifiers system
     protected Map<String, Float> statModifiers;
+    // NEW: Same modifiers as a primitive array indexed by Stat, plus a version
+    // bumped on every change so characters can tell when their cache is stale
+    private final float[] statValues = new float[Stat.COUNT];
+    private volatile int modifierVersion;
     
     // NEW: Equipment type
     protected EquipmentType equipmentType;
@@ -30,6 +36,10 @@ public abstract class Equipment extends Item {
     
     // NEW: Equipment type designation
     protected String equipmentTypeDesignation;
+    
+    // NEW: Catalog entry this item was built from, null for hand-built items
+    private EquipmentCatalog.Prototype prototype;
+    private int iconSpriteId = SpriteIndex.UNRESOLVED; // Only used without a prototype
 
     /**
      * Equipment types enum
@@ -71,6 +81,7 @@ public abstract class Equipment extends Item {
             return false; // Already at maximum tier
         }
         tier++;
+        modifierVersion++;
         return true;
     }
 
@@ -79,6 +90,29 @@ public abstract class Equipment extends Item {
      */
     protected abstract void initializeStatModifiers();
 
+    /**
+     * NEW: Set one stat modifier in both the display map and the stat array
+     */
+    protected void set_stat_modifier(Stat stat, float value) {
+        statModifiers.put(stat.get_label(), value);
+        statValues[stat.ordinal()] = value;
+        modifierVersion++;
+    }
+
+    /**
+     * NEW: Read one stat modifier without copying the modifier map
+     *
+     * @return Modifier value, 0 when the equipment does not modify the stat
+     */
+    public float get_stat_modifier(Stat stat) {
+        return statValues[stat.ordinal()];
+    }
+
+    /**
+     * NEW: Counter that changes whenever the modifiers, tier or upgrade level change
+     */
+    public int get_modifier_version() { return modifierVersion; }
+
     /**
      * NEW: Get tier multiplier for positive effects
      */
@@ -147,6 +181,7 @@ public abstract class Equipment extends Item {
         }
         upgradeLevel++;
         apply_upgrade_bonus();
+        modifierVersion++;
         return true;
     }
 
@@ -183,6 +218,20 @@ public abstract class Equipment extends Item {
     public Map<String, Float> get_stat_modifiers() { return new HashMap<>(statModifiers); }
     public String get_image_path() { return imagePath; }
     public String get_equipment_type_designation() { return equipmentTypeDesignation; }
+    public EquipmentCatalog.Prototype get_prototype() { return prototype; }
+
+    /**
+     * NEW: Sprite id of this equipment's icon, from its prototype when it has one
+     */
+    @Override
+    public int get_sprite_id() {
+        if (prototype != null) return prototype.get_sprite_id();
+        if (iconSpriteId == SpriteIndex.UNRESOLVED) {
+            iconSpriteId = SpriteIndex.path_sprite(imagePath);
+        }
+        return iconSpriteId;
+    }
+    void set_prototype(EquipmentCatalog.Prototype prototype) { this.prototype = prototype; }
 
     @Override
     public String toString() {
@@ -0,0 +1,390 @@
+package model.equipment;
+
+import enums.CharacterClass;
+import utilities.ConfigSnapshot;
+import utilities.ConfigurationManager;
+import utilities.SpriteIndex;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * NEW: Every weapon and armor definition as an immutable prototype, indexed
+ * once so spawning and loot rolls are array lookups.
+ *
+ * The catalog is built from a configuration snapshot and never changes.
+ * {@link #current()} rebuilds it when the configuration has been reloaded,
+ * so tuned values show up on the next spawn. Items are stamped out with
+ * {@link #copy_of(Prototype)}, which is a single constructor call and
+ * remembers the prototype on the new item so it can be copied again later
+ * (loot drops copy the enemy's gear this way).
+ *
+ * Callers pass their own Random, so rolls use the caller's seeded stream
+ * instead of a new generator per call.
+ *
+ * Building the catalog also resolves every prototype's sprites and the
+ * icons of every item the loot tables can drop, so drawing never matches
+ * names against the image mappings.
+ */
+public final class EquipmentCatalog {
+    private static final int MAX_TIER = 5;
+    private static final Prototype[] NONE = new Prototype[0];
+    private static volatile EquipmentCatalog current;
+
+    private final ConfigSnapshot source;
+    private final SpriteIndex sprites;
+    private final Prototype[] weapons;
+    private final Prototype[] armor;
+    private final Map<String, Prototype> byId = new HashMap<>();
+    private final Map<String, Prototype> enemyById = new HashMap<>();
+    private final Map<CharacterClass, Prototype[]> weaponsByClass = new EnumMap<>(CharacterClass.class);
+    private final Map<CharacterClass, Prototype[][]> weaponsByClassTier = new EnumMap<>(CharacterClass.class);
+    private final Map<Weapon.WeaponType, Prototype[]> weaponsByType = new EnumMap<>(Weapon.WeaponType.class);
+    private final Map<CharacterClass, Prototype[]> armorForClass = new EnumMap<>(CharacterClass.class);
+    private final Map<CharacterClass, Prototype[]> enemyWeapons = new EnumMap<>(CharacterClass.class);
+    private final Map<CharacterClass, Prototype[]> enemyArmor = new EnumMap<>(CharacterClass.class);
+    private final Map<CharacterClass, Prototype> startingWeapons = new EnumMap<>(CharacterClass.class);
+    private final Map<CharacterClass, Prototype> startingArmor = new EnumMap<>(CharacterClass.class);
+
+    /**
+     * NEW: Immutable description of one item; everything needed to build it
+     */
+    public static final class Prototype {
+        private final String id;
+        private final Equipment.EquipmentType kind;
+        private final String name;
+        private final int potency;
+        private final int secondary;
+        private final int mana;
+        private final CharacterClass classType;
+        private final int tier;
+        private final Weapon.WeaponType weaponType;
+        private final String imagePath;
+        private final String designation;
+        private final int spriteId;
+        private final int heldSpriteId;
+
+        Prototype(String id, Equipment.EquipmentType kind, String name, int potency, int secondary, int mana,
+                  CharacterClass classType, int tier, Weapon.WeaponType weaponType, String imagePath,
+                  String designation, int spriteId, int heldSpriteId) {
+            this.id = id;
+            this.kind = kind;
+            this.name = name;
+            this.potency = potency;
+            this.secondary = secondary;
+            this.mana = mana;
+            this.classType = classType;
+            this.tier = tier;
+            this.weaponType = weaponType;
+            this.imagePath = imagePath;
+            this.designation = designation;
+            this.spriteId = spriteId;
+            this.heldSpriteId = heldSpriteId;
+        }
+
+        public String get_id() { return id; }
+        public Equipment.EquipmentType get_kind() { return kind; }
+        public String get_name() { return name; }
+        public CharacterClass get_class_type() { return classType; }
+        public int get_tier() { return tier; }
+        public Weapon.WeaponType get_weapon_type() { return weaponType; }
+        public String get_image_path() { return imagePath; }
+        public String get_designation() { return designation; }
+        public int get_sprite_id() { return spriteId; }
+        public int get_held_sprite_id() { return heldSpriteId; }
+    }
+
+    /**
+     * NEW: Constructor for EquipmentCatalog
+     *
+     * @param source Validated configuration to index
+     */
+    public EquipmentCatalog(ConfigSnapshot source) {
+        this.source = source;
+        this.sprites = new SpriteIndex(source.get_weapon_mappings());
+        for (String itemName : source.get_loot_tables().get_item_names()) {
+            sprites.item_sprite(itemName);
+        }
+        List<Prototype> weaponList = new ArrayList<>();
+        for (ConfigSnapshot.WeaponDef def : source.get_weapons()) {
+            Prototype prototype = weapon_prototype(def);
+            weaponList.add(prototype);
+            byId.put(def.get_id(), prototype);
+        }
+        List<Prototype> armorList = new ArrayList<>();
+        for (ConfigSnapshot.ArmorDef def : source.get_armor()) {
+            Prototype prototype = armor_prototype(def);
+            armorList.add(prototype);
+            byId.put(def.get_id(), prototype);
+        }
+        this.weapons = weaponList.toArray(NONE);
+        this.armor = armorList.toArray(NONE);
+
+        for (Weapon.WeaponType type : Weapon.WeaponType.values()) {
+            List<Prototype> ofType = new ArrayList<>();
+            for (Prototype prototype : weapons) {
+                if (prototype.weaponType == type) ofType.add(prototype);
+            }
+            weaponsByType.put(type, ofType.toArray(NONE));
+        }
+
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            List<Prototype> forClass = new ArrayList<>();
+            List<List<Prototype>> byTier = new ArrayList<>();
+            for (int t = 0; t <= MAX_TIER; t++) byTier.add(new ArrayList<>());
+            for (Prototype prototype : weapons) {
+                if (prototype.classType == characterClass) {
+                    forClass.add(prototype);
+                    byTier.get(Math.max(1, Math.min(MAX_TIER, prototype.tier))).add(prototype);
+                }
+            }
+            weaponsByClass.put(characterClass, forClass.toArray(NONE));
+            Prototype[][] tiers = new Prototype[MAX_TIER + 1][];
+            for (int t = 0; t <= MAX_TIER; t++) tiers[t] = byTier.get(t).toArray(NONE);
+            weaponsByClassTier.put(characterClass, tiers);
+
+            List<Prototype> suited = new ArrayList<>();
+            for (Prototype prototype : armor) {
+                if (suits_class(prototype.name.toLowerCase(), characterClass)) suited.add(prototype);
+            }
+            // No themed armor for this class: any armor will do
+            armorForClass.put(characterClass, suited.isEmpty() ? armor : suited.toArray(NONE));
+
+            List<Prototype> loadout = new ArrayList<>();
+            for (String id : source.get_enemy_weapon_ids(characterClass)) {
+                loadout.add(enemy_weapon(id));
+            }
+            enemyWeapons.put(characterClass, loadout.toArray(NONE));
+            loadout.clear();
+            for (String id : source.get_enemy_armor_ids(characterClass)) {
+                loadout.add(enemy_armor(id));
+            }
+            enemyArmor.put(characterClass, loadout.toArray(NONE));
+
+            String weaponId = source.get_starting_weapon_id(characterClass);
+            if (weaponId != null) startingWeapons.put(characterClass, find_weapon(weaponId));
+            String armorId = source.get_starting_armor_id(characterClass);
+            if (armorId != null) startingArmor.put(characterClass, find_armor(armorId));
+        }
+    }
+
+    private Prototype weapon_prototype(ConfigSnapshot.WeaponDef def) {
+        return new Prototype(def.get_id(), Equipment.EquipmentType.WEAPON, def.get_name(), def.get_attack(),
+                             def.get_defense(), 0, def.get_character_class(), def.get_tier(), def.get_type(),
+                             def.get_image_path(), def.get_category(),
+                             SpriteIndex.path_sprite(def.get_image_path()), sprites.weapon_sprite(def.get_name()));
+    }
+
+    private Prototype armor_prototype(ConfigSnapshot.ArmorDef def) {
+        return new Prototype(def.get_id(), Equipment.EquipmentType.ARMOR, def.get_name(), def.get_attack(),
+                             def.get_defense(), def.get_mana(), def.get_character_class(), def.get_tier(), null,
+                             def.get_image_path(), def.get_category(),
+                             SpriteIndex.path_sprite(def.get_image_path()), SpriteIndex.NONE);
+    }
+
+    // Enemy loadouts prefer enemy-only definitions, then regular ones
+    private Prototype enemy_weapon(String id) {
+        return enemyById.computeIfAbsent("weapon:" + id, k -> {
+            ConfigSnapshot.WeaponDef def = source.get_enemy_weapon(id);
+            return source.is_enemy_weapon(id) ? weapon_prototype(def) : byId.get(id);
+        });
+    }
+
+    private Prototype enemy_armor(String id) {
+        return enemyById.computeIfAbsent("armor:" + id, k -> {
+            ConfigSnapshot.ArmorDef def = source.get_enemy_armor(id);
+            return source.is_enemy_armor(id) ? armor_prototype(def) : byId.get(id);
+        });
+    }
+
+    private Prototype find_weapon(String id) {
+        ConfigSnapshot.WeaponDef def = source.get_weapon(id);
+        Prototype prototype = byId.get(id);
+        return prototype != null && prototype.kind == Equipment.EquipmentType.WEAPON ? prototype : weapon_prototype(def);
+    }
+
+    private Prototype find_armor(String id) {
+        ConfigSnapshot.ArmorDef def = source.get_armor(id);
+        Prototype prototype = byId.get(id);
+        return prototype != null && prototype.kind == Equipment.EquipmentType.ARMOR ? prototype : armor_prototype(def);
+    }
+
+    /**
+     * Thematic armor by name, as enemies and bosses have always been dressed
+     */
+    private static boolean suits_class(String name, CharacterClass characterClass) {
+        switch (characterClass) {
+            case WARRIOR:
+                // Warriors get heavy/combat armor
+                return name.contains("combat") || name.contains("dragon") || name.contains("golem")
+                    || name.contains("guard") || name.contains("hero") || name.contains("knight")
+                    || name.contains("gilded");
+            case MAGE:
+                // Mages get robes and magical armor
+                return name.contains("robe") || name.contains("arcane") || name.contains("fancy")
+                    || name.contains("royal") || name.contains("vine") || name.contains("wizard");
+            case ROGUE:
+                // Rogues get light/stealth armor
+                return name.contains("animal") || name.contains("basic") || name.contains("vine");
+            case RANGER:
+                // Rangers get medium/leather armor
+                return name.contains("basic") || name.contains("iced") || name.contains("combat");
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * NEW: Catalog for the current configuration, rebuilt after a reload
+     */
+    public static EquipmentCatalog current() {
+        ConfigSnapshot snapshot = ConfigurationManager.getInstance().get_snapshot();
+        EquipmentCatalog catalog = current;
+        if (catalog == null || catalog.source != snapshot) {
+            synchronized (EquipmentCatalog.class) {
+                catalog = current;
+                if (catalog == null || catalog.source != snapshot) {
+                    catalog = new EquipmentCatalog(snapshot);
+                    current = catalog;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * NEW: Build a new item from a prototype
+     *
+     * @return New Weapon or Armor, or null for a null prototype
+     */
+    public static Equipment copy_of(Prototype prototype) {
+        return prototype == null ? null : copy_of(prototype, prototype.tier);
+    }
+
+    /**
+     * NEW: Build a new item from a prototype at another tier
+     */
+    public static Equipment copy_of(Prototype prototype, int tier) {
+        if (prototype == null) return null;
+        Equipment item;
+        if (prototype.kind == Equipment.EquipmentType.WEAPON) {
+            item = new Weapon(prototype.name, prototype.potency, prototype.secondary, prototype.classType, tier,
+                              prototype.weaponType, prototype.imagePath, prototype.designation);
+        } else {
+            item = new Armor(prototype.name, prototype.potency, prototype.secondary, prototype.mana,
+                             prototype.classType, tier, prototype.imagePath, prototype.designation);
+        }
+        item.set_prototype(prototype);
+        return item;
+    }
+
+    /**
+     * NEW: Fresh copy of an existing item at the same tier, without its
+     * upgrades. Catalog items are rebuilt from their prototype; anything else
+     * is copied field by field.
+     *
+     * @return New item, or null for a null item
+     */
+    public static Equipment copy_of_item(Equipment gear) {
+        if (gear == null) return null;
+        if (gear.get_prototype() != null) {
+            return copy_of(gear.get_prototype(), gear.get_tier());
+        }
+        if (gear instanceof Armor) {
+            Armor armor = (Armor) gear;
+            return new Armor(armor.get_name(), armor.get_defense_value(), armor.get_atk_defense(),
+                             armor.get_mp_defense(), armor.get_class_type(), armor.get_tier(),
+                             armor.get_image_path(), armor.get_equipment_type_designation());
+        }
+        Weapon weapon = (Weapon) gear;
+        return new Weapon(weapon.get_name(), weapon.get_attack_power(), weapon.get_mp_power(),
+                          weapon.get_class_type(), weapon.get_tier(), weapon.get_weapon_type(),
+                          weapon.get_image_path(), weapon.get_equipment_type_designation());
+    }
+
+    public static Weapon weapon_of(Prototype prototype) { return (Weapon) copy_of(prototype); }
+    public static Armor armor_of(Prototype prototype) { return (Armor) copy_of(prototype); }
+
+    private static Prototype pick(Prototype[] prototypes, Random random) {
+        return prototypes.length == 0 ? null : prototypes[random.nextInt(prototypes.length)];
+    }
+
+    public Prototype[] get_weapons() { return weapons.clone(); }
+    public Prototype[] get_armor() { return armor.clone(); }
+    public int weapon_count() { return weapons.length; }
+    public int armor_count() { return armor.length; }
+    public Prototype get(String id) { return byId.get(id); }
+
+    /**
+     * NEW: Sprite ids resolved for this catalog's configuration
+     */
+    public SpriteIndex get_sprites() { return sprites; }
+
+    public Prototype[] get_weapons_for_class(CharacterClass characterClass) {
+        return weaponsByClass.getOrDefault(characterClass, NONE).clone();
+    }
+
+    public Prototype[] get_weapons_of_type(Weapon.WeaponType type) {
+        return weaponsByType.getOrDefault(type, NONE).clone();
+    }
+
+    /**
+     * NEW: Weapons for a class at one tier
+     *
+     * @param tier Tier 1-5; out of range gives an empty array
+     */
+    public Prototype[] get_weapons_for_class(CharacterClass characterClass, int tier) {
+        Prototype[][] tiers = weaponsByClassTier.get(characterClass);
+        return tiers == null || tier < 1 || tier > MAX_TIER ? NONE : tiers[tier].clone();
+    }
+
+    public Prototype get_starting_weapon(CharacterClass characterClass) { return startingWeapons.get(characterClass); }
+    public Prototype get_starting_armor(CharacterClass characterClass) { return startingArmor.get(characterClass); }
+
+    /**
+     * NEW: Any lootable weapon
+     */
+    public Prototype random_weapon(Random random) {
+        return pick(weapons, random);
+    }
+
+    /**
+     * NEW: A weapon usable by a class, or any weapon if the class has none
+     */
+    public Prototype random_weapon_for_class(CharacterClass characterClass, Random random) {
+        Prototype[] forClass = weaponsByClass.getOrDefault(characterClass, NONE);
+        return forClass.length > 0 ? pick(forClass, random) : pick(weapons, random);
+    }
+
+    /**
+     * NEW: Any lootable armor
+     */
+    public Prototype random_armor(Random random) {
+        return pick(armor, random);
+    }
+
+    /**
+     * NEW: Armor themed for a class, or any armor if none matches
+     */
+    public Prototype random_armor_for_class(CharacterClass characterClass, Random random) {
+        return pick(armorForClass.getOrDefault(characterClass, armor), random);
+    }
+
+    /**
+     * NEW: One weapon from the class's enemy loadout
+     */
+    public Prototype random_enemy_weapon(CharacterClass characterClass, Random random) {
+        return pick(enemyWeapons.getOrDefault(characterClass, NONE), random);
+    }
+
+    /**
+     * NEW: One armor piece from the class's enemy loadout
+     */
+    public Prototype random_enemy_armor(CharacterClass characterClass, Random random) {
+        return pick(enemyArmor.getOrDefault(characterClass, NONE), random);
+    }
+}
@@ -1,7 +1,9 @@
 package model.equipment;
 
 import enums.CharacterClass;
+import enums.Stat;
 import model.characters.Character;
+import utilities.SpriteIndex;
 
 /**
  * Weapon equipment that increases character attack power.
@@ -12,6 +14,7 @@ public class Weapon extends Equipment {
     
     // NEW: Weapon type system
     private WeaponType weaponType;
+    private int heldSpriteId = SpriteIndex.UNRESOLVED; // Only used without a prototype
 
     /**
      * Weapon types enum
@@ -54,20 +57,20 @@ public class Weapon extends Equipment {
         // These should match the actual game effects from get_attack_power()
         switch (weaponType) {
             case BLADE:
-                statModifiers.put("Attack", 3.0f * tierMultiplier); // Positive attack bonus
-                statModifiers.put("Speed", -2.0f * getTierPenaltyMultiplier()); // Negative speed penalty
+                set_stat_modifier(Stat.ATTACK, 3.0f * tierMultiplier); // Positive attack bonus
+                set_stat_modifier(Stat.SPEED, -2.0f * getTierPenaltyMultiplier()); // Negative speed penalty
                 break;
             case DISTANCE:
-                statModifiers.put("Range", 2.0f * tierMultiplier); // Positive range bonus
-                statModifiers.put("Attack", -1.5f * getTierPenaltyMultiplier()); // Negative attack penalty
+                set_stat_modifier(Stat.RANGE, 2.0f * tierMultiplier); // Positive range bonus
+                set_stat_modifier(Stat.ATTACK, -1.5f * getTierPenaltyMultiplier()); // Negative attack penalty
                 break;
             case IMPACT:
-                statModifiers.put("Attack", 4.0f * tierMultiplier); // Positive attack bonus
-                statModifiers.put("Speed", -3.0f * getTierPenaltyMultiplier()); // Negative speed penalty
+                set_stat_modifier(Stat.ATTACK, 4.0f * tierMultiplier); // Positive attack bonus
+                set_stat_modifier(Stat.SPEED, -3.0f * getTierPenaltyMultiplier()); // Negative speed penalty
                 break;
             case MAGIC:
-                statModifiers.put("Mana", 5.0f * tierMultiplier); // Positive mana bonus
-                statModifiers.put("Attack", -2.0f * getTierPenaltyMultiplier()); // Negative attack penalty
+                set_stat_modifier(Stat.MANA, 5.0f * tierMultiplier); // Positive mana bonus
+                set_stat_modifier(Stat.ATTACK, -2.0f * getTierPenaltyMultiplier()); // Negative attack penalty
                 break;
         }
     }
@@ -77,8 +80,7 @@ public class Weapon extends Equipment {
      */
     @Override
     public void applyStatModifiers(Character character) {
-        // This will be implemented when we add stat modification system to Character
-        // For now, we'll just notify observers
+        character.invalidate_stats();
         character.notify_observers("WEAPON_MODIFIERS_APPLIED", this);
     }
 
@@ -87,7 +89,7 @@ public class Weapon extends Equipment {
      */
     @Override
     public void removeStatModifiers(Character character) {
-        // This will be implemented when we add stat modification system to Character
+        character.invalidate_stats();
         character.notify_observers("WEAPON_MODIFIERS_REMOVED", this);
     }
 
@@ -116,11 +118,7 @@ public class Weapon extends Equipment {
      */
     public int get_attack_power() {
         // Get the Attack modifier from stat modifiers
-        Float attackModifier = statModifiers.get("Attack");
-        if (attackModifier != null) {
-            return attackModifier.intValue();
-        }
-        return 0; // No attack modifier
+        return (int) get_stat_modifier(Stat.ATTACK); // 0 when there is no attack modifier
     }
 
     /**
@@ -154,6 +152,20 @@ public class Weapon extends Equipment {
     // NEW: Getters for weapon type
     public WeaponType get_weapon_type() { return weaponType; }
 
+    /**
+     * NEW: Sprite id drawn while the weapon is held or swung, from its
+     * prototype when it has one and resolved by name once otherwise
+     *
+     * @return Sprite id, or SpriteIndex.NONE if the name maps to no image
+     */
+    public int get_held_sprite_id() {
+        if (get_prototype() != null) return get_prototype().get_held_sprite_id();
+        if (heldSpriteId == SpriteIndex.UNRESOLVED) {
+            heldSpriteId = EquipmentCatalog.current().get_sprites().weapon_sprite(name);
+        }
+        return heldSpriteId;
+    }
+
     @Override
     public String toString() {
         return super.toString() + " [" + get_stats() + "]";
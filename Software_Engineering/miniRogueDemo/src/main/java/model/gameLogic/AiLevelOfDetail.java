@@ -0,0 +1,176 @@
+package model.gameLogic;
+
+import enums.GameConstants;
+import model.characters.Enemy;
+import model.characters.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NEW: Distance-based level of detail for enemy AI.
+ *
+ * Each frame every enemy is placed in a tier by its tile distance from the
+ * player. FULL enemies run the whole update_movement state machine. REDUCED
+ * enemies run it once every few frames (staggered by list position) and
+ * only glide toward their current target tile in between. ASLEEP enemies
+ * are skipped until the player comes within the wake radius or makes a
+ * noise they can hear. Enemies that are chasing or in a hit, fallback,
+ * wind-up or other timed state always run at FULL.
+ */
+public class AiLevelOfDetail {
+
+    /**
+     * NEW: Update tiers, from most to least work per frame
+     */
+    public enum Tier {
+        FULL, REDUCED, ASLEEP
+    }
+
+    private int fullRadius = GameConstants.AI_LOD_FULL_RADIUS;
+    private int reducedRadius = GameConstants.AI_LOD_REDUCED_RADIUS;
+    private int wakeRadius = GameConstants.AI_LOD_WAKE_RADIUS;
+    private int reducedInterval = GameConstants.AI_LOD_REDUCED_INTERVAL;
+
+    // Frames an enemy woken by noise stays awake, about three seconds
+    private static final int NOISE_AWAKE_FRAMES = 180;
+
+    private final Object noiseLock = new Object();
+    private final List<int[]> pendingNoises = new ArrayList<>();
+
+    private long frame = 1;
+    private final int[] tierCounts = new int[Tier.values().length];
+    private long fullUpdates;
+    private long skippedUpdates;
+
+    /**
+     * NEW: Set the tier thresholds, all in tiles (Chebyshev distance)
+     *
+     * @param fullRadius Enemies this close always run at FULL
+     * @param reducedRadius Enemies beyond this fall asleep
+     * @param wakeRadius Sleeping enemies wake when the player is this close
+     * @param reducedInterval Frames between full updates in the REDUCED tier
+     */
+    public synchronized void set_thresholds(int fullRadius, int reducedRadius, int wakeRadius, int reducedInterval) {
+        if (fullRadius < 0 || reducedRadius < fullRadius || wakeRadius < fullRadius || wakeRadius > reducedRadius
+                || reducedInterval < 1) {
+            throw new IllegalArgumentException("AI LOD thresholds must satisfy 0 <= full <= wake <= reduced and interval >= 1");
+        }
+        this.fullRadius = fullRadius;
+        this.reducedRadius = reducedRadius;
+        this.wakeRadius = wakeRadius;
+        this.reducedInterval = reducedInterval;
+    }
+
+    /**
+     * NEW: Report a noise; sleeping enemies within the radius wake on the next update
+     *
+     * @param tileX Tile X of the noise
+     * @param tileY Tile Y of the noise
+     * @param radius Hearing radius in tiles
+     */
+    public void make_noise(int tileX, int tileY, int radius) {
+        synchronized (noiseLock) {
+            pendingNoises.add(new int[]{tileX, tileY, radius});
+        }
+    }
+
+    /**
+     * NEW: Update all enemies for one frame according to their tier
+     *
+     * @param enemies Enemies on the current floor
+     * @param player Player the distances are measured from
+     */
+    public synchronized void update_all(List<Enemy> enemies, Player player) {
+        List<int[]> noises = drain_noises();
+        java.util.Arrays.fill(tierCounts, 0);
+        frame++;
+        int playerX = player.get_position().get_x();
+        int playerY = player.get_position().get_y();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            Tier tier = classify(enemy, playerX, playerY, noises);
+            enemy.set_ai_tier(tier);
+            tierCounts[tier.ordinal()]++;
+            switch (tier) {
+                case FULL:
+                    enemy.update_movement();
+                    fullUpdates++;
+                    break;
+                case REDUCED:
+                    if ((frame + i) % reducedInterval == 0) {
+                        enemy.update_movement();
+                        fullUpdates++;
+                    } else {
+                        enemy.extrapolate_movement();
+                        skippedUpdates++;
+                    }
+                    break;
+                default:
+                    skippedUpdates++;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * NEW: Pick the tier for one enemy
+     */
+    Tier classify(Enemy enemy, int playerX, int playerY, List<int[]> noises) {
+        if (enemy.is_engaged()) {
+            return Tier.FULL;
+        }
+        int ex = enemy.get_position().get_x();
+        int ey = enemy.get_position().get_y();
+        int distance = Math.max(Math.abs(ex - playerX), Math.abs(ey - playerY));
+        // Never let a small full radius hide the player from an enemy's aggro check
+        if (distance <= Math.max(fullRadius, enemy.get_aggro_range())) {
+            return Tier.FULL;
+        }
+        if (hears(ex, ey, noises)) {
+            enemy.set_ai_awake_until(frame + NOISE_AWAKE_FRAMES);
+        }
+        boolean roused = enemy.get_ai_awake_until() >= frame;
+        if (enemy.get_ai_tier() == Tier.ASLEEP && distance > wakeRadius && !roused) {
+            return Tier.ASLEEP;
+        }
+        return distance <= reducedRadius || roused ? Tier.REDUCED : Tier.ASLEEP;
+    }
+
+    private static boolean hears(int x, int y, List<int[]> noises) {
+        for (int[] noise : noises) {
+            if (Math.abs(x - noise[0]) + Math.abs(y - noise[1]) <= noise[2]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<int[]> drain_noises() {
+        synchronized (noiseLock) {
+            if (pendingNoises.isEmpty()) {
+                return java.util.Collections.emptyList();
+            }
+            List<int[]> drained = new ArrayList<>(pendingNoises);
+            pendingNoises.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * NEW: Number of enemies placed in a tier on the last update
+     *
+     * @param tier Tier to count
+     * @return Enemy count
+     */
+    public synchronized int get_tier_count(Tier tier) {
+        return tierCounts[tier.ordinal()];
+    }
+
+    public synchronized long get_full_updates() { return fullUpdates; }
+    public synchronized long get_skipped_updates() { return skippedUpdates; }
+    public synchronized int get_full_radius() { return fullRadius; }
+    public synchronized int get_reduced_radius() { return reducedRadius; }
+    public synchronized int get_wake_radius() { return wakeRadius; }
+    public synchronized int get_reduced_interval() { return reducedInterval; }
+}
@@ -7,6 +7,7 @@ import model.characters.BaseClass;
 import enums.GameConstants;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -56,9 +57,12 @@ public class AttackUtils {
         // Create a timer to check for hits during the swing
         Timer swingTimer = new Timer();
         swingTimer.schedule(new TimerTask() {
+            // Reused by every check of this swing; only this timer's thread touches it
+            private final SwingSector sector = new SwingSector();
+            
             @Override
             public void run() {
-                checkSwingHitDetection(swingData, hitDetector);
+                checkSwingHitDetection(swingData, hitDetector, sector);
             }
         }, 0, 16); // Check every 16ms (60fps) during swing
         
@@ -73,22 +77,102 @@ public class AttackUtils {
         }, swingData.getSwingDuration());
     }
     
+    /**
+     * NEW: Swings checked by the game tick instead of timer threads, for games
+     * that do not own timers (headless sessions). Each swing is timed on the
+     * game clock from the moment it started, so its checks follow game time
+     * and run on whichever thread steps the game.
+     */
+    public static class TickedSwings {
+        private final List<TickedSwing> swings = new ArrayList<>();
+        // Game thread only
+        private final List<TickedSwing> stepping = new ArrayList<>();
+        private final List<TickedSwing> finished = new ArrayList<>();
+        
+        /**
+         * NEW: Start checking a swing from the next step
+         *
+         * @param swingData Swing to check
+         * @param hitDetector Detector for the swing's hits
+         * @param now Game time the swing started
+         */
+        public void add(AttackVisualData swingData, SwingHitDetector hitDetector, long now) {
+            synchronized (swings) {
+                swings.add(new TickedSwing(swingData, hitDetector, now));
+            }
+        }
+        
+        /**
+         * NEW: Check every active swing at the given game time and drop the
+         * ones that have finished. Detectors run without the list's lock held.
+         *
+         * @param now Current game time
+         */
+        public void step(long now) {
+            synchronized (swings) {
+                stepping.addAll(swings);
+            }
+            for (TickedSwing swing : stepping) {
+                long swingTime = swing.swingData.getSwingStartTime() + (now - swing.startedAt);
+                if (swing.swingData.isSwingActive(swingTime)) {
+                    swing.hitDetector.check_sector(swing.swingData.fill_swing_sector(swingTime, swing.sector));
+                } else {
+                    finished.add(swing);
+                }
+            }
+            stepping.clear();
+            if (!finished.isEmpty()) {
+                synchronized (swings) {
+                    swings.removeAll(finished);
+                }
+                finished.clear();
+            }
+        }
+        
+        /**
+         * NEW: Drop every swing without checking it again
+         */
+        public void clear() {
+            synchronized (swings) {
+                swings.clear();
+            }
+        }
+        
+        public int size() {
+            synchronized (swings) {
+                return swings.size();
+            }
+        }
+    }
+    
+    /**
+     * One swing in a TickedSwings list
+     */
+    private static final class TickedSwing {
+        final AttackVisualData swingData;
+        final SwingHitDetector hitDetector;
+        final long startedAt;
+        final SwingSector sector = new SwingSector();
+        
+        TickedSwing(AttackVisualData swingData, SwingHitDetector hitDetector, long startedAt) {
+            this.swingData = swingData;
+            this.hitDetector = hitDetector;
+            this.startedAt = startedAt;
+        }
+    }
+    
     /**
      * Check for hits during swing attack
      */
     private static void checkSwingHitDetection(AttackVisualData swingData, 
-                                              SwingHitDetector hitDetector) {
-        if (!swingData.isSwingActive(System.currentTimeMillis())) {
+                                              SwingHitDetector hitDetector, SwingSector sector) {
+        long currentTime = System.currentTimeMillis();
+        if (!swingData.isSwingActive(currentTime)) {
             return; // Swing finished
         }
         
-        long currentTime = System.currentTimeMillis();
-        double currentSwingAngle = swingData.getCurrentSwingAngle(currentTime);
-        double swingFanWidth = swingData.getSwingFanWidth();
-        double halfFanWidth = Math.toRadians(swingFanWidth) / 2.0;
-        
         // Delegate hit detection to the provided detector
-        hitDetector.checkHits(currentSwingAngle, halfFanWidth, swingData.getAttackRange());
+        hitDetector.check_sector(swingData.fill_swing_sector(currentTime, sector));
     }
     
     /**
@@ -96,6 +180,14 @@ public class AttackUtils {
      */
     public interface SwingHitDetector {
         void checkHits(double currentSwingAngle, double halfFanWidth, float range);
+        
+        /**
+         * NEW: Check hits against a precomputed fan; detectors override this to
+         * skip trigonometry, others fall back to the angle form
+         */
+        default void check_sector(SwingSector sector) {
+            checkHits(sector.get_angle(), sector.get_half_width(), sector.get_range());
+        }
     }
     
     /**
@@ -105,6 +197,8 @@ public class AttackUtils {
         private final Player player;
         private final List<Enemy> enemies;
         private final GameLogic gameLogic;
+        // Enemies on the floor, copied for each check; only the swing's timer thread touches it
+        private final List<Enemy> floorEnemies = new java.util.ArrayList<>();
         
         public PlayerSwingHitDetector(Player player, List<Enemy> enemies, GameLogic gameLogic) {
             this.player = player;
@@ -112,25 +206,39 @@ public class AttackUtils {
             this.gameLogic = gameLogic;
         }
         
+        /**
+         * NEW: Detector that checks whichever enemies are on the game's floor at each check
+         */
+        public PlayerSwingHitDetector(Player player, GameLogic gameLogic) {
+            this(player, null, gameLogic);
+        }
+        
         @Override
         public void checkHits(double currentSwingAngle, double halfFanWidth, float range) {
+            check_sector(SwingSector.of(currentSwingAngle, halfFanWidth, range));
+        }
+        
+        @Override
+        public void check_sector(SwingSector sector) {
             float playerX = player.getPixelX() + GameConstants.TILE_SIZE / 2f;
             float playerY = player.getPixelY() + GameConstants.TILE_SIZE / 2f;
+            float range = sector.get_range();
+            float reach = (range + 0.25f) * GameConstants.TILE_SIZE;
+            float reachSq = reach * reach;
+            List<Enemy> targets = enemies;
+            if (targets == null) {
+                gameLogic.copy_current_enemies(floorEnemies);
+                targets = floorEnemies;
+            }
             
-            for (Enemy enemy : enemies) {
-                if (enemy.isImmune()) continue;
+            for (Enemy enemy : targets) {
+                if (enemy.isImmune() || gameLogic.has_pending_hit(enemy)) continue;
                 
                 float enemyX = enemy.getPixelX() + GameConstants.TILE_SIZE / 2f;
                 float enemyY = enemy.getPixelY() + GameConstants.TILE_SIZE / 2f;
-                double dist = Math.hypot(enemyX - playerX, enemyY - playerY) / GameConstants.TILE_SIZE;
                 
-                if (dist > range + 0.25) continue;
-                
-                // Check if enemy is within the current swing fan
-                double angle = Math.atan2(enemyY - playerY, enemyX - playerX);
-                double delta = Math.abs(Math.atan2(Math.sin(angle - currentSwingAngle), Math.cos(angle - currentSwingAngle)));
-                
-                if (delta <= halfFanWidth) {
+                // Check if enemy is within range and the current swing fan
+                if (sector.contains(enemyX - playerX, enemyY - playerY, reachSq)) {
                     // Enemy is hit by current swing position
                     handlePlayerHitEnemy(enemy, playerX, playerY, enemyX, enemyY, range);
                 }
@@ -139,32 +247,16 @@ public class AttackUtils {
         
         private void handlePlayerHitEnemy(Enemy enemy, float playerX, float playerY, 
                                         float enemyX, float enemyY, float range) {
-            // Trigger pushback on enemy
+            // Pushback direction and strength
             float pushDirX = enemyX - playerX;
             float pushDirY = enemyY - playerY;
             float pushDist = (range + 0.2f) * GameConstants.TILE_SIZE;
             float pushSpeed = GameConstants.TILE_SIZE * 0.18f;
-            enemy.triggerPushback(pushDirX, pushDirY, pushDist, pushSpeed);
-            // Set immunity after pushback ends
-            enemy.triggerHitState(Enemy.BASE_HIT_STATE_DURATION);
-            // --- Apply actual damage ---
             int rawDamage = player.get_total_attack();
             int actualDamage = Math.max(1, rawDamage - enemy.get_total_defense());
-            boolean alive = enemy.take_damage(actualDamage);
-            if (!alive) {
-                // Handle loot drops for both enemies and bosses
-                gameLogic.handleEnemyDeath(enemy);
-                
-                if (enemy.isBoss()) {
-                    // Boss defeated - special handling
-                    gameLogic.notify_observers("BOSS_DEFEATED", enemy);
-                } else {
-                    // Regular enemy defeated - add log message
-                    String enemyClass = enemy.get_character_class().toString().toLowerCase();
-                    gameLogic.notify_observers("LOG_MESSAGE", "Enemy " + enemyClass + " defeated!");
-                    player.increment_enemies_slain();
-                }
-            }
+            // Damage, hit state and any death are applied in the game tick's damage phase
+            gameLogic.submit_hit(player, enemy, actualDamage, pushDirX, pushDirY, pushDist, pushSpeed,
+                                 DamageBuffer.FLAG_SWING);
         }
     }
     
@@ -184,13 +276,18 @@ public class AttackUtils {
         
         @Override
         public void checkHits(double currentSwingAngle, double halfFanWidth, float range) {
-            if (player.isImmune()) return;
+            check_sector(SwingSector.of(currentSwingAngle, halfFanWidth, range));
+        }
+        
+        @Override
+        public void check_sector(SwingSector sector) {
+            if (player.isImmune() || gameLogic.has_pending_hit(player)) return;
             
             float enemyX = enemy.getPixelX() + GameConstants.TILE_SIZE / 2f;
             float enemyY = enemy.getPixelY() + GameConstants.TILE_SIZE / 2f;
             float playerX = player.getPixelX() + GameConstants.TILE_SIZE / 2f;
             float playerY = player.getPixelY() + GameConstants.TILE_SIZE / 2f;
-            double dist = Math.hypot(playerX - enemyX, playerY - enemyY) / GameConstants.TILE_SIZE;
+            float range = sector.get_range();
             
             // Adjust range based on entity size and boss modifiers
             float sizeMultiplier = 1.0f;
@@ -200,14 +297,10 @@ public class AttackUtils {
                 rangeModifier = ((model.characters.Boss) enemy).getRangeModifier();
             }
             float adjustedRange = range * sizeMultiplier * rangeModifier;
+            float reach = (adjustedRange + 0.25f) * GameConstants.TILE_SIZE;
             
-            if (dist > adjustedRange + 0.25) return;
-            
-            // Check if player is within the current swing fan
-            double angle = Math.atan2(playerY - enemyY, playerX - enemyX);
-            double delta = Math.abs(Math.atan2(Math.sin(angle - currentSwingAngle), Math.cos(angle - currentSwingAngle)));
-            
-            if (delta <= halfFanWidth) {
+            // Check if player is within range and the current swing fan
+            if (sector.contains(playerX - enemyX, playerY - enemyY, reach * reach)) {
                 // Player is hit by current swing position
                 handleEnemyHitPlayer(playerX, playerY, enemyX, enemyY, range);
             }
@@ -215,46 +308,16 @@ public class AttackUtils {
         
         private void handleEnemyHitPlayer(float playerX, float playerY, 
                                         float enemyX, float enemyY, float range) {
-            // --- Apply actual damage ---
             int rawDamage = enemy.get_total_attack();
             int actualDamage = Math.max(1, rawDamage - player.get_total_defense());
-            boolean alive = player.take_damage(actualDamage);
-            gameLogic.notify_observers("PLAYER_DAMAGED", actualDamage); // Trigger damage flash effect
-            if (!alive) {
-                // Store the enemy that killed the player
-                gameLogic.setLastAttackingEnemy(enemy);
-                player.increment_enemies_slain();
-            } else {
-                // Store the enemy that attacked the player (in case they die later)
-                gameLogic.setLastAttackingEnemy(enemy);
-            }
-
-            // Always reset chase timer on hit
-            enemy.setChaseEndTime(System.currentTimeMillis() + 3000);
-            // Trigger pushback on player
             float pushDirX = playerX - enemyX;
             float pushDirY = playerY - enemyY;
             float pushDist = (range + 0.2f) * GameConstants.TILE_SIZE;
             float pushSpeed = GameConstants.TILE_SIZE * 0.18f;
-            player.triggerPushback(pushDirX, pushDirY, pushDist, pushSpeed);
-            // Set immunity after pushback ends
-            player.setImmune(400); // Reduced from 800ms (base immunity period)
-            
-            // Start fallback after successful attack
-            enemy.startFallbackState();
-            
-            // Schedule celebratory state to start after fallback completes (25% chance)
-            if (new java.util.Random().nextInt(4) == 0) {
-                Timer celebratoryTimer = new Timer();
-                celebratoryTimer.schedule(new TimerTask() {
-                    @Override
-                    public void run() {
-                        if (enemy.is_alive() && !enemy.isDying()) {
-                            enemy.startCelebratoryState();
-                        }
-                    }
-                }, 1200); // Start after fallback duration
-            }
+            // Damage, pushback, immunity and the fallback/celebration follow-up
+            // are applied in the game tick's damage phase
+            gameLogic.submit_hit(enemy, player, actualDamage, pushDirX, pushDirY, pushDist, pushSpeed,
+                                 DamageBuffer.FLAG_SWING);
         }
     }
 } 
\ No newline at end of file
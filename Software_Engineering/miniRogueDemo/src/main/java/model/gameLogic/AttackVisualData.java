@@ -25,6 +25,12 @@ public class AttackVisualData {
     private final double swingFanWidth;
     private final long swingStartTime;
     private final long swingDuration;
+    
+    // NEW: Trig-free swing sweep: start direction, rotation table and fan cosine, computed once per swing
+    private final float swingStartDirX;
+    private final float swingStartDirY;
+    private final SwingArcTable swingArc;
+    private final float cosHalfFan;
 
     public AttackVisualData(int attackDX, int attackDY, float attackRange, double attackAngle) {
         this.attackDX = attackDX;
@@ -40,6 +46,10 @@ public class AttackVisualData {
         this.swingFanWidth = 0;
         this.swingStartTime = 0;
         this.swingDuration = 0;
+        this.swingStartDirX = 0;
+        this.swingStartDirY = 0;
+        this.swingArc = null;
+        this.cosHalfFan = 1;
     }
 
     public AttackVisualData(int attackDX, int attackDY, float attackRange, double attackAngle, 
@@ -57,6 +67,10 @@ public class AttackVisualData {
         this.swingFanWidth = 0;
         this.swingStartTime = 0;
         this.swingDuration = 0;
+        this.swingStartDirX = 0;
+        this.swingStartDirY = 0;
+        this.swingArc = null;
+        this.cosHalfFan = 1;
     }
     
     /**
@@ -78,6 +92,15 @@ public class AttackVisualData {
         this.swingFanWidth = swingFanWidth;
         this.swingStartTime = swingStartTime;
         this.swingDuration = swingDuration;
+        this.swingStartDirX = (float) Math.cos(swingStartAngle);
+        this.swingStartDirY = (float) Math.sin(swingStartAngle);
+        // Swings built from a class's whole-degree attack width share a rotation table
+        double sweepDegrees = Math.toDegrees(swingEndAngle - swingStartAngle);
+        long roundedSweep = Math.round(sweepDegrees);
+        boolean tabulated = Math.abs(sweepDegrees - roundedSweep) < 1e-9
+            && swingDuration > 0 && swingDuration <= 10_000;
+        this.swingArc = tabulated ? SwingArcTable.get((int) roundedSweep, (int) swingDuration) : null;
+        this.cosHalfFan = (float) Math.cos(Math.toRadians(swingFanWidth) / 2.0);
     }
 
     // Getters
@@ -119,4 +142,26 @@ public class AttackVisualData {
     public boolean isSwingActive(long currentTime) {
         return isSwingAttack && (currentTime - swingStartTime) < swingDuration;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * NEW: Fill a sector with the swing fan at the given time. The direction
+     * comes from rotating the start direction by a table entry, so no sin,
+     * cos or atan2 is evaluated per check.
+     *
+     * @param currentTime Current time in ms
+     * @param sector Sector to overwrite
+     * @return sector
+     */
+    public SwingSector fill_swing_sector(long currentTime, SwingSector sector) {
+        double angle = getCurrentSwingAngle(currentTime);
+        double halfFan = Math.toRadians(swingFanWidth) / 2.0;
+        if (swingArc != null) {
+            float[] dir = sector.scratch();
+            swingArc.rotate(swingStartDirX, swingStartDirY, currentTime - swingStartTime, dir);
+            sector.set(angle, dir[0], dir[1], halfFan, cosHalfFan, attackRange);
+        } else {
+            sector.set(angle, (float) Math.cos(angle), (float) Math.sin(angle), halfFan, cosHalfFan, attackRange);
+        }
+        return sector;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package model.gameLogic;
+
+import model.characters.Character;
+
+import java.util.Arrays;
+
+/**
+ * NEW: Hits collected during one tick, waiting to be resolved together.
+ *
+ * Each hit is a primitive record stored across parallel arrays: attacker and
+ * target ids, damage, knockback vector, distance and speed, and flags. The
+ * attacker itself is kept too, since it may die or leave the entity store
+ * before the hit is resolved and its hit still lands. Swing
+ * timers and projectiles append from any thread; the game thread drains the
+ * buffer once per tick by swapping it with a second, empty one, so writers
+ * are only blocked for the swap and the records are applied in the order
+ * they arrived.
+ */
+class DamageBuffer {
+    // Id used for the player; enemies use their entity store id
+    static final int PLAYER_ID = -2;
+
+    // Record flags
+    static final int FLAG_SWING = 1;       // Melee swing (otherwise a projectile)
+
+    private Records pending = new Records();
+    private Records draining = new Records();
+
+    /**
+     * Primitive record columns
+     */
+    static final class Records {
+        int size;
+        int[] attacker = new int[16];
+        Character[] attackers = new Character[16];
+        int[] target = new int[16];
+        int[] amount = new int[16];
+        float[] knockX = new float[16];
+        float[] knockY = new float[16];
+        float[] knockDistance = new float[16];
+        float[] knockSpeed = new float[16];
+        int[] flags = new int[16];
+
+        private void grow() {
+            int capacity = attacker.length * 2;
+            attacker = Arrays.copyOf(attacker, capacity);
+            attackers = Arrays.copyOf(attackers, capacity);
+            target = Arrays.copyOf(target, capacity);
+            amount = Arrays.copyOf(amount, capacity);
+            knockX = Arrays.copyOf(knockX, capacity);
+            knockY = Arrays.copyOf(knockY, capacity);
+            knockDistance = Arrays.copyOf(knockDistance, capacity);
+            knockSpeed = Arrays.copyOf(knockSpeed, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+
+        // Drop character references so resolved hits do not keep dead enemies alive
+        private void reset() {
+            Arrays.fill(attackers, 0, size, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Queue a hit for this tick. A second hit by the same attacker on the
+     * same target in one tick is dropped, matching the immunity the first
+     * hit will grant when it is resolved.
+     *
+     * @return true if the hit was queued
+     */
+    synchronized boolean add(Character attackerCharacter, int attacker, int target, int amount,
+                             float knockX, float knockY, float knockDistance, float knockSpeed, int flags) {
+        Records r = pending;
+        for (int i = 0; i < r.size; i++) {
+            if (r.attacker[i] == attacker && r.target[i] == target) {
+                return false;
+            }
+        }
+        if (r.size == r.attacker.length) {
+            r.grow();
+        }
+        int i = r.size++;
+        r.attacker[i] = attacker;
+        r.attackers[i] = attackerCharacter;
+        r.target[i] = target;
+        r.amount[i] = amount;
+        r.knockX[i] = knockX;
+        r.knockY[i] = knockY;
+        r.knockDistance[i] = knockDistance;
+        r.knockSpeed[i] = knockSpeed;
+        r.flags[i] = flags;
+        return true;
+    }
+
+    /**
+     * Whether a target already has a hit waiting this tick; detectors treat
+     * it like an immune target so one swing or volley cannot stack hits
+     */
+    synchronized boolean has_pending_hit(int target) {
+        Records r = pending;
+        for (int i = 0; i < r.size; i++) {
+            if (r.target[i] == target) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Take every queued hit. The returned records stay valid until the next
+     * drain; only the game thread drains.
+     */
+    synchronized Records drain() {
+        Records full = pending;
+        draining.reset();
+        pending = draining;
+        draining = full;
+        return full;
+    }
+
+    synchronized int size() { return pending.size; }
+
+    synchronized void clear() { pending.reset(); }
+}
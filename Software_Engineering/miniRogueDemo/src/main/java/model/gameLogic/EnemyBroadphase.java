@@ -0,0 +1,96 @@
+package model.gameLogic;
+
+import model.characters.Enemy;
+import enums.GameConstants;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NEW: Uniform grid of enemy centers, rebuilt once per tick before projectiles
+ * move, so each projectile only runs its swept test against enemies near the
+ * segment it travels instead of every awake enemy.
+ *
+ * Each enemy is bucketed by its center into one cell (an intrusive linked
+ * list through head/next arrays), so a query never returns an enemy twice.
+ */
+class EnemyBroadphase {
+    private static final int CELL_SIZE = GameConstants.TILE_SIZE * 2; // Pixels
+
+    private int cols;
+    private int rows;
+    private int[] head = new int[0];
+    private int[] next = new int[32];
+    private Enemy[] items = new Enemy[32];
+    private int count;
+    private final List<Enemy> results = new ArrayList<>();
+
+    /**
+     * Bucket the given enemies for this tick
+     *
+     * @param enemies Enemies projectiles can hit
+     * @param widthPx Map width in pixels
+     * @param heightPx Map height in pixels
+     */
+    void rebuild(List<Enemy> enemies, int widthPx, int heightPx) {
+        cols = Math.max(1, (widthPx + CELL_SIZE - 1) / CELL_SIZE);
+        rows = Math.max(1, (heightPx + CELL_SIZE - 1) / CELL_SIZE);
+        if (head.length != cols * rows) {
+            head = new int[cols * rows];
+        }
+        Arrays.fill(head, -1);
+        Arrays.fill(items, 0, count, null);
+        count = 0;
+        for (Enemy enemy : enemies) {
+            if (count == items.length) {
+                items = Arrays.copyOf(items, count * 2);
+                next = Arrays.copyOf(next, count * 2);
+            }
+            float cx = enemy.getPixelX() + GameConstants.TILE_SIZE / 2f;
+            float cy = enemy.getPixelY() + GameConstants.TILE_SIZE / 2f;
+            int cell = cell_row(cy) * cols + cell_col(cx);
+            items[count] = enemy;
+            next[count] = head[cell];
+            head[cell] = count;
+            count++;
+        }
+    }
+
+    /**
+     * Collect the enemies whose center lies within reach of a segment's bounding box
+     *
+     * @param x0 Segment start X
+     * @param y0 Segment start Y
+     * @param x1 Segment end X
+     * @param y1 Segment end Y
+     * @param reach Largest distance from the segment that can still hit
+     * @return Candidates, valid until the next query (game thread only)
+     */
+    List<Enemy> query(float x0, float y0, float x1, float y1, float reach) {
+        List<Enemy> out = results;
+        out.clear();
+        int minCol = cell_col(Math.min(x0, x1) - reach);
+        int maxCol = cell_col(Math.max(x0, x1) + reach);
+        int minRow = cell_row(Math.min(y0, y1) - reach);
+        int maxRow = cell_row(Math.max(y0, y1) + reach);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int i = head[row * cols + col]; i != -1; i = next[i]) {
+                    out.add(items[i]);
+                }
+            }
+        }
+        return out;
+    }
+
+    int size() { return count; }
+
+    // Out-of-map centers are clamped to the border cells
+    private int cell_col(float x) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor(x / CELL_SIZE)));
+    }
+
+    private int cell_row(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / CELL_SIZE)));
+    }
+}
@@ -0,0 +1,48 @@
+package model.gameLogic;
+
+import model.characters.Enemy;
+
+/**
+ * NEW: What one enemy intends to do this tick, produced by the decision
+ * phase and committed by GameLogic in enemy id order.
+ */
+public final class EnemyDecision {
+
+    /**
+     * NEW: Attack intent for the tick
+     */
+    public enum Attack {
+        NONE, START_WIND_UP, EXECUTE
+    }
+
+    private final Enemy enemy;
+    private final boolean remove;
+    private final boolean move;
+    private final int moveTileX;
+    private final int moveTileY;
+    private final Attack attack;
+
+    EnemyDecision(Enemy enemy, boolean remove, boolean move, int moveTileX, int moveTileY, Attack attack) {
+        this.enemy = enemy;
+        this.remove = remove;
+        this.move = move;
+        this.moveTileX = moveTileX;
+        this.moveTileY = moveTileY;
+        this.attack = attack;
+    }
+
+    public Enemy get_enemy() { return enemy; }
+    public boolean is_remove() { return remove; }
+    public boolean is_move() { return move; }
+    public int get_move_tile_x() { return moveTileX; }
+    public int get_move_tile_y() { return moveTileY; }
+    public Attack get_attack() { return attack; }
+
+    /**
+     * NEW: Whether two decisions ask for the same actions
+     */
+    public boolean same_actions(EnemyDecision other) {
+        return other != null && enemy == other.enemy && remove == other.remove && move == other.move
+            && moveTileX == other.moveTileX && moveTileY == other.moveTileY && attack == other.attack;
+    }
+}
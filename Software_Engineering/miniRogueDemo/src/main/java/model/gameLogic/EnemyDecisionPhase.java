@@ -0,0 +1,201 @@
+package model.gameLogic;
+
+import enums.GameConstants;
+import model.characters.Boss;
+import model.characters.Enemy;
+import model.characters.BaseClass;
+import utilities.Position;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * NEW: Read-only "sense and decide" phase of the enemy AI tick.
+ *
+ * Every enemy is looked at against an immutable EnemyWorldView and turned
+ * into an EnemyDecision without changing any state, so the work can be split
+ * into fixed-size batches on a ForkJoin pool. Decisions are written into an
+ * array slot per enemy, so the caller gets them back in the order it passed
+ * the enemies in (enemy id order) no matter how the batches were scheduled.
+ * Small floors are decided inline; the pool only pays off for stress floors.
+ */
+public class EnemyDecisionPhase {
+    public static final int BATCH_SIZE = 32;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * NEW: Constructor for EnemyDecisionPhase using one worker per core
+     */
+    public EnemyDecisionPhase() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * NEW: Constructor for EnemyDecisionPhase with a fixed worker count
+     *
+     * @param parallelism Worker threads; 1 decides everything on the caller thread
+     */
+    public EnemyDecisionPhase(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    /**
+     * NEW: Decide for all enemies
+     *
+     * @param enemies Enemies in the order decisions should be returned (enemy id order)
+     * @param view Snapshot of the world for this tick, captured for the same enemy list
+     * @return One decision per enemy, index-aligned with the input list
+     */
+    public EnemyDecision[] decide_all(List<Enemy> enemies, EnemyWorldView view) {
+        if (view.get_enemy_count() != enemies.size()) {
+            throw new IllegalArgumentException("View was captured for " + view.get_enemy_count()
+                + " enemies, not " + enemies.size());
+        }
+        EnemyDecision[] decisions = new EnemyDecision[enemies.size()];
+        if (pool == null || enemies.size() <= BATCH_SIZE) {
+            decide_range(enemies, view, decisions, 0, enemies.size());
+        } else {
+            pool.invoke(new DecideTask(enemies, view, decisions, 0, enemies.size()));
+        }
+        return decisions;
+    }
+
+    private static void decide_range(List<Enemy> enemies, EnemyWorldView view, EnemyDecision[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = decide(enemies.get(i), i, view);
+        }
+    }
+
+    /**
+     * Splits the enemy range in halves down to one batch each
+     */
+    private static final class DecideTask extends RecursiveAction {
+        private final List<Enemy> enemies;
+        private final EnemyWorldView view;
+        private final EnemyDecision[] out;
+        private final int from;
+        private final int to;
+
+        DecideTask(List<Enemy> enemies, EnemyWorldView view, EnemyDecision[] out, int from, int to) {
+            this.enemies = enemies;
+            this.view = view;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                decide_range(enemies, view, out, from, to);
+                return;
+            }
+            // Split on a batch boundary so batches stay fixed-size
+            int batches = (to - from + BATCH_SIZE - 1) / BATCH_SIZE;
+            int mid = from + (batches / 2) * BATCH_SIZE;
+            invokeAll(new DecideTask(enemies, view, out, from, mid), new DecideTask(enemies, view, out, mid, to));
+        }
+    }
+
+    /**
+     * NEW: Decide what one enemy does this tick. Mirrors the rules the game
+     * thread has always applied: step toward a visible player in aggro range,
+     * then start or finish an attack wind-up if chasing, in range and in LOS.
+     *
+     * @param enemy Enemy to decide for (only read)
+     * @param index Enemy's index in the list the view was captured for
+     * @param view World snapshot
+     * @return Decision for the apply phase
+     */
+    static EnemyDecision decide(Enemy enemy, int index, EnemyWorldView view) {
+        if (view.is_enemy_expired(index)) {
+            return new EnemyDecision(enemy, true, false, 0, 0, EnemyDecision.Attack.NONE);
+        }
+        if (!enemy.is_alive() || view.is_enemy_dying(index) || view.is_player_invisible()) {
+            return new EnemyDecision(enemy, false, false, 0, 0, EnemyDecision.Attack.NONE);
+        }
+
+        boolean move = false;
+        int moveX = 0;
+        int moveY = 0;
+        Position enemyPos = enemy.get_position();
+        Position playerPos = new Position(view.get_player_tile_x(), view.get_player_tile_y());
+        if (playerPos.distance_to(enemyPos) <= enemy.get_aggro_range()) {
+            Position next = enemyPos.move(Integer.compare(playerPos.get_x(), enemyPos.get_x()),
+                                          Integer.compare(playerPos.get_y(), enemyPos.get_y()));
+            // Read-only look at the occupancy grid; the apply phase makes the actual claim
+            if (view.get_map().is_valid_move(next)
+                    && view.get_map().get_occupancy().is_free_for(enemy.get_occupancy_token(), next.get_x(), next.get_y())) {
+                move = true;
+                moveX = next.get_x();
+                moveY = next.get_y();
+            }
+        }
+        return new EnemyDecision(enemy, false, move, moveX, moveY, decide_attack(enemy, index, view));
+    }
+
+    private static EnemyDecision.Attack decide_attack(Enemy enemy, int index, EnemyWorldView view) {
+        long now = view.get_now();
+        if (!enemy.isChasingPlayer() || enemy.is_attack_suppressed(now)) {
+            return EnemyDecision.Attack.NONE;
+        }
+        if (view.is_enemy_winding_up(index)) {
+            return now - view.get_enemy_wind_up_start(index) >= enemy.getWindUpDuration()
+                ? EnemyDecision.Attack.EXECUTE : EnemyDecision.Attack.NONE;
+        }
+
+        int enemyTileX = (int)(enemy.getPixelX() / GameConstants.TILE_SIZE);
+        int enemyTileY = (int)(enemy.getPixelY() / GameConstants.TILE_SIZE);
+        int playerTileX = (int)(view.get_player_pixel_x() / GameConstants.TILE_SIZE);
+        int playerTileY = (int)(view.get_player_pixel_y() / GameConstants.TILE_SIZE);
+        if (!utilities.Collision.hasLineOfSight(view.get_map(), enemyTileX, enemyTileY, playerTileX, playerTileY)) {
+            return EnemyDecision.Attack.NONE;
+        }
+
+        BaseClass enemyClass = enemy.getEnemyClassOOP();
+        if (now - enemy.getLastAttackTime() < (1000.0f / enemyClass.getAttackSpeed())) {
+            return EnemyDecision.Attack.NONE;
+        }
+
+        float px = enemy.getPixelX() + GameConstants.TILE_SIZE / 2f;
+        float py = enemy.getPixelY() + GameConstants.TILE_SIZE / 2f;
+        float tx = view.get_player_pixel_x() + GameConstants.TILE_SIZE / 2f;
+        float ty = view.get_player_pixel_y() + GameConstants.TILE_SIZE / 2f;
+        float dist = (float)Math.hypot(tx - px, ty - py) / GameConstants.TILE_SIZE;
+
+        float sizeMultiplier = 1.0f;
+        float rangeModifier = 1.0f;
+        if (enemy instanceof Boss) {
+            sizeMultiplier = ((Boss) enemy).getSizeMultiplier();
+            rangeModifier = ((Boss) enemy).getRangeModifier();
+        }
+        boolean canProjectile = enemyClass.hasProjectile()
+            && dist <= enemyClass.getProjectileTravelDistance() * sizeMultiplier * rangeModifier;
+        boolean canMelee = enemyClass.hasMelee()
+            && dist <= enemyClass.getRange() * sizeMultiplier * rangeModifier;
+        return canProjectile || canMelee ? EnemyDecision.Attack.START_WIND_UP : EnemyDecision.Attack.NONE;
+    }
+
+    /**
+     * NEW: Worker threads used for large floors
+     *
+     * @return Pool parallelism, or 1 when deciding inline
+     */
+    public int get_parallelism() {
+        return pool != null ? pool.getParallelism() : 1;
+    }
+
+    /**
+     * NEW: Stop the worker threads
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+}
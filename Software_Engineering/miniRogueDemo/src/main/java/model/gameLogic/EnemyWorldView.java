@@ -0,0 +1,83 @@
+package model.gameLogic;
+
+import model.characters.Enemy;
+import model.characters.Player;
+import model.map.Map;
+
+import java.util.List;
+
+/**
+ * NEW: Immutable snapshot of everything the enemy decision phase reads about
+ * the world outside the enemy itself, plus each enemy's timed state from the
+ * shared component store. Captured once per tick on the game thread so
+ * parallel workers never touch the live player or lock the store.
+ */
+public final class EnemyWorldView {
+    private final Map map;
+    private final long now;
+    private final int playerTileX;
+    private final int playerTileY;
+    private final float playerPixelX;
+    private final float playerPixelY;
+    private final boolean playerInvisible;
+    private final int[] enemyStates;
+    private final long[] windUpStarts;
+
+    /**
+     * NEW: Constructor for EnemyWorldView
+     *
+     * @param map Current floor; its layout does not change during play
+     * @param now Timestamp decisions are made for
+     * @param playerTileX Player tile X
+     * @param playerTileY Player tile Y
+     * @param playerPixelX Player pixel X
+     * @param playerPixelY Player pixel Y
+     * @param playerInvisible Whether the invisibility effect is active
+     * @param enemyStates Enemy.DECISION_* bits per enemy, in decision order
+     * @param windUpStarts Wind-up start per enemy, in decision order
+     */
+    public EnemyWorldView(Map map, long now, int playerTileX, int playerTileY,
+                          float playerPixelX, float playerPixelY, boolean playerInvisible,
+                          int[] enemyStates, long[] windUpStarts) {
+        this.map = map;
+        this.now = now;
+        this.playerTileX = playerTileX;
+        this.playerTileY = playerTileY;
+        this.playerPixelX = playerPixelX;
+        this.playerPixelY = playerPixelY;
+        this.playerInvisible = playerInvisible;
+        this.enemyStates = enemyStates;
+        this.windUpStarts = windUpStarts;
+    }
+
+    /**
+     * NEW: Capture the current player state and the enemies' timed state
+     *
+     * @param player Live player
+     * @param map Current floor
+     * @param now Timestamp decisions are made for
+     * @param enemies Enemies in the order they will be decided
+     * @return Snapshot for one decision phase
+     */
+    public static EnemyWorldView capture(Player player, Map map, long now, List<Enemy> enemies) {
+        int[] states = new int[enemies.size()];
+        long[] windUpStarts = new long[enemies.size()];
+        Enemy.capture_decision_states(enemies, now, states, windUpStarts);
+        return new EnemyWorldView(map, now, player.get_position().get_x(), player.get_position().get_y(),
+            player.getPixelX(), player.getPixelY(), player.is_invisibility_effect_active(),
+            states, windUpStarts);
+    }
+
+    public Map get_map() { return map; }
+    public long get_now() { return now; }
+    public int get_player_tile_x() { return playerTileX; }
+    public int get_player_tile_y() { return playerTileY; }
+    public float get_player_pixel_x() { return playerPixelX; }
+    public float get_player_pixel_y() { return playerPixelY; }
+    public boolean is_player_invisible() { return playerInvisible; }
+    public int get_enemy_count() { return enemyStates.length; }
+    public boolean is_enemy_dying(int index) { return (enemyStates[index] & Enemy.DECISION_DYING) != 0; }
+    public boolean is_enemy_expired(int index) { return (enemyStates[index] & Enemy.DECISION_EXPIRED) != 0; }
+    public boolean is_enemy_winding_up(int index) { return (enemyStates[index] & Enemy.DECISION_WIND_UP) != 0; }
+    public long get_enemy_wind_up_start(int index) { return windUpStarts[index]; }
+}
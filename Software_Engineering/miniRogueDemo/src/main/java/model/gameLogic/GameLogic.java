@@ -5,6 +5,7 @@ import interfaces.GameObserver;
 import enums.GameState;
 import enums.GameConstants;
 import utilities.Position;
+import utilities.GameClock;
 import model.characters.Player;
 import model.characters.Enemy;
 import model.characters.Boss;
@@ -16,6 +17,8 @@ import model.items.KeyItem;
 import model.equipment.Equipment;
 import model.equipment.Weapon;
 import model.equipment.Armor;
+import model.equipment.EquipmentCatalog;
+import model.items.LootTables;
 import model.gameLogic.AttackUtils;
 import model.gameLogic.AttackVisualData;
 import model.gameLogic.Projectile;
@@ -61,6 +64,9 @@ public class GameLogic implements GameModel {
     private int currentFloor;
     private int regularFloorCount; // Track regular floor numbers (1, 2, 3, 4, 5...)
     private Random random;
+    private long lootSeed; // Loot on each floor comes from streams derived from this seed
+    private Random floorLoot;
+    private Random dropLoot;
 
     // MANDATORY: Observer pattern implementation
     private List<GameObserver> observers;
@@ -77,6 +83,28 @@ public class GameLogic implements GameModel {
     private volatile boolean isDisposed = false;
     private final Object disposalLock = new Object();
     private final Object enemyUpdateLock = new Object();
+    // NEW: Throttles enemy AI by distance from the player
+    private final AiLevelOfDetail aiLevelOfDetail = new AiLevelOfDetail();
+    // NEW: Parallel sense-and-decide phase of the enemy tick
+    private final EnemyDecisionPhase enemyDecisionPhase;
+    // NEW: False when a session host drives update_game_state() instead of this game's own timers
+    private final boolean ownsTimers;
+    // NEW: Without timer threads, swings and delayed reactions run on the game tick
+    private final AttackUtils.TickedSwings tickedSwings = new AttackUtils.TickedSwings();
+    private final java.util.ArrayDeque<DelayedCelebration> delayedCelebrations = new java.util.ArrayDeque<>();
+    // NEW: Component storage for the characters on the current floor; rows leave with their characters
+    private final model.entity.EntityStore entityStore = new model.entity.EntityStore();
+    private final model.entity.EntityStore.ObjectColumn<Enemy> enemyColumn =
+        entityStore.add_column(new model.entity.EntityStore.ObjectColumn<>());
+    private final model.characters.CharacterComponents characterComponents =
+        new model.characters.CharacterComponents(entityStore);
+    private static final java.util.Comparator<Enemy> ENEMY_ID_ORDER = java.util.Comparator.comparingLong(Enemy::get_enemy_id);
+    // NEW: Hits found by swing timers and projectiles, applied together in the tick's damage phase
+    private final DamageBuffer damageBuffer = new DamageBuffer();
+    // NEW: Enemy buckets rebuilt each tick for projectile hit tests
+    private final EnemyBroadphase projectileBroadphase = new EnemyBroadphase();
+    private volatile long lastDamagePhaseNanos;
+    private volatile int lastDamagePhaseHits;
     
     // Performance optimization: Batch item collection notifications
     private ConcurrentLinkedQueue<model.items.Item> pendingItemNotifications = new ConcurrentLinkedQueue<>();
@@ -93,7 +121,11 @@ public class GameLogic implements GameModel {
     private List<Projectile> projectiles = new ArrayList<>();
 
     private Timer gameUpdateTimer;
-    private long lastUpdateTime = System.currentTimeMillis();
+    // Puts rooms and corridors far from the player to sleep
+    private final RegionSleepManager regionSleep;
+    // Game time for every model timer; ticked once at the start of each game update
+    private final GameClock clock;
+    private long lastUpdateTime;
 
     // Track the last enemy that attacked the player for death screen
     private Enemy lastAttackingEnemy = null;
@@ -114,7 +146,39 @@ public class GameLogic implements GameModel {
      * @param player The player character
      */
     public GameLogic(Player player) {
+        this(player, new GameClock());
+    }
+
+    /**
+     * NEW: Constructor for GameLogic with an injected clock
+     *
+     * @param player The player character
+     * @param clock Game time source; a virtual clock lets headless runs drive time
+     */
+    public GameLogic(Player player, GameClock clock) {
+        this(player, clock, true);
+    }
+
+    /**
+     * NEW: Constructor for GameLogic that may leave ticking to its caller.
+     * Without its own timers a game starts no threads: the caller calls
+     * update_game_state() for every tick, item notifications are sent at
+     * the end of each tick, and enemies decide on the calling thread, so
+     * many games can share one executor.
+     *
+     * @param player The player character
+     * @param clock Game time source; a virtual clock lets headless runs drive time
+     * @param ownsTimers True to tick on this game's own timer threads
+     */
+    public GameLogic(Player player, GameClock clock, boolean ownsTimers) {
+        this.clock = clock;
+        this.ownsTimers = ownsTimers;
+        this.enemyDecisionPhase = ownsTimers ? new EnemyDecisionPhase() : new EnemyDecisionPhase(1);
+        this.lastUpdateTime = clock.now();
         this.player = player;
+        if (player != null) {
+            player.attach_components(characterComponents);
+        }
         this.gameState = GameState.MAIN_MENU;
         this.victoryStatus = false;
         this.deathStatus = false;
@@ -125,12 +189,18 @@ public class GameLogic implements GameModel {
         this.currentFloor = 1;
         this.regularFloorCount = 1;
         this.random = new Random();
+        this.regionSleep = new RegionSleepManager(random.nextLong());
+        set_loot_seed(random.nextLong());
         this.observers = new ArrayList<>();
         this.isDisposed = false; // Initialize disposal flag
         
         // Set the GameLogic reference in the player
         player.setGameLogic(this);
         
+        if (!ownsTimers) {
+            return; // The caller ticks this game
+        }
+        
         // Initialize notification timer for performance optimization
         initializeNotificationTimer();
         
@@ -196,7 +266,7 @@ public class GameLogic implements GameModel {
      * @param data Additional data for the action
      */
     public void handle_player_action(String action, Object data) {
-        if (pauseStatus || npcDialogue) return;
+        if (isDisposed || pauseStatus || npcDialogue) return;
         switch (action.toLowerCase()) {
             case "open_inventory":
                 open_inventory();
@@ -245,13 +315,21 @@ public class GameLogic implements GameModel {
      */
     private void handle_tile_interaction(utilities.Tile tile) {
         // Mark tile as explored
-        tile.set_explored();
+        if (currentMap != null) {
+            currentMap.reveal_tile(tile.get_position().get_x(), tile.get_position().get_y());
+        } else {
+            tile.set_explored();
+        }
         // Handle items on tile
         if (tile.has_items()) {
-            List<Item> items = tile.get_items();
-            for (Item item : items) {
+            // The snapshot does not change as collected items leave the tile
+            for (Item item : tile.get_items_view()) {
                 if (player.collect_item(item)) {
-                    tile.remove_item(item);
+                    if (currentMap != null) {
+                        currentMap.remove_item(item, tile.get_position());
+                    } else {
+                        tile.remove_item(item);
+                    }
                     notify_item_collected(item); // Use batching
                     
                     // Special message for Floor Key collection
@@ -293,10 +371,13 @@ public class GameLogic implements GameModel {
     private void handle_attack_action() {
         // Only allow attack if enough time has passed (attack speed)
         BaseClass baseClass = player.getPlayerClassOOP();
-        long now = System.currentTimeMillis();
+        long now = clock.now();
         float attackSpeed = baseClass != null ? baseClass.getAttackSpeed() : 1.0f;
         if (now - lastAttackTime < (1000.0f / attackSpeed)) return;
         lastAttackTime = now;
+        // Attacking is loud enough to wake nearby sleeping enemies
+        aiLevelOfDetail.make_noise(player.get_position().get_x(), player.get_position().get_y(),
+            GameConstants.AI_LOD_ATTACK_NOISE_RADIUS);
         // --- Use aim direction for attacks ---
         int dx, dy;
         float projDx, projDy;
@@ -394,8 +475,7 @@ public class GameLogic implements GameModel {
         );
         
         // Start swing attack detection using unified system
-        AttackUtils.startSwingAttackDetection(swingData, 
-            new AttackUtils.PlayerSwingHitDetector(player, currentEnemies, this));
+        start_swing_detection(swingData, new AttackUtils.PlayerSwingHitDetector(player, this));
         
         // Notify observers with swing data
         notify_observers("PLAYER_ATTACKED", swingData);
@@ -428,7 +508,9 @@ public class GameLogic implements GameModel {
             if (speed < moveSpeed) speed = moveSpeed + 0.1f;
             float maxDist = baseClass.getProjectileTravelDistance();
             float radius = enums.GameConstants.TILE_SIZE / 4f;
-            projectiles.add(new Projectile(px, py, projDx, projDy, speed, maxDist, radius, player));
+            synchronized (projectileLock) {
+                projectiles.add(new Projectile(px, py, projDx, projDy, speed, maxDist, radius, player));
+            }
             
             // Create Ranger bow attack visual data (static angle, no sliding)
             model.gameLogic.AttackVisualData bowData = model.gameLogic.AttackUtils.createStaticBowData(
@@ -592,135 +674,71 @@ public class GameLogic implements GameModel {
 
     /**
      * MANDATORY: Update enemy positions and AI behavior (Thread-safe)
+     *
+     * Runs in two phases: a read-only decision phase over a snapshot of the
+     * world (parallel on large floors), then a serial apply phase that commits
+     * moves, attacks and removals in enemy id order.
      */
     private void update_enemy_positions() {
         // Check disposal status first
-        if (isDisposed || currentEnemies == null) {
+        if (isDisposed || currentEnemies == null || player == null || currentMap == null) {
             return;
         }
         
-        // Use defensive copy to prevent concurrent modification
-        List<Enemy> enemiesCopy;
-        synchronized (enemyLock) {
-            if (isDisposed) {
-                return;
-            }
-            enemiesCopy = new ArrayList<>(currentEnemies);
-        }
+        // Only enemies in awake regions are simulated; the snapshot is immutable
+        List<Enemy> enemiesCopy = new ArrayList<>(regionSleep.get_awake_enemies());
+        enemiesCopy.sort(ENEMY_ID_ORDER);
         
-        // Process enemies from the copy
-        Iterator<Enemy> enemyIterator = enemiesCopy.iterator();
-        while (enemyIterator.hasNext()) {
-            Enemy enemy = enemyIterator.next();
-            
+        EnemyWorldView view = EnemyWorldView.capture(player, currentMap, clock.now(), enemiesCopy);
+        EnemyDecision[] decisions = enemyDecisionPhase.decide_all(enemiesCopy, view);
+        
+        List<Enemy> expired = new ArrayList<>();
+        for (EnemyDecision decision : decisions) {
             // Check disposal status during iteration
             if (isDisposed) {
                 return;
             }
-            
-            if (enemy.shouldBeDeleted()) {
-                // Remove from original list with synchronization
-                synchronized (enemyLock) {
-                    if (!isDisposed) {
-                        currentEnemies.remove(enemy);
-                    }
-                }
-                continue;
+            if (decision.is_remove()) {
+                expired.add(decision.get_enemy());
+            } else {
+                apply_enemy_decision(decision);
             }
-            
-            if (enemy.is_alive() && !enemy.isDying()) {
-                // Simple AI: move towards player if within aggro range and player is not invisible
-                if (player != null && !isDisposed && 
-                    player.get_position().distance_to(enemy.get_position()) <= enemy.get_aggro_range() && 
-                    !player.is_invisibility_effect_active()) {
-                    move_enemy_towards_player(enemy);
-                }
-                
-                // Handle enemy attack logic (only if player is not invisible)
-                if (player != null && !isDisposed && !player.is_invisibility_effect_active()) {
-                    handle_enemy_attack_logic(enemy);
+        }
+        
+        // Remove finished enemies under one lock acquisition
+        if (!expired.isEmpty()) {
+            java.util.Set<Enemy> expiredSet = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>());
+            expiredSet.addAll(expired);
+            synchronized (enemyLock) {
+                if (!isDisposed) {
+                    currentEnemies.removeIf(expiredSet::contains);
+                    for (Enemy enemy : expired) {
+                        release_enemy_entity(enemy);
+                    }
                 }
             }
         }
     }
     
     /**
-     * Handle enemy attack logic with wind-up phase
+     * Commit one enemy's decision: step toward the player, then attack
      */
-    private void handle_enemy_attack_logic(Enemy enemy) {
-        if (enemy == null || !enemy.is_alive()) return;
-        
-        // Only allow attack if enemy is currently chasing the player (aggroed)
-        if (!enemy.isChasingPlayer()) {
-            return;
+    private void apply_enemy_decision(EnemyDecision decision) {
+        Enemy enemy = decision.get_enemy();
+        if (decision.is_move()) {
+            // Claimed in id order, so two decisions for the same tile resolve the same way every run
+            enemy.commit_step(decision.get_move_tile_x(), decision.get_move_tile_y());
         }
-        // Check if enemy is in celebratory state - if so, don't attack
-        if (enemy.isInCelebratoryState()) {
-            return;
-        }
-        // Check if enemy is showing detection notification - if so, don't attack
-        if (enemy.isShowingDetectionNotification()) {
-            return;
-        }
-        
-        // Check if enemy is in hit state - if so, don't attack
-        if (enemy.isInHitState()) {
-            return;
-        }
-        
-        // Handle wind-up state
-        if (enemy.isInWindUpState()) {
-            long now = System.currentTimeMillis();
-            if (now - enemy.getWindUpStartTime() >= enemy.getWindUpDuration()) {
-                // Wind-up complete, execute attack
+        switch (decision.get_attack()) {
+            case START_WIND_UP:
+                startEnemyWindUp(enemy);
+                break;
+            case EXECUTE:
                 executeEnemyAttack(enemy);
                 enemy.setInWindUpState(false);
-            }
-            return; // Don't start new wind-up while in wind-up state
-        }
-        
-        // Calculate tile positions for LOS check
-        int enemyTileX = (int)(enemy.getPixelX() / GameConstants.TILE_SIZE);
-        int enemyTileY = (int)(enemy.getPixelY() / GameConstants.TILE_SIZE);
-        int playerTileX = (int)(player.getPixelX() / GameConstants.TILE_SIZE);
-        int playerTileY = (int)(player.getPixelY() / GameConstants.TILE_SIZE);
-        // Check line of sight (LOS) before attacking
-        if (!utilities.Collision.hasLineOfSight(currentMap, enemyTileX, enemyTileY, playerTileX, playerTileY)) {
-            return; // LOS blocked by wall, do not attack
-        }
-
-        // Check attack cooldown
-        long now = System.currentTimeMillis();
-        float attackSpeed = enemy.getEnemyClassOOP().getAttackSpeed();
-        if (now - enemy.getLastAttackTime() < (1000.0f / attackSpeed)) {
-            return; // Still in cooldown
-        }
-        
-        // Calculate distance to player (accounting for entity size)
-        float px = enemy.getPixelX() + GameConstants.TILE_SIZE / 2f;
-        float py = enemy.getPixelY() + GameConstants.TILE_SIZE / 2f;
-        float tx = player.getPixelX() + GameConstants.TILE_SIZE / 2f;
-        float ty = player.getPixelY() + GameConstants.TILE_SIZE / 2f;
-        float dist = (float)Math.hypot(tx - px, ty - py) / GameConstants.TILE_SIZE;
-        
-        // Adjust range based on entity size and boss modifiers
-        float sizeMultiplier = 1.0f;
-        float rangeModifier = 1.0f;
-        if (enemy instanceof model.characters.Boss) {
-            sizeMultiplier = ((model.characters.Boss) enemy).getSizeMultiplier();
-            rangeModifier = ((model.characters.Boss) enemy).getRangeModifier();
-        }
-        
-        boolean hasProjectile = enemy.getEnemyClassOOP().hasProjectile();
-        boolean hasMelee = enemy.getEnemyClassOOP().hasMelee();
-        float projRange = hasProjectile ? enemy.getEnemyClassOOP().getProjectileTravelDistance() * sizeMultiplier * rangeModifier : 0f;
-        float meleeRange = hasMelee ? enemy.getEnemyClassOOP().getRange() * sizeMultiplier * rangeModifier : 0f;
-        boolean canProjectile = hasProjectile && dist <= projRange;
-        boolean canMelee = hasMelee && dist <= meleeRange;
-        
-        // Start wind-up phase if player is in attack range
-        if (canProjectile || canMelee) {
-            startEnemyWindUp(enemy);
+                break;
+            default:
+                break;
         }
     }
     
@@ -728,10 +746,11 @@ public class GameLogic implements GameModel {
      * Start enemy wind-up phase
      */
     private void startEnemyWindUp(Enemy enemy) {
+        long now = clock.now();
         enemy.setInWindUpState(true);
-        enemy.setWindUpStartTime(System.currentTimeMillis());
+        enemy.setWindUpStartTime(now);
         // Add 0.5 seconds to chase timer to prevent returning to idle during wind-up
-        enemy.setChaseEndTime(System.currentTimeMillis() + 500); // Add 0.5 seconds
+        enemy.setChaseEndTime(now + 500); // Add 0.5 seconds
         // Notify observers to start enemy cyan blinking
         notify_observers("ENEMY_WIND_UP_STARTED", enemy);
     }
@@ -740,7 +759,7 @@ public class GameLogic implements GameModel {
      * Execute enemy attack after wind-up phase
      */
     private void executeEnemyAttack(Enemy enemy) {
-        long now = System.currentTimeMillis();
+        long now = clock.now();
         enemy.setLastAttackTime(now);
         
         // Use current aim direction (enemy can still aim during wind-up)
@@ -783,22 +802,6 @@ public class GameLogic implements GameModel {
         }
     }
 
-    /**
-     * MANDATORY: Move enemy towards player position
-     *
-     * @param enemy The enemy to move
-     */
-    private void move_enemy_towards_player(Enemy enemy) {
-        Position enemyPos = enemy.get_position();
-        Position playerPos = player.get_position();
-        int deltaX = Integer.compare(playerPos.get_x(), enemyPos.get_x());
-        int deltaY = Integer.compare(playerPos.get_y(), enemyPos.get_y());
-        Position newPos = enemyPos.move(deltaX, deltaY);
-        if (currentMap.is_valid_move(newPos)) {
-            enemy.move_to(newPos.get_x() * enums.GameConstants.TILE_SIZE, newPos.get_y() * enums.GameConstants.TILE_SIZE);
-        }
-    }
-
     /**
      * MANDATORY: Generate new dungeon floor
      */
@@ -817,10 +820,18 @@ public class GameLogic implements GameModel {
         
         // Generate new map with floor type
         currentMap = new Map(currentFloor, currentFloorType);
-        currentEnemies.clear();
+        reset_loot_streams();
+        synchronized (enemyLock) {
+            clear_enemies();
+        }
         currentBoss = null;
+        if (currentUpgrader != null) {
+            currentUpgrader.detach_components();
+        }
         currentUpgrader = null; // Clear upgrader when generating new floor
-        projectiles.clear(); // Clear projectiles when generating new floor
+        synchronized (projectileLock) {
+            projectiles.clear(); // Clear projectiles when generating new floor
+        }
     }
 
     /**
@@ -845,14 +856,8 @@ public class GameLogic implements GameModel {
         currentMap.set_entrance_tile(spawnPos);
         
         // Initial exploration: reveal 3x3 area around player spawn so they can see something
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                int nx = spawnPos.get_x() + dx;
-                int ny = spawnPos.get_y() + dy;
-                utilities.Tile t = currentMap.get_tile(nx, ny);
-                if (t != null) t.set_explored();
-            }
-        }
+        currentMap.get_fog_of_war().reveal_rect(spawnPos.get_x() - 1, spawnPos.get_y() - 1,
+                                                spawnPos.get_x() + 1, spawnPos.get_y() + 1);
     }
 
     /**
@@ -883,7 +888,7 @@ public class GameLogic implements GameModel {
             enemy.setMap(currentMap);
             enemy.setPlayer(player);
             synchronized (enemyLock) {
-                currentEnemies.add(enemy);
+                add_enemy(enemy);
             }
             currentMap.place_enemy(enemy, pos);
         }
@@ -894,7 +899,7 @@ public class GameLogic implements GameModel {
             currentBoss = create_boss_for_floor(bossPos);
             currentBoss.move_to(bossPos.get_x() * enums.GameConstants.TILE_SIZE, bossPos.get_y() * enums.GameConstants.TILE_SIZE);
             synchronized (enemyLock) {
-                currentEnemies.add(currentBoss);
+                add_enemy(currentBoss);
             }
         } else {
             System.err.println("Boss position not found on boss floor!");
@@ -934,7 +939,7 @@ public class GameLogic implements GameModel {
             enemy.setMap(currentMap);
             enemy.setPlayer(player);
             synchronized (enemyLock) {
-                currentEnemies.add(enemy);
+                add_enemy(enemy);
             }
             currentMap.place_enemy(enemy, pos);
         }
@@ -1043,6 +1048,8 @@ public class GameLogic implements GameModel {
         
         // Create and place the upgrader
         currentUpgrader = new Upgrader(upgraderPos, upgraderType);
+        currentUpgrader.set_clock(clock);
+        currentUpgrader.attach_components(characterComponents);
         currentUpgrader.calculateUpgradeCost(player);
         currentUpgrader.move_to(upgraderPos.get_x() * enums.GameConstants.TILE_SIZE, upgraderPos.get_y() * enums.GameConstants.TILE_SIZE);
         
@@ -1093,6 +1100,10 @@ public class GameLogic implements GameModel {
         if (currentUpgrader == null) {
             return;
         }
+        // Nobody can see or reach an upgrader in a sleeping region
+        if (!regionSleep.is_awake(currentUpgrader.get_position().get_x(), currentUpgrader.get_position().get_y())) {
+            return;
+        }
         
         // Get nearby enemies for field of view detection
         List<Character> nearbyEnemies = get_characters_near_upgrader();
@@ -1249,156 +1260,29 @@ public class GameLogic implements GameModel {
     }
 
     /**
-     * NEW: Comprehensive list of all weapons loaded from JSON configuration
-     */
-    private List<model.equipment.Weapon> getAllWeapons() {
-        return utilities.WeaponDefinitionManager.getInstance().getAllWeapons();
-    }
-    
-    /**
-     * NEW: Comprehensive list of all armor loaded from JSON configuration
-     */
-    private List<model.equipment.Armor> getAllArmor() {
-        return utilities.WeaponDefinitionManager.getInstance().getAllArmor();
-    }
-    
-    /**
-     * NEW: Get class-appropriate armor for enemies and bosses
-     * All armor is universal, but we can assign thematically appropriate armor
-     */
-    private model.equipment.Armor getRandomArmorForClass(enums.CharacterClass characterClass) {
-        List<model.equipment.Armor> allArmor = getAllArmor();
-        List<model.equipment.Armor> classAppropriateArmor = new ArrayList<>();
-        
-        switch (characterClass) {
-            case WARRIOR:
-                // Warriors get heavy/combat armor
-                for (model.equipment.Armor armor : allArmor) {
-                    String name = armor.get_name().toLowerCase();
-                    if (name.contains("combat") || name.contains("dragon") || name.contains("golem") || 
-                        name.contains("guard") || name.contains("hero") || name.contains("knight") || 
-                        name.contains("gilded")) {
-                        classAppropriateArmor.add(armor);
-                    }
-                }
-                break;
-            case MAGE:
-                // Mages get robes and magical armor
-                for (model.equipment.Armor armor : allArmor) {
-                    String name = armor.get_name().toLowerCase();
-                    if (name.contains("robe") || name.contains("arcane") || name.contains("fancy") || 
-                        name.contains("royal") || name.contains("vine") || name.contains("wizard")) {
-                        classAppropriateArmor.add(armor);
-                    }
-                }
-                break;
-            case ROGUE:
-                // Rogues get light/stealth armor
-                for (model.equipment.Armor armor : allArmor) {
-                    String name = armor.get_name().toLowerCase();
-                    if (name.contains("animal") || name.contains("basic") || name.contains("vine")) {
-                        classAppropriateArmor.add(armor);
-                    }
-                }
-                break;
-            case RANGER:
-                // Rangers get medium/leather armor
-                for (model.equipment.Armor armor : allArmor) {
-                    String name = armor.get_name().toLowerCase();
-                    if (name.contains("basic") || name.contains("iced") || name.contains("combat")) {
-                        classAppropriateArmor.add(armor);
-                    }
-                }
-                break;
-        }
-        
-        // If no class-appropriate armor found, return random armor
-        if (classAppropriateArmor.isEmpty()) {
-            return allArmor.get(random.nextInt(allArmor.size()));
-        }
-        
-        return classAppropriateArmor.get(random.nextInt(classAppropriateArmor.size()));
-    }
-    
-    /**
-     * NEW: Get random weapon for a specific character class
+     * MANDATORY: Create random item for floor
+     *
+     * @return New Item instance, or null if the floor's table rolled nothing
      */
-    private model.equipment.Weapon getRandomWeaponForClass(enums.CharacterClass characterClass) {
-        return utilities.WeaponDefinitionManager.getInstance().getRandomWeaponForClass(characterClass);
+    private Item create_random_item() {
+        List<Item> rolled = LootTables.current().for_floor(currentFloorType)
+            .roll(player.get_character_class(), null, floorLoot);
+        return rolled.isEmpty() ? null : rolled.get(0);
     }
 
     /**
-     * NEW: Get weapons filtered by character class for thematic spawning
+     * NEW: Seed the loot streams, so a run's floor items and drops can be replayed
+     *
+     * @param seed Seed every floor's loot streams are derived from
      */
-    private List<model.equipment.Weapon> getWeaponsForClass(enums.CharacterClass characterClass) {
-        return utilities.WeaponDefinitionManager.getInstance().getWeaponsForClass(characterClass);
+    public void set_loot_seed(long seed) {
+        this.lootSeed = seed;
+        reset_loot_streams();
     }
 
-    /**
-     * MANDATORY: Create random item for floor
-     *
-     * @return New Item instance
-     */
-    private Item create_random_item() {
-        int roll = random.nextInt(100);
-        
-        if (roll < 15) {
-            // 15% chance for weapons - pick from class-specific weapons
-            List<model.equipment.Weapon> classWeapons = getWeaponsForClass(player.get_character_class());
-            if (!classWeapons.isEmpty()) {
-                return classWeapons.get(random.nextInt(classWeapons.size()));
-            } else {
-                // Fallback to all weapons if no class-specific weapons found
-                List<model.equipment.Weapon> weapons = getAllWeapons();
-                return weapons.get(random.nextInt(weapons.size()));
-            }
-        } else if (roll < 30) {
-            // 15% chance for armor - pick random from all armor (universal)
-            List<model.equipment.Armor> armor = getAllArmor();
-            return armor.get(random.nextInt(armor.size()));
-        } else if (roll < 55) {
-            // 25% chance for health consumables (increased from 15%)
-            int healthRoll = random.nextInt(100);
-            if (healthRoll < 50) {
-                return new Consumable("Minor Health Potion", 25, "health");
-            } else if (healthRoll < 80) {
-                return new Consumable("Health Potion", 50, "health");
-            } else {
-                return new Consumable("Greater Health Potion", 100, "health");
-            }
-        } else if (roll < 65) {
-            // 10% chance for mana consumables - ONLY if player is Mage
-            if (player.get_character_class() == enums.CharacterClass.MAGE) {
-                int manaRoll = random.nextInt(100);
-                if (manaRoll < 70) {
-                    return new Consumable("Mana Potion", 30, "mana");
-                } else {
-                    return new Consumable("Greater Mana Potion", 60, "mana");
-                }
-            } else {
-                // If not Mage, redistribute this 10% to other items
-                // We'll add this probability to the next category (experience items)
-                return new Consumable("Experience Scroll", 100, "experience");
-            }
-        } else if (roll < 70) {
-            // 5% chance for experience items
-            return new Consumable("Experience Scroll", 100, "experience");
-        } else if (roll < 75) {
-            // 5% chance for lamp (clarity effect)
-            return new Consumable("Lamp", 10, "clarity");
-        } else if (roll < 77) {
-            // 2% chance for vanish cloak (invisibility effect)
-            return new Consumable("Vanish Cloak", 8, "invisibility");
-        } else if (roll < 80) {
-            // 3% chance for swift winds (speed effect)
-            return new Consumable("Swift Winds", 5, "swiftness");
-        } else if (roll < 82) {
-            // 2% chance for immortality amulet
-            return new Consumable("Immortality Amulet", 5, "immortality");
-        } else {
-            // 18% chance for upgrade items (restored to original percentage)
-            return new model.items.KeyItem("Upgrade Crystal", "any");
-        }
+    private void reset_loot_streams() {
+        floorLoot = LootTables.stream(lootSeed, currentFloor, LootTables.FLOOR_STREAM);
+        dropLoot = LootTables.stream(lootSeed, currentFloor, LootTables.DROP_STREAM);
     }
 
     /**
@@ -1436,13 +1320,15 @@ public class GameLogic implements GameModel {
         consume_floor_key();
         
         isFloorTransitioning = true;
-        floorTransitionStartTime = System.currentTimeMillis();
+        floorTransitionStartTime = clock.now();
         // Clear all entities immediately for black screen
         synchronized (enemyLock) {
-            currentEnemies.clear();
+            clear_enemies();
         }
         currentBoss = null;
-        projectiles.clear(); // Clear projectiles when generating new floor
+        synchronized (projectileLock) {
+            projectiles.clear(); // Clear projectiles when generating new floor
+        }
         // Clear the map completely - we'll generate a new one after delay
         currentMap = null;
         notify_observers("FLOOR_TRANSITION_STARTED", null);
@@ -1455,7 +1341,7 @@ public class GameLogic implements GameModel {
      */
     private void checkFloorTransition() {
         if (isFloorTransitioning) {
-            long elapsed = System.currentTimeMillis() - floorTransitionStartTime;
+            long elapsed = clock.now() - floorTransitionStartTime;
             if (elapsed >= FLOOR_TRANSITION_DURATION) {
                 // Transition complete - generate new floor
                 isFloorTransitioning = false;
@@ -1508,7 +1394,8 @@ public class GameLogic implements GameModel {
             return;
         }
         
-        long now = System.currentTimeMillis();
+        // The only place game time moves; everything this tick reads the same value
+        long now = clock.tick();
         float deltaTime = (now - lastUpdateTime) / 1000f;
         lastUpdateTime = now;
         
@@ -1518,6 +1405,12 @@ public class GameLogic implements GameModel {
             
             // Only update game entities if not transitioning
             if (!isFloorTransitioning) {
+                // Expire the player's potion effects once, before anything asks whether they are active
+                player.get_status_effects().tick(now);
+                
+                // Wake or sleep regions around the player before anything reads the awake list
+                regionSleep.update(player.get_position().get_x(), player.get_position().get_y(), now);
+
                 // Thread-safe enemy position updates
                 synchronized (enemyUpdateLock) {
                     if (!isDisposed) { // Double-check after acquiring lock
@@ -1530,15 +1423,32 @@ public class GameLogic implements GameModel {
                 // Update projectiles (Thread-safe)
                 synchronized (projectileLock) {
                     if (!isDisposed) {
+                        List<Enemy> targets = regionSleep.get_awake_enemies();
+                        if (!projectiles.isEmpty() && currentMap != null) {
+                            projectileBroadphase.rebuild(targets,
+                                currentMap.get_width() * GameConstants.TILE_SIZE,
+                                currentMap.get_height() * GameConstants.TILE_SIZE);
+                        }
                         Iterator<Projectile> it = projectiles.iterator();
                         while (it.hasNext()) {
                             Projectile p = it.next();
-                            p.update(deltaTime, currentMap, currentEnemies);
+                            p.update(deltaTime, currentMap, targets, currentMap != null ? projectileBroadphase : null);
                             if (!p.isActive()) it.remove();
                         }
                     }
                 }
                 
+                // Swings and delayed reactions that timer threads run in a windowed game
+                if (!ownsTimers && !isDisposed) {
+                    tickedSwings.step(now);
+                    run_due_celebrations(now);
+                }
+                
+                // Apply every hit found since the last tick in one phase
+                if (!isDisposed) {
+                    resolve_damage();
+                }
+                
                 if (!isDisposed) {
                     check_victory_condition();
                     check_death_condition();
@@ -1551,6 +1461,10 @@ public class GameLogic implements GameModel {
                 notify_observers("GAME_STATE_UPDATED", gameState);
             }
         }
+        
+        if (!ownsTimers) {
+            processPendingItemNotifications(); // No notification timer; flush once per tick
+        }
     }
 
     /**
@@ -1558,11 +1472,10 @@ public class GameLogic implements GameModel {
      */
     public void pause_game() {
         synchronized (gameStateLock) {
-            gameState = GameState.PAUSED;
-            pauseStatus = true;  // CRITICAL FIX: Actually set pause status to stop updates
-            // Pause all enemies and boss (removed setPaused calls)
-            notify_observers("GAME_PAUSED", null);
+            set_pause_state(true);
         }
+        // Notified outside gameStateLock: observers run under observerLock and read game state
+        notify_observers("GAME_PAUSED", null);
     }
 
     /**
@@ -1570,23 +1483,33 @@ public class GameLogic implements GameModel {
      */
     public void resume_game() {
         synchronized (gameStateLock) {
-            gameState = GameState.PLAYING;
-            pauseStatus = false;  // Resume updates when unpaused
-            // Resume all enemies and boss (removed setPaused calls)
-            notify_observers("GAME_RESUMED", null);
+            set_pause_state(false);
         }
+        notify_observers("GAME_RESUMED", null);
     }
 
     /**
      * MANDATORY: Toggle pause state (Thread-safe)
      */
     private void toggle_pause() {
+        boolean paused;
         synchronized (gameStateLock) {
-            if (pauseStatus) {
-                resume_game();
-            } else {
-                pause_game();
-            }
+            paused = !pauseStatus;
+            set_pause_state(paused);
+        }
+        notify_observers(paused ? "GAME_PAUSED" : "GAME_RESUMED", null);
+    }
+
+    /**
+     * NEW: Pause or resume updates and game time (caller holds gameStateLock)
+     */
+    private void set_pause_state(boolean paused) {
+        gameState = paused ? GameState.PAUSED : GameState.PLAYING;
+        pauseStatus = paused;  // CRITICAL FIX: Actually set pause status to stop updates
+        if (paused) {
+            clock.pause();  // Freeze effect, immunity and enemy timers while paused
+        } else {
+            clock.resume();
         }
     }
 
@@ -1613,6 +1536,7 @@ public class GameLogic implements GameModel {
         synchronized (gameStateLock) {
             gameState = enums.GameState.MAIN_MENU;
             pauseStatus = false;  // CRITICAL FIX: Reset pause state when returning to menu
+            clock.resume();
             // Reset all game state for new game
             currentFloor = 1;
             regularFloorCount = 1;
@@ -1620,13 +1544,15 @@ public class GameLogic implements GameModel {
             bonusFloorChance = 20;
             bonusFloorTriggered = false;
             synchronized (enemyLock) {
-                currentEnemies.clear();
+                clear_enemies();
             }
             currentBoss = null;
             currentUpgrader = null;
             upgraderGreetedPlayer = false;
             upgraderWarnedPlayer = false;
-            projectiles.clear();
+            synchronized (projectileLock) {
+                projectiles.clear();
+            }
             isFloorTransitioning = false;
             victoryStatus = false;
             deathStatus = false;
@@ -1636,8 +1562,8 @@ public class GameLogic implements GameModel {
             if (player != null) {
                 player.reset_for_new_game();
             }
-            notify_observers("GAME_STATE_CHANGED", enums.GameState.MAIN_MENU);
         }
+        notify_observers("GAME_STATE_CHANGED", enums.GameState.MAIN_MENU);
     }
 
     /**
@@ -1713,17 +1639,331 @@ public class GameLogic implements GameModel {
     }
     public Player get_player() { return player; }
     public Map get_current_map() { return currentMap; }
+    public AiLevelOfDetail get_ai_level_of_detail() { return aiLevelOfDetail; }
+    public model.entity.EntityStore get_entity_store() { return entityStore; }
+
+    /**
+     * NEW: The monitors that guard this game's state, by name, so a stress
+     * harness can tell which one a thread holds or is waiting for
+     *
+     * @return Lock objects in declaration order, then the entity store
+     */
+    public java.util.Map<String, Object> get_lock_monitors() {
+        java.util.Map<String, Object> monitors = new java.util.LinkedHashMap<>();
+        monitors.put("observerLock", observerLock);
+        monitors.put("gameStateLock", gameStateLock);
+        monitors.put("projectileLock", projectileLock);
+        monitors.put("enemyLock", enemyLock);
+        monitors.put("disposalLock", disposalLock);
+        monitors.put("enemyUpdateLock", enemyUpdateLock);
+        monitors.put("entityStore", entityStore);
+        return monitors;
+    }
+    public RegionSleepManager get_region_sleep_manager() { return regionSleep; }
+
+    /**
+     * NEW: Enemies in regions near enough to the player to be simulated
+     *
+     * @return Immutable snapshot from the last game update
+     */
+    public List<Enemy> get_awake_enemies() { return regionSleep.get_awake_enemies(); }
+
+    /**
+     * NEW: Run one movement frame: the status-timer and pushback systems over
+     * every character row on the floor, then the player's movement, then the
+     * awake enemies under the AI level of detail
+     */
+    public void update_movement_frame() {
+        Map map = currentMap;
+        if (isDisposed || map == null || player == null) return;
+        long now = clock.now();
+        characterComponents.update_status_timers(now);
+        characterComponents.update_pushback(map, now);
+        player.update_movement(map);
+        aiLevelOfDetail.update_all(regionSleep.get_awake_enemies(), player);
+    }
+
+    /**
+     * NEW: Game time source shared by the player, enemies and upgrader
+     *
+     * @return The game clock
+     */
+    public GameClock get_clock() { return clock; }
+
+    /**
+     * NEW: Add an enemy to the floor and give it an entity row (caller holds enemyLock)
+     */
+    private void add_enemy(Enemy enemy) {
+        enemy.set_clock(clock);
+        currentEnemies.add(enemy);
+        if (currentMap != null) {
+            regionSleep.add(enemy, currentMap.get_region_graph());
+        }
+        synchronized (entityStore) {
+            enemy.attach_components(characterComponents);
+            enemyColumn.set(entityStore.index_of(enemy.get_entity_id()), enemy);
+        }
+    }
+
+    /**
+     * NEW: Drop an enemy's entity row, every component stored for it and its region tracking
+     */
+    private void release_enemy_entity(Enemy enemy) {
+        regionSleep.remove(enemy);
+        enemy.release_tile();
+        enemy.detach_components();
+    }
+
+    /**
+     * NEW: Remove every enemy from the floor along with its components
+     */
+    private void clear_enemies() {
+        for (Enemy enemy : currentEnemies) {
+            release_enemy_entity(enemy);
+        }
+        currentEnemies.clear();
+        regionSleep.clear();
+        // Entity ids are about to be reused; hits and swings on the old floor are void
+        damageBuffer.clear();
+        tickedSwings.clear();
+    }
+
+    /**
+     * NEW: Report a hit found by a swing timer or a projectile. Hits between
+     * the player and enemies on the current floor wait for the tick's damage
+     * phase; hits involving anything else (menus, tests driving combat by
+     * hand) have no tick to wait for and resolve at once.
+     *
+     * @param attacker Character that landed the hit
+     * @param target Character that was hit
+     * @param amount Damage after defense
+     * @param knockX Knockback direction X
+     * @param knockY Knockback direction Y
+     * @param knockDistance Knockback distance in pixels
+     * @param knockSpeed Knockback speed in pixels per update
+     * @param flags DamageBuffer flags
+     */
+    void submit_hit(Character attacker, Character target, int amount,
+                    float knockX, float knockY, float knockDistance, float knockSpeed, int flags) {
+        if (isDisposed) return; // Swing timers can outlive the game
+        int attackerId = damage_id(attacker);
+        int targetId = damage_id(target);
+        if (attackerId != -1 && targetId != -1) {
+            damageBuffer.add(attacker, attackerId, targetId, amount, knockX, knockY, knockDistance, knockSpeed, flags);
+            return;
+        }
+        List<Enemy> killed = new ArrayList<>();
+        apply_hit(attacker, target, amount, knockX, knockY, knockDistance, knockSpeed, flags, killed);
+        finish_kills(killed);
+    }
+
+    /**
+     * NEW: Whether a target already has a hit waiting for this tick's damage phase
+     */
+    boolean has_pending_hit(Character target) {
+        int id = damage_id(target);
+        return id != -1 && damageBuffer.has_pending_hit(id);
+    }
+
+    private int damage_id(Character character) {
+        if (character == player) return DamageBuffer.PLAYER_ID;
+        if (character instanceof Enemy) return ((Enemy) character).get_entity_id();
+        return -1;
+    }
+
+    private Character character_for(int id) {
+        if (id == DamageBuffer.PLAYER_ID) return player;
+        synchronized (entityStore) {
+            return entityStore.is_alive(id) ? enemyColumn.get(entityStore.index_of(id)) : null;
+        }
+    }
+
+    /**
+     * NEW: Damage phase: apply queued hits in arrival order, then handle every
+     * death (loot, experience, kill count, log) once the damage is settled
+     */
+    private void resolve_damage() {
+        long start = System.nanoTime();
+        DamageBuffer.Records hits = damageBuffer.drain();
+        if (hits.size == 0) {
+            lastDamagePhaseHits = 0;
+            lastDamagePhaseNanos = 0;
+            return;
+        }
+        List<Enemy> killed = new ArrayList<>();
+        for (int i = 0; i < hits.size; i++) {
+            // The attacker may have died since; its hit lands anyway, as it did before the damage phase
+            Character attacker = hits.attackers[i];
+            Character target = character_for(hits.target[i]);
+            if (target == null) continue; // Left the floor since the hit
+            apply_hit(attacker, target, hits.amount[i], hits.knockX[i], hits.knockY[i],
+                      hits.knockDistance[i], hits.knockSpeed[i], hits.flags[i], killed);
+        }
+        finish_kills(killed);
+        lastDamagePhaseHits = hits.size;
+        lastDamagePhaseNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Apply one hit and its reactions; enemies it kills are added to killed
+     */
+    private void apply_hit(Character attacker, Character target, int amount, float knockX, float knockY,
+                           float knockDistance, float knockSpeed, int flags, List<Enemy> killed) {
+        boolean swing = (flags & DamageBuffer.FLAG_SWING) != 0;
+        if (target instanceof Enemy) {
+            Enemy enemy = (Enemy) target;
+            // An earlier hit this tick already killed it; do not drop its loot twice
+            if (enemy.isDying() || !enemy.is_alive()) return;
+            enemy.triggerPushback(knockX, knockY, knockDistance, knockSpeed);
+            enemy.triggerHitState(Enemy.BASE_HIT_STATE_DURATION);
+            if (!enemy.take_damage(amount)) {
+                killed.add(enemy);
+            }
+        } else if (target == player && attacker instanceof Enemy) {
+            Enemy enemy = (Enemy) attacker;
+            boolean alive = player.take_damage(amount);
+            notify_observers("PLAYER_DAMAGED", amount); // Trigger damage flash effect
+            // Store the enemy that attacked the player (names the killer if they die)
+            setLastAttackingEnemy(enemy);
+            if (!alive && swing) {
+                player.increment_enemies_slain();
+            }
+            // Always reset chase timer on hit
+            enemy.setChaseEndTime(enemy.get_clock().now() + 3000);
+            player.triggerPushback(knockX, knockY, knockDistance, knockSpeed);
+            player.setImmune(400); // Reduced from 800ms (base immunity period)
+            if (swing) {
+                // Fall back after a successful swing, then maybe celebrate (25% chance)
+                enemy.startFallbackState();
+                if (enemy.getRandom().nextInt(4) == 0) {
+                    schedule_celebration(enemy, 1200); // Start after fallback duration
+                }
+            } else if (enemy.getRandom().nextInt(4) == 0) {
+                // Projectiles celebrate right away (25% chance), no fallback
+                enemy.startCelebratoryState();
+            }
+        }
+    }
+
+    /**
+     * NEW: Check a swing for hits while it lasts: on timer threads in a
+     * windowed game, on the game tick against the game clock otherwise
+     */
+    private void start_swing_detection(AttackVisualData swingData, AttackUtils.SwingHitDetector hitDetector) {
+        if (ownsTimers) {
+            AttackUtils.startSwingAttackDetection(swingData, hitDetector);
+        } else {
+            tickedSwings.add(swingData, hitDetector, clock.now());
+        }
+    }
+
+    /**
+     * NEW: Start an enemy's celebration after a delay, if it is still alive then
+     */
+    private void schedule_celebration(Enemy enemy, long delayMillis) {
+        if (ownsTimers) {
+            Timer celebratoryTimer = new Timer(true);
+            celebratoryTimer.schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    if (enemy.is_alive() && !enemy.isDying()) {
+                        enemy.startCelebratoryState();
+                    }
+                    celebratoryTimer.cancel();
+                }
+            }, delayMillis);
+            return;
+        }
+        synchronized (delayedCelebrations) {
+            delayedCelebrations.add(new DelayedCelebration(enemy, clock.now() + delayMillis));
+        }
+    }
+
+    // Every celebration is scheduled the same delay ahead, so the queue is in due order
+    private void run_due_celebrations(long now) {
+        while (true) {
+            DelayedCelebration due;
+            synchronized (delayedCelebrations) {
+                DelayedCelebration next = delayedCelebrations.peek();
+                if (next == null || next.dueTime > now) return;
+                due = delayedCelebrations.poll();
+            }
+            if (due.enemy.is_alive() && !due.enemy.isDying()) {
+                due.enemy.startCelebratoryState();
+            }
+        }
+    }
+
+    /**
+     * An enemy celebration waiting for the game clock
+     */
+    private static final class DelayedCelebration {
+        final Enemy enemy;
+        final long dueTime;
+
+        DelayedCelebration(Enemy enemy, long dueTime) {
+            this.enemy = enemy;
+            this.dueTime = dueTime;
+        }
+    }
+
+    private void finish_kills(List<Enemy> killed) {
+        for (Enemy enemy : killed) {
+            // Handle loot drops and experience for both enemies and bosses
+            handleEnemyDeath(enemy);
+            if (enemy.isBoss()) {
+                notify_observers("BOSS_DEFEATED", enemy);
+            } else {
+                String enemyClass = enemy.get_character_class().toString().toLowerCase();
+                notify_observers("LOG_MESSAGE", "Enemy " + enemyClass + " defeated!");
+                player.increment_enemies_slain();
+            }
+        }
+    }
+
+    /**
+     * NEW: Time the last damage phase took, for profiling combat-heavy ticks
+     *
+     * @return Nanoseconds, 0 when there were no hits
+     */
+    public long get_last_damage_phase_nanos() { return lastDamagePhaseNanos; }
+    public int get_last_damage_phase_hits() { return lastDamagePhaseHits; }
+
     public List<Enemy> get_current_enemies() { 
         synchronized (enemyLock) {
             return new ArrayList<>(currentEnemies); 
         }
     }
+
+    /**
+     * NEW: Copy the enemies on the floor into a reused list, so swing timers
+     * can walk them on their own thread while the game adds and removes enemies
+     *
+     * @param into Cleared, then filled
+     */
+    void copy_current_enemies(List<Enemy> into) {
+        synchronized (enemyLock) {
+            into.clear();
+            into.addAll(currentEnemies);
+        }
+    }
+
     public Boss get_current_boss() { return currentBoss; }
     public Upgrader get_current_upgrader() { return currentUpgrader; }
     public int get_current_floor() { return currentFloor; }
 
     // Removed attackFanTiles, projectileStart, projectileEnd, lastAttackDX, lastAttackDY, lastAttackRange, lastAttackAngle
     public List<Projectile> getProjectiles() { return projectiles; }
+
+    /**
+     * NEW: Copy of the live projectiles, taken under the projectile lock so it
+     * can be read from any thread
+     */
+    public List<Projectile> get_projectiles_snapshot() {
+        synchronized (projectileLock) {
+            return new ArrayList<>(projectiles);
+        }
+    }
     
     /**
      * Handle enemy melee attack
@@ -1732,7 +1972,7 @@ public class GameLogic implements GameModel {
      * @param aimDY Y direction of aim
      */
     public void handle_enemy_melee_attack(Enemy enemy, int aimDX, int aimDY) {
-        if (enemy == null || !enemy.is_alive()) return;
+        if (isDisposed || enemy == null || !enemy.is_alive()) return;
         
         BaseClass enemyClass = enemy.getEnemyClassOOP();
         if (enemyClass == null || !enemyClass.hasMelee()) return;
@@ -1743,14 +1983,13 @@ public class GameLogic implements GameModel {
         double attackAngle = Math.atan2(aimDY, aimDX);
         
         // Use unified swing attack system
-        long now = System.currentTimeMillis();
+        long now = System.currentTimeMillis(); // Visual data is animated by the renderer in wall time
         AttackVisualData enemySwingData = AttackUtils.createSwingAttackData(
             aimDX, aimDY, enemyClass.getRange(), attackAngle, enemyClass, now
         );
         
         // Start enemy swing attack detection using unified system
-        AttackUtils.startSwingAttackDetection(enemySwingData, 
-            new AttackUtils.EnemySwingHitDetector(enemy, player, this));
+        start_swing_detection(enemySwingData, new AttackUtils.EnemySwingHitDetector(enemy, player, this));
         
         // Show attack visual with swing data (this will be handled by the observer pattern)
         notify_observers("ENEMY_SWING_ATTACK", new Object[]{enemy, enemySwingData});
@@ -1763,13 +2002,13 @@ public class GameLogic implements GameModel {
      * @param aimDY Y direction of aim (float for precise aiming)
      */
     public void handle_enemy_projectile_attack(Enemy enemy, float aimDX, float aimDY) {
-        if (enemy == null || !enemy.is_alive()) return;
+        if (isDisposed || enemy == null || !enemy.is_alive()) return;
         
         BaseClass enemyClass = enemy.getEnemyClassOOP();
         if (enemyClass == null || !enemyClass.hasProjectile()) return;
         
         // Reset chase timer when attack is triggered (player in range)
-        enemy.setChaseEndTime(System.currentTimeMillis() + 5000);
+        enemy.setChaseEndTime(clock.now() + 5000);
         
         // Check MP cost (ignore for Mage enemies)
         if (enemy.get_character_class() != enums.CharacterClass.MAGE && enemy.get_current_mp() < enemyClass.getBaseMp()) {
@@ -1783,7 +2022,9 @@ public class GameLogic implements GameModel {
         // Use the same radius calculation as player projectiles for consistency
         float radius = enums.GameConstants.TILE_SIZE / 4f;
         Projectile projectile = new Projectile(enemyX, enemyY, aimDX, aimDY, enemyClass.getProjectileSpeed(), enemyClass.getProjectileTravelDistance(), radius, enemy);
-        projectiles.add(projectile);
+        synchronized (projectileLock) {
+            projectiles.add(projectile);
+        }
         
         // Use MP (ignore for Mage enemies)
         if (enemy.get_character_class() != enums.CharacterClass.MAGE) {
@@ -1796,7 +2037,7 @@ public class GameLogic implements GameModel {
         // Check if enemy is a Ranger and send bow attack notification
         if (enemyClass instanceof model.characters.RangerClass) {
             // Create Ranger bow attack visual data for enemies (static angle, no sliding)
-            long now = System.currentTimeMillis();
+            long now = System.currentTimeMillis(); // Wall time, matches the renderer
             model.gameLogic.AttackVisualData enemyBowData = model.gameLogic.AttackUtils.createStaticBowData(
                 (int)aimDX, (int)aimDY, attackAngle, now
             );
@@ -1810,6 +2051,7 @@ public class GameLogic implements GameModel {
      * Public method to handle player attack input from the view
      */
     public void handle_player_attack_input() {
+        if (isDisposed) return;
         handle_attack_action();
     }
 
@@ -1853,17 +2095,29 @@ public class GameLogic implements GameModel {
                 notificationTimer = null;
             }
             
+            enemyDecisionPhase.shutdown();
+            tickedSwings.clear();
+            synchronized (delayedCelebrations) {
+                delayedCelebrations.clear();
+            }
+            
             // Wait for any ongoing timer tasks to complete
-            try {
-                Thread.sleep(50); // Small delay to ensure timers stop
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            if (ownsTimers) {
+                try {
+                    Thread.sleep(50); // Small delay to ensure timers stop
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
             }
             
-            // Break circular reference with player
+            // Break circular reference with player; the field stays set so calls
+            // already under way on other threads never see a null player
             if (player != null) {
                 player.setGameLogic(null);
-                player = null;
+                player.detach_components();
+            }
+            if (currentUpgrader != null) {
+                currentUpgrader.detach_components();
             }
             
             // Clear collections with proper synchronization
@@ -1875,7 +2129,7 @@ public class GameLogic implements GameModel {
             
             if (currentEnemies != null) {
                 synchronized (enemyLock) {
-                    currentEnemies.clear();
+                    clear_enemies();
                 }
             }
             
@@ -1909,7 +2163,7 @@ public class GameLogic implements GameModel {
         Position upgraderPos = currentUpgrader.get_position();
         
         // Add enemies within field of view range
-        for (Enemy enemy : currentEnemies) {
+        for (Enemy enemy : get_current_enemies()) {
             if (enemy.is_alive()) {
                 int distance = Math.abs(upgraderPos.get_x() - enemy.get_position().get_x()) + 
                              Math.abs(upgraderPos.get_y() - enemy.get_position().get_y());
@@ -1933,11 +2187,13 @@ public class GameLogic implements GameModel {
 
     /**
      * Handle enemy death and potential loot drops
-     * 50% chance to drop either their equipped armor or weapon
+     * Drops come from the enemy's loot table (by default a 50% chance of
+     * its equipped armor or weapon, and always the Floor Key for bosses)
      * Also grants experience to the player
      */
     public void handleEnemyDeath(Enemy enemy) {
-        if (enemy == null || currentMap == null) return;
+        Map map = currentMap; // dispose() may clear it from another thread
+        if (enemy == null || map == null) return;
         
         // Handle boss death (remove from currentBoss reference but don't trigger floor advancement)
         if (enemy.isBoss() && enemy == currentBoss) {
@@ -1956,59 +2212,17 @@ public class GameLogic implements GameModel {
         Position enemyPos = enemy.get_position();
         if (enemyPos == null) return;
         
-        // Bosses always drop Floor Key (100% chance)
-        if (enemy.isBoss()) {
-            Item floorKey = new model.items.KeyItem("Floor Key", "stairs");
-            currentMap.place_item(floorKey, enemyPos);
-            notify_observers("LOG_MESSAGE", "Boss dropped Floor Key!");
-        }
-        
-        // 50% chance to drop equipment loot (in addition to Floor Key for bosses)
-        if (random.nextInt(100) < 50) {
-            // Randomly choose between armor and weapon
-            boolean dropArmor = random.nextBoolean();
-            model.equipment.Equipment lootItem = null;
-            
-            if (dropArmor && enemy.get_equipped_armor() != null) {
-                // Create a copy of the enemy's armor
-                model.equipment.Armor enemyArmor = enemy.get_equipped_armor();
-                lootItem = new model.equipment.Armor(
-                    enemyArmor.get_name(),
-                    enemyArmor.get_defense_value(),
-                    enemyArmor.get_atk_defense(),
-                    enemyArmor.get_mp_defense(),
-                    enemyArmor.get_class_type(),
-                    enemyArmor.get_tier(),
-                    enemyArmor.get_image_path(),
-                    enemyArmor.get_equipment_type_designation()
-                );
-            } else if (!dropArmor && enemy.get_equipped_weapon() != null) {
-                // Create a copy of the enemy's weapon
-                model.equipment.Weapon enemyWeapon = enemy.get_equipped_weapon();
-                lootItem = new model.equipment.Weapon(
-                    enemyWeapon.get_name(),
-                    enemyWeapon.get_attack_power(),
-                    enemyWeapon.get_mp_power(),
-                    enemyWeapon.get_class_type(),
-                    enemyWeapon.get_tier(),
-                    enemyWeapon.get_weapon_type(),
-                    enemyWeapon.get_image_path(),
-                    enemyWeapon.get_equipment_type_designation()
-                );
-            }
-            
-            // Place the loot on the map if we have an item
-            if (lootItem != null) {
-                currentMap.place_item(lootItem, enemyPos);
-                // Add to item locations for tracking
-                if (!currentMap.get_item_locations().contains(enemyPos)) {
-                    // Note: We can't directly modify the item locations list since it's returned as a copy
-                    // The item will still be placed on the tile and be collectible
-                }
-                
-                // Notify observers about the loot drop
-                String itemType = dropArmor ? "armor" : "weapon";
+        // Roll the enemy's loot table and place every drop where it died
+        for (Item lootItem : enemy.drop_loot(player.get_character_class(), dropLoot)) {
+            // place_item also records the tile in the map's item index
+            map.place_item(lootItem, enemyPos);
+
+            // Notify observers about the loot drop
+            if (lootItem instanceof model.equipment.Equipment) {
+                String itemType = lootItem instanceof model.equipment.Armor ? "armor" : "weapon";
                 notify_observers("LOG_MESSAGE", enemyType + " dropped " + itemType + ": " + lootItem.get_name() + "!");
+            } else {
+                notify_observers("LOG_MESSAGE", enemyType + " dropped " + lootItem.get_name() + "!");
             }
         }
     }
@@ -2121,6 +2335,7 @@ public class GameLogic implements GameModel {
         deathStatus = false;
         playerProgress = 0;
         pauseStatus = false;
+        clock.resume();
         npcDialogue = false;
         currentFloor = 1;
         regularFloorCount = 1;
@@ -2131,11 +2346,15 @@ public class GameLogic implements GameModel {
         
         // Clear collections
         if (currentEnemies != null) {
-            currentEnemies.clear();
+            synchronized (enemyLock) {
+                clear_enemies();
+            }
         }
         currentBoss = null;
         currentUpgrader = null;
-        projectiles.clear();
+        synchronized (projectileLock) {
+            projectiles.clear();
+        }
         
         // Reset player
         if (player != null) {
@@ -2161,7 +2380,9 @@ public class GameLogic implements GameModel {
         // Place random items (no Floor Key - bosses drop it instead)
         for (Position pos : itemPositions) {
             Item item = create_random_item();
-            currentMap.place_item(item, pos);
+            if (item != null) {
+                currentMap.place_item(item, pos);
+            }
         }
     }
     
@@ -2208,7 +2429,9 @@ public class GameLogic implements GameModel {
             } else {
                 // Place random items at remaining positions
                 Item item = create_random_item();
-                currentMap.place_item(item, pos);
+                if (item != null) {
+                    currentMap.place_item(item, pos);
+                }
             }
         }
         
@@ -0,0 +1,123 @@
+package model.gameLogic;
+
+import enums.CharacterClass;
+import enums.GameState;
+import model.characters.Player;
+import utilities.GameClock;
+import utilities.Position;
+
+import java.util.function.Function;
+
+/**
+ * NEW: One independent headless game: its own player, game logic, virtual
+ * clock and loot seed.
+ *
+ * Everything a session changes belongs to the session. What sessions share
+ * (configuration snapshot, equipment catalog, loot tables, decoded images)
+ * is immutable, so any number of sessions can run side by side in one
+ * process. A session starts no threads; whoever hosts it calls step() for
+ * each tick, and step() and perform() are synchronized so a session is
+ * never run by two threads at once. A step also does what the game panel's
+ * frame timer does in a windowed game: moves the player and runs the
+ * enemies' movement. Swing hit checks and delayed enemy reactions, which
+ * run on timer threads in a windowed game, run inside the tick against the
+ * session's clock.
+ */
+public class GameSession {
+    private final int id;
+    private final GameClock clock;
+    private final Player player;
+    private final GameLogic logic;
+    private long ticks;
+    private boolean started;
+    private boolean disposed;
+
+    /**
+     * NEW: Constructor for GameSession
+     *
+     * @param id Session id, unique within its host
+     * @param characterClass Class of the session's player
+     * @param seed Loot seed; sessions with the same seed roll the same loot
+     */
+    public GameSession(int id, CharacterClass characterClass, long seed) {
+        this.id = id;
+        this.clock = GameClock.virtual();
+        this.player = new Player("Session " + id, characterClass, new Position(0, 0));
+        this.logic = new GameLogic(player, clock, false); // Also hands the clock to the player
+        this.logic.set_loot_seed(seed);
+    }
+
+    /**
+     * NEW: Generate the first floor and start playing
+     */
+    public synchronized void start() {
+        if (started || disposed) return;
+        started = true;
+        logic.handle_player_action("class_selected", player.get_character_class());
+    }
+
+    /**
+     * NEW: Advance game time and run one game tick
+     *
+     * @param tickMillis Game time the tick covers
+     */
+    public synchronized void step(long tickMillis) {
+        if (!started || disposed) return;
+        clock.advance(tickMillis);
+        model.map.Map map = logic.get_current_map();
+        if (logic.get_game_state() == GameState.PLAYING && map != null) {
+            // What the game panel's frame timer does in a windowed game
+            logic.update_movement_frame();
+        }
+        logic.update_game_state();
+        ticks++;
+    }
+
+    /**
+     * NEW: Set the player's movement direction, as held movement keys do
+     *
+     * @param dx -1, 0 or 1
+     * @param dy -1, 0 or 1
+     */
+    public synchronized void set_move_direction(int dx, int dy) {
+        if (!started || disposed) return;
+        player.setMoveDirection(Integer.signum(dx), Integer.signum(dy));
+    }
+
+    /**
+     * NEW: Read the session's state between ticks
+     *
+     * @param reader Reads the session; must not keep references to mutable state
+     * @return What the reader returned
+     */
+    public synchronized <T> T read(Function<GameSession, T> reader) {
+        return reader.apply(this);
+    }
+
+    /**
+     * NEW: Apply a player action between ticks
+     *
+     * @param action Action name, as for GameLogic.handle_player_action
+     * @param data Action data, or null
+     */
+    public synchronized void perform(String action, Object data) {
+        if (!started || disposed) return;
+        logic.handle_player_action(action, data);
+    }
+
+    /**
+     * NEW: Release the session's game; later steps do nothing
+     */
+    public synchronized void dispose() {
+        if (disposed) return;
+        disposed = true;
+        logic.dispose();
+    }
+
+    public int get_id() { return id; }
+    public GameClock get_clock() { return clock; }
+    public Player get_player() { return player; }
+    public GameLogic get_logic() { return logic; }
+    public synchronized long get_ticks() { return ticks; }
+    public synchronized boolean is_disposed() { return disposed; }
+}
@@ -32,119 +32,95 @@ public class Projectile {
     }
 
     public void update(float deltaTime, model.map.Map map, java.util.List<Enemy> enemies) {
+        update(deltaTime, map, enemies, null);
+    }
+
+    /**
+     * NEW: Move along this step's whole segment. Walls are found by a grid
+     * traversal and targets by a swept circle test, so nothing is skipped
+     * however far the projectile moves in one tick.
+     *
+     * @param broadphase Enemies bucketed for this tick, or null to test every enemy
+     */
+    void update(float deltaTime, model.map.Map map, java.util.List<Enemy> enemies, EnemyBroadphase broadphase) {
         if (!active) return;
-        float moveDist = speed * deltaTime; // tiles
-        float movePx = moveDist * GameConstants.TILE_SIZE;
-        float nextX = x + dx * movePx;
-        float nextY = y + dy * movePx;
-        // Check wall collision
-        int tileX = (int)(nextX / GameConstants.TILE_SIZE);
-        int tileY = (int)(nextY / GameConstants.TILE_SIZE);
-        if (!map.is_valid_move(new utilities.Position(tileX, tileY))) {
-            active = false;
-            return;
-        }
+        float moveDist = Math.min(speed * deltaTime, maxDistance - distanceTraveled); // tiles
+        float movePx = Math.max(0f, moveDist) * GameConstants.TILE_SIZE;
+        // Check wall collision: how far the segment gets before entering a solid tile
+        float travelPx = utilities.Collision.castRay(map, x, y, dx, dy, movePx);
+        boolean hitWall = travelPx < movePx;
+        // Target radius fudge shared by enemies and the player
+        float reach = radius + GameConstants.TILE_SIZE / 2f - 4;
         // Check collision based on owner type
         if (owner instanceof Player) {
-            // Player projectile - check enemy collision
-            for (Enemy enemy : enemies) {
-                if (enemy.isImmune()) continue;
+            // Player projectile - earliest enemy along the segment
+            GameLogic gameLogic = ((Player)owner).getGameLogic();
+            java.util.List<Enemy> candidates = enemies;
+            if (broadphase != null) {
+                candidates = broadphase.query(x, y, x + dx * travelPx, y + dy * travelPx, reach);
+            }
+            Enemy target = null;
+            float targetPx = travelPx;
+            for (Enemy enemy : candidates) {
+                if (enemy.isImmune() || (gameLogic != null && gameLogic.has_pending_hit(enemy))) continue;
                 float ex = enemy.getPixelX() + GameConstants.TILE_SIZE / 2f;
                 float ey = enemy.getPixelY() + GameConstants.TILE_SIZE / 2f;
-                float dist = (float)Math.hypot(nextX - ex, nextY - ey);
-                if (dist <= radius + GameConstants.TILE_SIZE/2f - 4) { // enemy radius fudge
-                    active = false;
-                    // --- Apply actual damage ---
-                    int rawDamage = ((Player)owner).get_total_attack();
-                    int actualDamage = Math.max(1, rawDamage - enemy.get_total_defense());
-                    boolean alive = enemy.take_damage(actualDamage);
-                    if (owner instanceof Player && ((Player)owner).getGameLogic() != null) {
-                        if (!alive) {
-                            // Handle loot drops for enemies killed by projectiles
-                            ((Player)owner).getGameLogic().handleEnemyDeath(enemy);
-                            if (owner instanceof Player) {
-                                ((Player)owner).increment_enemies_slain();
-                            }
-                        }
-                    }
-                    // Trigger pushback on enemy (distance 0)
-                    enemy.triggerPushback(dx, dy, 0f, GameConstants.TILE_SIZE * 0.18f);
-                    enemy.triggerHitState(model.characters.Enemy.BASE_HIT_STATE_DURATION);
-                    break;
+                float hitPx = utilities.Collision.sweptCircleDistance(x, y, dx, dy, travelPx, ex, ey, reach);
+                if (hitPx >= 0 && hitPx <= targetPx) {
+                    target = enemy;
+                    targetPx = hitPx;
+                }
+            }
+            if (target != null) {
+                active = false;
+                travelPx = targetPx;
+                int rawDamage = ((Player)owner).get_total_attack();
+                int actualDamage = Math.max(1, rawDamage - target.get_total_defense());
+                if (gameLogic != null) {
+                    // Damage, pushback (distance 0) and any death are applied in the damage phase
+                    gameLogic.submit_hit(owner, target, actualDamage, dx, dy, 0f, GameConstants.TILE_SIZE * 0.18f, 0);
+                } else {
+                    // No game running (e.g. a bare projectile); apply directly
+                    target.take_damage(actualDamage);
+                    target.triggerPushback(dx, dy, 0f, GameConstants.TILE_SIZE * 0.18f);
+                    target.triggerHitState(model.characters.Enemy.BASE_HIT_STATE_DURATION);
                 }
             }
         } else if (owner instanceof Enemy) {
             // Enemy projectile - check player collision
-            Player player = ((Enemy)owner).getGameLogic().get_player();
-            if (player != null && !player.isImmune()) {
+            GameLogic gameLogic = ((Enemy)owner).getGameLogic();
+            Player player = gameLogic.get_player();
+            if (player != null && !player.isImmune() && !gameLogic.has_pending_hit(player)) {
                 float px = player.getPixelX() + GameConstants.TILE_SIZE / 2f;
                 float py = player.getPixelY() + GameConstants.TILE_SIZE / 2f;
-                float dist = (float)Math.hypot(nextX - px, nextY - py);
-                if (dist <= radius + GameConstants.TILE_SIZE/2f - 4) { // player radius fudge
+                float hitPx = utilities.Collision.sweptCircleDistance(x, y, dx, dy, travelPx, px, py, reach);
+                if (hitPx >= 0) {
                     active = false;
-                    // --- Apply actual damage ---
+                    travelPx = hitPx;
                     int rawDamage = ((Enemy)owner).get_total_attack();
-                                int actualDamage = Math.max(1, rawDamage - player.get_total_defense());
-            boolean alive = player.take_damage(actualDamage);
-            ((Enemy)owner).getGameLogic().notify_observers("PLAYER_DAMAGED", actualDamage); // Trigger damage flash effect
-                    if (!alive) {
-                        // Store the enemy that killed the player
-                        ((Enemy)owner).getGameLogic().setLastAttackingEnemy((Enemy)owner);
-                    } else {
-                        // Store the enemy that attacked the player (in case they die later)
-                        ((Enemy)owner).getGameLogic().setLastAttackingEnemy((Enemy)owner);
-                    }
-                    // Always reset chase timer on hit
-                    ((Enemy)owner).setChaseEndTime(System.currentTimeMillis() + 3000);
-                    // Start celebratory state for enemy (25% chance) - no fallback for projectiles
-                    if (((Enemy)owner).getRandom().nextInt(4) == 0) {
-                        ((Enemy)owner).startCelebratoryState();
-                    }
-                    // Trigger pushback on player (distance 0)
-                    player.triggerPushback(dx, dy, 0f, GameConstants.TILE_SIZE * 0.18f);
-                    player.setImmune(400); // Reduced from 800ms (base immunity period)
+                    int actualDamage = Math.max(1, rawDamage - player.get_total_defense());
+                    // Damage, pushback (distance 0), immunity and the 25% celebration
+                    // (no fallback for projectiles) are applied in the damage phase
+                    gameLogic.submit_hit(owner, player, actualDamage, dx, dy, 0f, GameConstants.TILE_SIZE * 0.18f, 0);
                 }
             }
         }
-        // Move
-        x = nextX;
-        y = nextY;
-        distanceTraveled += moveDist;
-        if (distanceTraveled >= maxDistance) {
+        // Move to the end of the segment, the wall, or the point of impact
+        x += dx * travelPx;
+        y += dy * travelPx;
+        distanceTraveled += travelPx / GameConstants.TILE_SIZE;
+        if (hitWall || distanceTraveled >= maxDistance - 1e-4f) {
             active = false;
         }
     }
 
-    // Static arrow image cache
-    private static java.awt.image.BufferedImage arrowImage = null;
-    
-    // Static searing ray image cache for Mage projectiles
-    private static java.awt.image.BufferedImage[] searingRayImages = new java.awt.image.BufferedImage[5];
-    
+    // Decoded once per process and shared by every game through ImageAssets
     private java.awt.image.BufferedImage getArrowImage() {
-        if (arrowImage == null) {
-            try {
-                arrowImage = javax.imageio.ImageIO.read(
-                    getClass().getClassLoader().getResourceAsStream("images/items/arrow.png"));
-            } catch (java.io.IOException | IllegalArgumentException ex) {
-                System.err.println("Failed to load arrow image: " + ex.getMessage());
-                return null;
-            }
-        }
-        return arrowImage;
+        return utilities.ImageAssets.get("images/items/arrow.png");
     }
     
     private java.awt.image.BufferedImage getSearingRayImage(int frame) {
-        if (searingRayImages[frame] == null) {
-            try {
-                searingRayImages[frame] = javax.imageio.ImageIO.read(
-                    getClass().getClassLoader().getResourceAsStream("images/items/searing_ray_" + frame + ".png"));
-            } catch (java.io.IOException | IllegalArgumentException ex) {
-                System.err.println("Failed to load searing ray image " + frame + ": " + ex.getMessage());
-                return null;
-            }
-        }
-        return searingRayImages[frame];
+        return utilities.ImageAssets.get("images/items/searing_ray_" + frame + ".png");
     }
     
     public void render(Graphics2D g2d) {
@@ -0,0 +1,262 @@
+package model.gameLogic;
+
+import enums.GameConstants;
+import model.characters.Enemy;
+import model.map.RegionGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * NEW: Puts whole rooms and corridor runs to sleep when they are far from
+ * the player.
+ *
+ * Enemies are kept in one bucket per region of the floor's RegionGraph. A
+ * region is awake while it is within the wake distance (in region hops) of
+ * the player's region; enemies in sleeping regions are left out of the awake
+ * list, so the AI, projectile and upgrader passes never see them. Hop
+ * distances are only recomputed when the player changes region, and each
+ * tick only walks the buckets of awake regions, so the per-tick cost follows
+ * the player's neighbourhood rather than the size of the floor.
+ *
+ * When a region wakes, its enemies catch up on the time they slept in one
+ * step (timers expire, idle enemies get a roaming position drawn from a
+ * stream seeded by the manager seed, floor, enemy and wake count).
+ */
+public class RegionSleepManager {
+    private final long seed;
+    private int wakeDistance = GameConstants.REGION_WAKE_DISTANCE;
+
+    private RegionGraph graph;
+    private int floorIndex;
+    private List<List<Enemy>> members = new ArrayList<>();
+    private final List<Enemy> unplaced = new ArrayList<>();
+    private boolean[] awake = new boolean[0];
+    private long[] asleepSince = new long[0];
+    private int[] wakeCount = new int[0];
+    private int[] hops = new int[0];
+    private int[] awakeRegions = new int[0];
+    private int playerRegion = -1;
+    private boolean distancesDirty = true;
+
+    private volatile List<Enemy> awakeEnemies = Collections.emptyList();
+    private long catchUps;
+
+    /**
+     * NEW: Constructor for RegionSleepManager
+     *
+     * @param seed Seed for catch-up roaming positions
+     */
+    public RegionSleepManager(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * NEW: Set how many region hops from the player stay awake
+     *
+     * @param wakeDistance Hops, 0 keeps only the player's own region awake
+     */
+    public synchronized void set_wake_distance(int wakeDistance) {
+        if (wakeDistance < 0) {
+            throw new IllegalArgumentException("Wake distance must not be negative");
+        }
+        this.wakeDistance = wakeDistance;
+        distancesDirty = true;
+    }
+
+    public synchronized int get_wake_distance() { return wakeDistance; }
+
+    /**
+     * Start tracking a new floor; every region begins awake until the first update
+     */
+    private void reset(RegionGraph newGraph) {
+        graph = newGraph;
+        floorIndex++;
+        int count = newGraph.get_region_count();
+        members = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            members.add(new ArrayList<>());
+        }
+        unplaced.clear();
+        awake = new boolean[count];
+        Arrays.fill(awake, true);
+        asleepSince = new long[count];
+        wakeCount = new int[count];
+        hops = new int[count];
+        awakeRegions = new int[count];
+        for (int r = 0; r < count; r++) {
+            awakeRegions[r] = r;
+        }
+        playerRegion = -1;
+        distancesDirty = true;
+        awakeEnemies = Collections.emptyList();
+    }
+
+    /**
+     * NEW: Track an enemy that was just placed on the floor
+     *
+     * @param enemy Enemy to track
+     * @param floorGraph Region graph of the enemy's floor
+     */
+    public synchronized void add(Enemy enemy, RegionGraph floorGraph) {
+        if (floorGraph != graph) {
+            reset(floorGraph);
+        }
+        place(enemy, graph.get_region(enemy.get_position().get_x(), enemy.get_position().get_y()));
+        if (enemy.get_sim_region() < 0 || awake[enemy.get_sim_region()]) {
+            List<Enemy> updated = new ArrayList<>(awakeEnemies);
+            updated.add(enemy);
+            awakeEnemies = Collections.unmodifiableList(updated);
+        }
+    }
+
+    /**
+     * NEW: Stop tracking an enemy that left the floor
+     */
+    public synchronized void remove(Enemy enemy) {
+        int region = enemy.get_sim_region();
+        if (region >= 0 && region < members.size()) {
+            members.get(region).remove(enemy);
+        } else {
+            unplaced.remove(enemy);
+        }
+        enemy.set_sim_region(-1);
+        if (awakeEnemies.contains(enemy)) {
+            List<Enemy> updated = new ArrayList<>(awakeEnemies);
+            updated.remove(enemy);
+            awakeEnemies = Collections.unmodifiableList(updated);
+        }
+    }
+
+    /**
+     * NEW: Stop tracking every enemy
+     */
+    public synchronized void clear() {
+        for (List<Enemy> bucket : members) {
+            for (Enemy enemy : bucket) {
+                enemy.set_sim_region(-1);
+            }
+            bucket.clear();
+        }
+        for (Enemy enemy : unplaced) {
+            enemy.set_sim_region(-1);
+        }
+        unplaced.clear();
+        awakeEnemies = Collections.emptyList();
+    }
+
+    private void place(Enemy enemy, int region) {
+        enemy.set_sim_region(region);
+        if (region >= 0) {
+            members.get(region).add(enemy);
+        } else {
+            unplaced.add(enemy);
+        }
+    }
+
+    /**
+     * NEW: Wake and sleep regions around the player and rebuild the awake list
+     *
+     * @param playerX Player tile X
+     * @param playerY Player tile Y
+     * @param now Current game time
+     */
+    public synchronized void update(int playerX, int playerY, long now) {
+        if (graph == null) {
+            return;
+        }
+        int region = graph.get_region(playerX, playerY);
+        if (region >= 0 && (region != playerRegion || distancesDirty)) {
+            playerRegion = region;
+            distancesDirty = false;
+            refresh_awake_regions(now);
+        }
+
+        // Move enemies that walked into another region; one entering a sleeping region falls asleep
+        for (int r : awakeRegions) {
+            List<Enemy> bucket = members.get(r);
+            for (int i = bucket.size() - 1; i >= 0; i--) {
+                Enemy enemy = bucket.get(i);
+                int current = graph.get_region(enemy.get_position().get_x(), enemy.get_position().get_y());
+                if (current >= 0 && current != r) {
+                    bucket.remove(i);
+                    place(enemy, current);
+                }
+            }
+        }
+        List<Enemy> updated = new ArrayList<>();
+        for (int r : awakeRegions) {
+            updated.addAll(members.get(r));
+        }
+        updated.addAll(unplaced);
+        awakeEnemies = Collections.unmodifiableList(updated);
+    }
+
+    private void refresh_awake_regions(long now) {
+        graph.hop_distances(playerRegion, hops);
+        int[] nowAwakeRegions = new int[awake.length];
+        int count = 0;
+        for (int r = 0; r < awake.length; r++) {
+            boolean nowAwake = hops[r] >= 0 && hops[r] <= wakeDistance;
+            if (nowAwake && !awake[r]) {
+                wake_region(r, now);
+            } else if (!nowAwake && awake[r]) {
+                asleepSince[r] = now;
+            }
+            awake[r] = nowAwake;
+            if (nowAwake) {
+                nowAwakeRegions[count++] = r;
+            }
+        }
+        awakeRegions = Arrays.copyOf(nowAwakeRegions, count);
+    }
+
+    private void wake_region(int region, long now) {
+        long slept = Math.max(0L, now - asleepSince[region]);
+        int wake = ++wakeCount[region];
+        for (Enemy enemy : members.get(region)) {
+            long mixed = seed ^ (floorIndex * 0x9E3779B97F4A7C15L) ^ (enemy.get_enemy_id() * 0xC2B2AE3D27D4EB4FL) ^ wake;
+            enemy.catch_up_after_sleep(slept, new Random(mixed), graph, region);
+            catchUps++;
+        }
+    }
+
+    /**
+     * NEW: Enemies in awake regions as of the last update (immutable snapshot)
+     *
+     * @return Awake enemies
+     */
+    public List<Enemy> get_awake_enemies() {
+        return awakeEnemies;
+    }
+
+    /**
+     * NEW: Whether the region containing a tile is awake
+     *
+     * @return true for awake regions and for tiles outside any region
+     */
+    public synchronized boolean is_awake(int x, int y) {
+        if (graph == null) {
+            return true;
+        }
+        int region = graph.get_region(x, y);
+        return region < 0 || awake[region];
+    }
+
+    /**
+     * NEW: Number of tracked enemies in sleeping regions
+     */
+    public synchronized int get_sleeping_count() {
+        int sleeping = 0;
+        for (int r = 0; r < awake.length; r++) {
+            if (!awake[r]) sleeping += members.get(r).size();
+        }
+        return sleeping;
+    }
+
+    public synchronized int get_awake_region_count() { return awakeRegions.length; }
+    public synchronized long get_catch_ups() { return catchUps; }
+}
@@ -0,0 +1,56 @@
+package model.gameLogic;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NEW: Precomputed rotations for one swing shape (total width in degrees and
+ * duration in ms). Entry i is the rotation the swing has made after i ms,
+ * stored as a unit vector, so the fan direction at any ms is the swing's
+ * start direction rotated by a table entry: two multiplies and two adds.
+ *
+ * Tables are shared through a cache keyed by width and duration. Only the
+ * widths classes actually use get built, and each is built once.
+ */
+final class SwingArcTable {
+    private static final ConcurrentHashMap<Long, SwingArcTable> CACHE = new ConcurrentHashMap<>();
+
+    private final float[] cos;
+    private final float[] sin;
+
+    private SwingArcTable(double sweepRadians, int durationMs) {
+        cos = new float[durationMs + 1];
+        sin = new float[durationMs + 1];
+        for (int i = 0; i <= durationMs; i++) {
+            double rotation = sweepRadians * i / durationMs;
+            cos[i] = (float) Math.cos(rotation);
+            sin[i] = (float) Math.sin(rotation);
+        }
+    }
+
+    /**
+     * Table for a swing of the given total width and duration
+     *
+     * @param widthDegrees Total swing width (BaseClass.getAttackWidth)
+     * @param durationMs Swing duration in ms
+     */
+    static SwingArcTable get(int widthDegrees, int durationMs) {
+        long key = ((long) widthDegrees << 32) | (durationMs & 0xffffffffL);
+        return CACHE.computeIfAbsent(key, k -> new SwingArcTable(Math.toRadians(widthDegrees), durationMs));
+    }
+
+    /**
+     * Rotate a start direction by the swing's progress after elapsed ms
+     *
+     * @param startX Start direction X (unit)
+     * @param startY Start direction Y (unit)
+     * @param elapsedMs Time since the swing began, clamped to the table
+     * @param out Receives the rotated unit vector (x, y)
+     */
+    void rotate(float startX, float startY, long elapsedMs, float[] out) {
+        int i = (int) Math.max(0, Math.min(cos.length - 1, elapsedMs));
+        out[0] = startX * cos[i] - startY * sin[i];
+        out[1] = startX * sin[i] + startY * cos[i];
+    }
+
+    static int cached_tables() { return CACHE.size(); }
+}
@@ -0,0 +1,81 @@
+package model.gameLogic;
+
+/**
+ * NEW: The rotating fan of a swing at one instant, in a form that can be hit
+ * tested without trigonometry.
+ *
+ * The fan is a unit direction vector plus the cosine of its half width. A
+ * target offset (dx, dy) is inside when it is within range (compared
+ * squared) and the angle to the direction is at most the half width, i.e.
+ * dot(offset, direction) >= |offset| * cos(halfWidth). Both sides are
+ * squared so no square root is needed either.
+ *
+ * A sector is filled in place by its swing's timer thread and read by that
+ * thread's detector only, so it is mutable and unsynchronized.
+ */
+public class SwingSector {
+    private double angle;
+    private float dirX;
+    private float dirY;
+    private double halfWidth;
+    private float cosHalf;
+    private float cosHalfSq;
+    private float range;
+    private final float[] scratch = new float[2];
+
+    /**
+     * NEW: Build a sector from an angle; computes the direction and cosine once
+     *
+     * @param angle Direction of the fan in radians
+     * @param halfWidth Half the fan width in radians
+     * @param range Attack range in tiles
+     * @return New sector
+     */
+    public static SwingSector of(double angle, double halfWidth, float range) {
+        SwingSector sector = new SwingSector();
+        sector.set(angle, (float) Math.cos(angle), (float) Math.sin(angle), halfWidth, (float) Math.cos(halfWidth), range);
+        return sector;
+    }
+
+    /**
+     * NEW: Overwrite this sector with precomputed values
+     */
+    void set(double angle, float dirX, float dirY, double halfWidth, float cosHalf, float range) {
+        this.angle = angle;
+        this.dirX = dirX;
+        this.dirY = dirY;
+        this.halfWidth = halfWidth;
+        this.cosHalf = cosHalf;
+        this.cosHalfSq = cosHalf * cosHalf;
+        this.range = range;
+    }
+
+    /**
+     * NEW: Whether a target offset lies inside the fan
+     *
+     * @param dx Target X minus attacker X (pixels)
+     * @param dy Target Y minus attacker Y (pixels)
+     * @param maxDistanceSq Squared reach in pixels
+     * @return true if the target is within reach and the fan's half width
+     */
+    public boolean contains(float dx, float dy, float maxDistanceSq) {
+        float distSq = dx * dx + dy * dy;
+        if (distSq > maxDistanceSq) return false;
+        float dot = dx * dirX + dy * dirY;
+        if (cosHalf >= 0) {
+            // Narrow fan: must be in front and inside the cone
+            return dot >= 0 && dot * dot >= cosHalfSq * distSq;
+        }
+        // Fan wider than a half circle: anything in front, or not too far behind
+        return dot >= 0 || dot * dot <= cosHalfSq * distSq;
+    }
+
+    float[] scratch() { return scratch; }
+
+    public double get_angle() { return angle; }
+    public float get_dir_x() { return dirX; }
+    public float get_dir_y() { return dirY; }
+    public double get_half_width() { return halfWidth; }
+    public float get_cos_half() { return cosHalf; }
+    public float get_range() { return range; }
+}
@@ -0,0 +1,93 @@
+package model.items;
+
+import java.util.Random;
+
+/**
+ * NEW: Weighted choice among n outcomes in constant time (Vose's alias method).
+ *
+ * Building the table splits the weights into n columns of equal height.
+ * Each column holds at most two outcomes: its own index, kept with
+ * probability prob[i], and one alias that fills the rest. Sampling picks a
+ * column and then one of its two outcomes, so it costs one random int
+ * however many outcomes there are: the high part of (int * n) picks the
+ * column and the low 32 bits are compared against the column's threshold.
+ */
+public final class AliasTable {
+    private static final double SCALE = 4294967296.0; // 2^32
+    private final long[] threshold; // prob[i] scaled to 32 bits
+    private final int[] alias;
+
+    /**
+     * NEW: Constructor for AliasTable
+     *
+     * @param weights Relative weights; each must be finite and non-negative, and at least one positive
+     * @throws IllegalArgumentException if the weights are unusable
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative: " + weight);
+            }
+            total += weight;
+        }
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        double[] prob = new double[n];
+        this.threshold = new long[n];
+        this.alias = new int[n];
+
+        // Scale so the average column is exactly 1, then pair short columns with tall ones
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            prob[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            prob[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            prob[small[--smallCount]] = 1.0;
+        }
+        for (int i = 0; i < n; i++) {
+            threshold[i] = prob[i] >= 1.0 ? (long) SCALE : (long) (prob[i] * SCALE);
+        }
+    }
+
+    /**
+     * NEW: Draw one outcome
+     *
+     * @param random Source of randomness
+     * @return Index of the chosen weight
+     */
+    public int sample(Random random) {
+        long scaled = (random.nextInt() & 0xFFFFFFFFL) * threshold.length;
+        int column = (int) (scaled >>> 32);
+        return (scaled & 0xFFFFFFFFL) < threshold[column] ? column : alias[column];
+    }
+
+    public int size() { return threshold.length; }
+}
@@ -2,6 +2,8 @@ package model.items;
 
 import enums.CharacterClass;
 import model.characters.Character;
+import model.equipment.EquipmentCatalog;
+import utilities.SpriteIndex;
 
 /**
  * Abstract base class for all items in the Mini Rogue Demo.
@@ -12,6 +14,7 @@ public abstract class Item {
     protected String name;
     protected int potency;
     protected CharacterClass classType;
+    private int spriteId = SpriteIndex.UNRESOLVED; // Icon, looked up by name on first draw
 
     /**
      * MANDATORY: Constructor for Item
@@ -61,6 +64,19 @@ public abstract class Item {
     public int get_potency() { return potency; }
     public CharacterClass get_class_type() { return classType; }
 
+    /**
+     * NEW: Sprite id of this item's icon. Names the catalog already resolved
+     * are a map lookup the first time and a field read after that.
+     *
+     * @return Sprite id, or SpriteIndex.NONE if the item has no icon
+     */
+    public int get_sprite_id() {
+        if (spriteId == SpriteIndex.UNRESOLVED) {
+            spriteId = EquipmentCatalog.current().get_sprites().item_sprite(name);
+        }
+        return spriteId;
+    }
+
     @Override
     public String toString() {
         String classInfo = (classType != null) ? " (" + classType.get_class_name() + ")" : "";
@@ -0,0 +1,194 @@
+package model.items;
+
+import enums.CharacterClass;
+import model.characters.Enemy;
+import model.equipment.EquipmentCatalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * NEW: One compiled drop table: guaranteed drops plus a number of weighted
+ * rolls over its entries.
+ *
+ * Entries can be limited to some looter classes, so the table is compiled
+ * once per class into its own alias table; a roll is then a single O(1)
+ * draw whatever the class. An entry can also point at another table, which
+ * is rolled in turn. Tables are built by {@link LootTables} from
+ * loot_tables.json and never change afterwards.
+ */
+public final class LootTable {
+    // One slot per class, plus a last slot with every entry for rolls without a looter
+    private static final int SLOTS = CharacterClass.values().length + 1;
+
+    private final String name;
+    private final int rolls;
+    private final Entry[] guaranteed;
+    private final Entry[][] entries = new Entry[SLOTS][];
+    private final AliasTable[] aliases = new AliasTable[SLOTS];
+
+    /**
+     * What one entry produces when chosen
+     */
+    enum Kind { NOTHING, CONSUMABLE, KEY, EQUIPMENT, TABLE }
+
+    /**
+     * Equipment an entry can hand out
+     */
+    enum EquipmentSource {
+        CLASS_WEAPON, ANY_WEAPON, CLASS_ARMOR, ANY_ARMOR, SOURCE_WEAPON, SOURCE_ARMOR
+    }
+
+    /**
+     * One outcome of a table
+     */
+    static final class Entry {
+        final Kind kind;
+        final double weight;
+        final boolean[] classes; // Indexed by CharacterClass ordinal; null for every class
+        final String itemName;
+        final int potency;
+        final String effect; // Consumable effect or key upgrade type
+        final EquipmentSource equipment;
+        final String tableName;
+        LootTable table; // Resolved from tableName once every table exists
+
+        Entry(Kind kind, double weight, boolean[] classes, String itemName, int potency, String effect,
+              EquipmentSource equipment, String tableName) {
+            this.kind = kind;
+            this.weight = weight;
+            this.classes = classes;
+            this.itemName = itemName;
+            this.potency = potency;
+            this.effect = effect;
+            this.equipment = equipment;
+            this.tableName = tableName;
+        }
+
+        boolean allows(int slot) {
+            return classes == null || slot == SLOTS - 1 || classes[slot];
+        }
+
+        void emit(CharacterClass looter, Enemy source, Random random, List<Item> out) {
+            Item item = null;
+            switch (kind) {
+                case NOTHING:
+                    return;
+                case CONSUMABLE:
+                    item = new Consumable(itemName, potency, effect);
+                    break;
+                case KEY:
+                    item = new KeyItem(itemName, effect);
+                    break;
+                case EQUIPMENT:
+                    item = equipment(looter, source, random);
+                    break;
+                case TABLE:
+                    table.roll_into(looter, source, random, out);
+                    return;
+            }
+            if (item != null) {
+                out.add(item);
+            }
+        }
+
+        private Item equipment(CharacterClass looter, Enemy source, Random random) {
+            EquipmentCatalog catalog = EquipmentCatalog.current();
+            switch (equipment) {
+                case CLASS_WEAPON:
+                    return looter == null ? EquipmentCatalog.copy_of(catalog.random_weapon(random))
+                                          : EquipmentCatalog.copy_of(catalog.random_weapon_for_class(looter, random));
+                case ANY_WEAPON:
+                    return EquipmentCatalog.copy_of(catalog.random_weapon(random));
+                case CLASS_ARMOR:
+                    return looter == null ? EquipmentCatalog.copy_of(catalog.random_armor(random))
+                                          : EquipmentCatalog.copy_of(catalog.random_armor_for_class(looter, random));
+                case ANY_ARMOR:
+                    return EquipmentCatalog.copy_of(catalog.random_armor(random));
+                case SOURCE_WEAPON:
+                    return source == null ? null : EquipmentCatalog.copy_of_item(source.get_equipped_weapon());
+                case SOURCE_ARMOR:
+                    return source == null ? null : EquipmentCatalog.copy_of_item(source.get_equipped_armor());
+                default:
+                    return null;
+            }
+        }
+    }
+
+    LootTable(String name, int rolls, Entry[] guaranteed, Entry[] all) {
+        this.name = name;
+        this.rolls = rolls;
+        this.guaranteed = guaranteed;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            List<Entry> allowed = new ArrayList<>();
+            for (Entry entry : all) {
+                if (entry.allows(slot)) allowed.add(entry);
+            }
+            entries[slot] = allowed.toArray(new Entry[0]);
+            double[] weights = new double[allowed.size()];
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = allowed.get(i).weight;
+                total += weights[i];
+            }
+            // A class with no allowed entries only gets the guaranteed drops
+            aliases[slot] = total > 0 ? new AliasTable(weights) : null;
+        }
+    }
+
+    /**
+     * NEW: Roll this table
+     *
+     * @param looter Class of the player receiving the loot; null ignores class limits
+     * @param source Enemy the loot comes from, or null for floor loot
+     * @param random Stream to draw from
+     * @return New items, possibly none
+     */
+    public List<Item> roll(CharacterClass looter, Enemy source, Random random) {
+        List<Item> out = new ArrayList<>(guaranteed.length + rolls);
+        roll_into(looter, source, random, out);
+        return out;
+    }
+
+    /**
+     * NEW: Roll this table and append the items to a list
+     */
+    public void roll_into(CharacterClass looter, Enemy source, Random random, List<Item> out) {
+        for (Entry entry : guaranteed) {
+            entry.emit(looter, source, random, out);
+        }
+        int slot = looter == null ? SLOTS - 1 : looter.ordinal();
+        AliasTable alias = aliases[slot];
+        if (alias == null) return;
+        Entry[] choices = entries[slot];
+        for (int r = 0; r < rolls; r++) {
+            choices[alias.sample(random)].emit(looter, source, random, out);
+        }
+    }
+
+    /**
+     * NEW: Chance that a single roll picks the named item (or table) for a class
+     *
+     * @return Probability in [0, 1]; nested tables are not expanded
+     */
+    public double chance_of(String itemOrTable, CharacterClass looter) {
+        int slot = looter == null ? SLOTS - 1 : looter.ordinal();
+        double total = 0;
+        double match = 0;
+        for (Entry entry : entries[slot]) {
+            total += entry.weight;
+            if (itemOrTable.equals(entry.itemName) || itemOrTable.equals(entry.tableName)) {
+                match += entry.weight;
+            }
+        }
+        return total > 0 ? match / total : 0;
+    }
+
+    Entry[] entries() { return entries[SLOTS - 1]; }
+    Entry[] guaranteed() { return guaranteed; }
+
+    public String get_name() { return name; }
+    public int get_rolls() { return rolls; }
+    public int get_guaranteed_count() { return guaranteed.length; }
+}
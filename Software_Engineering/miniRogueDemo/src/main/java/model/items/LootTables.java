@@ -0,0 +1,351 @@
+package model.items;
+
+import enums.CharacterClass;
+import model.characters.Enemy;
+import model.map.Map.FloorType;
+import utilities.ConfigTable;
+import utilities.ConfigurationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * NEW: Every drop table from loot_tables.json, compiled, plus which table
+ * each floor type and enemy class rolls.
+ *
+ * The tables are compiled while the configuration snapshot is built, so a
+ * broken edit is rejected with the rest of the configuration and the game
+ * keeps rolling the last good tables. Designers tune drop rates by editing
+ * the file; with a watched config directory the change applies on the next
+ * roll.
+ *
+ * File layout:
+ * <pre>
+ * "tables":  { name: { "rolls": n, "guaranteed": [entry...], "entries": [entry...] } }
+ * "floors":  { REGULAR|BOSS|BONUS: table }
+ * "enemies": { "default": table, CLASS: table }
+ * "bosses":  { "default": table, CLASS: table }
+ * entry:     { "weight": w, "classes": [CLASS...], and one of
+ *              "consumable": {"name", "potency", "effect"}, "key": {"name", "upgrade"},
+ *              "equipment": class_weapon|any_weapon|class_armor|any_armor|source_weapon|source_armor,
+ *              "table": name, "nothing": true }
+ * </pre>
+ */
+public final class LootTables {
+    public static final String DEFAULT_KEY = "default";
+    private static final LootTable EMPTY = new LootTable("empty", 0, new LootTable.Entry[0], new LootTable.Entry[0]);
+    private static final LootTables NONE = new LootTables();
+
+    // Stream ids for seeded loot, so each kind of roll has its own sequence
+    public static final int FLOOR_STREAM = 1;
+    public static final int DROP_STREAM = 2;
+
+    private final Map<String, LootTable> tables = new HashMap<>();
+    private final Map<FloorType, LootTable> floors = new EnumMap<>(FloorType.class);
+    private final Map<CharacterClass, LootTable> enemies = new EnumMap<>(CharacterClass.class);
+    private final Map<CharacterClass, LootTable> bosses = new EnumMap<>(CharacterClass.class);
+
+    private LootTables() {
+    }
+
+    /**
+     * NEW: Compile the tables in a parsed loot_tables.json
+     *
+     * @param config File contents (empty for no loot at all)
+     * @param file File name for error messages
+     * @param errors Receives every problem found
+     * @return Compiled tables; only meaningful if no errors were added
+     */
+    public static LootTables compile(ConfigTable config, String file, List<String> errors) {
+        if (config.as_map().isEmpty()) {
+            return NONE;
+        }
+        LootTables compiled = new LootTables();
+        Map<String, LootTable.Entry[]> pending = new HashMap<>();
+        Map<String, Object> tableSpecs = section(config.get("tables"));
+        for (Map.Entry<String, Object> spec : tableSpecs.entrySet()) {
+            String where = file + ": tables." + spec.getKey();
+            if (!(spec.getValue() instanceof Map)) {
+                errors.add(where + " must be an object");
+                continue;
+            }
+            Map<String, Object> table = section(spec.getValue());
+            int rolls = 1;
+            Object rollsValue = table.get("rolls");
+            if (rollsValue != null) {
+                if (!(rollsValue instanceof Number) || ((Number) rollsValue).intValue() < 0
+                    || ((Number) rollsValue).doubleValue() != ((Number) rollsValue).intValue()) {
+                    errors.add(where + ".rolls must be a whole number of at least 0, got " + rollsValue);
+                } else {
+                    rolls = ((Number) rollsValue).intValue();
+                }
+            }
+            LootTable.Entry[] guaranteed = entries(table.get("guaranteed"), where + ".guaranteed", false, errors);
+            LootTable.Entry[] weighted = entries(table.get("entries"), where + ".entries", true, errors);
+            if (weighted.length == 0 && guaranteed.length == 0) {
+                errors.add(where + " has no entries");
+            }
+            if (weighted.length > 0 && !has_weight(weighted)) {
+                errors.add(where + " needs at least one entry with a positive weight");
+                continue;
+            }
+            pending.put(spec.getKey(), concat(guaranteed, weighted));
+            compiled.tables.put(spec.getKey(), new LootTable(spec.getKey(), rolls, guaranteed, weighted));
+        }
+
+        // Link nested tables now that they all exist, then make sure none contains itself
+        for (Map.Entry<String, LootTable.Entry[]> table : pending.entrySet()) {
+            for (LootTable.Entry entry : table.getValue()) {
+                if (entry.kind != LootTable.Kind.TABLE) continue;
+                entry.table = compiled.tables.get(entry.tableName);
+                if (entry.table == null) {
+                    errors.add(file + ": tables." + table.getKey() + " refers to unknown table " + entry.tableName);
+                }
+            }
+        }
+        Set<String> done = new HashSet<>();
+        for (String name : pending.keySet()) {
+            find_cycle(name, pending, new ArrayList<>(), done, file, errors);
+        }
+
+        for (Map.Entry<String, Object> floor : section(config.get("floors")).entrySet()) {
+            FloorType type = enum_value(FloorType.class, floor.getKey());
+            if (type == null) {
+                errors.add(file + ": floors." + floor.getKey() + " is not a floor type");
+            } else {
+                compiled.floors.put(type, table_ref(compiled, floor.getValue(), file + ": floors." + floor.getKey(), errors));
+            }
+        }
+        by_class(compiled, config.get("enemies"), compiled.enemies, file + ": enemies", errors);
+        by_class(compiled, config.get("bosses"), compiled.bosses, file + ": bosses", errors);
+        return compiled;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : new HashMap<>();
+    }
+
+    private static <E extends Enum<E>> E enum_value(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean has_weight(LootTable.Entry[] entries) {
+        for (LootTable.Entry entry : entries) {
+            if (entry.weight > 0) return true;
+        }
+        return false;
+    }
+
+    private static LootTable.Entry[] concat(LootTable.Entry[] a, LootTable.Entry[] b) {
+        LootTable.Entry[] all = new LootTable.Entry[a.length + b.length];
+        System.arraycopy(a, 0, all, 0, a.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return all;
+    }
+
+    private static LootTable table_ref(LootTables compiled, Object name, String where, List<String> errors) {
+        LootTable table = name instanceof String ? compiled.tables.get(name) : null;
+        if (table == null) {
+            errors.add(where + " refers to unknown table " + name);
+            return EMPTY;
+        }
+        return table;
+    }
+
+    private static void by_class(LootTables compiled, Object spec, Map<CharacterClass, LootTable> out,
+                                 String where, List<String> errors) {
+        Map<String, Object> byClass = section(spec);
+        LootTable fallback = byClass.containsKey(DEFAULT_KEY)
+            ? table_ref(compiled, byClass.get(DEFAULT_KEY), where + "." + DEFAULT_KEY, errors) : EMPTY;
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            out.put(characterClass, fallback);
+        }
+        for (Map.Entry<String, Object> entry : byClass.entrySet()) {
+            if (entry.getKey().equals(DEFAULT_KEY)) continue;
+            CharacterClass characterClass = enum_value(CharacterClass.class, entry.getKey());
+            if (characterClass == null) {
+                errors.add(where + "." + entry.getKey() + " is not a CharacterClass");
+            } else {
+                out.put(characterClass, table_ref(compiled, entry.getValue(), where + "." + entry.getKey(), errors));
+            }
+        }
+    }
+
+    private static void find_cycle(String name, Map<String, LootTable.Entry[]> tables, List<String> path,
+                                   Set<String> done, String file, List<String> errors) {
+        if (done.contains(name)) return;
+        if (path.contains(name)) {
+            errors.add(file + ": tables form a cycle: " + String.join(" -> ", path) + " -> " + name);
+            return;
+        }
+        path.add(name);
+        for (LootTable.Entry entry : tables.getOrDefault(name, new LootTable.Entry[0])) {
+            if (entry.kind == LootTable.Kind.TABLE && tables.containsKey(entry.tableName)) {
+                find_cycle(entry.tableName, tables, path, done, file, errors);
+            }
+        }
+        path.remove(path.size() - 1);
+        done.add(name);
+    }
+
+    private static LootTable.Entry[] entries(Object spec, String where, boolean weighted, List<String> errors) {
+        if (spec == null) return new LootTable.Entry[0];
+        if (!(spec instanceof Object[])) {
+            errors.add(where + " must be a list");
+            return new LootTable.Entry[0];
+        }
+        List<LootTable.Entry> entries = new ArrayList<>();
+        Object[] items = (Object[]) spec;
+        for (int i = 0; i < items.length; i++) {
+            LootTable.Entry entry = entry(items[i], where + "[" + i + "]", weighted, errors);
+            if (entry != null) entries.add(entry);
+        }
+        return entries.toArray(new LootTable.Entry[0]);
+    }
+
+    private static LootTable.Entry entry(Object spec, String where, boolean weighted, List<String> errors) {
+        if (!(spec instanceof Map)) {
+            errors.add(where + " must be an object");
+            return null;
+        }
+        Map<String, Object> entry = section(spec);
+        double weight = 1;
+        if (weighted) {
+            Object value = entry.get("weight");
+            if (!(value instanceof Number) || !(((Number) value).doubleValue() >= 0)
+                || Double.isInfinite(((Number) value).doubleValue())) {
+                errors.add(where + ".weight must be a number of at least 0, got " + value);
+                return null;
+            }
+            weight = ((Number) value).doubleValue();
+        }
+
+        boolean[] classes = null;
+        if (entry.containsKey("classes")) {
+            Object value = entry.get("classes");
+            if (!(value instanceof Object[])) {
+                errors.add(where + ".classes must be a list of classes");
+                return null;
+            }
+            classes = new boolean[CharacterClass.values().length];
+            for (Object name : (Object[]) value) {
+                CharacterClass characterClass = name instanceof String ? enum_value(CharacterClass.class, (String) name) : null;
+                if (characterClass == null) {
+                    errors.add(where + ".classes has unknown class " + name);
+                    return null;
+                }
+                classes[characterClass.ordinal()] = true;
+            }
+        }
+
+        int kinds = 0;
+        for (String key : new String[] {"consumable", "key", "equipment", "table", "nothing"}) {
+            if (entry.containsKey(key)) kinds++;
+        }
+        if (kinds != 1) {
+            errors.add(where + " needs exactly one of consumable, key, equipment, table or nothing");
+            return null;
+        }
+
+        if (entry.containsKey("nothing")) {
+            return new LootTable.Entry(LootTable.Kind.NOTHING, weight, classes, null, 0, null, null, null);
+        }
+        if (entry.containsKey("table")) {
+            Object name = entry.get("table");
+            if (!(name instanceof String)) {
+                errors.add(where + ".table must be a table name");
+                return null;
+            }
+            return new LootTable.Entry(LootTable.Kind.TABLE, weight, classes, null, 0, null, null, (String) name);
+        }
+        if (entry.containsKey("equipment")) {
+            Object name = entry.get("equipment");
+            LootTable.EquipmentSource source = name instanceof String
+                ? enum_value(LootTable.EquipmentSource.class, ((String) name).toUpperCase(Locale.ROOT)) : null;
+            if (source == null) {
+                errors.add(where + ".equipment is not a known equipment source: " + name);
+                return null;
+            }
+            return new LootTable.Entry(LootTable.Kind.EQUIPMENT, weight, classes, null, 0, null, source, null);
+        }
+        boolean consumable = entry.containsKey("consumable");
+        Map<String, Object> item = section(entry.get(consumable ? "consumable" : "key"));
+        Object name = item.get("name");
+        Object effect = item.get(consumable ? "effect" : "upgrade");
+        Object potency = item.get("potency");
+        if (!(name instanceof String) || !(effect instanceof String)
+            || (consumable && !(potency instanceof Number))) {
+            errors.add(where + (consumable ? ".consumable needs name, potency and effect"
+                                           : ".key needs name and upgrade"));
+            return null;
+        }
+        return new LootTable.Entry(consumable ? LootTable.Kind.CONSUMABLE : LootTable.Kind.KEY, weight, classes,
+                                   (String) name, consumable ? ((Number) potency).intValue() : 0,
+                                   (String) effect, null, null);
+    }
+
+    /**
+     * NEW: Tables for the current configuration
+     */
+    public static LootTables current() {
+        return ConfigurationManager.getInstance().get_snapshot().get_loot_tables();
+    }
+
+    /**
+     * NEW: Seeded stream for one kind of loot on one floor. The same seed,
+     * floor and stream always give the same rolls, whatever else the game
+     * has drawn from its own Random in between.
+     */
+    public static Random stream(long seed, int floor, int stream) {
+        return new Random(seed ^ (floor * 0x9E3779B97F4A7C15L) ^ (stream * 0xC2B2AE3D27D4EB4FL));
+    }
+
+    public LootTable get(String name) { return tables.get(name); }
+
+    /**
+     * NEW: Names of every consumable and key item any table can drop
+     */
+    public Set<String> get_item_names() {
+        Set<String> names = new HashSet<>();
+        for (LootTable table : tables.values()) {
+            for (LootTable.Entry entry : table.entries()) {
+                if (entry.itemName != null) names.add(entry.itemName);
+            }
+            for (LootTable.Entry entry : table.guaranteed()) {
+                if (entry.itemName != null) names.add(entry.itemName);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * NEW: Table rolled for each item spot on a floor
+     *
+     * @return The table, or an empty one if the floor type has none
+     */
+    public LootTable for_floor(FloorType floorType) {
+        return floors.getOrDefault(floorType, EMPTY);
+    }
+
+    /**
+     * NEW: Table rolled when an enemy dies, by boss-ness and class
+     *
+     * @return The table, or an empty one if none is configured
+     */
+    public LootTable for_enemy(Enemy enemy) {
+        Map<CharacterClass, LootTable> byClass = enemy.isBoss() ? bosses : enemies;
+        return byClass.getOrDefault(enemy.get_character_class(), EMPTY);
+    }
+}
@@ -0,0 +1,222 @@
+package model.map;
+
+import enums.GameConstants;
+import utilities.Tile;
+
+/**
+ * NEW: Symmetric shadowcasting field of view over a map's walkability grid.
+ * Walls block sight and are themselves visible; the reveal shape is limited to
+ * the same Manhattan radius the fog of war has always used.
+ *
+ * Results are written as row words aligned with FogOfWar, covering rows
+ * originY - radius .. originY + radius. Results for the player's common radii
+ * are memoised per origin tile for the lifetime of the floor, so walking back
+ * over explored ground costs a single word-level OR per row.
+ */
+public class FieldOfView {
+    private static final int[] MEMO_RADII = { GameConstants.FOV_RANGE_DEFAULT, GameConstants.FOV_RANGE_CLARITY };
+
+    private final Map map;
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private boolean[] blocked;
+    private final long[][][] memo;
+
+    // Reusable scan state for the current computation
+    private long[] scratch;
+    private long[] target;
+    private int originX;
+    private int originY;
+    private int radius;
+    private int quadrant;
+
+    private long computeCount;
+    private long memoHits;
+
+    /**
+     * NEW: Constructor for FieldOfView
+     *
+     * @param map Map whose walkability drives line of sight
+     */
+    public FieldOfView(Map map) {
+        this.map = map;
+        this.width = map.get_width();
+        this.height = map.get_height();
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.memo = new long[MEMO_RADII.length][][];
+        this.scratch = new long[0];
+        rebuild_grid();
+    }
+
+    /**
+     * Snapshot walkability into a flat array indexed by y * width + x
+     */
+    private void rebuild_grid() {
+        blocked = new boolean[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Tile tile = map.get_tile(x, y);
+                blocked[y * width + x] = tile == null || !tile.is_walkable();
+            }
+        }
+        for (int i = 0; i < memo.length; i++) {
+            memo[i] = new long[width * height][];
+        }
+    }
+
+    /**
+     * NEW: Drop memoised results after the map's walkability changed
+     */
+    public synchronized void invalidate() {
+        rebuild_grid();
+    }
+
+    /**
+     * NEW: Reveal every tile visible from an origin into the fog of war
+     *
+     * @param fog Fog to update
+     * @param x Origin X
+     * @param y Origin Y
+     * @param fovRadius Manhattan radius
+     * @return Number of tiles newly revealed
+     */
+    public synchronized int reveal(FogOfWar fog, int x, int y, int fovRadius) {
+        long[] rows = compute(x, y, fovRadius);
+        return fog.reveal_rows(y - fovRadius, rows, 2 * fovRadius + 1);
+    }
+
+    /**
+     * NEW: Compute visible tiles. The returned buffer holds (2r+1) rows of
+     * wordsPerRow words starting at row y - r; it may be memoised or reused, so
+     * callers must not modify or keep it.
+     *
+     * @param x Origin X
+     * @param y Origin Y
+     * @param fovRadius Manhattan radius
+     * @return Visibility row words
+     */
+    public synchronized long[] compute(int x, int y, int fovRadius) {
+        int slot = memo_slot(fovRadius);
+        int key = y * width + x;
+        boolean inBounds = x >= 0 && x < width && y >= 0 && y < height;
+        if (slot >= 0 && inBounds && memo[slot][key] != null) {
+            memoHits++;
+            return memo[slot][key];
+        }
+        int length = (2 * fovRadius + 1) * wordsPerRow;
+        long[] out;
+        if (slot >= 0 && inBounds) {
+            out = new long[length];
+        } else {
+            if (scratch.length < length) {
+                scratch = new long[length];
+            }
+            out = scratch;
+            java.util.Arrays.fill(out, 0, length, 0L);
+        }
+        compute_into(out, x, y, fovRadius);
+        if (slot >= 0 && inBounds) {
+            memo[slot][key] = out;
+        }
+        return out;
+    }
+
+    private static int memo_slot(int fovRadius) {
+        for (int i = 0; i < MEMO_RADII.length; i++) {
+            if (MEMO_RADII[i] == fovRadius) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void compute_into(long[] out, int x, int y, int fovRadius) {
+        computeCount++;
+        target = out;
+        originX = x;
+        originY = y;
+        radius = fovRadius;
+        mark(x, y);
+        if (fovRadius <= 0) {
+            return;
+        }
+        for (quadrant = 0; quadrant < 4; quadrant++) {
+            scan(1, -1, 1, 1, 1);
+        }
+    }
+
+    /**
+     * Scan one row of the current quadrant. Slopes are fractions
+     * startNum/startDen and endNum/endDen with positive denominators.
+     */
+    private void scan(int depth, int startNum, int startDen, int endNum, int endDen) {
+        if (depth > radius) {
+            return;
+        }
+        int minCol = Math.floorDiv(2 * depth * startNum + startDen, 2 * startDen);
+        int maxCol = -Math.floorDiv(-(2 * depth * endNum - endDen), 2 * endDen);
+        int prev = 0; // 0 none, 1 wall, 2 floor
+        for (int col = minCol; col <= maxCol; col++) {
+            boolean wall = is_wall(depth, col);
+            if (wall || (col * startDen >= depth * startNum && col * endDen <= depth * endNum)) {
+                reveal(depth, col);
+            }
+            if (prev == 1 && !wall) {
+                startNum = 2 * col - 1;
+                startDen = 2 * depth;
+            }
+            if (prev == 2 && wall) {
+                scan(depth + 1, startNum, startDen, 2 * col - 1, 2 * depth);
+            }
+            prev = wall ? 1 : 2;
+        }
+        if (prev == 2) {
+            scan(depth + 1, startNum, startDen, endNum, endDen);
+        }
+    }
+
+    private int tx(int depth, int col) {
+        switch (quadrant) {
+            case 0: return originX + col;   // north
+            case 1: return originX + col;   // south
+            case 2: return originX + depth; // east
+            default: return originX - depth; // west
+        }
+    }
+
+    private int ty(int depth, int col) {
+        switch (quadrant) {
+            case 0: return originY - depth;
+            case 1: return originY + depth;
+            default: return originY + col;
+        }
+    }
+
+    private boolean is_wall(int depth, int col) {
+        int x = tx(depth, col);
+        int y = ty(depth, col);
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return true;
+        }
+        return blocked[y * width + x];
+    }
+
+    private void reveal(int depth, int col) {
+        mark(tx(depth, col), ty(depth, col));
+    }
+
+    private void mark(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return;
+        }
+        if (Math.abs(x - originX) + Math.abs(y - originY) > radius) {
+            return;
+        }
+        int row = y - originY + radius;
+        target[row * wordsPerRow + (x >>> 6)] |= 1L << x;
+    }
+
+    public synchronized long get_compute_count() { return computeCount; }
+    public synchronized long get_memo_hits() { return memoHits; }
+}
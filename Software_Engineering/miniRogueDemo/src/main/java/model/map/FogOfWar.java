@@ -0,0 +1,299 @@
+package model.map;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * NEW: Explored-tile state for a map held as a row-major bitset.
+ * Each map row occupies wordsPerRow longs, so revealing a horizontal span is a
+ * shifted mask OR'd into one or two words. Reveal shapes are precomputed per
+ * radius as half-widths of the Manhattan diamond for each row offset.
+ * Newly revealed bits are pushed to registered listeners as whole words.
+ */
+public class FogOfWar {
+
+    /**
+     * Receives newly revealed tiles. Bit b of newBits is tile
+     * (wordIndex * 64 + b, y). Called on the thread that performed the reveal.
+     */
+    public interface RevealListener {
+        void tiles_revealed(int y, int wordIndex, long newBits);
+    }
+
+    /**
+     * NEW: Collects revealed words from any thread so a consumer can apply them
+     * later on its own thread (e.g. the Swing thread) in one pass.
+     */
+    public static class RevealAccumulator implements RevealListener {
+        private final int wordsPerRow;
+        private final long[] pending;
+        private boolean dirty;
+
+        public RevealAccumulator(FogOfWar fog) {
+            this.wordsPerRow = fog.wordsPerRow;
+            this.pending = new long[fog.bits.length];
+        }
+
+        @Override
+        public synchronized void tiles_revealed(int y, int wordIndex, long newBits) {
+            pending[y * wordsPerRow + wordIndex] |= newBits;
+            dirty = true;
+        }
+
+        /**
+         * Hand every pending word to the target and clear the backlog
+         *
+         * @param target Consumer of the pending words
+         * @return true if anything was drained
+         */
+        public synchronized boolean drain(RevealListener target) {
+            if (!dirty) {
+                return false;
+            }
+            for (int i = 0; i < pending.length; i++) {
+                long word = pending[i];
+                if (word != 0) {
+                    pending[i] = 0;
+                    target.tiles_revealed(i / wordsPerRow, i % wordsPerRow, word);
+                }
+            }
+            dirty = false;
+            return true;
+        }
+    }
+
+    // Radii used by the player: 2 normally, 4 with clarity
+    private static final int MAX_CACHED_RADIUS = 16;
+    private static final int[][] DIAMOND_SPANS = new int[MAX_CACHED_RADIUS + 1][];
+    static {
+        DIAMOND_SPANS[2] = build_diamond_spans(2);
+        DIAMOND_SPANS[4] = build_diamond_spans(4);
+    }
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+    private final List<RevealListener> listeners = new CopyOnWriteArrayList<>();
+    private int exploredCount;
+
+    /**
+     * NEW: Constructor for FogOfWar
+     *
+     * @param width Map width in tiles
+     * @param height Map height in tiles
+     */
+    public FogOfWar(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Half-width of the diamond for each row offset dy in [-radius, radius]
+     */
+    private static int[] build_diamond_spans(int radius) {
+        int[] spans = new int[2 * radius + 1];
+        for (int dy = -radius; dy <= radius; dy++) {
+            spans[dy + radius] = radius - Math.abs(dy);
+        }
+        return spans;
+    }
+
+    /**
+     * NEW: Get the precomputed reveal shape for a radius
+     *
+     * @param radius Reveal radius in tiles
+     * @return Half-width per row offset, indexed by dy + radius
+     */
+    static int[] get_diamond_spans(int radius) {
+        if (radius > MAX_CACHED_RADIUS) {
+            return build_diamond_spans(radius);
+        }
+        int[] spans = DIAMOND_SPANS[radius];
+        if (spans == null) {
+            spans = build_diamond_spans(radius);
+            DIAMOND_SPANS[radius] = spans;
+        }
+        return spans;
+    }
+
+    /**
+     * NEW: Reveal a Manhattan diamond around a tile
+     *
+     * @param cx Center X coordinate
+     * @param cy Center Y coordinate
+     * @param radius Reveal radius in tiles
+     * @return Number of tiles newly revealed
+     */
+    public synchronized int reveal_diamond(int cx, int cy, int radius) {
+        if (radius < 0) {
+            return 0;
+        }
+        int[] spans = get_diamond_spans(radius);
+        int revealed = 0;
+        for (int dy = -radius; dy <= radius; dy++) {
+            int y = cy + dy;
+            if (y < 0 || y >= height) {
+                continue;
+            }
+            int half = spans[dy + radius];
+            revealed += reveal_span(y, cx - half, cx + half);
+        }
+        return revealed;
+    }
+
+    /**
+     * NEW: Reveal an axis-aligned rectangle of tiles (inclusive bounds)
+     *
+     * @return Number of tiles newly revealed
+     */
+    public synchronized int reveal_rect(int x0, int y0, int x1, int y1) {
+        int revealed = 0;
+        for (int y = Math.max(0, y0); y <= Math.min(height - 1, y1); y++) {
+            revealed += reveal_span(y, x0, x1);
+        }
+        return revealed;
+    }
+
+    /**
+     * NEW: OR precomputed row words into the bitset, e.g. a field-of-view result
+     *
+     * @param firstY Map row of rows[0 .. wordsPerRow-1]
+     * @param rows Row words, wordsPerRow per row
+     * @param rowCount Number of rows in the buffer
+     * @return Number of tiles newly revealed
+     */
+    public synchronized int reveal_rows(int firstY, long[] rows, int rowCount) {
+        int revealed = 0;
+        for (int i = 0; i < rowCount; i++) {
+            int y = firstY + i;
+            if (y < 0 || y >= height) {
+                continue;
+            }
+            int rowBase = y * wordsPerRow;
+            for (int w = 0; w < wordsPerRow; w++) {
+                long fresh = rows[i * wordsPerRow + w] & ~bits[rowBase + w];
+                if (fresh != 0) {
+                    bits[rowBase + w] |= fresh;
+                    revealed += Long.bitCount(fresh);
+                    for (RevealListener listener : listeners) {
+                        listener.tiles_revealed(y, w, fresh);
+                    }
+                }
+            }
+        }
+        exploredCount += revealed;
+        return revealed;
+    }
+
+    /**
+     * NEW: Reveal a single tile
+     *
+     * @return true if the tile was newly revealed
+     */
+    public synchronized boolean reveal(int x, int y) {
+        if (y < 0 || y >= height) {
+            return false;
+        }
+        return reveal_span(y, x, x) > 0;
+    }
+
+    /**
+     * OR a clipped horizontal span [lo, hi] of row y into the bitset
+     */
+    private int reveal_span(int y, int lo, int hi) {
+        if (lo < 0) lo = 0;
+        if (hi >= width) hi = width - 1;
+        if (lo > hi) {
+            return 0;
+        }
+        int revealed = 0;
+        int rowBase = y * wordsPerRow;
+        for (int w = lo >>> 6; w <= hi >>> 6; w++) {
+            int from = Math.max(lo, w << 6) & 63;
+            int to = Math.min(hi, (w << 6) + 63) & 63;
+            long mask = (-1L >>> (63 - (to - from))) << from;
+            long old = bits[rowBase + w];
+            long fresh = mask & ~old;
+            if (fresh != 0) {
+                bits[rowBase + w] = old | fresh;
+                revealed += Long.bitCount(fresh);
+                for (RevealListener listener : listeners) {
+                    listener.tiles_revealed(y, w, fresh);
+                }
+            }
+        }
+        exploredCount += revealed;
+        return revealed;
+    }
+
+    /**
+     * NEW: Check whether a tile has been explored
+     *
+     * @return true if explored, false if explored is unset or out of bounds
+     */
+    public boolean is_explored(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * NEW: Get one word of explored bits for a row
+     *
+     * @param y Row
+     * @param wordIndex Word within the row
+     * @return Explored bits for tiles wordIndex*64 .. wordIndex*64+63
+     */
+    public long get_row_word(int y, int wordIndex) {
+        return bits[y * wordsPerRow + wordIndex];
+    }
+
+    /**
+     * NEW: Replay an already explored tile to listeners, e.g. after the tile was replaced
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     */
+    public synchronized void refresh(int x, int y) {
+        if (is_explored(x, y)) {
+            for (RevealListener listener : listeners) {
+                listener.tiles_revealed(y, x >>> 6, 1L << x);
+            }
+        }
+    }
+
+    /**
+     * NEW: Replay every explored word to a listener so it can catch up
+     *
+     * @param listener Listener to bring up to date
+     */
+    public synchronized void replay(RevealListener listener) {
+        for (int y = 0; y < height; y++) {
+            for (int w = 0; w < wordsPerRow; w++) {
+                long word = bits[y * wordsPerRow + w];
+                if (word != 0) {
+                    listener.tiles_revealed(y, w, word);
+                }
+            }
+        }
+    }
+
+    public void add_listener(RevealListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public void remove_listener(RevealListener listener) {
+        listeners.remove(listener);
+    }
+
+    public int get_words_per_row() { return wordsPerRow; }
+    public int get_width() { return width; }
+    public int get_height() { return height; }
+    public synchronized int get_explored_count() { return exploredCount; }
+}
@@ -0,0 +1,183 @@
+package model.map;
+
+import utilities.Tile;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NEW: Breadth-first tile search with 4-directional moves, the search enemies
+ * have always used for chasing. Buffers are allocated once per floor and
+ * reused through a visit stamp, and a search can be limited to one region of
+ * a region labelling so hierarchical planning can refine locally.
+ */
+public class GridBfsPathFinder implements PathFinder {
+    private static final int[] DX = {1, -1, 0, 0};
+    private static final int[] DY = {0, 0, 1, -1};
+
+    private final int width;
+    private final int height;
+    private final boolean[] walkable;
+    private final int[] queue;
+    private final int[] prev;
+    private final int[] dist;
+    private final int[] visitStamp;
+    private int stamp;
+    private long expandedNodes;
+    private long searchCount;
+
+    /**
+     * NEW: Constructor for GridBfsPathFinder
+     *
+     * @param map Map to snapshot walkability from
+     */
+    public GridBfsPathFinder(Map map) {
+        this(map.get_width(), map.get_height(), snapshot_walkable(map));
+    }
+
+    GridBfsPathFinder(int width, int height, boolean[] walkable) {
+        this.width = width;
+        this.height = height;
+        this.walkable = walkable;
+        this.queue = new int[width * height];
+        this.prev = new int[width * height];
+        this.dist = new int[width * height];
+        this.visitStamp = new int[width * height];
+    }
+
+    /**
+     * Walkability indexed by y * width + x
+     */
+    static boolean[] snapshot_walkable(Map map) {
+        int width = map.get_width();
+        int height = map.get_height();
+        boolean[] walkable = new boolean[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Tile tile = map.get_tile(x, y);
+                walkable[y * width + x] = tile != null && tile.is_walkable();
+            }
+        }
+        return walkable;
+    }
+
+    @Override
+    public synchronized List<int[]> find_path(int startX, int startY, int goalX, int goalY) {
+        if (!in_bounds(startX, startY) || !in_bounds(goalX, goalY)) {
+            return null;
+        }
+        searchCount++;
+        return to_steps(search(startY * width + startX, goalY * width + goalX, null, -1));
+    }
+
+    /**
+     * Search from start to goal, optionally staying inside one region
+     *
+     * @param start Packed start tile
+     * @param goal Packed goal tile
+     * @param regionOf Region label per tile, or null for the whole grid
+     * @param region Region to stay inside when regionOf is given
+     * @return Packed tiles from the first step to the goal, or null if unreachable
+     */
+    synchronized int[] search(int start, int goal, int[] regionOf, int region) {
+        flood(start, goal, regionOf, region);
+        if (visitStamp[goal] != stamp) {
+            return null;
+        }
+        int length = dist[goal];
+        int[] path = new int[length];
+        int current = goal;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = current;
+            current = prev[current];
+        }
+        return path;
+    }
+
+    /**
+     * Breadth-first flood from start, stopping early once stopAt is reached
+     * (pass -1 to flood the whole reachable area). Results stay readable via
+     * distance_to until the next flood.
+     */
+    synchronized void flood(int start, int stopAt, int[] regionOf, int region) {
+        if (++stamp == 0) {
+            java.util.Arrays.fill(visitStamp, 0);
+            stamp = 1;
+        }
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visitStamp[start] = stamp;
+        dist[start] = 0;
+        prev[start] = -1;
+        while (head < tail) {
+            int current = queue[head++];
+            expandedNodes++;
+            if (current == stopAt) {
+                return;
+            }
+            int cx = current % width;
+            int cy = current / width;
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+                    continue;
+                }
+                int next = ny * width + nx;
+                if (visitStamp[next] == stamp || !walkable[next]) {
+                    continue;
+                }
+                if (regionOf != null && regionOf[next] != region) {
+                    continue;
+                }
+                visitStamp[next] = stamp;
+                dist[next] = dist[current] + 1;
+                prev[next] = current;
+                queue[tail++] = next;
+            }
+        }
+    }
+
+    /**
+     * Distance to a tile from the last flood
+     *
+     * @return Step count, or -1 if the tile was not reached
+     */
+    synchronized int distance_to(int key) {
+        return visitStamp[key] == stamp ? dist[key] : -1;
+    }
+
+    boolean in_bounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    List<int[]> to_steps(int[] packed) {
+        if (packed == null) {
+            return null;
+        }
+        List<int[]> steps = new ArrayList<>(packed.length);
+        for (int key : packed) {
+            steps.add(new int[]{key % width, key / width});
+        }
+        return steps;
+    }
+
+    boolean is_walkable(int key) {
+        return walkable[key];
+    }
+
+    @Override
+    public synchronized long get_expanded_nodes() { return expandedNodes; }
+
+    @Override
+    public synchronized long get_search_count() { return searchCount; }
+
+    @Override
+    public synchronized void reset_counters() {
+        expandedNodes = 0;
+        searchCount = 0;
+    }
+
+    int get_width() { return width; }
+    int get_height() { return height; }
+}
@@ -0,0 +1,400 @@
+package model.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * NEW: Hierarchical path planning over rooms and corridor regions.
+ *
+ * When a floor is generated every walkable tile is labelled with a region:
+ * one per room, plus one per connected run of corridor tiles outside rooms.
+ * Where two regions touch, each contiguous stretch of boundary becomes a
+ * portal, a pair of nodes one tile apart. Portal-to-portal distances inside
+ * each region are measured once, so long chases are planned on a graph with a
+ * few dozen nodes; a goal in the start region competes as a direct edge so
+ * a detour through a neighbouring room wins when shorter. Only the first leg is refined to tiles: the start region up
+ * to its exit portal, then across the next region (using a cached portal path)
+ * or straight to the goal if it lies there. Callers re-plan as they arrive.
+ */
+public class HierarchicalPathFinder implements PathFinder {
+    private static final int INF = Integer.MAX_VALUE / 4;
+    // Long shared walls are split so routes don't detour to a single midpoint
+    private static final int MAX_PORTAL_WIDTH = 6;
+
+    private final int width;
+    private final int height;
+    private final GridBfsPathFinder grid;
+    private final int[] regionOf;
+    private final int regionCount;
+
+    // Portal nodes: tile, owning region and the node across the boundary
+    private final int[] portalTile;
+    private final int[] portalRegion;
+    private final int[] portalPartner;
+    private final int[][] regionPortals;
+    // Per region, distances between its portals (row-major k x k)
+    private final int[][] intraDistance;
+    private final HashMap<Long, int[]> portalPathCache = new HashMap<>();
+
+    // Reusable abstract search buffers (portals + start + goal)
+    private final int[] nodeDist;
+    private final int[] nodePrev;
+    private final boolean[] nodeDone;
+    private final int[] startLinks;
+    private final int[] goalLinks;
+    private long settledNodes;
+    private long searchCount;
+
+    /**
+     * NEW: Constructor for HierarchicalPathFinder
+     *
+     * @param map Generated map with its room list
+     */
+    public HierarchicalPathFinder(Map map) {
+        this(map, new RegionGraph(map));
+    }
+
+    /**
+     * NEW: Constructor for HierarchicalPathFinder reusing the floor's region graph
+     *
+     * @param map Generated map with its room list
+     * @param regions Region labels built from the same layout
+     */
+    public HierarchicalPathFinder(Map map, RegionGraph regions) {
+        this.width = map.get_width();
+        this.height = map.get_height();
+        this.grid = new GridBfsPathFinder(map);
+        this.regionOf = regions.labels();
+        this.regionCount = regions.get_region_count();
+
+        List<int[]> portals = find_portals();
+        int portalCount = portals.size();
+        this.portalTile = new int[portalCount];
+        this.portalRegion = new int[portalCount];
+        this.portalPartner = new int[portalCount];
+        for (int i = 0; i < portalCount; i++) {
+            int[] p = portals.get(i);
+            portalTile[i] = p[0];
+            portalRegion[i] = regionOf[p[0]];
+            portalPartner[i] = p[1];
+        }
+        this.regionPortals = group_portals_by_region();
+        this.intraDistance = measure_intra_distances();
+        // Floods run while measuring portals are build cost, not search cost
+        grid.reset_counters();
+
+        this.nodeDist = new int[portalCount + 2];
+        this.nodePrev = new int[portalCount + 2];
+        this.nodeDone = new boolean[portalCount + 2];
+        this.startLinks = new int[portalCount];
+        this.goalLinks = new int[portalCount];
+    }
+
+    /**
+     * Collect boundary tile pairs between regions, cluster neighbouring pairs
+     * of the same region pair into runs, and keep the middle pair of each run.
+     * Returns one {tile, partnerNode} entry per portal node.
+     */
+    private List<int[]> find_portals() {
+        HashMap<Long, List<int[]>> boundaries = new HashMap<>();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int key = y * width + x;
+                if (regionOf[key] < 0) continue;
+                if (x + 1 < width) add_boundary(boundaries, key, key + 1);
+                if (y + 1 < height) add_boundary(boundaries, key, key + width);
+            }
+        }
+        List<int[]> nodes = new ArrayList<>();
+        for (List<int[]> pairs : boundaries.values()) {
+            for (List<int[]> cluster : cluster_pairs(pairs)) {
+                int[] middle = cluster.get(cluster.size() / 2);
+                int a = nodes.size();
+                nodes.add(new int[]{middle[0], a + 1});
+                nodes.add(new int[]{middle[1], a});
+            }
+        }
+        return nodes;
+    }
+
+    private void add_boundary(HashMap<Long, List<int[]>> boundaries, int a, int b) {
+        int ra = regionOf[a];
+        int rb = regionOf[b];
+        if (rb < 0 || ra == rb) {
+            return;
+        }
+        // Orient pairs so the lower region comes first
+        int[] pair = ra < rb ? new int[]{a, b} : new int[]{b, a};
+        long groupKey = ((long) Math.min(ra, rb) << 32) | Math.max(ra, rb);
+        boundaries.computeIfAbsent(groupKey, k -> new ArrayList<>()).add(pair);
+    }
+
+    /**
+     * Split boundary pairs into straight runs of at most MAX_PORTAL_WIDTH pairs
+     */
+    private List<List<int[]>> cluster_pairs(List<int[]> pairs) {
+        List<List<int[]>> clusters = new ArrayList<>();
+        boolean[] used = new boolean[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            if (used[i]) continue;
+            List<int[]> cluster = new ArrayList<>();
+            cluster.add(pairs.get(i));
+            used[i] = true;
+            for (int c = 0; c < cluster.size(); c++) {
+                int[] member = cluster.get(c);
+                for (int j = 0; j < pairs.size(); j++) {
+                    if (!used[j] && cluster.size() < MAX_PORTAL_WIDTH && same_run(member, pairs.get(j))) {
+                        used[j] = true;
+                        cluster.add(pairs.get(j));
+                    }
+                }
+            }
+            clusters.add(cluster);
+        }
+        return clusters;
+    }
+
+    /**
+     * Two boundary pairs are on the same straight run when they cross the
+     * boundary in the same direction and sit side by side along it
+     */
+    private boolean same_run(int[] p, int[] q) {
+        int pStep = p[1] - p[0];
+        if (pStep != q[1] - q[0]) {
+            return false;
+        }
+        int dx = Math.abs(p[0] % width - q[0] % width);
+        int dy = Math.abs(p[0] / width - q[0] / width);
+        boolean crossesHorizontally = Math.abs(pStep) == 1;
+        return crossesHorizontally ? (dx == 0 && dy == 1) : (dy == 0 && dx == 1);
+    }
+
+    private int[][] group_portals_by_region() {
+        int[] counts = new int[regionCount];
+        for (int region : portalRegion) counts[region]++;
+        int[][] grouped = new int[regionCount][];
+        for (int r = 0; r < regionCount; r++) grouped[r] = new int[counts[r]];
+        int[] fill = new int[regionCount];
+        for (int node = 0; node < portalRegion.length; node++) {
+            int region = portalRegion[node];
+            grouped[region][fill[region]++] = node;
+        }
+        return grouped;
+    }
+
+    private int[][] measure_intra_distances() {
+        int[][] distances = new int[regionCount][];
+        for (int r = 0; r < regionCount; r++) {
+            int[] nodes = regionPortals[r];
+            int k = nodes.length;
+            distances[r] = new int[k * k];
+            for (int i = 0; i < k; i++) {
+                grid.flood(portalTile[nodes[i]], -1, regionOf, r);
+                for (int j = 0; j < k; j++) {
+                    int d = grid.distance_to(portalTile[nodes[j]]);
+                    distances[r][i * k + j] = d < 0 ? INF : d;
+                }
+            }
+        }
+        return distances;
+    }
+
+    @Override
+    public synchronized List<int[]> find_path(int startX, int startY, int goalX, int goalY) {
+        if (!grid.in_bounds(startX, startY) || !grid.in_bounds(goalX, goalY)) {
+            return null;
+        }
+        searchCount++;
+        int start = startY * width + startX;
+        int goal = goalY * width + goalX;
+        int startRegion = regionOf[start];
+        int goalRegion = regionOf[goal];
+        if (startRegion < 0 || goalRegion < 0) {
+            // Off the region map (e.g. standing on a wall); use the plain search
+            return grid.find_path(startX, startY, goalX, goalY);
+        }
+        int[] route = plan(start, startRegion, goal, goalRegion);
+        if (route == null) {
+            return null;
+        }
+        if (route.length == 0) {
+            // Staying inside the shared region is shortest
+            return grid.to_steps(grid.search(start, goal, regionOf, startRegion));
+        }
+        return grid.to_steps(refine(start, route, goal, goalRegion));
+    }
+
+    /**
+     * Dijkstra over portal nodes. Returns the portal nodes on the route from
+     * the start (exclusive) to the goal (exclusive), or null if unreachable.
+     */
+    private int[] plan(int start, int startRegion, int goal, int goalRegion) {
+        int portalCount = portalTile.length;
+        int startNode = portalCount;
+        int goalNode = portalCount + 1;
+
+        Arrays.fill(startLinks, INF);
+        grid.flood(start, -1, regionOf, startRegion);
+        for (int node : regionPortals[startRegion]) {
+            int d = grid.distance_to(portalTile[node]);
+            if (d >= 0) startLinks[node] = d;
+        }
+        // A goal in the same region is also reachable directly; it competes with portal routes
+        int directCost = startRegion == goalRegion && grid.distance_to(goal) >= 0 ? grid.distance_to(goal) : INF;
+        Arrays.fill(goalLinks, INF);
+        grid.flood(goal, -1, regionOf, goalRegion);
+        for (int node : regionPortals[goalRegion]) {
+            int d = grid.distance_to(portalTile[node]);
+            if (d >= 0) goalLinks[node] = d;
+        }
+
+        Arrays.fill(nodeDist, INF);
+        Arrays.fill(nodePrev, -1);
+        Arrays.fill(nodeDone, false);
+        nodeDist[startNode] = 0;
+        while (true) {
+            int best = -1;
+            for (int n = 0; n < nodeDist.length; n++) {
+                if (!nodeDone[n] && nodeDist[n] < INF && (best < 0 || nodeDist[n] < nodeDist[best])) {
+                    best = n;
+                }
+            }
+            if (best < 0) {
+                return null;
+            }
+            if (best == goalNode) {
+                break;
+            }
+            nodeDone[best] = true;
+            settledNodes++;
+            if (best == startNode) {
+                for (int node : regionPortals[startRegion]) {
+                    relax(best, node, startLinks[node]);
+                }
+                relax(best, goalNode, directCost);
+                continue;
+            }
+            relax(best, portalPartner[best], 1);
+            int region = portalRegion[best];
+            int[] nodes = regionPortals[region];
+            int k = nodes.length;
+            int row = index_of(nodes, best);
+            for (int j = 0; j < k; j++) {
+                relax(best, nodes[j], intraDistance[region][row * k + j]);
+            }
+            if (region == goalRegion) {
+                relax(best, goalNode, goalLinks[best]);
+            }
+        }
+        int hops = 0;
+        for (int n = nodePrev[goalNode]; n != startNode; n = nodePrev[n]) hops++;
+        int[] route = new int[hops];
+        int n = nodePrev[goalNode];
+        for (int i = hops - 1; i >= 0; i--) {
+            route[i] = n;
+            n = nodePrev[n];
+        }
+        return route;
+    }
+
+    private void relax(int from, int to, int cost) {
+        if (cost >= INF || nodeDone[to]) {
+            return;
+        }
+        int candidate = nodeDist[from] + cost;
+        if (candidate < nodeDist[to]) {
+            nodeDist[to] = candidate;
+            nodePrev[to] = from;
+        }
+    }
+
+    private static int index_of(int[] nodes, int node) {
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i] == node) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Turn the first leg of a portal route into tiles: start region to its
+     * exit portal, one step across, then through the next region either to
+     * the goal or to that region's exit portal.
+     */
+    private int[] refine(int start, int[] route, int goal, int goalRegion) {
+        int startRegion = regionOf[start];
+        int exitIndex = 0;
+        while (exitIndex + 1 < route.length && portalRegion[route[exitIndex + 1]] == startRegion) {
+            exitIndex++;
+        }
+        int exit = route[exitIndex];
+        int[] toExit = grid.search(start, portalTile[exit], regionOf, startRegion);
+        if (toExit == null || exitIndex + 1 >= route.length) {
+            return toExit;
+        }
+        int entry = route[exitIndex + 1];
+        int nextRegion = portalRegion[entry];
+        int leaveIndex = exitIndex + 1;
+        while (leaveIndex + 1 < route.length && portalRegion[route[leaveIndex + 1]] == nextRegion) {
+            leaveIndex++;
+        }
+        int[] tail;
+        if (leaveIndex == route.length - 1 && nextRegion == goalRegion) {
+            // Final region: walk straight to the goal
+            tail = grid.search(portalTile[entry], goal, regionOf, goalRegion);
+        } else {
+            // The route leaves this region again (possibly the goal's region via a shortcut)
+            tail = leaveIndex == exitIndex + 1 ? null : cached_portal_path(entry, route[leaveIndex]);
+        }
+        if (tail == null) {
+            tail = new int[0];
+        }
+        int[] path = new int[toExit.length + 1 + tail.length];
+        System.arraycopy(toExit, 0, path, 0, toExit.length);
+        path[toExit.length] = portalTile[entry];
+        System.arraycopy(tail, 0, path, toExit.length + 1, tail.length);
+        return path;
+    }
+
+    private int[] cached_portal_path(int from, int to) {
+        long key = ((long) from << 32) | to;
+        int[] path = portalPathCache.get(key);
+        if (path == null) {
+            path = grid.search(portalTile[from], portalTile[to], regionOf, portalRegion[from]);
+            if (path != null) {
+                portalPathCache.put(key, path);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * NEW: Get the region label of a tile
+     *
+     * @return Region index, or -1 for walls and out-of-bounds
+     */
+    public int get_region(int x, int y) {
+        return grid.in_bounds(x, y) ? regionOf[y * width + x] : -1;
+    }
+
+    public int get_region_count() { return regionCount; }
+    public int get_portal_count() { return portalTile.length; }
+    public synchronized int get_cached_portal_paths() { return portalPathCache.size(); }
+
+    /**
+     * NEW: Abstract nodes settled plus tiles expanded by local refinement
+     */
+    @Override
+    public synchronized long get_expanded_nodes() { return settledNodes + grid.get_expanded_nodes(); }
+
+    @Override
+    public synchronized long get_search_count() { return searchCount; }
+
+    @Override
+    public synchronized void reset_counters() {
+        settledNodes = 0;
+        searchCount = 0;
+        grid.reset_counters();
+    }
+}
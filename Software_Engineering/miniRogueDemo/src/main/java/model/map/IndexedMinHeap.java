@@ -0,0 +1,120 @@
+package model.map;
+
+import java.util.Arrays;
+
+/**
+ * NEW: Binary min-heap of node ids with int keys, stored in primitive arrays.
+ * A position index per node gives O(log n) decrease-key, and clear() only
+ * touches nodes that were inserted, so one heap can be reused for every
+ * search on a floor.
+ */
+public class IndexedMinHeap {
+    private final int[] heap;     // heap slot -> node
+    private final int[] keys;     // node -> key
+    private final int[] slotOf;   // node -> heap slot, -1 when absent
+    private int size;
+
+    /**
+     * NEW: Constructor for IndexedMinHeap
+     *
+     * @param capacity Number of distinct node ids (0 .. capacity-1)
+     */
+    public IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new int[capacity];
+        this.slotOf = new int[capacity];
+        Arrays.fill(slotOf, -1);
+    }
+
+    /**
+     * NEW: Insert a node, or lower its key if already queued with a higher one
+     *
+     * @param node Node id
+     * @param key Priority (lower pops first)
+     */
+    public void push_or_decrease(int node, int key) {
+        int slot = slotOf[node];
+        if (slot < 0) {
+            slot = size++;
+            heap[slot] = node;
+            slotOf[node] = slot;
+            keys[node] = key;
+            sift_up(slot);
+        } else if (key < keys[node]) {
+            keys[node] = key;
+            sift_up(slot);
+        }
+    }
+
+    /**
+     * NEW: Remove and return the node with the smallest key
+     *
+     * @return Node id
+     */
+    public int pop() {
+        int top = heap[0];
+        slotOf[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            slotOf[last] = 0;
+            sift_down(0);
+        }
+        return top;
+    }
+
+    public boolean is_empty() { return size == 0; }
+    public int size() { return size; }
+    public boolean contains(int node) { return slotOf[node] >= 0; }
+    public int key_of(int node) { return keys[node]; }
+
+    /**
+     * NEW: Empty the heap in O(size)
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            slotOf[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void sift_up(int slot) {
+        int node = heap[slot];
+        int key = keys[node];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            int parentNode = heap[parent];
+            if (keys[parentNode] <= key) {
+                break;
+            }
+            heap[slot] = parentNode;
+            slotOf[parentNode] = slot;
+            slot = parent;
+        }
+        heap[slot] = node;
+        slotOf[node] = slot;
+    }
+
+    private void sift_down(int slot) {
+        int node = heap[slot];
+        int key = keys[node];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            int childNode = heap[child];
+            if (key <= keys[childNode]) {
+                break;
+            }
+            heap[slot] = childNode;
+            slotOf[childNode] = slot;
+            slot = child;
+        }
+        heap[slot] = node;
+        slotOf[node] = slot;
+    }
+}
@@ -0,0 +1,316 @@
+package model.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NEW: Jump Point Search over the uniform-cost tile grid with 8-directional
+ * moves. Diagonal steps are only allowed when both orthogonal neighbours are
+ * walkable, the same rule enemies follow when roaming, so paths never clip
+ * wall corners.
+ *
+ * Straight-line jump distances are precomputed per floor for the four
+ * cardinal directions (JPS+ style): a positive entry is the distance to the
+ * next jump point, a non-positive entry is minus the distance to the last
+ * tile before a wall. Cardinal jumps are therefore O(1), and diagonal jumps
+ * cost one table lookup per diagonal step. The open set is an IndexedMinHeap
+ * reused across searches; per-node state is reset with a search stamp.
+ */
+public class JumpPointPathFinder implements PathFinder {
+    private static final int STRAIGHT = 10;
+    private static final int DIAGONAL = 14;
+    // Cardinal direction indexes into jumpDistance
+    private static final int EAST = 0, WEST = 1, SOUTH = 2, NORTH = 3;
+
+    private final int width;
+    private final int height;
+    private final boolean[] walkable;
+    private final int[][] jumpDistance;
+
+    private final IndexedMinHeap open;
+    private final int[] gScore;
+    private final int[] parent;
+    private final int[] seenStamp;
+    private final int[] closedStamp;
+    private int stamp;
+    private int goalX;
+    private int goalY;
+
+    private long expandedNodes;
+    private long searchCount;
+
+    /**
+     * NEW: Constructor for JumpPointPathFinder
+     *
+     * @param map Map to snapshot walkability from
+     */
+    public JumpPointPathFinder(Map map) {
+        this.width = map.get_width();
+        this.height = map.get_height();
+        this.walkable = GridBfsPathFinder.snapshot_walkable(map);
+        this.jumpDistance = new int[4][width * height];
+        precompute_jump_distances();
+        this.open = new IndexedMinHeap(width * height);
+        this.gScore = new int[width * height];
+        this.parent = new int[width * height];
+        this.seenStamp = new int[width * height];
+        this.closedStamp = new int[width * height];
+    }
+
+    private boolean open_tile(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height && walkable[y * width + x];
+    }
+
+    /**
+     * A tile reached moving horizontally by dx is a jump point when a blocked
+     * tile beside the previous tile opens up beside this one
+     */
+    private boolean is_horizontal_jump_point(int x, int y, int dx) {
+        return (open_tile(x, y - 1) && !open_tile(x - dx, y - 1))
+            || (open_tile(x, y + 1) && !open_tile(x - dx, y + 1));
+    }
+
+    private boolean is_vertical_jump_point(int x, int y, int dy) {
+        return (open_tile(x - 1, y) && !open_tile(x - 1, y - dy))
+            || (open_tile(x + 1, y) && !open_tile(x + 1, y - dy));
+    }
+
+    private void precompute_jump_distances() {
+        for (int y = 0; y < height; y++) {
+            for (int x = width - 1; x >= 0; x--) {
+                jumpDistance[EAST][y * width + x] = next_distance(x + 1, y, 1, 0,
+                    x + 1 < width ? jumpDistance[EAST][y * width + x + 1] : 0);
+            }
+            for (int x = 0; x < width; x++) {
+                jumpDistance[WEST][y * width + x] = next_distance(x - 1, y, -1, 0,
+                    x > 0 ? jumpDistance[WEST][y * width + x - 1] : 0);
+            }
+        }
+        for (int x = 0; x < width; x++) {
+            for (int y = height - 1; y >= 0; y--) {
+                jumpDistance[SOUTH][y * width + x] = next_distance(x, y + 1, 0, 1,
+                    y + 1 < height ? jumpDistance[SOUTH][(y + 1) * width + x] : 0);
+            }
+            for (int y = 0; y < height; y++) {
+                jumpDistance[NORTH][y * width + x] = next_distance(x, y - 1, 0, -1,
+                    y > 0 ? jumpDistance[NORTH][(y - 1) * width + x] : 0);
+            }
+        }
+    }
+
+    /**
+     * Jump distance from the tile behind (nx, ny), given the entry already
+     * computed for (nx, ny) in the same direction
+     */
+    private int next_distance(int nx, int ny, int dx, int dy, int fromNext) {
+        if (!open_tile(nx, ny)) {
+            return 0;
+        }
+        boolean jumpPoint = dx != 0 ? is_horizontal_jump_point(nx, ny, dx) : is_vertical_jump_point(nx, ny, dy);
+        if (jumpPoint) {
+            return 1;
+        }
+        return fromNext > 0 ? fromNext + 1 : fromNext - 1;
+    }
+
+    private static int cardinal(int dx, int dy) {
+        if (dx > 0) return EAST;
+        if (dx < 0) return WEST;
+        return dy > 0 ? SOUTH : NORTH;
+    }
+
+    /**
+     * Straight jump from (x, y): the goal if it lies on the ray before the
+     * wall, else the precomputed jump point, else -1
+     */
+    private int jump_straight(int x, int y, int dx, int dy) {
+        int entry = jumpDistance[cardinal(dx, dy)][y * width + x];
+        int reach = entry > 0 ? entry : -entry;
+        if (dx != 0 && goalY == y) {
+            int along = (goalX - x) * dx;
+            if (along > 0 && along <= reach) return goalY * width + goalX;
+        } else if (dy != 0 && goalX == x) {
+            int along = (goalY - y) * dy;
+            if (along > 0 && along <= reach) return goalY * width + goalX;
+        }
+        return entry > 0 ? (y + dy * entry) * width + (x + dx * entry) : -1;
+    }
+
+    /**
+     * Diagonal jump starting with the step onto (x, y)
+     */
+    private int jump_diagonal(int x, int y, int dx, int dy) {
+        while (true) {
+            if (!open_tile(x, y)) {
+                return -1;
+            }
+            if (x == goalX && y == goalY) {
+                return y * width + x;
+            }
+            if (jump_straight(x, y, dx, 0) >= 0 || jump_straight(x, y, 0, dy) >= 0) {
+                return y * width + x;
+            }
+            if (!open_tile(x + dx, y) || !open_tile(x, y + dy)) {
+                return -1;
+            }
+            x += dx;
+            y += dy;
+        }
+    }
+
+    private int jump(int fromX, int fromY, int dx, int dy) {
+        if (dx != 0 && dy != 0) {
+            return jump_diagonal(fromX + dx, fromY + dy, dx, dy);
+        }
+        return jump_straight(fromX, fromY, dx, dy);
+    }
+
+    private int heuristic(int x, int y) {
+        int ax = Math.abs(x - goalX);
+        int ay = Math.abs(y - goalY);
+        return STRAIGHT * (ax + ay) + (DIAGONAL - 2 * STRAIGHT) * Math.min(ax, ay);
+    }
+
+    @Override
+    public synchronized List<int[]> find_path(int startX, int startY, int goalX, int goalY) {
+        if (startX < 0 || startY < 0 || startX >= width || startY >= height || !open_tile(goalX, goalY)) {
+            return null;
+        }
+        searchCount++;
+        if (startX == goalX && startY == goalY) {
+            return new ArrayList<>();
+        }
+        this.goalX = goalX;
+        this.goalY = goalY;
+        if (++stamp == 0) {
+            java.util.Arrays.fill(seenStamp, 0);
+            java.util.Arrays.fill(closedStamp, 0);
+            stamp = 1;
+        }
+        open.clear();
+        int start = startY * width + startX;
+        int goal = goalY * width + goalX;
+        seenStamp[start] = stamp;
+        gScore[start] = 0;
+        parent[start] = -1;
+        open.push_or_decrease(start, heuristic(startX, startY));
+
+        while (!open.is_empty()) {
+            int node = open.pop();
+            if (node == goal) {
+                return build_steps(start, goal);
+            }
+            closedStamp[node] = stamp;
+            expandedNodes++;
+            int x = node % width;
+            int y = node / width;
+            int p = parent[node];
+            if (p < 0) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        if (dx == 0 && dy == 0) continue;
+                        if (dx != 0 && dy != 0 && (!open_tile(x + dx, y) || !open_tile(x, y + dy))) continue;
+                        if (open_tile(x + dx, y + dy)) add_successor(node, x, y, dx, dy);
+                    }
+                }
+            } else {
+                int dx = Integer.signum(x - p % width);
+                int dy = Integer.signum(y - p / width);
+                expand_pruned(node, x, y, dx, dy);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Natural and forced neighbours for the no-corner-cutting rule set
+     */
+    private void expand_pruned(int node, int x, int y, int dx, int dy) {
+        if (dx != 0 && dy != 0) {
+            boolean vertical = open_tile(x, y + dy);
+            boolean horizontal = open_tile(x + dx, y);
+            if (vertical) add_successor(node, x, y, 0, dy);
+            if (horizontal) add_successor(node, x, y, dx, 0);
+            if (vertical && horizontal && open_tile(x + dx, y + dy)) add_successor(node, x, y, dx, dy);
+        } else if (dx != 0) {
+            boolean next = open_tile(x + dx, y);
+            boolean below = open_tile(x, y + 1);
+            boolean above = open_tile(x, y - 1);
+            if (next) {
+                add_successor(node, x, y, dx, 0);
+                if (below && open_tile(x + dx, y + 1)) add_successor(node, x, y, dx, 1);
+                if (above && open_tile(x + dx, y - 1)) add_successor(node, x, y, dx, -1);
+            }
+            if (below) add_successor(node, x, y, 0, 1);
+            if (above) add_successor(node, x, y, 0, -1);
+        } else {
+            boolean next = open_tile(x, y + dy);
+            boolean right = open_tile(x + 1, y);
+            boolean left = open_tile(x - 1, y);
+            if (next) {
+                add_successor(node, x, y, 0, dy);
+                if (right && open_tile(x + 1, y + dy)) add_successor(node, x, y, 1, dy);
+                if (left && open_tile(x - 1, y + dy)) add_successor(node, x, y, -1, dy);
+            }
+            if (right) add_successor(node, x, y, 1, 0);
+            if (left) add_successor(node, x, y, -1, 0);
+        }
+    }
+
+    private void add_successor(int node, int x, int y, int dx, int dy) {
+        int target = jump(x, y, dx, dy);
+        if (target < 0 || closedStamp[target] == stamp) {
+            return;
+        }
+        int tx = target % width;
+        int ty = target / width;
+        int steps = Math.max(Math.abs(tx - x), Math.abs(ty - y));
+        int g = gScore[node] + steps * (dx != 0 && dy != 0 ? DIAGONAL : STRAIGHT);
+        if (seenStamp[target] != stamp || g < gScore[target]) {
+            seenStamp[target] = stamp;
+            gScore[target] = g;
+            parent[target] = node;
+            open.push_or_decrease(target, g + heuristic(tx, ty));
+        }
+    }
+
+    /**
+     * Expand jump points back into single tile steps, excluding the start
+     */
+    private List<int[]> build_steps(int start, int goal) {
+        List<int[]> reversed = new ArrayList<>();
+        int node = goal;
+        while (node != start) {
+            int from = parent[node];
+            int x = node % width;
+            int y = node / width;
+            int fx = from % width;
+            int fy = from / width;
+            int dx = Integer.signum(fx - x);
+            int dy = Integer.signum(fy - y);
+            while (x != fx || y != fy) {
+                reversed.add(new int[]{x, y});
+                x += dx;
+                y += dy;
+            }
+            node = from;
+        }
+        List<int[]> steps = new ArrayList<>(reversed.size());
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            steps.add(reversed.get(i));
+        }
+        return steps;
+    }
+
+    @Override
+    public synchronized long get_expanded_nodes() { return expandedNodes; }
+
+    @Override
+    public synchronized long get_search_count() { return searchCount; }
+
+    @Override
+    public synchronized void reset_counters() {
+        expandedNodes = 0;
+        searchCount = 0;
+    }
+}
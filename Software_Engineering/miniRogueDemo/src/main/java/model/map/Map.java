@@ -20,8 +20,19 @@ public class Map {
     private int height;
     private Tile[][] tiles;
     private List<Room> rooms;
-    private List<Position> itemLocations;
-    private List<Position> enemyLocations;
+    // NEW: Packed-coordinate indexes; item index tracks every tile holding or reserved for items
+    private PositionIndex itemLocations;
+    private PositionIndex enemyLocations;
+    // NEW: Explored tiles as a bitset; Tile explored flags are mirrored from it
+    private final FogOfWar fogOfWar;
+    // NEW: Line-of-sight engine, built on first use after generation
+    private FieldOfView fieldOfView;
+    // NEW: Chase path search, rebuilt lazily for the selected strategy
+    private static volatile PathFinder.Strategy defaultPathStrategy = PathFinder.Strategy.HIERARCHICAL;
+    private PathFinder.Strategy pathStrategy = defaultPathStrategy;
+    private PathFinder pathFinder;
+    private RegionGraph regionGraph;
+    private final OccupancyGrid occupancy;
     private Position playerStartPosition;
     private Position bossPosition;
     private Random random;
@@ -44,8 +55,11 @@ public class Map {
         this.height = GameConstants.MAP_HEIGHT;
         this.tiles = new Tile[width][height];
         this.rooms = new ArrayList<>();
-        this.itemLocations = new ArrayList<>();
-        this.enemyLocations = new ArrayList<>();
+        this.itemLocations = new PositionIndex(width, height);
+        this.enemyLocations = new PositionIndex(width, height);
+        this.fogOfWar = new FogOfWar(width, height);
+        this.fogOfWar.add_listener(this::mirror_explored_tiles);
+        this.occupancy = new OccupancyGrid(width, height);
         this.random = new Random();
         this.currentFloor = floor;
         this.floorType = floorType;
@@ -61,6 +75,37 @@ public class Map {
         this(floor, FloorType.REGULAR);
     }
 
+    /**
+     * NEW: Constructor for a map rebuilt from a recorded layout (replays).
+     * Nothing is generated: there are no rooms, items or enemies, and every
+     * tile starts unexplored.
+     *
+     * @param floor Floor number
+     * @param floorType Floor type
+     * @param width Width in tiles
+     * @param height Height in tiles
+     * @param layout Tile type per tile, row-major (y * width + x)
+     */
+    public Map(int floor, FloorType floorType, int width, int height, TileType[] layout) {
+        this.width = width;
+        this.height = height;
+        this.tiles = new Tile[width][height];
+        this.rooms = new ArrayList<>();
+        this.itemLocations = new PositionIndex(width, height);
+        this.enemyLocations = new PositionIndex(width, height);
+        this.fogOfWar = new FogOfWar(width, height);
+        this.fogOfWar.add_listener(this::mirror_explored_tiles);
+        this.occupancy = new OccupancyGrid(width, height);
+        this.random = new Random();
+        this.currentFloor = floor;
+        this.floorType = floorType;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                tiles[x][y] = new Tile(layout[y * width + x], new Position(x, y));
+            }
+        }
+    }
+
     /**
      * MANDATORY: Generate complete dungeon floor with rooms and corridors
      */
@@ -82,6 +127,13 @@ public class Map {
                 generate_regular_floor();
                 break;
         }
+        // Search structures snapshot the layout, so build them after generation
+        synchronized (this) {
+            pathFinder = null;
+            regionGraph = null;
+        }
+        occupancy.clear();
+        get_path_finder();
     }
     
     /**
@@ -1205,9 +1257,153 @@ public class Map {
     public void set_entrance_tile(Position pos) {
         if (is_valid_position(pos.get_x(), pos.get_y())) {
             tiles[pos.get_x()][pos.get_y()] = new Tile(TileType.ENTRANCE, pos);
+            if (fieldOfView != null) {
+                fieldOfView.invalidate();
+            }
+            // Replacement tile starts unexplored; resync it and let layer caches repaint it
+            if (fogOfWar.is_explored(pos.get_x(), pos.get_y())) {
+                tiles[pos.get_x()][pos.get_y()].set_explored();
+                fogOfWar.refresh(pos.get_x(), pos.get_y());
+            }
+        }
+    }
+
+    /**
+     * Keep Tile explored flags in step with the fog bitset for newly revealed tiles
+     */
+    private void mirror_explored_tiles(int y, int wordIndex, long newBits) {
+        long remaining = newBits;
+        while (remaining != 0) {
+            int x = (wordIndex << 6) + Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            Tile tile = tiles[x][y];
+            if (tile != null) {
+                tile.set_explored();
+            }
+        }
+    }
+
+    /**
+     * NEW: Reveal the diamond of tiles within a Manhattan radius
+     *
+     * @param x Center X coordinate
+     * @param y Center Y coordinate
+     * @param radius Reveal radius in tiles
+     * @return Number of tiles newly revealed
+     */
+    public int reveal_around(int x, int y, int radius) {
+        return fogOfWar.reveal_diamond(x, y, radius);
+    }
+
+    /**
+     * NEW: Reveal the tiles in line of sight within a Manhattan radius
+     *
+     * @param x Viewer X coordinate
+     * @param y Viewer Y coordinate
+     * @param radius Sight radius in tiles
+     * @return Number of tiles newly revealed
+     */
+    public int reveal_visible(int x, int y, int radius) {
+        return get_field_of_view().reveal(fogOfWar, x, y, radius);
+    }
+
+    /**
+     * NEW: Get the field-of-view engine for this floor
+     *
+     * @return FieldOfView over the current tiles
+     */
+    public synchronized FieldOfView get_field_of_view() {
+        if (fieldOfView == null) {
+            fieldOfView = new FieldOfView(this);
+        }
+        return fieldOfView;
+    }
+
+    /**
+     * NEW: Reveal a single tile
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     */
+    public void reveal_tile(int x, int y) {
+        fogOfWar.reveal(x, y);
+    }
+
+    /**
+     * NEW: Check whether a tile has been explored
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return true if explored
+     */
+    public boolean is_explored(int x, int y) {
+        return fogOfWar.is_explored(x, y);
+    }
+
+    public FogOfWar get_fog_of_war() { return fogOfWar; }
+    public OccupancyGrid get_occupancy() { return occupancy; }
+
+    /**
+     * NEW: Get the room/corridor region graph for this floor, built on first use
+     *
+     * @return Region graph over the generated layout
+     */
+    public synchronized RegionGraph get_region_graph() {
+        if (regionGraph == null) {
+            regionGraph = new RegionGraph(this);
+        }
+        return regionGraph;
+    }
+
+    /**
+     * NEW: Get the path finder for this floor, building it for the current strategy on first use
+     *
+     * @return Path finder over the generated layout
+     */
+    public synchronized PathFinder get_path_finder() {
+        if (pathFinder == null) {
+            switch (pathStrategy) {
+                case BFS:
+                    pathFinder = new GridBfsPathFinder(this);
+                    break;
+                case JUMP_POINT:
+                    pathFinder = new JumpPointPathFinder(this);
+                    break;
+                default:
+                    pathFinder = new HierarchicalPathFinder(this, get_region_graph());
+                    break;
+            }
+        }
+        return pathFinder;
+    }
+
+    /**
+     * NEW: Select the search strategy for this floor
+     *
+     * @param strategy Strategy to build on the next get_path_finder call
+     */
+    public synchronized void set_path_strategy(PathFinder.Strategy strategy) {
+        if (strategy != null && strategy != pathStrategy) {
+            pathStrategy = strategy;
+            pathFinder = null;
+        }
+    }
+
+    public synchronized PathFinder.Strategy get_path_strategy() { return pathStrategy; }
+
+    /**
+     * NEW: Select the strategy newly generated floors start with
+     *
+     * @param strategy Default strategy for new maps
+     */
+    public static void set_default_path_strategy(PathFinder.Strategy strategy) {
+        if (strategy != null) {
+            defaultPathStrategy = strategy;
         }
     }
 
+    public static PathFinder.Strategy get_default_path_strategy() { return defaultPathStrategy; }
+
     /**
      * MANDATORY: Get tile at specific coordinates
      *
@@ -1262,11 +1458,49 @@ public class Map {
      */
     public void place_item(Item item, Position position) {
         Tile tile = get_tile(position);
-        if (tile != null && tile.is_walkable()) {
-            tile.add_item(item);
+        if (item != null && tile != null && tile.is_walkable()) {
+            // Drops and pickups come from different threads; keep tile and index in step
+            synchronized (itemLocations) {
+                tile.add_item(item);
+                itemLocations.add(tile.get_position());
+            }
         }
     }
 
+    /**
+     * NEW: Remove an item from a tile, keeping the item index in sync
+     *
+     * @param item Item to remove
+     * @param position Position of the tile holding the item
+     * @return true if the item was removed
+     */
+    public boolean remove_item(Item item, Position position) {
+        Tile tile = position == null ? null : get_tile(position);
+        if (tile == null) {
+            return false;
+        }
+        synchronized (itemLocations) {
+            if (!tile.remove_item(item)) {
+                return false;
+            }
+            if (!tile.has_items()) {
+                itemLocations.remove(position.get_x(), position.get_y());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * NEW: Check whether a tile holds or is reserved for items
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return true if the tile is in the item index
+     */
+    public boolean has_item_location(int x, int y) {
+        return itemLocations.contains(x, y);
+    }
+
     /**
      * MANDATORY: Place enemy at specific position
      *
@@ -1283,11 +1517,12 @@ public class Map {
     // MANDATORY: Getters
     public int get_width() { return width; }
     public int get_height() { return height; }
-    public List<Position> get_item_locations() { return new ArrayList<>(itemLocations); }
-    public List<Position> get_enemy_locations() { return new ArrayList<>(enemyLocations); }
+    public List<Position> get_item_locations() { return itemLocations.snapshot(); }
+    public List<Position> get_enemy_locations() { return enemyLocations.view(); }
     public Position get_player_start_position() { return playerStartPosition; }
     public Position get_boss_position() { return bossPosition; }
     public int get_current_floor() { return currentFloor; }
+    public FloorType get_floor_type() { return floorType; }
     public List<Room> get_rooms() { return new ArrayList<>(rooms); }
 
     /**
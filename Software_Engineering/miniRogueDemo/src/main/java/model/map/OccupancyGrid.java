@@ -0,0 +1,103 @@
+package model.map;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * NEW: Per-tile reservations for moving entities.
+ *
+ * Each tile holds the token of the entity that has claimed it, or 0. An
+ * entity claims the tile it is about to step onto before it commits to the
+ * move and gives up its previous tile afterwards, so two entities can never
+ * hold the same tile. Claims are a single compare-and-set on a flat array,
+ * which keeps every movement decision O(1) and safe to make from both the
+ * game thread and the Swing timer without a lock.
+ */
+public class OccupancyGrid {
+    private final int width;
+    private final int height;
+    private final AtomicIntegerArray owner;
+
+    /**
+     * NEW: Constructor for OccupancyGrid
+     *
+     * @param width Map width in tiles
+     * @param height Map height in tiles
+     */
+    public OccupancyGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.owner = new AtomicIntegerArray(width * height);
+    }
+
+    private boolean in_bounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * NEW: Claim a tile for an entity
+     *
+     * @param token Entity token, must be positive
+     * @return true if the tile is now (or already was) held by this token
+     */
+    public boolean try_reserve(int token, int x, int y) {
+        if (token <= 0) {
+            throw new IllegalArgumentException("Occupancy tokens must be positive");
+        }
+        if (!in_bounds(x, y)) {
+            return false;
+        }
+        int key = y * width + x;
+        return owner.compareAndSet(key, 0, token) || owner.get(key) == token;
+    }
+
+    /**
+     * NEW: Give a tile back; does nothing unless the token holds it
+     */
+    public void release(int token, int x, int y) {
+        if (in_bounds(x, y)) {
+            owner.compareAndSet(y * width + x, token, 0);
+        }
+    }
+
+    /**
+     * NEW: Whether an entity could claim a tile right now
+     *
+     * @return true if the tile is free or already held by this token
+     */
+    public boolean is_free_for(int token, int x, int y) {
+        if (!in_bounds(x, y)) {
+            return false;
+        }
+        int current = owner.get(y * width + x);
+        return current == 0 || current == token;
+    }
+
+    /**
+     * NEW: Token holding a tile
+     *
+     * @return Token, or 0 when free or out of bounds
+     */
+    public int get_owner(int x, int y) {
+        return in_bounds(x, y) ? owner.get(y * width + x) : 0;
+    }
+
+    /**
+     * NEW: Number of held tiles (walks the whole grid, for checks and tests)
+     */
+    public int count_reserved() {
+        int count = 0;
+        for (int i = 0; i < owner.length(); i++) {
+            if (owner.get(i) != 0) count++;
+        }
+        return count;
+    }
+
+    /**
+     * NEW: Free every tile
+     */
+    public void clear() {
+        for (int i = 0; i < owner.length(); i++) {
+            owner.set(i, 0);
+        }
+    }
+}
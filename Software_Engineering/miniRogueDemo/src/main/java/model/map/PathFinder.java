@@ -0,0 +1,48 @@
+package model.map;
+
+import java.util.List;
+
+/**
+ * NEW: Tile path search over a map's walkability grid.
+ * Paths are lists of {x, y} steps that exclude the start tile and end at the
+ * goal, or at an intermediate waypoint for finders that plan incrementally.
+ */
+public interface PathFinder {
+
+    /**
+     * NEW: Search strategies a map can build for its enemies
+     */
+    enum Strategy {
+        BFS, HIERARCHICAL, JUMP_POINT
+    }
+
+    /**
+     * Find a path between two tiles
+     *
+     * @param startX Start X coordinate
+     * @param startY Start Y coordinate
+     * @param goalX Goal X coordinate
+     * @param goalY Goal Y coordinate
+     * @return Steps toward the goal, an empty list if already there, or null if unreachable
+     */
+    List<int[]> find_path(int startX, int startY, int goalX, int goalY);
+
+    /**
+     * NEW: Nodes taken off the frontier since the last reset, for comparing strategies
+     *
+     * @return Expanded node count
+     */
+    long get_expanded_nodes();
+
+    /**
+     * NEW: Calls to find_path since the last reset
+     *
+     * @return Search count
+     */
+    long get_search_count();
+
+    /**
+     * NEW: Zero the expansion and search counters
+     */
+    void reset_counters();
+}
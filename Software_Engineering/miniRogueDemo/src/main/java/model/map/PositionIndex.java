@@ -0,0 +1,169 @@
+package model.map;
+
+import utilities.Position;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * NEW: Set of tile positions keyed by packed tile coordinate (y * width + x).
+ * Add, remove and contains are O(1); positions are kept in a dense list so
+ * callers can iterate them through a read-only view without copying.
+ * Every change also publishes an immutable snapshot, which threads other
+ * than the writer (the EDT drawing items) read instead of the live view.
+ */
+public class PositionIndex implements Iterable<Position> {
+    private final int width;
+    private final int height;
+    private final int[] slotByKey; // dense slot + 1, 0 when the tile is not indexed
+    private final List<Position> positions;
+    private final List<Position> view;
+    private volatile List<Position> snapshot = Collections.emptyList();
+
+    /**
+     * NEW: Constructor for PositionIndex
+     *
+     * @param width Map width in tiles
+     * @param height Map height in tiles
+     */
+    public PositionIndex(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.slotByKey = new int[width * height];
+        this.positions = new ArrayList<>();
+        this.view = Collections.unmodifiableList(positions);
+    }
+
+    /**
+     * NEW: Pack a tile coordinate into a single index key
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return Packed key, or -1 if the coordinate is out of bounds
+     */
+    public int pack(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return y * width + x;
+    }
+
+    /**
+     * NEW: Add a position to the index
+     *
+     * @param position Position to add
+     * @return true if the position was added, false if already present or out of bounds
+     */
+    public boolean add(Position position) {
+        if (position == null) {
+            return false;
+        }
+        int key = pack(position.get_x(), position.get_y());
+        if (key < 0 || slotByKey[key] != 0) {
+            return false;
+        }
+        positions.add(position);
+        slotByKey[key] = positions.size();
+        publish();
+        return true;
+    }
+
+    /**
+     * NEW: Remove a position from the index. The last entry is moved into the
+     * freed slot, so iteration order is only stable while nothing is removed.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return true if the position was removed
+     */
+    public boolean remove(int x, int y) {
+        int key = pack(x, y);
+        if (key < 0 || slotByKey[key] == 0) {
+            return false;
+        }
+        int slot = slotByKey[key] - 1;
+        int last = positions.size() - 1;
+        if (slot != last) {
+            Position moved = positions.get(last);
+            positions.set(slot, moved);
+            slotByKey[moved.get_y() * width + moved.get_x()] = slot + 1;
+        }
+        positions.remove(last);
+        slotByKey[key] = 0;
+        publish();
+        return true;
+    }
+
+    /**
+     * NEW: Check whether a tile coordinate is indexed
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return true if indexed
+     */
+    public boolean contains(int x, int y) {
+        int key = pack(x, y);
+        return key >= 0 && slotByKey[key] != 0;
+    }
+
+    /**
+     * NEW: Check whether a position is indexed
+     *
+     * @param position Position to check
+     * @return true if indexed
+     */
+    public boolean contains(Position position) {
+        return position != null && contains(position.get_x(), position.get_y());
+    }
+
+    /**
+     * NEW: Get the number of indexed positions
+     *
+     * @return Position count
+     */
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * NEW: Remove every position from the index
+     */
+    public void clear() {
+        for (Position position : positions) {
+            slotByKey[position.get_y() * width + position.get_x()] = 0;
+        }
+        positions.clear();
+        publish();
+    }
+
+    // Indexes change rarely (drops and pickups), so copying on each change is cheap
+    private void publish() {
+        snapshot = positions.isEmpty() ? Collections.emptyList()
+                                       : Collections.unmodifiableList(new ArrayList<>(positions));
+    }
+
+    /**
+     * NEW: Get a read-only live view of the indexed positions
+     *
+     * @return Unmodifiable view of the positions
+     */
+    public List<Position> view() {
+        return view;
+    }
+
+    /**
+     * NEW: Get the positions as of the last change. The list never changes
+     * afterwards, so it can be read from any thread without a lock.
+     *
+     * @return Immutable snapshot of the positions
+     */
+    public List<Position> snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public Iterator<Position> iterator() {
+        return view.iterator();
+    }
+}
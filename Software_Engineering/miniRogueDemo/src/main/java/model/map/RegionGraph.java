@@ -0,0 +1,200 @@
+package model.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * NEW: Rooms and corridors of a floor as a graph of regions.
+ *
+ * Every walkable tile gets a region label: one per room (in room list order)
+ * plus one per connected run of corridor tiles outside rooms. Two regions are
+ * neighbours when a tile of one is orthogonally next to a tile of the other.
+ * Built once per floor from a walkability snapshot; the hierarchical path
+ * finder plans over these regions and the simulation puts them to sleep.
+ */
+public class RegionGraph {
+    private final int width;
+    private final int height;
+    private final int[] regionOf;
+    private final int regionCount;
+    private final int roomCount;
+    private final int[][] neighbours;
+    private final int[][] tiles;
+
+    /**
+     * NEW: Constructor for RegionGraph
+     *
+     * @param map Generated map with its room list
+     */
+    public RegionGraph(Map map) {
+        this.width = map.get_width();
+        this.height = map.get_height();
+        boolean[] walkable = GridBfsPathFinder.snapshot_walkable(map);
+        List<Map.Room> rooms = map.get_rooms();
+        this.roomCount = rooms.size();
+        this.regionOf = new int[width * height];
+        this.regionCount = label_regions(walkable, rooms);
+        this.neighbours = link_regions(walkable);
+        this.tiles = collect_tiles();
+    }
+
+    /**
+     * Label room tiles by room index, then flood corridor tiles into components
+     */
+    private int label_regions(boolean[] walkable, List<Map.Room> rooms) {
+        Arrays.fill(regionOf, -1);
+        int next = 0;
+        for (Map.Room room : rooms) {
+            for (int x = room.x; x < room.x + room.width; x++) {
+                for (int y = room.y; y < room.y + room.height; y++) {
+                    int key = y * width + x;
+                    if (in_bounds(x, y) && walkable[key] && regionOf[key] == -1) {
+                        regionOf[key] = next;
+                    }
+                }
+            }
+            next++;
+        }
+        int[] stack = new int[width * height];
+        for (int key = 0; key < regionOf.length; key++) {
+            if (regionOf[key] != -1 || !walkable[key]) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = key;
+            regionOf[key] = next;
+            while (top > 0) {
+                int current = stack[--top];
+                int cx = current % width;
+                int cy = current / width;
+                int[] adjacent = {cx + 1, cy, cx - 1, cy, cx, cy + 1, cx, cy - 1};
+                for (int n = 0; n < adjacent.length; n += 2) {
+                    int nx = adjacent[n];
+                    int ny = adjacent[n + 1];
+                    if (!in_bounds(nx, ny)) continue;
+                    int nk = ny * width + nx;
+                    if (regionOf[nk] == -1 && walkable[nk]) {
+                        regionOf[nk] = next;
+                        stack[top++] = nk;
+                    }
+                }
+            }
+            next++;
+        }
+        return next;
+    }
+
+    private int[][] link_regions(boolean[] walkable) {
+        List<TreeSet<Integer>> links = new ArrayList<>(regionCount);
+        for (int r = 0; r < regionCount; r++) {
+            links.add(new TreeSet<>());
+        }
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int a = regionOf[y * width + x];
+                if (a < 0) continue;
+                int right = x + 1 < width ? regionOf[y * width + x + 1] : -1;
+                int down = y + 1 < height ? regionOf[(y + 1) * width + x] : -1;
+                for (int b : new int[]{right, down}) {
+                    if (b >= 0 && b != a) {
+                        links.get(a).add(b);
+                        links.get(b).add(a);
+                    }
+                }
+            }
+        }
+        int[][] result = new int[regionCount][];
+        for (int r = 0; r < regionCount; r++) {
+            result[r] = links.get(r).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    private int[][] collect_tiles() {
+        int[] counts = new int[regionCount];
+        for (int region : regionOf) {
+            if (region >= 0) counts[region]++;
+        }
+        int[][] result = new int[regionCount][];
+        for (int r = 0; r < regionCount; r++) {
+            result[r] = new int[counts[r]];
+        }
+        Arrays.fill(counts, 0);
+        for (int key = 0; key < regionOf.length; key++) {
+            int region = regionOf[key];
+            if (region >= 0) result[region][counts[region]++] = key;
+        }
+        return result;
+    }
+
+    private boolean in_bounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * NEW: Region label of a tile
+     *
+     * @return Region index, or -1 for walls and out-of-bounds
+     */
+    public int get_region(int x, int y) {
+        return in_bounds(x, y) ? regionOf[y * width + x] : -1;
+    }
+
+    // Shared with the hierarchical path finder, which never writes to it
+    int[] labels() { return regionOf; }
+
+    public int get_region_count() { return regionCount; }
+    public int get_width() { return width; }
+
+    /**
+     * NEW: Whether a region is one of the map's rooms rather than a corridor run
+     */
+    public boolean is_room(int region) {
+        return region >= 0 && region < roomCount;
+    }
+
+    /**
+     * NEW: Regions sharing a boundary with a region
+     *
+     * @return Neighbour region indexes in ascending order
+     */
+    public int[] get_neighbours(int region) {
+        return neighbours[region].clone();
+    }
+
+    public int get_tile_count(int region) { return tiles[region].length; }
+
+    /**
+     * NEW: Packed tile key (y * width + x) of the i-th tile in a region
+     */
+    public int get_tile(int region, int i) { return tiles[region][i]; }
+
+    /**
+     * NEW: Graph distance in region hops from one region to every other
+     *
+     * @param from Source region
+     * @param out Buffer of length get_region_count(); unreachable regions get -1
+     */
+    public void hop_distances(int from, int[] out) {
+        Arrays.fill(out, -1);
+        if (from < 0 || from >= regionCount) {
+            return;
+        }
+        int[] queue = new int[regionCount];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        out[from] = 0;
+        while (head < tail) {
+            int current = queue[head++];
+            for (int next : neighbours[current]) {
+                if (out[next] == -1) {
+                    out[next] = out[current] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+}
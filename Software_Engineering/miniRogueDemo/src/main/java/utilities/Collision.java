@@ -1,6 +1,7 @@
 package utilities;
 
 import model.map.Map;
+import enums.GameConstants;
 
 public class Collision {
     public static boolean isWalkable(Map map, int x, int y) {
@@ -28,4 +29,83 @@ public class Collision {
         // Check final tile
         return isWalkable(map, x1, y1);
     }
-} 
\ No newline at end of file
+
+    /**
+     * NEW: Distance a ray travels before entering a non-walkable tile, using an
+     * Amanatides-Woo grid traversal so every tile the ray crosses is visited
+     * once, however long the ray is. Passing exactly through a corner counts
+     * as a hit if either side of the corner is solid.
+     *
+     * @param x0 Ray start X in pixels
+     * @param y0 Ray start Y in pixels
+     * @param dirX Unit direction X
+     * @param dirY Unit direction Y
+     * @param maxDistance Length of the ray in pixels
+     * @return Pixels to the first solid tile boundary, or maxDistance if the ray stays clear
+     */
+    public static float castRay(Map map, float x0, float y0, float dirX, float dirY, float maxDistance) {
+        final int tile = GameConstants.TILE_SIZE;
+        int tx = (int) Math.floor(x0 / tile);
+        int ty = (int) Math.floor(y0 / tile);
+        if (!isWalkable(map, tx, ty)) return 0f;
+
+        int stepX = dirX > 0 ? 1 : (dirX < 0 ? -1 : 0);
+        int stepY = dirY > 0 ? 1 : (dirY < 0 ? -1 : 0);
+        // Distance along the ray to the next vertical / horizontal tile boundary
+        float tMaxX = stepX > 0 ? ((tx + 1) * tile - x0) / dirX
+                    : stepX < 0 ? (tx * tile - x0) / dirX : Float.POSITIVE_INFINITY;
+        float tMaxY = stepY > 0 ? ((ty + 1) * tile - y0) / dirY
+                    : stepY < 0 ? (ty * tile - y0) / dirY : Float.POSITIVE_INFINITY;
+        // Distance along the ray to cross one whole tile
+        float tDeltaX = stepX != 0 ? tile / Math.abs(dirX) : Float.POSITIVE_INFINITY;
+        float tDeltaY = stepY != 0 ? tile / Math.abs(dirY) : Float.POSITIVE_INFINITY;
+
+        while (true) {
+            float t = Math.min(tMaxX, tMaxY);
+            if (t > maxDistance) return maxDistance;
+            if (tMaxX == tMaxY) {
+                // Through a corner: do not slip between two diagonal walls
+                if (!isWalkable(map, tx + stepX, ty) || !isWalkable(map, tx, ty + stepY)) return t;
+                tx += stepX;
+                ty += stepY;
+                tMaxX += tDeltaX;
+                tMaxY += tDeltaY;
+            } else if (tMaxX < tMaxY) {
+                tx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                ty += stepY;
+                tMaxY += tDeltaY;
+            }
+            if (!isWalkable(map, tx, ty)) return t;
+        }
+    }
+
+    /**
+     * NEW: Swept circle against a circle. The moving circle is treated as a
+     * ray against the target grown by the moving circle's radius.
+     *
+     * @param x0 Start X of the moving center
+     * @param y0 Start Y of the moving center
+     * @param dirX Unit direction X
+     * @param dirY Unit direction Y
+     * @param length Distance moved this step
+     * @param cx Target center X
+     * @param cy Target center Y
+     * @param radius Sum of both radii
+     * @return Distance along the step at first contact, 0 if already touching, or -1 for no contact
+     */
+    public static float sweptCircleDistance(float x0, float y0, float dirX, float dirY, float length,
+                                            float cx, float cy, float radius) {
+        float mx = x0 - cx;
+        float my = y0 - cy;
+        float c = mx * mx + my * my - radius * radius;
+        if (c <= 0) return 0f;
+        float b = mx * dirX + my * dirY;
+        if (b >= 0) return -1f; // Outside and not moving closer
+        float disc = b * b - c;
+        if (disc < 0) return -1f;
+        float t = -b - (float) Math.sqrt(disc);
+        return t <= length ? t : -1f;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,838 @@
+package utilities;
+
+import enums.CharacterClass;
+import model.equipment.Weapon;
+import model.items.LootTables;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NEW: Every configuration file, parsed, validated and bound into immutable
+ * typed objects in one step.
+ *
+ * A snapshot is built whole and never changes; a reload builds a new one
+ * and swaps it in, so a reader that holds a snapshot always sees one
+ * consistent version of every file. Values the game computes from the
+ * configuration (experience thresholds, frame interval, full image paths,
+ * parsed enums) are worked out here once instead of on every lookup.
+ *
+ * Validation collects every problem in every file and reports them
+ * together, so a designer fixing a file sees the whole list at once.
+ */
+public final class ConfigSnapshot {
+
+    public static final String GAME_CONSTANTS_FILE = "game_constants.json";
+    public static final String RENDERING_CONFIG_FILE = "rendering_config.json";
+    public static final String WEAPON_MAPPINGS_FILE = "weapon_mappings.json";
+    public static final String WEAPON_DEFINITIONS_FILE = "weapon_definitions.json";
+    public static final String ARMOR_DEFINITIONS_FILE = "armor_definitions.json";
+    public static final String LOOT_TABLES_FILE = "loot_tables.json";
+    private static final String CLASSPATH_DIR = "config/";
+
+    private final long version;
+    private final ConfigTable gameConstants;
+    private final ConfigTable renderingConfig;
+    private final ConfigTable weaponMappings;
+    private final GameSettings settings;
+
+    private final List<WeaponDef> weapons;
+    private final Map<String, WeaponDef> weaponsById;
+    private final Map<String, WeaponDef> enemyWeaponsById;
+    private final Map<CharacterClass, String> startingWeaponIds;
+    private final Map<CharacterClass, List<String>> enemyWeaponIds;
+
+    private final List<ArmorDef> armor;
+    private final Map<String, ArmorDef> armorById;
+    private final Map<String, ArmorDef> enemyArmorById;
+    private final Map<CharacterClass, String> startingArmorIds;
+    private final Map<CharacterClass, List<String>> enemyArmorIds;
+
+    private final LootTables lootTables;
+
+    /**
+     * NEW: Weapon definition with its enums parsed and image path resolved
+     */
+    public static final class WeaponDef {
+        private final String id;
+        private final String name;
+        private final int attack;
+        private final int defense;
+        private final CharacterClass characterClass;
+        private final Weapon.WeaponType type;
+        private final int tier;
+        private final String imagePath;
+        private final String category;
+
+        WeaponDef(String id, String name, int attack, int defense, CharacterClass characterClass,
+                  Weapon.WeaponType type, int tier, String imagePath, String category) {
+            this.id = id;
+            this.name = name;
+            this.attack = attack;
+            this.defense = defense;
+            this.characterClass = characterClass;
+            this.type = type;
+            this.tier = tier;
+            this.imagePath = imagePath;
+            this.category = category;
+        }
+
+        /**
+         * NEW: Build a new weapon from this definition
+         */
+        public Weapon create() {
+            return new Weapon(name, attack, defense, characterClass, tier, type, imagePath, category);
+        }
+
+        public String get_id() { return id; }
+        public String get_name() { return name; }
+        public int get_attack() { return attack; }
+        public int get_defense() { return defense; }
+        public CharacterClass get_character_class() { return characterClass; }
+        public Weapon.WeaponType get_type() { return type; }
+        public int get_tier() { return tier; }
+        public String get_image_path() { return imagePath; }
+        public String get_category() { return category; }
+    }
+
+    /**
+     * NEW: Armor definition with its class parsed and image path resolved
+     */
+    public static final class ArmorDef {
+        private final String id;
+        private final String name;
+        private final int attack;
+        private final int defense;
+        private final int mana;
+        private final CharacterClass characterClass;
+        private final int tier;
+        private final String imagePath;
+        private final String category;
+
+        ArmorDef(String id, String name, int attack, int defense, int mana, CharacterClass characterClass,
+                 int tier, String imagePath, String category) {
+            this.id = id;
+            this.name = name;
+            this.attack = attack;
+            this.defense = defense;
+            this.mana = mana;
+            this.characterClass = characterClass;
+            this.tier = tier;
+            this.imagePath = imagePath;
+            this.category = category;
+        }
+
+        /**
+         * NEW: Build a new armor piece from this definition
+         */
+        public model.equipment.Armor create() {
+            return new model.equipment.Armor(name, attack, defense, mana, characterClass, tier, imagePath, category);
+        }
+
+        public String get_id() { return id; }
+        public String get_name() { return name; }
+        public int get_attack() { return attack; }
+        public int get_defense() { return defense; }
+        public int get_mana() { return mana; }
+        public CharacterClass get_character_class() { return characterClass; }
+        public int get_tier() { return tier; }
+        public String get_image_path() { return imagePath; }
+        public String get_category() { return category; }
+    }
+
+    /**
+     * NEW: Base stats and critical chance for one character class, shared
+     * by players and enemies of that class
+     */
+    public static final class ClassStats {
+        private final int health;
+        private final int mana;
+        private final float attack;
+        private final double criticalChance;
+
+        ClassStats(Validator v, String prefix, int health, int mana, float attack, double criticalChance) {
+            this.health = v.integer(prefix + ".health", health, 1, Integer.MAX_VALUE);
+            this.mana = v.integer(prefix + ".mana", mana, 0, Integer.MAX_VALUE);
+            this.attack = (float) v.decimal(prefix + ".attack", attack, 0.0, 100_000.0);
+            this.criticalChance = v.decimal(prefix + ".critical_chance", criticalChance, 0.0, 1.0);
+        }
+
+        public int get_health() { return health; }
+        public int get_mana() { return mana; }
+        public float get_attack() { return attack; }
+        public double get_critical_chance() { return criticalChance; }
+    }
+
+    /**
+     * NEW: Balance values from game_constants.json. A missing key takes its
+     * default; a key with the wrong type or out of range is an error. The
+     * defaults are the values the game played with before they moved here.
+     */
+    public static final class GameSettings {
+        private final String title;
+        private final int fps;
+        private final long frameIntervalMs;
+        private final int tileSize;
+        private final int experienceBase;
+        private final double experienceMultiplier;
+        private final int statPointsPerLevel;
+        private final int maxLevel;
+        private final int[] experienceThresholds;
+        private final Map<CharacterClass, ClassStats> classStats;
+        private final double criticalMultiplier;
+        private final double missChance;
+        private final double enemyHealthMultiplier;
+        private final double enemyDamageMultiplier;
+        private final int enemyAggroRange;
+        private final double bossHealthMultiplier;
+        private final double bossDamageMultiplier;
+        private final int maxInventorySize;
+        private final int stackLimit;
+        private final int mapWidth;
+        private final int mapHeight;
+
+        GameSettings(ConfigTable table, List<String> errors) {
+            Validator v = new Validator(GAME_CONSTANTS_FILE, table, errors);
+            title = v.string("game.title", "Mini Rogue Demo");
+            fps = v.integer("game.fps", 60, 1, 1000);
+            frameIntervalMs = Math.max(1, 1000 / fps);
+            tileSize = v.integer("display.tile_size", 32, 1, 512);
+            experienceBase = v.integer("player.experience_base", 100, 1, Integer.MAX_VALUE);
+            experienceMultiplier = v.decimal("player.experience_multiplier", 1.5, 1.0, 10.0);
+            statPointsPerLevel = v.integer("player.stat_points_per_level", 5, 0, 1000);
+            maxLevel = v.integer("player.max_level", 20, 1, 1000);
+            Map<CharacterClass, ClassStats> stats = new EnumMap<>(CharacterClass.class);
+            stats.put(CharacterClass.WARRIOR, new ClassStats(v, "classes.warrior", 120, 0, 18, 0.08));
+            stats.put(CharacterClass.MAGE, new ClassStats(v, "classes.mage", 70, 100, 10, 0.12));
+            stats.put(CharacterClass.ROGUE, new ClassStats(v, "classes.rogue", 80, 0, 14, 0.20));
+            stats.put(CharacterClass.RANGER, new ClassStats(v, "classes.ranger", 70, 0, 8, 0.12));
+            classStats = Collections.unmodifiableMap(stats);
+            criticalMultiplier = v.decimal("combat.critical_multiplier", 1.5, 1.0, 100.0);
+            missChance = v.decimal("combat.miss_chance", 0.05, 0.0, 1.0);
+            enemyHealthMultiplier = v.decimal("enemy.health_multiplier", 1.2, 0.01, 1000.0);
+            enemyDamageMultiplier = v.decimal("enemy.damage_multiplier", 0.8, 0.0, 1000.0);
+            enemyAggroRange = v.integer("enemy.aggro_range", 3, 0, 1000);
+            bossHealthMultiplier = v.decimal("boss.health_multiplier", 1.5, 0.01, 1000.0);
+            bossDamageMultiplier = v.decimal("boss.damage_multiplier", 1.5, 0.0, 1000.0);
+            maxInventorySize = v.integer("items.max_inventory_size", 20, 1, 10_000);
+            stackLimit = v.integer("items.stack_limit", 99, 1, Integer.MAX_VALUE);
+            mapWidth = v.integer("map.width", 50, 1, 10_000);
+            mapHeight = v.integer("map.height", 50, 1, 10_000);
+
+            // Experience needed to finish each level, capped so huge curves cannot overflow
+            experienceThresholds = new int[maxLevel + 1];
+            double needed = experienceBase;
+            for (int level = 1; level <= maxLevel; level++) {
+                experienceThresholds[level] = (int) Math.min(Integer.MAX_VALUE, Math.round(needed));
+                needed *= experienceMultiplier;
+            }
+        }
+
+        public String get_title() { return title; }
+        public int get_fps() { return fps; }
+        public long get_frame_interval_ms() { return frameIntervalMs; }
+        public int get_tile_size() { return tileSize; }
+        public int get_experience_base() { return experienceBase; }
+        public double get_experience_multiplier() { return experienceMultiplier; }
+        public int get_stat_points_per_level() { return statPointsPerLevel; }
+        public int get_max_level() { return maxLevel; }
+        public ClassStats get_class_stats(CharacterClass characterClass) { return classStats.get(characterClass); }
+        public double get_critical_multiplier() { return criticalMultiplier; }
+        public double get_miss_chance() { return missChance; }
+        public double get_enemy_health_multiplier() { return enemyHealthMultiplier; }
+        public double get_enemy_damage_multiplier() { return enemyDamageMultiplier; }
+        public int get_enemy_aggro_range() { return enemyAggroRange; }
+        public double get_boss_health_multiplier() { return bossHealthMultiplier; }
+        public double get_boss_damage_multiplier() { return bossDamageMultiplier; }
+        public int get_max_inventory_size() { return maxInventorySize; }
+        public int get_stack_limit() { return stackLimit; }
+        public int get_map_width() { return mapWidth; }
+        public int get_map_height() { return mapHeight; }
+
+        /**
+         * NEW: Experience needed to finish a level
+         *
+         * @param level Level from 1 to max level; clamped
+         */
+        public int get_experience_threshold(int level) {
+            return experienceThresholds[Math.max(1, Math.min(maxLevel, level))];
+        }
+
+        /**
+         * NEW: Settings for the current configuration
+         */
+        public static GameSettings current() {
+            return ConfigurationManager.getInstance().get_snapshot().get_settings();
+        }
+    }
+
+    /**
+     * Reads typed values from one table and records what is wrong with them
+     */
+    private static final class Validator {
+        private final String file;
+        private final ConfigTable table;
+        private final List<String> errors;
+
+        Validator(String file, ConfigTable table, List<String> errors) {
+            this.file = file;
+            this.table = table;
+            this.errors = errors;
+        }
+
+        int integer(String key, int defaultValue, int min, int max) {
+            Object value = table.get(key);
+            if (value == null) return defaultValue;
+            if (!(value instanceof Number) || ((Number) value).doubleValue() != ((Number) value).intValue()) {
+                errors.add(file + ": " + key + " must be a whole number, got " + value);
+                return defaultValue;
+            }
+            int number = ((Number) value).intValue();
+            if (number < min || number > max) {
+                errors.add(file + ": " + key + " must be between " + min + " and " + max + ", got " + number);
+                return defaultValue;
+            }
+            return number;
+        }
+
+        double decimal(String key, double defaultValue, double min, double max) {
+            Object value = table.get(key);
+            if (value == null) return defaultValue;
+            if (!(value instanceof Number)) {
+                errors.add(file + ": " + key + " must be a number, got " + value);
+                return defaultValue;
+            }
+            double number = ((Number) value).doubleValue();
+            if (number < min || number > max || Double.isNaN(number)) {
+                errors.add(file + ": " + key + " must be between " + min + " and " + max + ", got " + number);
+                return defaultValue;
+            }
+            return number;
+        }
+
+        String string(String key, String defaultValue) {
+            Object value = table.get(key);
+            if (value == null) return defaultValue;
+            if (!(value instanceof String) || ((String) value).isEmpty()) {
+                errors.add(file + ": " + key + " must be a non-empty string, got " + value);
+                return defaultValue;
+            }
+            return (String) value;
+        }
+    }
+
+    private ConfigSnapshot(long version, ConfigTable gameConstants, ConfigTable renderingConfig,
+                           ConfigTable weaponMappings, ConfigTable weaponDefinitions, ConfigTable armorDefinitions,
+                           ConfigTable lootTables) {
+        List<String> errors = new ArrayList<>();
+        this.version = version;
+        this.gameConstants = gameConstants;
+        this.renderingConfig = renderingConfig;
+        this.weaponMappings = weaponMappings;
+        this.settings = new GameSettings(gameConstants, errors);
+
+        Map<String, WeaponDef> regularWeapons = new HashMap<>();
+        Map<String, WeaponDef> enemyWeapons = new HashMap<>();
+        bind_weapons(weaponDefinitions, "weapons", regularWeapons, errors);
+        bind_weapons(weaponDefinitions, "enemy_weapon_definitions", enemyWeapons, errors);
+        this.weapons = sorted_values(regularWeapons);
+        this.weaponsById = Collections.unmodifiableMap(regularWeapons);
+        this.enemyWeaponsById = Collections.unmodifiableMap(enemyWeapons);
+        this.startingWeaponIds = bind_starting(WEAPON_DEFINITIONS_FILE, weaponDefinitions, "starting_weapons",
+                                               regularWeapons, enemyWeapons, errors);
+        this.enemyWeaponIds = bind_enemy_lists(WEAPON_DEFINITIONS_FILE, weaponDefinitions, "enemy_weapons",
+                                               regularWeapons, enemyWeapons, errors);
+
+        Map<String, ArmorDef> regularArmor = new HashMap<>();
+        Map<String, ArmorDef> enemyArmor = new HashMap<>();
+        bind_armor(armorDefinitions, "armor", regularArmor, errors);
+        bind_armor(armorDefinitions, "enemy_armor_definitions", enemyArmor, errors);
+        this.armor = sorted_values(regularArmor);
+        this.armorById = Collections.unmodifiableMap(regularArmor);
+        this.enemyArmorById = Collections.unmodifiableMap(enemyArmor);
+        this.startingArmorIds = bind_starting(ARMOR_DEFINITIONS_FILE, armorDefinitions, "starting_armor",
+                                              regularArmor, enemyArmor, errors);
+        this.enemyArmorIds = bind_enemy_lists(ARMOR_DEFINITIONS_FILE, armorDefinitions, "enemy_armor",
+                                              regularArmor, enemyArmor, errors);
+
+        this.lootTables = LootTables.compile(lootTables, LOOT_TABLES_FILE, errors);
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid configuration:\n  " + String.join("\n  ", errors));
+        }
+    }
+
+    /**
+     * NEW: Build a snapshot from already parsed file trees (null for a missing file)
+     *
+     * @throws IllegalArgumentException listing every validation error
+     */
+    public static ConfigSnapshot of(long version, Map<String, Object> gameConstants, Map<String, Object> renderingConfig,
+                                    Map<String, Object> weaponMappings, Map<String, Object> weaponDefinitions,
+                                    Map<String, Object> armorDefinitions, Map<String, Object> lootTables) {
+        return new ConfigSnapshot(version,
+            new ConfigTable(gameConstants != null ? gameConstants : default_game_constants()),
+            new ConfigTable(renderingConfig != null ? renderingConfig : default_rendering_config()),
+            table_or_empty(weaponMappings), table_or_empty(weaponDefinitions), table_or_empty(armorDefinitions),
+            table_or_empty(lootTables));
+    }
+
+    /**
+     * NEW: Read, parse and validate every file. Each file is taken from the
+     * override directory when it exists there and from the classpath otherwise.
+     *
+     * @param overrideDir Directory with editable copies of the files, or null
+     * @param version Version number for the new snapshot
+     * @throws IllegalArgumentException if a file is not valid JSON or fails validation
+     */
+    public static ConfigSnapshot load(Path overrideDir, long version) {
+        return of(version,
+            read(overrideDir, GAME_CONSTANTS_FILE), read(overrideDir, RENDERING_CONFIG_FILE),
+            read(overrideDir, WEAPON_MAPPINGS_FILE), read(overrideDir, WEAPON_DEFINITIONS_FILE),
+            read(overrideDir, ARMOR_DEFINITIONS_FILE), read(overrideDir, LOOT_TABLES_FILE));
+    }
+
+    /**
+     * NEW: Snapshot made only of the built-in defaults
+     */
+    public static ConfigSnapshot defaults() {
+        return of(0, null, null, null, null, null, null);
+    }
+
+    private static ConfigTable table_or_empty(Map<String, Object> tree) {
+        return tree != null ? new ConfigTable(tree) : ConfigTable.empty();
+    }
+
+    private static Map<String, Object> read(Path overrideDir, String file) {
+        String content = null;
+        try {
+            if (overrideDir != null && Files.isRegularFile(overrideDir.resolve(file))) {
+                content = Files.readString(overrideDir.resolve(file), StandardCharsets.UTF_8);
+            } else {
+                try (InputStream in = ConfigSnapshot.class.getClassLoader().getResourceAsStream(CLASSPATH_DIR + file)) {
+                    if (in != null) {
+                        content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(file + ": could not be read: " + e.getMessage(), e);
+        }
+        if (content == null) {
+            return null;
+        }
+        try {
+            return parse_json(new JSONObject(content));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(file + ": not valid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * NEW: Convert a JSON object into nested maps and Object[] arrays
+     */
+    static Map<String, Object> parse_json(JSONObject json) {
+        Map<String, Object> map = new HashMap<>();
+        for (String key : json.keySet()) {
+            Object value = convert(json.get(key));
+            if (value != null) {
+                map.put(key, value);
+            }
+        }
+        return map;
+    }
+
+    private static Object convert(Object value) {
+        if (value instanceof JSONObject) {
+            return parse_json((JSONObject) value);
+        }
+        if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            Object[] values = new Object[array.length()];
+            for (int i = 0; i < array.length(); i++) {
+                values[i] = convert(array.get(i));
+            }
+            return values;
+        }
+        return value;
+    }
+
+    private static <D> List<D> sorted_values(Map<String, D> byId) {
+        List<String> ids = new ArrayList<>(byId.keySet());
+        Collections.sort(ids);
+        List<D> values = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            values.add(byId.get(id));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(ConfigTable table, String key) {
+        Object value = table.get(key);
+        return value instanceof Map ? (Map<String, Object>) value : Collections.emptyMap();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void bind_weapons(ConfigTable table, String sectionKey, Map<String, WeaponDef> out, List<String> errors) {
+        for (Map.Entry<String, Object> entry : section(table, sectionKey).entrySet()) {
+            String where = sectionKey + "." + entry.getKey();
+            if (!(entry.getValue() instanceof Map)) {
+                errors.add(WEAPON_DEFINITIONS_FILE + ": " + where + " must be an object");
+                continue;
+            }
+            Validator v = new Validator(WEAPON_DEFINITIONS_FILE, new ConfigTable((Map<String, Object>) entry.getValue()), errors);
+            int before = errors.size();
+            String name = required_string(v, where, "name", errors);
+            int attack = v.integer("attack", 0, 0, 10_000);
+            int defense = v.integer("defense", 0, 0, 10_000);
+            CharacterClass characterClass = enum_value(CharacterClass.class, v, where, "class", errors);
+            Weapon.WeaponType type = enum_value(Weapon.WeaponType.class, v, where, "type", errors);
+            int tier = v.integer("tier", 1, 1, 100);
+            String image = required_string(v, where, "image", errors);
+            String category = v.string("category", "");
+            if (errors.size() == before) {
+                out.put(entry.getKey(), new WeaponDef(entry.getKey(), name, attack, defense, characterClass, type, tier,
+                                                      "images/weapons/" + image, category));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void bind_armor(ConfigTable table, String sectionKey, Map<String, ArmorDef> out, List<String> errors) {
+        for (Map.Entry<String, Object> entry : section(table, sectionKey).entrySet()) {
+            String where = sectionKey + "." + entry.getKey();
+            if (!(entry.getValue() instanceof Map)) {
+                errors.add(ARMOR_DEFINITIONS_FILE + ": " + where + " must be an object");
+                continue;
+            }
+            Validator v = new Validator(ARMOR_DEFINITIONS_FILE, new ConfigTable((Map<String, Object>) entry.getValue()), errors);
+            int before = errors.size();
+            String name = required_string(v, where, "name", errors);
+            int attack = v.integer("attack", 0, 0, 10_000);
+            int defense = v.integer("defense", 0, 0, 10_000);
+            int mana = v.integer("mana", 0, 0, 10_000);
+            CharacterClass characterClass = enum_value(CharacterClass.class, v, where, "class", errors);
+            int tier = v.integer("tier", 1, 1, 100);
+            String image = required_string(v, where, "image", errors);
+            String category = v.string("category", "");
+            if (errors.size() == before) {
+                out.put(entry.getKey(), new ArmorDef(entry.getKey(), name, attack, defense, mana, characterClass, tier,
+                                                     "images/armor/" + image, category));
+            }
+        }
+    }
+
+    private static String required_string(Validator v, String where, String key, List<String> errors) {
+        String value = v.string(key, null);
+        if (value == null && !v.table.has(key)) {
+            errors.add(v.file + ": " + where + "." + key + " is required");
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E enum_value(Class<E> type, Validator v, String where, String key, List<String> errors) {
+        String value = required_string(v, where, key, errors);
+        if (value == null) return null;
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            errors.add(v.file + ": " + where + "." + key + " is not a " + type.getSimpleName() + ": " + value);
+            return null;
+        }
+    }
+
+    private static Map<CharacterClass, String> bind_starting(String file, ConfigTable table, String sectionKey,
+                                                             Map<String, ?> regular, Map<String, ?> enemy,
+                                                             List<String> errors) {
+        Map<CharacterClass, String> ids = new EnumMap<>(CharacterClass.class);
+        for (Map.Entry<String, Object> entry : section(table, sectionKey).entrySet()) {
+            CharacterClass characterClass = class_key(file, sectionKey, entry.getKey(), errors);
+            Object id = entry.getValue();
+            if (characterClass == null) continue;
+            if (!(id instanceof String) || !(regular.containsKey(id) || enemy.containsKey(id))) {
+                errors.add(file + ": " + sectionKey + "." + entry.getKey() + " names an unknown item: " + id);
+                continue;
+            }
+            ids.put(characterClass, (String) id);
+        }
+        return Collections.unmodifiableMap(ids);
+    }
+
+    private static Map<CharacterClass, List<String>> bind_enemy_lists(String file, ConfigTable table, String sectionKey,
+                                                                      Map<String, ?> regular, Map<String, ?> enemy,
+                                                                      List<String> errors) {
+        Map<CharacterClass, List<String>> lists = new EnumMap<>(CharacterClass.class);
+        for (Map.Entry<String, Object> entry : section(table, sectionKey).entrySet()) {
+            CharacterClass characterClass = class_key(file, sectionKey, entry.getKey(), errors);
+            if (characterClass == null) continue;
+            if (!(entry.getValue() instanceof Object[])) {
+                errors.add(file + ": " + sectionKey + "." + entry.getKey() + " must be a list of ids");
+                continue;
+            }
+            List<String> ids = new ArrayList<>();
+            for (Object id : (Object[]) entry.getValue()) {
+                if (!(id instanceof String) || !(regular.containsKey(id) || enemy.containsKey(id))) {
+                    errors.add(file + ": " + sectionKey + "." + entry.getKey() + " names an unknown item: " + id);
+                } else {
+                    ids.add((String) id);
+                }
+            }
+            lists.put(characterClass, Collections.unmodifiableList(ids));
+        }
+        return Collections.unmodifiableMap(lists);
+    }
+
+    private static CharacterClass class_key(String file, String sectionKey, String key, List<String> errors) {
+        try {
+            return CharacterClass.valueOf(key);
+        } catch (IllegalArgumentException e) {
+            errors.add(file + ": " + sectionKey + "." + key + " is not a CharacterClass");
+            return null;
+        }
+    }
+
+    public long get_version() { return version; }
+    public ConfigTable get_game_constants() { return gameConstants; }
+    public ConfigTable get_rendering_config() { return renderingConfig; }
+    public ConfigTable get_weapon_mappings() { return weaponMappings; }
+    public GameSettings get_settings() { return settings; }
+    public LootTables get_loot_tables() { return lootTables; }
+
+    /**
+     * NEW: Regular (lootable) weapons, ordered by id
+     */
+    public List<WeaponDef> get_weapons() { return weapons; }
+
+    /**
+     * NEW: Look up a weapon id, regular definitions first, then enemy-only ones
+     */
+    public WeaponDef get_weapon(String id) {
+        WeaponDef def = weaponsById.get(id);
+        return def != null ? def : enemyWeaponsById.get(id);
+    }
+
+    /**
+     * NEW: Look up an id from an enemy loadout, enemy-only definitions first
+     */
+    public WeaponDef get_enemy_weapon(String id) {
+        WeaponDef def = enemyWeaponsById.get(id);
+        return def != null ? def : weaponsById.get(id);
+    }
+
+    public boolean is_enemy_weapon(String id) { return enemyWeaponsById.containsKey(id); }
+    public String get_starting_weapon_id(CharacterClass characterClass) { return startingWeaponIds.get(characterClass); }
+
+    public List<String> get_enemy_weapon_ids(CharacterClass characterClass) {
+        return enemyWeaponIds.getOrDefault(characterClass, Collections.emptyList());
+    }
+
+    /**
+     * NEW: Regular (lootable) armor, ordered by id
+     */
+    public List<ArmorDef> get_armor() { return armor; }
+
+    /**
+     * NEW: Look up an armor id, regular definitions first, then enemy-only ones
+     */
+    public ArmorDef get_armor(String id) {
+        ArmorDef def = armorById.get(id);
+        return def != null ? def : enemyArmorById.get(id);
+    }
+
+    /**
+     * NEW: Look up an id from an enemy loadout, enemy-only definitions first
+     */
+    public ArmorDef get_enemy_armor(String id) {
+        ArmorDef def = enemyArmorById.get(id);
+        return def != null ? def : armorById.get(id);
+    }
+
+    public boolean is_enemy_armor(String id) { return enemyArmorById.containsKey(id); }
+    public String get_starting_armor_id(CharacterClass characterClass) { return startingArmorIds.get(characterClass); }
+
+    public List<String> get_enemy_armor_ids(CharacterClass characterClass) {
+        return enemyArmorIds.getOrDefault(characterClass, Collections.emptyList());
+    }
+
+    /**
+     * Built-in game constants, used when game_constants.json is missing
+     */
+    static Map<String, Object> default_game_constants() {
+        Map<String, Object> gameConstants = new HashMap<>();
+
+        // Game settings
+        gameConstants.put("game.title", "Mini Rogue Demo");
+        gameConstants.put("game.version", "1.0.0");
+        gameConstants.put("game.fps", 60);
+        gameConstants.put("game.debug_mode", false);
+
+        // Display settings
+        gameConstants.put("display.window_width", 1200);
+        gameConstants.put("display.window_height", 800);
+        gameConstants.put("display.tile_size", 32);
+        gameConstants.put("display.ui_scale", 1.0);
+        gameConstants.put("display.fullscreen", false);
+
+        // Player settings
+        gameConstants.put("player.starting_health", 100);
+        gameConstants.put("player.starting_mana", 50);
+        gameConstants.put("player.starting_level", 1);
+        gameConstants.put("player.experience_base", 100);
+        gameConstants.put("player.experience_multiplier", 1.5);
+        gameConstants.put("player.stat_points_per_level", 5);
+        gameConstants.put("player.max_level", 50);
+
+        // Combat settings
+        gameConstants.put("combat.base_attack_speed", 1.0);
+        gameConstants.put("combat.base_attack_range", 1);
+        gameConstants.put("combat.base_attack_damage", 10);
+        gameConstants.put("combat.base_defense", 5);
+        gameConstants.put("combat.critical_chance", 0.05);
+        gameConstants.put("combat.critical_multiplier", 2.0);
+        gameConstants.put("combat.dodge_chance", 0.05);
+        gameConstants.put("combat.block_chance", 0.03);
+        gameConstants.put("combat.block_reduction", 0.5);
+
+        // Movement settings
+        gameConstants.put("movement.base_movement_speed", 1.0);
+        gameConstants.put("movement.diagonal_movement_cost", 1.4);
+        gameConstants.put("movement.collision_checking", true);
+        gameConstants.put("movement.smooth_movement", true);
+
+        // Enemy settings
+        gameConstants.put("enemy.base_health", 50);
+        gameConstants.put("enemy.base_damage", 8);
+        gameConstants.put("enemy.base_defense", 3);
+        gameConstants.put("enemy.experience_reward", 20);
+        gameConstants.put("enemy.gold_reward", 10);
+        gameConstants.put("enemy.aggro_range", 8);
+        gameConstants.put("enemy.patrol_radius", 3);
+        gameConstants.put("enemy.respawn_time", 30000);
+
+        // Map settings
+        gameConstants.put("map.width", 50);
+        gameConstants.put("map.height", 50);
+        gameConstants.put("map.room_min_size", 5);
+        gameConstants.put("map.room_max_size", 15);
+        gameConstants.put("map.corridor_width", 3);
+        gameConstants.put("map.wall_thickness", 1);
+        gameConstants.put("map.door_chance", 0.3);
+        gameConstants.put("map.trap_chance", 0.1);
+        return gameConstants;
+    }
+
+    /**
+     * Built-in rendering settings, used when rendering_config.json is missing
+     */
+    static Map<String, Object> default_rendering_config() {
+        Map<String, Object> renderingConfig = new HashMap<>();
+
+        // General rendering
+        renderingConfig.put("rendering.general.vsync", true);
+        renderingConfig.put("rendering.general.double_buffering", true);
+        renderingConfig.put("rendering.general.anti_aliasing", true);
+        renderingConfig.put("rendering.general.max_fps", 60);
+        renderingConfig.put("rendering.general.min_fps", 30);
+
+        // Sprite settings
+        renderingConfig.put("rendering.sprites.animation_speed", 200);
+        renderingConfig.put("rendering.sprites.sprite_cache_size", 1000);
+        renderingConfig.put("rendering.sprites.sprite_compression", false);
+        renderingConfig.put("rendering.sprites.pixel_perfect", true);
+
+        // Effects settings
+        renderingConfig.put("rendering.effects.particle_systems", true);
+        renderingConfig.put("rendering.effects.max_particles", 1000);
+        renderingConfig.put("rendering.effects.particle_lifetime", 2000);
+        renderingConfig.put("rendering.effects.screen_shake", true);
+        renderingConfig.put("rendering.effects.screen_flash", true);
+        renderingConfig.put("rendering.effects.motion_blur", false);
+        renderingConfig.put("rendering.effects.bloom_effect", false);
+
+        // Lighting settings
+        renderingConfig.put("rendering.lighting.enabled", true);
+        renderingConfig.put("rendering.lighting.ambient_light", 0.3);
+        renderingConfig.put("rendering.lighting.dynamic_lighting", true);
+        renderingConfig.put("rendering.lighting.shadow_quality", "medium");
+        renderingConfig.put("rendering.lighting.max_lights", 10);
+        renderingConfig.put("rendering.lighting.light_falloff", 1.0);
+        renderingConfig.put("rendering.lighting.fog_enabled", false);
+
+        // UI settings
+        renderingConfig.put("rendering.ui.font_rendering", "smooth");
+        renderingConfig.put("rendering.ui.font_cache_size", 100);
+        renderingConfig.put("rendering.ui.ui_scale", 1.0);
+        renderingConfig.put("rendering.ui.ui_opacity", 0.9);
+        renderingConfig.put("rendering.ui.tooltip_delay", 500);
+        renderingConfig.put("rendering.ui.notification_duration", 3000);
+
+        // Map settings
+        renderingConfig.put("rendering.map.tile_rendering", "optimized");
+        renderingConfig.put("rendering.map.tile_cache_size", 500);
+        renderingConfig.put("rendering.map.fog_of_war", true);
+        renderingConfig.put("rendering.map.fog_opacity", 0.7);
+        renderingConfig.put("rendering.map.revealed_tiles_opacity", 0.3);
+
+        // Character settings
+        renderingConfig.put("rendering.characters.sprite_animation", true);
+        renderingConfig.put("rendering.characters.idle_animation", true);
+        renderingConfig.put("rendering.characters.walking_animation", true);
+        renderingConfig.put("rendering.characters.attack_animation", true);
+        renderingConfig.put("rendering.characters.death_animation", true);
+        renderingConfig.put("rendering.characters.shadow_rendering", true);
+        renderingConfig.put("rendering.characters.health_bar_rendering", true);
+
+        // Weapon settings
+        renderingConfig.put("rendering.weapons.weapon_swing_animation", true);
+        renderingConfig.put("rendering.weapons.weapon_trail_effect", false);
+        renderingConfig.put("rendering.weapons.weapon_glow", false);
+        renderingConfig.put("rendering.weapons.projectile_trail", true);
+        renderingConfig.put("rendering.weapons.projectile_glow", false);
+        renderingConfig.put("rendering.weapons.impact_effects", true);
+
+        // Projectile settings
+        renderingConfig.put("rendering.projectiles.projectile_speed", 8.0);
+        renderingConfig.put("rendering.projectiles.projectile_trail", true);
+        renderingConfig.put("rendering.projectiles.projectile_glow", false);
+        renderingConfig.put("rendering.projectiles.projectile_rotation", true);
+        renderingConfig.put("rendering.projectiles.projectile_animation", true);
+        renderingConfig.put("rendering.projectiles.impact_particles", true);
+
+        // Combat settings
+        renderingConfig.put("rendering.combat.damage_numbers", true);
+        renderingConfig.put("rendering.combat.damage_flash", true);
+        renderingConfig.put("rendering.combat.critical_hit_effects", true);
+        renderingConfig.put("rendering.combat.block_effects", true);
+        renderingConfig.put("rendering.combat.dodge_effects", true);
+        renderingConfig.put("rendering.combat.heal_effects", true);
+        renderingConfig.put("rendering.combat.status_effect_icons", true);
+
+        // Performance settings
+        renderingConfig.put("rendering.performance.culling_enabled", true);
+        renderingConfig.put("rendering.performance.culling_distance", 20);
+        renderingConfig.put("rendering.performance.batch_rendering", true);
+        renderingConfig.put("rendering.performance.texture_atlas", true);
+        renderingConfig.put("rendering.performance.shader_optimization", true);
+
+        // Debug settings
+        renderingConfig.put("rendering.debug.show_fps", false);
+        renderingConfig.put("rendering.debug.show_memory_usage", false);
+        renderingConfig.put("rendering.debug.show_render_stats", false);
+        renderingConfig.put("rendering.debug.show_collision_boxes", false);
+        renderingConfig.put("rendering.debug.show_pathfinding", false);
+        renderingConfig.put("rendering.debug.show_ai_state", false);
+        return renderingConfig;
+    }
+}
@@ -0,0 +1,114 @@
+package utilities;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * NEW: Immutable tree of values from one configuration file.
+ *
+ * Values keep the file's nesting (sections are read-only maps, arrays are
+ * Object[]), and every leaf is also indexed by its dotted path, so
+ * "player.max_level" and get("player") both work. Typed getters convert
+ * numbers to the type asked for and fall back to the default when a key is
+ * missing or has the wrong type, instead of casting blindly.
+ */
+public final class ConfigTable {
+    private static final ConfigTable EMPTY = new ConfigTable(new HashMap<>());
+
+    private final Map<String, Object> tree;
+    private final Map<String, Object> flat;
+
+    /**
+     * NEW: Constructor for ConfigTable
+     *
+     * @param tree Parsed file contents; copied and made read-only
+     */
+    public ConfigTable(Map<String, Object> tree) {
+        this.tree = freeze(tree);
+        Map<String, Object> index = new HashMap<>();
+        flatten("", this.tree, index);
+        this.flat = Collections.unmodifiableMap(index);
+    }
+
+    public static ConfigTable empty() { return EMPTY; }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> freeze(Map<String, Object> source) {
+        Map<String, Object> copy = new HashMap<>();
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                value = freeze((Map<String, Object>) value);
+            } else if (value instanceof Object[]) {
+                value = ((Object[]) value).clone();
+            }
+            copy.put(entry.getKey(), value);
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void flatten(String prefix, Map<String, Object> node, Map<String, Object> out) {
+        for (Map.Entry<String, Object> entry : node.entrySet()) {
+            String key = prefix.isEmpty() ? entry.getKey() : prefix + "." + entry.getKey();
+            out.put(key, entry.getValue());
+            if (entry.getValue() instanceof Map) {
+                flatten(key, (Map<String, Object>) entry.getValue(), out);
+            }
+        }
+    }
+
+    /**
+     * NEW: Look up a value by top-level key or dotted path
+     *
+     * @return The value, or null if absent
+     */
+    public Object get(String key) {
+        if (key == null) return null;
+        Object value = tree.get(key);
+        return value != null ? value : flat.get(key);
+    }
+
+    public boolean has(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * NEW: Value of the same type as the default, converting between number types
+     *
+     * @param key Top-level key or dotted path
+     * @param defaultValue Returned when the key is missing or holds another type
+     * @return The value or defaultValue
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, T defaultValue) {
+        Object value = get(key);
+        if (value == null) return defaultValue;
+        if (defaultValue == null || defaultValue.getClass().isInstance(value)) {
+            return (T) value;
+        }
+        // Sections are read-only maps, so any Map default accepts them
+        if (defaultValue instanceof Map && value instanceof Map) {
+            return (T) value;
+        }
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (defaultValue instanceof Integer) return (T) Integer.valueOf(number.intValue());
+            if (defaultValue instanceof Long) return (T) Long.valueOf(number.longValue());
+            if (defaultValue instanceof Double) return (T) Double.valueOf(number.doubleValue());
+            if (defaultValue instanceof Float) return (T) Float.valueOf(number.floatValue());
+        }
+        return defaultValue;
+    }
+
+    public int get_int(String key, int defaultValue) { return get(key, defaultValue); }
+    public double get_double(String key, double defaultValue) { return get(key, defaultValue); }
+    public boolean get_boolean(String key, boolean defaultValue) { return get(key, defaultValue); }
+    public String get_string(String key, String defaultValue) { return get(key, defaultValue); }
+
+    /**
+     * NEW: The file's top-level entries, nested sections included (read-only)
+     */
+    public Map<String, Object> as_map() { return tree; }
+}
@@ -0,0 +1,106 @@
+package utilities;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * NEW: Watches a configuration directory and calls back when a .json file
+ * in it changes.
+ *
+ * Editors usually write a file in several steps (truncate, write, rename),
+ * so events are debounced: the callback runs once the directory has been
+ * quiet for the debounce interval. The callback runs on the watcher's own
+ * daemon thread.
+ */
+public class ConfigWatcher implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ConfigWatcher.class.getName());
+
+    private final Path directory;
+    private final Runnable onChange;
+    private final long debounceMs;
+    private final WatchService watchService;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * NEW: Constructor for ConfigWatcher; starts watching immediately
+     *
+     * @param directory Directory holding the configuration files
+     * @param debounceMs Quiet time after the last change before onChange runs
+     * @param onChange Called after a batch of changes to .json files
+     * @throws IOException if the directory cannot be watched
+     */
+    public ConfigWatcher(Path directory, long debounceMs, Runnable onChange) throws IOException {
+        this.directory = directory;
+        this.onChange = onChange;
+        this.debounceMs = debounceMs;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                           StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        this.thread = new Thread(this::run, "config-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+                // Keep collecting until the directory goes quiet
+                while (running) {
+                    WatchKey next = watchService.poll(debounceMs, TimeUnit.MILLISECONDS);
+                    if (next == null) break;
+                    changed |= drain(next);
+                }
+                if (changed && running) {
+                    try {
+                        onChange.run();
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.WARNING, "Configuration change handler failed", e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    private static boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                || (context instanceof Path && context.toString().endsWith(".json"))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    public Path get_directory() { return directory; }
+
+    /**
+     * NEW: Stop watching; the callback will not run again
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to close watch service", e);
+        }
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,176 @@
+package utilities;
+
+/**
+ * NEW: Game time source for model timers (effects, immunity, enemy states,
+ * attack cooldowns).
+ *
+ * Game time is in milliseconds and only moves forward. A ticked clock reads
+ * the system timer once per tick() and every now() in between returns that
+ * cached value, so a whole game tick sees one consistent time and no timer
+ * check costs a system call. Pausing stops game time, and the scale speeds it
+ * up or slows it down. A virtual clock ignores the system timer entirely and
+ * only moves when advance() is called, for headless and test runs.
+ *
+ * Real clocks start at the wall-clock time they were created, so stamps stay
+ * comparable with System.currentTimeMillis() until the first pause or scale
+ * change. Virtual clocks start at VIRTUAL_EPOCH so zero-initialised
+ * "last time" fields read as long ago, as they do with wall time.
+ */
+public class GameClock {
+    public static final long VIRTUAL_EPOCH = 1_000_000_000L;
+
+    private static final GameClock SYSTEM = new GameClock(false, true, System.currentTimeMillis());
+
+    private final boolean virtual;
+    private final boolean freeRunning;
+    private final long startMillis;
+    private final long startNanos;
+    private volatile long now;
+    private long lastRealNanos;
+    private double carryMs;
+    private double scale = 1.0;
+    private boolean paused;
+
+    private GameClock(boolean virtual, boolean freeRunning, long start) {
+        this.virtual = virtual;
+        this.freeRunning = freeRunning;
+        this.now = start;
+        this.startMillis = start;
+        this.startNanos = System.nanoTime();
+        this.lastRealNanos = startNanos;
+    }
+
+    /**
+     * NEW: Constructor for a real-time clock driven by tick()
+     */
+    public GameClock() {
+        this(false, false, System.currentTimeMillis());
+    }
+
+    /**
+     * NEW: Clock that only moves on advance()
+     *
+     * @return Virtual clock starting at VIRTUAL_EPOCH
+     */
+    public static GameClock virtual() {
+        return new GameClock(true, false, VIRTUAL_EPOCH);
+    }
+
+    /**
+     * NEW: Shared free-running clock for characters that are not part of a
+     * game (tests, previews). Every now() reads the system timer without
+     * locking; it cannot be paused or scaled.
+     *
+     * @return The shared system clock
+     */
+    public static GameClock system() {
+        return SYSTEM;
+    }
+
+    /**
+     * NEW: Sample the system timer and move game time forward by the scaled
+     * real time since the last sample. Virtual clocks are unchanged.
+     *
+     * @return Game time after the tick
+     */
+    public synchronized long tick() {
+        if (virtual) {
+            return now;
+        }
+        if (freeRunning) {
+            return now();
+        }
+        long real = System.nanoTime();
+        long elapsed = real - lastRealNanos;
+        lastRealNanos = real;
+        if (!paused && elapsed > 0) {
+            double ms = elapsed / 1_000_000.0 * scale + carryMs;
+            long whole = (long) ms;
+            carryMs = ms - whole;
+            now += whole;
+        }
+        return now;
+    }
+
+    /**
+     * NEW: Current game time in ms: the last tick for ticked and virtual
+     * clocks, a fresh sample for the shared system clock. Never changes the
+     * clock and never locks.
+     *
+     * @return Game time
+     */
+    public long now() {
+        if (freeRunning) {
+            return startMillis + (System.nanoTime() - startNanos) / 1_000_000L;
+        }
+        return now;
+    }
+
+    /**
+     * NEW: Move a virtual clock forward. Has no effect while paused.
+     *
+     * @param millis Game milliseconds to add, already scaled by the caller
+     */
+    public synchronized void advance(long millis) {
+        if (!virtual) {
+            throw new IllegalStateException("Only a virtual clock can be advanced by hand");
+        }
+        if (millis < 0) {
+            throw new IllegalArgumentException("Game time cannot go backwards");
+        }
+        if (!paused) {
+            now += millis;
+        }
+    }
+
+    /**
+     * NEW: Stop game time; real time spent paused is never counted
+     */
+    public synchronized void pause() {
+        require_tickable();
+        tick();
+        paused = true;
+    }
+
+    /**
+     * NEW: Resume game time from where it stopped
+     */
+    public synchronized void resume() {
+        require_tickable();
+        tick();
+        paused = false;
+    }
+
+    // The shared system clock is read without a lock, so it has no state to pause or scale
+    private void require_tickable() {
+        if (freeRunning) {
+            throw new IllegalStateException("The shared system clock cannot be paused or scaled");
+        }
+    }
+
+    public synchronized boolean is_paused() {
+        return paused;
+    }
+
+    /**
+     * NEW: Set how fast game time runs relative to real time
+     *
+     * @param scale 1.0 for real time, below 1 for slow motion, above 1 for fast forward
+     */
+    public synchronized void set_scale(double scale) {
+        if (!(scale > 0.0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("Clock scale must be a positive number");
+        }
+        require_tickable();
+        tick();
+        this.scale = scale;
+    }
+
+    public synchronized double get_scale() {
+        return scale;
+    }
+
+    public boolean is_virtual() {
+        return virtual;
+    }
+}
@@ -0,0 +1,107 @@
+package utilities;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+
+/**
+ * NEW: Process-wide cache of decoded image resources.
+ *
+ * Every image is decoded at most once. Startup decodes groups of images
+ * on worker threads ahead of time; a panel asking for an image that is
+ * still being decoded waits for that decode instead of starting another,
+ * and one nobody preloaded is decoded on the caller's thread. Decoded
+ * images are shared, so callers must not draw into them.
+ */
+public final class ImageAssets {
+    public static final String MENU_GROUP = "menu";
+    public static final String GAME_GROUP = "game";
+    public static final String ITEM_GROUP = "items";
+
+    private static final Logger LOGGER = Logger.getLogger(ImageAssets.class.getName());
+    private static final Map<String, CompletableFuture<BufferedImage>> IMAGES = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<Void>> GROUPS = new ConcurrentHashMap<>();
+
+    private ImageAssets() {
+    }
+
+    /**
+     * NEW: Decoded image for a classpath resource, decoding it now if no one has
+     *
+     * @param resourcePath Classpath path such as "images/tiles/floor01.png"
+     * @return The image, or null if it is missing or cannot be decoded
+     */
+    public static BufferedImage get(String resourcePath) {
+        if (resourcePath == null) return null;
+        CompletableFuture<BufferedImage> image = IMAGES.get(resourcePath);
+        if (image == null) {
+            CompletableFuture<BufferedImage> mine = new CompletableFuture<>();
+            image = IMAGES.putIfAbsent(resourcePath, mine);
+            if (image == null) {
+                mine.complete(decode(resourcePath));
+                image = mine;
+            }
+        }
+        return image.join();
+    }
+
+    /**
+     * NEW: Start decoding a named group of images on an executor
+     *
+     * @param group Group name, for {@link #group(String)}
+     * @param resourcePaths Images in the group
+     * @param executor Threads to decode on
+     * @return Future completed once every image in the group is decoded
+     */
+    public static CompletableFuture<Void> preload(String group, List<String> resourcePaths, Executor executor) {
+        List<CompletableFuture<BufferedImage>> decodes = new ArrayList<>(resourcePaths.size());
+        for (String path : resourcePaths) {
+            CompletableFuture<BufferedImage> mine = new CompletableFuture<>();
+            CompletableFuture<BufferedImage> existing = IMAGES.putIfAbsent(path, mine);
+            if (existing != null) {
+                decodes.add(existing);
+            } else {
+                executor.execute(() -> mine.complete(decode(path)));
+                decodes.add(mine);
+            }
+        }
+        CompletableFuture<Void> done = CompletableFuture.allOf(decodes.toArray(new CompletableFuture[0]));
+        GROUPS.put(group, done);
+        return done;
+    }
+
+    /**
+     * NEW: Future for a preloaded group; already complete if the group was never preloaded
+     */
+    public static CompletableFuture<Void> group(String group) {
+        return GROUPS.getOrDefault(group, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * NEW: Number of images decoded or being decoded
+     */
+    public static int size() {
+        return IMAGES.size();
+    }
+
+    private static BufferedImage decode(String resourcePath) {
+        try (InputStream in = ImageAssets.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                LOGGER.warning("Image not found: " + resourcePath);
+                return null;
+            }
+            return ImageIO.read(in);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Failed to decode image: " + resourcePath + " - " + e.getMessage());
+            return null;
+        }
+    }
+}
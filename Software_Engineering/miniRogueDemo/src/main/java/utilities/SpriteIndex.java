@@ -0,0 +1,201 @@
+package utilities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * NEW: Resolves weapon, armor and item names to integer sprite ids once, so
+ * drawing an item is an array lookup instead of string matching.
+ *
+ * Ids name image resources and are handed out by a process-wide registry
+ * that only ever grows, so an id stays valid across configuration reloads
+ * and items created before a reload keep drawing. The name rules (weapon
+ * mappings with their pattern fallbacks, and the item icon keywords) run
+ * once per distinct name; the equipment catalog runs them for every
+ * prototype and known loot item when it is built.
+ */
+public final class SpriteIndex {
+    public static final int NONE = -1;
+    public static final int UNRESOLVED = -2;
+    public static final String WEAPON_IMAGE_DIR = "images/weapons/";
+    public static final String ITEM_IMAGE_DIR = "images/items/";
+
+    private static final List<String> PATHS = new ArrayList<>();
+    private static final Map<String, Integer> IDS = new HashMap<>();
+
+    // Icon keywords for consumables and key items: every keyword must appear in the name
+    private static final String[][] ITEM_ICONS = {
+        {"potion_ruby.png", "health", "potion"},
+        {"mana_blue.png", "mana", "potion"},
+        {"magic_scroll.png", "experience", "scroll"},
+        {"lamp.png", "lamp"},
+        {"invisibility_cloak.png", "vanish", "cloak"},
+        {"swift_winds.png", "swift", "winds"},
+        {"upgradeCrystal.png", "crystal"},
+        {"key.png", "floor", "key"},
+        {"undying_amulet.png", "immortality", "amulet"},
+    };
+    private static final String[] PATTERN_CATEGORIES = {"sword_patterns", "axe_patterns", "bow_patterns", "magic_patterns"};
+
+    private final Map<String, Object> exact;
+    private final Pattern staffPattern;
+    private final String staffTemplate;
+    private final Map<String, Object> fallbacks;
+    private final Map<String, Object> generic;
+    private final Map<String, Integer> weaponIds = new ConcurrentHashMap<>();
+    private final Map<String, Integer> itemIds = new ConcurrentHashMap<>();
+
+    /**
+     * NEW: Constructor for SpriteIndex
+     *
+     * @param weaponMappings Parsed weapon_mappings.json
+     */
+    public SpriteIndex(ConfigTable weaponMappings) {
+        this.exact = section(weaponMappings.get("weapon_mappings"));
+        this.fallbacks = section(weaponMappings.get("fallback_mappings"));
+        this.generic = section(fallbacks.get("generic_patterns"));
+        Map<String, Object> staff = section(fallbacks.get("staff_patterns"));
+        Object pattern = staff.get("pattern");
+        Object template = staff.get("template");
+        if (pattern instanceof String && template instanceof String) {
+            this.staffPattern = Pattern.compile((String) pattern, Pattern.CASE_INSENSITIVE);
+            this.staffTemplate = (String) template;
+        } else {
+            this.staffPattern = null;
+            this.staffTemplate = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : new HashMap<>();
+    }
+
+    /**
+     * NEW: Id for an image resource path, registering it on first use
+     *
+     * @param resourcePath Classpath path of the image, or null
+     * @return Sprite id, or NONE for a null path
+     */
+    public static synchronized int path_sprite(String resourcePath) {
+        if (resourcePath == null) return NONE;
+        Integer id = IDS.get(resourcePath);
+        if (id == null) {
+            id = PATHS.size();
+            PATHS.add(resourcePath);
+            IDS.put(resourcePath, id);
+        }
+        return id;
+    }
+
+    /**
+     * NEW: Image resource path for a sprite id
+     *
+     * @return Classpath path, or null for NONE or an unknown id
+     */
+    public static synchronized String path_of(int id) {
+        return id >= 0 && id < PATHS.size() ? PATHS.get(id) : null;
+    }
+
+    /**
+     * NEW: Number of sprite ids handed out so far
+     */
+    public static synchronized int sprite_count() {
+        return PATHS.size();
+    }
+
+    /**
+     * NEW: Sprite drawn for a weapon held or swung, resolved by name
+     *
+     * @param weaponName Display name, any case
+     * @return Sprite id, or NONE if no mapping or fallback matches
+     */
+    public int weapon_sprite(String weaponName) {
+        if (weaponName == null) return NONE;
+        Integer id = weaponIds.get(weaponName);
+        if (id == null) {
+            String path = weapon_path(weaponName.toLowerCase(Locale.ROOT).trim());
+            id = path != null ? path_sprite(WEAPON_IMAGE_DIR + path) : NONE;
+            weaponIds.put(weaponName, id);
+        }
+        return id;
+    }
+
+    /**
+     * NEW: Icon for a consumable or key item, resolved by name
+     *
+     * @param itemName Display name, any case
+     * @return Sprite id, or NONE if no icon rule matches
+     */
+    public int item_sprite(String itemName) {
+        if (itemName == null) return NONE;
+        Integer id = itemIds.get(itemName);
+        if (id == null) {
+            String file = item_icon(itemName.toLowerCase(Locale.ROOT));
+            id = file != null ? path_sprite(ITEM_IMAGE_DIR + file) : NONE;
+            itemIds.put(itemName, id);
+        }
+        return id;
+    }
+
+    private static String item_icon(String name) {
+        for (String[] rule : ITEM_ICONS) {
+            boolean match = true;
+            for (int k = 1; k < rule.length && match; k++) {
+                match = name.contains(rule[k]);
+            }
+            if (match) return rule[0];
+        }
+        return null;
+    }
+
+    /**
+     * NEW: Weapon image path relative to the weapon image directory. Tries an
+     * exact mapping, then the named patterns, then generic keywords.
+     *
+     * @param weaponName The normalized (lower case, trimmed) weapon name
+     * @return Relative image path, or null if nothing matches
+     */
+    public String weapon_path(String weaponName) {
+        // Step 1: Try exact match from configuration
+        for (Object category : exact.values()) {
+            Map<String, Object> weapons = section(category);
+            if (weapons.containsKey(weaponName)) {
+                Object result = weapons.get(weaponName);
+                return result instanceof String ? (String) result : null;
+            }
+        }
+
+        // Step 2: Try intelligent fallback based on weapon type and naming patterns
+        if (staffPattern != null) {
+            Matcher matcher = staffPattern.matcher(weaponName);
+            if (matcher.find()) {
+                return staffTemplate.replace("{0}", matcher.group(1));
+            }
+        }
+        for (String category : PATTERN_CATEGORIES) {
+            String match = keyword_match(section(fallbacks.get(category)), weaponName);
+            if (match != null) return match.isEmpty() ? null : match;
+        }
+
+        // Step 3: Try generic type-based fallback
+        String match = keyword_match(generic, weaponName);
+        return match == null || match.isEmpty() ? null : match;
+    }
+
+    // First keyword found in the name; "" when it maps to something that is not a path
+    private static String keyword_match(Map<String, Object> patterns, String weaponName) {
+        for (Map.Entry<String, Object> pattern : patterns.entrySet()) {
+            if (weaponName.contains(pattern.getKey())) {
+                return pattern.getValue() instanceof String ? (String) pattern.getValue() : "";
+            }
+        }
+        return null;
+    }
+}
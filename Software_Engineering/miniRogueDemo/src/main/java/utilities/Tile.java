@@ -4,6 +4,7 @@ import enums.TileType;
 import model.characters.Character;
 import model.items.Item;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -13,7 +14,9 @@ import java.util.List;
 public class Tile {
     private final TileType tileType;
     private final Position position;
-    private final List<Item> items;
+    // NEW: Immutable item list, replaced on every change so readers on other threads
+    // (the EDT drawing items) never see it mid-update; empty tiles share one empty list
+    private volatile List<Item> items;
     private boolean explored;
 
     /**
@@ -25,7 +28,7 @@ public class Tile {
     public Tile(TileType tileType, Position position) {
         this.tileType = tileType;
         this.position = position;
-        this.items = new ArrayList<>();
+        this.items = Collections.emptyList();
         this.explored = false;
     }
 
@@ -61,9 +64,12 @@ public class Tile {
      *
      * @param item The Item to add
      */
-    public void add_item(Item item) {
+    public synchronized void add_item(Item item) {
         if (item != null) {
-            items.add(item);
+            List<Item> next = new ArrayList<>(items.size() + 1);
+            next.addAll(items);
+            next.add(item);
+            items = Collections.unmodifiableList(next);
         }
     }
 
@@ -73,8 +79,19 @@ public class Tile {
      * @param item The Item to remove
      * @return true if item was removed, false if not found
      */
-    public boolean remove_item(Item item) {
-        return items.remove(item);
+    public synchronized boolean remove_item(Item item) {
+        int index = items.indexOf(item);
+        if (index < 0) {
+            return false;
+        }
+        if (items.size() == 1) {
+            items = Collections.emptyList();
+        } else {
+            List<Item> next = new ArrayList<>(items);
+            next.remove(index);
+            items = Collections.unmodifiableList(next);
+        }
+        return true;
     }
 
     /**
@@ -86,6 +103,27 @@ public class Tile {
         return new ArrayList<>(items);
     }
 
+    /**
+     * NEW: Get the items on this tile without copying. The list is an
+     * immutable snapshot: later changes replace it rather than alter it, so
+     * it is safe to read from any thread and to iterate while removing items
+     * from the tile.
+     *
+     * @return Unmodifiable snapshot of the items on this tile
+     */
+    public List<Item> get_items_view() {
+        return items;
+    }
+
+    /**
+     * NEW: Get the number of items on this tile
+     *
+     * @return Item count
+     */
+    public int get_item_count() {
+        return items.size();
+    }
+
     /**
      * MANDATORY: Check if tile has any items
      *
@@ -98,8 +136,8 @@ public class Tile {
     /**
      * MANDATORY: Clear all items from this tile
      */
-    public void clear_items() {
-        items.clear();
+    public synchronized void clear_items() {
+        items = Collections.emptyList();
     }
 
     /**
@@ -130,6 +168,6 @@ public class Tile {
         return String.format("Tile[%s at %s, items=%d]",
                 tileType.get_type_name(),
                 position.toString(),
-                items.size());
+                get_item_count());
     }
 } 
\ No newline at end of file
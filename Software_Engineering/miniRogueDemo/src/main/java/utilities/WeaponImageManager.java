@@ -1,18 +1,16 @@
 package utilities;
 
+import model.equipment.EquipmentCatalog;
+import model.equipment.Weapon;
+
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.logging.Logger;
-import java.util.logging.Level;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
-import javax.imageio.ImageIO;
 
 /**
  * Manages weapon image loading and mapping.
- * Uses ConfigurationManager for weapon mappings and provides centralized image caching.
+ * Names are resolved to sprite ids by SpriteIndex (once per name); images are
+ * cached in an array indexed by sprite id, so a draw is an array lookup.
  * Follows OOD principles: Single Responsibility, Singleton Pattern, DRY.
  */
 public class WeaponImageManager {
@@ -20,14 +18,16 @@ public class WeaponImageManager {
     private static final Logger LOGGER = Logger.getLogger(WeaponImageManager.class.getName());
     private static WeaponImageManager instance;
     
-    private final Map<String, BufferedImage> imageCache;
+    private BufferedImage[] sprites; // Indexed by sprite id
+    private boolean[] missing; // Sprite ids whose image could not be loaded
     private final ConfigurationManager configManager;
     
     /**
      * Private constructor for singleton pattern
      */
     private WeaponImageManager() {
-        this.imageCache = new HashMap<>();
+        this.sprites = new BufferedImage[64];
+        this.missing = new boolean[64];
         this.configManager = ConfigurationManager.getInstance();
     }
     
@@ -35,7 +35,7 @@ public class WeaponImageManager {
      * Get singleton instance
      * @return WeaponImageManager instance
      */
-    public static WeaponImageManager getInstance() {
+    public static synchronized WeaponImageManager getInstance() {
         if (instance == null) {
             instance = new WeaponImageManager();
         }
@@ -52,180 +52,80 @@ public class WeaponImageManager {
             return null;
         }
         
-        String normalizedName = weaponName.toLowerCase().trim();
-        String imagePath = getWeaponImagePath(normalizedName);
-        
-        if (imagePath == null) {
+        int spriteId = EquipmentCatalog.current().get_sprites().weapon_sprite(weaponName);
+        if (spriteId == SpriteIndex.NONE) {
             LOGGER.warning("No image path found for weapon: " + weaponName);
             return null;
         }
         
-        return loadImage(imagePath);
+        return getSprite(spriteId);
     }
     
     /**
-     * Get weapon image path for a given weapon name
-     * @param weaponName The normalized weapon name
-     * @return Image file path or null if not found
+     * NEW: Get the held/swung image for a weapon from its precompiled sprite id
+     * @param weapon The weapon
+     * @return BufferedImage for the weapon, or null if it has none
      */
-    public String getWeaponImagePath(String weaponName) {
-        // Step 1: Try exact match from configuration
-        String exactMatch = getExactWeaponMatch(weaponName);
-        if (exactMatch != null) return exactMatch;
-        
-        // Step 2: Try intelligent fallback based on weapon type and naming patterns
-        String fallbackMatch = getIntelligentFallback(weaponName);
-        if (fallbackMatch != null) return fallbackMatch;
-        
-        // Step 3: Try generic type-based fallback
-        return getGenericTypeFallback(weaponName);
+    public BufferedImage getWeaponImage(Weapon weapon) {
+        return weapon == null ? null : getSprite(weapon.get_held_sprite_id());
     }
     
     /**
-     * Get exact weapon match from configuration
+     * Get weapon image path for a given weapon name
      * @param weaponName The normalized weapon name
-     * @return Image path or null if not found
+     * @return Image file path or null if not found
      */
-    private String getExactWeaponMatch(String weaponName) {
-        Object weaponMappingsObj = configManager.getWeaponMapping("weapon_mappings", new HashMap<>());
-        if (!(weaponMappingsObj instanceof Map)) {
-            return null;
-        }
-        
-        @SuppressWarnings("unchecked")
-        Map<String, Object> weaponMappings = (Map<String, Object>) weaponMappingsObj;
-        
-        // Check each weapon category
-        for (String category : weaponMappings.keySet()) {
-            Object categoryObj = weaponMappings.get(category);
-            if (!(categoryObj instanceof Map)) {
-                continue;
-            }
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> categoryWeapons = (Map<String, Object>) categoryObj;
-            if (categoryWeapons.containsKey(weaponName)) {
-                Object result = categoryWeapons.get(weaponName);
-                return result instanceof String ? (String) result : null;
-            }
-        }
-        
-        return null;
+    public String getWeaponImagePath(String weaponName) {
+        return EquipmentCatalog.current().get_sprites().weapon_path(weaponName);
     }
     
     /**
-     * Get intelligent fallback based on weapon patterns
-     * @param weaponName The normalized weapon name
-     * @return Image path or null if not found
+     * NEW: Get the image for a sprite id, loading it on first use
+     * @param spriteId Id from SpriteIndex, an item or a prototype
+     * @return BufferedImage or null if the id has no loadable image
      */
-    private String getIntelligentFallback(String weaponName) {
-        Object fallbackMappingsObj = configManager.getWeaponMapping("fallback_mappings", new HashMap<>());
-        if (!(fallbackMappingsObj instanceof Map)) {
+    public BufferedImage getSprite(int spriteId) {
+        if (spriteId < 0) {
             return null;
         }
-        
-        @SuppressWarnings("unchecked")
-        Map<String, Object> fallbackMappings = (Map<String, Object>) fallbackMappingsObj;
-        
-        // Check staff patterns
-        Object staffPatternsObj = fallbackMappings.get("staff_patterns");
-        if (staffPatternsObj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> staffPatterns = (Map<String, Object>) staffPatternsObj;
-            Object patternObj = staffPatterns.get("pattern");
-            Object templateObj = staffPatterns.get("template");
-            
-            if (patternObj instanceof String && templateObj instanceof String) {
-                String pattern = (String) patternObj;
-                String template = (String) templateObj;
-                
-                Pattern regex = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
-                Matcher matcher = regex.matcher(weaponName);
-                if (matcher.find()) {
-                    String number = matcher.group(1);
-                    return template.replace("{0}", number);
-                }
-            }
+        if (spriteId >= sprites.length) {
+            int size = Math.max(spriteId + 1, sprites.length * 2);
+            sprites = Arrays.copyOf(sprites, size);
+            missing = Arrays.copyOf(missing, size);
         }
-        
-        // Check other pattern categories
-        String[] patternCategories = {"sword_patterns", "axe_patterns", "bow_patterns", "magic_patterns"};
-        for (String category : patternCategories) {
-            Object patternsObj = fallbackMappings.get(category);
-            if (patternsObj instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> patterns = (Map<String, Object>) patternsObj;
-                for (String key : patterns.keySet()) {
-                    if (weaponName.contains(key)) {
-                        Object result = patterns.get(key);
-                        return result instanceof String ? (String) result : null;
-                    }
-                }
-            }
+        BufferedImage image = sprites[spriteId];
+        if (image == null && !missing[spriteId]) {
+            image = loadImage(SpriteIndex.path_of(spriteId));
+            sprites[spriteId] = image;
+            missing[spriteId] = image == null; // Do not retry a broken image every frame
         }
-        
-        return null;
-    }
-    
-    /**
-     * Get generic type-based fallback
-     * @param weaponName The normalized weapon name
-     * @return Image path or null if not found
-     */
-    private String getGenericTypeFallback(String weaponName) {
-        Object fallbackMappingsObj = configManager.getWeaponMapping("fallback_mappings", new HashMap<>());
-        if (!(fallbackMappingsObj instanceof Map)) {
-            return null;
-        }
-        
-        @SuppressWarnings("unchecked")
-        Map<String, Object> fallbackMappings = (Map<String, Object>) fallbackMappingsObj;
-        
-        Object genericPatternsObj = fallbackMappings.get("generic_patterns");
-        if (genericPatternsObj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> genericPatterns = (Map<String, Object>) genericPatternsObj;
-            for (String key : genericPatterns.keySet()) {
-                if (weaponName.contains(key)) {
-                    Object result = genericPatterns.get(key);
-                    return result instanceof String ? (String) result : null;
-                }
-            }
-        }
-        
-        return null;
+        return image;
     }
     
     /**
      * Load image from path
-     * @param imagePath The path to the image
+     * @param imagePath Classpath path of the image
      * @return BufferedImage or null if loading failed
      */
     private BufferedImage loadImage(String imagePath) {
-        if (imageCache.containsKey(imagePath)) {
-            return imageCache.get(imagePath);
-        }
-        
-        try {
-            BufferedImage image = ImageIO.read(
-                getClass().getClassLoader().getResourceAsStream("images/weapons/" + imagePath)
-            );
-            if (image != null) {
-                imageCache.put(imagePath, image);
-                LOGGER.fine("Loaded weapon image: " + imagePath);
-            }
-            return image;
-        } catch (IOException | IllegalArgumentException e) {
-            LOGGER.warning("Failed to load weapon image: " + imagePath + " - " + e.getMessage());
+        if (imagePath == null) {
             return null;
         }
+        BufferedImage image = ImageAssets.get(imagePath); // Shares the startup decode when there was one
+        if (image != null) {
+            LOGGER.fine("Loaded sprite image: " + imagePath);
+        } else {
+            LOGGER.warning("Failed to load sprite image: " + imagePath);
+        }
+        return image;
     }
     
     /**
      * Clear the image cache
      */
     public void clearCache() {
-        imageCache.clear();
+        Arrays.fill(sprites, null);
+        Arrays.fill(missing, false);
         LOGGER.info("Weapon image cache cleared");
     }
     
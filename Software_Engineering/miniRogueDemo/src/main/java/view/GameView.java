@@ -68,23 +68,39 @@ private Point lastMousePosition = new Point(0,0);
     * MANDATORY: Constructor for GameView
 */
 public GameView() {
+this(load_pixel_font());
+}
+
+/**
+    * NEW: Constructor for GameView with a font loaded ahead of time
+    * 
+    * @param pixelFont Font for all panels, from load_pixel_font()
+*/
+public GameView(Font pixelFont) {
 this.cardLayout = new CardLayout();
 this.mainPanel = new JPanel(cardLayout);
 this.currentState = GameState.MAIN_MENU;
-// Load pixel font
-try {
-    java.io.InputStream is = getClass().getClassLoader().getResourceAsStream("fonts/PressStart2P-Regular.ttf");
+this.pixelFont = pixelFont;
+initialize_components();
+setup_window();
+setup_input_handling();
+}
+
+/**
+    * NEW: Load the pixel font, falling back to a monospaced font. Safe to
+    * call off the EDT, so startup can load it while other work runs.
+    * 
+    * @return The 16pt game font
+*/
+public static Font load_pixel_font() {
+try (java.io.InputStream is = GameView.class.getClassLoader().getResourceAsStream("fonts/PressStart2P-Regular.ttf")) {
     if (is != null) {
-        pixelFont = Font.createFont(Font.TRUETYPE_FONT, is).deriveFont(16f);
-    } else {
-        pixelFont = new Font("Monospaced", Font.BOLD, 16);
+        return Font.createFont(Font.TRUETYPE_FONT, is).deriveFont(16f);
     }
 } catch (Exception e) {
-    pixelFont = new Font("Monospaced", Font.BOLD, 16);
+    // Fall through to the default font
 }
-initialize_components();
-setup_window();
-setup_input_handling();
+return new Font("Monospaced", Font.BOLD, 16);
 }
 
 /**
@@ -609,6 +625,16 @@ case "STATS_UPDATED":
 public void keyPressed(KeyEvent e) {
     if (controller == null) return;
 
+    // Replay playback takes the keyboard until it is closed with Escape
+    if (gamePanel.is_replaying()) {
+        if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
+            stop_replay();
+        } else {
+            gamePanel.handle_replay_key(e.getKeyCode());
+        }
+        return;
+    }
+
     // Debug mode toggle (O key)
     if (currentState == GameState.PLAYING && e.getKeyCode() == KeyEvent.VK_O) {
         debugMode = !debugMode;
@@ -1038,6 +1064,27 @@ public GamePanel get_game_panel() {
 return gamePanel;
 }
 
+/**
+    * NEW: Show a recorded run on the game panel
+    * 
+    * @param replay Opened replay; closed when playback stops
+*/
+public void show_replay(controller.replay.ReplayPlayer replay) {
+    cardLayout.show(mainPanel, "GAME");
+    gamePanel.start_replay(replay);
+    requestFocusInWindow();
+}
+
+/**
+    * NEW: Close the replay and go back to the menu
+*/
+public void stop_replay() {
+    gamePanel.stop_replay();
+    cardLayout.show(mainPanel, "MENU");
+    menuPanel.update_display();
+    requestFocusInWindow();
+}
+
 
 /**
     * MANDATORY: Show the main window
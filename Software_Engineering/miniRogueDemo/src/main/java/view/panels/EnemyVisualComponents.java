@@ -0,0 +1,131 @@
+package view.panels;
+
+import model.characters.Enemy;
+import model.entity.EntityStore;
+import model.gameLogic.AttackVisualData;
+
+/**
+ * NEW: Per-enemy attack visuals stored as columns on the game's EntityStore.
+ *
+ * Each enemy on the floor owns a row in the store, so these values are
+ * dropped together with the enemy when it dies or the floor changes instead
+ * of piling up in maps keyed by enemies that no longer exist. Calls for an
+ * enemy without a live row (not yet added, or already removed) are ignored.
+ */
+class EnemyVisualComponents {
+    private final EntityStore store;
+    private final EntityStore.LongColumn attackTime;
+    private final EntityStore.DoubleColumn attackAngle;
+    private final EntityStore.ObjectColumn<AttackVisualData> swingData;
+    private final EntityStore.ObjectColumn<AttackVisualData> bowData;
+    private final EntityStore.LongColumn windUpStart;
+
+    /**
+     * NEW: Constructor for EnemyVisualComponents
+     *
+     * @param store Store holding one row per enemy on the current floor
+     */
+    EnemyVisualComponents(EntityStore store) {
+        this.store = store;
+        this.attackTime = store.add_column(new EntityStore.LongColumn(0L));
+        this.attackAngle = store.add_column(new EntityStore.DoubleColumn(0.0));
+        this.swingData = store.add_column(new EntityStore.ObjectColumn<>());
+        this.bowData = store.add_column(new EntityStore.ObjectColumn<>());
+        this.windUpStart = store.add_column(new EntityStore.LongColumn(0L));
+    }
+
+    boolean is_for(EntityStore other) {
+        return store == other;
+    }
+
+    void show_attack(Enemy enemy, double angle, long now) {
+        synchronized (store) {
+            int row = store.index_of(enemy.get_entity_id());
+            if (row >= 0) {
+                attackTime.set(row, now);
+                attackAngle.set(row, angle);
+            }
+        }
+    }
+
+    void show_swing(Enemy enemy, AttackVisualData data) {
+        synchronized (store) {
+            int row = store.index_of(enemy.get_entity_id());
+            if (row >= 0) {
+                swingData.set(row, data);
+            }
+        }
+    }
+
+    void show_bow(Enemy enemy, AttackVisualData data) {
+        synchronized (store) {
+            int row = store.index_of(enemy.get_entity_id());
+            if (row >= 0) {
+                bowData.set(row, data);
+            }
+        }
+    }
+
+    void start_wind_up(Enemy enemy, long now) {
+        synchronized (store) {
+            int row = store.index_of(enemy.get_entity_id());
+            if (row >= 0) {
+                windUpStart.set(row, now);
+            }
+        }
+    }
+
+    AttackVisualData get_swing(Enemy enemy) {
+        synchronized (store) {
+            int row = store.index_of(enemy.get_entity_id());
+            return row >= 0 ? swingData.get(row) : null;
+        }
+    }
+
+    AttackVisualData get_bow(Enemy enemy) {
+        synchronized (store) {
+            int row = store.index_of(enemy.get_entity_id());
+            return row >= 0 ? bowData.get(row) : null;
+        }
+    }
+
+    /**
+     * NEW: Wind-up warning start time
+     *
+     * @param enemy Enemy to look up
+     * @return Start time in ms, or 0 when no warning is showing
+     */
+    long get_wind_up_start(Enemy enemy) {
+        synchronized (store) {
+            int row = store.index_of(enemy.get_entity_id());
+            return row >= 0 ? windUpStart.get(row) : 0L;
+        }
+    }
+
+    /**
+     * NEW: Expiry system, run once per frame. Walks the visual columns and
+     * drops swing and bow data whose animation has finished and wind-up
+     * warnings older than the warning duration.
+     *
+     * @param now Current time in ms
+     * @param windUpWarningDuration How long a wind-up warning is shown
+     */
+    void expire(long now, long windUpWarningDuration) {
+        synchronized (store) {
+            for (int row = 0, n = store.size(); row < n; row++) {
+                AttackVisualData swing = swingData.get(row);
+                if (swing != null && !swing.isSwingActive(now)) {
+                    swingData.set(row, null);
+                }
+                AttackVisualData bow = bowData.get(row);
+                if (bow != null && !bow.isSwingActive(now)) {
+                    bowData.set(row, null);
+                }
+                long windUp = windUpStart.get(row);
+                if (windUp != 0L && now - windUp >= windUpWarningDuration) {
+                    windUpStart.set(row, 0L);
+                }
+            }
+        }
+    }
+}
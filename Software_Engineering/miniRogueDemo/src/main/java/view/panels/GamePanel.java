@@ -19,8 +19,8 @@ import java.util.HashSet;
 import java.util.Set;
 import javax.imageio.ImageIO;
 import java.util.List;
-import java.util.HashMap;
 import utilities.WeaponImageManager;
+import utilities.ImageAssets;
 
 
 /**
@@ -29,6 +29,19 @@ import utilities.WeaponImageManager;
 */
 public class GamePanel extends JPanel {
 
+// NEW: Images this panel draws, decoded ahead of time at startup
+public static final java.util.List<String> PRELOAD_IMAGES = java.util.List.of(
+    "images/player/ArmorUpgrader.png", "images/player/Dead.png", "images/player/WeaponUpgrader.png",
+    "images/player/boy_down_1.png", "images/player/boy_down_2.png", "images/player/boy_left_1.png",
+    "images/player/boy_left_2.png", "images/player/boy_right_1.png", "images/player/boy_right_2.png",
+    "images/player/boy_up_1.png", "images/player/boy_up_2.png", "images/player/mage_spritesheet.png",
+    "images/player/ranger_sheet.png", "images/player/rogue_sheet.png", "images/player/warrior_sheet.png",
+    "images/states/Clarity.png", "images/states/Swiftness.png", "images/states/Undying.png", "images/states/Vanish.png",
+    "images/stats/Attack.png", "images/stats/Defense.png", "images/stats/Health.png", "images/stats/Level_Points.png",
+    "images/stats/Mana.png", "images/stats/Range.png", "images/stats/Speed.png",
+    "images/tiles/BonusRoom.png", "images/tiles/BossRoom.png", "images/tiles/boss_room01.png",
+    "images/tiles/entrance01.png", "images/tiles/floor01.png", "images/tiles/stairs01.png", "images/tiles/wall01.png");
+
 private GameView parentView;
 private Map currentMap;
 private Player player;
@@ -40,6 +53,11 @@ private Rectangle quitButtonBounds = new Rectangle();
 private boolean debugMode = false;
 private Timer repaintTimer;
 private LogBoxPanel logBoxPanel;
+// NEW: Replay playback; while a replay is open the panel shows its frames instead of the live game
+private controller.replay.ReplayPlayer replayPlayer;
+private controller.replay.ReplayFrame replayFrame;
+private String[] replayShownMessages;
+private final view.renderers.ReplayRenderer replayRenderer = new view.renderers.ReplayRenderer();
 private boolean inventoryOverlay = false;
 private int pauseHoveredIndex = -1;
 
@@ -51,17 +69,14 @@ private utilities.Position projectileEnd = null;
 private long attackVisualTime = 0;
 private model.gameLogic.AttackVisualData lastAttackData = null;
 
-    // Add fields for enemy attack visuals
-    private java.util.Map<model.characters.Enemy, Long> enemyAttackTimes = new java.util.HashMap<>();
-    private java.util.Map<model.characters.Enemy, Double> enemyAttackAngles = new java.util.HashMap<>();
-    private java.util.Map<model.characters.Enemy, model.gameLogic.AttackVisualData> enemySwingData = new java.util.HashMap<>();
+    // Enemy attack visuals (swing, Ranger bow, wind-up warning) live in columns
+    // on the game's entity store, so they go away with the enemy
+    private EnemyVisualComponents enemyVisuals = null;
     
     // Ranger bow rendering system (for projectile attacks)
-    private java.util.Map<model.characters.Enemy, model.gameLogic.AttackVisualData> enemyRangerBowData = new java.util.HashMap<>();
     private model.gameLogic.AttackVisualData playerRangerBowData = null;
     
-    // Add field for enemy wind-up warning (cyan blinking on enemy border)
-    private java.util.Map<model.characters.Enemy, Long> enemyWindUpStartTimes = new java.util.HashMap<>();
+    // Enemy wind-up warning (cyan blinking on enemy border)
     private static final long ENEMY_WIND_UP_WARNING_DURATION = 500; // 0.5 seconds
 
     // Damage flash effect fields
@@ -83,7 +98,6 @@ private model.gameLogic.AttackVisualData lastAttackData = null;
     private java.awt.image.BufferedImage vanishImage = null;
     
     // Item image cache
-    private HashMap<String, java.awt.image.BufferedImage> itemIconCache = new HashMap<>();
     private WeaponImageManager weaponImageManager = WeaponImageManager.getInstance();
     
     // Stats panel images
@@ -100,6 +114,7 @@ private model.gameLogic.AttackVisualData lastAttackData = null;
 
     //Tiles
     private java.awt.image.BufferedImage tileFloor = null;
+    private boolean spritesLoaded = false;
     private java.awt.image.BufferedImage tileWall = null;
     private java.awt.image.BufferedImage tileEntrance = null;
     private java.awt.image.BufferedImage tileBossRoom = null;
@@ -107,6 +122,10 @@ private model.gameLogic.AttackVisualData lastAttackData = null;
     private java.awt.image.BufferedImage bonusRoomImage = null;
     private java.awt.image.BufferedImage bossRoomImage = null;
     
+    // Explored map layer and minimap, both fed by the map's fog change feed
+    private view.renderers.MapLayerCache mapLayerCache = null;
+    private view.renderers.MinimapRenderer minimapRenderer = null;
+    
     // Player sprite images for animation (8 total: 2 frames x 4 directions) - DEFAULT SPRITES
     private java.awt.image.BufferedImage playerWalkUp1 = null;
     private java.awt.image.BufferedImage playerWalkUp2 = null;
@@ -237,17 +256,16 @@ public GamePanel(GameView parentView) {
     enableEvents(java.awt.AWTEvent.KEY_EVENT_MASK); // Explicitly enable key events for debug class switching
     enableEvents(java.awt.AWTEvent.MOUSE_EVENT_MASK); // Explicitly enable mouse events
     
-    // Load state effect images
-    loadStateImages();
-    
-    // Load player sprite images
-    loadPlayerSprites();
-    
-    // Load class-specific sprite images
-    loadWarriorSprites();
-    loadRogueSprites();
-    loadRangerSprites();
-    loadMageSprites();
+    // Sprites are decoded off the EDT during startup; pick them up once they are ready
+    java.util.concurrent.CompletableFuture<Void> gameImages = ImageAssets.group(ImageAssets.GAME_GROUP);
+    if (gameImages.isDone()) {
+        ensure_sprites_loaded();
+    } else {
+        gameImages.whenComplete((done, error) -> SwingUtilities.invokeLater(() -> {
+            ensure_sprites_loaded();
+            repaint();
+        }));
+    }
 
 addMouseMotionListener(new java.awt.event.MouseMotionAdapter() {
     @Override
@@ -277,20 +295,27 @@ addMouseListener(new java.awt.event.MouseAdapter() {
 // Start a timer to repaint at ~60 FPS
 repaintTimer = new Timer(16, new ActionListener() {
     public void actionPerformed(ActionEvent e) {
+        if (replayPlayer != null) {
+            show_replay_frame(replayPlayer.update(System.currentTimeMillis()));
+            repaint();
+            return;
+        }
         // Skip movement updates when paused or in stats navigation - freeze all visual movement
         if (!showPauseOverlay && !movementPaused && player != null && currentMap != null) {
-            player.update_movement(currentMap);
-            // Update camera to keep player centered in white frame
-            updateCamera();
-            // Synchronize enemy movement updates with player
+            // Timers and pushback for every character on the floor, then the player, then
+            // enemies in step with the player; distant enemies are throttled and enemies in
+            // sleeping regions are not updated at all
+            model.gameLogic.GameLogic logic = null;
             try {
-                java.util.List<model.characters.Enemy> enemies = ((model.gameLogic.GameLogic)parentView.get_controller().get_model()).get_current_enemies();
-                if (enemies != null) {
-                    for (model.characters.Enemy enemy : enemies) {
-                        enemy.update_movement();
-                    }
-                }
+                logic = (model.gameLogic.GameLogic)parentView.get_controller().get_model();
             } catch (Exception ex) {}
+            if (logic != null) {
+                logic.update_movement_frame();
+            } else {
+                player.update_movement(currentMap);
+            }
+            // Update camera to keep player centered in white frame
+            updateCamera();
         }
         repaint();
     }
@@ -389,94 +414,74 @@ attackHoldTimer = new Timer(10, new ActionListener() {
 attackHoldTimer.start();
 }
 
+/**
+ * NEW: Load every sprite this panel draws, waiting for the startup decode if it is still running.
+ * Called on the EDT; later calls do nothing. Drops the map layer cache so tiles painted before
+ * the images existed are painted again.
+ */
+public void ensure_sprites_loaded() {
+    if (spritesLoaded) return;
+    ImageAssets.group(ImageAssets.GAME_GROUP).join();
+
+    // Load state effect images
+    loadStateImages();
+    
+    // Load player sprite images
+    loadPlayerSprites();
+    
+    // Load class-specific sprite images
+    loadWarriorSprites();
+    loadRogueSprites();
+    loadRangerSprites();
+    loadMageSprites();
+    spritesLoaded = true;
+
+    if (mapLayerCache != null) {
+        mapLayerCache.dispose();
+        mapLayerCache = null;
+    }
+}
+
 /**
  * Load state effect images from resources
  */
 private void loadStateImages() {
     try {
-        clarityImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/states/Clarity.png"));
-        undyingImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/states/Undying.png"));
-        swiftnessImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/states/Swiftness.png"));
-        vanishImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/states/Vanish.png"));
+        clarityImage = ImageAssets.get("images/states/Clarity.png");
+        undyingImage = ImageAssets.get("images/states/Undying.png");
+        swiftnessImage = ImageAssets.get("images/states/Swiftness.png");
+        vanishImage = ImageAssets.get("images/states/Vanish.png");
         
         // Load stats images
-        healthImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/stats/Health.png"));
-        attackImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/stats/Attack.png"));
-        defenseImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/stats/Defense.png"));
-        rangeImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/stats/Range.png"));
-        speedImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/stats/Speed.png"));
-        manaImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/stats/Mana.png"));
-        levelPointsImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/stats/Level_Points.png"));
-        deadImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/Dead.png"));
-        weaponUpgraderImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/WeaponUpgrader.png"));
-        armorUpgraderImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/ArmorUpgrader.png"));
+        healthImage = ImageAssets.get("images/stats/Health.png");
+        attackImage = ImageAssets.get("images/stats/Attack.png");
+        defenseImage = ImageAssets.get("images/stats/Defense.png");
+        rangeImage = ImageAssets.get("images/stats/Range.png");
+        speedImage = ImageAssets.get("images/stats/Speed.png");
+        manaImage = ImageAssets.get("images/stats/Mana.png");
+        levelPointsImage = ImageAssets.get("images/stats/Level_Points.png");
+        deadImage = ImageAssets.get("images/player/Dead.png");
+        weaponUpgraderImage = ImageAssets.get("images/player/WeaponUpgrader.png");
+        armorUpgraderImage = ImageAssets.get("images/player/ArmorUpgrader.png");
 
         // Load tile images
-        tileFloor = ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/tiles/floor01.png"));
-        tileWall = ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/tiles/wall01.png"));
-        tileEntrance = ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/tiles/entrance01.png"));
-        tileBossRoom = ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/tiles/boss_room01.png"));
-        tileStairs = ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/tiles/stairs01.png"));
-        bonusRoomImage = ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/tiles/BonusRoom.png"));
-        bossRoomImage = ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/tiles/BossRoom.png"));
+        tileFloor = ImageAssets.get("images/tiles/floor01.png");
+        tileWall = ImageAssets.get("images/tiles/wall01.png");
+        tileEntrance = ImageAssets.get("images/tiles/entrance01.png");
+        tileBossRoom = ImageAssets.get("images/tiles/boss_room01.png");
+        tileStairs = ImageAssets.get("images/tiles/stairs01.png");
+        bonusRoomImage = ImageAssets.get("images/tiles/BonusRoom.png");
+        bossRoomImage = ImageAssets.get("images/tiles/BossRoom.png");
     } catch (Exception e) {
         System.err.println("Failed to load state images: " + e.getMessage());
     }
 }
 
 /**
- * Get the appropriate icon image for an item
+ * Get the appropriate icon image for an item from its precompiled sprite id
  */
 private java.awt.image.BufferedImage getIconForItem(model.items.Item item) {
-    String name = item.get_name().toLowerCase();
-    String iconFile = null;
-    
-    // Health potions
-    if (name.contains("health") && name.contains("potion")) {
-        iconFile = "potion_ruby.png";
-    }
-    // Mana potions
-    else if (name.contains("mana") && name.contains("potion")) {
-        iconFile = "mana_blue.png";
-    }
-    // Experience scrolls
-    else if (name.contains("experience") && name.contains("scroll")) {
-        iconFile = "magic_scroll.png";
-    }
-    // Lamp (clarity effect)
-    else if (name.contains("lamp")) {
-        iconFile = "lamp.png";
-    }
-    // Vanish Cloak (invisibility effect)
-    else if (name.contains("vanish") && name.contains("cloak")) {
-        iconFile = "invisibility_cloak.png";
-    }
-    // Swift Winds (speed effect)
-    else if (name.contains("swift") && name.contains("winds")) {
-        iconFile = "swift_winds.png";
-    }
-    // Upgrade crystals
-    else if (name.contains("crystal")) {
-        iconFile = "upgradeCrystal.png";
-    }
-    // Floor Key
-    else if (name.contains("floor") && name.contains("key")) {
-        iconFile = "key.png";
-    }
-    // Immortality amulet
-    else if (name.contains("immortality") && name.contains("amulet")) {
-        iconFile = "undying_amulet.png";
-    }
-    
-    if (iconFile == null) return null;
-    if (itemIconCache.containsKey(iconFile)) return itemIconCache.get(iconFile);
-    try {
-        java.awt.image.BufferedImage img = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/items/" + iconFile));
-        itemIconCache.put(iconFile, img);
-        return img;
-    } catch (java.io.IOException | IllegalArgumentException ex) {
-        return null;
-    }
+    return weaponImageManager.getSprite(item.get_sprite_id());
 }
 
 /**
@@ -487,8 +492,7 @@ private java.awt.image.BufferedImage getIconForItem(model.items.Item item) {
 private java.awt.image.BufferedImage getWeaponImage(model.equipment.Weapon weapon) {
     if (weapon == null) return null;
     
-    String weaponName = weapon.get_name();
-    return weaponImageManager.getWeaponImage(weaponName);
+    return weaponImageManager.getWeaponImage(weapon);
 }
 
 
@@ -502,14 +506,14 @@ private java.awt.image.BufferedImage getWeaponImage(model.equipment.Weapon weapo
  */
 private void loadPlayerSprites() {
     try {
-        playerWalkUp1 = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/boy_up_1.png"));
-        playerWalkUp2 = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/boy_up_2.png"));
-        playerWalkDown1 = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/boy_down_1.png"));
-        playerWalkDown2 = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/boy_down_2.png"));
-        playerWalkLeft1 = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/boy_left_1.png"));
-        playerWalkLeft2 = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/boy_left_2.png"));
-        playerWalkRight1 = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/boy_right_1.png"));
-        playerWalkRight2 = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/player/boy_right_2.png"));
+        playerWalkUp1 = ImageAssets.get("images/player/boy_up_1.png");
+        playerWalkUp2 = ImageAssets.get("images/player/boy_up_2.png");
+        playerWalkDown1 = ImageAssets.get("images/player/boy_down_1.png");
+        playerWalkDown2 = ImageAssets.get("images/player/boy_down_2.png");
+        playerWalkLeft1 = ImageAssets.get("images/player/boy_left_1.png");
+        playerWalkLeft2 = ImageAssets.get("images/player/boy_left_2.png");
+        playerWalkRight1 = ImageAssets.get("images/player/boy_right_1.png");
+        playerWalkRight2 = ImageAssets.get("images/player/boy_right_2.png");
         
         System.out.println("Player sprites loaded successfully");
     } catch (Exception e) {
@@ -527,8 +531,7 @@ private void loadPlayerSprites() {
 private void loadWarriorSprites() {
     try {
         // Load the 60x42 warrior sprite sheet
-        java.awt.image.BufferedImage warriorSheet = javax.imageio.ImageIO.read(
-            getClass().getClassLoader().getResourceAsStream("images/player/warrior_sheet.png"));
+        java.awt.image.BufferedImage warriorSheet = ImageAssets.get("images/player/warrior_sheet.png");
         
         if (warriorSheet != null) {
             // Extract 15x21 sprites based on grid layout
@@ -567,8 +570,7 @@ private void loadWarriorSprites() {
 private void loadRogueSprites() {
     try {
         // Load the rogue sprite sheet
-        java.awt.image.BufferedImage rogueSheet = javax.imageio.ImageIO.read(
-            getClass().getClassLoader().getResourceAsStream("images/player/rogue_sheet.png"));
+        java.awt.image.BufferedImage rogueSheet = ImageAssets.get("images/player/rogue_sheet.png");
         
         if (rogueSheet != null) {
             // Extract 14x20 sprites based on grid layout
@@ -607,8 +609,7 @@ private void loadRogueSprites() {
 private void loadRangerSprites() {
     try {
         // Load the ranger sprite sheet
-        java.awt.image.BufferedImage rangerSheet = javax.imageio.ImageIO.read(
-            getClass().getClassLoader().getResourceAsStream("images/player/ranger_sheet.png"));
+        java.awt.image.BufferedImage rangerSheet = ImageAssets.get("images/player/ranger_sheet.png");
         
         if (rangerSheet != null) {
             // Extract 32x32 sprites based on grid layout
@@ -647,8 +648,7 @@ private void loadRangerSprites() {
 private void loadMageSprites() {
     try {
         // Load the mage sprite sheet
-        java.awt.image.BufferedImage mageSheet = javax.imageio.ImageIO.read(
-            getClass().getClassLoader().getResourceAsStream("images/player/mage_spritesheet.png"));
+        java.awt.image.BufferedImage mageSheet = ImageAssets.get("images/player/mage_spritesheet.png");
         
         if (mageSheet != null) {
             // Extract 32x32 sprites based on grid layout
@@ -1118,6 +1118,149 @@ this.currentMap = map;
 repaint();
 }
 
+/**
+    * NEW: Show a recorded run instead of the live game until stop_replay
+    * 
+    * @param player Opened replay; the panel closes it when the replay stops
+*/
+public void start_replay(controller.replay.ReplayPlayer player) {
+    ensure_sprites_loaded();
+    stop_replay();
+    replayPlayer = player;
+    replayShownMessages = null;
+    logBoxPanel.clearMessages();
+    show_replay_frame(player.get_current());
+    repaint();
+}
+
+/**
+    * NEW: Close the open replay, if any, and clear what it showed
+*/
+public void stop_replay() {
+    if (replayPlayer == null) {
+        return;
+    }
+    try {
+        replayPlayer.close();
+    } catch (java.io.IOException e) {
+        System.err.println("Replay close failed: " + e.getMessage());
+    }
+    replayPlayer = null;
+    replayFrame = null;
+    currentMap = null;
+    logBoxPanel.clearMessages();
+    repaint();
+}
+
+public boolean is_replaying() {
+    return replayPlayer != null;
+}
+
+/**
+    * NEW: Playback keys: space pauses, left/right jump 10 seconds, up/down
+    * change speed, Home/End jump to the start or end
+    * 
+    * @param keyCode Key pressed
+    * @return true if the key was a playback key
+*/
+public boolean handle_replay_key(int keyCode) {
+    if (replayPlayer == null) {
+        return false;
+    }
+    int jump = 10000 / replayPlayer.get_tick_millis();
+    int tick = replayFrame != null ? replayFrame.get_tick() : replayPlayer.get_first_tick();
+    double speed = replayPlayer.get_speed();
+    switch (keyCode) {
+        case java.awt.event.KeyEvent.VK_SPACE:
+            replayPlayer.set_paused(!replayPlayer.is_paused());
+            break;
+        case java.awt.event.KeyEvent.VK_LEFT:
+            show_replay_frame(replayPlayer.seek(tick - jump));
+            break;
+        case java.awt.event.KeyEvent.VK_RIGHT:
+            show_replay_frame(replayPlayer.seek(tick + jump));
+            break;
+        case java.awt.event.KeyEvent.VK_HOME:
+            show_replay_frame(replayPlayer.seek(replayPlayer.get_first_tick()));
+            break;
+        case java.awt.event.KeyEvent.VK_END:
+            show_replay_frame(replayPlayer.seek(replayPlayer.get_last_tick()));
+            break;
+        case java.awt.event.KeyEvent.VK_UP:
+            // 1/4 .. 16 times real time, then as fast as the file can be read
+            replayPlayer.set_speed(speed >= 16 ? controller.replay.ReplayPlayer.UNLIMITED : speed * 2);
+            break;
+        case java.awt.event.KeyEvent.VK_DOWN:
+            replayPlayer.set_speed(Double.isInfinite(speed) ? 16 : Math.max(0.25, speed / 2));
+            break;
+        default:
+            return false;
+    }
+    repaint();
+    return true;
+}
+
+/**
+    * Bring the map, fog, camera and log box in line with a replay frame
+*/
+private void show_replay_frame(controller.replay.ReplayFrame frame) {
+    if (frame == null || frame == replayFrame) {
+        return;
+    }
+    controller.replay.ReplayFrame shown = replayFrame;
+    replayFrame = frame;
+    // The fog only ever gains tiles, so a new floor or a jump back needs a fresh map
+    boolean rebuild = currentMap == null || shown == null || shown.get_layout() != frame.get_layout();
+    if (!rebuild) {
+        long[] before = shown.get_explored();
+        long[] after = frame.get_explored();
+        for (int i = 0; i < before.length && !rebuild; i++) {
+            rebuild = (before[i] & ~after[i]) != 0;
+        }
+    }
+    if (rebuild) {
+        currentMap = frame.get_layout().to_map();
+    }
+    currentMap.get_fog_of_war().reveal_rows(0, frame.get_explored(), frame.get_layout().get_height());
+    currentFloorNumber = frame.get_floor();
+
+    controller.server.WorldSnapshot characters = frame.get_characters();
+    int index = characters.index_of(controller.server.WorldSnapshot.PLAYER_ID);
+    if (index >= 0) {
+        centerCameraOn(characters.get_x(index) / (float) controller.server.WorldSnapshot.QUANTUM,
+                       characters.get_y(index) / (float) controller.server.WorldSnapshot.QUANTUM);
+    }
+    if (frame.get_recent() != replayShownMessages) {
+        replayShownMessages = frame.get_recent();
+        logBoxPanel.clearMessages();
+        for (String message : replayShownMessages) {
+            logBoxPanel.addMessage(message);
+        }
+    }
+}
+
+/**
+    * Render the replay: the recorded floor through the usual map path, the
+    * recorded characters and projectiles, and the playback bar
+*/
+private void render_replay(Graphics2D g2d) {
+    if (currentMap == null || replayFrame == null) {
+        return;
+    }
+    render_map(g2d);
+    int tileSize = GameConstants.TILE_SIZE;
+    int frameWidth = (50 * tileSize) / GameConstants.SCALING_FACTOR;
+    int frameHeight = (30 * tileSize) / GameConstants.SCALING_FACTOR;
+    g2d.setClip(new Rectangle(0, 35, frameWidth, frameHeight));
+    replayRenderer.render_entities(g2d, replayFrame, getMapOffsetX(), getMapOffsetY());
+    g2d.setClip(null);
+    render_minimap(g2d);
+    replayRenderer.render_playback_bar(g2d, parentView.getPixelFont().deriveFont(10f), replayFrame,
+                                       replayPlayer.get_first_tick(), replayPlayer.get_last_tick(),
+                                       replayPlayer.get_tick_millis(), replayPlayer.get_speed(),
+                                       replayPlayer.is_paused(), 0, 35 + frameHeight + 4, frameWidth);
+}
+
 /**
     * MANDATORY: Update display components
 */
@@ -1163,6 +1306,11 @@ Graphics2D g2d = (Graphics2D) g;
 g2d.setColor(Color.BLACK);
 g2d.fillRect(0, 0, getWidth(), getHeight());
 
+if (replayPlayer != null) {
+    render_replay(g2d);
+    return;
+}
+
 // If floor transitioning, show black overlay in map area and keep UI
 if (isFloorTransitioning) {
     // Render map and entities first (they might be null/empty)
@@ -1183,6 +1331,7 @@ if (isFloorTransitioning) {
 if (currentMap != null) {
 render_map(g2d);
 render_entities(g2d);
+render_minimap(g2d);
 }
 
 render_ui(g2d);
@@ -1224,12 +1373,32 @@ private void render_map(Graphics2D g2d) {
         Rectangle clipRect = new Rectangle(0, 35, (50 * tileSize) / GameConstants.SCALING_FACTOR, (30 * tileSize) / GameConstants.SCALING_FACTOR);
         g2d.setClip(clipRect);
 
-    // Render tiles with offset
-    for (int x = 0; x < currentMap.get_width(); x++) {
-        for (int y = 0; y < currentMap.get_height(); y++) {
-            utilities.Tile tile = currentMap.get_tile(x, y);
-            if (tile != null && (debugMode || tile.is_explored())) {
-                render_tile(g2d, tile, mapOffsetX + x * tileSize, mapOffsetY + y * tileSize);
+    if (debugMode) {
+        // Debug mode shows the whole map, so draw every tile directly
+        for (int x = 0; x < currentMap.get_width(); x++) {
+            for (int y = 0; y < currentMap.get_height(); y++) {
+                utilities.Tile tile = currentMap.get_tile(x, y);
+                if (tile != null) {
+                    render_tile(g2d, tile, mapOffsetX + x * tileSize, mapOffsetY + y * tileSize);
+                }
+            }
+        }
+    } else {
+        // Explored tiles come from the layer cache, which is filled by the fog change feed
+        if (mapLayerCache == null || !mapLayerCache.is_for(currentMap)) {
+            if (mapLayerCache != null) mapLayerCache.dispose();
+            mapLayerCache = new view.renderers.MapLayerCache(currentMap, tileSize);
+        }
+        g2d.drawImage(mapLayerCache.get_layer(this::render_tile_base), mapOffsetX, mapOffsetY, null);
+        // Items are drawn on top, visiting only tiles in the map's item index
+        List<utilities.Position> itemLocations = currentMap.get_item_locations();
+        for (int i = 0; i < itemLocations.size(); i++) {
+            utilities.Position pos = itemLocations.get(i);
+            if (pos != null && currentMap.is_explored(pos.get_x(), pos.get_y())) {
+                utilities.Tile tile = currentMap.get_tile(pos);
+                if (tile != null) {
+                    render_tile_items(g2d, tile, mapOffsetX + pos.get_x() * tileSize, mapOffsetY + pos.get_y() * tileSize);
+                }
             }
         }
     }
@@ -1243,6 +1412,35 @@ private void render_map(Graphics2D g2d) {
     drawMapBorder(g2d, tileSize, 0, 35);
 }
 
+/**
+    * Render the explored-map overview in the top-right corner of the map frame
+    * 
+    * @param g2d Graphics2D context
+*/
+private void render_minimap(Graphics2D g2d) {
+    if (minimapRenderer == null || !minimapRenderer.is_for(currentMap)) {
+        if (minimapRenderer != null) minimapRenderer.dispose();
+        minimapRenderer = new view.renderers.MinimapRenderer(currentMap, 2);
+    }
+    int frameWidth = (50 * GameConstants.TILE_SIZE) / GameConstants.SCALING_FACTOR;
+    int x = frameWidth - minimapRenderer.get_width() - 10;
+    int y = 35 + 10;
+    int playerTileX = -1;
+    int playerTileY = -1;
+    if (replayFrame != null) {
+        controller.server.WorldSnapshot characters = replayFrame.get_characters();
+        int index = characters.index_of(controller.server.WorldSnapshot.PLAYER_ID);
+        if (index >= 0) {
+            playerTileX = characters.get_x(index) / controller.server.WorldSnapshot.QUANTUM / GameConstants.TILE_SIZE;
+            playerTileY = characters.get_y(index) / controller.server.WorldSnapshot.QUANTUM / GameConstants.TILE_SIZE;
+        }
+    } else if (player != null) {
+        playerTileX = (int)(player.getPixelX() / GameConstants.TILE_SIZE);
+        playerTileY = (int)(player.getPixelY() / GameConstants.TILE_SIZE);
+    }
+    minimapRenderer.render(g2d, x, y, playerTileX, playerTileY);
+}
+
 /**
     * MANDATORY: Render individual tile
     * 
@@ -1252,6 +1450,14 @@ private void render_map(Graphics2D g2d) {
     * @param screenY Y coordinate on screen
 */
 private void render_tile(Graphics2D g2d, utilities.Tile tile, int screenX, int screenY) {
+render_tile_base(g2d, tile, screenX, screenY);
+render_tile_items(g2d, tile, screenX, screenY);
+}
+
+/**
+    * Render the tile image without its items (also used to fill the map layer cache)
+*/
+private void render_tile_base(Graphics2D g2d, utilities.Tile tile, int screenX, int screenY) {
 // int tileSize = GameConstants.TILE_SIZE * 3;
 int tileSize = GameConstants.TILE_SIZE;
 
@@ -1282,35 +1488,25 @@ g2d.fillRect(screenX, screenY, tileSize, tileSize);
 g2d.setColor(Color.BLACK);
 g2d.drawRect(screenX, screenY, tileSize, tileSize);
 }
+}
 
+/**
+    * Render the first item lying on a tile
+*/
+private void render_tile_items(Graphics2D g2d, utilities.Tile tile, int screenX, int screenY) {
+int tileSize = GameConstants.TILE_SIZE;
 
 // Draw items
 if (tile.has_items()) {
-    List<model.items.Item> items = tile.get_items();
+    List<model.items.Item> items = tile.get_items_view();
     if (!items.isEmpty()) {
         model.items.Item item = items.get(0); // Draw the first item
         
         // Try to get the item's image
         java.awt.image.BufferedImage itemImage = null;
         
-        if (item instanceof model.equipment.Weapon || item instanceof model.equipment.Armor) {
-            // For equipment, use the equipment's image path
-            model.equipment.Equipment equipment = (model.equipment.Equipment) item;
-            String imagePath = equipment.get_image_path();
-            if (itemIconCache.containsKey(imagePath)) {
-                itemImage = itemIconCache.get(imagePath);
-            } else {
-                try {
-                    itemImage = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream(imagePath));
-                    itemIconCache.put(imagePath, itemImage);
-                } catch (Exception e) {
-                    // Image loading failed, will use fallback
-                }
-            }
-        } else {
-            // For consumables and key items, use the icon system
-            itemImage = getIconForItem(item);
-        }
+        // Equipment and items alike carry the sprite id of their icon
+        itemImage = getIconForItem(item);
         
         if (itemImage != null) {
             // Calculate size multiplier for potions
@@ -1460,7 +1656,7 @@ private void render_entities(Graphics2D g2d) {
     if (!isFloorTransitioning) {
         model.gameLogic.GameLogic logic = (model.gameLogic.GameLogic) parentView.get_controller().get_model();
         if (logic != null) {
-            for (Projectile p : logic.getProjectiles()) {
+            for (Projectile p : logic.get_projectiles_snapshot()) {
                 // Apply parenting system to projectile rendering
                 Graphics2D translatedG2d = (Graphics2D) g2d.create();
                 translatedG2d.translate(getMapOffsetX(), getMapOffsetY());
@@ -1487,7 +1683,7 @@ private void render_entities(Graphics2D g2d) {
                     
                     int ex = (int)(enemy.getPixelX() / tileSize);
                     int ey = (int)(enemy.getPixelY() / tileSize);
-                    if (debugMode || (ex >= 0 && ey >= 0 && ex < currentMap.get_width() && ey < currentMap.get_height() && currentMap.get_tile(ex, ey).is_explored())) {
+                    if (debugMode || currentMap.is_explored(ex, ey)) {
                         int x = (int)enemy.getPixelX();
                         int y = (int)enemy.getPixelY();
                         int size = enums.GameConstants.TILE_SIZE;
@@ -1506,8 +1702,9 @@ private void render_entities(Graphics2D g2d) {
                             g2d.setColor(java.awt.Color.BLACK);
                         } else if (enemy.isInWindUpState()) {
                             // Cyan blinking border during wind-up
-                            Long windUpStartTime = enemyWindUpStartTimes.get(enemy);
-                            if (windUpStartTime != null && (System.currentTimeMillis() - windUpStartTime) < ENEMY_WIND_UP_WARNING_DURATION) {
+                            EnemyVisualComponents visuals = enemy_visuals();
+                            long windUpStartTime = visuals != null ? visuals.get_wind_up_start(enemy) : 0L;
+                            if (windUpStartTime != 0L && (System.currentTimeMillis() - windUpStartTime) < ENEMY_WIND_UP_WARNING_DURATION) {
                                 long now = System.currentTimeMillis();
                                 if ((now / 100) % 2 == 0) {
                                     g2d.setColor(java.awt.Color.CYAN);
@@ -1637,10 +1834,12 @@ private void render_entities(Graphics2D g2d) {
         try {
             enemies = new java.util.ArrayList<>(((model.gameLogic.GameLogic)parentView.get_controller().get_model()).get_current_enemies());
         } catch (Exception e) {}
-        if (enemies != null) {
+        EnemyVisualComponents visuals = enemy_visuals();
+        if (enemies != null && visuals != null) {
+            visuals.expire(System.currentTimeMillis(), ENEMY_WIND_UP_WARNING_DURATION);
             java.util.List<model.characters.Enemy> enemiesCopy = new java.util.ArrayList<>(enemies);
             for (model.characters.Enemy enemy : enemiesCopy) {
-                model.gameLogic.AttackVisualData enemyAttackData = enemySwingData.get(enemy);
+                model.gameLogic.AttackVisualData enemyAttackData = visuals.get_swing(enemy);
                 
                 if (enemyAttackData != null && enemyAttackData.isSwingActive(System.currentTimeMillis()) && enemy.getEnemyClassOOP() != null && enemy.getEnemyClassOOP().hasMelee()) {
                     
@@ -1674,7 +1873,8 @@ private void render_entities(Graphics2D g2d) {
             try {
                 enemies = new java.util.ArrayList<>(((model.gameLogic.GameLogic)parentView.get_controller().get_model()).get_current_enemies());
             } catch (Exception e) {}
-            if (enemies != null) {
+            EnemyVisualComponents visuals = enemy_visuals();
+            if (enemies != null && visuals != null) {
                 java.util.List<model.characters.Enemy> enemiesCopy = new java.util.ArrayList<>(enemies);
                 for (model.characters.Enemy enemy : enemiesCopy) {
                     // Skip bosses here - they are rendered separately in the boss section
@@ -1683,7 +1883,7 @@ private void render_entities(Graphics2D g2d) {
                     }
                     
                     // Render enemy Ranger bow attacks (for projectile attacks)
-                    model.gameLogic.AttackVisualData enemyRangerBowAttackData = enemyRangerBowData.get(enemy);
+                    model.gameLogic.AttackVisualData enemyRangerBowAttackData = visuals.get_bow(enemy);
                     if (enemyRangerBowAttackData != null && enemyRangerBowAttackData.isSwingActive(System.currentTimeMillis()) && 
                         enemy.getEnemyClassOOP() != null && enemy.getEnemyClassOOP().hasProjectile() && 
                         enemy.getEnemyClassOOP() instanceof model.characters.RangerClass) {
@@ -1854,7 +2054,7 @@ private void render_entities(Graphics2D g2d) {
         if (upgrader != null && upgrader.isVisible()) {
             int ux = (int)(upgrader.getPixelX() / tileSize);
             int uy = (int)(upgrader.getPixelY() / tileSize);
-            if (debugMode || (ux >= 0 && uy >= 0 && ux < currentMap.get_width() && uy < currentMap.get_height() && currentMap.get_tile(ux, uy).is_explored())) {
+            if (debugMode || currentMap.is_explored(ux, uy)) {
                 int x = (int)upgrader.getPixelX();
                 int y = (int)upgrader.getPixelY();
                 int size = enums.GameConstants.TILE_SIZE;
@@ -2376,7 +2576,7 @@ private void render_ui(Graphics2D g2d) {
             g2d.setFont(pixelFont.deriveFont(10f)); // Smaller font for exp text
             g2d.setColor(Color.WHITE); // Reset color to white for XP text
             g2d.drawString("XP: " + player.get_current_exp() + "/" + player.get_total_exp(), 10, y + 2 * lineHeight);
-            if (player.get_level() >= enums.GameConstants.MAX_LEVEL) {
+            if (player.get_level() >= utilities.ConfigSnapshot.GameSettings.current().get_max_level()) {
                 // At max level, show golden full bar
                 drawResourceBar(g2d, 150, y + 2 * lineHeight - 12, 80, 8, 
                                player.get_total_exp(), player.get_total_exp(), new Color(255, 215, 0));
@@ -2387,7 +2587,7 @@ private void render_ui(Graphics2D g2d) {
             
             // Draw level number underneath the EXP bar
             g2d.setFont(pixelFont.deriveFont(12f)); // Reset font size
-            if (player.get_level() >= enums.GameConstants.MAX_LEVEL) {
+            if (player.get_level() >= utilities.ConfigSnapshot.GameSettings.current().get_max_level()) {
                 g2d.setColor(new Color(255, 215, 0)); // Golden color for max level
             } else {
                 g2d.setColor(Color.WHITE);
@@ -2424,7 +2624,7 @@ private void render_ui(Graphics2D g2d) {
             g2d.setFont(pixelFont.deriveFont(10f)); // Smaller font for exp text
             g2d.setColor(Color.WHITE); // Reset color to white for XP text
             g2d.drawString("XP: " + player.get_current_exp() + "/" + player.get_total_exp(), 10, y + lineHeight);
-            if (player.get_level() >= enums.GameConstants.MAX_LEVEL) {
+            if (player.get_level() >= utilities.ConfigSnapshot.GameSettings.current().get_max_level()) {
                 // At max level, show golden full bar
                 drawResourceBar(g2d, 150, y + lineHeight - 12, 80, 8, 
                                player.get_total_exp(), player.get_total_exp(), new Color(255, 215, 0));
@@ -2435,7 +2635,7 @@ private void render_ui(Graphics2D g2d) {
             
             // Draw level number underneath the EXP bar
             g2d.setFont(pixelFont.deriveFont(12f)); // Reset font size
-            if (player.get_level() >= enums.GameConstants.MAX_LEVEL) {
+            if (player.get_level() >= utilities.ConfigSnapshot.GameSettings.current().get_max_level()) {
                 g2d.setColor(new Color(255, 215, 0)); // Golden color for max level
             } else {
                 g2d.setColor(Color.WHITE);
@@ -2846,15 +3046,19 @@ public void showPlayerAttack(model.gameLogic.AttackVisualData attackData) {
 
     // Method to show enemy attack visuals
     public void showEnemyAttack(model.characters.Enemy enemy, double attackAngle) {
-        enemyAttackTimes.put(enemy, System.currentTimeMillis());
-        enemyAttackAngles.put(enemy, attackAngle);
+        EnemyVisualComponents visuals = enemy_visuals();
+        if (visuals != null) {
+            visuals.show_attack(enemy, attackAngle, System.currentTimeMillis());
+        }
         repaint();
     }
     
     // Method to show enemy swing attack with AttackVisualData
     public void showEnemySwingAttack(model.characters.Enemy enemy, model.gameLogic.AttackVisualData swingData) {
-    
-        enemySwingData.put(enemy, swingData);
+        EnemyVisualComponents visuals = enemy_visuals();
+        if (visuals != null) {
+            visuals.show_swing(enemy, swingData);
+        }
         repaint();
     }
     
@@ -2872,16 +3076,43 @@ public void showPlayerAttack(model.gameLogic.AttackVisualData attackData) {
      * Uses OOD principles by extending the existing attack system
      */
     public void showEnemyRangerBowAttack(model.characters.Enemy enemy, model.gameLogic.AttackVisualData bowData) {
-        enemyRangerBowData.put(enemy, bowData);
+        EnemyVisualComponents visuals = enemy_visuals();
+        if (visuals != null) {
+            visuals.show_bow(enemy, bowData);
+        }
         repaint();
     }
     
     // Method to start enemy wind-up warning (cyan blinking on enemy border)
     public void startEnemyWindUpWarning(model.characters.Enemy enemy) {
-        enemyWindUpStartTimes.put(enemy, System.currentTimeMillis());
+        EnemyVisualComponents visuals = enemy_visuals();
+        if (visuals != null) {
+            visuals.start_wind_up(enemy, System.currentTimeMillis());
+        }
         repaint();
     }
     
+    /**
+     * Enemy visual columns for the current game's entity store, created on first use
+     *
+     * @return Visual components, or null when no game is attached yet
+     */
+    private EnemyVisualComponents enemy_visuals() {
+        model.entity.EntityStore store;
+        try {
+            store = ((model.gameLogic.GameLogic) parentView.get_controller().get_model()).get_entity_store();
+        } catch (Exception e) {
+            return null;
+        }
+        if (store == null) {
+            return null;
+        }
+        if (enemyVisuals == null || !enemyVisuals.is_for(store)) {
+            enemyVisuals = new EnemyVisualComponents(store);
+        }
+        return enemyVisuals;
+    }
+    
     /**
      * Trigger damage flash effect when player takes damage
      */
@@ -2963,14 +3194,20 @@ public void showPlayerAttack(model.gameLogic.AttackVisualData attackData) {
         }
         return 1.0f;
     }
+    // Attack cooldowns are stamped with game time, which stops while paused
+    private long getGameTime() {
+        try {
+            return ((model.gameLogic.GameLogic) parentView.get_controller().get_model()).get_clock().now();
+        } catch (Exception e) { return System.currentTimeMillis(); }
+    }
     private boolean canAttack() {
-        long now = System.currentTimeMillis();
+        long now = getGameTime();
         float attackSpeed = getAttackSpeed();
         long lastAttack = getLastAttackTime();
         return (now - lastAttack) >= (1000.0f / attackSpeed);
     }
     private float getAttackCooldownProgress() {
-        long now = System.currentTimeMillis();
+        long now = getGameTime();
         float attackSpeed = getAttackSpeed();
         long lastAttack = getLastAttackTime();
         float cooldown = 1000.0f / attackSpeed;
@@ -3094,7 +3331,7 @@ private void renderWeaponSwingAttack(Graphics2D g2d, float px, float py, float r
  */
 private void renderRangerBow(Graphics2D g2d, float px, float py, double aimAngle, model.equipment.Weapon weapon, boolean isEnemy) {
     // Rangers always use Simple Bow image regardless of equipped weapon
-    java.awt.image.BufferedImage bowImage = getWeaponImage(new model.equipment.Weapon("Simple Bow", 0, 0, enums.CharacterClass.RANGER, 1, model.equipment.Weapon.WeaponType.DISTANCE, "images/weapons/Distance/Simple_Bow.png", "Distance"));
+    java.awt.image.BufferedImage bowImage = weaponImageManager.getWeaponImage("Simple Bow");
     
     if (bowImage != null) {
         int bowSize = 32;
@@ -3142,22 +3379,6 @@ private void renderSwingAttack(Graphics2D g2d, float px, float py, float range,
     renderWeaponSwingAttack(g2d, px, py, range, swingData, weapon, false);
 }
 
-/**
- * Render enemy swing-based attack with weapon image
- * Uses unified weapon rendering system for consistency
- */
-private void renderEnemySwingAttack(Graphics2D g2d, float px, float py, float range, model.gameLogic.AttackVisualData swingData) {
-    // Find enemy weapon from swing data map
-    model.equipment.Weapon weapon = null;
-    for (java.util.Map.Entry<model.characters.Enemy, model.gameLogic.AttackVisualData> entry : enemySwingData.entrySet()) {
-        if (entry.getValue() == swingData) {
-            weapon = entry.getKey().get_equipped_weapon();
-            break;
-        }
-    }
-    renderWeaponSwingAttack(g2d, px, py, range, swingData, weapon, true);
-}
-
     /**
      * Draw a resource bar with white border and colored fill
      */
@@ -3257,14 +3478,15 @@ private void renderEnemySwingAttack(Graphics2D g2d, float px, float py, float ra
         if (player == null || currentMap == null) {
             return;
         }
-        
+        centerCameraOn(player.getPixelX(), player.getPixelY());
+    }
+    
+    /**
+     * Put the camera so a character at the given map pixel is centered in the white frame
+     */
+    private void centerCameraOn(float playerX, float playerY) {
         int tileSize = GameConstants.TILE_SIZE;
         
-        // Simple approach: calculate where the white frame center is
-        int rightPanelWidth = 250;
-        int mapAreaWidth = getWidth() - rightPanelWidth;
-        int mapAreaHeight = getHeight();
-        
         // White frame is drawn at (0, 35), so its center is:
         // Use scaling factor to maintain original viewport size
         int whiteFrameWidth = (50 * tileSize) / GameConstants.SCALING_FACTOR; // (50 * 32) / 2 = 800px
@@ -3272,10 +3494,6 @@ private void renderEnemySwingAttack(Graphics2D g2d, float px, float py, float ra
         int whiteFrameCenterX = whiteFrameWidth / 2; // 400 pixels
         int whiteFrameCenterY = 35 + (whiteFrameHeight / 2); // 35 + 240 = 275 pixels
         
-        // Get player's current position
-        float playerX = player.getPixelX();
-        float playerY = player.getPixelY();
-        
         // Calculate camera to put player at white frame center
         cameraX = whiteFrameCenterX - playerX;
         cameraY = whiteFrameCenterY - playerY;
@@ -4,11 +4,16 @@ import view.GameView;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import utilities.ImageAssets;
 
 public class MenuPanel extends JPanel {
     private static final String[] MENU_OPTIONS = {"Start New Game", "Toggle Mouse Aiming", "Exit"};
     private static final String[] CLASS_OPTIONS = {"Warrior", "Mage", "Rogue", "Ranger"};
     private static final Color[] CLASS_COLORS = {Color.BLUE, Color.ORANGE, new Color(128,0,128), Color.GREEN};
+    // NEW: Images the menu draws, decoded ahead of time at startup
+    public static final java.util.List<String> PRELOAD_IMAGES = java.util.List.of(
+        "images/player/boy_down_1.png", "images/player/warrior_sheet.png", "images/player/rogue_sheet.png",
+        "images/player/ranger_sheet.png", "images/player/mage_spritesheet.png");
     private static final int SPRITE_PREVIEW_SCALE = 3; // Scale factor for character preview sprites
     
     // Simple sprite column configuration
@@ -107,12 +112,10 @@ public class MenuPanel extends JPanel {
     private void loadCharacterPreviews() {
         try {
             // Load default sprite (boy_down_1.png) for fallback
-            defaultPreview = javax.imageio.ImageIO.read(
-                getClass().getClassLoader().getResourceAsStream("images/player/boy_down_1.png"));
+            defaultPreview = ImageAssets.get("images/player/boy_down_1.png");
             
             // Load warrior sprite from sprite sheet
-            BufferedImage warriorSheet = javax.imageio.ImageIO.read(
-                getClass().getClassLoader().getResourceAsStream("images/player/warrior_sheet.png"));
+            BufferedImage warriorSheet = ImageAssets.get("images/player/warrior_sheet.png");
             
             if (warriorSheet != null) {
                 // Extract warrior down1 sprite (column 0, row 0 = top-left)
@@ -124,8 +127,7 @@ public class MenuPanel extends JPanel {
             }
             
             // Load rogue sprite from sprite sheet
-            BufferedImage rogueSheet = javax.imageio.ImageIO.read(
-                getClass().getClassLoader().getResourceAsStream("images/player/rogue_sheet.png"));
+            BufferedImage rogueSheet = ImageAssets.get("images/player/rogue_sheet.png");
             
             if (rogueSheet != null) {
                 // Extract rogue down1 sprite (column 0, row 0 = top-left)
@@ -137,8 +139,7 @@ public class MenuPanel extends JPanel {
             }
             
             // Load ranger sprite from sprite sheet
-            BufferedImage rangerSheet = javax.imageio.ImageIO.read(
-                getClass().getClassLoader().getResourceAsStream("images/player/ranger_sheet.png"));
+            BufferedImage rangerSheet = ImageAssets.get("images/player/ranger_sheet.png");
             
             if (rangerSheet != null) {
                 // Extract ranger down1 sprite (column 0, row 0 = top-left)
@@ -151,8 +152,7 @@ public class MenuPanel extends JPanel {
             
             // Future classes will use default preview until their sprite sheets are added  
             //magePreview = defaultPreview;      // TODO: Load from mage_sheet.png when available
-            BufferedImage mageSheet = javax.imageio.ImageIO.read(
-                getClass().getClassLoader().getResourceAsStream("images/player/mage_spritesheet.png"));
+            BufferedImage mageSheet = ImageAssets.get("images/player/mage_spritesheet.png");
             
             if (rangerSheet != null) {
                 // Extract mage down1 sprite (column 0, row 0 = top-left)
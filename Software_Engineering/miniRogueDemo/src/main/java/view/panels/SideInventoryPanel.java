@@ -7,7 +7,7 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.List;
-import java.util.HashMap;
+import utilities.WeaponImageManager;
 import java.awt.event.MouseMotionAdapter;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -24,7 +24,6 @@ public class SideInventoryPanel extends JPanel {
     private GroupedItem[] slots = new GroupedItem[SLOT_COUNT];
     private int hoveredIndex = -1;
     private Map<String, Integer> groupToSlot = new LinkedHashMap<>(); // Persistent slot mapping
-    private HashMap<String, java.awt.image.BufferedImage> iconCache = new HashMap<>();
     private boolean isConsuming = false;
     private boolean keyboardNavigation = false;
     private int navRow = -1;
@@ -135,55 +134,8 @@ public class SideInventoryPanel extends JPanel {
         repaint();
     }
     private java.awt.image.BufferedImage getIconForItem(Item item) {
-        String name = item.get_name().toLowerCase();
-        String iconFile = null;
-        
-        // Health potions
-        if (name.contains("health") && name.contains("potion")) {
-            iconFile = "potion_ruby.png";
-        }
-        // Mana potions
-        else if (name.contains("mana") && name.contains("potion")) {
-            iconFile = "mana_blue.png";
-        }
-        // Experience scrolls
-        else if (name.contains("experience") && name.contains("scroll")) {
-            iconFile = "magic_scroll.png";
-        }
-        // Lamp (clarity effect)
-        else if (name.contains("lamp")) {
-            iconFile = "lamp.png";
-        }
-        // Vanish Cloak (invisibility effect)
-        else if (name.contains("vanish") && name.contains("cloak")) {
-            iconFile = "invisibility_cloak.png";
-        }
-        // Swift Winds (speed effect)
-        else if (name.contains("swift") && name.contains("winds")) {
-            iconFile = "swift_winds.png";
-        }
-        // Upgrade crystals
-        else if (name.contains("crystal")) {
-            iconFile = "upgradeCrystal.png";
-        }
-        // Floor Key
-        else if (name.contains("floor") && name.contains("key")) {
-            iconFile = "key.png";
-        }
-        // Immortality amulet
-        else if (name.contains("immortality") && name.contains("amulet")) {
-            iconFile = "undying_amulet.png";
-        }
-        
-        if (iconFile == null) return null;
-        if (iconCache.containsKey(iconFile)) return iconCache.get(iconFile);
-        try {
-            java.awt.image.BufferedImage img = javax.imageio.ImageIO.read(getClass().getClassLoader().getResourceAsStream("images/items/" + iconFile));
-            iconCache.put(iconFile, img);
-            return img;
-        } catch (java.io.IOException | IllegalArgumentException ex) {
-            return null;
-        }
+        // Icons are resolved to sprite ids once, not matched by name every repaint
+        return WeaponImageManager.getInstance().getSprite(item.get_sprite_id());
     }
     @Override
     protected void paintComponent(Graphics g) {
@@ -199,7 +199,7 @@ public class EntityRenderer {
         if (weapon == null || swingData == null) return;
         
         // Get weapon image
-        BufferedImage weaponImage = weaponImageManager.getWeaponImage(weapon.get_name());
+        BufferedImage weaponImage = weaponImageManager.getWeaponImage(weapon);
         if (weaponImage == null) return;
         
         // Calculate weapon position and rotation
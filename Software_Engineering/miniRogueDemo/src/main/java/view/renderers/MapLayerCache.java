@@ -0,0 +1,89 @@
+package view.renderers;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import model.map.FogOfWar;
+import model.map.Map;
+import utilities.Tile;
+
+/**
+ * Offscreen image of the static tile layer for the explored part of a map.
+ * Tiles are painted once, when the fog change feed reports them as revealed,
+ * so a frame costs one image blit instead of a loop over every tile.
+ */
+public class MapLayerCache implements FogOfWar.RevealListener {
+
+    /**
+     * Paints the base (non-item) layer of one tile
+     */
+    public interface TilePainter {
+        void paint_tile_base(Graphics2D g2d, Tile tile, int screenX, int screenY);
+    }
+
+    private final Map map;
+    private final int tileSize;
+    private final FogOfWar.RevealAccumulator pending;
+    private BufferedImage layer;
+    private Graphics2D layerGraphics;
+    private TilePainter painter;
+
+    public MapLayerCache(Map map, int tileSize) {
+        this.map = map;
+        this.tileSize = tileSize;
+        FogOfWar fog = map.get_fog_of_war();
+        this.pending = new FogOfWar.RevealAccumulator(fog);
+        fog.add_listener(pending);
+        // Catch up on tiles revealed before this cache existed
+        fog.replay(pending);
+    }
+
+    /**
+     * Bring the layer up to date and return it. Must be called on the painting thread.
+     *
+     * @param tilePainter Painter used for newly revealed tiles
+     * @return Layer image covering the whole map
+     */
+    public BufferedImage get_layer(TilePainter tilePainter) {
+        if (layer == null) {
+            layer = new BufferedImage(map.get_width() * tileSize, map.get_height() * tileSize,
+                                      BufferedImage.TYPE_INT_RGB);
+            layerGraphics = layer.createGraphics();
+        }
+        this.painter = tilePainter;
+        pending.drain(this);
+        return layer;
+    }
+
+    /**
+     * Paint tiles drained from the pending feed
+     */
+    @Override
+    public void tiles_revealed(int y, int wordIndex, long newBits) {
+        long remaining = newBits;
+        while (remaining != 0) {
+            int x = (wordIndex << 6) + Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            Tile tile = map.get_tile(x, y);
+            if (tile != null) {
+                painter.paint_tile_base(layerGraphics, tile, x * tileSize, y * tileSize);
+            }
+        }
+    }
+
+    public boolean is_for(Map other) {
+        return map == other;
+    }
+
+    /**
+     * Detach from the map's change feed and release the image
+     */
+    public void dispose() {
+        map.get_fog_of_war().remove_listener(pending);
+        if (layerGraphics != null) {
+            layerGraphics.dispose();
+        }
+        layer = null;
+        layerGraphics = null;
+    }
+}
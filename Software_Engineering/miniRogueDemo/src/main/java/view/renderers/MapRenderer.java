@@ -65,7 +65,7 @@ public class MapRenderer {
         for (int x = 0; x < currentMap.get_width(); x++) {
             for (int y = 0; y < currentMap.get_height(); y++) {
                 Tile tile = currentMap.get_tile(x, y);
-                if (tile != null && (debugMode || tile.is_explored())) {
+                if (tile != null && (debugMode || currentMap.is_explored(x, y))) {
                     renderTile(g2d, tile, mapOffsetX + x * tileSize, mapOffsetY + y * tileSize);
                 }
             }
@@ -182,7 +182,7 @@ public class MapRenderer {
      * Render items on a tile
      */
     private void renderTileItems(Graphics2D g2d, Tile tile, int screenX, int screenY, int tileSize) {
-        List<Item> items = tile.get_items();
+        List<Item> items = tile.get_items_view();
         if (!items.isEmpty()) {
             Item item = items.get(0); // Draw the first item
             
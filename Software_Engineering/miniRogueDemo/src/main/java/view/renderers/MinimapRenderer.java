@@ -0,0 +1,102 @@
+package view.renderers;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import model.map.FogOfWar;
+import model.map.Map;
+import utilities.Tile;
+
+/**
+ * Small overview of the explored map. Pixels are written only for tiles the
+ * fog change feed reports as newly revealed; drawing is a single blit.
+ */
+public class MinimapRenderer implements FogOfWar.RevealListener {
+    private static final Color BACKGROUND = new Color(0, 0, 0, 150);
+    private static final Color PLAYER_COLOR = Color.GREEN;
+
+    private final Map map;
+    private final int pixelsPerTile;
+    private final FogOfWar.RevealAccumulator pending;
+    private final BufferedImage image;
+
+    public MinimapRenderer(Map map, int pixelsPerTile) {
+        this.map = map;
+        this.pixelsPerTile = pixelsPerTile;
+        this.image = new BufferedImage(map.get_width() * pixelsPerTile, map.get_height() * pixelsPerTile,
+                                       BufferedImage.TYPE_INT_ARGB);
+        FogOfWar fog = map.get_fog_of_war();
+        this.pending = new FogOfWar.RevealAccumulator(fog);
+        fog.add_listener(pending);
+        fog.replay(pending);
+    }
+
+    /**
+     * Draw the minimap with its top-left corner at (x, y)
+     *
+     * @param g2d Graphics context
+     * @param x Screen X
+     * @param y Screen Y
+     * @param playerTileX Player tile X, or -1 to omit the marker
+     * @param playerTileY Player tile Y
+     */
+    public void render(Graphics2D g2d, int x, int y, int playerTileX, int playerTileY) {
+        pending.drain(this);
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(x - 2, y - 2, image.getWidth() + 4, image.getHeight() + 4);
+        g2d.drawImage(image, x, y, null);
+        if (playerTileX >= 0) {
+            g2d.setColor(PLAYER_COLOR);
+            g2d.fillRect(x + playerTileX * pixelsPerTile, y + playerTileY * pixelsPerTile,
+                         pixelsPerTile, pixelsPerTile);
+        }
+    }
+
+    @Override
+    public void tiles_revealed(int y, int wordIndex, long newBits) {
+        long remaining = newBits;
+        while (remaining != 0) {
+            int x = (wordIndex << 6) + Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            Tile tile = map.get_tile(x, y);
+            if (tile == null) {
+                continue;
+            }
+            int rgb = color_for(tile).getRGB();
+            for (int py = 0; py < pixelsPerTile; py++) {
+                for (int px = 0; px < pixelsPerTile; px++) {
+                    image.setRGB(x * pixelsPerTile + px, y * pixelsPerTile + py, rgb);
+                }
+            }
+        }
+    }
+
+    private static Color color_for(Tile tile) {
+        switch (tile.get_tile_type()) {
+            case WALL:
+                return Color.DARK_GRAY;
+            case STAIRS:
+                return Color.YELLOW;
+            case ENTRANCE:
+                return Color.GREEN.darker();
+            case BOSS_ROOM:
+                return Color.RED.darker();
+            case UPGRADER_SPAWN:
+                return Color.CYAN.darker();
+            default:
+                return Color.LIGHT_GRAY;
+        }
+    }
+
+    public int get_width() { return image.getWidth(); }
+    public int get_height() { return image.getHeight(); }
+
+    public boolean is_for(Map other) {
+        return map == other;
+    }
+
+    public void dispose() {
+        map.get_fog_of_war().remove_listener(pending);
+    }
+}
@@ -3,6 +3,7 @@ package view.renderers;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import utilities.ImageAssets;
 import java.util.HashMap;
 import java.util.logging.Logger;
 
@@ -33,9 +34,15 @@ public class ProjectileRenderer {
     private static final Color DEFAULT_PROJECTILE_COLOR = Color.CYAN;
     private static final Color FALLBACK_PROJECTILE_COLOR = Color.ORANGE;
     
-    // Image caches
-    private static BufferedImage arrowImage = null;
-    private static BufferedImage[] searingRayImages = new BufferedImage[5];
+    // NEW: Images decoded ahead of time at startup
+    public static final java.util.List<String> PRELOAD_IMAGES = java.util.List.of(
+        "images/items/arrow.png",
+        "images/items/searing_ray_0.png", "images/items/searing_ray_1.png", "images/items/searing_ray_2.png",
+        "images/items/searing_ray_3.png", "images/items/searing_ray_4.png");
+    
+    // Image caches, per renderer; the decoded images themselves are shared through ImageAssets
+    private BufferedImage arrowImage = null;
+    private BufferedImage[] searingRayImages = new BufferedImage[5];
     
     /**
      * Render a projectile
@@ -194,8 +201,7 @@ public class ProjectileRenderer {
     private BufferedImage getArrowImage() {
         if (arrowImage == null) {
             try {
-                arrowImage = javax.imageio.ImageIO.read(
-                    getClass().getClassLoader().getResourceAsStream("images/items/arrow.png"));
+                arrowImage = ImageAssets.get("images/items/arrow.png");
             } catch (Exception e) {
                 LOGGER.warning("Failed to load arrow image: " + e.getMessage());
                 return null;
@@ -214,8 +220,7 @@ public class ProjectileRenderer {
         
         if (searingRayImages[frame] == null) {
             try {
-                searingRayImages[frame] = javax.imageio.ImageIO.read(
-                    getClass().getClassLoader().getResourceAsStream("images/items/searing_ray_" + frame + ".png"));
+                searingRayImages[frame] = ImageAssets.get("images/items/searing_ray_" + frame + ".png");
             } catch (Exception e) {
                 LOGGER.warning("Failed to load searing ray image " + frame + ": " + e.getMessage());
                 return null;
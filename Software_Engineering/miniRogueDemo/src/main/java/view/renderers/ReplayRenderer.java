@@ -0,0 +1,128 @@
+package view.renderers;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Stroke;
+
+import controller.replay.ReplayFrame;
+import controller.server.WorldSnapshot;
+import enums.GameConstants;
+
+/**
+ * Draws the characters and projectiles of a replay frame, and the playback
+ * bar. A replay only has positions and state bits, so characters are drawn
+ * as markers rather than sprites; the map itself is drawn by GamePanel's
+ * usual map path from the frame's floor layout.
+ */
+public class ReplayRenderer {
+    private static final Color PLAYER_COLOR = new Color(80, 200, 120);
+    private static final Color ENEMY_COLOR = new Color(200, 60, 60);
+    private static final Color BOSS_COLOR = new Color(170, 60, 200);
+    private static final Color DYING_COLOR = Color.GRAY;
+    private static final Color WIND_UP_COLOR = Color.CYAN;
+    private static final Color BAR_BACKGROUND = new Color(0, 0, 0, 170);
+
+    /**
+     * Draw a frame's projectiles, then its characters
+     *
+     * @param g2d Graphics context, already clipped to the map frame
+     * @param frame Frame to draw
+     * @param offsetX Screen X of map pixel 0
+     * @param offsetY Screen Y of map pixel 0
+     */
+    public void render_entities(Graphics2D g2d, ReplayFrame frame, int offsetX, int offsetY) {
+        WorldSnapshot projectiles = frame.get_projectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            int radius = Math.max(1, projectiles.get_state(i) >>> WorldSnapshot.FACING_SHIFT);
+            int cx = offsetX + projectiles.get_x(i) / WorldSnapshot.QUANTUM;
+            int cy = offsetY + projectiles.get_y(i) / WorldSnapshot.QUANTUM;
+            g2d.setColor(new Color(projectiles.get_hp(i)));
+            g2d.fillOval(cx - radius, cy - radius, radius * 2, radius * 2);
+        }
+
+        int tileSize = GameConstants.TILE_SIZE;
+        WorldSnapshot characters = frame.get_characters();
+        Stroke stroke = g2d.getStroke();
+        for (int i = 0; i < characters.size(); i++) {
+            int state = characters.get_state(i);
+            int x = offsetX + characters.get_x(i) / WorldSnapshot.QUANTUM + 2;
+            int y = offsetY + characters.get_y(i) / WorldSnapshot.QUANTUM + 2;
+            int size = tileSize - 4;
+            Color color;
+            if ((state & WorldSnapshot.PLAYER) != 0) {
+                color = PLAYER_COLOR;
+            } else if ((state & WorldSnapshot.DYING) != 0 || (state & WorldSnapshot.ALIVE) == 0) {
+                color = DYING_COLOR;
+            } else if ((state & WorldSnapshot.BOSS) != 0) {
+                color = BOSS_COLOR;
+            } else {
+                color = ENEMY_COLOR;
+            }
+            if ((state & WorldSnapshot.HIT) != 0) {
+                color = Color.WHITE;
+            }
+            g2d.setColor((state & WorldSnapshot.IMMUNE) != 0
+                ? new Color(color.getRed(), color.getGreen(), color.getBlue(), 120) : color);
+            g2d.fillRoundRect(x, y, size, size, 8, 8);
+            if ((state & WorldSnapshot.WIND_UP) != 0) {
+                g2d.setColor(WIND_UP_COLOR);
+                g2d.setStroke(new BasicStroke(2f));
+                g2d.drawRoundRect(x, y, size, size, 8, 8);
+                g2d.setStroke(stroke);
+            }
+            if ((state & WorldSnapshot.PLAYER) != 0) {
+                // Facing marker on the edge the player last moved towards
+                int facing = state >>> WorldSnapshot.FACING_SHIFT;
+                int dx = facing / 3 - 1;
+                int dy = facing % 3 - 1;
+                g2d.setColor(Color.WHITE);
+                g2d.fillRect(x + size / 2 - 2 + dx * (size / 2 - 2), y + size / 2 - 2 + dy * (size / 2 - 2), 4, 4);
+            }
+        }
+    }
+
+    /**
+     * Draw the playback bar: elapsed and total time, speed and a progress line
+     *
+     * @param g2d Graphics context
+     * @param font Font for the text
+     * @param frame Frame being shown
+     * @param firstTick First tick of the recording
+     * @param lastTick Last tick of the recording
+     * @param tickMillis Length of a tick
+     * @param speed Playback speed, or infinity for as fast as possible
+     * @param paused Whether playback is paused
+     * @param x Left edge
+     * @param y Top edge
+     * @param width Bar width
+     */
+    public void render_playback_bar(Graphics2D g2d, Font font, ReplayFrame frame, int firstTick, int lastTick,
+                                    int tickMillis, double speed, boolean paused, int x, int y, int width) {
+        g2d.setColor(BAR_BACKGROUND);
+        g2d.fillRect(x, y, width, 34);
+        int span = Math.max(1, lastTick - firstTick);
+        int done = (int) ((long) (frame.get_tick() - firstTick) * (width - 20) / span);
+        g2d.setColor(Color.DARK_GRAY);
+        g2d.fillRect(x + 10, y + 26, width - 20, 4);
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(x + 10, y + 26, done, 4);
+
+        String speedText = paused ? "PAUSED" : Double.isInfinite(speed) ? "MAX" : format_speed(speed);
+        String text = "REPLAY  Floor " + frame.get_floor() + "  "
+            + format_time((long) (frame.get_tick() - firstTick) * tickMillis) + " / "
+            + format_time((long) span * tickMillis) + "  " + speedText;
+        g2d.setFont(font);
+        g2d.drawString(text, x + 10, y + 18);
+    }
+
+    private static String format_speed(double speed) {
+        return speed >= 1 ? "x" + (int) speed : "x1/" + Math.round(1 / speed);
+    }
+
+    private static String format_time(long millis) {
+        long seconds = millis / 1000;
+        return String.format("%02d:%02d", seconds / 60, seconds % 60);
+    }
+}
@@ -47,7 +47,7 @@ public class WeaponRenderer {
         if (weapon == null || swingData == null) return;
         
         // Get weapon image
-        BufferedImage weaponImage = weaponImageManager.getWeaponImage(weapon.get_name());
+        BufferedImage weaponImage = weaponImageManager.getWeaponImage(weapon);
         if (weaponImage == null) return;
         
         // Calculate weapon position and rotation
@@ -164,7 +164,7 @@ public class WeaponRenderer {
      */
     public BufferedImage getWeaponImage(Weapon weapon) {
         if (weapon == null) return null;
-        return weaponImageManager.getWeaponImage(weapon.get_name());
+        return weaponImageManager.getWeaponImage(weapon);
     }
     
     /**
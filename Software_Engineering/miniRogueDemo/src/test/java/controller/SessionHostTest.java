@@ -0,0 +1,165 @@
+package controller;
+
+import enums.CharacterClass;
+import enums.GameState;
+import model.characters.Enemy;
+import model.characters.Player;
+import model.gameLogic.GameSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+import utilities.GameClock;
+import utilities.Position;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for hosting many headless games in one process: isolation between
+ * sessions, the shared worker pool and session lifecycle.
+ */
+@DisplayName("SessionHost Tests")
+class SessionHostTest {
+
+    private static final int SESSIONS = 500;
+    private static final int TICKS = 20;
+    private static final long TICK_MILLIS = 16;
+
+    /**
+     * Tests that 500 sessions open and tick at once on a fixed worker pool,
+     * each with its own game state.
+     */
+    @Test
+    @DisplayName("Five Hundred Sessions Run At Once")
+    @Timeout(value = 120, unit = TimeUnit.SECONDS)
+    void testFiveHundredSessionsRunAtOnce() {
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        SessionHost host = new SessionHost(4);
+        try {
+            List<CompletableFuture<GameSession>> opening = new ArrayList<>();
+            CharacterClass[] classes = CharacterClass.values();
+            for (int i = 0; i < SESSIONS; i++) {
+                opening.add(host.open_async(classes[i % classes.length], i));
+            }
+            opening.forEach(CompletableFuture::join);
+            assertEquals(SESSIONS, host.get_session_count(), "Every session should be open");
+
+            host.step_all(TICKS, TICK_MILLIS).join();
+            int threadsAfter = ManagementFactory.getThreadMXBean().getThreadCount();
+            assertTrue(threadsAfter - threadsBefore <= 8,
+                       "Sessions should share the host's workers, not start threads: " + threadsBefore + " -> " + threadsAfter);
+
+            IdentityHashMap<Object, Boolean> seen = new IdentityHashMap<>();
+            for (GameSession session : host.get_sessions()) {
+                assertEquals(TICKS, session.get_ticks(), "Every session should run every tick: " + session.get_id());
+                assertEquals(GameClock.VIRTUAL_EPOCH + TICKS * TICK_MILLIS, session.get_clock().now(),
+                             "Each session's clock should only move with its own ticks");
+                assertEquals(GameState.PLAYING, session.get_logic().get_game_state(), "Sessions should be playing");
+                assertSame(session.get_player(), session.get_logic().get_player(), "Session should own its player");
+                assertNull(seen.put(session.get_logic(), true), "Sessions must not share game logic");
+                assertNull(seen.put(session.get_logic().get_current_map(), true), "Sessions must not share maps");
+                assertNull(seen.put(session.get_player(), true), "Sessions must not share players");
+            }
+        } finally {
+            host.shutdown();
+        }
+        assertEquals(0, host.get_session_count(), "Shutdown should close every session");
+    }
+
+    /**
+     * Tests that pausing one session does not touch another.
+     */
+    @Test
+    @DisplayName("Sessions Are Isolated")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSessionsAreIsolated() {
+        SessionHost host = new SessionHost(2);
+        try {
+            GameSession paused = host.open(CharacterClass.WARRIOR, 1);
+            GameSession running = host.open(CharacterClass.MAGE, 2);
+            paused.perform("pause", null);
+            host.step_all(10, TICK_MILLIS).join();
+
+            assertEquals(GameState.PAUSED, paused.get_logic().get_game_state(), "Paused session should stay paused");
+            assertEquals(GameClock.VIRTUAL_EPOCH, paused.get_clock().now(), "Paused session's time should not move");
+            assertEquals(GameState.PLAYING, running.get_logic().get_game_state(), "Other session should keep playing");
+            assertEquals(GameClock.VIRTUAL_EPOCH + 10 * TICK_MILLIS, running.get_clock().now(),
+                         "Other session's time should move");
+            assertSame(host.get_catalog(), model.equipment.EquipmentCatalog.current(),
+                       "Sessions should share the one equipment catalog");
+        } finally {
+            host.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a closed session is disposed and no longer ticks.
+     */
+    @Test
+    @DisplayName("Closed Sessions Stop")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testClosedSessionsStop() {
+        SessionHost host = new SessionHost(1);
+        try {
+            GameSession session = host.open(CharacterClass.ROGUE, 3);
+            host.step_all(3, TICK_MILLIS).join();
+            assertTrue(host.close(session.get_id()), "Open session should close");
+            assertFalse(host.close(session.get_id()), "Closing twice should report nothing to close");
+            assertTrue(session.is_disposed(), "Closed session should be disposed");
+            assertNull(host.get_session(session.get_id()), "Closed session should be gone");
+
+            session.step(TICK_MILLIS);
+            assertEquals(3, session.get_ticks(), "Disposed session should not tick");
+        } finally {
+            host.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a session in melee combat, with swings landing both ways,
+     * still starts no threads: swing checks and delayed reactions run on
+     * the session's own ticks.
+     */
+    @Test
+    @DisplayName("Fighting Starts No Threads")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void testFightingStartsNoThreads() {
+        SessionHost host = new SessionHost(1);
+        try {
+            GameSession session = host.open(CharacterClass.WARRIOR, 5);
+            Player player = session.get_player();
+            Enemy enemy = session.get_logic().get_current_enemies().stream()
+                .filter(e -> !e.isBoss() && e.getEnemyClassOOP() != null && e.getEnemyClassOOP().hasMelee())
+                .findFirst().orElse(null);
+            assertNotNull(enemy, "A regular floor should have a melee enemy");
+            int enemyHp = enemy.get_current_hp();
+            int playerHp = player.get_current_hp();
+            Set<Thread> threadsBefore = Set.copyOf(Thread.getAllStackTraces().keySet());
+
+            // Trade swings every half second for up to twenty seconds of game time
+            for (int tick = 0; tick < 1250 && (player.get_current_hp() == playerHp || enemy.get_current_hp() == enemyHp); tick++) {
+                if (tick % 31 == 0 && enemy.is_alive()) {
+                    player.syncToTilePosition(new Position(enemy.get_position().get_x() - 1, enemy.get_position().get_y()));
+                    player.setAimDirection(1, 0);
+                    session.get_logic().handle_player_attack_input();
+                    session.get_logic().handle_enemy_melee_attack(enemy, -1, 0);
+                }
+                session.step(TICK_MILLIS);
+                for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                    assertTrue(threadsBefore.contains(thread), "Combat should not start threads: " + thread.getName());
+                }
+            }
+            assertTrue(player.get_current_hp() < playerHp, "The enemy's swings should land");
+            assertTrue(enemy.get_current_hp() < enemyHp, "The player's swings should land");
+        } finally {
+            host.shutdown();
+        }
+    }
+}
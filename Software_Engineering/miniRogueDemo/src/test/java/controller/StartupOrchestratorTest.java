@@ -0,0 +1,143 @@
+package controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+import utilities.ImageAssets;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the startup pipeline: stage ordering, overlap of independent
+ * stages, the recorded timeline, failure handling and shared image decodes.
+ */
+@DisplayName("StartupOrchestrator Tests")
+class StartupOrchestratorTest {
+
+    /**
+     * Tests that a stage only runs after the stages it depends on.
+     */
+    @Test
+    @DisplayName("Dependencies Run First")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDependenciesRunFirst() {
+        StartupOrchestrator startup = new StartupOrchestrator(2);
+        List<String> order = new ArrayList<>();
+        CompletableFuture<String> config = startup.stage("config", () -> {
+            Thread.sleep(50);
+            synchronized (order) { order.add("config"); }
+            return "parsed";
+        });
+        CompletableFuture<Integer> catalog = startup.stage("catalog", () -> {
+            synchronized (order) { order.add("catalog"); }
+            return config.join().length();
+        }, config);
+
+        assertEquals(6, catalog.join(), "Dependent stage should see its dependency's result");
+        assertEquals(List.of("config", "catalog"), order, "Dependency should finish before the dependent starts");
+        startup.shutdown();
+    }
+
+    /**
+     * Tests that independent stages overlap: each waits for the other to start.
+     */
+    @Test
+    @DisplayName("Independent Stages Overlap")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testIndependentStagesOverlap() {
+        StartupOrchestrator startup = new StartupOrchestrator(2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CompletableFuture<Boolean> fonts = startup.stage("fonts", () -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        });
+        CompletableFuture<Boolean> images = startup.stage("images", () -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        });
+        assertTrue(fonts.join() && images.join(), "Independent stages should run at the same time");
+        startup.shutdown();
+    }
+
+    /**
+     * Tests that every stage appears in the timeline with sane times.
+     */
+    @Test
+    @DisplayName("Timeline Records Every Stage")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testTimelineRecordsEveryStage() {
+        StartupOrchestrator startup = new StartupOrchestrator(2);
+        CompletableFuture<String> a = startup.stage("a", () -> "a");
+        startup.stage("b", () -> "b", a);
+        startup.stage_async("c", () -> CompletableFuture.supplyAsync(() -> "c", startup.get_workers()), a);
+        startup.all().join();
+
+        List<StartupOrchestrator.Span> timeline = startup.get_timeline();
+        assertEquals(3, timeline.size(), "Every stage should be recorded");
+        for (StartupOrchestrator.Span span : timeline) {
+            assertTrue(span.is_ok(), "Stage should succeed: " + span.get_name());
+            assertTrue(span.get_start_millis() <= span.get_end_millis(), "Stage should end after it starts");
+            assertTrue(span.get_thread().startsWith("startup-"), "Stage should run on a startup worker");
+        }
+        String text = startup.format_timeline();
+        assertTrue(text.contains("a") && text.contains("b") && text.contains("c"), "Formatted timeline should name every stage");
+        startup.shutdown();
+    }
+
+    /**
+     * Tests that a failed stage skips its dependents but not unrelated stages.
+     */
+    @Test
+    @DisplayName("Failure Skips Dependents")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testFailureSkipsDependents() {
+        StartupOrchestrator startup = new StartupOrchestrator(2);
+        CompletableFuture<String> config = startup.stage("config", () -> {
+            throw new IllegalArgumentException("bad config");
+        });
+        boolean[] ran = {false};
+        CompletableFuture<String> catalog = startup.stage("catalog", () -> {
+            ran[0] = true;
+            return "catalog";
+        }, config);
+        CompletableFuture<String> fonts = startup.stage("fonts", () -> "font");
+
+        CompletionException error = assertThrows(CompletionException.class, catalog::join, "Dependent should fail");
+        assertTrue(error.getCause() instanceof IllegalStateException, "Dependent should report it was skipped");
+        assertTrue(error.getCause().getCause() instanceof IllegalArgumentException, "Original failure should be kept");
+        assertFalse(ran[0], "Dependent should never run");
+        assertEquals("font", fonts.join(), "Unrelated stages should still run");
+        startup.all().join();
+        assertEquals(2, startup.get_timeline().size(), "Skipped stages should not be in the timeline");
+        startup.shutdown();
+    }
+
+    /**
+     * Tests that a preloaded image is decoded once and shared with later lookups.
+     */
+    @Test
+    @DisplayName("Preloaded Images Are Shared")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPreloadedImagesAreShared() {
+        StartupOrchestrator startup = new StartupOrchestrator(2);
+        String path = "images/tiles/floor01.png";
+        CompletableFuture<Void> group = ImageAssets.preload("test", List.of(path, "images/tiles/missing.png"),
+                                                            startup.get_workers());
+        assertSame(group, ImageAssets.group("test"), "Group should be registered as soon as it starts");
+        group.join();
+        BufferedImage image = ImageAssets.get(path);
+        assertNotNull(image, "Preloaded image should decode");
+        assertSame(image, ImageAssets.get(path), "Lookups should share the decoded image");
+        assertNull(ImageAssets.get("images/tiles/missing.png"), "Missing images should come back null");
+        assertTrue(ImageAssets.group("never-loaded").isDone(), "Unknown groups should count as done");
+        startup.shutdown();
+    }
+}
@@ -0,0 +1,236 @@
+package controller.replay;
+
+import controller.server.WorldSnapshot;
+import enums.CharacterClass;
+import model.gameLogic.GameLogic;
+import model.gameLogic.GameSession;
+import model.map.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for replay recording and playback: a recorded headless game reads
+ * back frame for frame, seeking a thirty-minute run stays under 100 ms,
+ * files without their index still open, and the player keeps time.
+ */
+@DisplayName("Replay Tests")
+class ReplayTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("replay");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (java.util.stream.Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private static void assertSameFrame(ReplayFrame expected, ReplayFrame actual) {
+        assertEquals(expected.get_tick(), actual.get_tick(), "Tick should match");
+        assertEquals(expected.get_characters(), actual.get_characters(), "Characters should match at " + expected.get_tick());
+        assertEquals(expected.get_projectiles(), actual.get_projectiles(), "Projectiles should match at " + expected.get_tick());
+        assertTrue(Arrays.equals(expected.get_explored(), actual.get_explored()),
+                   "Explored tiles should match at " + expected.get_tick());
+        assertEquals(Arrays.asList(expected.get_messages()), Arrays.asList(actual.get_messages()),
+                     "Messages should match at " + expected.get_tick());
+        assertEquals(Arrays.asList(expected.get_recent()), Arrays.asList(actual.get_recent()),
+                     "Recent messages should match at " + expected.get_tick());
+        assertEquals(expected.get_floor(), actual.get_floor(), "Floor should match at " + expected.get_tick());
+    }
+
+    /**
+     * Tests that a recorded headless game reads back with the characters and
+     * explored tiles the game had on every tick, in order and by seeking.
+     */
+    @Test
+    @DisplayName("Recorded Game Reads Back")
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void testRecordedGameReadsBack() throws IOException {
+        GameSession session = new GameSession(1, CharacterClass.WARRIOR, 49);
+        Path file = directory.resolve("game.mrr");
+        List<WorldSnapshot> expected = new ArrayList<>();
+        try {
+            session.start();
+            GameLogic logic = session.get_logic();
+            ReplayRecorder recorder = new ReplayRecorder(logic, file, 50, 10000, 16);
+            logic.add_observer((event, data) -> {
+                if ("GAME_STATE_UPDATED".equals(event) && logic.get_current_map() != null) {
+                    expected.add(WorldSnapshot.capture(expected.size(), logic));
+                }
+            });
+            logic.notify_observers("LOG_MESSAGE", "Recording started");
+            int[][] directions = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+            for (int tick = 0; tick < 400; tick++) {
+                if (tick % 40 == 0) {
+                    int[] direction = directions[tick / 40 % 4];
+                    session.set_move_direction(direction[0], direction[1]);
+                }
+                session.step(16);
+            }
+            recorder.close();
+            assertEquals(0, recorder.get_frames_dropped(), "A roomy queue should not drop frames");
+            assertEquals(expected.size(), recorder.get_frames_written(), "Every tick should be written");
+
+            Map map = logic.get_current_map();
+            try (ReplayReader reader = new ReplayReader(file)) {
+                assertTrue(reader.is_indexed(), "A closed recording should end with its index");
+                assertEquals(0, reader.get_first_tick(), "Replay should start at tick 0");
+                assertEquals(expected.size() - 1, reader.get_last_tick(), "Index should name the last tick");
+                assertEquals(expected.size() / 50 + (expected.size() % 50 == 0 ? 0 : 1), reader.get_keyframe_count(),
+                             "One keyframe every 50 frames on a single floor");
+
+                ReplayFrame frame = reader.seek(0);
+                assertEquals("Recording started", frame.get_messages()[0], "Log messages should be recorded");
+                long[] explored = frame.get_explored();
+                int frames = 1;
+                ReplayFrame next;
+                while ((next = reader.next()) != null) {
+                    assertEquals(expected.get(next.get_tick()), next.get_characters(), "Characters at " + next.get_tick());
+                    for (int i = 0; i < explored.length; i++) {
+                        assertEquals(explored[i], explored[i] & next.get_explored()[i], "Explored tiles should only grow");
+                    }
+                    explored = next.get_explored();
+                    frame = next;
+                    frames++;
+                }
+                assertEquals(expected.size(), frames, "Every frame should read back");
+                for (int x = 0; x < map.get_width(); x++) {
+                    for (int y = 0; y < map.get_height(); y++) {
+                        assertEquals(map.is_explored(x, y), frame.is_explored(x, y), "Last frame should match the fog");
+                        assertEquals(map.get_tile(x, y).get_tile_type(), frame.get_layout().get_tile_type(x, y),
+                                     "Layout should match the map");
+                    }
+                }
+
+                Random random = new Random(49);
+                for (int i = 0; i < 50; i++) {
+                    int tick = random.nextInt(expected.size());
+                    assertEquals(expected.get(tick), reader.seek(tick).get_characters(), "Seek to " + tick);
+                }
+            }
+        } finally {
+            session.dispose();
+        }
+    }
+
+    /**
+     * Tests that any tick of a thirty-minute run decodes to what was
+     * recorded. Seek times are measured by ReplayBenchmark, not here.
+     */
+    @Test
+    @DisplayName("Seeking A Thirty Minute Run")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void testSeekingAThirtyMinuteRun() throws IOException {
+        Path file = directory.resolve("long.mrr");
+        int ticks = SyntheticReplay.THIRTY_MINUTES;
+        SyntheticReplay run = new SyntheticReplay(ticks);
+        long size = SyntheticReplay.write(file, ticks, ReplayRecorder.DEFAULT_KEYFRAME_INTERVAL);
+        assertEquals(Files.size(file), size, "Writer should count every byte");
+
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertEquals(ticks - 1, reader.get_last_tick(), "Replay should cover the whole run");
+            Random random = new Random(49);
+            for (int i = 0; i < 200; i++) {
+                int tick = random.nextInt(ticks);
+                assertSameFrame(run.frame(tick), reader.seek(tick));
+            }
+
+            // Floor boundaries start with a keyframe and carry on with deltas
+            assertSameFrame(run.frame(SyntheticReplay.FLOOR_TICKS), reader.seek(SyntheticReplay.FLOOR_TICKS));
+            assertSameFrame(run.frame(SyntheticReplay.FLOOR_TICKS + 1), reader.next());
+            assertSameFrame(run.frame(SyntheticReplay.FLOOR_TICKS - 1), reader.seek(SyntheticReplay.FLOOR_TICKS - 1));
+            assertSameFrame(run.frame(ticks - 1), reader.seek(ticks + 1000));
+            assertNull(reader.next(), "Reading past the last frame should end the replay");
+        }
+    }
+
+    /**
+     * Tests that a file cut off before its index (the game was closed while
+     * recording) still opens, by scanning its records.
+     */
+    @Test
+    @DisplayName("Unfinished File Still Opens")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testUnfinishedFileStillOpens() throws IOException {
+        Path file = directory.resolve("cut.mrr");
+        SyntheticReplay run = new SyntheticReplay(2000);
+        SyntheticReplay.write(file, 2000, 100);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 13));
+
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertFalse(reader.is_indexed(), "A cut file has no index");
+            assertEquals(1999, reader.get_last_tick(), "Every complete frame should be found");
+            assertEquals(20, reader.get_keyframe_count(), "Scanning should find every keyframe");
+            assertSameFrame(run.frame(1234), reader.seek(1234));
+        }
+
+        Files.write(file, Arrays.copyOf(bytes, 40));
+        assertThrows(IOException.class, () -> new ReplayReader(file), "A file with no whole keyframe cannot be played");
+    }
+
+    /**
+     * Tests that the player shows the frame due at the caller's time, runs
+     * flat out at unlimited speed, pauses and seeks.
+     */
+    @Test
+    @DisplayName("Player Keeps Time")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPlayerKeepsTime() throws Exception {
+        Path file = directory.resolve("play.mrr");
+        SyntheticReplay.write(file, 3000, 100);
+
+        try (ReplayPlayer player = new ReplayPlayer(new ReplayReader(file))) {
+            assertEquals(0, player.get_current().get_tick(), "Playback should start at the first frame");
+            player.update(1000);
+            ReplayFrame frame = player.get_current();
+            while (frame.get_tick() < 10) {
+                Thread.sleep(1); // Read-ahead may not have caught up yet
+                frame = player.update(1000 + 10 * SyntheticReplay.TICK_MILLIS);
+            }
+            assertEquals(10, frame.get_tick(), "Real-time playback should show the frame due now");
+
+            player.set_paused(true);
+            assertEquals(10, player.update(50000).get_tick(), "A paused replay should not move");
+            player.set_paused(false);
+            player.set_speed(2);
+            player.update(60000);
+            while (frame.get_tick() < 20) {
+                Thread.sleep(1);
+                frame = player.update(60000 + 5 * SyntheticReplay.TICK_MILLIS);
+            }
+            assertEquals(20, frame.get_tick(), "Double speed should move two ticks per tick of time");
+
+            assertEquals(2500, player.seek(2500).get_tick(), "Seek should land on the tick");
+            player.set_speed(ReplayPlayer.UNLIMITED);
+            while (!player.is_finished()) {
+                frame = player.update(70000);
+            }
+            frame = player.update(70000);
+            assertEquals(2999, frame.get_tick(), "Unlimited speed should reach the end without waiting for time");
+            assertNull(player.get_failure(), "A good file should play without errors");
+        }
+    }
+}
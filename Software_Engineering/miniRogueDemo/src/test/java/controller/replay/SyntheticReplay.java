@@ -0,0 +1,123 @@
+package controller.replay;
+
+import controller.server.WorldSnapshot;
+import model.map.Map;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Builds replay frames for a long run without playing one: every value is
+ * a function of the tick, so any frame can be rebuilt to check a seek.
+ * Characters wander, projectiles come and go, tiles are explored steadily,
+ * a log message arrives now and then and the floor changes every
+ * FLOOR_TICKS ticks.
+ */
+public final class SyntheticReplay {
+    public static final int TICK_MILLIS = 16;
+    public static final int THIRTY_MINUTES = 30 * 60 * 1000 / TICK_MILLIS;
+    public static final int FLOOR_TICKS = 20000;
+
+    private static final int ENEMIES = 40;
+    private static final int WIDTH = 50;
+    private static final int HEIGHT = 30;
+    private static final int MESSAGE_EVERY = 500;
+    private static final int PROJECTILE_EVERY = 30;
+    private static final int PROJECTILE_LIFE = 60;
+
+    private final FloorLayout[] layouts;
+
+    public SyntheticReplay(int ticks) {
+        Random random = new Random(49);
+        layouts = new FloorLayout[ticks / FLOOR_TICKS + 1];
+        for (int f = 0; f < layouts.length; f++) {
+            byte[] tiles = new byte[WIDTH * HEIGHT];
+            for (int i = 0; i < tiles.length; i++) {
+                tiles[i] = (byte) (random.nextInt(4) == 0 ? 1 : 0);
+            }
+            layouts[f] = new FloorLayout(f + 1, Map.FloorType.REGULAR, WIDTH, HEIGHT, tiles);
+        }
+    }
+
+    /**
+     * Write a run of the given length
+     *
+     * @return Size of the file in bytes
+     */
+    public static long write(Path file, int ticks, int keyframeInterval) throws IOException {
+        SyntheticReplay run = new SyntheticReplay(ticks);
+        ReplayWriter writer = new ReplayWriter(file, keyframeInterval, 256, TICK_MILLIS);
+        for (int t = 0; t < ticks; t++) {
+            ReplayFrame frame = run.frame(t);
+            while (!writer.offer(frame)) {
+                Thread.yield();
+            }
+        }
+        writer.close();
+        return writer.get_bytes_written();
+    }
+
+    /**
+     * The frame recorded at a tick
+     */
+    public ReplayFrame frame(int tick) {
+        int floor = tick / FLOOR_TICKS;
+        FloorLayout layout = layouts[floor];
+
+        int[] ids = new int[ENEMIES + 1];
+        int[] x = new int[ENEMIES + 1];
+        int[] y = new int[ENEMIES + 1];
+        int[] state = new int[ENEMIES + 1];
+        int[] hp = new int[ENEMIES + 1];
+        x[0] = WorldSnapshot.QUANTUM * (200 + (tick / 2) % 1000);
+        y[0] = WorldSnapshot.QUANTUM * (300 + (tick / 3) % 500);
+        state[0] = WorldSnapshot.PLAYER | WorldSnapshot.ALIVE | (tick / 40 % 9) << WorldSnapshot.FACING_SHIFT;
+        hp[0] = 100 - tick / 100 % 50;
+        for (int id = 1; id <= ENEMIES; id++) {
+            ids[id] = id;
+            x[id] = WorldSnapshot.QUANTUM * ((id * 97 + tick * (id % 3)) % 1600);
+            y[id] = WorldSnapshot.QUANTUM * ((id * 53 + tick / (id % 4 + 1)) % 960);
+            state[id] = WorldSnapshot.ALIVE | ((tick / 100 + id) % 7 == 0 ? WorldSnapshot.HIT : 0)
+                | (id == ENEMIES ? WorldSnapshot.BOSS : 0);
+            hp[id] = 100 - (tick / 50 + id) % 100;
+        }
+        WorldSnapshot characters = new WorldSnapshot(tick, floor + 1, ids, x, y, state, hp);
+
+        int first = tick < PROJECTILE_LIFE ? 0 : (tick - PROJECTILE_LIFE) / PROJECTILE_EVERY + 1;
+        int last = tick / PROJECTILE_EVERY;
+        int count = last - first + 1;
+        int[] projectileIds = new int[count];
+        int[] px = new int[count];
+        int[] py = new int[count];
+        int[] pstate = new int[count];
+        int[] colour = new int[count];
+        for (int i = 0; i < count; i++) {
+            int k = first + i;
+            int age = tick - k * PROJECTILE_EVERY;
+            projectileIds[i] = k;
+            px[i] = WorldSnapshot.QUANTUM * (100 + k % 50 * 10 + age * 3);
+            py[i] = WorldSnapshot.QUANTUM * (100 + k % 30 * 10);
+            pstate[i] = WorldSnapshot.ALIVE | WorldSnapshot.PLAYER | 8 << WorldSnapshot.FACING_SHIFT;
+            colour[i] = 0x00FFFF;
+        }
+        WorldSnapshot projectiles = new WorldSnapshot(tick, floor + 1, projectileIds, px, py, pstate, colour);
+
+        long[] explored = new long[layout.get_words_per_row() * HEIGHT];
+        int revealed = Math.min(WIDTH * HEIGHT, (tick - floor * FLOOR_TICKS) / 10);
+        for (int i = 0; i < revealed; i++) {
+            int tx = i % WIDTH;
+            int ty = i / WIDTH;
+            explored[ty * layout.get_words_per_row() + (tx >>> 6)] |= 1L << tx;
+        }
+
+        String[] messages = tick % MESSAGE_EVERY == 0 ? new String[] {"Tick " + tick} : ReplayFrame.NO_MESSAGES;
+        int newest = tick / MESSAGE_EVERY;
+        int oldest = Math.max(0, newest - ReplayFormat.RECENT_MESSAGES + 1);
+        String[] recent = new String[newest - oldest + 1];
+        for (int j = oldest; j <= newest; j++) {
+            recent[j - oldest] = "Tick " + j * MESSAGE_EVERY;
+        }
+        return new ReplayFrame(tick, layout, characters, projectiles, explored, messages, recent);
+    }
+}
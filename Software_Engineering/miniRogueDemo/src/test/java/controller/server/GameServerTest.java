@@ -0,0 +1,224 @@
+package controller.server;
+
+import enums.CharacterClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the game server: the snapshot delta codec, the wire helpers and
+ * a localhost round trip with a player and a spectator.
+ */
+@DisplayName("GameServer Tests")
+class GameServerTest {
+
+    private static WorldSnapshot snapshot(int tick, int[] ids, int[] x, int[] y, int[] state, int[] hp) {
+        return new WorldSnapshot(tick, 1, ids, x, y, state, hp);
+    }
+
+    private static WorldSnapshot round_trip(WorldSnapshot base, WorldSnapshot next, int[] size) {
+        ByteBuffer out = ByteBuffer.allocate(SnapshotCodec.max_size(base, next));
+        SnapshotCodec.encode(base, next, out);
+        out.flip();
+        size[0] = out.remaining();
+        return SnapshotCodec.decode(base, out);
+    }
+
+    /**
+     * Tests that full and delta snapshots decode to what was encoded, and
+     * that deltas only carry what changed.
+     */
+    @Test
+    @DisplayName("Deltas Round Trip")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDeltasRoundTrip() {
+        WorldSnapshot first = snapshot(5, new int[] {0, 3, 9, 200}, new int[] {400, -8, 1200, 77},
+                                       new int[] {400, 16, 36, 5000}, new int[] {65, 1, 33, 1}, new int[] {100, 20, 500, 3});
+        int[] size = new int[1];
+        assertEquals(first, round_trip(WorldSnapshot.EMPTY, first, size), "Full snapshot should round trip");
+        int fullSize = size[0];
+
+        // Entity 3 moves, 9 loses hp, 200 leaves, 12 arrives
+        WorldSnapshot second = snapshot(6, new int[] {0, 3, 9, 12}, new int[] {400, -4, 1200, 10},
+                                        new int[] {400, 16, 36, 20}, new int[] {65, 1, 33, 1}, new int[] {100, 20, 480, 9});
+        assertEquals(second, round_trip(first, second, size), "Delta should round trip");
+        assertTrue(size[0] < fullSize, "Delta should be smaller than a full snapshot: " + size[0] + " vs " + fullSize);
+
+        WorldSnapshot still = snapshot(7, new int[] {0, 3, 9, 12}, new int[] {400, -4, 1200, 10},
+                                       new int[] {400, 16, 36, 20}, new int[] {65, 1, 33, 1}, new int[] {100, 20, 480, 9});
+        assertEquals(still, round_trip(second, still, size), "Unchanged snapshot should round trip");
+        assertTrue(size[0] <= 10, "Nothing changed, so only the header should be sent: " + size[0]);
+
+        ByteBuffer out = ByteBuffer.allocate(SnapshotCodec.max_size(first, second));
+        SnapshotCodec.encode(first, second, out);
+        out.flip();
+        assertEquals(5, SnapshotCodec.baseline_tick(out), "Payload should name its baseline");
+        assertThrows(IllegalArgumentException.class, () -> SnapshotCodec.decode(still, out),
+                     "Decoding against the wrong baseline should fail");
+    }
+
+    /**
+     * Tests varints, zigzag values and frame splitting.
+     */
+    @Test
+    @DisplayName("Wire Helpers")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testWireHelpers() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        int[] values = {0, 1, 127, 128, 300, Integer.MAX_VALUE, -1};
+        for (int value : values) Protocol.put_varint(buffer, value);
+        for (int value : values) Protocol.put_signed(buffer, value);
+        buffer.flip();
+        for (int value : values) assertEquals(value, Protocol.get_varint(buffer), "Varint should round trip");
+        for (int value : values) assertEquals(value, Protocol.get_signed(buffer), "Signed varint should round trip");
+
+        Protocol.FrameReader reader = new Protocol.FrameReader();
+        ByteBuffer move = GameClient.move_frame(-1, 1);
+        ByteBuffer action = GameClient.action_frame("pause");
+        ByteBuffer in = reader.get_buffer();
+        in.put(move);
+        in.put(action.array(), 0, 3); // Second frame arrives in two pieces
+        assertEquals(Protocol.MOVE, reader.next_frame().get(), "First frame should be complete");
+        assertNull(reader.next_frame(), "Half a frame should wait for the rest");
+        reader.get_buffer().put(action.array(), 3, action.limit() - 3);
+        ByteBuffer frame = reader.next_frame();
+        assertEquals(Protocol.ACTION, frame.get(), "Second frame should complete");
+        assertEquals("pause", Protocol.get_string(frame), "Payload should survive the split");
+    }
+
+    /**
+     * Tests a player and a spectator on localhost: both get the same
+     * world, deltas after the first acknowledgement, and movement input.
+     */
+    @Test
+    @DisplayName("Player And Spectator Round Trip")
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void testPlayerAndSpectatorRoundTrip() throws Exception {
+        try (GameServer server = new GameServer(0, 2, 16);
+             SocketChannel playerSocket = SocketChannel.open();
+             SocketChannel spectatorSocket = SocketChannel.open()) {
+            server.start();
+            playerSocket.connect(new InetSocketAddress("localhost", server.get_port()));
+            GameClient player = new GameClient();
+            Protocol.FrameReader playerReader = new Protocol.FrameReader();
+            playerSocket.write(GameClient.join_frame(Protocol.PLAY, CharacterClass.WARRIOR, 0));
+            while (player.get_session_id() < 0) pump(playerSocket, playerReader, player);
+
+            spectatorSocket.connect(new InetSocketAddress("localhost", server.get_port()));
+            GameClient spectator = new GameClient();
+            Protocol.FrameReader spectatorReader = new Protocol.FrameReader();
+            spectatorSocket.write(GameClient.join_frame(Protocol.SPECTATE, CharacterClass.WARRIOR, player.get_session_id()));
+            while (spectator.get_snapshots() < 10) pump(spectatorSocket, spectatorReader, spectator);
+            while (player.get_snapshots() < 10) pump(playerSocket, playerReader, player);
+            assertEquals(player.get_session_id(), spectator.get_session_id(), "Spectator should watch the player's session");
+            assertTrue(player.get_latest().size() > 1, "Snapshot should include enemies");
+
+            WorldSnapshot before = player.get_latest();
+            int x = before.get_x(before.index_of(WorldSnapshot.PLAYER_ID));
+            int y = before.get_y(before.index_of(WorldSnapshot.PLAYER_ID));
+            spectatorSocket.write(GameClient.move_frame(0, 1)); // Spectators cannot move the player
+            WorldSnapshot after = before;
+            for (int dx : new int[] {1, -1}) { // If a wall blocks one way, the other is open
+                playerSocket.write(GameClient.move_frame(dx, 0));
+                long target = player.get_snapshots() + 20;
+                while (player.get_snapshots() < target) pump(playerSocket, playerReader, player);
+                after = player.get_latest();
+                if (after.get_x(after.index_of(WorldSnapshot.PLAYER_ID)) != x) break;
+            }
+            int index = after.index_of(WorldSnapshot.PLAYER_ID);
+            assertNotEquals(x, after.get_x(index), "Player should move while a movement key is held");
+            assertEquals(y, after.get_y(index), "Spectator input should be ignored");
+
+            // Once the player has acknowledged, everything after is a delta
+            long fullSnapshots = player.get_full_snapshots();
+            long target = player.get_snapshots() + 20;
+            while (player.get_snapshots() < target) pump(playerSocket, playerReader, player);
+            assertTrue(fullSnapshots > 0, "The first snapshot should be full");
+            assertEquals(fullSnapshots, player.get_full_snapshots(), "Acknowledged clients should only get deltas");
+
+            // The spectator decodes the same world for the same tick
+            while (spectator.get_latest().get_tick() < after.get_tick()) pump(spectatorSocket, spectatorReader, spectator);
+            assertTrue(server.get_snapshots_sent() > 40, "Server should have streamed to both clients");
+            assertEquals(1, server.get_session_count(), "Both clients should share one session");
+        }
+    }
+
+    /**
+     * Tests that a client who disconnects while its session is still being
+     * opened leaves no session behind.
+     */
+    @Test
+    @DisplayName("Client Leaving During Join Closes Its Session")
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void testClientLeavingDuringJoinClosesItsSession() throws Exception {
+        // One worker opens sessions in order, so the second join finishes after the first
+        try (GameServer server = new GameServer(0, 1, 16)) {
+            server.start();
+            try (SocketChannel leaving = SocketChannel.open()) {
+                leaving.connect(new InetSocketAddress("localhost", server.get_port()));
+                leaving.write(GameClient.join_frame(Protocol.PLAY, CharacterClass.WARRIOR, 0));
+            }
+            while (server.get_connection_count() > 0) Thread.sleep(1);
+
+            try (SocketChannel staying = SocketChannel.open()) {
+                staying.connect(new InetSocketAddress("localhost", server.get_port()));
+                GameClient client = new GameClient();
+                Protocol.FrameReader reader = new Protocol.FrameReader();
+                staying.write(GameClient.join_frame(Protocol.PLAY, CharacterClass.WARRIOR, 0));
+                while (client.get_snapshots() < 1) pump(staying, reader, client);
+                assertEquals(1, server.get_session_count(), "Only the connected client's session should be streamed");
+                assertEquals(1, server.get_hosted_session_count(), "The departed client's session should be closed");
+            }
+        }
+    }
+
+    /**
+     * Tests that actions which need data or would restart the game are
+     * refused, and the session keeps streaming afterwards.
+     */
+    @Test
+    @DisplayName("Unsupported Actions Are Rejected")
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void testUnsupportedActionsAreRejected() throws Exception {
+        try (GameServer server = new GameServer(0, 1, 16);
+             SocketChannel socket = SocketChannel.open()) {
+            server.start();
+            socket.connect(new InetSocketAddress("localhost", server.get_port()));
+            GameClient client = new GameClient();
+            Protocol.FrameReader reader = new Protocol.FrameReader();
+            socket.write(GameClient.join_frame(Protocol.PLAY, CharacterClass.WARRIOR, 0));
+            while (client.get_snapshots() < 1) pump(socket, reader, client);
+
+            for (String action : new String[] {"upgrade_equipment", "use_item", "class_selected"}) {
+                socket.write(GameClient.action_frame(action));
+                String expected = "Unsupported action " + action;
+                while (!expected.equals(client.get_rejection())) pump(socket, reader, client);
+            }
+            socket.write(GameClient.action_frame("pause"));
+            long target = client.get_snapshots() + 10;
+            while (client.get_snapshots() < target) pump(socket, reader, client);
+            assertEquals("Unsupported action class_selected", client.get_rejection(),
+                         "Supported actions should not be rejected");
+            assertEquals(1, server.get_session_count(), "The session should keep streaming");
+        }
+    }
+
+    private static void pump(SocketChannel socket, Protocol.FrameReader reader, GameClient client) throws IOException {
+        if (socket.read(reader.get_buffer()) < 0) {
+            fail("Server closed the connection");
+        }
+        ByteBuffer frame;
+        while ((frame = reader.next_frame()) != null) {
+            ByteBuffer reply = client.handle(frame);
+            if (reply != null) socket.write(reply);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package model.characters;
+
+import enums.CharacterClass;
+import enums.TileType;
+import model.entity.EntityStore;
+import model.map.Map;
+import utilities.GameClock;
+import utilities.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for character timers kept as entity store columns.
+ */
+@DisplayName("Character Components Tests")
+class CharacterComponentsTest {
+
+    private static final int TILE = enums.GameConstants.TILE_SIZE;
+
+    private GameClock clock;
+    private EntityStore store;
+    private CharacterComponents components;
+    private Map map;
+
+    @BeforeEach
+    void setUp() {
+        clock = GameClock.virtual();
+        store = new EntityStore();
+        components = new CharacterComponents(store);
+        TileType[] layout = new TileType[10 * 10];
+        Arrays.fill(layout, TileType.FLOOR);
+        for (int x = 0; x < 10; x++) {
+            layout[x] = TileType.WALL;
+            layout[9 * 10 + x] = TileType.WALL;
+        }
+        map = new Map(1, Map.FloorType.REGULAR, 10, 10, layout);
+    }
+
+    private Enemy new_enemy(int x, int y) {
+        Enemy enemy = new Enemy("Grunt", CharacterClass.WARRIOR, new Position(x, y), "aggressive");
+        enemy.set_clock(clock);
+        return enemy;
+    }
+
+    /**
+     * Tests that a character not on a floor keeps working timers in its own row.
+     */
+    @Test
+    @DisplayName("Detached Row Runs Timers")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDetachedRowRunsTimers() {
+        Enemy enemy = new_enemy(5, 5);
+        assertEquals(-1, enemy.get_component_entity(), "A new character should be detached");
+
+        enemy.setImmune(500);
+        assertTrue(enemy.isImmune(), "Immunity should start at once");
+        clock.advance(499);
+        enemy.updateImmunity();
+        assertTrue(enemy.isImmune(), "Immunity should last its full duration");
+        clock.advance(1);
+        enemy.updateImmunity();
+        assertFalse(enemy.isImmune(), "Immunity should end on time");
+        assertEquals(0, store.size(), "A detached character should not use the shared store");
+    }
+
+    /**
+     * Tests that moving a row into a store and back out keeps its state.
+     */
+    @Test
+    @DisplayName("Attach And Detach Keep State")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testAttachAndDetachKeepState() {
+        Enemy enemy = new_enemy(5, 5);
+        enemy.setImmune(1000);
+        enemy.triggerPushback(1, 0, 2 * TILE, 4);
+
+        enemy.attach_components(components);
+        int entity = enemy.get_component_entity();
+        assertTrue(store.is_alive(entity), "Attached character should have a row in the store");
+        assertTrue(enemy.isImmune(), "Immunity should survive the move in");
+        assertTrue(enemy.isBeingPushed(), "Pushback should survive the move in");
+
+        enemy.detach_components();
+        assertEquals(-1, enemy.get_component_entity(), "Detached character should have no shared row");
+        assertFalse(store.is_alive(entity), "Detaching should drop the shared row");
+        assertEquals(0, store.size(), "Store should be empty again");
+        assertTrue(enemy.isImmune(), "Immunity should survive the move out");
+        assertTrue(enemy.isBeingPushed(), "Pushback should survive the move out");
+    }
+
+    /**
+     * Tests that the status-timer system expires immunity for every row in one pass.
+     */
+    @Test
+    @DisplayName("Status Timer System Updates Every Row")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testStatusTimerSystemUpdatesEveryRow() {
+        List<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Enemy enemy = new_enemy(1 + i % 8, 1 + i / 8 % 8);
+            enemy.attach_components(components);
+            enemy.setImmune(i % 2 == 0 ? 100 : 300);
+            enemies.add(enemy);
+        }
+        assertEquals(100, store.size(), "Every character should have a row");
+
+        clock.advance(200);
+        components.update_status_timers(clock.now());
+        for (int i = 0; i < enemies.size(); i++) {
+            assertEquals(i % 2 != 0, enemies.get(i).isImmune(),
+                         "Only the longer immunities should remain: " + i);
+        }
+        clock.advance(100);
+        components.update_status_timers(clock.now());
+        for (Enemy enemy : enemies) {
+            assertFalse(enemy.isImmune(), "Every immunity should have ended");
+        }
+    }
+
+    /**
+     * Tests that the pushback system moves attached characters and stops at walls.
+     */
+    @Test
+    @DisplayName("Pushback System Moves Attached Characters")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPushbackSystemMovesAttachedCharacters() {
+        Enemy free = new_enemy(3, 5);
+        Enemy blocked = new_enemy(5, 1);
+        free.attach_components(components);
+        blocked.attach_components(components);
+        float startX = free.getPixelX();
+
+        free.triggerPushback(1, 0, TILE, 4);
+        blocked.setImmune(1000);
+        blocked.triggerPushback(0, -1, TILE, TILE);
+        components.update_pushback(map, clock.now());
+
+        assertEquals(startX + 4, free.getPixelX(), 0.001f, "Pushback should move by its speed each frame");
+        assertTrue(free.isBeingPushed(), "Pushback should go on until its distance is covered");
+        assertFalse(blocked.isBeingPushed(), "A wall should stop pushback");
+        assertEquals(1, blocked.get_position().get_y(), "A wall should keep the character in place");
+
+        for (int frame = 0; frame < TILE; frame++) {
+            components.update_pushback(map, clock.now());
+        }
+        assertEquals(startX + TILE, free.getPixelX(), 0.001f, "Pushback should cover exactly its distance");
+        assertFalse(free.isBeingPushed(), "Pushback should end after its distance");
+
+        clock.advance(1000);
+        components.update_status_timers(clock.now());
+        assertTrue(blocked.isImmune(), "Hitting a wall should extend immunity by half");
+        clock.advance(500);
+        components.update_status_timers(clock.now());
+        assertFalse(blocked.isImmune(), "Extended immunity should still end");
+    }
+}
@@ -0,0 +1,108 @@
+package model.characters;
+
+import enums.CharacterClass;
+import enums.Stat;
+import utilities.Position;
+import model.equipment.Weapon;
+import model.equipment.Armor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the cached equipment-derived stats on Character.
+ */
+@DisplayName("Derived Stats Cache Tests")
+class DerivedStatsTest {
+
+    private Player player;
+    private Weapon axe;
+    private Armor plate;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player("Stats", CharacterClass.WARRIOR, new Position(0, 0));
+        axe = new Weapon("Axe", 20, 5, CharacterClass.WARRIOR, 1, Weapon.WeaponType.IMPACT, "axe.png", "Impact");
+        plate = new Armor("Plate", 10, 8, 2, CharacterClass.WARRIOR, 1, "plate.png", "Universal");
+    }
+
+    /**
+     * Tests that the stat array mirrors the display map.
+     */
+    @Test
+    @DisplayName("Stat Array Mirrors Modifier Map")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testStatArrayMirrorsModifierMap() {
+        Map<String, Float> modifiers = axe.get_stat_modifiers();
+        for (Stat stat : Stat.values()) {
+            float expected = modifiers.getOrDefault(stat.get_label(), 0.0f);
+            assertEquals(expected, axe.get_stat_modifier(stat), 0.0001f, "Array value should match map for " + stat);
+        }
+        assertEquals(Stat.SPEED, Stat.from_label("Speed"), "Labels should map back to stats");
+    }
+
+    /**
+     * Tests that equipping and unequipping updates the cached totals.
+     */
+    @Test
+    @DisplayName("Equip And Unequip Update Totals")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testEquipAndUnequipUpdateTotals() {
+        player.unequip_weapon();
+        player.unequip_armor();
+        int bare = player.get_total_attack();
+        assertEquals(0, player.get_total_defense(), "No armor should mean no defense");
+
+        assertTrue(player.equip_weapon(axe), "Warrior should equip an impact weapon");
+        assertEquals((int) (player.get_base_atk() + axe.get_stat_modifier(Stat.ATTACK)), player.get_total_attack(),
+            "Attack should include the weapon modifier");
+        assertTrue(player.equip_armor(plate), "Armor should equip");
+        assertEquals(plate.get_defense_value(), player.get_total_defense(), "Defense should come from the armor");
+        assertEquals(axe.get_stat_modifier(Stat.SPEED) + plate.get_stat_modifier(Stat.SPEED),
+            player.getEquipmentSpeedModifier(), 0.0001f, "Speed modifier should sum weapon and armor");
+
+        player.unequip_weapon();
+        assertEquals(bare, player.get_total_attack(), "Unequipping should drop the weapon modifier");
+    }
+
+    /**
+     * Tests that stat points and equipment tiers are picked up without stale reads.
+     */
+    @Test
+    @DisplayName("Stat Points And Tiers Invalidate")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testStatPointsAndTiersInvalidate() {
+        player.equip_weapon(axe);
+        int before = player.get_total_attack();
+        player.increment_level_points();
+        assertTrue(player.increase_stat("attack"), "Spending a level point should succeed");
+        assertTrue(player.get_total_attack() > before, "Attack points should raise the total right away");
+
+        int version = axe.get_modifier_version();
+        assertTrue(axe.increaseTier(), "Tier should increase");
+        assertNotEquals(version, axe.get_modifier_version(), "Tier change should bump the modifier version");
+        assertEquals((int) (player.get_base_atk() + axe.get_stat_modifier(Stat.ATTACK)), player.get_total_attack(),
+            "Totals should still match the equipment after a tier change");
+    }
+
+    /**
+     * Tests that enemies built with direct equipment assignment report consistent totals.
+     */
+    @Test
+    @DisplayName("Enemy Totals Match Equipment")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testEnemyTotalsMatchEquipment() {
+        Enemy enemy = new Enemy("Armed", CharacterClass.WARRIOR, new Position(1, 1), "aggressive");
+        Armor armor = enemy.get_equipped_armor();
+        int expectedDefense = armor != null ? armor.get_defense_value() : 0;
+        assertEquals(expectedDefense, enemy.get_total_defense(), "Enemy defense should come from its armor");
+        enemy.set_equipped_armor(null);
+        assertEquals(0, enemy.get_total_defense(), "Removing armor should clear the cached defense");
+    }
+}
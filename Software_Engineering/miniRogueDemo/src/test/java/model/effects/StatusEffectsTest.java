@@ -0,0 +1,142 @@
+package model.effects;
+
+import enums.CharacterClass;
+import model.characters.Enemy;
+import utilities.GameClock;
+import utilities.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the per-character timed effect engine.
+ */
+@DisplayName("Status Effects Tests")
+class StatusEffectsTest {
+
+    // Defined once for the whole run; definitions are global
+    private static final StatusEffect POISON = StatusEffect.define("test_poison", 3, StatusEffect.Stacking.EXTEND,
+        "TEST_POISON_STARTED", "TEST_POISON_ENDED");
+
+    private static class Recorder implements StatusEffects.Listener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void on_effect_started(StatusEffect effect, int stacks, long durationMs) {
+            events.add("start:" + effect.get_name() + ":" + stacks);
+        }
+
+        @Override
+        public void on_effect_ended(StatusEffect effect, long now) {
+            events.add("end:" + effect.get_name());
+        }
+    }
+
+    /**
+     * Tests that effects expire in time order, once each, on tick.
+     */
+    @Test
+    @DisplayName("Effects Expire In Order")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testEffectsExpireInOrder() {
+        Recorder recorder = new Recorder();
+        StatusEffects effects = new StatusEffects(recorder);
+        effects.apply(StatusEffect.SWIFTNESS, 300, 0);
+        effects.apply(StatusEffect.CLARITY, 100, 0);
+        effects.apply(StatusEffect.INVISIBILITY, 200, 0);
+        assertEquals(StatusEffect.SWIFTNESS.get_bit() | StatusEffect.CLARITY.get_bit() | StatusEffect.INVISIBILITY.get_bit(),
+            effects.get_active_mask(), "All three effects should be in the mask");
+
+        assertEquals(0, effects.tick(99), "Nothing should expire early");
+        assertEquals(2, effects.tick(200), "Clarity and invisibility should expire by 200");
+        assertEquals(1, effects.tick(1000), "Swiftness should expire last");
+        assertEquals(0, effects.tick(2000), "Expired effects should not end twice");
+        assertEquals(List.of("start:swiftness:1", "start:clarity:1", "start:invisibility:1",
+            "end:clarity", "end:invisibility", "end:swiftness"), recorder.events, "Events should follow expiry order");
+        assertEquals(0L, effects.get_active_mask(), "Mask should be empty");
+    }
+
+    /**
+     * Tests that refreshing restarts the timer and leaves no stale expiry.
+     */
+    @Test
+    @DisplayName("Refresh Restarts Timer")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRefreshRestartsTimer() {
+        Recorder recorder = new Recorder();
+        StatusEffects effects = new StatusEffects(recorder);
+        effects.apply(StatusEffect.CLARITY, 100, 0);
+        effects.apply(StatusEffect.CLARITY, 100, 80);
+        assertTrue(effects.is_active(StatusEffect.CLARITY, 150), "Refreshed effect should outlast its first timer");
+        assertEquals(1, effects.get_stacks(StatusEffect.CLARITY), "Non-stacking effects should stay at one stack");
+        assertEquals(0.5f, effects.get_progress(StatusEffect.CLARITY, 130), 0.001f, "Progress should follow the refreshed run");
+        assertFalse(effects.is_active(StatusEffect.CLARITY, 180), "Refreshed effect should end at its new time");
+        assertEquals(1, recorder.events.stream().filter(e -> e.startsWith("end")).count(), "Effect should end exactly once");
+    }
+
+    /**
+     * Tests stacking with extension up to the stack limit.
+     */
+    @Test
+    @DisplayName("Stacks Extend Up To Limit")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testStacksExtendUpToLimit() {
+        StatusEffects effects = new StatusEffects(null);
+        for (int i = 0; i < 5; i++) {
+            effects.apply(POISON, 100, 0);
+        }
+        assertEquals(3, effects.get_stacks(POISON), "Stacks should stop at the limit");
+        assertEquals(500, effects.get_remaining(POISON, 0), "Each application should extend the timer");
+        assertTrue(effects.is_active_at(POISON, 499), "Effect should run until the extended end");
+        assertFalse(effects.is_active_at(POISON, 500), "Effect should be over at the extended end");
+        assertTrue((effects.get_active_mask() & POISON.get_bit()) != 0, "Side-effect free check should not expire the effect");
+        assertSame(POISON, StatusEffect.by_name("test_poison"), "Effects should be found by name");
+        assertThrows(IllegalArgumentException.class,
+            () -> StatusEffect.define("test_poison", 1, StatusEffect.Stacking.REFRESH, null, null), "Names should be unique");
+    }
+
+    /**
+     * Tests that cancel is silent and end fires the end event.
+     */
+    @Test
+    @DisplayName("Cancel And End")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testCancelAndEnd() {
+        Recorder recorder = new Recorder();
+        StatusEffects effects = new StatusEffects(recorder);
+        effects.apply(StatusEffect.HIT, 100, 0);
+        effects.cancel(StatusEffect.HIT);
+        assertFalse(effects.is_active(StatusEffect.HIT, 0), "Cancelled effect should be inactive");
+        assertEquals(0, effects.tick(1000), "Cancelled effect should not expire later");
+        effects.apply(StatusEffect.HIT, 100, 0);
+        effects.end(StatusEffect.HIT, 10);
+        assertEquals(List.of("start:hit:1", "start:hit:1", "end:hit"), recorder.events, "Only end should send an end event");
+    }
+
+    /**
+     * Tests that enemy hit states run on the engine and end in a chase.
+     */
+    @Test
+    @DisplayName("Enemy Hit State Ends In Chase")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testEnemyHitStateEndsInChase() {
+        GameClock clock = GameClock.virtual();
+        Enemy enemy = new Enemy("Target", CharacterClass.WARRIOR, new Position(2, 2), "aggressive");
+        enemy.set_clock(clock);
+        enemy.triggerHitState(500);
+        assertTrue(enemy.isInHitState(), "Enemy should be in hit state");
+        assertTrue(enemy.is_engaged(), "Hit enemies should not be throttled");
+        assertFalse(enemy.isChasingPlayer(), "Enemy should not chase while hit");
+
+        clock.advance(Enemy.BASE_HIT_STATE_DURATION);
+        enemy.updateImmunity();
+        assertFalse(enemy.isInHitState(), "Hit state should end after its duration");
+        assertTrue(enemy.isChasingPlayer(), "Enemy should chase once the hit state ends");
+    }
+}
@@ -0,0 +1,121 @@
+package model.entity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the dense entity-component store.
+ */
+@DisplayName("Entity Store Tests")
+class EntityStoreTest {
+
+    private EntityStore store;
+    private EntityStore.LongColumn times;
+    private EntityStore.ObjectColumn<String> names;
+
+    @BeforeEach
+    void setUp() {
+        store = new EntityStore();
+        times = store.add_column(new EntityStore.LongColumn(-1L));
+        names = store.add_column(new EntityStore.ObjectColumn<>());
+    }
+
+    /**
+     * Tests that created entities are alive with default column values.
+     */
+    @Test
+    @DisplayName("Create Gives Default Row")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testCreateGivesDefaultRow() {
+        int entity = store.create();
+        assertTrue(store.is_alive(entity), "New entity should be alive");
+        assertEquals(1, store.size(), "Store should hold one entity");
+        int row = store.index_of(entity);
+        assertEquals(-1L, times.get(row), "Long column should start at its default");
+        assertNull(names.get(row), "Object column should start empty");
+    }
+
+    /**
+     * Tests that destroying an entity from the middle keeps every column aligned.
+     */
+    @Test
+    @DisplayName("Swap Remove Keeps Columns Aligned")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSwapRemoveKeepsColumnsAligned() {
+        int[] entities = new int[200];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = store.create();
+            int row = store.index_of(entities[i]);
+            times.set(row, i);
+            names.set(row, "e" + i);
+        }
+        for (int i = 0; i < entities.length; i += 3) {
+            assertTrue(store.destroy(entities[i]), "Live entity should be destroyed");
+        }
+        for (int i = 0; i < entities.length; i++) {
+            if (i % 3 == 0) {
+                assertFalse(store.is_alive(entities[i]), "Destroyed entity should be dead");
+                assertEquals(-1, store.index_of(entities[i]), "Dead entity should have no row");
+            } else {
+                int row = store.index_of(entities[i]);
+                assertEquals(entities[i], store.entity_at(row), "Row should map back to its entity");
+                assertEquals(i, times.get(row), "Long column should follow its entity");
+                assertEquals("e" + i, names.get(row), "Object column should follow its entity");
+            }
+        }
+        assertFalse(store.destroy(entities[0]), "Destroying twice should be a no-op");
+    }
+
+    /**
+     * Tests that destroyed ids are reused and come back with fresh data.
+     */
+    @Test
+    @DisplayName("Recycles Entity Ids")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRecyclesEntityIds() {
+        int first = store.create();
+        names.set(store.index_of(first), "old");
+        store.destroy(first);
+        int second = store.create();
+        assertEquals(first, second, "Freed id should be recycled");
+        assertNull(names.get(store.index_of(second)), "Recycled entity should not see old data");
+    }
+
+    /**
+     * Tests that a column added after entities exist gets defaults for them.
+     */
+    @Test
+    @DisplayName("Late Column Gets Defaults")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testLateColumnGetsDefaults() {
+        int a = store.create();
+        int b = store.create();
+        EntityStore.DoubleColumn angles = store.add_column(new EntityStore.DoubleColumn(0.5));
+        assertEquals(0.5, angles.get(store.index_of(a)), 0.0, "Existing entity should get the default");
+        assertEquals(0.5, angles.get(store.index_of(b)), 0.0, "Existing entity should get the default");
+        angles.set(store.index_of(b), 2.0);
+        store.destroy(a);
+        assertEquals(2.0, angles.get(store.index_of(b)), 0.0, "Late column should move with swap-remove");
+    }
+
+    /**
+     * Tests that clear destroys every entity.
+     */
+    @Test
+    @DisplayName("Clear Destroys Everything")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testClearDestroysEverything() {
+        int a = store.create();
+        store.create();
+        store.create();
+        store.clear();
+        assertEquals(0, store.size(), "Store should be empty after clear");
+        assertFalse(store.is_alive(a), "Entities should be dead after clear");
+    }
+}
@@ -0,0 +1,117 @@
+package model.equipment;
+
+import enums.CharacterClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+import utilities.ConfigSnapshot;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the equipment catalog: indexes, prototype copies and seeded rolls.
+ */
+@DisplayName("EquipmentCatalog Tests")
+class EquipmentCatalogTest {
+
+    private final EquipmentCatalog catalog = new EquipmentCatalog(ConfigSnapshot.load(null, 1));
+
+    /**
+     * Tests that the class, tier and type indexes partition the weapon list.
+     */
+    @Test
+    @DisplayName("Indexes Cover Every Weapon")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testIndexesCoverEveryWeapon() {
+        Set<String> byClass = new HashSet<>();
+        Set<String> byTier = new HashSet<>();
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            for (EquipmentCatalog.Prototype prototype : catalog.get_weapons_for_class(characterClass)) {
+                assertEquals(characterClass, prototype.get_class_type(), "Class index should only hold its class");
+                assertTrue(byClass.add(prototype.get_id()), "Each weapon should appear under one class");
+            }
+            for (int tier = 1; tier <= 5; tier++) {
+                for (EquipmentCatalog.Prototype prototype : catalog.get_weapons_for_class(characterClass, tier)) {
+                    assertEquals(tier, prototype.get_tier(), "Tier index should only hold its tier");
+                    byTier.add(prototype.get_id());
+                }
+            }
+        }
+        int byType = 0;
+        for (Weapon.WeaponType type : Weapon.WeaponType.values()) {
+            for (EquipmentCatalog.Prototype prototype : catalog.get_weapons_of_type(type)) {
+                assertEquals(type, prototype.get_weapon_type(), "Type index should only hold its type");
+                byType++;
+            }
+        }
+        assertEquals(catalog.weapon_count(), byClass.size(), "Class index should cover every weapon");
+        assertEquals(catalog.weapon_count(), byTier.size(), "Tier index should cover every weapon");
+        assertEquals(catalog.weapon_count(), byType, "Type index should cover every weapon");
+        assertEquals(0, catalog.get_weapons_for_class(CharacterClass.WARRIOR, 9).length, "Unknown tier should be empty");
+    }
+
+    /**
+     * Tests that copies are independent items carrying their prototype.
+     */
+    @Test
+    @DisplayName("Copies Are Independent")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testCopiesAreIndependent() {
+        EquipmentCatalog.Prototype axe = catalog.get("sharp_axe");
+        Weapon first = EquipmentCatalog.weapon_of(axe);
+        Weapon second = EquipmentCatalog.weapon_of(axe);
+
+        assertNotSame(first, second, "Each copy should be a new item");
+        assertSame(axe, first.get_prototype(), "Copies should remember their prototype");
+        assertEquals("Sharp Axe", first.get_name(), "Name should come from the prototype");
+        assertEquals(axe.get_image_path(), first.get_image_path(), "Image path should come from the prototype");
+
+        first.upgrade();
+        first.increaseTier();
+        assertEquals(0, second.get_upgrade_level(), "Upgrading one copy should not touch another");
+        assertEquals(axe.get_tier(), second.get_tier(), "Tier changes should not leak between copies");
+
+        Equipment reTiered = EquipmentCatalog.copy_of(first.get_prototype(), first.get_tier());
+        assertEquals(first.get_tier(), reTiered.get_tier(), "Copy at a tier should use that tier");
+        assertEquals(second.get_base_stat_value(), reTiered.get_base_stat_value(),
+                     "Copies should start from the prototype's stats, not the upgraded item's");
+        assertNull(EquipmentCatalog.copy_of(null), "Null prototype should give no item");
+    }
+
+    /**
+     * Tests that rolls only depend on the Random passed in.
+     */
+    @Test
+    @DisplayName("Seeded Rolls Repeat")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSeededRollsRepeat() {
+        Random a = new Random(43);
+        Random b = new Random(43);
+        for (int i = 0; i < 200; i++) {
+            CharacterClass characterClass = CharacterClass.values()[i % CharacterClass.values().length];
+            assertSame(catalog.random_weapon_for_class(characterClass, a),
+                       catalog.random_weapon_for_class(characterClass, b), "Same seed should pick the same weapon");
+            assertSame(catalog.random_armor_for_class(characterClass, a),
+                       catalog.random_armor_for_class(characterClass, b), "Same seed should pick the same armor");
+            EquipmentCatalog.Prototype enemyWeapon = catalog.random_enemy_weapon(characterClass, a);
+            assertSame(enemyWeapon, catalog.random_enemy_weapon(characterClass, b), "Enemy loadouts should repeat too");
+            assertEquals(characterClass, enemyWeapon.get_class_type(), "Enemy weapons should suit the class");
+        }
+    }
+
+    /**
+     * Tests that the shared catalog is reused until the configuration changes.
+     */
+    @Test
+    @DisplayName("Current Catalog Is Shared")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testCurrentCatalogIsShared() {
+        assertSame(EquipmentCatalog.current(), EquipmentCatalog.current(), "Catalog should be built once per configuration");
+        assertNotNull(EquipmentCatalog.current().get_starting_weapon(CharacterClass.MAGE), "Starting gear should resolve");
+    }
+}
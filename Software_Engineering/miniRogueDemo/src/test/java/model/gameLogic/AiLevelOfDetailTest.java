@@ -0,0 +1,152 @@
+package model.gameLogic;
+
+import enums.CharacterClass;
+import model.characters.Enemy;
+import model.characters.Player;
+import model.map.Map;
+import utilities.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the distance-based enemy AI level of detail.
+ */
+@DisplayName("AI Level Of Detail Tests")
+class AiLevelOfDetailTest {
+
+    private AiLevelOfDetail lod;
+    private Map map;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        lod = new AiLevelOfDetail();
+        map = new Map(1, Map.FloorType.REGULAR);
+        player = new Player("TestPlayer", CharacterClass.WARRIOR, new Position(5, 10));
+        player.syncToTilePosition(new Position(5, 10));
+    }
+
+    private Enemy enemy_at(int x, int y) {
+        Enemy enemy = new Enemy("TestEnemy", CharacterClass.WARRIOR, new Position(x, y), "aggressive");
+        enemy.setMap(map);
+        enemy.setPlayer(player);
+        return enemy;
+    }
+
+    /**
+     * Tests enemies are tiered by distance and counted.
+     */
+    @Test
+    @DisplayName("Tiers By Distance")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testTiersByDistance() {
+        Enemy near = enemy_at(9, 10);
+        Enemy mid = enemy_at(15, 10);
+        Enemy far = enemy_at(30, 10);
+        List<Enemy> enemies = new ArrayList<>(List.of(near, mid, far));
+
+        lod.update_all(enemies, player);
+
+        assertEquals(AiLevelOfDetail.Tier.FULL, near.get_ai_tier(), "Enemy within the full radius should update every frame");
+        assertEquals(AiLevelOfDetail.Tier.REDUCED, mid.get_ai_tier(), "Mid-range enemy should be throttled");
+        assertEquals(AiLevelOfDetail.Tier.ASLEEP, far.get_ai_tier(), "Far enemy should sleep");
+        assertEquals(1, lod.get_tier_count(AiLevelOfDetail.Tier.FULL), "One enemy should be FULL");
+        assertEquals(1, lod.get_tier_count(AiLevelOfDetail.Tier.REDUCED), "One enemy should be REDUCED");
+        assertEquals(1, lod.get_tier_count(AiLevelOfDetail.Tier.ASLEEP), "One enemy should be ASLEEP");
+    }
+
+    /**
+     * Tests reduced enemies only run the full update once per interval.
+     */
+    @Test
+    @DisplayName("Reduced Tier Runs At Interval")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testReducedTierRunsAtInterval() {
+        List<Enemy> enemies = new ArrayList<>(List.of(enemy_at(15, 10)));
+        int frames = lod.get_reduced_interval() * 10;
+        for (int i = 0; i < frames; i++) {
+            lod.update_all(enemies, player);
+        }
+        assertEquals(10, lod.get_full_updates(), "Full updates should run once per interval");
+        assertEquals(frames - 10, lod.get_skipped_updates(), "Other frames should only extrapolate");
+    }
+
+    /**
+     * Tests sleeping enemies stay asleep until the player is within the wake radius.
+     */
+    @Test
+    @DisplayName("Sleep Uses Wake Radius")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSleepUsesWakeRadius() {
+        Enemy enemy = enemy_at(30, 10);
+        List<Enemy> enemies = new ArrayList<>(List.of(enemy));
+        lod.update_all(enemies, player);
+        assertEquals(AiLevelOfDetail.Tier.ASLEEP, enemy.get_ai_tier(), "Far enemy should sleep");
+
+        player.syncToTilePosition(new Position(30 - lod.get_reduced_radius(), 10));
+        lod.update_all(enemies, player);
+        assertEquals(AiLevelOfDetail.Tier.ASLEEP, enemy.get_ai_tier(), "Sleeping enemy should not wake at the reduced radius");
+
+        player.syncToTilePosition(new Position(30 - lod.get_wake_radius(), 10));
+        lod.update_all(enemies, player);
+        assertEquals(AiLevelOfDetail.Tier.REDUCED, enemy.get_ai_tier(), "Enemy should wake inside the wake radius");
+    }
+
+    /**
+     * Tests noise wakes sleeping enemies that can hear it.
+     */
+    @Test
+    @DisplayName("Noise Wakes Sleeping Enemies")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testNoiseWakesSleepingEnemies() {
+        Enemy hears = enemy_at(30, 10);
+        Enemy deaf = enemy_at(45, 25);
+        List<Enemy> enemies = new ArrayList<>(List.of(hears, deaf));
+        lod.update_all(enemies, player);
+
+        lod.make_noise(28, 10, 5);
+        lod.update_all(enemies, player);
+        assertEquals(AiLevelOfDetail.Tier.REDUCED, hears.get_ai_tier(), "Enemy in earshot should wake");
+        assertEquals(AiLevelOfDetail.Tier.ASLEEP, deaf.get_ai_tier(), "Enemy out of earshot should keep sleeping");
+
+        lod.update_all(enemies, player);
+        assertEquals(AiLevelOfDetail.Tier.REDUCED, hears.get_ai_tier(), "Woken enemy should stay awake for a while");
+    }
+
+    /**
+     * Tests engaged enemies are never throttled.
+     */
+    @Test
+    @DisplayName("Engaged Enemies Stay Full")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testEngagedEnemiesStayFull() {
+        Enemy enemy = enemy_at(30, 10);
+        enemy.triggerHitState(Enemy.BASE_HIT_STATE_DURATION);
+        lod.update_all(new ArrayList<>(List.of(enemy)), player);
+        assertTrue(enemy.is_engaged(), "Hit enemy should be engaged");
+        assertEquals(AiLevelOfDetail.Tier.FULL, enemy.get_ai_tier(), "Engaged enemy should run at FULL regardless of distance");
+    }
+
+    /**
+     * Tests threshold validation.
+     */
+    @Test
+    @DisplayName("Thresholds Are Validated")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testThresholdsAreValidated() {
+        lod.set_thresholds(4, 12, 8, 2);
+        assertEquals(4, lod.get_full_radius(), "Full radius should be applied");
+        assertEquals(2, lod.get_reduced_interval(), "Interval should be applied");
+        assertThrows(IllegalArgumentException.class, () -> lod.set_thresholds(6, 4, 5, 2), "Reduced radius below full should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> lod.set_thresholds(4, 12, 14, 2), "Wake radius beyond reduced should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> lod.set_thresholds(4, 12, 8, 0), "Zero interval should be rejected");
+    }
+}
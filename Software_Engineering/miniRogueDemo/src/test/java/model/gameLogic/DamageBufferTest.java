@@ -0,0 +1,155 @@
+package model.gameLogic;
+
+import enums.CharacterClass;
+import utilities.GameClock;
+import utilities.Position;
+import model.characters.Player;
+import model.characters.Enemy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the batched damage phase.
+ */
+@DisplayName("Damage Buffer Tests")
+class DamageBufferTest {
+
+    private GameLogic gameLogic;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player("Hitter", CharacterClass.WARRIOR, new Position(5, 5));
+        gameLogic = new GameLogic(player);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameLogic.dispose();
+    }
+
+    /**
+     * Tests that a second hit on the same target by the same attacker is dropped.
+     */
+    @Test
+    @DisplayName("Duplicate Hits Are Dropped")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDuplicateHitsAreDropped() {
+        DamageBuffer buffer = new DamageBuffer();
+        assertTrue(buffer.add(null, DamageBuffer.PLAYER_ID, 3, 10, 1, 0, 0, 1, DamageBuffer.FLAG_SWING), "First hit should queue");
+        assertFalse(buffer.add(null, DamageBuffer.PLAYER_ID, 3, 12, 1, 0, 0, 1, DamageBuffer.FLAG_SWING), "Same pair should not queue twice");
+        assertTrue(buffer.add(null, 4, DamageBuffer.PLAYER_ID, 5, 0, 1, 0, 1, 0), "Other pairs should still queue");
+        assertTrue(buffer.has_pending_hit(3), "Hit target should be pending");
+        assertFalse(buffer.has_pending_hit(4), "Attackers are not pending targets");
+        assertEquals(2, buffer.size(), "Two hits should be queued");
+    }
+
+    /**
+     * Tests that drain returns hits in arrival order and leaves an empty buffer.
+     */
+    @Test
+    @DisplayName("Drain Keeps Arrival Order")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDrainKeepsArrivalOrder() {
+        DamageBuffer buffer = new DamageBuffer();
+        for (int i = 0; i < 40; i++) {
+            buffer.add(null, DamageBuffer.PLAYER_ID, i, i + 1, 0, 0, 0, 0, 0);
+        }
+        DamageBuffer.Records hits = buffer.drain();
+        assertEquals(40, hits.size, "All hits should be drained, past the initial capacity");
+        for (int i = 0; i < hits.size; i++) {
+            assertEquals(i, hits.target[i], "Hits should come out in arrival order");
+            assertEquals(i + 1, hits.amount[i], "Amounts should stay with their hit");
+        }
+        assertEquals(0, buffer.size(), "Buffer should be empty after a drain");
+        assertFalse(buffer.has_pending_hit(0), "Drained hits should no longer be pending");
+
+        buffer.add(null, DamageBuffer.PLAYER_ID, 99, 1, 0, 0, 0, 0, 0);
+        assertEquals(1, buffer.drain().size, "The second buffer should only hold the new hit");
+    }
+
+    /**
+     * Tests that hits on characters not on the floor resolve right away, death handling included.
+     */
+    @Test
+    @DisplayName("Off-Floor Hits Resolve Immediately")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testOffFloorHitsResolveImmediately() {
+        Enemy enemy = new Enemy("Loose", CharacterClass.WARRIOR, new Position(6, 5), "aggressive");
+        int slain = player.get_enemies_slain();
+        gameLogic.submit_hit(player, enemy, enemy.get_current_hp() + 100, 1, 0, 0, 1, DamageBuffer.FLAG_SWING);
+        assertFalse(enemy.is_alive(), "Lethal hit should apply at once");
+        assertEquals(slain + 1, player.get_enemies_slain(), "Kill should be counted once");
+        assertFalse(gameLogic.has_pending_hit(enemy), "Nothing should be left queued");
+    }
+
+    /**
+     * Tests that hits on floor enemies wait for the damage phase and only kill once.
+     */
+    @Test
+    @DisplayName("Floor Hits Wait For Damage Phase")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testFloorHitsWaitForDamagePhase() throws InterruptedException {
+        gameLogic.trigger_proc_generation();
+        gameLogic.pause_game();
+        Enemy enemy = gameLogic.get_current_enemies().stream()
+            .filter(e -> !e.isBoss()).findFirst().orElse(null);
+        assertNotNull(enemy, "A regular floor should have enemies");
+        assertTrue(enemy.get_entity_id() >= 0, "Floor enemies should have entity ids");
+
+        int slain = player.get_enemies_slain();
+        int lethal = enemy.get_current_hp() + 100;
+        gameLogic.submit_hit(player, enemy, lethal, 1, 0, 0, 1, DamageBuffer.FLAG_SWING);
+        assertTrue(gameLogic.has_pending_hit(enemy), "Hit should be queued");
+        assertTrue(enemy.is_alive(), "Queued hit should not apply before the damage phase");
+
+        gameLogic.resume_game();
+        long deadline = System.currentTimeMillis() + 3000;
+        // Deaths are counted at the end of the phase, after the damage itself
+        while (player.get_enemies_slain() == slain && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        assertFalse(enemy.is_alive(), "Damage phase should apply the hit");
+        assertEquals(slain + 1, player.get_enemies_slain(), "Kill should be counted once");
+        assertTrue(gameLogic.get_last_damage_phase_hits() >= 0, "Phase stats should be readable");
+    }
+
+    /**
+     * Tests that a queued hit still lands when its attacker leaves the floor
+     * before the damage phase, as a projectile from a dead enemy always has.
+     */
+    @Test
+    @DisplayName("Hits From Removed Attackers Still Land")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testHitsFromRemovedAttackersStillLand() {
+        gameLogic.dispose();
+        GameClock clock = GameClock.virtual();
+        gameLogic = new GameLogic(player, clock, false);
+        gameLogic.handle_player_action("class_selected", CharacterClass.WARRIOR);
+        Enemy enemy = gameLogic.get_current_enemies().stream()
+            .filter(e -> !e.isBoss()).findFirst().orElse(null);
+        assertNotNull(enemy, "A regular floor should have enemies");
+        // Stand on the enemy so its region is awake and its removal runs this tick
+        player.move_to(enemy.getPixelX(), enemy.getPixelY());
+        gameLogic.update_game_state();
+
+        enemy.startDying();
+        clock.advance(2001); // Past the dying animation
+        int before = player.get_current_hp();
+        gameLogic.submit_hit(enemy, player, player.get_total_defense() + 7, 1, 0, 0, 1, 0);
+        assertTrue(gameLogic.has_pending_hit(player), "Hit should wait for the damage phase");
+        gameLogic.update_game_state();
+
+        assertEquals(-1, enemy.get_entity_id(), "Expired enemy should have left the entity store");
+        assertTrue(player.get_current_hp() <= before - 7, "The dead enemy's hit should still damage the player");
+        assertFalse(gameLogic.has_pending_hit(player), "Nothing should be left queued");
+    }
+}
@@ -0,0 +1,177 @@
+package model.gameLogic;
+
+import enums.CharacterClass;
+import enums.GameConstants;
+import model.characters.CharacterComponents;
+import model.characters.Enemy;
+import model.characters.Player;
+import model.entity.EntityStore;
+import model.map.Map;
+import utilities.Position;
+import utilities.Tile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the parallel enemy decision phase.
+ */
+@DisplayName("Enemy Decision Phase Tests")
+class EnemyDecisionPhaseTest {
+
+    private Map map;
+    private Player player;
+    private EnemyDecisionPhase parallel;
+    private EnemyDecisionPhase serial;
+    private List<Position> floors;
+
+    @BeforeEach
+    void setUp() {
+        map = new Map(1, Map.FloorType.REGULAR);
+        Position start = map.get_player_start_position();
+        player = new Player("TestPlayer", CharacterClass.WARRIOR, start);
+        player.syncToTilePosition(start);
+        parallel = new EnemyDecisionPhase(4);
+        serial = new EnemyDecisionPhase(1);
+        floors = new ArrayList<>();
+        for (int x = 0; x < map.get_width(); x++) {
+            for (int y = 0; y < map.get_height(); y++) {
+                Tile tile = map.get_tile(x, y);
+                if (tile != null && tile.is_walkable()) {
+                    floors.add(new Position(x, y));
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallel.shutdown();
+        serial.shutdown();
+    }
+
+    /**
+     * Build enemies around the player so many of them move or attack
+     */
+    private List<Enemy> crowd(int count) {
+        Random random = new Random(21);
+        CharacterClass[] classes = {CharacterClass.WARRIOR, CharacterClass.MAGE, CharacterClass.ROGUE, CharacterClass.RANGER};
+        Position start = map.get_player_start_position();
+        List<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Position pos = i % 2 == 0
+                ? new Position(start.get_x() + random.nextInt(5) - 2, start.get_y() + random.nextInt(5) - 2)
+                : floors.get(random.nextInt(floors.size()));
+            Enemy enemy = new Enemy("Enemy" + i, classes[i % classes.length], pos, "aggressive");
+            enemy.setMap(map);
+            enemy.setPlayer(player);
+            enemy.setPixelX(pos.get_x() * GameConstants.TILE_SIZE);
+            enemy.setPixelY(pos.get_y() * GameConstants.TILE_SIZE);
+            if (i % 7 == 0) {
+                enemy.startDying();
+            }
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    /**
+     * Tests parallel batches produce exactly the serial decisions, in input order.
+     */
+    @Test
+    @DisplayName("Parallel Matches Serial")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testParallelMatchesSerial() {
+        List<Enemy> enemies = crowd(EnemyDecisionPhase.BATCH_SIZE * 10 + 5);
+        EnemyWorldView view = EnemyWorldView.capture(player, map, System.currentTimeMillis() + 5000, enemies);
+
+        EnemyDecision[] expected = serial.decide_all(enemies, view);
+        EnemyDecision[] actual = parallel.decide_all(enemies, view);
+
+        assertEquals(enemies.size(), actual.length, "Every enemy should get a decision");
+        int moves = 0;
+        int removals = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            assertSame(enemies.get(i), actual[i].get_enemy(), "Decisions should stay in input order");
+            assertTrue(expected[i].same_actions(actual[i]), "Parallel decision " + i + " should match serial");
+            if (actual[i].is_move()) moves++;
+            if (actual[i].is_remove()) removals++;
+        }
+        assertTrue(moves > 0, "Enemies next to the player should decide to move");
+        assertTrue(removals > 0, "Finished dying enemies should be removed");
+    }
+
+    /**
+     * Tests the decision phase does not end timed states.
+     */
+    @Test
+    @DisplayName("Decide Is Read Only")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDecideIsReadOnly() {
+        Enemy enemy = crowd(1).get(0);
+        Enemy hit = new Enemy("Hit", CharacterClass.WARRIOR, map.get_player_start_position(), "aggressive");
+        hit.triggerHitState(Enemy.BASE_HIT_STATE_DURATION);
+        EnemyWorldView later = EnemyWorldView.capture(player, map, System.currentTimeMillis() + 60000, List.of(hit, enemy));
+
+        EnemyDecision decision = EnemyDecisionPhase.decide(hit, 0, later);
+        assertEquals(EnemyDecision.Attack.NONE, decision.get_attack(), "Non-chasing enemy should not attack");
+        assertTrue(hit.is_engaged(), "Expired hit state should be left for the enemy's own update to end");
+        assertTrue(EnemyDecisionPhase.decide(enemy, 1, later).is_remove(), "Dying enemy should be removed once its animation is over");
+    }
+
+    /**
+     * Tests that enemies sharing a game's component store decide as they do
+     * detached, and that the workers never lock that store.
+     */
+    @Test
+    @DisplayName("Workers Do Not Lock The Shared Store")
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void testWorkersDoNotLockTheSharedStore() throws Exception {
+        List<Enemy> enemies = crowd(EnemyDecisionPhase.BATCH_SIZE * 4);
+        long now = System.currentTimeMillis() + 5000;
+        EnemyDecision[] detached = serial.decide_all(enemies, EnemyWorldView.capture(player, map, now, enemies));
+
+        EntityStore store = new EntityStore();
+        CharacterComponents components = new CharacterComponents(store);
+        for (Enemy enemy : enemies) {
+            enemy.attach_components(components);
+        }
+        EnemyWorldView view = EnemyWorldView.capture(player, map, now, enemies);
+        EnemyDecision[][] shared = new EnemyDecision[1][];
+        Thread decider = new Thread(() -> shared[0] = parallel.decide_all(enemies, view));
+        synchronized (store) {
+            decider.start();
+            decider.join(10_000);
+            assertFalse(decider.isAlive(), "Deciding should not wait for the component store");
+        }
+        for (int i = 0; i < enemies.size(); i++) {
+            assertTrue(detached[i].same_actions(shared[0][i]), "Shared-store decision " + i + " should match detached");
+        }
+        assertThrows(IllegalArgumentException.class, () -> parallel.decide_all(enemies.subList(1, enemies.size()), view),
+                     "A view captured for other enemies should be rejected");
+    }
+
+    /**
+     * Tests enemy ids follow creation order.
+     */
+    @Test
+    @DisplayName("Enemy Ids Follow Creation Order")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testEnemyIdsFollowCreationOrder() {
+        List<Enemy> enemies = crowd(5);
+        for (int i = 1; i < enemies.size(); i++) {
+            assertTrue(enemies.get(i).get_enemy_id() > enemies.get(i - 1).get_enemy_id(), "Ids should increase with creation order");
+        }
+        assertThrows(IllegalArgumentException.class, () -> new EnemyDecisionPhase(0), "Zero workers should be rejected");
+        assertEquals(1, serial.get_parallelism(), "Single worker phase should decide inline");
+    }
+}
@@ -0,0 +1,402 @@
+package model.gameLogic;
+
+import enums.CharacterClass;
+import model.characters.Enemy;
+import model.characters.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import utilities.GameClock;
+import utilities.Position;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress tests for GameLogic's locking model. Many threads hammer player
+ * actions, game updates, enemy deaths and dispose() at once; when they
+ * stop, the final state is checked against what any one-at-a-time order
+ * of the same operations would leave (nothing lost, nothing done twice).
+ * A LockContentionSampler watches the game's monitors throughout and
+ * prints how busy and contended each one was.
+ *
+ * Tagged "stress" and run by the stressTest Gradle task, not by test.
+ */
+@Tag("stress")
+@DisplayName("GameLogic Stress Tests")
+class GameLogicStressTest {
+
+    private static final int THREADS = 8;
+    private static final long STUCK_MILLIS = 30000;
+
+    private final ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    private Thread.UncaughtExceptionHandler previousHandler;
+    private GameLogic gameLogic;
+    private LockContentionSampler sampler;
+
+    /**
+     * Body of one stress thread
+     */
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Swing and celebration timers run on their own threads; catch what they throw too
+        previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, error) -> failures.add(error));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (sampler != null) {
+            sampler.stop();
+        }
+        if (gameLogic != null) {
+            gameLogic.dispose();
+        }
+        Thread.setDefaultUncaughtExceptionHandler(previousHandler);
+    }
+
+    private void start_sampling() {
+        sampler = new LockContentionSampler(gameLogic.get_lock_monitors());
+        sampler.start();
+    }
+
+    private void finish_sampling(String title) throws InterruptedException {
+        sampler.stop();
+        sampler.print_report(title);
+        assertTrue(sampler.get_deadlocks().isEmpty(), "No threads should deadlock: " + sampler.get_deadlocks());
+        sampler = null;
+    }
+
+    /**
+     * Run a worker on several threads released together, and wait for them;
+     * fails, naming any deadlocked threads, if they have not finished in
+     * STUCK_MILLIS
+     */
+    private void run_threads(int count, Worker worker) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int id = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    worker.run(id);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }, "stress-" + id);
+            thread.setDaemon(true); // A deadlocked thread must not keep the JVM alive
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        long deadline = System.currentTimeMillis() + STUCK_MILLIS;
+        for (Thread thread : threads) {
+            thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            if (thread.isAlive()) {
+                long[] deadlocked = ManagementFactory.getThreadMXBean().findMonitorDeadlockedThreads();
+                List<String> names = new ArrayList<>();
+                if (deadlocked != null) {
+                    for (ThreadInfo info : ManagementFactory.getThreadMXBean().getThreadInfo(deadlocked)) {
+                        if (info != null) {
+                            names.add(info.getThreadName() + " waiting for " + info.getLockName() + " held by " + info.getLockOwnerName());
+                        }
+                    }
+                }
+                fail(thread.getName() + " did not finish in " + STUCK_MILLIS + " ms; deadlocked: " + names);
+            }
+        }
+    }
+
+    private void assert_no_failures() {
+        Throwable first = failures.peek();
+        if (first != null) {
+            first.printStackTrace();
+        }
+        assertNull(first, failures.size() + " stress operations failed, first: " + first);
+    }
+
+    private GameLogic start_game(CharacterClass characterClass, GameClock clock) {
+        Player player = new Player("Stress", characterClass, new Position(0, 0));
+        GameLogic logic = new GameLogic(player, clock, false);
+        logic.set_loot_seed(50);
+        logic.handle_player_action("class_selected", characterClass);
+        return logic;
+    }
+
+    /**
+     * Tests that projectiles fired from many threads at once are all kept,
+     * then all expire once game updates run, while other threads copy the list.
+     */
+    @Test
+    @DisplayName("Concurrent Projectiles Are Not Lost")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void testConcurrentProjectilesAreNotLost() throws InterruptedException {
+        GameClock clock = GameClock.virtual();
+        gameLogic = start_game(CharacterClass.RANGER, clock);
+        Position start = gameLogic.get_player().get_position();
+        Enemy caster = new Enemy("Caster", CharacterClass.MAGE, new Position(start.get_x(), start.get_y()), "aggressive");
+        caster.set_clock(clock);
+        caster.setGameLogic(gameLogic);
+        int shots = 500;
+        start_sampling();
+
+        AtomicBoolean firing = new AtomicBoolean(true);
+        run_threads(THREADS + 2, thread -> {
+            if (thread >= THREADS) {
+                while (firing.get()) {
+                    for (Projectile projectile : gameLogic.get_projectiles_snapshot()) {
+                        assertNotNull(projectile, "Copies should only hold fired projectiles");
+                    }
+                }
+                return;
+            }
+            for (int i = 0; i < shots; i++) {
+                gameLogic.handle_enemy_projectile_attack(caster, (thread & 1) == 0 ? 1 : -1, (thread & 2) == 0 ? 1 : -1);
+            }
+            if (thread == 0) {
+                // Give the copying threads something to race against for a little longer
+                for (int i = 0; i < shots; i++) {
+                    gameLogic.handle_enemy_projectile_attack(caster, 1, 0);
+                    gameLogic.get_projectiles_snapshot();
+                }
+                firing.set(false);
+            }
+        });
+        assert_no_failures();
+        assertEquals(THREADS * shots + shots, gameLogic.get_projectiles_snapshot().size(),
+                     "Every projectile fired should be in the list");
+
+        // Now fire from the player (the Ranger path) and the caster while game updates run
+        AtomicInteger ticks = new AtomicInteger();
+        firing.set(true);
+        run_threads(THREADS, thread -> {
+            if (thread == 0) {
+                while (firing.get() || !gameLogic.get_projectiles_snapshot().isEmpty()) {
+                    clock.advance(16);
+                    gameLogic.get_player().heal(1000);
+                    gameLogic.update_game_state();
+                    assertTrue(ticks.incrementAndGet() < 20000, "Projectiles should expire as the game updates");
+                }
+                return;
+            }
+            for (int i = 0; i < shots; i++) {
+                if (thread == 1) {
+                    clock.advance(1000); // Past the attack cooldown
+                    gameLogic.handle_player_attack_input();
+                } else {
+                    gameLogic.handle_enemy_projectile_attack(caster, 1, thread % 3 - 1);
+                }
+            }
+            if (thread == 1) {
+                firing.set(false);
+            }
+        });
+        finish_sampling("Projectiles");
+        assert_no_failures();
+        assertTrue(gameLogic.get_projectiles_snapshot().isEmpty(), "Every projectile should have expired");
+    }
+
+    /**
+     * Tests that enemies hit from many threads while the game updates each
+     * die exactly once: one kill each, the kill count matches, and entity
+     * rows stay in step with the enemy list.
+     */
+    @Test
+    @DisplayName("Every Enemy Dies Exactly Once")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void testEveryEnemyDiesExactlyOnce() throws InterruptedException {
+        GameClock clock = GameClock.virtual();
+        gameLogic = start_game(CharacterClass.WARRIOR, clock);
+        Player player = gameLogic.get_player();
+        List<Enemy> enemies = gameLogic.get_current_enemies();
+        assertFalse(enemies.isEmpty(), "The first floor should have enemies");
+        int regular = 0;
+        for (Enemy enemy : enemies) {
+            if (!enemy.isBoss()) regular++;
+        }
+        int slainBefore = player.get_enemies_slain();
+        AtomicInteger kills = new AtomicInteger();
+        gameLogic.add_observer((event, data) -> {
+            if ("BOSS_DEFEATED".equals(event)
+                || ("LOG_MESSAGE".equals(event) && String.valueOf(data).startsWith("Enemy ") && String.valueOf(data).endsWith(" defeated!"))) {
+                kills.incrementAndGet();
+            }
+        });
+        start_sampling();
+
+        AtomicBoolean hitting = new AtomicBoolean(true);
+        AtomicInteger hitters = new AtomicInteger(THREADS - 1);
+        run_threads(THREADS, thread -> {
+            if (thread == 0) {
+                while (hitting.get()) {
+                    clock.advance(16);
+                    player.heal(1000);
+                    gameLogic.update_game_state();
+                }
+                for (int i = 0; i < 5; i++) {
+                    clock.advance(16);
+                    gameLogic.update_game_state(); // Settle the last hits
+                }
+                return;
+            }
+            List<Enemy> order = new ArrayList<>(enemies);
+            Random random = new Random(thread);
+            for (int round = 0; round < 3; round++) {
+                Collections.shuffle(order, random);
+                for (Enemy enemy : order) {
+                    gameLogic.submit_hit(player, enemy, 1_000_000, 1, 0, 0, 0, 0);
+                    if (random.nextInt(4) == 0) {
+                        gameLogic.get_current_enemies();
+                    }
+                }
+            }
+            if (hitters.decrementAndGet() == 0) {
+                hitting.set(false);
+            }
+        });
+        finish_sampling("Enemy deaths");
+        assert_no_failures();
+
+        for (Enemy enemy : enemies) {
+            assertFalse(enemy.is_alive(), "Every enemy hit should be dead: " + enemy.get_name());
+        }
+        assertEquals(enemies.size(), kills.get(), "Each enemy should be reported killed exactly once");
+        assertEquals(slainBefore + regular, player.get_enemies_slain(), "Each regular enemy should count once");
+        int characters = gameLogic.get_current_enemies().size() + 1
+            + (gameLogic.get_current_upgrader() != null ? 1 : 0);
+        assertEquals(characters, gameLogic.get_entity_store().size(),
+                     "Every entity row should belong to exactly one character on the floor");
+    }
+
+    /**
+     * Tests that a game disposed while every entry point is being called
+     * from other threads shuts down cleanly: nothing throws, nothing is left
+     * behind, and calls after dispose do nothing.
+     */
+    @Test
+    @DisplayName("Dispose Under Load")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void testDisposeUnderLoad() throws InterruptedException {
+        // The windowed game's threading: its own update and notification timers
+        Player player = new Player("Stress", CharacterClass.WARRIOR, new Position(0, 0));
+        gameLogic = new GameLogic(player);
+        gameLogic.handle_player_action("class_selected", CharacterClass.WARRIOR);
+        AtomicInteger notified = new AtomicInteger();
+        gameLogic.add_observer((event, data) -> notified.incrementAndGet());
+        List<Enemy> enemies = gameLogic.get_current_enemies();
+        Enemy caster = new Enemy("Caster", CharacterClass.MAGE, new Position(0, 0), "aggressive");
+        caster.setGameLogic(gameLogic);
+        start_sampling();
+
+        AtomicBoolean disposed = new AtomicBoolean(false);
+        AtomicInteger afterDispose = new AtomicInteger();
+        run_threads(THREADS + 1, thread -> {
+            if (thread == THREADS) {
+                Thread.sleep(300);
+                gameLogic.dispose();
+                disposed.set(true);
+                return;
+            }
+            Random random = new Random(thread);
+            long end = System.currentTimeMillis() + 600;
+            while (System.currentTimeMillis() < end) {
+                boolean after = disposed.get();
+                switch (random.nextInt(9)) {
+                    case 0: gameLogic.update_game_state(); break;
+                    case 1: gameLogic.handle_player_attack_input(); break;
+                    case 2: gameLogic.handle_player_action("pause", null); break;
+                    case 3: gameLogic.handle_player_action("resume_game", null); break;
+                    case 4: gameLogic.handle_enemy_projectile_attack(caster, 1, 0); break;
+                    case 5:
+                        if (!enemies.isEmpty()) {
+                            gameLogic.submit_hit(player, enemies.get(random.nextInt(enemies.size())), 1000, 1, 0, 0, 0, 0);
+                        }
+                        break;
+                    case 6: gameLogic.get_current_enemies(); break;
+                    case 7: gameLogic.get_projectiles_snapshot(); break;
+                    default: gameLogic.notify_observers("STRESS", thread); break;
+                }
+                if (after) afterDispose.incrementAndGet();
+            }
+        });
+        finish_sampling("Dispose");
+        assert_no_failures();
+
+        assertTrue(afterDispose.get() > 0, "Some calls should have come after dispose");
+        assertTrue(notified.get() > 0, "Observers should have been notified before dispose");
+        assertTrue(gameLogic.get_current_enemies().isEmpty(), "Dispose should drop every enemy");
+        assertTrue(gameLogic.get_projectiles_snapshot().isEmpty(), "Dispose should drop every projectile");
+        assertEquals(0, gameLogic.get_entity_store().size(), "Dispose should drop every entity row");
+        int before = notified.get();
+        gameLogic.update_game_state();
+        gameLogic.handle_player_attack_input();
+        gameLogic.notify_observers("STRESS", null);
+        assertEquals(before, notified.get(), "A disposed game should have no observers left");
+    }
+
+    /**
+     * Tests that the windowed game keeps updating while every kind of call
+     * arrives at once, and reports how busy and contended each lock was.
+     */
+    @Test
+    @DisplayName("Mixed Load Keeps Updating")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void testMixedLoadKeepsUpdating() throws InterruptedException {
+        Player player = new Player("Stress", CharacterClass.RANGER, new Position(0, 0));
+        gameLogic = new GameLogic(player);
+        gameLogic.handle_player_action("class_selected", CharacterClass.RANGER);
+        AtomicInteger updates = new AtomicInteger();
+        gameLogic.add_observer((event, data) -> {
+            if ("GAME_STATE_UPDATED".equals(event)) {
+                updates.incrementAndGet();
+                gameLogic.get_game_state(); // Observers read state while notified
+            }
+        });
+        Enemy caster = new Enemy("Caster", CharacterClass.MAGE, new Position(0, 0), "aggressive");
+        caster.setGameLogic(gameLogic);
+        start_sampling();
+
+        run_threads(THREADS, thread -> {
+            Random random = new Random(thread);
+            long end = System.currentTimeMillis() + 2000;
+            while (System.currentTimeMillis() < end) {
+                switch (random.nextInt(6)) {
+                    case 0: gameLogic.handle_player_attack_input(); break;
+                    case 1: gameLogic.handle_enemy_projectile_attack(caster, random.nextFloat() - 0.5f, 1); break;
+                    case 2:
+                        gameLogic.pause_game();
+                        gameLogic.resume_game();
+                        break;
+                    case 3: gameLogic.get_current_enemies(); break;
+                    case 4: gameLogic.get_projectiles_snapshot(); break;
+                    default:
+                        player.heal(1000);
+                        Thread.sleep(1); // Leave room for the update timer
+                        break;
+                }
+            }
+        });
+        finish_sampling("Mixed load");
+        assert_no_failures();
+        assertTrue(updates.get() >= 20, "The update timer should keep running under load, ran " + updates.get());
+    }
+}
@@ -0,0 +1,209 @@
+package model.gameLogic;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Samples which of a game's monitors every thread holds or is blocked on,
+ * without touching the code under test: a daemon thread reads every
+ * thread's locked monitors through ThreadMXBean about once a millisecond.
+ *
+ * Per lock it reports the share of samples in which some thread held it
+ * (how busy it is), the share in which some thread was blocked on it (how
+ * contended it is) and the longest hold seen, from the first to the last
+ * of back-to-back samples in which the same thread held it. Holds shorter
+ * than the gap between samples are mostly missed, so hold times are lower
+ * bounds and only long holds show up. Deadlocked threads are recorded as they are found.
+ */
+public class LockContentionSampler {
+
+    /**
+     * Per-lock sample counts
+     */
+    public static final class LockStats {
+        private final String name;
+        private long heldSamples;
+        private long blockedSamples;
+        private long longestHoldNanos;
+        private long holds;
+
+        LockStats(String name) {
+            this.name = name;
+        }
+
+        public String get_name() { return name; }
+        public long get_held_samples() { return heldSamples; }
+        public long get_blocked_samples() { return blockedSamples; }
+        public long get_longest_hold_nanos() { return longestHoldNanos; }
+        public long get_holds() { return holds; }
+    }
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final Map<Integer, LockStats> byIdentity = new HashMap<>();
+    private final Map<String, LockStats> byName = new LinkedHashMap<>();
+    // Holds still going, by thread id then lock identity: time first and last seen
+    private final Map<Long, Map<Integer, long[]>> openHolds = new HashMap<>();
+    private final List<String> deadlocks = new ArrayList<>();
+    private volatile boolean running;
+    private Thread sampler;
+    private long samples;
+    private long sampleNanos;
+
+    /**
+     * Constructor for LockContentionSampler
+     *
+     * @param monitors Monitors to watch, by name
+     */
+    public LockContentionSampler(Map<String, Object> monitors) {
+        for (Map.Entry<String, Object> entry : monitors.entrySet()) {
+            LockStats stats = new LockStats(entry.getKey());
+            byIdentity.put(System.identityHashCode(entry.getValue()), stats);
+            byName.put(entry.getKey(), stats);
+        }
+    }
+
+    /**
+     * Start sampling on a daemon thread
+     */
+    public synchronized void start() {
+        if (threads.isThreadContentionMonitoringSupported()) {
+            threads.setThreadContentionMonitoringEnabled(true);
+        }
+        running = true;
+        sampler = new Thread(() -> {
+            long self = Thread.currentThread().getId();
+            while (running) {
+                sample(self);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "lock-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    /**
+     * Stop sampling and wait for the sampler thread
+     */
+    public void stop() throws InterruptedException {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = sampler;
+        }
+        if (thread != null) {
+            thread.join();
+        }
+        synchronized (this) {
+            for (Map<Integer, long[]> holds : openHolds.values()) {
+                for (Map.Entry<Integer, long[]> hold : holds.entrySet()) {
+                    close_hold(byIdentity.get(hold.getKey()), hold.getValue());
+                }
+            }
+            openHolds.clear();
+        }
+    }
+
+    private synchronized void sample(long selfId) {
+        long start = System.nanoTime();
+        ThreadInfo[] infos = threads.getThreadInfo(threads.getAllThreadIds(), true, false);
+        Set<LockStats> held = new HashSet<>();
+        Set<LockStats> blocked = new HashSet<>();
+        for (ThreadInfo info : infos) {
+            if (info == null || info.getThreadId() == selfId) continue;
+            Map<Integer, long[]> open = openHolds.computeIfAbsent(info.getThreadId(), id -> new HashMap<>());
+            Set<Integer> stillHeld = new HashSet<>();
+            for (MonitorInfo monitor : info.getLockedMonitors()) {
+                LockStats stats = byIdentity.get(monitor.getIdentityHashCode());
+                if (stats == null) continue;
+                held.add(stats);
+                stillHeld.add(monitor.getIdentityHashCode());
+                open.computeIfAbsent(monitor.getIdentityHashCode(), identity -> new long[] {start, start})[1] = start;
+            }
+            open.entrySet().removeIf(hold -> {
+                if (stillHeld.contains(hold.getKey())) return false;
+                close_hold(byIdentity.get(hold.getKey()), hold.getValue());
+                return true;
+            });
+            LockInfo waitingFor = info.getLockInfo();
+            if (info.getThreadState() == Thread.State.BLOCKED && waitingFor != null) {
+                LockStats stats = byIdentity.get(waitingFor.getIdentityHashCode());
+                if (stats != null) blocked.add(stats);
+            }
+        }
+        for (LockStats stats : held) stats.heldSamples++;
+        for (LockStats stats : blocked) stats.blockedSamples++;
+
+        long[] deadlocked = threads.findMonitorDeadlockedThreads();
+        if (deadlocked != null && deadlocks.isEmpty()) {
+            for (ThreadInfo info : threads.getThreadInfo(deadlocked, true, false)) {
+                if (info != null) {
+                    deadlocks.add(info.getThreadName() + " blocked on " + info.getLockName()
+                        + " held by " + info.getLockOwnerName());
+                }
+            }
+        }
+        samples++;
+        sampleNanos += System.nanoTime() - start;
+    }
+
+    // From first to last sample that saw it, so a hold seen once counts as zero
+    private void close_hold(LockStats stats, long[] seen) {
+        stats.holds++;
+        stats.longestHoldNanos = Math.max(stats.longestHoldNanos, seen[1] - seen[0]);
+    }
+
+    /**
+     * Total time threads spent blocked entering monitors, over every thread
+     * still alive, from the JVM's own contention accounting
+     *
+     * @return Milliseconds, or -1 if the JVM does not keep it
+     */
+    public long get_total_blocked_millis() {
+        if (!threads.isThreadContentionMonitoringEnabled()) return -1;
+        long total = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && info.getBlockedTime() > 0) total += info.getBlockedTime();
+        }
+        return total;
+    }
+
+    /**
+     * Print one line per lock: busy and contended share of samples, and the longest hold
+     *
+     * @param title Heading for the report
+     */
+    public synchronized void print_report(String title) {
+        System.out.printf("%s: %d samples, %.1f us per sample, %d ms blocked in total%n",
+            title, samples, samples == 0 ? 0 : sampleNanos / 1e3 / samples, get_total_blocked_millis());
+        for (LockStats stats : byName.values()) {
+            System.out.printf("  %-16s held %5.1f%%  contended %5.1f%%  longest hold %6.2f ms%n",
+                stats.name, percent(stats.heldSamples), percent(stats.blockedSamples),
+                stats.longestHoldNanos / 1e6);
+        }
+        for (String deadlock : deadlocks) {
+            System.out.println("  DEADLOCK " + deadlock);
+        }
+    }
+
+    private double percent(long count) {
+        return samples == 0 ? 0 : 100.0 * count / samples;
+    }
+
+    public synchronized LockStats get_stats(String name) { return byName.get(name); }
+    public synchronized long get_samples() { return samples; }
+    public synchronized List<String> get_deadlocks() { return new ArrayList<>(deadlocks); }
+}
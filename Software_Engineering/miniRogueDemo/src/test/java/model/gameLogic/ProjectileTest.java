@@ -485,4 +485,63 @@ class ProjectileTest {
         Projectile largeRadiusProjectile = new Projectile(100f, 100f, 1f, 0f, 5f, 10f, 50f, testPlayer);
         assertTrue(largeRadiusProjectile.isActive(), "Large radius projectile should be active");
     }
-} 
\ No newline at end of file
+
+    /**
+     * Tests that a projectile moving far in one step still hits an enemy it passes through.
+     */
+    @Test
+    @DisplayName("Fast Projectile Does Not Tunnel")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testFastProjectileDoesNotTunnel() {
+        // Find a clear horizontal run of five tiles
+        int tile = GameConstants.TILE_SIZE;
+        int startX = -1, row = -1;
+        for (int y = 1; y < testMap.get_height() - 1 && startX < 0; y++) {
+            for (int x = 1; x < testMap.get_width() - 5; x++) {
+                boolean clear = true;
+                for (int k = 0; k < 5; k++) {
+                    clear &= utilities.Collision.isWalkable(testMap, x + k, y);
+                }
+                if (clear) { startX = x; row = y; break; }
+            }
+        }
+        assertTrue(startX >= 0, "Map should have a clear run");
+
+        // Enemy two tiles ahead, projectile crosses it and ends past it in one step
+        testEnemy.setPixelX((startX + 2) * tile);
+        testEnemy.setPixelY(row * tile);
+        float y = row * tile + tile / 2f;
+        Projectile projectile = new Projectile(startX * tile + tile / 2f, y, 1f, 0f, 40f, 10f, 4f, testPlayer);
+        int initialEnemyHealth = testEnemy.get_current_hp();
+
+        EnemyBroadphase broadphase = new EnemyBroadphase();
+        broadphase.rebuild(enemies, testMap.get_width() * tile, testMap.get_height() * tile);
+        projectile.update(0.1f, testMap, enemies, broadphase);
+
+        assertFalse(projectile.isActive(), "Projectile should stop at the enemy it passed");
+        assertTrue(testEnemy.get_current_hp() < initialEnemyHealth, "Enemy should take damage");
+        assertTrue(projectile.getX() < (startX + 3) * tile, "Projectile should stop at the point of impact");
+    }
+
+    /**
+     * Tests that the broadphase returns every enemy that could touch a segment.
+     */
+    @Test
+    @DisplayName("Broadphase Keeps Nearby Enemies")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testBroadphaseKeepsNearbyEnemies() {
+        int tile = GameConstants.TILE_SIZE;
+        testEnemy.setPixelX(10 * tile);
+        testEnemy.setPixelY(10 * tile);
+        testBoss.setPixelX(40 * tile);
+        testBoss.setPixelY(25 * tile);
+        EnemyBroadphase broadphase = new EnemyBroadphase();
+        broadphase.rebuild(enemies, 50 * tile, 30 * tile);
+        assertEquals(2, broadphase.size(), "Both enemies should be bucketed");
+
+        List<Enemy> near = broadphase.query(8 * tile, 10.5f * tile, 10 * tile, 10.5f * tile, tile);
+        assertTrue(near.contains(testEnemy), "Enemy at the segment end should be a candidate");
+        assertFalse(near.contains(testBoss), "Far enemies should be culled");
+        assertEquals(2, broadphase.query(0, 0, 50 * tile, 30 * tile, 0).size(), "Whole-map query should return everyone once");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package model.gameLogic;
+
+import enums.CharacterClass;
+import model.characters.Enemy;
+import model.map.Map;
+import model.map.RegionGraph;
+import utilities.GameClock;
+import utilities.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for room/corridor region sleep and wake.
+ */
+@DisplayName("Region Sleep Manager Tests")
+class RegionSleepManagerTest {
+
+    private Map map;
+    private RegionGraph graph;
+    private GameClock clock;
+    private int nearRegion;
+    private int farRegion;
+
+    @BeforeEach
+    void setUp() {
+        clock = GameClock.virtual();
+        // Find a floor with two regions more than the wake distance apart
+        boolean found = false;
+        for (int attempt = 0; attempt < 20 && !found; attempt++) {
+            map = new Map(1, Map.FloorType.REGULAR);
+            graph = map.get_region_graph();
+            int[] hops = new int[graph.get_region_count()];
+            for (int r = 0; r < graph.get_region_count() && !found; r++) {
+                graph.hop_distances(r, hops);
+                for (int other = 0; other < hops.length && !found; other++) {
+                    if (hops[other] > enums.GameConstants.REGION_WAKE_DISTANCE && graph.get_tile_count(other) > 4
+                            && graph.get_tile_count(r) > 1) {
+                        nearRegion = r;
+                        farRegion = other;
+                        found = true;
+                    }
+                }
+            }
+        }
+        assertTrue(found, "Generated floors should have distant regions");
+    }
+
+    private static final int TILE = enums.GameConstants.TILE_SIZE;
+
+    private int[] tile_of(int region, int index) {
+        int key = graph.get_tile(region, index);
+        return new int[]{key % graph.get_width(), key / graph.get_width()};
+    }
+
+    private Enemy enemy_in(int region, int index) {
+        int[] tile = tile_of(region, index);
+        Enemy enemy = new Enemy("TestEnemy", CharacterClass.WARRIOR, new Position(tile[0], tile[1]), "aggressive");
+        enemy.setMap(map);
+        enemy.set_clock(clock);
+        enemy.move_to(tile[0] * TILE, tile[1] * TILE);
+        return enemy;
+    }
+
+    /**
+     * Tests that hop distances follow region neighbours.
+     */
+    @Test
+    @DisplayName("Hop Distances Follow Neighbours")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testHopDistancesFollowNeighbours() {
+        int[] hops = new int[graph.get_region_count()];
+        graph.hop_distances(nearRegion, hops);
+        assertEquals(0, hops[nearRegion], "A region should be zero hops from itself");
+        for (int neighbour : graph.get_neighbours(nearRegion)) {
+            assertEquals(1, hops[neighbour], "Neighbours should be one hop away");
+        }
+        for (int r = 0; r < hops.length; r++) {
+            assertTrue(hops[r] >= 0, "Every region of a generated floor should be reachable");
+        }
+    }
+
+    /**
+     * Tests that only enemies near the player's region are awake.
+     */
+    @Test
+    @DisplayName("Distant Regions Sleep")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDistantRegionsSleep() {
+        RegionSleepManager manager = new RegionSleepManager(42L);
+        Enemy near = enemy_in(nearRegion, 0);
+        Enemy far = enemy_in(farRegion, 0);
+        manager.add(near, graph);
+        manager.add(far, graph);
+
+        int[] playerTile = tile_of(nearRegion, 1);
+        manager.update(playerTile[0], playerTile[1], clock.now());
+
+        assertTrue(manager.get_awake_enemies().contains(near), "Enemy in the player's region should be awake");
+        assertFalse(manager.get_awake_enemies().contains(far), "Enemy beyond the wake distance should sleep");
+        assertEquals(1, manager.get_sleeping_count(), "One enemy should be asleep");
+        assertFalse(manager.is_awake(tile_of(farRegion, 0)[0], tile_of(farRegion, 0)[1]), "Far region should be asleep");
+    }
+
+    /**
+     * Tests that waking a region expires timers and keeps roamers in their region.
+     */
+    @Test
+    @DisplayName("Wake Catches Up")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testWakeCatchesUp() {
+        RegionSleepManager manager = new RegionSleepManager(42L);
+        Enemy far = enemy_in(farRegion, 0);
+        far.triggerHitState(500);
+        manager.add(far, graph);
+        int[] nearTile = tile_of(nearRegion, 0);
+        manager.update(nearTile[0], nearTile[1], clock.now());
+
+        clock.advance(60_000);
+        int[] farTile = tile_of(farRegion, graph.get_tile_count(farRegion) - 1);
+        manager.update(farTile[0], farTile[1], clock.now());
+
+        assertTrue(manager.get_awake_enemies().contains(far), "Enemy should wake when the player arrives");
+        assertEquals(1, manager.get_catch_ups(), "Waking should catch the enemy up once");
+        assertFalse(far.isInHitState(), "Hit state should have expired while asleep");
+        assertFalse(far.isImmune(), "Immunity should have expired while asleep");
+        assertEquals(farRegion, graph.get_region(far.get_position().get_x(), far.get_position().get_y()),
+            "Catch-up roaming should stay inside the region");
+    }
+
+    /**
+     * Tests that catch-up roaming is reproducible from the seed.
+     */
+    @Test
+    @DisplayName("Catch Up Is Seeded")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testCatchUpIsSeeded() {
+        Enemy far = enemy_in(farRegion, 0);
+        int[] start = tile_of(farRegion, 0);
+        int[] nearTile = tile_of(nearRegion, 0);
+        int[] farTile = tile_of(farRegion, graph.get_tile_count(farRegion) - 1);
+        Position[] after = new Position[2];
+        for (int run = 0; run < 2; run++) {
+            // Same seed, same enemy, first floor and first wake in both runs
+            RegionSleepManager manager = new RegionSleepManager(7L);
+            far.move_to(start[0] * TILE, start[1] * TILE);
+            manager.add(far, graph);
+            manager.update(nearTile[0], nearTile[1], clock.now());
+            clock.advance(60_000);
+            manager.update(farTile[0], farTile[1], clock.now());
+            after[run] = far.get_position();
+        }
+        assertEquals(farRegion, graph.get_region(after[0].get_x(), after[0].get_y()), "Seeded roam should stay in its region");
+        assertEquals(after[0].get_x(), after[1].get_x(), "Same seed should give the same roam X");
+        assertEquals(after[0].get_y(), after[1].get_y(), "Same seed should give the same roam Y");
+    }
+
+    /**
+     * Tests that an enemy walking into a sleeping region falls asleep.
+     */
+    @Test
+    @DisplayName("Walking Into Sleeping Region Sleeps")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testWalkingIntoSleepingRegionSleeps() {
+        RegionSleepManager manager = new RegionSleepManager(42L);
+        Enemy wanderer = enemy_in(nearRegion, 0);
+        manager.add(wanderer, graph);
+        int[] nearTile = tile_of(nearRegion, 0);
+        manager.update(nearTile[0], nearTile[1], clock.now());
+        assertTrue(manager.get_awake_enemies().contains(wanderer), "Enemy should start awake");
+
+        int[] farTile = tile_of(farRegion, 0);
+        wanderer.move_to(farTile[0] * TILE, farTile[1] * TILE);
+        manager.update(nearTile[0], nearTile[1], clock.now());
+
+        assertFalse(manager.get_awake_enemies().contains(wanderer), "Enemy should sleep with the region it entered");
+        assertEquals(farRegion, wanderer.get_sim_region(), "Enemy should be re-bucketed into the new region");
+    }
+}
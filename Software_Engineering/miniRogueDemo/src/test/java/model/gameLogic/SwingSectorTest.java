@@ -0,0 +1,105 @@
+package model.gameLogic;
+
+import enums.GameConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the trig-free swing fan matches the angle-based hit test.
+ */
+@DisplayName("Swing Sector Tests")
+class SwingSectorTest {
+
+    // Hit test the detectors used before sectors, kept here as the reference
+    private static boolean legacy_hit(float dx, float dy, double swingAngle, double halfFanWidth, float range) {
+        double dist = Math.hypot(dx, dy) / GameConstants.TILE_SIZE;
+        if (dist > range + 0.25) return false;
+        double angle = Math.atan2(dy, dx);
+        double delta = Math.abs(Math.atan2(Math.sin(angle - swingAngle), Math.cos(angle - swingAngle)));
+        return delta <= halfFanWidth;
+    }
+
+    /**
+     * Property: for random targets, fans and ranges, the sector agrees with the
+     * reference except for targets within a hair of the fan edge or range limit.
+     */
+    @Test
+    @DisplayName("Sector Matches Angle Test")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSectorMatchesAngleTest() {
+        Random random = new Random(41);
+        int hits = 0;
+        for (int i = 0; i < 200_000; i++) {
+            float dx = (random.nextFloat() * 2 - 1) * 200f;
+            float dy = (random.nextFloat() * 2 - 1) * 200f;
+            if (dx == 0 && dy == 0) continue;
+            double swingAngle = (random.nextDouble() * 4 - 2) * Math.PI;
+            double halfFanWidth = random.nextDouble() * Math.PI;
+            float range = 0.5f + random.nextFloat() * 4f;
+
+            boolean expected = legacy_hit(dx, dy, swingAngle, halfFanWidth, range);
+            float reach = (range + 0.25f) * GameConstants.TILE_SIZE;
+            boolean actual = SwingSector.of(swingAngle, halfFanWidth, range).contains(dx, dy, reach * reach);
+            if (expected) hits++;
+            if (expected != actual) {
+                double angle = Math.atan2(dy, dx);
+                double delta = Math.abs(Math.atan2(Math.sin(angle - swingAngle), Math.cos(angle - swingAngle)));
+                double dist = Math.hypot(dx, dy);
+                boolean onEdge = Math.abs(delta - halfFanWidth) < 1e-3 || Math.abs(dist - reach) < 1e-2;
+                assertTrue(onEdge, "Sector and angle test should only differ at the boundary: dx=" + dx + " dy=" + dy
+                    + " angle=" + swingAngle + " half=" + halfFanWidth + " range=" + range);
+            }
+        }
+        assertTrue(hits > 10_000, "The sample should include plenty of hits");
+    }
+
+    /**
+     * Tests that the table-rotated direction follows the interpolated swing angle.
+     */
+    @Test
+    @DisplayName("Rotated Direction Follows Swing Angle")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRotatedDirectionFollowsSwingAngle() {
+        SwingSector sector = new SwingSector();
+        for (int width : new int[] {60, 90, 120, 180, 198}) {
+            double center = 0.7;
+            double start = center - Math.toRadians(width / 2.0);
+            double end = center + Math.toRadians(width / 2.0);
+            AttackVisualData swing = new AttackVisualData(1, 0, 2.0f, center, start, end, 30.0, 1000L, 200L);
+            for (long t = 1000; t <= 1250; t++) {
+                swing.fill_swing_sector(t, sector);
+                double angle = swing.getCurrentSwingAngle(t);
+                assertEquals(Math.cos(angle), sector.get_dir_x(), 1e-5, "Direction X should follow the swing at " + t);
+                assertEquals(Math.sin(angle), sector.get_dir_y(), 1e-5, "Direction Y should follow the swing at " + t);
+                assertEquals(angle, sector.get_angle(), 1e-12, "Angle should be carried along");
+            }
+            assertEquals(Math.cos(Math.toRadians(15)), sector.get_cos_half(), 1e-6, "Fan cosine should be precomputed");
+        }
+        assertTrue(SwingArcTable.cached_tables() >= 5, "Each width in use should get a table");
+    }
+
+    /**
+     * Tests that detectors written against the angle form still get called.
+     */
+    @Test
+    @DisplayName("Angle Detectors Still Work")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testAngleDetectorsStillWork() {
+        double[] seen = new double[3];
+        AttackUtils.SwingHitDetector detector = (angle, halfFanWidth, range) -> {
+            seen[0] = angle;
+            seen[1] = halfFanWidth;
+            seen[2] = range;
+        };
+        detector.check_sector(SwingSector.of(1.25, 0.2, 3f));
+        assertEquals(1.25, seen[0], 1e-9, "Default should pass the fan angle");
+        assertEquals(0.2, seen[1], 1e-9, "Default should pass the half width");
+        assertEquals(3.0, seen[2], 1e-9, "Default should pass the range");
+    }
+}
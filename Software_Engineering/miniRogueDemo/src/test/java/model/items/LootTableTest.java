@@ -0,0 +1,180 @@
+package model.items;
+
+import enums.CharacterClass;
+import model.characters.Boss;
+import model.characters.Enemy;
+import model.equipment.Equipment;
+import model.map.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+import utilities.ConfigSnapshot;
+import utilities.Position;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the loot-table engine: alias sampling, class limits, nested and
+ * guaranteed drops, seeded streams and validation of loot_tables.json.
+ */
+@DisplayName("LootTable Tests")
+class LootTableTest {
+
+    private final LootTables tables = ConfigSnapshot.load(null, 1).get_loot_tables();
+
+    /**
+     * Tests that alias sampling picks each outcome in proportion to its weight.
+     */
+    @Test
+    @DisplayName("Alias Sampling Matches Weights")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testAliasSamplingMatchesWeights() {
+        double[] weights = {1, 2, 3, 4, 0, 10};
+        AliasTable alias = new AliasTable(weights);
+        int[] counts = new int[weights.length];
+        Random random = new Random(44);
+        int samples = 200_000;
+        for (int i = 0; i < samples; i++) {
+            counts[alias.sample(random)]++;
+        }
+        assertEquals(0, counts[4], "Zero weight should never be picked");
+        for (int i = 0; i < weights.length; i++) {
+            double expected = weights[i] / 20.0;
+            assertEquals(expected, counts[i] / (double) samples, 0.01, "Outcome " + i + " should follow its weight");
+        }
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {0, 0}),
+                     "All-zero weights should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1, -1}),
+                     "Negative weights should be rejected");
+    }
+
+    /**
+     * Tests that class-limited entries only reach their classes, as mana
+     * potions did for mages in the old floor item roll.
+     */
+    @Test
+    @DisplayName("Class Limits Apply")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testClassLimitsApply() {
+        LootTable floor = tables.for_floor(Map.FloorType.REGULAR);
+        assertEquals(0.10, floor.chance_of("mana_potions", CharacterClass.MAGE), 1e-9, "Mages keep the 10% mana slot");
+        assertEquals(0.0, floor.chance_of("mana_potions", CharacterClass.WARRIOR), 1e-9, "Warriors never roll mana");
+        assertEquals(0.15, floor.chance_of("Experience Scroll", CharacterClass.WARRIOR), 1e-9,
+                     "Other classes get the mana slot as experience scrolls");
+        assertEquals(0.05, floor.chance_of("Experience Scroll", CharacterClass.MAGE), 1e-9, "Mages only get the base scroll chance");
+
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            for (Item item : floor.roll(CharacterClass.RANGER, null, random)) {
+                assertFalse(item.get_name().contains("Mana"), "Rangers should never find mana potions");
+            }
+        }
+    }
+
+    /**
+     * Tests that floor rolls give exactly one item and reach nested tables.
+     */
+    @Test
+    @DisplayName("Nested Tables Roll Through")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testNestedTablesRollThrough() {
+        LootTable floor = tables.for_floor(Map.FloorType.REGULAR);
+        Random random = new Random(45);
+        java.util.Map<String, Integer> counts = new HashMap<>();
+        int rolls = 20_000;
+        for (int i = 0; i < rolls; i++) {
+            List<Item> items = floor.roll(CharacterClass.MAGE, null, random);
+            assertEquals(1, items.size(), "Each floor spot should get one item");
+            counts.merge(items.get(0).get_name(), 1, Integer::sum);
+        }
+        double health = counts.getOrDefault("Minor Health Potion", 0) + counts.getOrDefault("Health Potion", 0)
+            + counts.getOrDefault("Greater Health Potion", 0);
+        assertEquals(0.25, health / rolls, 0.015, "Health potions should keep their 25% share");
+        assertEquals(0.125, counts.getOrDefault("Minor Health Potion", 0) / (double) rolls, 0.015,
+                     "Half of the health potions should be minor");
+        assertTrue(counts.containsKey("Greater Mana Potion"), "Mana table should be reached for mages");
+    }
+
+    /**
+     * Tests that bosses always drop the Floor Key and enemies drop their own gear.
+     */
+    @Test
+    @DisplayName("Enemy And Boss Drops")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testEnemyAndBossDrops() {
+        Boss boss = new Boss("TestBoss", CharacterClass.WARRIOR, new Position(1, 1));
+        Enemy enemy = new Enemy("TestEnemy", CharacterClass.ROGUE, new Position(2, 2), "aggressive");
+        Random random = new Random(46);
+        int equipmentDrops = 0;
+        for (int i = 0; i < 500; i++) {
+            List<Item> bossLoot = boss.drop_loot(CharacterClass.MAGE, random);
+            assertTrue(!bossLoot.isEmpty() && bossLoot.get(0) instanceof KeyItem
+                       && "Floor Key".equals(bossLoot.get(0).get_name()), "Boss should always drop the Floor Key first");
+
+            for (Item item : enemy.drop_loot(CharacterClass.MAGE, random)) {
+                assertTrue(item instanceof Equipment, "Enemies should only drop equipment");
+                assertTrue(item.get_name().equals(enemy.get_equipped_weapon().get_name())
+                           || item.get_name().equals(enemy.get_equipped_armor().get_name()),
+                           "Drops should copy the enemy's own gear");
+                assertNotSame(enemy.get_equipped_weapon(), item, "Drops should be copies");
+                equipmentDrops++;
+            }
+        }
+        assertEquals(250, equipmentDrops, 40, "About half of enemies should drop gear");
+    }
+
+    /**
+     * Tests that a seed and floor always give the same loot.
+     */
+    @Test
+    @DisplayName("Seeded Streams Repeat")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSeededStreamsRepeat() {
+        LootTable floor = tables.for_floor(Map.FloorType.REGULAR);
+        Random a = LootTables.stream(99, 3, LootTables.FLOOR_STREAM);
+        Random b = LootTables.stream(99, 3, LootTables.FLOOR_STREAM);
+        Random otherFloor = LootTables.stream(99, 4, LootTables.FLOOR_STREAM);
+        int differences = 0;
+        for (int i = 0; i < 200; i++) {
+            String first = floor.roll(CharacterClass.WARRIOR, null, a).get(0).get_name();
+            assertEquals(first, floor.roll(CharacterClass.WARRIOR, null, b).get(0).get_name(),
+                         "Same seed and floor should give the same item");
+            if (!first.equals(floor.roll(CharacterClass.WARRIOR, null, otherFloor).get(0).get_name())) {
+                differences++;
+            }
+        }
+        assertTrue(differences > 50, "Different floors should roll different loot");
+    }
+
+    /**
+     * Tests that broken loot files are rejected with useful messages.
+     */
+    @Test
+    @DisplayName("Invalid Loot File Rejected")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testInvalidLootFileRejected() throws Exception {
+        Path dir = Files.createTempDirectory("loot-invalid");
+        String json = "{\"tables\": {"
+            + "\"a\": {\"entries\": [{\"weight\": 1, \"table\": \"b\"}]},"
+            + "\"b\": {\"entries\": [{\"weight\": 1, \"table\": \"a\"}, {\"weight\": -2, \"nothing\": true}]},"
+            + "\"c\": {\"entries\": [{\"weight\": 1, \"equipment\": \"shiny\", \"classes\": [\"BARD\"]}]}},"
+            + " \"floors\": {\"REGULAR\": \"missing\"}}";
+        Files.write(dir.resolve(ConfigSnapshot.LOOT_TABLES_FILE), json.getBytes(StandardCharsets.UTF_8));
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> ConfigSnapshot.load(dir, 2), "Invalid loot tables should be rejected");
+        String message = error.getMessage();
+        assertTrue(message.contains("cycle"), "Table cycles should be reported: " + message);
+        assertTrue(message.contains("weight"), "Negative weights should be reported: " + message);
+        assertTrue(message.contains("BARD"), "Unknown classes should be reported: " + message);
+        assertTrue(message.contains("missing"), "Unknown tables should be reported: " + message);
+    }
+}
@@ -0,0 +1,142 @@
+package model.map;
+
+import utilities.Position;
+import utilities.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the shadowcasting field of view.
+ */
+@DisplayName("Field Of View Tests")
+class FieldOfViewTest {
+
+    private Map map;
+    private FieldOfView fov;
+
+    @BeforeEach
+    void setUp() {
+        map = new Map(1, Map.FloorType.REGULAR);
+        fov = map.get_field_of_view();
+    }
+
+    private boolean visible(long[] rows, int originY, int radius, int x, int y) {
+        int row = y - originY + radius;
+        if (row < 0 || row > 2 * radius || x < 0 || x >= map.get_width()) {
+            return false;
+        }
+        int wordsPerRow = map.get_fog_of_war().get_words_per_row();
+        return (rows[row * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    private boolean is_floor(int x, int y) {
+        Tile tile = map.get_tile(x, y);
+        return tile != null && tile.is_walkable();
+    }
+
+    /**
+     * Tests that an open room sees the full diamond, same as the old reveal.
+     */
+    @Test
+    @DisplayName("Open Room Sees Full Diamond")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testOpenRoomSeesFullDiamond() {
+        Position start = map.get_player_start_position();
+        long[] rows = fov.compute(start.get_x(), start.get_y(), 2);
+        for (int dx = -2; dx <= 2; dx++) {
+            for (int dy = -2; dy <= 2; dy++) {
+                boolean inDiamond = Math.abs(dx) + Math.abs(dy) <= 2;
+                assertEquals(inDiamond, visible(rows, start.get_y(), 2, start.get_x() + dx, start.get_y() + dy),
+                            "Spawn room offset (" + dx + "," + dy + ") should match the diamond");
+            }
+        }
+    }
+
+    /**
+     * Tests that a wall hides the tile straight behind it.
+     */
+    @Test
+    @DisplayName("Walls Block Sight")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testWallsBlockSight() {
+        int checked = 0;
+        for (int x = 1; x < map.get_width() - 2; x++) {
+            for (int y = 1; y < map.get_height() - 1; y++) {
+                if (is_floor(x, y) && !is_floor(x + 1, y)) {
+                    long[] rows = fov.compute(x, y, 4);
+                    assertTrue(visible(rows, y, 4, x + 1, y), "Blocking wall itself should be visible");
+                    assertFalse(visible(rows, y, 4, x + 2, y), "Tile behind a wall should be hidden");
+                    checked++;
+                }
+            }
+        }
+        assertTrue(checked > 0, "Generated map should contain floor tiles next to walls");
+    }
+
+    /**
+     * Tests that visibility between floor tiles is symmetric.
+     */
+    @Test
+    @DisplayName("Visibility Is Symmetric")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testVisibilityIsSymmetric() {
+        Random random = new Random(42);
+        int pairs = 0;
+        while (pairs < 300) {
+            int ax = random.nextInt(map.get_width());
+            int ay = random.nextInt(map.get_height());
+            int bx = ax + random.nextInt(9) - 4;
+            int by = ay + random.nextInt(9) - 4;
+            if (!is_floor(ax, ay) || !is_floor(bx, by) || Math.abs(ax - bx) + Math.abs(ay - by) > 4) {
+                continue;
+            }
+            boolean aSeesB = visible(fov.compute(ax, ay, 4), ay, 4, bx, by);
+            boolean bSeesA = visible(fov.compute(bx, by, 4), by, 4, ax, ay);
+            assertEquals(aSeesB, bSeesA, "Visibility between (" + ax + "," + ay + ") and (" + bx + "," + by + ") should be symmetric");
+            pairs++;
+        }
+    }
+
+    /**
+     * Tests memoisation of common radii and invalidation.
+     */
+    @Test
+    @DisplayName("Common Radii Are Memoised")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testCommonRadiiAreMemoised() {
+        Position start = map.get_player_start_position();
+        long computed = fov.get_compute_count();
+        long[] first = fov.compute(start.get_x(), start.get_y(), 4);
+        long[] second = fov.compute(start.get_x(), start.get_y(), 4);
+        assertSame(first, second, "Second lookup should return the memoised result");
+        assertEquals(computed + 1, fov.get_compute_count(), "Only one scan should run");
+        assertEquals(1, fov.get_memo_hits(), "Second lookup should be a memo hit");
+
+        fov.compute(start.get_x(), start.get_y(), 3);
+        fov.compute(start.get_x(), start.get_y(), 3);
+        assertEquals(computed + 3, fov.get_compute_count(), "Uncommon radii should not be memoised");
+
+        fov.invalidate();
+        assertNotSame(first, fov.compute(start.get_x(), start.get_y(), 4), "Invalidate should clear memoised results");
+    }
+
+    /**
+     * Tests that revealing through the map updates the fog of war.
+     */
+    @Test
+    @DisplayName("Reveal Visible Updates Fog")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRevealVisibleUpdatesFog() {
+        Position start = map.get_player_start_position();
+        assertEquals(13, map.reveal_visible(start.get_x(), start.get_y(), 2), "Open room should reveal 13 tiles");
+        assertEquals(0, map.reveal_visible(start.get_x(), start.get_y(), 2), "Revisiting should reveal nothing new");
+        assertTrue(map.is_explored(start.get_x() + 2, start.get_y()), "Edge of sight should be explored");
+    }
+}
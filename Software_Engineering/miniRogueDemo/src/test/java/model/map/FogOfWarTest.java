@@ -0,0 +1,127 @@
+package model.map;
+
+import utilities.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the bitset fog of war and its change feed.
+ */
+@DisplayName("Fog Of War Tests")
+class FogOfWarTest {
+
+    private FogOfWar fog;
+
+    @BeforeEach
+    void setUp() {
+        fog = new FogOfWar(50, 30);
+    }
+
+    /**
+     * Tests that the diamond reveal matches the old Manhattan-distance loop.
+     */
+    @Test
+    @DisplayName("Diamond Reveal Matches Manhattan Loop")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDiamondRevealMatchesManhattanLoop() {
+        for (int radius : new int[] {2, 4}) {
+            FogOfWar local = new FogOfWar(50, 30);
+            int cx = 1;
+            int cy = 20;
+            local.reveal_diamond(cx, cy, radius);
+            for (int x = 0; x < 50; x++) {
+                for (int y = 0; y < 30; y++) {
+                    boolean expected = Math.abs(x - cx) + Math.abs(y - cy) <= radius;
+                    assertEquals(expected, local.is_explored(x, y),
+                                "Tile (" + x + "," + y + ") should match diamond of radius " + radius);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the change feed reports each tile exactly once.
+     */
+    @Test
+    @DisplayName("Change Feed Reports Only New Tiles")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testChangeFeedReportsOnlyNewTiles() {
+        int[] reported = new int[1];
+        fog.add_listener((y, wordIndex, newBits) -> reported[0] += Long.bitCount(newBits));
+
+        assertEquals(13, fog.reveal_diamond(10, 10, 2), "Radius 2 diamond should reveal 13 tiles");
+        assertEquals(13, reported[0], "Listener should see 13 tiles");
+
+        assertEquals(0, fog.reveal_diamond(10, 10, 2), "Repeat reveal should find nothing new");
+        assertEquals(13, reported[0], "Listener should not be notified again");
+
+        int fresh = fog.reveal_diamond(11, 10, 2);
+        assertEquals(5, fresh, "Stepping one tile should reveal the leading edge only");
+        assertEquals(18, reported[0], "Listener should see the leading edge");
+        assertEquals(18, fog.get_explored_count(), "Explored count should track total reveals");
+    }
+
+    /**
+     * Tests spans crossing a 64-bit word boundary and map edges.
+     */
+    @Test
+    @DisplayName("Reveal Across Word Boundaries")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRevealAcrossWordBoundaries() {
+        FogOfWar wide = new FogOfWar(130, 4);
+        assertEquals(3, wide.get_words_per_row(), "130 columns should need three words per row");
+
+        wide.reveal_rect(60, 1, 70, 1);
+        for (int x = 55; x < 75; x++) {
+            assertEquals(x >= 60 && x <= 70, wide.is_explored(x, 1), "Column " + x + " should match span");
+        }
+
+        assertEquals(3, wide.reveal_diamond(129, 0, 1), "Corner reveal should be clipped to the map");
+        assertFalse(wide.is_explored(130, 0), "Out of bounds should never be explored");
+    }
+
+    /**
+     * Tests the accumulator holds revealed words until drained.
+     */
+    @Test
+    @DisplayName("Accumulator Drains Pending Reveals")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testAccumulatorDrainsPendingReveals() {
+        FogOfWar.RevealAccumulator accumulator = new FogOfWar.RevealAccumulator(fog);
+        fog.add_listener(accumulator);
+        fog.reveal(3, 4);
+        fog.reveal(5, 4);
+
+        long[] drained = new long[1];
+        assertTrue(accumulator.drain((y, wordIndex, newBits) -> {
+            assertEquals(4, y, "Drained row should be 4");
+            drained[0] |= newBits;
+        }), "Drain should report pending work");
+        assertEquals((1L << 3) | (1L << 5), drained[0], "Both reveals should be merged into one word");
+        assertFalse(accumulator.drain((y, wordIndex, newBits) -> fail("Nothing should remain")),
+                   "Second drain should be empty");
+    }
+
+    /**
+     * Tests map reveals keep Tile explored flags in step with the bitset.
+     */
+    @Test
+    @DisplayName("Map Reveal Mirrors Tile Flags")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testMapRevealMirrorsTileFlags() {
+        Map map = new Map(1, Map.FloorType.REGULAR);
+        Position start = map.get_player_start_position();
+        map.reveal_around(start.get_x(), start.get_y(), 4);
+
+        assertTrue(map.is_explored(start.get_x(), start.get_y()), "Start tile should be explored");
+        assertTrue(map.get_tile(start).is_explored(), "Start tile flag should be mirrored");
+        assertTrue(map.get_tile(start.get_x() + 4, start.get_y()).is_explored(), "Radius edge should be mirrored");
+        assertFalse(map.is_explored(start.get_x() + 5, start.get_y()), "Outside radius should stay hidden");
+    }
+}
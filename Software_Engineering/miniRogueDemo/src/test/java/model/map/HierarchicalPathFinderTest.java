@@ -0,0 +1,138 @@
+package model.map;
+
+import utilities.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the room-graph hierarchical pathfinder.
+ */
+@DisplayName("Hierarchical Path Finder Tests")
+class HierarchicalPathFinderTest {
+
+    private Map map;
+    private HierarchicalPathFinder finder;
+    private GridBfsPathFinder bfs;
+    private List<int[]> floors;
+
+    @BeforeEach
+    void setUp() {
+        map = new Map(1, Map.FloorType.REGULAR);
+        finder = (HierarchicalPathFinder) map.get_path_finder();
+        bfs = new GridBfsPathFinder(map);
+        floors = new ArrayList<>();
+        for (int x = 0; x < map.get_width(); x++) {
+            for (int y = 0; y < map.get_height(); y++) {
+                Tile tile = map.get_tile(x, y);
+                if (tile != null && tile.is_walkable()) {
+                    floors.add(new int[]{x, y});
+                }
+            }
+        }
+    }
+
+    /**
+     * Follow the finder leg by leg, re-planning at the end of each partial path.
+     *
+     * @return Total steps taken, or -1 if the finder gave up
+     */
+    private int walk(int sx, int sy, int gx, int gy) {
+        int x = sx;
+        int y = sy;
+        int steps = 0;
+        while (x != gx || y != gy) {
+            List<int[]> leg = finder.find_path(x, y, gx, gy);
+            if (leg == null || leg.isEmpty()) {
+                return -1;
+            }
+            for (int[] step : leg) {
+                assertEquals(1, Math.abs(step[0] - x) + Math.abs(step[1] - y), "Each step should move to a neighbouring tile");
+                assertTrue(map.get_tile(step[0], step[1]).is_walkable(), "Each step should be walkable");
+                x = step[0];
+                y = step[1];
+                steps++;
+            }
+            assertTrue(steps <= floors.size(), "Walk should not loop forever");
+        }
+        return steps;
+    }
+
+    /**
+     * Tests that region labels cover every walkable tile and rooms get their own region.
+     */
+    @Test
+    @DisplayName("Regions Cover Walkable Tiles")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRegionsCoverWalkableTiles() {
+        for (int[] f : floors) {
+            assertTrue(finder.get_region(f[0], f[1]) >= 0, "Walkable tile should belong to a region");
+        }
+        assertEquals(-1, finder.get_region(0, 0), "Border wall should have no region");
+        assertTrue(finder.get_region_count() >= map.get_rooms().size(), "Every room should be a region");
+        assertTrue(finder.get_portal_count() > 0, "Connected rooms should produce portals");
+    }
+
+    /**
+     * Tests that re-planned chases reach the goal whenever a tile path exists.
+     */
+    @Test
+    @DisplayName("Chases Reach Reachable Goals")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testChasesReachReachableGoals() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            int[] a = floors.get(random.nextInt(floors.size()));
+            int[] b = floors.get(random.nextInt(floors.size()));
+            List<int[]> optimal = bfs.find_path(a[0], a[1], b[0], b[1]);
+            int walked = walk(a[0], a[1], b[0], b[1]);
+            if (optimal == null) {
+                assertEquals(-1, walked, "Unreachable goal should not produce a path");
+            } else {
+                assertTrue(walked >= optimal.size(), "Walk cannot beat the optimal path");
+                assertTrue(walked <= optimal.size() * 2 + 20,
+                          "Hierarchical walk of " + walked + " should stay close to optimal " + optimal.size());
+            }
+        }
+    }
+
+    /**
+     * Tests the plain BFS keeps the original chase semantics.
+     */
+    @Test
+    @DisplayName("Grid BFS Semantics")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testGridBfsSemantics() {
+        int[] f = floors.get(0);
+        List<int[]> none = bfs.find_path(f[0], f[1], f[0], f[1]);
+        assertNotNull(none, "Path to own tile should not be null");
+        assertTrue(none.isEmpty(), "Path to own tile should be empty");
+        assertNull(bfs.find_path(f[0], f[1], 0, 0), "Path into a wall should be null");
+        assertNull(bfs.find_path(-1, 0, f[0], f[1]), "Out of bounds start should be null");
+    }
+
+    /**
+     * Tests that portal paths are cached after long chases.
+     */
+    @Test
+    @DisplayName("Portal Paths Are Cached")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPortalPathsAreCached() {
+        Random random = new Random(11);
+        for (int i = 0; i < 100; i++) {
+            int[] a = floors.get(random.nextInt(floors.size()));
+            int[] b = floors.get(random.nextInt(floors.size()));
+            finder.find_path(a[0], a[1], b[0], b[1]);
+        }
+        int cached = finder.get_cached_portal_paths();
+        assertTrue(cached > 0, "Multi-region chases should cache portal paths");
+    }
+}
@@ -0,0 +1,82 @@
+package model.map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the primitive-array indexed min-heap.
+ */
+@DisplayName("Indexed Min Heap Tests")
+class IndexedMinHeapTest {
+
+    private IndexedMinHeap heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new IndexedMinHeap(100);
+    }
+
+    /**
+     * Tests that nodes pop in key order.
+     */
+    @Test
+    @DisplayName("Pops In Key Order")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPopsInKeyOrder() {
+        Random random = new Random(7);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int node = 0; node < 100; node++) {
+            int key = random.nextInt(1000);
+            heap.push_or_decrease(node, key);
+            expected.add(key);
+        }
+        assertEquals(100, heap.size(), "Heap should hold every node");
+        while (!heap.is_empty()) {
+            int node = heap.pop();
+            assertEquals(expected.poll().intValue(), heap.key_of(node), "Keys should come out in ascending order");
+            assertFalse(heap.contains(node), "Popped node should no longer be queued");
+        }
+    }
+
+    /**
+     * Tests decrease-key moves a node forward and higher keys are ignored.
+     */
+    @Test
+    @DisplayName("Decrease Key Reorders")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDecreaseKeyReorders() {
+        heap.push_or_decrease(1, 10);
+        heap.push_or_decrease(2, 20);
+        heap.push_or_decrease(3, 30);
+        heap.push_or_decrease(3, 5);
+        heap.push_or_decrease(1, 50);
+        assertEquals(3, heap.size(), "Updates should not add duplicates");
+        assertEquals(3, heap.pop(), "Decreased node should pop first");
+        assertEquals(1, heap.pop(), "Higher key should not replace a lower one");
+        assertEquals(2, heap.pop(), "Remaining node should pop last");
+    }
+
+    /**
+     * Tests the heap can be cleared and reused.
+     */
+    @Test
+    @DisplayName("Clear Allows Reuse")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testClearAllowsReuse() {
+        heap.push_or_decrease(4, 1);
+        heap.push_or_decrease(9, 2);
+        heap.clear();
+        assertTrue(heap.is_empty(), "Cleared heap should be empty");
+        assertFalse(heap.contains(4), "Cleared nodes should not be queued");
+        heap.push_or_decrease(9, 7);
+        assertEquals(9, heap.pop(), "Reused heap should accept old nodes again");
+    }
+}
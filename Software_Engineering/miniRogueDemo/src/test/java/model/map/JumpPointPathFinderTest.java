@@ -0,0 +1,178 @@
+package model.map;
+
+import utilities.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the jump point search pathfinder.
+ */
+@DisplayName("Jump Point Path Finder Tests")
+class JumpPointPathFinderTest {
+
+    private Map map;
+    private JumpPointPathFinder finder;
+    private List<int[]> floors;
+
+    @BeforeEach
+    void setUp() {
+        map = new Map(1, Map.FloorType.REGULAR);
+        finder = new JumpPointPathFinder(map);
+        floors = new ArrayList<>();
+        for (int x = 0; x < map.get_width(); x++) {
+            for (int y = 0; y < map.get_height(); y++) {
+                if (is_floor(x, y)) {
+                    floors.add(new int[]{x, y});
+                }
+            }
+        }
+    }
+
+    private boolean is_floor(int x, int y) {
+        Tile tile = map.get_tile(x, y);
+        return tile != null && tile.is_walkable();
+    }
+
+    /**
+     * Plain Dijkstra over 8 directions without corner cutting, costs 10 and 14
+     */
+    private int reference_cost(int sx, int sy, int gx, int gy) {
+        int width = map.get_width();
+        int[] dist = new int[width * map.get_height()];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> Integer.compare(a[1], b[1]));
+        dist[sy * width + sx] = 0;
+        queue.add(new int[]{sy * width + sx, 0});
+        while (!queue.isEmpty()) {
+            int[] top = queue.poll();
+            if (top[1] > dist[top[0]]) continue;
+            int x = top[0] % width;
+            int y = top[0] / width;
+            if (x == gx && y == gy) return top[1];
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if ((dx == 0 && dy == 0) || !is_floor(x + dx, y + dy)) continue;
+                    if (dx != 0 && dy != 0 && (!is_floor(x + dx, y) || !is_floor(x, y + dy))) continue;
+                    int next = (y + dy) * width + x + dx;
+                    int cost = top[1] + (dx != 0 && dy != 0 ? 14 : 10);
+                    if (cost < dist[next]) {
+                        dist[next] = cost;
+                        queue.add(new int[]{next, cost});
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check each step of a path and return its octile cost
+     */
+    private int path_cost(int sx, int sy, List<int[]> path) {
+        int x = sx;
+        int y = sy;
+        int cost = 0;
+        for (int[] step : path) {
+            int dx = step[0] - x;
+            int dy = step[1] - y;
+            assertTrue(Math.abs(dx) <= 1 && Math.abs(dy) <= 1 && (dx != 0 || dy != 0), "Each step should move to an adjacent tile");
+            assertTrue(is_floor(step[0], step[1]), "Each step should be walkable");
+            if (dx != 0 && dy != 0) {
+                assertTrue(is_floor(x + dx, y) && is_floor(x, y + dy), "Diagonal steps should not cut wall corners");
+            }
+            cost += dx != 0 && dy != 0 ? 14 : 10;
+            x = step[0];
+            y = step[1];
+        }
+        return cost;
+    }
+
+    /**
+     * Tests paths are valid and as short as a full Dijkstra search.
+     */
+    @Test
+    @DisplayName("Paths Are Valid And Optimal")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPathsAreValidAndOptimal() {
+        Random random = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            int[] a = floors.get(random.nextInt(floors.size()));
+            int[] b = floors.get(random.nextInt(floors.size()));
+            List<int[]> path = finder.find_path(a[0], a[1], b[0], b[1]);
+            int expected = reference_cost(a[0], a[1], b[0], b[1]);
+            if (expected < 0) {
+                assertNull(path, "Unreachable goal should return null");
+                continue;
+            }
+            assertNotNull(path, "Reachable goal should have a path");
+            if (!path.isEmpty()) {
+                int[] last = path.get(path.size() - 1);
+                assertArrayEquals(b, last, "Path should end at the goal");
+            }
+            assertEquals(expected, path_cost(a[0], a[1], path), "Path cost should match Dijkstra");
+        }
+    }
+
+    /**
+     * Tests trivial and blocked queries.
+     */
+    @Test
+    @DisplayName("Handles Trivial And Blocked Goals")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testHandlesTrivialAndBlockedGoals() {
+        int[] f = floors.get(0);
+        assertTrue(finder.find_path(f[0], f[1], f[0], f[1]).isEmpty(), "Start equal to goal should give an empty path");
+        assertNull(finder.find_path(f[0], f[1], 0, 0), "Wall goal should be unreachable");
+        assertNull(finder.find_path(f[0], f[1], -1, 5), "Out of bounds goal should be unreachable");
+    }
+
+    /**
+     * Tests jump points expand far fewer nodes than breadth-first search.
+     */
+    @Test
+    @DisplayName("Expands Fewer Nodes Than BFS")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testExpandsFewerNodesThanBfs() {
+        GridBfsPathFinder bfs = new GridBfsPathFinder(map);
+        Random random = new Random(3);
+        for (int i = 0; i < 100; i++) {
+            int[] a = floors.get(random.nextInt(floors.size()));
+            int[] b = floors.get(random.nextInt(floors.size()));
+            finder.find_path(a[0], a[1], b[0], b[1]);
+            bfs.find_path(a[0], a[1], b[0], b[1]);
+        }
+        assertEquals(100, finder.get_search_count(), "Every query should be counted");
+        assertTrue(finder.get_expanded_nodes() < bfs.get_expanded_nodes(),
+                  "Jump point search should expand fewer nodes (" + finder.get_expanded_nodes() + " vs " + bfs.get_expanded_nodes() + ")");
+        finder.reset_counters();
+        assertEquals(0, finder.get_expanded_nodes(), "Reset should clear expansions");
+        assertEquals(0, finder.get_search_count(), "Reset should clear searches");
+    }
+
+    /**
+     * Tests the map builds the selected strategy.
+     */
+    @Test
+    @DisplayName("Map Builds Selected Strategy")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testMapBuildsSelectedStrategy() {
+        assertEquals(PathFinder.Strategy.HIERARCHICAL, map.get_path_strategy(), "Maps should default to the region graph");
+        assertTrue(map.get_path_finder() instanceof HierarchicalPathFinder, "Default finder should be hierarchical");
+        map.set_path_strategy(PathFinder.Strategy.JUMP_POINT);
+        assertTrue(map.get_path_finder() instanceof JumpPointPathFinder, "Jump point strategy should be built on request");
+        assertSame(map.get_path_finder(), map.get_path_finder(), "Finder should be reused between calls");
+        map.set_path_strategy(PathFinder.Strategy.BFS);
+        assertTrue(map.get_path_finder() instanceof GridBfsPathFinder, "BFS strategy should be built on request");
+    }
+}
@@ -0,0 +1,145 @@
+package model.map;
+
+import enums.CharacterClass;
+import model.characters.Enemy;
+import utilities.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for tile reservations and the enemy steering built on them.
+ */
+@DisplayName("Occupancy Grid Tests")
+class OccupancyGridTest {
+
+    /**
+     * Tests reserve, release and ownership rules.
+     */
+    @Test
+    @DisplayName("Reserve and Release")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testReserveAndRelease() {
+        OccupancyGrid grid = new OccupancyGrid(10, 8);
+        assertTrue(grid.try_reserve(1, 3, 4), "Free tile should be claimable");
+        assertTrue(grid.try_reserve(1, 3, 4), "Holder should be able to claim again");
+        assertFalse(grid.try_reserve(2, 3, 4), "Held tile should not be claimable by another token");
+        assertFalse(grid.is_free_for(2, 3, 4), "Held tile should not look free to another token");
+        assertTrue(grid.is_free_for(1, 3, 4), "Held tile should look free to its holder");
+
+        grid.release(2, 3, 4);
+        assertEquals(1, grid.get_owner(3, 4), "Only the holder should be able to release a tile");
+        grid.release(1, 3, 4);
+        assertEquals(0, grid.get_owner(3, 4), "Released tile should be free");
+        assertFalse(grid.try_reserve(1, 10, 0), "Out of bounds tiles should not be claimable");
+        assertThrows(IllegalArgumentException.class, () -> grid.try_reserve(0, 1, 1), "Zero token should be rejected");
+    }
+
+    /**
+     * Tests that concurrent claims never give one tile to two tokens.
+     */
+    @Test
+    @DisplayName("Concurrent Claims Are Exclusive")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testConcurrentClaimsAreExclusive() throws InterruptedException {
+        OccupancyGrid grid = new OccupancyGrid(8, 8);
+        int threads = 16;
+        AtomicInteger wins = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int token = t + 1;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // Every token races for every tile
+                for (int key = 0; key < 64; key++) {
+                    if (grid.try_reserve(token, key % 8, key / 8)) {
+                        wins.incrementAndGet();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(64, wins.get(), "Each tile should be won exactly once");
+        assertEquals(64, grid.count_reserved(), "Every tile should end up held");
+    }
+
+    /**
+     * Tests that enemies spawned on one tile spread out onto tiles of their own.
+     */
+    @Test
+    @DisplayName("Stacked Enemies Separate")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testStackedEnemiesSeparate() {
+        Map map = new Map(1, Map.FloorType.REGULAR);
+        Map.Room room = map.get_rooms().get(0);
+        Position spawn = new Position(room.x + room.width / 2, room.y + room.height / 2);
+        List<Enemy> crowd = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Enemy enemy = new Enemy("Crowd" + i, CharacterClass.WARRIOR, spawn, "aggressive");
+            enemy.setMap(map);
+            crowd.add(enemy);
+        }
+        assertEquals(1, map.get_occupancy().count_reserved(), "Only the first enemy should hold the spawn tile");
+
+        for (int frame = 0; frame < 120; frame++) {
+            for (Enemy enemy : crowd) {
+                enemy.update_movement();
+            }
+        }
+
+        Set<Integer> owners = new HashSet<>();
+        OccupancyGrid grid = map.get_occupancy();
+        for (int y = 0; y < map.get_height(); y++) {
+            for (int x = 0; x < map.get_width(); x++) {
+                if (grid.get_owner(x, y) != 0) {
+                    assertTrue(owners.add(grid.get_owner(x, y)), "An enemy should hold at most one tile");
+                }
+            }
+        }
+        for (Enemy enemy : crowd) {
+            assertTrue(enemy.holds_target_tile(), "Every enemy should hold the tile it is heading for");
+            assertTrue(owners.contains(enemy.get_occupancy_token()), "Every enemy should own a tile");
+        }
+    }
+
+    /**
+     * Tests that dying and changing floors give tiles back.
+     */
+    @Test
+    @DisplayName("Tiles Released On Death And Floor Change")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testTilesReleasedOnDeathAndFloorChange() {
+        Map map = new Map(1, Map.FloorType.REGULAR);
+        Map.Room room = map.get_rooms().get(0);
+        Enemy enemy = new Enemy("Holder", CharacterClass.WARRIOR, new Position(room.x + 1, room.y + 1), "aggressive");
+        enemy.setMap(map);
+        assertEquals(enemy.get_occupancy_token(), map.get_occupancy().get_owner(room.x + 1, room.y + 1), "Placed enemy should hold its tile");
+
+        Map next = new Map(2, Map.FloorType.REGULAR);
+        enemy.setMap(next);
+        assertEquals(0, map.get_occupancy().count_reserved(), "Leaving a floor should free the old tile");
+
+        enemy.startDying();
+        assertEquals(0, next.get_occupancy().count_reserved(), "A dying enemy should not block its tile");
+    }
+}
@@ -0,0 +1,156 @@
+package model.map;
+
+import model.items.Consumable;
+import utilities.Position;
+import utilities.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the packed-coordinate PositionIndex and the map item index built on it.
+ */
+@DisplayName("Position Index Tests")
+class PositionIndexTest {
+
+    private PositionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PositionIndex(10, 8);
+    }
+
+    /**
+     * Tests add, contains and duplicate rejection.
+     */
+    @Test
+    @DisplayName("Add and Contains")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testAddAndContains() {
+        assertTrue(index.add(new Position(3, 4)), "First add should succeed");
+        assertFalse(index.add(new Position(3, 4)), "Duplicate add should be rejected");
+        assertFalse(index.add(new Position(10, 0)), "Out of bounds add should be rejected");
+        assertFalse(index.add(null), "Null add should be rejected");
+
+        assertTrue(index.contains(3, 4), "Index should contain added coordinate");
+        assertTrue(index.contains(new Position(3, 4)), "Index should contain added position");
+        assertFalse(index.contains(4, 3), "Index should not contain transposed coordinate");
+        assertFalse(index.contains(-1, 0), "Out of bounds lookup should be false");
+        assertEquals(1, index.size(), "Index should hold one position");
+    }
+
+    /**
+     * Tests swap-removal keeps every remaining position reachable.
+     */
+    @Test
+    @DisplayName("Remove Keeps Remaining Positions")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRemoveKeepsRemainingPositions() {
+        for (int i = 0; i < 5; i++) {
+            index.add(new Position(i, i));
+        }
+
+        assertTrue(index.remove(1, 1), "Removing an indexed position should succeed");
+        assertFalse(index.remove(1, 1), "Removing twice should fail");
+        assertEquals(4, index.size(), "Four positions should remain");
+
+        // The moved entry must still be removable through its own key
+        assertTrue(index.remove(4, 4), "Moved position should still be removable");
+        for (int i : new int[] {0, 2, 3}) {
+            assertTrue(index.contains(i, i), "Remaining position should still be indexed");
+        }
+
+        index.clear();
+        assertEquals(0, index.size(), "Clear should empty the index");
+        assertFalse(index.contains(0, 0), "Cleared index should not contain positions");
+    }
+
+    /**
+     * Tests that the view is live and read-only.
+     */
+    @Test
+    @DisplayName("Read-Only Live View")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testReadOnlyLiveView() {
+        List<Position> view = index.view();
+        assertSame(view, index.view(), "View should be reused, not copied");
+
+        index.add(new Position(2, 2));
+        assertEquals(1, view.size(), "View should reflect additions");
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Position(0, 0)),
+                    "View should reject modification");
+    }
+
+    /**
+     * Tests that the map tracks dropped items and forgets emptied tiles.
+     */
+    @Test
+    @DisplayName("Map Item Index Tracks Placement and Removal")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testMapItemIndexTracking() {
+        Map map = new Map(1, Map.FloorType.REGULAR);
+        Position start = map.get_player_start_position();
+        Consumable potion = new Consumable("TestPotion", 50, "health");
+        Consumable ether = new Consumable("TestEther", 30, "mana");
+
+        map.place_item(potion, start);
+        map.place_item(ether, start);
+        assertTrue(map.has_item_location(start.get_x(), start.get_y()), "Dropped item tile should be indexed");
+        assertTrue(map.get_item_locations().contains(start), "Item locations should include dropped item tile");
+
+        assertTrue(map.remove_item(potion, start), "Removing a placed item should succeed");
+        assertTrue(map.has_item_location(start.get_x(), start.get_y()), "Tile with items left should stay indexed");
+
+        assertTrue(map.remove_item(ether, start), "Removing the last item should succeed");
+        assertFalse(map.has_item_location(start.get_x(), start.get_y()), "Empty tile should leave the index");
+        assertFalse(map.remove_item(ether, start), "Removing a missing item should fail");
+    }
+
+    /**
+     * Tests tiles without items share the empty view, and views are snapshots.
+     */
+    @Test
+    @DisplayName("Tile Item View")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testTileItemView() {
+        Tile tile = new Tile(enums.TileType.FLOOR, new Position(1, 1));
+        assertTrue(tile.get_items_view().isEmpty(), "New tile should expose an empty view");
+        assertEquals(0, tile.get_item_count(), "New tile should hold no items");
+
+        Consumable potion = new Consumable("TestPotion", 50, "health");
+        tile.add_item(potion);
+        List<model.items.Item> view = tile.get_items_view();
+        assertEquals(1, view.size(), "View should show the added item");
+        assertThrows(UnsupportedOperationException.class, view::clear, "Tile view should be read-only");
+
+        tile.remove_item(potion);
+        assertEquals(1, view.size(), "A list already handed out should not change under its reader");
+        assertTrue(tile.get_items_view().isEmpty(), "The next view should show the removal");
+    }
+
+    /**
+     * Tests that snapshots keep what was indexed when they were taken.
+     */
+    @Test
+    @DisplayName("Snapshot Is Immutable")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSnapshotIsImmutable() {
+        assertTrue(index.snapshot().isEmpty(), "Empty index should have an empty snapshot");
+        index.add(new Position(1, 1));
+        index.add(new Position(2, 2));
+        List<Position> before = index.snapshot();
+        assertSame(before, index.snapshot(), "Snapshot should only be rebuilt on change");
+
+        index.remove(1, 1);
+        assertEquals(2, before.size(), "Earlier snapshot should keep both positions");
+        assertEquals(1, index.snapshot().size(), "New snapshot should show the removal");
+        assertThrows(UnsupportedOperationException.class, () -> before.add(new Position(0, 0)),
+                    "Snapshot should reject modification");
+    }
+}
@@ -0,0 +1,89 @@
+package performance;
+
+import enums.CharacterClass;
+import enums.GameConstants;
+import model.characters.CharacterComponents;
+import model.characters.Enemy;
+import model.characters.Player;
+import model.entity.EntityStore;
+import model.gameLogic.EnemyDecision;
+import model.gameLogic.EnemyDecisionPhase;
+import model.gameLogic.EnemyWorldView;
+import model.map.Map;
+import utilities.Position;
+import utilities.Tile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the enemy decision phase on a stress floor at 1, 2, 4 and 8
+ * worker threads. Prints microseconds per tick and speedup over one thread.
+ * Enemies share one component store as they do on a game floor, and each
+ * tick captures a fresh world view, so the serial capture is measured too.
+ */
+public class EnemyDecisionBenchmark {
+
+    private static final int ENEMIES = 1024;
+    private static final int TICKS = 300;
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void benchmarkDecisionPhaseScaling() {
+        Map map = new Map(1, Map.FloorType.REGULAR);
+        Position start = map.get_player_start_position();
+        Player player = new Player("Bench", CharacterClass.WARRIOR, start);
+        player.syncToTilePosition(start);
+
+        List<Position> floors = new ArrayList<>();
+        for (int x = 0; x < map.get_width(); x++) {
+            for (int y = 0; y < map.get_height(); y++) {
+                Tile tile = map.get_tile(x, y);
+                if (tile != null && tile.is_walkable()) {
+                    floors.add(new Position(x, y));
+                }
+            }
+        }
+        Random random = new Random(8);
+        CharacterComponents components = new CharacterComponents(new EntityStore());
+        List<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < ENEMIES; i++) {
+            Position pos = floors.get(random.nextInt(floors.size()));
+            Enemy enemy = new Enemy("Bench" + i, CharacterClass.RANGER, pos, "aggressive");
+            enemy.setMap(map);
+            enemy.setPlayer(player);
+            enemy.setPixelX(pos.get_x() * GameConstants.TILE_SIZE);
+            enemy.setPixelY(pos.get_y() * GameConstants.TILE_SIZE);
+            enemy.attach_components(components);
+            enemies.add(enemy);
+        }
+
+        long baseline = 0;
+        for (int threads : new int[] {1, 2, 4, 8}) {
+            EnemyDecisionPhase phase = new EnemyDecisionPhase(threads);
+            try {
+                EnemyDecision[] decisions = null;
+                for (int i = 0; i < TICKS; i++) {
+                    EnemyWorldView view = EnemyWorldView.capture(player, map, System.currentTimeMillis(), enemies);
+                    decisions = phase.decide_all(enemies, view);
+                }
+                long startNanos = System.nanoTime();
+                for (int i = 0; i < TICKS; i++) {
+                    EnemyWorldView view = EnemyWorldView.capture(player, map, System.currentTimeMillis(), enemies);
+                    decisions = phase.decide_all(enemies, view);
+                }
+                long perTick = (System.nanoTime() - startNanos) / TICKS;
+                if (threads == 1) baseline = perTick;
+                System.out.printf("Enemy decisions, %d enemies, %d thread(s): %d us/tick, speedup %.2fx%n",
+                    ENEMIES, threads, perTick / 1000, baseline / (double) Math.max(1, perTick));
+                assert decisions.length == ENEMIES : "Every enemy should get a decision";
+            } finally {
+                phase.shutdown();
+            }
+        }
+    }
+}
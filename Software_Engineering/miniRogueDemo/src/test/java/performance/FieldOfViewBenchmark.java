@@ -0,0 +1,101 @@
+package performance;
+
+import model.map.FieldOfView;
+import model.map.Map;
+import utilities.Position;
+import utilities.Tile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the shadowcasting field of view against the original
+ * per-tile diamond reveal loop from Player.update_movement.
+ * Prints average nanoseconds per reveal for a walk over every floor tile.
+ */
+public class FieldOfViewBenchmark {
+
+    private static final int PASSES = 20;
+
+    /**
+     * The reveal loop Player.update_movement used before the fog bitset and FOV engine
+     */
+    private static void legacy_reveal(Map map, int tileX, int tileY, int fovRange) {
+        for (int ix = -fovRange; ix <= fovRange; ix++) {
+            for (int iy = -fovRange; iy <= fovRange; iy++) {
+                int nx = tileX + ix;
+                int ny = tileY + iy;
+                if (Math.abs(ix) + Math.abs(iy) <= fovRange) {
+                    if (nx >= 0 && ny >= 0 && nx < map.get_width() && ny < map.get_height()) {
+                        Tile t = map.get_tile(nx, ny);
+                        if (t != null) t.set_explored();
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Position> floor_tiles(Map map) {
+        List<Position> floors = new ArrayList<>();
+        for (int x = 0; x < map.get_width(); x++) {
+            for (int y = 0; y < map.get_height(); y++) {
+                Tile tile = map.get_tile(x, y);
+                if (tile != null && tile.is_walkable()) {
+                    floors.add(new Position(x, y));
+                }
+            }
+        }
+        return floors;
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void benchmarkRevealAgainstLegacyLoop() {
+        Map map = new Map(1, Map.FloorType.REGULAR);
+        List<Position> floors = floor_tiles(map);
+        FieldOfView fov = map.get_field_of_view();
+
+        for (int radius : new int[] {2, 4}) {
+            // Warm up both paths
+            for (Position p : floors) {
+                legacy_reveal(map, p.get_x(), p.get_y(), radius);
+                fov.reveal(map.get_fog_of_war(), p.get_x(), p.get_y(), radius);
+            }
+
+            long start = System.nanoTime();
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (Position p : floors) {
+                    legacy_reveal(map, p.get_x(), p.get_y(), radius);
+                }
+            }
+            long legacyNanos = System.nanoTime() - start;
+
+            Map fresh = new Map(1, Map.FloorType.REGULAR);
+            List<Position> freshFloors = floor_tiles(fresh);
+            FieldOfView coldFov = fresh.get_field_of_view();
+            start = System.nanoTime();
+            for (Position p : freshFloors) {
+                coldFov.reveal(fresh.get_fog_of_war(), p.get_x(), p.get_y(), radius);
+            }
+            long coldNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (Position p : freshFloors) {
+                    coldFov.reveal(fresh.get_fog_of_war(), p.get_x(), p.get_y(), radius);
+                }
+            }
+            long memoNanos = System.nanoTime() - start;
+
+            long legacyOps = (long) PASSES * floors.size();
+            long memoOps = (long) PASSES * freshFloors.size();
+            System.out.printf("FOV radius %d: legacy loop %d ns/op, shadowcast first visit %d ns/op, memoised revisit %d ns/op%n",
+                radius, legacyNanos / legacyOps, coldNanos / Math.max(1, freshFloors.size()), memoNanos / memoOps);
+
+            assert coldFov.get_memo_hits() >= memoOps : "Revisits should be served from the memo";
+        }
+    }
+}
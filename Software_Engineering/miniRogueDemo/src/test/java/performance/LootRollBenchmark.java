@@ -0,0 +1,147 @@
+package performance;
+
+import enums.CharacterClass;
+import model.equipment.EquipmentCatalog;
+import model.items.AliasTable;
+import model.items.Consumable;
+import model.items.Item;
+import model.items.KeyItem;
+import model.items.LootTable;
+import model.items.LootTables;
+import model.map.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import utilities.ConfigSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of loot rolls. Floor items: the old chain of percentage
+ * branches versus the compiled floor table, both building the same items.
+ * Wide tables: a cumulative-weight scan versus alias sampling, where the
+ * scan grows with the number of entries and the alias draw does not.
+ * Prints rolls per second and speedup.
+ */
+public class LootRollBenchmark {
+
+    private static final int ROLLS = 500_000;
+    private static final int WIDE_ENTRIES = 256;
+
+    private static Item chained_roll(EquipmentCatalog catalog, CharacterClass characterClass, Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 15) {
+            return EquipmentCatalog.copy_of(catalog.random_weapon_for_class(characterClass, random));
+        } else if (roll < 30) {
+            return EquipmentCatalog.copy_of(catalog.random_armor(random));
+        } else if (roll < 55) {
+            int healthRoll = random.nextInt(100);
+            if (healthRoll < 50) return new Consumable("Minor Health Potion", 25, "health");
+            if (healthRoll < 80) return new Consumable("Health Potion", 50, "health");
+            return new Consumable("Greater Health Potion", 100, "health");
+        } else if (roll < 65) {
+            if (characterClass == CharacterClass.MAGE) {
+                return random.nextInt(100) < 70 ? new Consumable("Mana Potion", 30, "mana")
+                                                : new Consumable("Greater Mana Potion", 60, "mana");
+            }
+            return new Consumable("Experience Scroll", 100, "experience");
+        } else if (roll < 70) {
+            return new Consumable("Experience Scroll", 100, "experience");
+        } else if (roll < 75) {
+            return new Consumable("Lamp", 10, "clarity");
+        } else if (roll < 77) {
+            return new Consumable("Vanish Cloak", 8, "invisibility");
+        } else if (roll < 80) {
+            return new Consumable("Swift Winds", 5, "swiftness");
+        } else if (roll < 82) {
+            return new Consumable("Immortality Amulet", 5, "immortality");
+        }
+        return new KeyItem("Upgrade Crystal", "any");
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void benchmarkLootRoll() {
+        LootTable table = ConfigSnapshot.load(null, 1).get_loot_tables().for_floor(Map.FloorType.REGULAR);
+        EquipmentCatalog catalog = EquipmentCatalog.current();
+
+        List<Item> out = new ArrayList<>();
+        long chainedNanos = 0;
+        long tableNanos = 0;
+        int chainedItems = 0;
+        int tableItems = 0;
+        for (int pass = 0; pass < 4; pass++) { // Early passes warm up
+            Random random = LootTables.stream(47, 1, LootTables.FLOOR_STREAM);
+            chainedItems = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ROLLS; i++) {
+                if (chained_roll(catalog, CharacterClass.values()[i & 3], random) != null) chainedItems++;
+            }
+            chainedNanos = System.nanoTime() - start;
+
+            random = LootTables.stream(47, 1, LootTables.FLOOR_STREAM);
+            tableItems = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < ROLLS; i++) {
+                out.clear();
+                table.roll_into(CharacterClass.values()[i & 3], null, random, out);
+                tableItems += out.size();
+            }
+            tableNanos = System.nanoTime() - start;
+        }
+
+        System.out.printf("Loot rolls, %d each: chained %.2f M rolls/s, alias table %.2f M rolls/s, speedup %.2fx%n",
+            ROLLS, ROLLS / (chainedNanos / 1e3), ROLLS / (tableNanos / 1e3),
+            chainedNanos / (double) Math.max(1, tableNanos));
+        assert chainedItems == ROLLS && tableItems == ROLLS : "Both rolls should produce items";
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void benchmarkWideTableSampling() {
+        Random setup = new Random(48);
+        double[] weights = new double[WIDE_ENTRIES];
+        double[] cumulative = new double[WIDE_ENTRIES];
+        double total = 0;
+        for (int i = 0; i < WIDE_ENTRIES; i++) {
+            weights[i] = 1 + setup.nextInt(100);
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        AliasTable alias = new AliasTable(weights);
+
+        long scanNanos = 0;
+        long aliasNanos = 0;
+        long scanSum = 0;
+        long aliasSum = 0;
+        for (int pass = 0; pass < 4; pass++) { // Early passes warm up
+            Random random = new Random(49);
+            scanSum = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ROLLS; i++) {
+                double u = random.nextDouble() * total;
+                int pick = 0;
+                while (pick < WIDE_ENTRIES - 1 && u >= cumulative[pick]) pick++;
+                scanSum += pick;
+            }
+            scanNanos = System.nanoTime() - start;
+
+            random = new Random(49);
+            aliasSum = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < ROLLS; i++) {
+                aliasSum += alias.sample(random);
+            }
+            aliasNanos = System.nanoTime() - start;
+        }
+
+        System.out.printf("Wide table, %d entries x %d rolls: scan %.2f M rolls/s, alias %.2f M rolls/s, speedup %.2fx%n",
+            WIDE_ENTRIES, ROLLS, ROLLS / (scanNanos / 1e3), ROLLS / (aliasNanos / 1e3),
+            scanNanos / (double) Math.max(1, aliasNanos));
+        double scanMean = scanSum / (double) ROLLS;
+        double aliasMean = aliasSum / (double) ROLLS;
+        assert Math.abs(scanMean - aliasMean) < WIDE_ENTRIES * 0.02 : "Both samplers should follow the same weights";
+    }
+}
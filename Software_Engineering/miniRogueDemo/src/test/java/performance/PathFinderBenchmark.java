@@ -0,0 +1,66 @@
+package performance;
+
+import model.map.Map;
+import model.map.PathFinder;
+import utilities.Tile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the chase path strategies on one generated floor.
+ * Prints average nanoseconds and expanded nodes per query for the same
+ * random start/goal pairs.
+ */
+public class PathFinderBenchmark {
+
+    private static final int QUERIES = 2000;
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void benchmarkStrategies() {
+        Map map = new Map(1, Map.FloorType.REGULAR);
+        List<int[]> floors = new ArrayList<>();
+        for (int x = 0; x < map.get_width(); x++) {
+            for (int y = 0; y < map.get_height(); y++) {
+                Tile tile = map.get_tile(x, y);
+                if (tile != null && tile.is_walkable()) {
+                    floors.add(new int[]{x, y});
+                }
+            }
+        }
+
+        long bfsExpanded = 0;
+        long jumpExpanded = 0;
+        for (PathFinder.Strategy strategy : PathFinder.Strategy.values()) {
+            map.set_path_strategy(strategy);
+            PathFinder finder = map.get_path_finder();
+            Random random = new Random(5);
+            // Warm up
+            for (int i = 0; i < QUERIES; i++) {
+                int[] a = floors.get(random.nextInt(floors.size()));
+                int[] b = floors.get(random.nextInt(floors.size()));
+                finder.find_path(a[0], a[1], b[0], b[1]);
+            }
+            finder.reset_counters();
+            random = new Random(5);
+            long start = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                int[] a = floors.get(random.nextInt(floors.size()));
+                int[] b = floors.get(random.nextInt(floors.size()));
+                finder.find_path(a[0], a[1], b[0], b[1]);
+            }
+            long nanos = System.nanoTime() - start;
+            System.out.printf("Path strategy %s: %d ns/query, %d expanded nodes/query%n",
+                strategy, nanos / QUERIES, finder.get_expanded_nodes() / finder.get_search_count());
+            if (strategy == PathFinder.Strategy.BFS) bfsExpanded = finder.get_expanded_nodes();
+            if (strategy == PathFinder.Strategy.JUMP_POINT) jumpExpanded = finder.get_expanded_nodes();
+        }
+
+        assert jumpExpanded < bfsExpanded : "Jump point search should expand fewer nodes than BFS";
+    }
+}
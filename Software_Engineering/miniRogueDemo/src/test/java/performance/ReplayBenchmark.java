@@ -0,0 +1,68 @@
+package performance;
+
+import controller.replay.ReplayReader;
+import controller.replay.ReplayRecorder;
+import controller.replay.SyntheticReplay;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replay file costs for a thirty-minute run at the default keyframe
+ * interval: file size and bytes per tick, write and sequential decode
+ * rates, and the average and worst seek.
+ */
+public class ReplayBenchmark {
+
+    private static final int SEEKS = 500;
+
+    @Test
+    @Timeout(value = 120, unit = TimeUnit.SECONDS)
+    void benchmarkReplay() throws IOException {
+        Path directory = Files.createTempDirectory("replay-benchmark");
+        Path file = directory.resolve("run.mrr");
+        int ticks = SyntheticReplay.THIRTY_MINUTES;
+        try {
+            long start = System.nanoTime();
+            long size = SyntheticReplay.write(file, ticks, ReplayRecorder.DEFAULT_KEYFRAME_INTERVAL);
+            double writeSeconds = (System.nanoTime() - start) / 1e9;
+
+            try (ReplayReader reader = new ReplayReader(file)) {
+                start = System.nanoTime();
+                int frames = reader.seek(reader.get_first_tick()) != null ? 1 : 0;
+                while (reader.next() != null) {
+                    frames++;
+                }
+                double readSeconds = (System.nanoTime() - start) / 1e9;
+                assert frames == ticks : "Every frame should decode, got " + frames;
+
+                Random random = new Random(49);
+                long total = 0;
+                long worst = 0;
+                for (int i = 0; i < SEEKS; i++) {
+                    int tick = random.nextInt(ticks);
+                    long seekStart = System.nanoTime();
+                    int shown = reader.seek(tick).get_tick();
+                    long elapsed = System.nanoTime() - seekStart;
+                    total += elapsed;
+                    worst = Math.max(worst, elapsed);
+                    assert shown == tick : "Seek to " + tick + " showed " + shown;
+                }
+
+                System.out.printf("Replay: %d ticks, %.2f MB (%.1f bytes/tick), %d keyframes, "
+                    + "write %.0f frames/s, decode %.0f frames/s, seek avg %.2f ms worst %.2f ms%n",
+                    ticks, size / 1e6, size / (double) ticks, reader.get_keyframe_count(),
+                    ticks / writeSeconds, frames / readSeconds, total / 1e6 / SEEKS, worst / 1e6);
+                assert worst < TimeUnit.MILLISECONDS.toNanos(100) : "Worst seek took " + worst / 1e6 + " ms";
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
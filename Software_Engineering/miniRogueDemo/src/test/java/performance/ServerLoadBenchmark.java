@@ -0,0 +1,137 @@
+package performance;
+
+import controller.server.GameClient;
+import controller.server.GameServer;
+import controller.server.Protocol;
+import enums.CharacterClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load generator for the game server on localhost: many players, each
+ * with spectators, all driven from one client-side selector. Players
+ * change direction now and then. Prints streams, snapshot rate, bytes per
+ * snapshot (full versus delta) and the server's average tick time.
+ */
+public class ServerLoadBenchmark {
+
+    private static final int PLAYERS = 100;
+    private static final int SPECTATORS_PER_PLAYER = 2;
+    private static final long RUN_MILLIS = 3000;
+
+    private static final class LoadClient {
+        final SocketChannel channel;
+        final GameClient client = new GameClient();
+        final Protocol.FrameReader reader = new Protocol.FrameReader();
+
+        LoadClient(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    private static LoadClient connect(Selector selector, int port, ByteBuffer join) throws IOException {
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", port));
+        channel.socket().setTcpNoDelay(true);
+        channel.write(join);
+        channel.configureBlocking(false);
+        LoadClient load = new LoadClient(channel);
+        channel.register(selector, SelectionKey.OP_READ, load);
+        return load;
+    }
+
+    private static void pump(Selector selector, long millis) throws IOException {
+        long end = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < end) {
+            selector.select(Math.max(1, end - System.currentTimeMillis()));
+            for (SelectionKey key : selector.selectedKeys()) {
+                LoadClient load = (LoadClient) key.attachment();
+                if (load.channel.read(load.reader.get_buffer()) < 0) {
+                    key.cancel();
+                    continue;
+                }
+                ByteBuffer frame;
+                while ((frame = load.reader.next_frame()) != null) {
+                    ByteBuffer reply = load.client.handle(frame);
+                    if (reply != null) load.channel.write(reply);
+                }
+            }
+            selector.selectedKeys().clear();
+        }
+    }
+
+    @Test
+    @Timeout(value = 120, unit = TimeUnit.SECONDS)
+    void benchmarkServerLoad() throws IOException {
+        try (GameServer server = new GameServer(0, Runtime.getRuntime().availableProcessors(), GameServer.DEFAULT_TICK_MILLIS);
+             Selector selector = Selector.open()) {
+            server.start();
+            List<LoadClient> players = new ArrayList<>();
+            for (int i = 0; i < PLAYERS; i++) {
+                players.add(connect(selector, server.get_port(),
+                                    GameClient.join_frame(Protocol.PLAY, CharacterClass.values()[i & 3], 0)));
+            }
+            while (players.stream().anyMatch(p -> p.client.get_session_id() < 0)) {
+                pump(selector, 50);
+            }
+            List<LoadClient> everyone = new ArrayList<>(players);
+            for (LoadClient player : players) {
+                for (int s = 0; s < SPECTATORS_PER_PLAYER; s++) {
+                    everyone.add(connect(selector, server.get_port(), GameClient.join_frame(
+                        Protocol.SPECTATE, CharacterClass.WARRIOR, player.client.get_session_id())));
+                }
+            }
+            pump(selector, 500); // Let every stream get its full snapshot and settle into deltas
+
+            long snapshotsBefore = 0;
+            long bytesBefore = 0;
+            long fullBefore = 0;
+            for (LoadClient load : everyone) {
+                snapshotsBefore += load.client.get_snapshots();
+                bytesBefore += load.client.get_payload_bytes();
+                fullBefore += load.client.get_full_snapshots();
+            }
+            Random random = new Random(48);
+            long start = System.nanoTime();
+            for (long elapsed = 0; elapsed < RUN_MILLIS; elapsed += 100) {
+                for (LoadClient player : players) {
+                    if (random.nextInt(4) == 0) {
+                        player.channel.write(GameClient.move_frame(random.nextInt(3) - 1, random.nextInt(3) - 1));
+                    }
+                }
+                pump(selector, 100);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long snapshots = -snapshotsBefore;
+            long bytes = -bytesBefore;
+            long full = -fullBefore;
+            int starved = 0;
+            for (LoadClient load : everyone) {
+                snapshots += load.client.get_snapshots();
+                bytes += load.client.get_payload_bytes();
+                full += load.client.get_full_snapshots();
+                if (load.client.get_snapshots() == 0) starved++;
+            }
+            System.out.printf("Server load: %d streams over %d sessions, %.0f snapshots/s (%.1f per stream/s), "
+                + "%.1f bytes per snapshot, %d full, server tick %.2f ms%n",
+                everyone.size(), server.get_session_count(), snapshots / seconds, snapshots / seconds / everyone.size(),
+                bytes / (double) Math.max(1, snapshots), full, server.get_average_tick_millis());
+            assert starved == 0 : starved + " streams never got a snapshot";
+            assert server.get_connection_count() == everyone.size() : "Every client should stay connected";
+            for (LoadClient load : everyone) {
+                load.channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package performance;
+
+import controller.SessionHost;
+import enums.CharacterClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of hosting headless sessions: retained heap per open session
+ * (measured after GC, with the shared catalog already loaded) and tick
+ * throughput across all sessions on the shared workers.
+ */
+public class SessionMemoryBenchmark {
+
+    private static final int SESSIONS = 200;
+    private static final int TICKS = 50;
+
+    private static long used_heap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Test
+    @Timeout(value = 120, unit = TimeUnit.SECONDS)
+    void benchmarkSessionMemory() {
+        SessionHost host = new SessionHost();
+        host.open(CharacterClass.WARRIOR, 0); // Loads classes and shared data outside the measurement
+        host.step_all(TICKS, 16).join();
+
+        long before = used_heap();
+        for (int i = 1; i <= SESSIONS; i++) {
+            host.open(CharacterClass.values()[i & 3], i);
+        }
+        long after = used_heap();
+        long perSession = (after - before) / SESSIONS;
+
+        long start = System.nanoTime();
+        host.step_all(TICKS, 16).join();
+        long nanos = System.nanoTime() - start;
+        int open = host.get_session_count();
+        host.shutdown();
+
+        System.out.printf("Sessions: %d open, %.1f KB retained per session, %.0f session ticks/s (%d workers)%n",
+            open, perSession / 1024.0, open * (double) TICKS / (nanos / 1e9), Runtime.getRuntime().availableProcessors());
+        assert open == SESSIONS + 1 : "Every session should stay open until shutdown";
+        assert perSession > 0 : "Open sessions should retain memory";
+    }
+}
@@ -0,0 +1,74 @@
+package performance;
+
+import enums.GameConstants;
+import model.gameLogic.AttackVisualData;
+import model.gameLogic.SwingSector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of one swing check against many targets: the old hypot/atan2
+ * fan test versus the sector test. Prints nanoseconds per target and speedup.
+ */
+public class SwingHitBenchmark {
+
+    private static final int TARGETS = 4096;
+    private static final int ROUNDS = 400;
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void benchmarkSwingHitTest() {
+        Random random = new Random(16);
+        float[] dx = new float[TARGETS];
+        float[] dy = new float[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            dx[i] = (random.nextFloat() * 2 - 1) * 160f;
+            dy[i] = (random.nextFloat() * 2 - 1) * 160f;
+        }
+        AttackVisualData swing = new AttackVisualData(1, 0, 2.0f, 0.5,
+            0.5 - Math.toRadians(60), 0.5 + Math.toRadians(60), 30.0, 0L, 200L);
+        double halfFanWidth = Math.toRadians(15);
+        float range = 2.0f;
+
+        int trigHits = 0;
+        int sectorHits = 0;
+        long trigNanos = 0;
+        long sectorNanos = 0;
+        SwingSector sector = new SwingSector();
+        for (int pass = 0; pass < 2; pass++) { // First pass warms up
+            trigHits = 0;
+            sectorHits = 0;
+            long start = System.nanoTime();
+            for (int r = 0; r < ROUNDS; r++) {
+                double swingAngle = swing.getCurrentSwingAngle(r % 200);
+                for (int i = 0; i < TARGETS; i++) {
+                    double dist = Math.hypot(dx[i], dy[i]) / GameConstants.TILE_SIZE;
+                    if (dist > range + 0.25) continue;
+                    double angle = Math.atan2(dy[i], dx[i]);
+                    double delta = Math.abs(Math.atan2(Math.sin(angle - swingAngle), Math.cos(angle - swingAngle)));
+                    if (delta <= halfFanWidth) trigHits++;
+                }
+            }
+            trigNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            float reach = (range + 0.25f) * GameConstants.TILE_SIZE;
+            float reachSq = reach * reach;
+            for (int r = 0; r < ROUNDS; r++) {
+                swing.fill_swing_sector(r % 200, sector);
+                for (int i = 0; i < TARGETS; i++) {
+                    if (sector.contains(dx[i], dy[i], reachSq)) sectorHits++;
+                }
+            }
+            sectorNanos = System.nanoTime() - start;
+        }
+
+        double checks = (double) TARGETS * ROUNDS;
+        System.out.printf("Swing hit test, %d targets x %d checks: trig %.1f ns/target, sector %.1f ns/target, speedup %.2fx%n",
+            TARGETS, ROUNDS, trigNanos / checks, sectorNanos / checks, trigNanos / (double) Math.max(1, sectorNanos));
+        assert Math.abs(trigHits - sectorHits) <= ROUNDS : "Both tests should find the same hits up to edge cases";
+    }
+}
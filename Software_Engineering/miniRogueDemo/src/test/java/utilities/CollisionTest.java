@@ -261,4 +261,59 @@ class CollisionTest {
                                    Integer.MIN_VALUE, Integer.MIN_VALUE);
         }, "Collision detection should handle extreme coordinate values");
     }
-} 
\ No newline at end of file
+
+    /**
+     * Tests that the grid traversal finds the same wall as fine sampling along the ray.
+     */
+    @Test
+    @DisplayName("Ray Cast Matches Sampling")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRayCastMatchesSampling() {
+        java.util.Random random = new java.util.Random(42);
+        int tile = enums.GameConstants.TILE_SIZE;
+        int checked = 0;
+        for (int i = 0; i < 500; i++) {
+            int tx = random.nextInt(testMap.get_width());
+            int ty = random.nextInt(testMap.get_height());
+            if (!Collision.isWalkable(testMap, tx, ty)) continue;
+            float x0 = tx * tile + 1 + random.nextFloat() * (tile - 2);
+            float y0 = ty * tile + 1 + random.nextFloat() * (tile - 2);
+            double angle = random.nextDouble() * Math.PI * 2;
+            float dirX = (float) Math.cos(angle);
+            float dirY = (float) Math.sin(angle);
+            float maxDistance = tile * 8f;
+
+            float cast = Collision.castRay(testMap, x0, y0, dirX, dirY, maxDistance);
+            // Brute force: step a quarter pixel at a time until a solid tile
+            float sampled = maxDistance;
+            for (float d = 0; d <= maxDistance; d += 0.25f) {
+                int sx = (int) Math.floor((x0 + dirX * d) / tile);
+                int sy = (int) Math.floor((y0 + dirY * d) / tile);
+                if (!Collision.isWalkable(testMap, sx, sy)) {
+                    sampled = d;
+                    break;
+                }
+            }
+            // Random rays essentially never pass exactly through a corner, so both agree
+            assertEquals(sampled, cast, 0.5f, "Ray should stop where sampling finds the wall");
+            checked++;
+        }
+        assertTrue(checked > 50, "Enough rays should start on walkable tiles");
+        assertEquals(0f, Collision.castRay(testMap, -10f, -10f, 1f, 0f, 100f), "Rays starting outside the map are blocked");
+    }
+
+    /**
+     * Tests swept circle contact along a step.
+     */
+    @Test
+    @DisplayName("Swept Circle Contact")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSweptCircleContact() {
+        // Target 100px ahead, combined radius 10: contact after 90px
+        assertEquals(90f, Collision.sweptCircleDistance(0, 0, 1, 0, 200, 100, 0, 10), 0.001f, "Contact should be at the first touch");
+        assertEquals(-1f, Collision.sweptCircleDistance(0, 0, 1, 0, 50, 100, 0, 10), "Short steps should not reach the target");
+        assertEquals(-1f, Collision.sweptCircleDistance(0, 0, -1, 0, 200, 100, 0, 10), "Moving away should not hit");
+        assertEquals(-1f, Collision.sweptCircleDistance(0, 0, 1, 0, 200, 100, 20, 10), "Passing wide should not hit");
+        assertEquals(0f, Collision.sweptCircleDistance(0, 0, 1, 0, 5, 5, 0, 10), "Overlapping at the start should hit at once");
+    }
+}
\ No newline at end of file
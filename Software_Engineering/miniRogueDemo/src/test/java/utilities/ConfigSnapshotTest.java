@@ -0,0 +1,225 @@
+package utilities;
+
+import enums.CharacterClass;
+import model.characters.Boss;
+import model.characters.Enemy;
+import model.characters.Player;
+import model.equipment.Weapon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the typed configuration snapshot: validation of the bundled
+ * files, error reporting, derived values and hot reload.
+ */
+@DisplayName("ConfigSnapshot Tests")
+class ConfigSnapshotTest {
+
+    private static void write(Path dir, String file, String json) throws Exception {
+        // Write then move so the watcher never sees a half-written file
+        Path temp = dir.resolve(file + ".tmp");
+        Files.write(temp, json.getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, dir.resolve(file), java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                   java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Tests that the shipped configuration files pass validation and bind.
+     */
+    @Test
+    @DisplayName("Bundled Files Validate")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testBundledFilesValidate() {
+        ConfigSnapshot snapshot = ConfigSnapshot.load(null, 1);
+
+        assertEquals(1, snapshot.get_version(), "Version should be kept");
+        assertEquals(60, snapshot.get_settings().get_fps(), "FPS should come from the file");
+        assertEquals(16, snapshot.get_settings().get_frame_interval_ms(), "Frame interval should be derived");
+        assertEquals(100, snapshot.get_settings().get_experience_threshold(1), "Level 1 needs the base experience");
+        assertEquals(150, snapshot.get_settings().get_experience_threshold(2), "Level 2 applies the multiplier");
+
+        assertFalse(snapshot.get_weapons().isEmpty(), "Weapons should be bound");
+        assertFalse(snapshot.get_armor().isEmpty(), "Armor should be bound");
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            assertNotNull(snapshot.get_starting_weapon_id(characterClass), "Every class should start with a weapon");
+            assertNotNull(snapshot.get_starting_armor_id(characterClass), "Every class should start with armor");
+            for (String id : snapshot.get_enemy_weapon_ids(characterClass)) {
+                assertNotNull(snapshot.get_enemy_weapon(id), "Enemy weapon ids should resolve: " + id);
+            }
+        }
+
+        ConfigSnapshot.WeaponDef axe = snapshot.get_weapon("sharp_axe");
+        assertNotNull(axe, "Sharp axe should be defined");
+        assertEquals(Weapon.WeaponType.IMPACT, axe.get_type(), "Type should be parsed once");
+        assertTrue(axe.get_image_path().startsWith("images/weapons/"), "Image path should be resolved");
+        assertEquals("Sharp Axe", axe.create().get_name(), "Definitions should build items");
+        assertTrue(snapshot.is_enemy_weapon("rusty_sword"), "Enemy-only weapons should be kept apart");
+        assertNull(findWeapon(snapshot, "rusty_sword"), "Enemy-only weapons should not be lootable");
+    }
+
+    private static ConfigSnapshot.WeaponDef findWeapon(ConfigSnapshot snapshot, String id) {
+        for (ConfigSnapshot.WeaponDef def : snapshot.get_weapons()) {
+            if (def.get_id().equals(id)) return def;
+        }
+        return null;
+    }
+
+    /**
+     * Tests that nested sections and dotted paths read the same value.
+     */
+    @Test
+    @DisplayName("Dotted And Nested Access")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testDottedAndNestedAccess() {
+        ConfigTable constants = ConfigSnapshot.load(null, 1).get_game_constants();
+        assertEquals(32, constants.get_int("display.tile_size", 0), "Dotted path should reach a leaf");
+        assertTrue(constants.get("display") instanceof Map, "Top-level key should return its section");
+        Map<String, Object> display = constants.get("display", new java.util.HashMap<String, Object>());
+        assertEquals(32, display.get("tile_size"), "Any Map default should accept a section");
+        assertEquals(1.5, constants.get_double("player.experience_multiplier", 0), 1e-9, "Doubles should read as doubles");
+        assertEquals(60.0, constants.get_double("game.fps", 0), 1e-9, "Integers should convert when asked as doubles");
+        assertEquals("fallback", constants.get_string("game.fps", "fallback"), "Wrong type should give the default");
+        assertThrows(UnsupportedOperationException.class, () -> constants.as_map().put("x", 1),
+                     "Snapshots should be read-only");
+    }
+
+    /**
+     * Tests that every problem across files is reported in one error.
+     */
+    @Test
+    @DisplayName("Validation Reports All Errors")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testValidationReportsAllErrors() throws Exception {
+        Path dir = Files.createTempDirectory("config-invalid");
+        write(dir, ConfigSnapshot.GAME_CONSTANTS_FILE,
+              "{\"game\": {\"fps\": 0}, \"player\": {\"experience_multiplier\": \"fast\"}}");
+        write(dir, ConfigSnapshot.WEAPON_DEFINITIONS_FILE,
+              "{\"weapons\": {\"stick\": {\"name\": \"Stick\", \"attack\": 1, \"defense\": 0, \"class\": \"BARD\","
+              + " \"type\": \"BLADE\", \"tier\": 1, \"image\": \"stick.png\"}},"
+              + " \"starting_weapons\": {\"WARRIOR\": \"missing_sword\"}}");
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> ConfigSnapshot.load(dir, 2), "Invalid files should be rejected");
+        String message = error.getMessage();
+        assertTrue(message.contains("game.fps"), "Out of range value should be reported: " + message);
+        assertTrue(message.contains("player.experience_multiplier"), "Wrong type should be reported: " + message);
+        assertTrue(message.contains("BARD"), "Unknown class should be reported: " + message);
+        assertTrue(message.contains("missing_sword"), "Dangling reference should be reported: " + message);
+    }
+
+    /**
+     * Tests that an override directory only replaces the files it contains
+     * and that missing keys take their defaults.
+     */
+    @Test
+    @DisplayName("Override Directory Falls Back")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testOverrideDirectoryFallsBack() throws Exception {
+        Path dir = Files.createTempDirectory("config-override");
+        write(dir, ConfigSnapshot.GAME_CONSTANTS_FILE, "{\"game\": {\"fps\": 30}}");
+
+        ConfigSnapshot snapshot = ConfigSnapshot.load(dir, 3);
+        assertEquals(30, snapshot.get_settings().get_fps(), "Override should win");
+        assertEquals(33, snapshot.get_settings().get_frame_interval_ms(), "Derived value should follow");
+        assertEquals(20, snapshot.get_settings().get_max_level(), "Missing keys should take defaults");
+        assertNotNull(snapshot.get_weapon("sharp_axe"), "Files not overridden should come from the classpath");
+    }
+
+    /**
+     * Tests that characters take their balance values from the current
+     * configuration, and that the bundled file keeps the stats the game
+     * always played with.
+     */
+    @Test
+    @DisplayName("Balance Values Follow The Live Snapshot")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testBalanceValuesFollowTheLiveSnapshot() throws Exception {
+        ConfigurationManager manager = ConfigurationManager.getInstance();
+        Path bundled = Files.createTempDirectory("config-bundled");
+        Path dir = Files.createTempDirectory("config-balance");
+        write(dir, ConfigSnapshot.GAME_CONSTANTS_FILE,
+              "{\"classes\": {\"warrior\": {\"health\": 200, \"critical_chance\": 0.5}},"
+              + " \"enemy\": {\"health_multiplier\": 2.0, \"aggro_range\": 6},"
+              + " \"boss\": {\"health_multiplier\": 3.0}, \"player\": {\"max_level\": 2}}");
+        try {
+            manager.start_watching(dir);
+            assertEquals(200, new Player("P", CharacterClass.WARRIOR, new Position(0, 0)).get_max_hp(),
+                         "Player health should come from the class settings");
+            Enemy enemy = new Enemy("E", CharacterClass.WARRIOR, new Position(0, 0), "aggressive");
+            assertEquals(400, enemy.get_max_hp(), "Enemy health should apply the configured multiplier");
+            assertEquals(6, enemy.get_aggro_range(), "Aggro range should come from the configuration");
+            assertEquals(1200, new Boss("B", CharacterClass.WARRIOR, new Position(0, 0)).get_max_hp(),
+                         "Boss health should stack the boss multiplier");
+            assertEquals(50, model.characters.Stats.calculate_critical_chance(CharacterClass.WARRIOR),
+                         "Critical chance should come from the class settings");
+
+            manager.start_watching(bundled);
+            assertEquals(120, new Player("P", CharacterClass.WARRIOR, new Position(0, 0)).get_max_hp(),
+                         "Bundled warrior health should be unchanged");
+            assertEquals(144, new Enemy("E", CharacterClass.WARRIOR, new Position(0, 0), "aggressive").get_max_hp(),
+                         "Bundled enemy multiplier should be unchanged");
+            assertEquals(216, new Boss("B", CharacterClass.WARRIOR, new Position(0, 0)).get_max_hp(),
+                         "Bundled boss multiplier should be unchanged");
+            assertEquals(8, model.characters.Stats.calculate_critical_chance(CharacterClass.WARRIOR),
+                         "Bundled critical chance should be unchanged");
+            assertEquals(20, ConfigSnapshot.GameSettings.current().get_max_level(), "Bundled max level should be unchanged");
+        } finally {
+            manager.start_watching(bundled);
+            manager.stop_watching();
+        }
+    }
+
+    /**
+     * Tests hot reload: edits are picked up, and an invalid edit leaves the
+     * last good snapshot in place.
+     */
+    @Test
+    @DisplayName("Hot Reload Keeps Last Good Snapshot")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testHotReloadKeepsLastGoodSnapshot() throws Exception {
+        Path dir = Files.createTempDirectory("config-watch");
+        write(dir, ConfigSnapshot.GAME_CONSTANTS_FILE, "{\"game\": {\"fps\": 30}}");
+        AtomicReference<ConfigSnapshot> current = new AtomicReference<>(ConfigSnapshot.load(dir, 1));
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        try (ConfigWatcher watcher = new ConfigWatcher(dir, 50, () -> {
+            try {
+                current.set(ConfigSnapshot.load(dir, current.get().get_version() + 1));
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+            attempts.incrementAndGet();
+        })) {
+            write(dir, ConfigSnapshot.GAME_CONSTANTS_FILE, "{\"game\": {\"fps\": 120}}");
+            while (current.get().get_settings().get_fps() != 120) {
+                Thread.sleep(10);
+            }
+            assertEquals(8, current.get().get_settings().get_frame_interval_ms(), "Reload should rebuild derived values");
+
+            int before = attempts.get();
+            write(dir, ConfigSnapshot.GAME_CONSTANTS_FILE, "{\"game\": {\"fps\": -5}}");
+            while (attempts.get() == before) {
+                Thread.sleep(10);
+            }
+            assertTrue(rejected.get() > 0, "Invalid edit should be rejected");
+            assertEquals(120, current.get().get_settings().get_fps(), "Last good snapshot should stay in place");
+
+            write(dir, ConfigSnapshot.GAME_CONSTANTS_FILE, "{\"game\": {\"fps\": 45}}");
+            while (current.get().get_settings().get_fps() != 45) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package utilities;
+
+import enums.CharacterClass;
+import model.characters.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the injectable game clock: virtual time, pausing, scaling and
+ * per-tick caching.
+ */
+@DisplayName("Game Clock Tests")
+class GameClockTest {
+
+    /**
+     * Tests that a virtual clock only moves when advanced.
+     */
+    @Test
+    @DisplayName("Virtual Clock Moves Only On Advance")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testVirtualClockMovesOnlyOnAdvance() throws InterruptedException {
+        GameClock clock = GameClock.virtual();
+        assertEquals(GameClock.VIRTUAL_EPOCH, clock.now(), "Virtual clock should start at its epoch");
+        Thread.sleep(20);
+        clock.tick();
+        assertEquals(GameClock.VIRTUAL_EPOCH, clock.now(), "Real time should not move a virtual clock");
+        clock.advance(250);
+        assertEquals(GameClock.VIRTUAL_EPOCH + 250, clock.now(), "Advance should add game time");
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(-1), "Time should not go backwards");
+    }
+
+    /**
+     * Tests that pausing stops game time for virtual and real clocks.
+     */
+    @Test
+    @DisplayName("Pause Freezes Time")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPauseFreezesTime() throws InterruptedException {
+        GameClock virtual = GameClock.virtual();
+        virtual.pause();
+        virtual.advance(1000);
+        assertEquals(GameClock.VIRTUAL_EPOCH, virtual.now(), "Paused virtual clock should not advance");
+        virtual.resume();
+        virtual.advance(1000);
+        assertEquals(GameClock.VIRTUAL_EPOCH + 1000, virtual.now(), "Resumed clock should advance again");
+
+        GameClock real = new GameClock();
+        real.tick();
+        real.pause();
+        long frozen = real.now();
+        Thread.sleep(50);
+        assertEquals(frozen, real.tick(), "Paused real clock should not count time spent paused");
+        real.resume();
+        Thread.sleep(20);
+        long after = real.tick();
+        assertTrue(after > frozen && after - frozen < 50, "Resumed clock should count only time since resume");
+    }
+
+    /**
+     * Tests that a ticked clock returns the same time between ticks.
+     */
+    @Test
+    @DisplayName("Ticked Clock Caches Between Ticks")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testTickedClockCachesBetweenTicks() throws InterruptedException {
+        GameClock clock = new GameClock();
+        long first = clock.tick();
+        Thread.sleep(20);
+        assertEquals(first, clock.now(), "now() should not read the system timer between ticks");
+        assertTrue(clock.tick() >= first + 15, "tick() should pick up elapsed real time");
+    }
+
+    /**
+     * Tests that the shared system clock is read without changing it and
+     * cannot be paused or scaled.
+     */
+    @Test
+    @DisplayName("System Clock Reads Without Ticking")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testSystemClockReadsWithoutTicking() throws InterruptedException {
+        GameClock clock = GameClock.system();
+        long first = clock.now();
+        Thread.sleep(20);
+        long second = clock.now();
+        assertTrue(second - first >= 15, "The system clock should follow real time on every read");
+        assertTrue(clock.tick() >= second, "tick() on the system clock should just read it");
+        assertThrows(IllegalStateException.class, clock::pause, "The shared clock should not pause");
+        assertThrows(IllegalStateException.class, () -> clock.set_scale(2.0), "The shared clock should not scale");
+        assertFalse(clock.is_paused(), "A rejected pause should leave the clock running");
+    }
+
+    /**
+     * Tests that scaling speeds game time up and rejects bad values.
+     */
+    @Test
+    @DisplayName("Scale Speeds Up Time")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testScaleSpeedsUpTime() throws InterruptedException {
+        GameClock clock = new GameClock();
+        clock.set_scale(10.0);
+        long start = clock.tick();
+        Thread.sleep(30);
+        assertTrue(clock.tick() - start >= 250, "Ten times scale should run game time ten times faster");
+        assertThrows(IllegalArgumentException.class, () -> clock.set_scale(0.0), "Zero scale should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> clock.set_scale(Double.NaN), "NaN scale should be rejected");
+    }
+
+    /**
+     * Tests that character timers follow an injected virtual clock exactly.
+     */
+    @Test
+    @DisplayName("Player Effects Follow Injected Clock")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPlayerEffectsFollowInjectedClock() {
+        Player player = new Player("Clocked", CharacterClass.WARRIOR, new Position(1, 1));
+        GameClock clock = GameClock.virtual();
+        player.set_clock(clock);
+        player.activate_clarity_effect(2);
+        clock.advance(1999);
+        assertTrue(player.is_clarity_effect_active(), "Effect should still be active just before it ends");
+        clock.advance(1);
+        assertFalse(player.is_clarity_effect_active(), "Effect should end exactly on game time");
+    }
+}
@@ -0,0 +1,113 @@
+package utilities;
+
+import enums.CharacterClass;
+import model.equipment.Equipment;
+import model.equipment.EquipmentCatalog;
+import model.equipment.Weapon;
+import model.items.Consumable;
+import model.items.KeyItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for sprite id resolution: weapon name rules, item icons, stable ids
+ * and the ids stamped on catalog prototypes.
+ */
+@DisplayName("SpriteIndex Tests")
+class SpriteIndexTest {
+
+    private final SpriteIndex sprites = new SpriteIndex(ConfigSnapshot.load(null, 1).get_weapon_mappings());
+
+    /**
+     * Tests that weapon names go through exact, pattern and generic rules in order.
+     */
+    @Test
+    @DisplayName("Weapon Names Resolve In Order")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testWeaponNamesResolveInOrder() {
+        assertEquals("Impact/broad_axe_1.png", sprites.weapon_path("sharp axe"), "Exact mapping should win");
+        assertEquals("Magic/staff_7.png", sprites.weapon_path("old staff 7"), "Numbered staffs should use the template");
+        assertEquals("Blade/Long_Sword.png", sprites.weapon_path("rusty cleaver"), "Named patterns should apply");
+        assertEquals("Impact/mace_large_1_new.png", sprites.weapon_path("odd mace"), "Generic keywords should apply last");
+        assertNull(sprites.weapon_path("teacup"), "Unknown names should not resolve");
+
+        int id = sprites.weapon_sprite("Sharp Axe");
+        assertEquals(SpriteIndex.WEAPON_IMAGE_DIR + "Impact/broad_axe_1.png", SpriteIndex.path_of(id),
+                     "Sprite should name the full resource path");
+        assertEquals(id, sprites.weapon_sprite("Sharp Axe"), "Names should resolve to the same id every time");
+        assertEquals(SpriteIndex.NONE, sprites.weapon_sprite("Teacup"), "Unknown weapons should have no sprite");
+    }
+
+    /**
+     * Tests that consumable and key item names map to their icons.
+     */
+    @Test
+    @DisplayName("Item Icons Resolve")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testItemIconsResolve() {
+        assertEquals(SpriteIndex.ITEM_IMAGE_DIR + "potion_ruby.png",
+                     SpriteIndex.path_of(sprites.item_sprite("Greater Health Potion")), "Health potions share an icon");
+        assertEquals(SpriteIndex.ITEM_IMAGE_DIR + "mana_blue.png",
+                     SpriteIndex.path_of(sprites.item_sprite("Mana Potion")), "Mana potions share an icon");
+        assertEquals(SpriteIndex.ITEM_IMAGE_DIR + "key.png",
+                     SpriteIndex.path_of(sprites.item_sprite("Floor Key")), "Floor key should use the key icon");
+        assertEquals(SpriteIndex.ITEM_IMAGE_DIR + "upgradeCrystal.png",
+                     SpriteIndex.path_of(sprites.item_sprite("Upgrade Crystal")), "Crystals should use the crystal icon");
+        assertEquals(SpriteIndex.NONE, sprites.item_sprite("Mystery Box"), "Unknown items should have no icon");
+    }
+
+    /**
+     * Tests that ids are shared by path and survive a new index.
+     */
+    @Test
+    @DisplayName("Ids Are Stable")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testIdsAreStable() {
+        int id = SpriteIndex.path_sprite("images/items/lamp.png");
+        assertEquals(id, SpriteIndex.path_sprite("images/items/lamp.png"), "Same path should give the same id");
+        SpriteIndex reloaded = new SpriteIndex(ConfigSnapshot.load(null, 2).get_weapon_mappings());
+        assertEquals(id, reloaded.item_sprite("Lamp"), "A new index should hand out the same ids");
+        assertTrue(SpriteIndex.sprite_count() > id, "Count should cover every id");
+        assertNull(SpriteIndex.path_of(SpriteIndex.NONE), "NONE should have no path");
+        assertEquals(SpriteIndex.NONE, SpriteIndex.path_sprite(null), "Null path should have no sprite");
+    }
+
+    /**
+     * Tests that prototypes carry their sprites and items reuse them.
+     */
+    @Test
+    @DisplayName("Prototypes Carry Sprites")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPrototypesCarrySprites() {
+        EquipmentCatalog catalog = EquipmentCatalog.current();
+        for (EquipmentCatalog.Prototype prototype : catalog.get_weapons()) {
+            assertEquals(prototype.get_image_path(), SpriteIndex.path_of(prototype.get_sprite_id()),
+                         "Icon sprite should be the prototype's image: " + prototype.get_id());
+            Weapon weapon = EquipmentCatalog.weapon_of(prototype);
+            assertEquals(prototype.get_sprite_id(), weapon.get_sprite_id(), "Copies should use the prototype's icon");
+            assertEquals(prototype.get_held_sprite_id(), weapon.get_held_sprite_id(), "Copies should use the prototype's held sprite");
+        }
+        for (EquipmentCatalog.Prototype prototype : catalog.get_armor()) {
+            assertEquals(SpriteIndex.NONE, prototype.get_held_sprite_id(), "Armor is never held");
+        }
+
+        Weapon loose = new Weapon("Sharp Axe", 5, 0, CharacterClass.WARRIOR, 1, Weapon.WeaponType.IMPACT,
+                                  "images/weapons/Impact/broad_axe_1.png", "Impact");
+        assertNull(loose.get_prototype(), "Hand-built weapons have no prototype");
+        assertEquals(catalog.get_sprites().weapon_sprite("Sharp Axe"), loose.get_held_sprite_id(),
+                     "Weapons without a prototype should resolve by name");
+        Equipment asEquipment = loose;
+        assertEquals(SpriteIndex.path_sprite(loose.get_image_path()), asEquipment.get_sprite_id(),
+                     "Equipment icons should come from the image path");
+
+        assertEquals(catalog.get_sprites().item_sprite("Lamp"), new Consumable("Lamp", 10, "clarity").get_sprite_id(),
+                     "Consumables should use their icon sprite");
+        assertEquals(catalog.get_sprites().item_sprite("Floor Key"), new KeyItem("Floor Key", "stairs").get_sprite_id(),
+                     "Key items should use their icon sprite");
+    }
+}